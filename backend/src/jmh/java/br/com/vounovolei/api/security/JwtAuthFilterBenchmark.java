@@ -0,0 +1,85 @@
+package br.com.vounovolei.api.security;
+
+import br.com.vounovolei.api.domain.user.UserRole;
+import br.com.vounovolei.api.repository.UserRepository;
+import br.com.vounovolei.api.repository.UserSecurityState;
+import br.com.vounovolei.api.service.JwtService;
+import br.com.vounovolei.api.service.UserSecurityService;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Custo do filtro JWT por requisição com o mesmo token: parse + HMAC a cada vez contra o acerto no cache
+ * de VerifiedAccessTokens.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthFilterBenchmark {
+
+    private static final String SECRET = "632598623952369865903003566748393365632799312";
+
+    private JwtService jwtService;
+    private JwtAuthFilter filter;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findSecurityStateById(anyLong())).thenAnswer(invocation -> Optional.of(new UserSecurityState(
+                invocation.getArgument(0), "ana@example.com", UserRole.USER, 0L)));
+        UserSecurityService userSecurityService = new UserSecurityService(userRepository, 1000, 60, new SimpleMeterRegistry());
+
+        jwtService = new JwtService(SECRET, 15, 60, 10);
+        filter = new JwtAuthFilter(new VerifiedAccessTokens(jwtService, userSecurityService, 1000, new SimpleMeterRegistry()));
+        token = jwtService.generateAccessToken(7L, "ana@example.com", "USER", 0);
+    }
+
+    // o que o filtro fazia antes: parse completo e Authentication nova em toda requisição
+    @Benchmark
+    public void verifyEveryTime() {
+        Claims claims = jwtService.parseClaims(token);
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                claims.getSubject(),
+                null,
+                List.of(new SimpleGrantedAuthority("ROLE_" + claims.get("role", String.class)))
+        ));
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public void cachedFilter() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/events");
+        request.setServletPath("/events");
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        SecurityContextHolder.clearContext();
+    }
+}
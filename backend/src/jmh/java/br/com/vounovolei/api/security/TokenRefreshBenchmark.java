@@ -0,0 +1,126 @@
+package br.com.vounovolei.api.security;
+
+import br.com.vounovolei.api.controller.auth.dto.RefreshTokenRequest;
+import br.com.vounovolei.api.domain.user.UserRole;
+import br.com.vounovolei.api.repository.RefreshTokenRepository;
+import br.com.vounovolei.api.repository.UserRepository;
+import br.com.vounovolei.api.repository.UserSecurityState;
+import br.com.vounovolei.api.service.AuthService;
+import br.com.vounovolei.api.service.AuthTokens;
+import br.com.vounovolei.api.service.EventVersionService;
+import br.com.vounovolei.api.service.JwtService;
+import br.com.vounovolei.api.service.RateLimitService;
+import br.com.vounovolei.api.service.RefreshTokenService;
+import br.com.vounovolei.api.service.UserSecurityService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Latência (percentis) com 8 threads renovando ao mesmo tempo, cada uma com o próprio usuário: a checagem
+ * de versão pelo cache de UserSecurityService contra ler o usuário a cada vez, e o /auth/refresh inteiro
+ * (parse, versão, rotação e emissão dos dois tokens). A consulta ao usuário simula o banco com
+ * dbLatencyMicros.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+public class TokenRefreshBenchmark {
+
+    private static final String SECRET = "632598623952369865903003566748393365632799312";
+
+    @Param({"0", "500"})
+    private long dbLatencyMicros;
+
+    private JwtService jwtService;
+    private UserRepository userRepository;
+    private UserSecurityService userSecurityService;
+    private RefreshTokenService refreshTokenService;
+    private AuthService authService;
+
+    @Setup
+    public void setUp() {
+        userRepository = mock(UserRepository.class);
+        when(userRepository.findSecurityStateById(anyLong())).thenAnswer(invocation -> {
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(dbLatencyMicros));
+            Long id = invocation.getArgument(0);
+            return Optional.of(new UserSecurityState(id, "user" + id + "@example.com", UserRole.USER, 0L));
+        });
+        userSecurityService = new UserSecurityService(userRepository, 10_000, 60, new SimpleMeterRegistry());
+
+        // só o caminho feliz da rotação: cada token é apresentado uma vez, então basta saber quais estão vigentes
+        Set<String> liveTokens = ConcurrentHashMap.newKeySet();
+        RefreshTokenRepository refreshTokenRepository = mock(RefreshTokenRepository.class);
+        when(refreshTokenRepository.insert(anyString(), anyString(), anyLong(), any(Instant.class)))
+                .thenAnswer(invocation -> liveTokens.add(invocation.getArgument(0)) ? 1 : 0);
+        when(refreshTokenRepository.rotate(anyString(), any(Instant.class)))
+                .thenAnswer(invocation -> liveTokens.remove(invocation.getArgument(0)) ? 1 : 0);
+
+        jwtService = new JwtService(SECRET, 15, 60, 10);
+        refreshTokenService = new RefreshTokenService(refreshTokenRepository, jwtService, 1000);
+        authService = new AuthService(userRepository, mock(PasswordEncoder.class), jwtService, refreshTokenService,
+                userSecurityService, mock(RateLimitService.class), mock(EventVersionService.class));
+    }
+
+    @State(Scope.Thread)
+    public static class Session {
+
+        private static final AtomicLong USER_IDS = new AtomicLong();
+
+        private Long userId;
+        private String refreshToken;
+
+        @Setup
+        public void setUp(TokenRefreshBenchmark benchmark) {
+            userId = USER_IDS.incrementAndGet();
+            refreshToken = benchmark.refreshTokenService.issue(userId, 0);
+        }
+    }
+
+    // o que o filtro e o refresh faziam antes do cache: uma consulta ao usuário por token
+    @Benchmark
+    public Optional<UserSecurityState> loadEveryTime(Session session) {
+        return userRepository.findSecurityStateById(session.userId);
+    }
+
+    @Benchmark
+    public boolean isCurrent(Session session) {
+        return userSecurityService.isCurrent(session.userId, 0L);
+    }
+
+    @Benchmark
+    public AuthTokens refresh(Session session) {
+        AuthTokens tokens = authService.refresh(new RefreshTokenRequest(session.refreshToken));
+        session.refreshToken = tokens.refreshToken();
+        return tokens;
+    }
+}
@@ -0,0 +1,105 @@
+package br.com.vounovolei.api.service;
+
+import br.com.vounovolei.api.config.RateLimitProperties;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Vazão do rate limit em memória com 8 threads: todas numa mesma chave (um cliente inundando) ou cada
+ * thread nas próprias chaves. Com janela de 15 minutos a chave enche nas 3 primeiras tentativas e o resto é
+ * recusa; com janela zero toda tentativa é aceita e grava no anel.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+public class RateLimitBenchmark {
+
+    private static final String SHARED_KEY = "10.0.0.1";
+
+    @Param({"PT15M", "PT0S"})
+    private String window;
+
+    private InMemoryRateLimitStore store;
+    private RateLimitService service;
+
+    @Setup
+    public void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setAccountCreate(new RateLimitProperties.Limit(3, Duration.parse(window)));
+        store = new InMemoryRateLimitStore(properties, Ticker.systemTicker(), Scheduler.disabledScheduler());
+        service = new RateLimitService(store, properties, new SimpleMeterRegistry());
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadKeys {
+
+        private static final AtomicInteger THREADS = new AtomicInteger();
+
+        private final String[] keys = new String[64];
+        private int next;
+
+        @Setup
+        public void setUp() {
+            int thread = THREADS.getAndIncrement();
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = "10." + thread + ".0." + i;
+            }
+        }
+
+        String nextKey() {
+            next = (next + 1) & (keys.length - 1);
+            return keys[next];
+        }
+    }
+
+    @Benchmark
+    public boolean storeSharedKey() {
+        return store.tryAcquire(RateLimitScope.ACCOUNT_CREATE, SHARED_KEY);
+    }
+
+    @Benchmark
+    public boolean storeDistinctKeys(ThreadKeys keys) {
+        return store.tryAcquire(RateLimitScope.ACCOUNT_CREATE, keys.nextKey());
+    }
+
+    @Benchmark
+    public boolean checkSharedKey() {
+        return check(SHARED_KEY);
+    }
+
+    @Benchmark
+    public boolean checkDistinctKeys(ThreadKeys keys) {
+        return check(keys.nextKey());
+    }
+
+    // check() sinaliza a recusa com exceção, como no controller
+    private boolean check(String key) {
+        try {
+            service.checkCreateAccountLimit(key);
+            return true;
+        } catch (RateLimitExceededException ex) {
+            return false;
+        }
+    }
+}
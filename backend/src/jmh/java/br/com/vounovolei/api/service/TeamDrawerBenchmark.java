@@ -0,0 +1,50 @@
+package br.com.vounovolei.api.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latência do sorteio por tamanho de elenco (4 times, 1 bola a cada 6 jogadores).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TeamDrawerBenchmark {
+
+    @Param({"12", "100", "1000", "10000"})
+    private int rosterSize;
+
+    private List<TeamDrawer.Player> roster;
+    private long seed;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(3);
+        roster = new ArrayList<>(rosterSize);
+        for (int i = 0; i < rosterSize; i++) {
+            roster.add(new TeamDrawer.Player((long) i + 1, i < rosterSize / 6, 1 + random.nextInt(5)));
+        }
+    }
+
+    @Benchmark
+    public List<List<TeamDrawer.Player>> draw() {
+        return TeamDrawer.draw(roster, 4, seed++);
+    }
+}
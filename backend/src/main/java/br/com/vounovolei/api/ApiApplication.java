@@ -4,9 +4,17 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import br.com.vounovolei.api.config.PasswordHashingProperties;
+import br.com.vounovolei.api.config.RateLimitProperties;
 import br.com.vounovolei.api.config.UploadProperties;
+import br.com.vounovolei.api.config.WeatherProperties;
 
-@EnableConfigurationProperties(UploadProperties.class)
+@EnableConfigurationProperties({
+        UploadProperties.class,
+        WeatherProperties.class,
+        RateLimitProperties.class,
+        PasswordHashingProperties.class
+})
 @SpringBootApplication
 @EnableScheduling
 public class ApiApplication {
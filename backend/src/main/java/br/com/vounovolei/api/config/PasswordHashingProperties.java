@@ -0,0 +1,47 @@
+package br.com.vounovolei.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.auth.password-hashing")
+public class PasswordHashingProperties {
+
+    // threads dedicadas ao BCrypt; 0 = uma por núcleo
+    private int workers = 0;
+    // hashes aguardando worker; acima disso a requisição recebe 429
+    private int queueCapacity = 32;
+    // custo do BCrypt; 0 = calibrado na subida para ficar perto de targetMillis
+    private int bcryptStrength = 0;
+    private long targetMillis = 100;
+
+    public int getWorkers() {
+        return workers;
+    }
+
+    public void setWorkers(int workers) {
+        this.workers = workers;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public int getBcryptStrength() {
+        return bcryptStrength;
+    }
+
+    public void setBcryptStrength(int bcryptStrength) {
+        this.bcryptStrength = bcryptStrength;
+    }
+
+    public long getTargetMillis() {
+        return targetMillis;
+    }
+
+    public void setTargetMillis(long targetMillis) {
+        this.targetMillis = targetMillis;
+    }
+}
@@ -0,0 +1,107 @@
+package br.com.vounovolei.api.config;
+
+import br.com.vounovolei.api.service.RateLimitScope;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+
+    // memory: cada instância conta sozinha; mysql: contadores compartilhados na tabela rate_limit_buckets
+    private String store = "memory";
+    // teto de chaves (escopo + IP/usuário) mantidas em memória
+    private long maxTrackedKeys = 100_000;
+
+    private Limit accountCreate = new Limit(3, Duration.ofMinutes(15));
+    private Limit eventCreate = new Limit(3, Duration.ofMinutes(15));
+    private Limit loginIp = new Limit(20, Duration.ofMinutes(15));
+    private Limit loginAccount = new Limit(10, Duration.ofMinutes(15));
+
+    public Limit limitFor(RateLimitScope scope) {
+        return switch (scope) {
+            case ACCOUNT_CREATE -> accountCreate;
+            case EVENT_CREATE -> eventCreate;
+            case LOGIN_IP -> loginIp;
+            case LOGIN_ACCOUNT -> loginAccount;
+        };
+    }
+
+    public String getStore() {
+        return store;
+    }
+
+    public void setStore(String store) {
+        this.store = store;
+    }
+
+    public long getMaxTrackedKeys() {
+        return maxTrackedKeys;
+    }
+
+    public void setMaxTrackedKeys(long maxTrackedKeys) {
+        this.maxTrackedKeys = maxTrackedKeys;
+    }
+
+    public Limit getAccountCreate() {
+        return accountCreate;
+    }
+
+    public void setAccountCreate(Limit accountCreate) {
+        this.accountCreate = accountCreate;
+    }
+
+    public Limit getEventCreate() {
+        return eventCreate;
+    }
+
+    public void setEventCreate(Limit eventCreate) {
+        this.eventCreate = eventCreate;
+    }
+
+    public Limit getLoginIp() {
+        return loginIp;
+    }
+
+    public void setLoginIp(Limit loginIp) {
+        this.loginIp = loginIp;
+    }
+
+    public Limit getLoginAccount() {
+        return loginAccount;
+    }
+
+    public void setLoginAccount(Limit loginAccount) {
+        this.loginAccount = loginAccount;
+    }
+
+    public static class Limit {
+
+        private int maxAttempts;
+        private Duration window;
+
+        public Limit() {
+        }
+
+        public Limit(int maxAttempts, Duration window) {
+            this.maxAttempts = maxAttempts;
+            this.window = window;
+        }
+
+        public int getMaxAttempts() {
+            return maxAttempts;
+        }
+
+        public void setMaxAttempts(int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+        }
+
+        public Duration getWindow() {
+            return window;
+        }
+
+        public void setWindow(Duration window) {
+            this.window = window;
+        }
+    }
+}
@@ -1,15 +1,64 @@
 package br.com.vounovolei.api.config;
 
+import br.com.vounovolei.api.service.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.Map;
+
+@Slf4j
 @Configuration
 public class SecurityBeans {
 
+    private static final String BCRYPT = "bcrypt";
+    // custo usado até aqui; a calibração nunca desce abaixo dele
+    private static final int MIN_BCRYPT_STRENGTH = 10;
+    private static final int MAX_BCRYPT_STRENGTH = 14;
+
+    /**
+     * Hashes novos saem como {bcrypt} com o custo configurado (ou calibrado); os antigos, sem prefixo,
+     * continuam válidos e são regravados no próximo login (PasswordEncoder.upgradeEncoding).
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashingProperties properties, MeterRegistry meterRegistry) {
+        int strength = properties.getBcryptStrength() > 0
+                ? properties.getBcryptStrength()
+                : calibrateBcryptStrength(properties.getTargetMillis());
+
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(
+                BCRYPT,
+                Map.of(BCRYPT, new BCryptPasswordEncoder(strength))
+        );
+        delegating.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+
+        int workers = properties.getWorkers() > 0 ? properties.getWorkers() : Runtime.getRuntime().availableProcessors();
+        log.info("Password hashing: bcrypt strength {}, {} workers, queue {}", strength, workers, properties.getQueueCapacity());
+        return new BoundedPasswordEncoder(delegating, workers, properties.getQueueCapacity(), meterRegistry);
+    }
+
+    // cada ponto de custo dobra o tempo: mede o custo mínimo e sobe enquanto couber no alvo
+    static int calibrateBcryptStrength(long targetMillis) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(MIN_BCRYPT_STRENGTH);
+        probe.encode("calibracao");
+
+        long bestNanos = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            long start = System.nanoTime();
+            probe.encode("calibracao");
+            bestNanos = Math.min(bestNanos, System.nanoTime() - start);
+        }
+
+        double millis = bestNanos / 1_000_000.0;
+        int strength = MIN_BCRYPT_STRENGTH;
+        while (strength < MAX_BCRYPT_STRENGTH && millis * 2 <= targetMillis) {
+            millis *= 2;
+            strength++;
+        }
+        return strength;
     }
 }
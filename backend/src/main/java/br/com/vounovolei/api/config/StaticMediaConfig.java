@@ -1,14 +1,20 @@
 package br.com.vounovolei.api.config;
 
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 import java.nio.file.Path;
+import java.time.Duration;
 
 @Configuration
 public class StaticMediaConfig implements WebMvcConfigurer {
 
+    // avatar-{hash}-{tamanho}.jpg: o nome muda junto com o conteúdo (ver AvatarService)
+    private static final String HASHED_AVATAR_PATTERN =
+            "/media/avatars/{userId:\\d+}/{file:avatar-[0-9a-f]{16}-\\d+\\.jpg}";
+
     private final UploadProperties props;
 
     public StaticMediaConfig(UploadProperties props) {
@@ -20,8 +26,25 @@ public class StaticMediaConfig implements WebMvcConfigurer {
         Path base = Path.of(props.getBaseDir()).toAbsolutePath().normalize();
         String location = base.toUri().toString(); // file:/.../uploads/
 
+        // nunca muda sob a mesma URL: o navegador não precisa revalidar
+        Path avatars = Path.of(props.getAvatarsDir()).toAbsolutePath().normalize();
+        registry.addResourceHandler(HASHED_AVATAR_PATTERN)
+                .addResourceLocations(avatars.toUri().toString())
+                .setCacheControl(CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable())
+                .setUseLastModified(false)
+                .setEtagGenerator(resource -> hashedEtag(resource.getFilename()));
+
+        // avatares antigos (avatar.<ext>) e demais arquivos mantêm o nome, então o cache é curto
         registry.addResourceHandler("/media/**")
                 .addResourceLocations(location)
                 .setCachePeriod(3600);
     }
+
+    // ETag forte a partir do próprio nome: "{hash}-{tamanho}"
+    private static String hashedEtag(String filename) {
+        if (filename == null || !filename.startsWith("avatar-") || !filename.endsWith(".jpg")) {
+            return null;
+        }
+        return filename.substring("avatar-".length(), filename.length() - ".jpg".length());
+    }
 }
@@ -0,0 +1,17 @@
+package br.com.vounovolei.api.config;
+
+import br.com.vounovolei.api.service.SkillRatingProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Map;
+
+@Configuration
+public class TeamDrawBeans {
+
+    // sem notas cadastradas todos valem o mesmo; uma implementação real entra como outro bean marcado com @Primary
+    @Bean
+    public SkillRatingProvider skillRatingProvider() {
+        return (eventId, userIds) -> Map.of();
+    }
+}
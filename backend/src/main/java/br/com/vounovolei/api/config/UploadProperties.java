@@ -2,12 +2,16 @@ package br.com.vounovolei.api.config;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+
 @ConfigurationProperties(prefix = "app.uploads")
 public class UploadProperties {
 
     private String baseDir;
     private String avatarsDir;
     private long maxAvatarBytes;
+    // quanto tempo os arquivos de um avatar substituído continuam servidos antes da limpeza
+    private Duration avatarGracePeriod = Duration.ofHours(24);
 
     public String getBaseDir() {
         return baseDir;
@@ -32,4 +36,12 @@ public class UploadProperties {
     public void setMaxAvatarBytes(long maxAvatarBytes) {
         this.maxAvatarBytes = maxAvatarBytes;
     }
+
+    public Duration getAvatarGracePeriod() {
+        return avatarGracePeriod;
+    }
+
+    public void setAvatarGracePeriod(Duration avatarGracePeriod) {
+        this.avatarGracePeriod = avatarGracePeriod;
+    }
 }
@@ -0,0 +1,95 @@
+package br.com.vounovolei.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.weather")
+public class WeatherProperties {
+
+    // chamadas simultâneas ao Open-Meteo durante a atualização agendada
+    private int refreshParallelism = 4;
+    // intervalo mínimo entre duas chamadas ao mesmo host (100 ms = até 10 req/s por host)
+    private long minRequestIntervalMs = 100;
+    // eventos gravados por transação na etapa de escrita
+    private int writeBatchSize = 50;
+    // timeouts das chamadas HTTP ao Open-Meteo
+    private int connectTimeoutMs = 2000;
+    private int readTimeoutMs = 5000;
+    // falhas seguidas que abrem o circuito de um host e por quanto tempo ele fica aberto
+    private int circuitFailureThreshold = 5;
+    private long circuitOpenSeconds = 60;
+    // fila de atualizações avulsas (criação/edição de evento)
+    private int jobWorkers = 2;
+    private int jobQueueCapacity = 500;
+
+    public int getRefreshParallelism() {
+        return refreshParallelism;
+    }
+
+    public void setRefreshParallelism(int refreshParallelism) {
+        this.refreshParallelism = refreshParallelism;
+    }
+
+    public long getMinRequestIntervalMs() {
+        return minRequestIntervalMs;
+    }
+
+    public void setMinRequestIntervalMs(long minRequestIntervalMs) {
+        this.minRequestIntervalMs = minRequestIntervalMs;
+    }
+
+    public int getWriteBatchSize() {
+        return writeBatchSize;
+    }
+
+    public void setWriteBatchSize(int writeBatchSize) {
+        this.writeBatchSize = writeBatchSize;
+    }
+
+    public int getConnectTimeoutMs() {
+        return connectTimeoutMs;
+    }
+
+    public void setConnectTimeoutMs(int connectTimeoutMs) {
+        this.connectTimeoutMs = connectTimeoutMs;
+    }
+
+    public int getReadTimeoutMs() {
+        return readTimeoutMs;
+    }
+
+    public void setReadTimeoutMs(int readTimeoutMs) {
+        this.readTimeoutMs = readTimeoutMs;
+    }
+
+    public int getCircuitFailureThreshold() {
+        return circuitFailureThreshold;
+    }
+
+    public void setCircuitFailureThreshold(int circuitFailureThreshold) {
+        this.circuitFailureThreshold = circuitFailureThreshold;
+    }
+
+    public long getCircuitOpenSeconds() {
+        return circuitOpenSeconds;
+    }
+
+    public void setCircuitOpenSeconds(long circuitOpenSeconds) {
+        this.circuitOpenSeconds = circuitOpenSeconds;
+    }
+
+    public int getJobWorkers() {
+        return jobWorkers;
+    }
+
+    public void setJobWorkers(int jobWorkers) {
+        this.jobWorkers = jobWorkers;
+    }
+
+    public int getJobQueueCapacity() {
+        return jobQueueCapacity;
+    }
+
+    public void setJobQueueCapacity(int jobQueueCapacity) {
+        this.jobQueueCapacity = jobQueueCapacity;
+    }
+}
@@ -11,7 +11,9 @@ public record AdminEventResponse(
         String city,
         String state,
         String description,
+        Integer capacity,
         Long createdByUserId,
+        String createdByName,
         Instant createdAt,
         Instant updatedAt
 ) {}
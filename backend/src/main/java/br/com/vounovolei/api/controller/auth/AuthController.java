@@ -42,8 +42,8 @@ public class AuthController {
     }
 
     @PostMapping("/login")
-    public ResponseEntity<AuthResponse> login(@RequestBody @Valid LoginRequest req) {
-        var tokens = authService.login(req);
+    public ResponseEntity<AuthResponse> login(@RequestBody @Valid LoginRequest req, HttpServletRequest request) {
+        var tokens = authService.login(req, extractClientKey(request));
         return ResponseEntity.ok(AuthResponse.of(tokens.accessToken(), tokens.refreshToken()));
     }
 
@@ -53,11 +53,18 @@ public class AuthController {
         return ResponseEntity.ok(AuthResponse.of(tokens.accessToken(), tokens.refreshToken()));
     }
 
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestBody @Valid RefreshTokenRequest req) {
+        authService.logout(req);
+        return ResponseEntity.noContent().build();
+    }
+
     @PostMapping("/forgot-password/validate-secret")
     public ResponseEntity<ForgotPasswordValidateSecretResponse> validateSecret(
-            @RequestBody @Valid ForgotPasswordValidateSecretRequest req
+            @RequestBody @Valid ForgotPasswordValidateSecretRequest req,
+            HttpServletRequest request
     ) {
-        return ResponseEntity.ok(authService.validateSecretForPasswordReset(req));
+        return ResponseEntity.ok(authService.validateSecretForPasswordReset(req, extractClientKey(request)));
     }
 
     @PostMapping("/forgot-password/reset")
@@ -72,9 +79,9 @@ public class AuthController {
     }
 
     @PatchMapping("/me/password")
-    public ResponseEntity<Void> changePassword(@RequestBody ChangePasswordRequest req) {
-        authService.changeMyPassword(req);
-        return ResponseEntity.noContent().build();
+    public ResponseEntity<AuthResponse> changePassword(@RequestBody ChangePasswordRequest req) {
+        var tokens = authService.changeMyPassword(req);
+        return ResponseEntity.ok(AuthResponse.of(tokens.accessToken(), tokens.refreshToken()));
     }
 
     @PatchMapping("/me/secret-word")
@@ -83,17 +90,9 @@ public class AuthController {
         return ResponseEntity.noContent().build();
     }
 
+    // X-Forwarded-For vem do cliente e pode ser forjado; com server.forward-headers-strategy=native o Tomcat
+    // só troca o endereço remoto pelo do cabeçalho quando a conexão chega de um proxy confiável
     private String extractClientKey(HttpServletRequest request) {
-        String xForwardedFor = request.getHeader("X-Forwarded-For");
-        if (xForwardedFor != null && !xForwardedFor.isBlank()) {
-            return xForwardedFor.split(",")[0].trim();
-        }
-
-        String xRealIp = request.getHeader("X-Real-IP");
-        if (xRealIp != null && !xRealIp.isBlank()) {
-            return xRealIp.trim();
-        }
-
         return request.getRemoteAddr();
     }
 }
@@ -26,7 +26,7 @@ public class AvatarController {
     public ResponseEntity<AvatarResponse> upload(@RequestParam("file") @NotNull MultipartFile file) {
         User user = getLoggedUserById();
         String url = avatarService.uploadAvatar(user, file);
-        return ResponseEntity.ok(new AvatarResponse(url));
+        return ResponseEntity.ok(AvatarResponse.of(url));
     }
 
     @DeleteMapping("/avatar")
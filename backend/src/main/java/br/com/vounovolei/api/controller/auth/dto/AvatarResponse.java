@@ -1,3 +1,8 @@
 package br.com.vounovolei.api.controller.auth.dto;
 
-public record AvatarResponse(String avatarUrl) {}
+public record AvatarResponse(String avatarUrl, AvatarUrls avatarUrls) {
+
+    public static AvatarResponse of(String avatarUrl) {
+        return new AvatarResponse(avatarUrl, AvatarUrls.from(avatarUrl));
+    }
+}
@@ -0,0 +1,22 @@
+package br.com.vounovolei.api.controller.auth.dto;
+
+/**
+ * URLs das variantes do avatar (64, 128 e 256 px). O avatarUrl gravado aponta para a de 256
+ * (".../avatar-{hash}-256.jpg"); avatares enviados antes das variantes têm um único arquivo, usado nas três.
+ */
+public record AvatarUrls(String size64, String size128, String size256) {
+
+    private static final String LARGEST_SUFFIX = "-256.jpg";
+
+    public static AvatarUrls from(String avatarUrl) {
+        if (avatarUrl == null || avatarUrl.isBlank()) {
+            return null;
+        }
+        if (!avatarUrl.endsWith(LARGEST_SUFFIX)) {
+            return new AvatarUrls(avatarUrl, avatarUrl, avatarUrl);
+        }
+
+        String base = avatarUrl.substring(0, avatarUrl.length() - LARGEST_SUFFIX.length());
+        return new AvatarUrls(base + "-64.jpg", base + "-128.jpg", avatarUrl);
+    }
+}
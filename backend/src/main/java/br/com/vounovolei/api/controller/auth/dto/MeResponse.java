@@ -1,3 +1,8 @@
 package br.com.vounovolei.api.controller.auth.dto;
 
-public record MeResponse(Long id, String name, String email, String role, String avatarUrl) {}
+public record MeResponse(Long id, String name, String email, String role, String avatarUrl, AvatarUrls avatarUrls) {
+
+    public MeResponse(Long id, String name, String email, String role, String avatarUrl) {
+        this(id, name, email, role, avatarUrl, AvatarUrls.from(avatarUrl));
+    }
+}
@@ -0,0 +1,34 @@
+package br.com.vounovolei.api.controller.city;
+
+import br.com.vounovolei.api.controller.city.dto.CityResponse;
+import br.com.vounovolei.api.service.CityIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.List;
+
+@RestController
+@RequestMapping("/cities")
+@RequiredArgsConstructor
+public class CityController {
+
+    private final CityIndex cityIndex;
+
+    // autocomplete de município; a lista do IBGE não muda entre deploys, então o navegador pode guardar
+    @GetMapping
+    public ResponseEntity<List<CityResponse>> search(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String state,
+            @RequestParam(required = false) Integer limit
+    ) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofHours(1)).cachePrivate())
+                .body(cityIndex.search(q, state, limit));
+    }
+}
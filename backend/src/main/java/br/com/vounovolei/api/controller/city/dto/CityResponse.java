@@ -0,0 +1,8 @@
+package br.com.vounovolei.api.controller.city.dto;
+
+public record CityResponse(
+        String code,
+        String name,
+        String state,
+        String label
+) {}
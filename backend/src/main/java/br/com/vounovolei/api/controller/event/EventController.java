@@ -1,20 +1,35 @@
 package br.com.vounovolei.api.controller.event;
 
 import br.com.vounovolei.api.controller.event.dto.CreateEventRequest;
+import br.com.vounovolei.api.controller.event.dto.DrawTeamsRequest;
 import br.com.vounovolei.api.controller.event.dto.EventDetailResponse;
+import br.com.vounovolei.api.controller.event.dto.EventPageResponse;
 import br.com.vounovolei.api.controller.event.dto.EventParticipantResponse;
 import br.com.vounovolei.api.controller.event.dto.EventResponse;
+import br.com.vounovolei.api.controller.event.dto.EventSummaryResponse;
+import br.com.vounovolei.api.controller.event.dto.EventTeamsResponse;
 import br.com.vounovolei.api.controller.event.dto.RegisterEventRequest;
 import br.com.vounovolei.api.controller.event.dto.UpdateEventRequest;
+import br.com.vounovolei.api.security.AccessTokenDetails;
+import br.com.vounovolei.api.service.EventFeedQuery;
 import br.com.vounovolei.api.service.EventRegistrationService;
 import br.com.vounovolei.api.service.EventService;
+import br.com.vounovolei.api.service.EventVersionService;
+import br.com.vounovolei.api.service.TeamDrawService;
+import br.com.vounovolei.api.service.Versioned;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -24,6 +39,8 @@ public class EventController {
 
     private final EventService eventService;
     private final EventRegistrationService eventRegistrationService;
+    private final EventVersionService eventVersionService;
+    private final TeamDrawService teamDrawService;
 
     // ✅ agora qualquer usuário autenticado pode criar evento
     @PostMapping
@@ -34,14 +51,60 @@ public class EventController {
         return ResponseEntity.ok(eventService.create(req, userId, isAdmin));
     }
 
+    // feed paginado por cursor; sem "from" lista apenas eventos futuros
     @GetMapping
-    public ResponseEntity<List<EventResponse>> list() {
-        return ResponseEntity.ok(eventService.list());
+    public ResponseEntity<EventPageResponse<EventResponse>> list(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) String state,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            WebRequest request
+    ) {
+        EventFeedQuery query = new EventFeedQuery(from, to, city, state, cursor, limit);
+        String etag = etag("l", eventService.feedVersion(query));
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return revalidated(etag, eventService.list(query));
+    }
+
+    // contagem de inscritos + "estou inscrito" para a listagem, sem precisar de /detail por card
+    @GetMapping("/summary")
+    public ResponseEntity<EventPageResponse<EventSummaryResponse>> listSummaries(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) String state,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            Authentication auth,
+            WebRequest request
+    ) {
+        Long userId = Long.valueOf(auth.getName());
+        EventFeedQuery query = new EventFeedQuery(from, to, city, state, cursor, limit);
+
+        // "registered" depende do usuário, então ele entra no ETag
+        String etag = etag("s" + userId, eventService.feedVersion(query));
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return revalidated(etag, eventService.listSummaries(query, userId));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<EventResponse> detail(@PathVariable Long id) {
-        return ResponseEntity.ok(eventService.detail(id));
+    public ResponseEntity<EventResponse> detail(@PathVariable Long id, WebRequest request) {
+        Long version = eventVersionService.currentVersion(id).orElse(null);
+        if (version == null) {
+            return ResponseEntity.ok(eventService.detail(id)); // EVENT_NOT_FOUND
+        }
+
+        String etag = etag("e" + id, String.valueOf(version));
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return revalidated(etag, eventService.detail(id));
     }
 
     // ✅ admin OU criador podem editar
@@ -97,7 +160,55 @@ public class EventController {
     }
 
     @GetMapping("/{id}/detail")
-    public ResponseEntity<EventDetailResponse> detailWithParticipants(@PathVariable Long id) {
-        return ResponseEntity.ok(eventRegistrationService.detailWithParticipants(id));
+    public ResponseEntity<EventDetailResponse> detailWithParticipants(@PathVariable Long id, WebRequest request) {
+        // 304 sai só com a leitura do content_version, sem montar o detalhe
+        Long version = eventVersionService.currentVersion(id).orElse(null);
+        if (version != null && request.checkNotModified(etag("d" + id, String.valueOf(version)))) {
+            return null;
+        }
+
+        Versioned<EventDetailResponse> detail = eventRegistrationService.versionedDetailWithParticipants(id);
+        return revalidated(etag("d" + id, String.valueOf(detail.version())), detail.body());
+    }
+
+    // ✅ admin OU criador sorteiam; o resultado fica salvo e é o mesmo para todos
+    @PostMapping("/{id}/teams")
+    public ResponseEntity<EventTeamsResponse> drawTeams(
+            @PathVariable Long id,
+            @RequestBody @Valid DrawTeamsRequest req,
+            Authentication auth
+    ) {
+        Long userId = Long.valueOf(auth.getName());
+
+        boolean isAdmin = auth.getAuthorities().stream()
+                .anyMatch(a -> "ROLE_ADMIN".equals(a.getAuthority()) || "ADMIN".equals(a.getAuthority()));
+
+        return ResponseEntity.ok(teamDrawService.draw(id, req, userId, isAdmin));
+    }
+
+    @GetMapping("/{id}/teams")
+    public ResponseEntity<EventTeamsResponse> teams(@PathVariable Long id) {
+        return teamDrawService.current(id)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+
+    // SSE com deltas do elenco/clima; o cliente aplica sobre o último /detail carregado.
+    // A conexão termina quando o access token expira e o cliente reconecta com um token renovado
+    @GetMapping(value = "/{id}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@PathVariable Long id, Authentication auth) {
+        return eventRegistrationService.subscribe(id, AccessTokenDetails.expiresAt(auth).orElse(null));
+    }
+
+    private String etag(String prefix, String version) {
+        return "\"" + prefix + "-" + version + "\"";
+    }
+
+    // no-cache: o navegador pode guardar, mas sempre revalida com If-None-Match
+    private <T> ResponseEntity<T> revalidated(String etag, T body) {
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(body);
     }
 }
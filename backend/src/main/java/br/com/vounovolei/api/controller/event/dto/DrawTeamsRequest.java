@@ -0,0 +1,13 @@
+package br.com.vounovolei.api.controller.event.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+public record DrawTeamsRequest(
+        @NotNull @Min(2) @Max(4) Integer teamsCount,
+        Long seed,
+        List<Long> userIds
+) {}
@@ -12,8 +12,10 @@ public record EventDetailResponse(
         String state,
         EventWeatherResponse weather,
         String description,
+        Integer capacity,
         Long createdByUserId,
         String createdByName,
         Long participantsCount,
+        Long waitlistCount,
         List<EventParticipantResponse> participants
 ) {}
@@ -0,0 +1,8 @@
+package br.com.vounovolei.api.controller.event.dto;
+
+import java.util.List;
+
+public record EventPageResponse<T>(
+        List<T> content,
+        String nextCursor
+) {}
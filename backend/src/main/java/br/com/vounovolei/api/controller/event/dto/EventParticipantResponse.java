@@ -1,9 +1,32 @@
 package br.com.vounovolei.api.controller.event.dto;
 
+import br.com.vounovolei.api.controller.auth.dto.AvatarUrls;
+import br.com.vounovolei.api.domain.event.RegistrationStatus;
+
 public record EventParticipantResponse(
         Long id,
         String name,
         String email,
         String avatarUrl,
-        Boolean bringBall
-) {}
+        AvatarUrls avatarUrls,
+        Boolean bringBall,
+        RegistrationStatus status,
+        Integer waitlistPosition
+) {
+
+    // usado nas projeções JPQL; a posição na fila é calculada depois, pela ordem de inscrição
+    public EventParticipantResponse(
+            Long id,
+            String name,
+            String email,
+            String avatarUrl,
+            Boolean bringBall,
+            RegistrationStatus status
+    ) {
+        this(id, name, email, avatarUrl, AvatarUrls.from(avatarUrl), bringBall, status, null);
+    }
+
+    public EventParticipantResponse withWaitlistPosition(Integer position) {
+        return new EventParticipantResponse(id, name, email, avatarUrl, avatarUrls, bringBall, status, position);
+    }
+}
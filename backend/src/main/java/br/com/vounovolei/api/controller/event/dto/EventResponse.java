@@ -11,6 +11,7 @@ public record EventResponse(
         String state,
         EventWeatherResponse weather,
         String description,
+        Integer capacity,
         Long createdByUserId,
         String createdByName
 ) {}
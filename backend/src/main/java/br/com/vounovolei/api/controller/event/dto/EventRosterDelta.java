@@ -0,0 +1,35 @@
+package br.com.vounovolei.api.controller.event.dto;
+
+public record EventRosterDelta(
+        String type,
+        Long eventId,
+        Long userId,
+        EventParticipantResponse participant,
+        Boolean bringBall,
+        EventWeatherResponse weather
+) {
+
+    public static EventRosterDelta joined(Long eventId, EventParticipantResponse participant) {
+        return new EventRosterDelta("JOINED", eventId, participant.id(), participant, participant.bringBall(), null);
+    }
+
+    public static EventRosterDelta left(Long eventId, Long userId) {
+        return new EventRosterDelta("LEFT", eventId, userId, null, null, null);
+    }
+
+    public static EventRosterDelta promoted(Long eventId, Long userId) {
+        return new EventRosterDelta("PROMOTED", eventId, userId, null, null, null);
+    }
+
+    public static EventRosterDelta bringBallChanged(Long eventId, Long userId, boolean bringBall) {
+        return new EventRosterDelta("BRING_BALL_CHANGED", eventId, userId, null, bringBall, null);
+    }
+
+    public static EventRosterDelta teamsDrawn(Long eventId) {
+        return new EventRosterDelta("TEAMS_DRAWN", eventId, null, null, null, null);
+    }
+
+    public static EventRosterDelta weatherUpdated(Long eventId, EventWeatherResponse weather) {
+        return new EventRosterDelta("WEATHER_UPDATED", eventId, null, null, null, weather);
+    }
+}
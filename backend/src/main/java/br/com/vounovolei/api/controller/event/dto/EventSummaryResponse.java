@@ -0,0 +1,19 @@
+package br.com.vounovolei.api.controller.event.dto;
+
+import java.time.LocalDateTime;
+
+public record EventSummaryResponse(
+        Long id,
+        String title,
+        LocalDateTime eventDateTime,
+        String location,
+        String city,
+        String state,
+        EventWeatherResponse weather,
+        String description,
+        Integer capacity,
+        Long createdByUserId,
+        String createdByName,
+        Long participantsCount,
+        boolean registered
+) {}
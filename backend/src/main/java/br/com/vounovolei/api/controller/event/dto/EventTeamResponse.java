@@ -0,0 +1,9 @@
+package br.com.vounovolei.api.controller.event.dto;
+
+import java.util.List;
+
+public record EventTeamResponse(
+        int number,
+        long ballCount,
+        List<EventParticipantResponse> players
+) {}
@@ -0,0 +1,12 @@
+package br.com.vounovolei.api.controller.event.dto;
+
+import java.time.Instant;
+import java.util.List;
+
+public record EventTeamsResponse(
+        Long eventId,
+        Long seed,
+        Integer teamsCount,
+        Instant createdAt,
+        List<EventTeamResponse> teams
+) {}
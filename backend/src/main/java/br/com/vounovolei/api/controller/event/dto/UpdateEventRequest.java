@@ -1,5 +1,7 @@
 package br.com.vounovolei.api.controller.event.dto;
 
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
@@ -13,5 +15,6 @@ public record UpdateEventRequest(
         @NotBlank @Size(min = 2, max = 120) String location,
         @NotBlank @Size(min = 2, max = 120) String city,
         @NotBlank @Size(min = 2, max = 2) @Pattern(regexp = "[A-Za-z]{2}") String state,
-        String description
+        String description,
+        @Min(2) @Max(200) Integer capacity
 ) {}
@@ -38,6 +38,10 @@ public class Event {
     @Column
     private String description;
 
+    // null = sem limite de jogadores
+    @Column
+    private Integer capacity;
+
     @Column(name = "weather_available")
     private Boolean weatherAvailable;
 
@@ -62,6 +66,10 @@ public class Event {
     @Column(name = "weather_last_updated_at")
     private Instant weatherLastUpdatedAt;
 
+    // incrementado direto no banco (EventVersionService); base dos ETags de evento
+    @Column(name = "content_version", nullable = false, insertable = false, updatable = false)
+    private Long contentVersion;
+
     @Column(name = "created_by_user_id", nullable = false)
     private Long createdByUserId;
 
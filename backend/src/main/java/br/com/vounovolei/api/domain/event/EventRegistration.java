@@ -27,6 +27,10 @@ public class EventRegistration {
     @Column(name = "bring_ball", nullable = false)
     private Boolean bringBall = false;
 
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private RegistrationStatus status;
+
     @Column(name = "registered_at", nullable = false)
     private Instant registeredAt;
 }
@@ -0,0 +1,30 @@
+package br.com.vounovolei.api.domain.event;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Table(name = "event_team_draw_members")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventTeamDrawMember {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "draw_id", nullable = false)
+    private Long drawId;
+
+    @Column(name = "team_number", nullable = false)
+    private Integer teamNumber;
+
+    @Column(nullable = false)
+    private Integer slot;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+}
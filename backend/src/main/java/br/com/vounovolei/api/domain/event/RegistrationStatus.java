@@ -0,0 +1,6 @@
+package br.com.vounovolei.api.domain.event;
+
+public enum RegistrationStatus {
+    CONFIRMED,
+    WAITLISTED
+}
@@ -0,0 +1,43 @@
+package br.com.vounovolei.api.domain.geo;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "city_geolocations")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CityGeolocation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // nome sem acento, minúsculo (chave de busca)
+    @Column(name = "city_key", nullable = false, length = 120)
+    private String cityKey;
+
+    @Column(nullable = false, length = 2, columnDefinition = "CHAR(2)")
+    private String state;
+
+    @Column(nullable = false, length = 120)
+    private String city;
+
+    @Column(nullable = false)
+    private Double latitude;
+
+    @Column(nullable = false)
+    private Double longitude;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private GeolocationSource source;
+
+    @Column(name = "resolved_at", nullable = false)
+    private Instant resolvedAt;
+}
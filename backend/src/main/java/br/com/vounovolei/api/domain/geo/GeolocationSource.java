@@ -0,0 +1,6 @@
+package br.com.vounovolei.api.domain.geo;
+
+public enum GeolocationSource {
+    DATASET,
+    GEOCODER
+}
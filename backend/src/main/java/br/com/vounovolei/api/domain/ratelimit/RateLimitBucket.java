@@ -0,0 +1,36 @@
+package br.com.vounovolei.api.domain.ratelimit;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "rate_limit_buckets")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RateLimitBucket {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 40)
+    private String scope;
+
+    @Column(name = "actor_key", nullable = false, length = 190)
+    private String actorKey;
+
+    // início da janela fixa em epoch millis (múltiplo do tamanho da janela)
+    @Column(name = "window_start", nullable = false)
+    private Long windowStart;
+
+    @Column(nullable = false)
+    private Integer hits;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+}
@@ -46,4 +46,9 @@ public class User {
 
     @Column(name = "avatar_updated_at")
     private LocalDateTime avatarUpdatedAt;
+
+    // vai nos tokens; incrementar invalida tudo que foi emitido antes (UserSecurityService)
+    @Builder.Default
+    @Column(name = "security_version", nullable = false)
+    private Long securityVersion = 0L;
 }
@@ -0,0 +1,32 @@
+package br.com.vounovolei.api.repository;
+
+import br.com.vounovolei.api.domain.geo.CityGeolocation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+public interface CityGeolocationRepository extends JpaRepository<CityGeolocation, Long> {
+
+    Optional<CityGeolocation> findByCityKeyAndState(String cityKey, String state);
+
+    // outra instância pode ter gravado a mesma cidade: mantém a existente, sem erro de chave duplicada
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO city_geolocations (city_key, state, city, latitude, longitude, source, resolved_at)
+            VALUES (:cityKey, :state, :city, :latitude, :longitude, :source, CURRENT_TIMESTAMP)
+            ON DUPLICATE KEY UPDATE id = id
+            """, nativeQuery = true)
+    int insertIfAbsent(
+            @Param("cityKey") String cityKey,
+            @Param("state") String state,
+            @Param("city") String city,
+            @Param("latitude") double latitude,
+            @Param("longitude") double longitude,
+            @Param("source") String source
+    );
+}
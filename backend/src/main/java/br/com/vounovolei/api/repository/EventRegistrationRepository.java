@@ -1,16 +1,127 @@
 package br.com.vounovolei.api.repository;
 
+import br.com.vounovolei.api.controller.event.dto.EventParticipantResponse;
 import br.com.vounovolei.api.domain.event.EventRegistration;
+import br.com.vounovolei.api.domain.event.RegistrationStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface EventRegistrationRepository extends JpaRepository<EventRegistration, Long> {
 
-    boolean existsByEventIdAndUserId(Long eventId, Long userId);
+    /**
+     * Inscrição idempotente em um único statement, apoiada na uk_event_user. Exige a linha do evento
+     * travada (EventRepository.lockRosterById): a contagem de confirmados decide CONFIRMED ou WAITLISTED sem corrida.
+     * Retorno do MySQL (com CLIENT_FOUND_ROWS, padrão do Connector/J): 1 = inserido ou já igual, 2 = bringBall alterado.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO event_registrations (event_id, user_id, bring_ball, status, registered_at)
+            SELECT :eventId, :userId, :bringBall,
+                   CASE WHEN :capacity IS NULL OR c.confirmed < :capacity THEN 'CONFIRMED' ELSE 'WAITLISTED' END,
+                   CURRENT_TIMESTAMP
+            FROM (
+                SELECT COUNT(*) AS confirmed
+                FROM event_registrations
+                WHERE event_id = :eventId AND status = 'CONFIRMED'
+            ) c
+            ON DUPLICATE KEY UPDATE bring_ball = :bringBall
+            """, nativeQuery = true)
+    int upsert(
+            @Param("eventId") Long eventId,
+            @Param("userId") Long userId,
+            @Param("bringBall") boolean bringBall,
+            @Param("capacity") Integer capacity
+    );
 
-    Optional<EventRegistration> findByEventIdAndUserId(Long eventId, Long userId);
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM event_registrations WHERE event_id = :eventId AND user_id = :userId", nativeQuery = true)
+    int deleteByEventIdAndUserId(@Param("eventId") Long eventId, @Param("userId") Long userId);
+
+    long countByEventIdAndStatus(Long eventId, RegistrationStatus status);
+
+    @Query("""
+            select r.userId
+            from EventRegistration r
+            where r.eventId = :eventId
+              and r.status = br.com.vounovolei.api.domain.event.RegistrationStatus.WAITLISTED
+            order by r.id asc
+            """)
+    List<Long> findWaitlistedUserIds(@Param("eventId") Long eventId, Limit limit);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            update EventRegistration r
+            set r.status = br.com.vounovolei.api.domain.event.RegistrationStatus.CONFIRMED
+            where r.eventId = :eventId and r.userId in :userIds
+            """)
+    int confirm(@Param("eventId") Long eventId, @Param("userIds") Collection<Long> userIds);
+
+    // posição na fila = waitlisted inscritos até ele (ordem de inscrição)
+    @Query("""
+            select count(r)
+            from EventRegistration r
+            where r.eventId = :eventId
+              and r.status = br.com.vounovolei.api.domain.event.RegistrationStatus.WAITLISTED
+              and r.id <= (select own.id from EventRegistration own where own.eventId = :eventId and own.userId = :userId)
+            """)
+    long waitlistPosition(@Param("eventId") Long eventId, @Param("userId") Long userId);
 
     List<EventRegistration> findAllByEventId(Long eventId);
+
+    @Query("""
+            select new br.com.vounovolei.api.controller.event.dto.EventParticipantResponse(
+                u.id, u.name, u.email, u.avatarUrl, r.bringBall, r.status
+            )
+            from EventRegistration r
+            join User u on u.id = r.userId
+            where r.eventId = :eventId
+            order by r.id asc
+            """)
+    List<EventParticipantResponse> findParticipantsByEventId(@Param("eventId") Long eventId);
+
+    @Query("""
+            select new br.com.vounovolei.api.controller.event.dto.EventParticipantResponse(
+                u.id, u.name, u.email, u.avatarUrl, r.bringBall, r.status
+            )
+            from EventRegistration r
+            join User u on u.id = r.userId
+            where r.eventId = :eventId and r.userId = :userId
+            """)
+    Optional<EventParticipantResponse> findParticipant(@Param("eventId") Long eventId, @Param("userId") Long userId);
+
+    @Query("""
+            select r.eventId as eventId, count(r) as total
+            from EventRegistration r
+            where r.eventId in :eventIds
+              and r.status = br.com.vounovolei.api.domain.event.RegistrationStatus.CONFIRMED
+            group by r.eventId
+            """)
+    List<ParticipantCount> countParticipantsByEventIds(@Param("eventIds") Collection<Long> eventIds);
+
+    @Query("""
+            select r.eventId
+            from EventRegistration r
+            where r.userId = :userId and r.eventId in :eventIds
+            """)
+    List<Long> findRegisteredEventIds(@Param("userId") Long userId, @Param("eventIds") Collection<Long> eventIds);
+
+    @Query("select r.eventId from EventRegistration r where r.userId = :userId")
+    List<Long> findEventIdsByUserId(@Param("userId") Long userId);
+
+    interface ParticipantCount {
+        Long getEventId();
+
+        Long getTotal();
+    }
 }
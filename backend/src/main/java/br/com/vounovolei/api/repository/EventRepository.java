@@ -1,13 +1,148 @@
 package br.com.vounovolei.api.repository;
 
 import br.com.vounovolei.api.domain.event.Event;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface EventRepository extends JpaRepository<Event, Long> {
-    List<Event> findByTitleContainingIgnoreCaseOrderByIdAsc(String title);
     List<Event> findByEventDateTimeGreaterThanEqualOrderByEventDateTimeAsc(LocalDateTime eventDateTime);
     long deleteByCreatedByUserId(Long userId);
+
+    @Query("select e.id from Event e where e.createdByUserId = :userId")
+    List<Long> findIdsByCreatedByUserId(@Param("userId") Long userId);
+
+    @Query("""
+            select distinct e.city as city, e.state as state
+            from Event e
+            where e.city is not null and e.state is not null
+            """)
+    List<CityState> findDistinctCities();
+
+    @Query("select e.contentVersion from Event e where e.id = :id")
+    Optional<Long> findContentVersionById(@Param("id") Long id);
+
+    /**
+     * Trava a linha do evento até o fim da transação: serializa inscrições/saídas do mesmo evento
+     * (checagem de vagas e promoção da fila) sem bloquear os demais eventos.
+     */
+    @Query(value = "SELECT id, capacity FROM events WHERE id = :id FOR UPDATE", nativeQuery = true)
+    Optional<RosterLock> lockRosterById(@Param("id") Long id);
+
+    /**
+     * Trava várias linhas de evento de uma vez, em ordem crescente de id. Quem precisa de mais de um
+     * evento trava por aqui: as inscrições travam um evento só, então não se forma ciclo de espera.
+     */
+    @Query(value = "SELECT id FROM events WHERE id IN (:ids) ORDER BY id FOR UPDATE", nativeQuery = true)
+    List<Long> lockRostersByIds(@Param("ids") Collection<Long> ids);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE events SET content_version = content_version + 1 WHERE id IN (:ids)", nativeQuery = true)
+    int incrementContentVersion(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Ids e versões da mesma página que findFeedPage devolveria, na mesma ordem; o ETag do feed
+     * é o hash dessa lista (ver EventService.feedVersion), sem montar a resposta.
+     */
+    @Query(value = """
+            SELECT e.id AS id, e.content_version AS contentVersion
+            FROM events e
+            WHERE e.event_date_time >= :from
+              AND (:to IS NULL OR e.event_date_time < :to)
+              AND (:city IS NULL OR e.city = :city)
+              AND (:state IS NULL OR e.state = :state)
+              AND (:afterDateTime IS NULL
+                   OR e.event_date_time > :afterDateTime
+                   OR (e.event_date_time = :afterDateTime AND e.id > :afterId))
+            ORDER BY e.event_date_time ASC, e.id ASC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<FeedVersionRow> findFeedVersionRows(
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("city") String city,
+            @Param("state") String state,
+            @Param("afterDateTime") LocalDateTime afterDateTime,
+            @Param("afterId") Long afterId,
+            @Param("limit") int limit
+    );
+
+    @Query("""
+            select new br.com.vounovolei.api.repository.EventWithCreator(e, u.name)
+            from Event e
+            left join User u on u.id = e.createdByUserId
+            where e.id = :id
+            """)
+    Optional<EventWithCreator> findWithCreatorById(@Param("id") Long id);
+
+    /**
+     * Página do feed por keyset em (event_date_time, id). Filtros nulos são ignorados.
+     */
+    @Query("""
+            select new br.com.vounovolei.api.repository.EventWithCreator(e, u.name)
+            from Event e
+            left join User u on u.id = e.createdByUserId
+            where e.eventDateTime >= :from
+              and (:to is null or e.eventDateTime < :to)
+              and (:city is null or e.city = :city)
+              and (:state is null or e.state = :state)
+              and (:afterDateTime is null
+                   or e.eventDateTime > :afterDateTime
+                   or (e.eventDateTime = :afterDateTime and e.id > :afterId))
+            order by e.eventDateTime asc, e.id asc
+            """)
+    List<EventWithCreator> findFeedPage(
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("city") String city,
+            @Param("state") String state,
+            @Param("afterDateTime") LocalDateTime afterDateTime,
+            @Param("afterId") Long afterId,
+            Limit limit
+    );
+
+    @Query("""
+            select new br.com.vounovolei.api.repository.EventWithCreator(e, u.name)
+            from Event e
+            left join User u on u.id = e.createdByUserId
+            order by e.id asc
+            """)
+    List<EventWithCreator> findAllWithCreator();
+
+    @Query("""
+            select new br.com.vounovolei.api.repository.EventWithCreator(e, u.name)
+            from Event e
+            left join User u on u.id = e.createdByUserId
+            where lower(e.title) like lower(concat('%', :title, '%'))
+               or e.id = :id
+            order by e.id asc
+            """)
+    List<EventWithCreator> searchWithCreator(@Param("title") String title, @Param("id") Long id);
+
+    interface RosterLock {
+        Long getId();
+
+        Integer getCapacity();
+    }
+
+    interface FeedVersionRow {
+        Long getId();
+
+        Long getContentVersion();
+    }
+
+    interface CityState {
+        String getCity();
+
+        String getState();
+    }
 }
@@ -0,0 +1,11 @@
+package br.com.vounovolei.api.repository;
+
+import br.com.vounovolei.api.domain.event.EventTeamDrawMember;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface EventTeamDrawMemberRepository extends JpaRepository<EventTeamDrawMember, Long> {
+
+    List<EventTeamDrawMember> findByDrawIdOrderByTeamNumberAscSlotAsc(Long drawId);
+}
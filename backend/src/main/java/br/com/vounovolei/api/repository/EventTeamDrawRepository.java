@@ -0,0 +1,19 @@
+package br.com.vounovolei.api.repository;
+
+import br.com.vounovolei.api.domain.event.EventTeamDraw;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface EventTeamDrawRepository extends JpaRepository<EventTeamDraw, Long> {
+
+    Optional<EventTeamDraw> findByEventId(Long eventId);
+
+    // os membros saem junto pelo ON DELETE CASCADE
+    @Modifying(flushAutomatically = true)
+    @Query(value = "DELETE FROM event_team_draws WHERE event_id = :eventId", nativeQuery = true)
+    int deleteByEventId(@Param("eventId") Long eventId);
+}
@@ -0,0 +1,9 @@
+package br.com.vounovolei.api.repository;
+
+import br.com.vounovolei.api.domain.event.Event;
+
+/**
+ * Evento com o nome do criador, carregados juntos em uma única consulta.
+ */
+public record EventWithCreator(Event event, String createdByName) {
+}
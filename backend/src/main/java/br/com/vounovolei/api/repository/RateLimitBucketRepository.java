@@ -0,0 +1,66 @@
+package br.com.vounovolei.api.repository;
+
+import br.com.vounovolei.api.domain.ratelimit.RateLimitBucket;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Optional;
+
+public interface RateLimitBucketRepository extends JpaRepository<RateLimitBucket, Long> {
+
+    @Query(value = """
+            SELECT hits FROM rate_limit_buckets
+            WHERE scope = :scope AND actor_key = :actorKey AND window_start = :windowStart
+            """, nativeQuery = true)
+    Optional<Integer> findHits(
+            @Param("scope") String scope,
+            @Param("actorKey") String actorKey,
+            @Param("windowStart") long windowStart
+    );
+
+    // caminho comum: 1 linha afetada = tentativa aceita; 0 = janela ainda sem linha ou limite atingido.
+    // Este, insertFirstHit e deleteByScopeAndActorKey rodam em transação própria: a contagem não pode sumir
+    // no rollback de quem chamou (ex.: login inválido), nem herdar uma transação somente leitura
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Modifying
+    @Query(value = """
+            UPDATE rate_limit_buckets SET hits = hits + 1
+            WHERE scope = :scope AND actor_key = :actorKey AND window_start = :windowStart AND hits < :allowed
+            """, nativeQuery = true)
+    int incrementIfBelow(
+            @Param("scope") String scope,
+            @Param("actorKey") String actorKey,
+            @Param("windowStart") long windowStart,
+            @Param("allowed") int allowed
+    );
+
+    // primeira tentativa da janela; 0 se outra instância criou a linha antes
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Modifying
+    @Query(value = """
+            INSERT IGNORE INTO rate_limit_buckets (scope, actor_key, window_start, hits, expires_at)
+            VALUES (:scope, :actorKey, :windowStart, 1, :expiresAt)
+            """, nativeQuery = true)
+    int insertFirstHit(
+            @Param("scope") String scope,
+            @Param("actorKey") String actorKey,
+            @Param("windowStart") long windowStart,
+            @Param("expiresAt") Instant expiresAt
+    );
+
+    // login bem-sucedido zera a conta em todas as janelas
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Modifying
+    @Query(value = "DELETE FROM rate_limit_buckets WHERE scope = :scope AND actor_key = :actorKey", nativeQuery = true)
+    int deleteByScopeAndActorKey(@Param("scope") String scope, @Param("actorKey") String actorKey);
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM rate_limit_buckets WHERE expires_at < :now LIMIT 1000", nativeQuery = true)
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -0,0 +1,46 @@
+package br.com.vounovolei.api.repository;
+
+import br.com.vounovolei.api.domain.auth.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String> {
+
+    // id atribuído pela aplicação (jti): save() faria SELECT antes do INSERT
+    @Modifying
+    @Query(value = """
+            INSERT INTO refresh_tokens (id, family_id, user_id, expires_at)
+            VALUES (:id, :familyId, :userId, :expiresAt)
+            """, nativeQuery = true)
+    int insert(
+            @Param("id") String id,
+            @Param("familyId") String familyId,
+            @Param("userId") Long userId,
+            @Param("expiresAt") Instant expiresAt
+    );
+
+    // caminho comum do /auth/refresh: 1 linha afetada = token vigente, agora rotacionado
+    @Modifying
+    @Query(value = """
+            UPDATE refresh_tokens SET rotated_at = :now
+            WHERE id = :id AND rotated_at IS NULL AND revoked_at IS NULL AND expires_at > :now
+            """, nativeQuery = true)
+    int rotate(@Param("id") String id, @Param("now") Instant now);
+
+    @Modifying
+    @Query(value = """
+            UPDATE refresh_tokens SET revoked_at = :now
+            WHERE family_id = :familyId AND revoked_at IS NULL
+            """, nativeQuery = true)
+    int revokeFamily(@Param("familyId") String familyId, @Param("now") Instant now);
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM refresh_tokens WHERE expires_at < :now LIMIT 1000", nativeQuery = true)
+    int deleteExpired(@Param("now") Instant now);
+}
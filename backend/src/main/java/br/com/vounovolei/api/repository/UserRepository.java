@@ -2,6 +2,10 @@ package br.com.vounovolei.api.repository;
 
 import br.com.vounovolei.api.domain.user.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -11,4 +15,21 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByEmailAndIdNot(String email, Long id);
     List<User> findByNameContainingIgnoreCaseOrderByIdAsc(String name);
     List<User> findByEmailContainingIgnoreCaseOrderByIdAsc(String email);
+
+    @Query("""
+            select new br.com.vounovolei.api.repository.UserSecurityState(u.id, u.email, u.role, u.securityVersion)
+            from User u
+            where u.id = :id
+            """)
+    Optional<UserSecurityState> findSecurityStateById(@Param("id") Long id);
+
+    // regrava o hash só se ele não mudou desde a leitura (troca de senha concorrente vence)
+    @Transactional
+    @Modifying
+    @Query("update User u set u.password = :upgradedHash where u.id = :id and u.password = :currentHash")
+    int upgradePasswordHash(
+            @Param("id") Long id,
+            @Param("currentHash") String currentHash,
+            @Param("upgradedHash") String upgradedHash
+    );
 }
@@ -0,0 +1,9 @@
+package br.com.vounovolei.api.repository;
+
+import br.com.vounovolei.api.domain.user.UserRole;
+
+/**
+ * O mínimo do usuário para emitir e validar tokens, sem carregar a entidade inteira.
+ */
+public record UserSecurityState(Long id, String email, UserRole role, Long securityVersion) {
+}
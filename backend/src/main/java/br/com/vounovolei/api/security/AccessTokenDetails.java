@@ -0,0 +1,20 @@
+package br.com.vounovolei.api.security;
+
+import org.springframework.security.core.Authentication;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Detalhes da Authentication montada a partir de um access token: até quando o token vale. Conexões
+ * longas (SSE) não podem seguir abertas depois disso, já que o dispatch assíncrono não passa pelo filtro.
+ */
+public record AccessTokenDetails(Instant expiresAt) {
+
+    public static Optional<Instant> expiresAt(Authentication authentication) {
+        if (authentication != null && authentication.getDetails() instanceof AccessTokenDetails details) {
+            return Optional.of(details.expiresAt());
+        }
+        return Optional.empty();
+    }
+}
@@ -1,27 +1,23 @@
 package br.com.vounovolei.api.security;
 
-import br.com.vounovolei.api.service.JwtService;
-import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.List;
 
 @Component
 @RequiredArgsConstructor
 public class JwtAuthFilter extends OncePerRequestFilter {
 
-    private final JwtService jwtService;
+    private final VerifiedAccessTokens verifiedAccessTokens;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -35,7 +31,8 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         }
 
         // só rotas públicas
-        if ("/auth/login".equals(path) || "/auth/register".equals(path) || "/auth/refresh".equals(path)) {
+        if ("/auth/login".equals(path) || "/auth/register".equals(path) || "/auth/refresh".equals(path)
+                || "/auth/logout".equals(path)) {
             filterChain.doFilter(request, response);
             return;
         }
@@ -46,30 +43,11 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             return;
         }
 
-        String token = header.substring(7);
-
-        try {
-            Claims claims = jwtService.parseClaims(token);
-            if (!jwtService.isAccessToken(claims)) {
-                filterChain.doFilter(request, response);
-                return;
-            }
-
-            String userId = claims.getSubject(); // sub = userId
-            String role = (String) claims.get("role");
-
-            if (userId != null && role != null) {
-                var auth = new UsernamePasswordAuthenticationToken(
-                        userId, // ✅ agora authentication.getName() = userId
-                        null,
-                        List.of(new SimpleGrantedAuthority("ROLE_" + role))
-                );
-                SecurityContextHolder.getContext().setAuthentication(auth);
-            }
-
-        } catch (Exception ignored) {
-            // token inválido: segue sem autenticar
+        Authentication authentication = verifiedAccessTokens.authenticate(header.substring(7));
+        if (authentication != null) {
+            SecurityContextHolder.getContext().setAuthentication(authentication);
         }
+        // token inválido ou de outro tipo: segue sem autenticar
 
         filterChain.doFilter(request, response);
     }
@@ -0,0 +1,108 @@
+package br.com.vounovolei.api.security;
+
+import br.com.vounovolei.api.service.JwtService;
+import br.com.vounovolei.api.service.UserSecurityService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Access tokens já verificados, com a Authentication pronta. O front repete o mesmo token em várias
+ * requisições por página; no acerto não há Base64, HMAC nem montagem de Claims. Cada entrada sai do
+ * cache no "exp" do próprio token, então nada é aceito além do que o JWT já permitiria.
+ * Tokens inválidos não entram. A versão de segurança do usuário é conferida a cada requisição (via
+ * UserSecurityService, também em cache), então troca de senha ou de papel derruba o token na hora.
+ * Métricas em /actuator/metrics/cache.* com cache=verified-tokens.
+ */
+@Component
+class VerifiedAccessTokens {
+
+    private final JwtService jwtService;
+    private final UserSecurityService userSecurityService;
+    private final Cache<String, VerifiedToken> cache;
+
+    VerifiedAccessTokens(
+            JwtService jwtService,
+            UserSecurityService userSecurityService,
+            @Value("${security.jwt.verified-cache.max-size}") long maxSize,
+            MeterRegistry meterRegistry
+    ) {
+        this.jwtService = jwtService;
+        this.userSecurityService = userSecurityService;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(Expiry.creating((String token, VerifiedToken verified) ->
+                        Duration.ofMillis(Math.max(0L, verified.expiresAtMillis() - System.currentTimeMillis()))))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "verified-tokens");
+    }
+
+    /**
+     * Authentication do access token, ou null se o token for inválido, expirado ou de outro tipo.
+     * A chave é o próprio token (a assinatura faz parte dele); um hash extra custaria quase o mesmo
+     * que o HMAC que o cache evita.
+     */
+    Authentication authenticate(String token) {
+        VerifiedToken cached = cache.getIfPresent(token);
+        if (cached != null && cached.expiresAtMillis() > System.currentTimeMillis()) {
+            return userSecurityService.isCurrent(cached.userId(), cached.securityVersion())
+                    ? cached.authentication()
+                    : null;
+        }
+
+        Claims claims;
+        Long userId;
+        String role;
+        long securityVersion;
+        try {
+            claims = jwtService.parseClaims(token);
+            if (!jwtService.isAccessToken(claims)) {
+                return null;
+            }
+            userId = Long.valueOf(claims.getSubject()); // sub = userId
+            role = claims.get("role", String.class);
+            securityVersion = jwtService.securityVersion(claims);
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+
+        if (role == null || !userSecurityService.isCurrent(userId, securityVersion)) {
+            return null;
+        }
+
+        var authentication = new UsernamePasswordAuthenticationToken(
+                String.valueOf(userId), // authentication.getName() = userId
+                null,
+                List.of(new SimpleGrantedAuthority("ROLE_" + role))
+        );
+
+        Date expiration = claims.getExpiration();
+        if (expiration != null) {
+            authentication.setDetails(new AccessTokenDetails(expiration.toInstant()));
+            cache.put(token, new VerifiedToken(authentication, userId, securityVersion, expiration.getTime()));
+        }
+        return authentication;
+    }
+
+    long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    private record VerifiedToken(Authentication authentication, Long userId, Long securityVersion, long expiresAtMillis) {
+    }
+}
@@ -4,10 +4,13 @@ import br.com.vounovolei.api.controller.admin.dto.AdminEventResponse;
 import br.com.vounovolei.api.controller.admin.dto.AdminUpdateEventRequest;
 import br.com.vounovolei.api.controller.admin.dto.AdminUpdateUserRequest;
 import br.com.vounovolei.api.controller.admin.dto.AdminUserResponse;
+import br.com.vounovolei.api.controller.city.dto.CityResponse;
 import br.com.vounovolei.api.domain.event.Event;
 import br.com.vounovolei.api.domain.user.User;
 import br.com.vounovolei.api.domain.user.UserRole;
+import br.com.vounovolei.api.repository.EventRegistrationRepository;
 import br.com.vounovolei.api.repository.EventRepository;
+import br.com.vounovolei.api.repository.EventWithCreator;
 import br.com.vounovolei.api.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -16,10 +19,14 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.Instant;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
 
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.HttpStatus.CONFLICT;
@@ -31,8 +38,13 @@ public class AdminService {
 
     private final UserRepository userRepository;
     private final EventRepository eventRepository;
+    private final EventRegistrationRepository eventRegistrationRepository;
     private final PasswordEncoder passwordEncoder;
     private final EventWeatherService eventWeatherService;
+    private final EventVersionService eventVersionService;
+    private final EventRegistrationService eventRegistrationService;
+    private final CityIndex cityIndex;
+    private final UserSecurityService userSecurityService;
 
     @Transactional(readOnly = true)
     public List<AdminUserResponse> listUsers(String q) {
@@ -99,22 +111,35 @@ public class AdminService {
             throw new ResponseStatusException(BAD_REQUEST, "Role inválida");
         }
 
+        boolean roleChanged = user.getRole() != role;
+        boolean emailChanged = !email.equals(user.getEmail());
+
         user.setName(name);
         user.setEmail(email);
         user.setRole(role);
 
         String password = req.password() == null ? "" : req.password().trim();
-        if (!password.isEmpty()) {
+        boolean passwordChanged = !password.isEmpty();
+        if (passwordChanged) {
             user.setPassword(encodeValidatedPassword(password));
         }
 
-        return toUserResponse(userRepository.save(user));
+        // só papel e senha derrubam as sessões; o e-mail em cache é apenas descartado
+        if (roleChanged || passwordChanged) {
+            userSecurityService.bump(user);
+        } else if (emailChanged) {
+            userSecurityService.evict(user.getId());
+        }
+        User saved = userRepository.save(user);
+        eventVersionService.touchUser(saved.getId());
+        return toUserResponse(saved);
     }
 
     @Transactional
     public void changeUserPassword(Long id, String newPassword) {
         User user = findUserOrThrow(id);
         user.setPassword(encodeValidatedPassword(newPassword == null ? "" : newPassword.trim()));
+        userSecurityService.bump(user);
         userRepository.save(user);
     }
 
@@ -129,73 +154,82 @@ public class AdminService {
     public void deleteUser(Long id) {
         User user = findUserOrThrow(id);
 
+        // todos os eventos afetados são travados antes, em ordem crescente de id: os unregister abaixo
+        // reaproveitam esses locks em vez de travar evento a evento na ordem em que as inscrições vieram
+        List<Long> registeredEventIds = eventRegistrationRepository.findEventIdsByUserId(user.getId());
+        Set<Long> affectedEventIds = new TreeSet<>(registeredEventIds);
+        affectedEventIds.addAll(eventRepository.findIdsByCreatedByUserId(user.getId()));
+        if (!affectedEventIds.isEmpty()) {
+            eventRepository.lockRostersByIds(affectedEventIds);
+        }
+
+        // eventos em que ele estava inscrito perdem um participante (e a vaga passa para a fila)
+        eventVersionService.touchAll(affectedEventIds);
         eventRepository.deleteByCreatedByUserId(user.getId());
+        registeredEventIds.stream()
+                .sorted()
+                .forEach(eventId -> eventRegistrationService.unregister(eventId, user.getId()));
         userRepository.delete(user);
+        userSecurityService.evict(user.getId());
     }
 
     @Transactional(readOnly = true)
     public List<AdminEventResponse> listEvents(String q) {
         String query = normalizeQuery(q);
 
-        if (query == null) {
-            return eventRepository.findAll()
-                    .stream()
-                    .sorted(Comparator.comparing(Event::getId))
-                    .map(this::toEventResponse)
-                    .toList();
-        }
-
-        LinkedHashMap<Long, Event> merged = new LinkedHashMap<>();
-        eventRepository.findByTitleContainingIgnoreCaseOrderByIdAsc(query)
-                .forEach(e -> merged.put(e.getId(), e));
-
-        Long parsedId = tryParseId(query);
-        if (parsedId != null) {
-            eventRepository.findById(parsedId).ifPresent(e -> merged.put(e.getId(), e));
-        }
+        List<EventWithCreator> rows = query == null
+                ? eventRepository.findAllWithCreator()
+                : eventRepository.searchWithCreator(query, tryParseId(query));
 
-        return new ArrayList<>(merged.values())
-                .stream()
-                .sorted(Comparator.comparing(Event::getId))
-                .map(this::toEventResponse)
+        return rows.stream()
+                .map(row -> toEventResponse(row.event(), row.createdByName()))
                 .toList();
     }
 
     @Transactional(readOnly = true)
     public AdminEventResponse getEvent(Long id) {
-        return toEventResponse(findEventOrThrow(id));
+        EventWithCreator row = eventRepository.findWithCreatorById(id)
+                .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "Evento não encontrado"));
+        return toEventResponse(row.event(), row.createdByName());
     }
 
     @Transactional
     public AdminEventResponse updateEvent(Long id, AdminUpdateEventRequest req) {
         Event event = findEventOrThrow(id);
 
-        if (!userRepository.existsById(req.createdByUserId())) {
-            throw new ResponseStatusException(BAD_REQUEST, "Usuário criador não encontrado");
-        }
+        User creator = userRepository.findById(req.createdByUserId())
+                .orElseThrow(() -> new ResponseStatusException(BAD_REQUEST, "Usuário criador não encontrado"));
 
-        boolean weatherRelevantChange = isWeatherRelevantChange(event, req);
+        CityResponse city = cityIndex.require(req.city(), req.state());
+        boolean weatherRelevantChange = isWeatherRelevantChange(event, city, req.eventDateTime());
+        boolean capacityChanged = !Objects.equals(event.getCapacity(), req.capacity());
 
         event.setTitle(req.title().trim());
         event.setEventDateTime(req.eventDateTime());
         event.setLocation(req.location().trim());
-        event.setCity(req.city().trim());
-        event.setState(req.state().trim().toUpperCase());
+        event.setCity(city.name());
+        event.setState(city.state());
         event.setDescription(req.description());
+        event.setCapacity(req.capacity());
         event.setCreatedByUserId(req.createdByUserId());
         event.setUpdatedAt(Instant.now());
 
         Event saved = eventRepository.save(event);
+        eventVersionService.touch(saved.getId());
+        if (capacityChanged) {
+            eventRegistrationService.fillOpenSpots(saved.getId());
+        }
         if (weatherRelevantChange) {
-            eventWeatherService.refreshWeatherForEvent(saved);
+            eventWeatherService.requestRefresh(saved);
         }
-        return toEventResponse(saved);
+        return toEventResponse(saved, creator.getName());
     }
 
     @Transactional
     public void deleteEvent(Long id) {
         Event event = findEventOrThrow(id);
         eventRepository.delete(event);
+        eventVersionService.touch(id);
     }
 
     private User findUserOrThrow(Long id) {
@@ -219,7 +253,7 @@ public class AdminService {
         );
     }
 
-    private AdminEventResponse toEventResponse(Event event) {
+    private AdminEventResponse toEventResponse(Event event, String createdByName) {
         return new AdminEventResponse(
                 event.getId(),
                 event.getTitle(),
@@ -228,7 +262,9 @@ public class AdminService {
                 event.getCity(),
                 event.getState(),
                 event.getDescription(),
+                event.getCapacity(),
                 event.getCreatedByUserId(),
+                createdByName,
                 event.getCreatedAt(),
                 event.getUpdatedAt()
         );
@@ -254,16 +290,11 @@ public class AdminService {
         return trimmed.isEmpty() ? null : trimmed;
     }
 
-    private boolean isWeatherRelevantChange(Event event, AdminUpdateEventRequest req) {
-        return !normalize(event.getCity()).equals(normalize(req.city()))
-                || !normalize(event.getState()).equals(normalize(req.state()).toUpperCase())
-                || (event.getEventDateTime() == null
-                ? req.eventDateTime() != null
-                : !event.getEventDateTime().equals(req.eventDateTime()));
-    }
-
-    private String normalize(String value) {
-        return value == null ? "" : value.trim();
+    // compara com a grafia oficial já resolvida: "sao paulo" e "São Paulo" são a mesma cidade
+    private boolean isWeatherRelevantChange(Event event, CityResponse city, LocalDateTime eventDateTime) {
+        return !city.name().equals(event.getCity())
+                || !city.state().equals(event.getState())
+                || !Objects.equals(event.getEventDateTime(), eventDateTime);
     }
 
     private String encodeValidatedPassword(String rawPassword) {
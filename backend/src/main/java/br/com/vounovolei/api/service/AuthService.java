@@ -13,7 +13,9 @@ import br.com.vounovolei.api.controller.auth.dto.UpdateProfileRequest;
 import br.com.vounovolei.api.domain.user.User;
 import br.com.vounovolei.api.domain.user.UserRole;
 import br.com.vounovolei.api.repository.UserRepository;
+import br.com.vounovolei.api.repository.UserSecurityState;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -24,6 +26,7 @@ import org.springframework.web.server.ResponseStatusException;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -34,7 +37,10 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
+    private final RefreshTokenService refreshTokenService;
+    private final UserSecurityService userSecurityService;
     private final RateLimitService rateLimitService;
+    private final EventVersionService eventVersionService;
 
     public AuthTokens register(RegisterRequest req, String clientKey) {
         rateLimitService.checkCreateAccountLimit(clientKey);
@@ -62,51 +68,68 @@ public class AuthService {
         return issueTokens(user);
     }
 
-    public AuthTokens login(LoginRequest req) {
-        User user = userRepository.findByEmail(req.email().toLowerCase().trim())
-                .orElseThrow(() -> new IllegalArgumentException("INVALID_CREDENTIALS"));
+    public AuthTokens login(LoginRequest req, String clientKey) {
+        String email = req.email().toLowerCase().trim();
+        rateLimitService.checkLogin(clientKey, email);
 
-        if (!passwordEncoder.matches(req.password(), user.getPassword())) {
+        User user = userRepository.findByEmail(email).orElse(null);
+        if (user == null || !passwordEncoder.matches(req.password(), user.getPassword())) {
+            rateLimitService.recordLoginFailure(clientKey, email);
             throw new IllegalArgumentException("INVALID_CREDENTIALS");
         }
 
+        rateLimitService.recordLoginSuccess(email);
+        upgradePasswordHash(user, req.password());
         return issueTokens(user);
     }
 
     public AuthTokens refresh(RefreshTokenRequest req) {
-        Claims claims;
-        try {
-            claims = jwtService.parseClaims(req.refreshToken());
-        } catch (Exception e) {
+        Claims claims = parseRefreshClaims(req.refreshToken());
+        if (claims == null) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "REFRESH_TOKEN_INVALIDO");
         }
 
-        if (!jwtService.isRefreshToken(claims)) {
-            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "REFRESH_TOKEN_INVALIDO");
-        }
+        // e-mail, papel e versão vêm do cache de UserSecurityService, sem carregar o User
+        UserSecurityState state = parseUserId(claims.getSubject())
+                .flatMap(userSecurityService::current)
+                .filter(current -> current.securityVersion().equals(jwtService.securityVersion(claims)))
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "REFRESH_TOKEN_INVALIDO"));
 
-        Long userId;
-        try {
-            userId = Long.valueOf(claims.getSubject());
-        } catch (NumberFormatException e) {
-            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "REFRESH_TOKEN_INVALIDO");
-        }
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(claims, state.securityVersion());
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "REFRESH_TOKEN_INVALIDO"));
+        String accessToken = jwtService.generateAccessToken(
+                state.id(), state.email(), state.role().name(), state.securityVersion());
+        return new AuthTokens(accessToken, rotation.refreshToken());
+    }
 
-        return issueTokens(user);
+    // idempotente: token inválido ou já revogado não gera erro
+    public void logout(RefreshTokenRequest req) {
+        Claims claims = parseRefreshClaims(req.refreshToken());
+        if (claims != null) {
+            refreshTokenService.revoke(claims);
+        }
     }
 
     @Transactional(readOnly = true)
-    public ForgotPasswordValidateSecretResponse validateSecretForPasswordReset(ForgotPasswordValidateSecretRequest req) {
-        User user = userRepository.findByEmail(req.email().toLowerCase().trim())
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "INVALID_SECRET_WORD_CREDENTIALS"));
-
-        if (user.getSecretWordHash() == null || !passwordEncoder.matches(req.secretWord().trim(), user.getSecretWordHash())) {
+    public ForgotPasswordValidateSecretResponse validateSecretForPasswordReset(
+            ForgotPasswordValidateSecretRequest req,
+            String clientKey
+    ) {
+        String email = req.email().toLowerCase().trim();
+        // palavra secreta tem backoff próprio para não travar o login da mesma conta
+        String throttleKey = "secret:" + email;
+        rateLimitService.checkLogin(clientKey, throttleKey);
+
+        User user = userRepository.findByEmail(email).orElse(null);
+        if (user == null
+                || user.getSecretWordHash() == null
+                || !passwordEncoder.matches(req.secretWord().trim(), user.getSecretWordHash())) {
+            rateLimitService.recordLoginFailure(clientKey, throttleKey);
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "INVALID_SECRET_WORD_CREDENTIALS");
         }
 
+        rateLimitService.recordLoginSuccess(throttleKey);
+
         ensureSecretWordResetAllowed(user);
 
         long lastResetAt = user.getSecretWordLastPasswordResetAt() == null
@@ -160,14 +183,46 @@ public class AuthService {
 
         user.setPassword(passwordEncoder.encode(req.newPassword()));
         user.setSecretWordLastPasswordResetAt(Instant.now());
+        userSecurityService.bump(user);
     }
 
     private AuthTokens issueTokens(User user) {
-        String accessToken = jwtService.generateAccessToken(user.getId(), user.getEmail(), user.getRole().name());
-        String refreshToken = jwtService.generateRefreshToken(user.getId());
+        String accessToken = jwtService.generateAccessToken(
+                user.getId(), user.getEmail(), user.getRole().name(), user.getSecurityVersion());
+        String refreshToken = refreshTokenService.issue(user.getId(), user.getSecurityVersion());
         return new AuthTokens(accessToken, refreshToken);
     }
 
+    // hash sem prefixo ou com custo menor que o atual: aproveita a senha em mãos para regravar
+    private void upgradePasswordHash(User user, String rawPassword) {
+        if (!passwordEncoder.upgradeEncoding(user.getPassword())) {
+            return;
+        }
+
+        try {
+            userRepository.upgradePasswordHash(user.getId(), user.getPassword(), passwordEncoder.encode(rawPassword));
+        } catch (RateLimitExceededException ex) {
+            // pool de hash cheio: fica para o próximo login
+        }
+    }
+
+    private Optional<Long> parseUserId(String subject) {
+        try {
+            return Optional.of(Long.valueOf(subject));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    private Claims parseRefreshClaims(String refreshToken) {
+        try {
+            Claims claims = jwtService.parseClaims(refreshToken);
+            return jwtService.isRefreshToken(claims) ? claims : null;
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
     private User getLoggedUser() {
         var auth = SecurityContextHolder.getContext().getAuthentication();
 
@@ -214,8 +269,11 @@ public class AuthService {
             }
 
             user.setEmail(email);
+            userSecurityService.evict(user.getId());
         }
 
+        eventVersionService.touchUser(user.getId());
+
         return new MeResponse(
                 user.getId(),
                 user.getName(),
@@ -225,8 +283,9 @@ public class AuthService {
         );
     }
 
+    // as outras sessões caem; quem trocou recebe um par de tokens novo
     @Transactional
-    public void changeMyPassword(ChangePasswordRequest req) {
+    public AuthTokens changeMyPassword(ChangePasswordRequest req) {
         if (req.currentPassword() == null || req.currentPassword().isBlank()) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Senha atual é obrigatória");
         }
@@ -249,6 +308,8 @@ public class AuthService {
         }
 
         user.setPassword(passwordEncoder.encode(req.newPassword()));
+        userSecurityService.bump(user);
+        return issueTokens(user);
     }
 
     @Transactional
@@ -0,0 +1,271 @@
+package br.com.vounovolei.api.service;
+
+import org.springframework.stereotype.Component;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Decodifica o upload de avatar e gera as variantes quadradas em JPEG. O formato vem dos magic bytes,
+ * não do Content-Type do cliente. A imagem é lida já recortada e subamostrada (o raster em tamanho
+ * original nunca chega ao heap), a orientação EXIF é aplicada e nenhum metadado é regravado.
+ */
+@Component
+class AvatarImageProcessor {
+
+    static final List<Integer> SIZES = List.of(256, 128, 64);
+
+    // cabeçalho acima disso é recusado antes de decodificar qualquer pixel
+    private static final long MAX_SOURCE_PIXELS = 50_000_000L;
+    private static final float JPEG_QUALITY = 0.85f;
+
+    AvatarImageProcessor() {
+        // registra o leitor WebP (TwelveMonkeys) também quando rodando de dentro do jar
+        ImageIO.scanForPlugins();
+    }
+
+    /**
+     * Lê a imagem e grava uma variante por tamanho no OutputStream que {@code targets} abrir.
+     */
+    void process(InputStream upload, VariantTarget targets) throws IOException {
+        BufferedInputStream in = new BufferedInputStream(upload);
+        String format = detectFormat(in);
+        if (format == null) {
+            throw new InvalidFileException("Arquivo não é uma imagem JPG, PNG ou WebP válida.");
+        }
+
+        BufferedImage square;
+        int orientation;
+        try (ImageInputStream imageInput = new MemoryCacheImageInputStream(in)) {
+            ImageReader reader = readerFor(format);
+            try {
+                reader.setInput(imageInput, true, false);
+                square = readSquare(reader);
+                orientation = "jpeg".equals(format) ? exifOrientation(reader.getImageMetadata(0)) : 1;
+            } finally {
+                reader.dispose();
+            }
+        } catch (InvalidFileException ex) {
+            throw ex;
+        } catch (IOException | RuntimeException ex) {
+            throw new InvalidFileException("Não foi possível ler a imagem enviada.");
+        }
+
+        BufferedImage current = orient(square, orientation);
+        for (int size : SIZES) {
+            current = resize(current, size);
+            try (OutputStream out = targets.open(size)) {
+                writeJpeg(current, out);
+            }
+        }
+    }
+
+    static String detectFormat(BufferedInputStream in) throws IOException {
+        in.mark(16);
+        byte[] head = in.readNBytes(12);
+        in.reset();
+
+        if (head.length >= 3 && (head[0] & 0xFF) == 0xFF && (head[1] & 0xFF) == 0xD8 && (head[2] & 0xFF) == 0xFF) {
+            return "jpeg";
+        }
+        if (head.length >= 8 && Arrays.equals(Arrays.copyOf(head, 8),
+                new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'})) {
+            return "png";
+        }
+        if (head.length >= 12
+                && "RIFF".equals(new String(head, 0, 4, StandardCharsets.US_ASCII))
+                && "WEBP".equals(new String(head, 8, 4, StandardCharsets.US_ASCII))) {
+            return "webp";
+        }
+        return null;
+    }
+
+    private ImageReader readerFor(String format) {
+        Iterator<ImageReader> readers = ImageIO.getImageReadersByFormatName(format);
+        if (!readers.hasNext()) {
+            throw new IllegalStateException("Sem leitor ImageIO para " + format);
+        }
+        return readers.next();
+    }
+
+    // recorte quadrado central, subamostrado para ~2x a maior variante
+    private BufferedImage readSquare(ImageReader reader) throws IOException {
+        int width = reader.getWidth(0);
+        int height = reader.getHeight(0);
+        if (width <= 0 || height <= 0 || (long) width * height > MAX_SOURCE_PIXELS) {
+            throw new InvalidFileException("Dimensões da imagem não suportadas.");
+        }
+
+        int side = Math.min(width, height);
+        int subsampling = Math.max(1, side / (SIZES.get(0) * 2));
+
+        ImageReadParam param = reader.getDefaultReadParam();
+        param.setSourceRegion(new Rectangle((width - side) / 2, (height - side) / 2, side, side));
+        param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+        return reader.read(0, param);
+    }
+
+    // EXIF 0x0112 no APP1 do JPEG; 1 = sem rotação
+    static int exifOrientation(IIOMetadata metadata) {
+        if (metadata == null) {
+            return 1;
+        }
+
+        try {
+            Node root = metadata.getAsTree("javax_imageio_jpeg_image_1.0");
+            Node markers = child(root, "markerSequence");
+            for (Node node = markers == null ? null : markers.getFirstChild(); node != null; node = node.getNextSibling()) {
+                NamedNodeMap attributes = node.getAttributes();
+                Node tag = attributes == null ? null : attributes.getNamedItem("MarkerTag");
+                if (!"unknown".equals(node.getNodeName()) || tag == null || !"225".equals(tag.getNodeValue())) {
+                    continue;
+                }
+                Object data = ((IIOMetadataNode) node).getUserObject();
+                if (data instanceof byte[] app1) {
+                    int orientation = orientationFromExif(app1);
+                    if (orientation > 0) {
+                        return orientation;
+                    }
+                }
+            }
+        } catch (RuntimeException ignored) {
+            // metadado malformado: segue sem rotação
+        }
+        return 1;
+    }
+
+    static int orientationFromExif(byte[] app1) {
+        if (app1.length < 14 || !"Exif".equals(new String(app1, 0, 4, StandardCharsets.US_ASCII))) {
+            return 0;
+        }
+
+        ByteBuffer tiff = ByteBuffer.wrap(app1, 6, app1.length - 6).slice();
+        tiff.order(tiff.get(0) == 'I' ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+
+        int ifd = tiff.getInt(4);
+        if (ifd < 8 || ifd + 2 > tiff.limit()) {
+            return 0;
+        }
+
+        int entries = tiff.getShort(ifd) & 0xFFFF;
+        for (int i = 0; i < entries; i++) {
+            int entry = ifd + 2 + i * 12;
+            if (entry + 12 > tiff.limit()) {
+                return 0;
+            }
+            if ((tiff.getShort(entry) & 0xFFFF) == 0x0112) {
+                int value = tiff.getShort(entry + 8) & 0xFFFF;
+                return value >= 1 && value <= 8 ? value : 0;
+            }
+        }
+        return 0;
+    }
+
+    // a imagem já é quadrada, então só rotação/espelhamento
+    static BufferedImage orient(BufferedImage image, int orientation) {
+        int n = image.getWidth();
+        AffineTransform transform = switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, n, 0);
+            case 3 -> new AffineTransform(-1, 0, 0, -1, n, n);
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, n);
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);
+            case 6 -> new AffineTransform(0, 1, -1, 0, n, 0);
+            case 7 -> new AffineTransform(0, -1, -1, 0, n, n);
+            case 8 -> new AffineTransform(0, -1, 1, 0, 0, n);
+            default -> null;
+        };
+        if (transform == null) {
+            return image;
+        }
+
+        BufferedImage oriented = new BufferedImage(n, n, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = oriented.createGraphics();
+        try {
+            g.drawImage(image, transform, null);
+        } finally {
+            g.dispose();
+        }
+        return oriented;
+    }
+
+    // reduz pela metade até chegar perto do alvo (mais nítido que um único passo bicúbico)
+    static BufferedImage resize(BufferedImage source, int size) {
+        BufferedImage current = source;
+        while (current.getWidth() / 2 >= size) {
+            current = draw(current, current.getWidth() / 2);
+        }
+        return current.getWidth() == size && current.getType() == BufferedImage.TYPE_INT_RGB
+                ? current
+                : draw(current, size);
+    }
+
+    private static BufferedImage draw(BufferedImage source, int side) {
+        // fundo branco: JPEG não tem transparência
+        BufferedImage target = new BufferedImage(side, side, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, side, side);
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(source, 0, 0, side, side, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    private void writeJpeg(BufferedImage image, OutputStream out) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream imageOutput = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(imageOutput);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    private static Node child(Node parent, String name) {
+        for (Node node = parent.getFirstChild(); node != null; node = node.getNextSibling()) {
+            if (name.equals(node.getNodeName())) {
+                return node;
+            }
+        }
+        return null;
+    }
+
+    @FunctionalInterface
+    interface VariantTarget {
+        OutputStream open(int size) throws IOException;
+    }
+}
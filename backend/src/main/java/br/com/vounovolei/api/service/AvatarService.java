@@ -3,38 +3,55 @@ package br.com.vounovolei.api.service;
 import br.com.vounovolei.api.config.UploadProperties;
 import br.com.vounovolei.api.domain.user.User;
 import br.com.vounovolei.api.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.InputStream;
 import java.nio.file.*;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
 import java.time.LocalDateTime;
-import java.util.Set;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
+@Slf4j
 @Service
 public class AvatarService {
 
-    private static final Set<String> ALLOWED_TYPES = Set.of(
-            "image/jpeg",
-            "image/png",
-            "image/webp"
-    );
+    // 16 hex (64 bits) do SHA-256 das variantes: nome novo a cada conteúdo novo
+    private static final int HASH_HEX_LENGTH = 16;
 
     private final UploadProperties props;
     private final UserRepository userRepository;
+    private final EventVersionService eventVersionService;
+    private final AvatarImageProcessor avatarImageProcessor;
 
-    public AvatarService(UploadProperties props, UserRepository userRepository) {
+    public AvatarService(
+            UploadProperties props,
+            UserRepository userRepository,
+            EventVersionService eventVersionService,
+            AvatarImageProcessor avatarImageProcessor
+    ) {
         this.props = props;
         this.userRepository = userRepository;
+        this.eventVersionService = eventVersionService;
+        this.avatarImageProcessor = avatarImageProcessor;
     }
 
     @Transactional
     public String uploadAvatar(User user, MultipartFile file) {
         validate(file);
 
-        String ext = extensionFor(file.getContentType()); // .png/.jpg/.webp
-
         Path avatarsBaseDir = Path.of(props.getAvatarsDir()).toAbsolutePath().normalize();
         Path userDir = avatarsBaseDir.resolve(String.valueOf(user.getId())).normalize();
 
@@ -43,30 +60,40 @@ public class AvatarService {
             throw new InvalidFileException("Caminho de diretório inválido.");
         }
 
-        // antes de salvar, remove qualquer avatar antigo na pasta do usuário
-        deleteUserAvatarFiles(userDir);
-
-        // alvo: uploads/avatars/{userId}/avatar{ext}
-        String filename = "avatar" + ext;
-        Path target = userDir.resolve(filename).normalize();
-
-        if (!target.startsWith(userDir)) {
-            throw new InvalidFileException("Caminho de arquivo inválido.");
-        }
-
+        // variantes vão primeiro para arquivos temporários; o nome final depende do hash do conteúdo
+        Map<Integer, Path> staged = new LinkedHashMap<>();
+        MessageDigest digest = sha256();
+        String hash;
         try (InputStream in = file.getInputStream()) {
             Files.createDirectories(userDir);
-            Files.copy(in, target, StandardCopyOption.REPLACE_EXISTING);
+            avatarImageProcessor.process(in, size -> {
+                Path tmp = Files.createTempFile(userDir, "avatar-" + size + "-", ".tmp");
+                staged.put(size, tmp);
+                return new DigestOutputStream(Files.newOutputStream(tmp), digest);
+            });
+            hash = HexFormat.of().formatHex(digest.digest()).substring(0, HASH_HEX_LENGTH);
+
+            // alvo: uploads/avatars/{userId}/avatar-{hash}-{64,128,256}.jpg
+            // os arquivos do avatar anterior ficam até purgeSupersededAvatarFiles (páginas abertas ainda os referenciam)
+            for (Map.Entry<Integer, Path> variant : staged.entrySet()) {
+                Files.move(variant.getValue(), userDir.resolve(variantFilename(hash, variant.getKey())),
+                        StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+        } catch (InvalidFileException e) {
+            staged.values().forEach(this::deleteQuietly);
+            throw e;
         } catch (Exception e) {
+            staged.values().forEach(this::deleteQuietly);
             throw new RuntimeException("Falha ao salvar avatar.", e);
         }
 
-        // URL pública: /media/avatars/{userId}/avatar.png (ou .jpg/.webp)
-        String publicUrl = "/media/avatars/" + user.getId() + "/" + filename;
+        // URL pública da maior variante: /media/avatars/{userId}/avatar-{hash}-256.jpg (ver AvatarUrls)
+        String publicUrl = "/media/avatars/" + user.getId() + "/" + variantFilename(hash, AvatarImageProcessor.SIZES.get(0));
 
         user.setAvatarUrl(publicUrl);
         user.setAvatarUpdatedAt(LocalDateTime.now());
         userRepository.save(user);
+        eventVersionService.touchUser(user.getId());
 
         return publicUrl;
     }
@@ -77,15 +104,17 @@ public class AvatarService {
         Path userDir = avatarsBaseDir.resolve(String.valueOf(user.getId())).normalize();
 
         if (userDir.startsWith(avatarsBaseDir)) {
-            deleteUserAvatarFiles(userDir);
+            deleteUserAvatarFiles(userDir, List.of());
             deleteDirIfEmpty(userDir);
         }
 
         user.setAvatarUrl(null);
         user.setAvatarUpdatedAt(LocalDateTime.now());
         userRepository.save(user);
+        eventVersionService.touchUser(user.getId());
     }
 
+    // o tipo real vem dos magic bytes (AvatarImageProcessor), não do Content-Type do cliente
     private void validate(MultipartFile file) {
         if (file == null || file.isEmpty()) {
             throw new InvalidFileException("Arquivo obrigatório.");
@@ -93,35 +122,121 @@ public class AvatarService {
         if (file.getSize() > props.getMaxAvatarBytes()) {
             throw new FileTooLargeException("Arquivo excede o limite de 2MB.");
         }
-        String type = file.getContentType();
-        if (type == null || !ALLOWED_TYPES.contains(type)) {
-            throw new InvalidFileException("Tipo de arquivo não permitido. Use JPG, PNG ou WebP.");
+    }
+
+    /**
+     * Remove os arquivos de avatar que nenhum usuário referencia mais: variantes substituídas há mais que
+     * o período de carência, pastas de usuários excluídos e temporários de uploads interrompidos.
+     */
+    @Scheduled(fixedDelay = 3_600_000, initialDelay = 300_000)
+    public void purgeSupersededAvatarFiles() {
+        Path avatarsBaseDir = Path.of(props.getAvatarsDir()).toAbsolutePath().normalize();
+        if (!Files.isDirectory(avatarsBaseDir)) return;
+
+        Instant cutoff = Instant.now().minus(props.getAvatarGracePeriod());
+        int total = 0;
+        try (DirectoryStream<Path> userDirs = Files.newDirectoryStream(avatarsBaseDir, Files::isDirectory)) {
+            for (Path userDir : userDirs) {
+                total += purgeUserDir(userDir, cutoff);
+            }
+        } catch (Exception e) {
+            log.warn("Avatar cleanup failed: {}", e.getMessage());
+        }
+
+        if (total > 0) {
+            log.debug("Purged {} superseded avatar files", total);
         }
     }
 
-    private String extensionFor(String contentType) {
-        return switch (contentType) {
-            case "image/jpeg" -> ".jpg";
-            case "image/png" -> ".png";
-            case "image/webp" -> ".webp";
-            default -> ".bin";
-        };
+    private int purgeUserDir(Path userDir, Instant cutoff) throws Exception {
+        Long userId;
+        try {
+            userId = Long.valueOf(userDir.getFileName().toString());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+
+        // só arquivos antigos são candidatos; o usuário é consultado apenas se houver algum
+        List<Path> candidates = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(userDir, "avatar*")) {
+            for (Path p : stream) {
+                if (Files.getLastModifiedTime(p).toInstant().isBefore(cutoff)) {
+                    candidates.add(p);
+                }
+            }
+        }
+        if (candidates.isEmpty()) return 0;
+
+        User user = userRepository.findById(userId).orElse(null);
+        String currentFilename = user == null ? null : avatarFilename(user.getAvatarUrl());
+        // a carência conta a partir da troca do avatar, não da criação do arquivo
+        boolean supersededLongAgo = user == null
+                || user.getAvatarUpdatedAt() == null
+                || user.getAvatarUpdatedAt().isBefore(LocalDateTime.ofInstant(cutoff, ZoneId.systemDefault()));
+
+        int deleted = 0;
+        for (Path p : candidates) {
+            String name = p.getFileName().toString();
+            boolean temporary = name.endsWith(".tmp");
+            if (!temporary && (!supersededLongAgo || belongsToAvatar(name, currentFilename))) {
+                continue;
+            }
+            deleteQuietly(p);
+            deleted++;
+        }
+        deleteDirIfEmpty(userDir);
+        return deleted;
+    }
+
+    // "avatar-{hash}-256.jpg" cobre as três variantes; avatares antigos têm um arquivo só
+    static boolean belongsToAvatar(String filename, String currentFilename) {
+        if (currentFilename == null) return false;
+        if (filename.equals(currentFilename)) return true;
+
+        String largestSuffix = "-" + AvatarImageProcessor.SIZES.get(0) + ".jpg";
+        if (!currentFilename.endsWith(largestSuffix)) return false;
+
+        String stem = currentFilename.substring(0, currentFilename.length() - largestSuffix.length());
+        return AvatarImageProcessor.SIZES.stream().anyMatch(size -> filename.equals(stem + "-" + size + ".jpg"));
+    }
+
+    private static String avatarFilename(String avatarUrl) {
+        if (avatarUrl == null || avatarUrl.isBlank()) return null;
+        return avatarUrl.substring(avatarUrl.lastIndexOf('/') + 1);
+    }
+
+    private String variantFilename(String hash, int size) {
+        return "avatar-" + hash + "-" + size + ".jpg";
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (Exception ignored) {
+            // não quebra o fluxo
+        }
     }
 
     /**
-     * Remove qualquer arquivo "avatar.*" dentro da pasta do usuário.
+     * Remove os arquivos "avatar*" da pasta do usuário (original antigo e variantes), exceto os informados.
      * Mantém a regra simples: 1 avatar por usuário.
      */
-    private void deleteUserAvatarFiles(Path userDir) {
+    private void deleteUserAvatarFiles(Path userDir, Collection<Path> keep) {
         try {
             if (!Files.exists(userDir) || !Files.isDirectory(userDir)) return;
 
-            try (DirectoryStream<Path> stream = Files.newDirectoryStream(userDir, "avatar.*")) {
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(userDir, "avatar*")) {
                 for (Path p : stream) {
-                    try {
-                        Files.deleteIfExists(p);
-                    } catch (Exception ignored) {
-                        // não quebra o fluxo
+                    if (!keep.contains(p)) {
+                        deleteQuietly(p);
                     }
                 }
             }
@@ -0,0 +1,121 @@
+package br.com.vounovolei.api.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * PasswordEncoder que executa os hashes (cada BCrypt custa dezenas de ms de CPU) num pool próprio com
+ * fila limitada. No máximo workers + fila threads do Tomcat ficam esperando hash; as demais seguem
+ * livres para leituras baratas. Com a fila cheia a chamada é recusada na hora com 429 (AUTH_BUSY).
+ * Métricas: auth.password.hashes{result=computed|rejected}, auth.password.hashing.active,
+ * auth.password.hashing.queue e auth.password.hashing.wait (tempo na fila).
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final Counter computed;
+    private final Counter rejected;
+    private final Timer queueWait;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int workers, int queueCapacity, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+
+        int poolSize = Math.max(1, workers);
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                task -> {
+                    Thread thread = new Thread(task, "password-hash-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        this.computed = meterRegistry.counter("auth.password.hashes", "result", "computed");
+        this.rejected = meterRegistry.counter("auth.password.hashes", "result", "rejected");
+        this.queueWait = meterRegistry.timer("auth.password.hashing.wait");
+        Gauge.builder("auth.password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+        Gauge.builder("auth.password.hashing.queue", executor, pool -> pool.getQueue().size())
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return onHashingPool(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return onHashingPool(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    // só inspeciona o prefixo/custo do hash, sem BCrypt
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    int activeCount() {
+        return executor.getActiveCount();
+    }
+
+    int queuedCount() {
+        return executor.getQueue().size();
+    }
+
+    private <T> T onHashingPool(Supplier<T> hashing) {
+        long submittedAt = System.nanoTime();
+        Future<T> result;
+        try {
+            result = executor.submit(() -> {
+                queueWait.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                computed.increment();
+                return hashing.get();
+            });
+        } catch (RejectedExecutionException ex) {
+            rejected.increment();
+            throw new RateLimitExceededException(
+                    "AUTH_BUSY",
+                    "Muitas verificações de senha em andamento. Tente novamente em instantes.",
+                    1L
+            );
+        }
+
+        try {
+            return result.get();
+        } catch (InterruptedException ex) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("PASSWORD_HASH_INTERRUPTED", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("PASSWORD_HASH_FAILED", ex.getCause());
+        }
+    }
+}
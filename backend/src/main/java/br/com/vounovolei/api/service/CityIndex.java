@@ -0,0 +1,203 @@
+package br.com.vounovolei.api.service;
+
+import br.com.vounovolei.api.controller.city.dto.CityResponse;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Municípios do IBGE (geo/br-municipalities.csv) carregados uma vez na subida em arrays ordenados
+ * pelo nome sem acento: a busca por prefixo é uma busca binária seguida de varredura curta.
+ * Também casa o início de qualquer palavra do nome ("janeiro" encontra "Rio de Janeiro").
+ * As coordenadas do mesmo arquivo semeiam o GeoLocationService.
+ */
+@Component
+public class CityIndex {
+
+    static final String DATASET_RESOURCE = "geo/br-municipalities.csv";
+
+    public static final int DEFAULT_LIMIT = 12;
+    private static final int MAX_LIMIT = 50;
+
+    // "sao paulo - sp": o rótulo exibido no campo também é aceito como busca
+    private static final Pattern LABEL_WITH_STATE = Pattern.compile("^(.*?)\\s*-\\s*([a-z]{2})$");
+
+    // cidades ordenadas pelo nome normalizado; names[i] é o nome normalizado de cities[i]
+    private final CityResponse[] cities;
+    private final String[] names;
+
+    // sufixos do nome a partir da 2ª, 3ª... palavra, ordenados; wordCities[i] aponta para cities
+    private final String[] wordKeys;
+    private final int[] wordCities;
+
+    private final Map<String, CityResponse> byNameAndState = new HashMap<>();
+
+    // linhas do dataset que trazem latitude/longitude
+    private final List<DatasetLocation> datasetLocations = new ArrayList<>();
+
+    public CityIndex() {
+        List<CityResponse> loaded = readDataset();
+        loaded.sort(Comparator.comparing((CityResponse city) -> normalize(city.name())).thenComparing(CityResponse::state));
+
+        cities = loaded.toArray(CityResponse[]::new);
+        names = new String[cities.length];
+        List<WordKey> words = new ArrayList<>();
+        for (int index = 0; index < cities.length; index++) {
+            String name = normalize(cities[index].name());
+            names[index] = name;
+            byNameAndState.put(name + "|" + cities[index].state(), cities[index]);
+
+            for (int space = name.indexOf(' '); space >= 0; space = name.indexOf(' ', space + 1)) {
+                words.add(new WordKey(name.substring(space + 1), index));
+            }
+        }
+
+        words.sort(Comparator.comparing(WordKey::key).thenComparingInt(WordKey::cityIndex));
+        wordKeys = new String[words.size()];
+        wordCities = new int[words.size()];
+        for (int index = 0; index < words.size(); index++) {
+            wordKeys[index] = words.get(index).key();
+            wordCities[index] = words.get(index).cityIndex();
+        }
+    }
+
+    /**
+     * Municípios cujo nome (ou alguma palavra dele) começa com q, sem diferenciar acento/maiúscula.
+     * Primeiro os que casam pelo início do nome, em ordem alfabética. q vazio lista em ordem alfabética.
+     */
+    public List<CityResponse> search(String q, String state, Integer limit) {
+        int max = limit == null ? DEFAULT_LIMIT : Math.max(1, Math.min(limit, MAX_LIMIT));
+        String query = normalize(q);
+        String uf = isBlank(state) ? null : state.trim().toUpperCase(Locale.ROOT);
+
+        Matcher label = LABEL_WITH_STATE.matcher(query);
+        if (uf == null && label.matches()) {
+            query = label.group(1);
+            uf = label.group(2).toUpperCase(Locale.ROOT);
+        }
+
+        List<CityResponse> result = new ArrayList<>(max);
+        BitSet seen = new BitSet(cities.length);
+        collect(names, null, query, uf, max, seen, result);
+        if (!query.isEmpty()) {
+            collect(wordKeys, wordCities, query, uf, max, seen, result);
+        }
+        return result;
+    }
+
+    /**
+     * Município com esse nome e UF (sem diferenciar acento/maiúscula), com a grafia oficial.
+     */
+    public Optional<CityResponse> find(String city, String state) {
+        if (isBlank(city) || isBlank(state)) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(byNameAndState.get(normalize(city) + "|" + state.trim().toUpperCase(Locale.ROOT)));
+    }
+
+    /**
+     * Valida cidade/UF de um evento: município inexistente gera INVALID_CITY (400).
+     */
+    public CityResponse require(String city, String state) {
+        return find(city, state).orElseThrow(() -> new IllegalArgumentException("INVALID_CITY"));
+    }
+
+    /**
+     * Municípios cujas coordenadas vêm no próprio dataset (os demais dependem do geocoder).
+     */
+    List<DatasetLocation> datasetLocations() {
+        return List.copyOf(datasetLocations);
+    }
+
+    private void collect(String[] keys, int[] cityIndexes, String prefix, String uf, int max, BitSet seen, List<CityResponse> result) {
+        for (int index = lowerBound(keys, prefix); index < keys.length && result.size() < max; index++) {
+            if (!keys[index].startsWith(prefix)) {
+                break;
+            }
+
+            int cityIndex = cityIndexes == null ? index : cityIndexes[index];
+            CityResponse city = cities[cityIndex];
+            if ((uf == null || uf.equals(city.state())) && !seen.get(cityIndex)) {
+                seen.set(cityIndex);
+                result.add(city);
+            }
+        }
+    }
+
+    private int lowerBound(String[] keys, String prefix) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (keys[middle].compareTo(prefix) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private List<CityResponse> readDataset() {
+        ClassPathResource resource = new ClassPathResource(DATASET_RESOURCE);
+        List<CityResponse> loaded = new ArrayList<>(5600);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            boolean header = true;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                if (header) {
+                    header = false;
+                    continue;
+                }
+
+                String[] columns = line.split(";", -1);
+                String name = columns[1].trim();
+                String uf = columns[2].trim().toUpperCase(Locale.ROOT);
+                loaded.add(new CityResponse(columns[0].trim(), name, uf, name + " - " + uf));
+
+                if (columns.length >= 5 && !isBlank(columns[3]) && !isBlank(columns[4])) {
+                    datasetLocations.add(new DatasetLocation(
+                            name, uf, Double.parseDouble(columns[3].trim()), Double.parseDouble(columns[4].trim())));
+                }
+            }
+        } catch (IOException ex) {
+            throw new IllegalStateException("Failed to read " + DATASET_RESOURCE, ex);
+        }
+        return loaded;
+    }
+
+    private static String normalize(String value) {
+        if (value == null) return "";
+        return Normalizer.normalize(value, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}+", "")
+                .toLowerCase(Locale.ROOT)
+                .trim()
+                .replaceAll("\\s+", " ");
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+
+    private record WordKey(String key, int cityIndex) {}
+
+    record DatasetLocation(String city, String state, double latitude, double longitude) {}
+}
@@ -0,0 +1,59 @@
+package br.com.vounovolei.api.service;
+
+import br.com.vounovolei.api.controller.event.dto.EventDetailResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Cache em memória do detalhe montado de cada evento (evento + criador + participantes), junto com
+ * o content_version em que foi montado. Limitado por tamanho e TTL; a invalidação é feita pelo
+ * EventVersionService sempre que o evento muda.
+ * Hits, misses e evictions ficam em /actuator/metrics/cache.* com cache=eventDetail.
+ */
+@Component
+public class EventDetailCache {
+
+    private final Cache<Long, Versioned<EventDetailResponse>> cache;
+
+    public EventDetailCache(
+            @Value("${app.cache.event-detail.max-size}") long maxSize,
+            @Value("${app.cache.event-detail.ttl-seconds}") long ttlSeconds,
+            MeterRegistry meterRegistry
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "eventDetail");
+    }
+
+    public Versioned<EventDetailResponse> get(Long eventId, Function<Long, Versioned<EventDetailResponse>> loader) {
+        return cache.get(eventId, loader);
+    }
+
+    public void evict(Long eventId) {
+        evictAll(List.of(eventId));
+    }
+
+    public void evictAll(Collection<Long> eventIds) {
+        if (eventIds.isEmpty()) {
+            return;
+        }
+        cache.invalidateAll(eventIds);
+        // remove de novo após o commit para não manter uma leitura feita antes da transação terminar
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            AfterCommit.run(() -> cache.invalidateAll(eventIds));
+        }
+    }
+}
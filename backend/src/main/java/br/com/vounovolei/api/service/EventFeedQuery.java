@@ -0,0 +1,13 @@
+package br.com.vounovolei.api.service;
+
+import java.time.LocalDateTime;
+
+public record EventFeedQuery(
+        LocalDateTime from,
+        LocalDateTime to,
+        String city,
+        String state,
+        String cursor,
+        Integer limit
+) {
+}
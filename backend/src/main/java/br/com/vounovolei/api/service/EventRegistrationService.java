@@ -2,104 +2,137 @@ package br.com.vounovolei.api.service;
 
 import br.com.vounovolei.api.controller.event.dto.EventDetailResponse;
 import br.com.vounovolei.api.controller.event.dto.EventParticipantResponse;
+import br.com.vounovolei.api.controller.event.dto.EventRosterDelta;
 import br.com.vounovolei.api.domain.event.Event;
-import br.com.vounovolei.api.domain.event.EventRegistration;
-import br.com.vounovolei.api.domain.user.User;
+import br.com.vounovolei.api.domain.event.RegistrationStatus;
 import br.com.vounovolei.api.repository.EventRegistrationRepository;
 import br.com.vounovolei.api.repository.EventRepository;
-import br.com.vounovolei.api.repository.UserRepository;
+import br.com.vounovolei.api.repository.EventRepository.RosterLock;
+import br.com.vounovolei.api.repository.EventWithCreator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class EventRegistrationService {
 
+    private static final int UPSERT_UPDATED = 2;
+
     private final EventRepository eventRepository;
-    private final UserRepository userRepository;
     private final EventRegistrationRepository eventRegistrationRepository;
     private final EventWeatherService eventWeatherService;
-
+    private final EventDetailCache eventDetailCache;
+    private final EventVersionService eventVersionService;
+    private final EventRosterHub eventRosterHub;
+
+    /**
+     * Inscreve o usuário como CONFIRMED se houver vaga, senão entra no fim da fila (WAITLISTED).
+     * A linha do evento fica travada durante a transação, então rajadas de inscrições no mesmo
+     * evento nunca ultrapassam a capacidade. Repetir a inscrição só atualiza o bringBall.
+     */
+    @Transactional
     public void register(Long eventId, Long userId, Boolean bringBall) {
-        if (!eventRepository.existsById(eventId)) {
-            throw new IllegalArgumentException("EVENT_NOT_FOUND");
-        }
+        RosterLock roster = lockRoster(eventId);
+        boolean bringBallValue = Boolean.TRUE.equals(bringBall);
+
+        // um único upsert sob o lock: como o X-lock do evento já é nosso, o S-lock da FK não gera deadlock
+        int affected = eventRegistrationRepository.upsert(eventId, userId, bringBallValue, roster.getCapacity());
+        eventVersionService.touch(eventId);
 
-        if (eventRegistrationRepository.existsByEventIdAndUserId(eventId, userId)) {
+        if (affected == UPSERT_UPDATED) {
+            eventRosterHub.publish(EventRosterDelta.bringBallChanged(eventId, userId, bringBallValue));
             return;
         }
 
-        boolean bringBallValue = Boolean.TRUE.equals(bringBall);
+        // inserido ou repetido (o MySQL não diferencia): o cliente trata JOINED de forma idempotente.
+        // O participante completo (nome/avatar) só é montado se alguém estiver ouvindo.
+        if (eventRosterHub.hasSubscribers(eventId)) {
+            eventRegistrationRepository.findParticipant(eventId, userId)
+                    .map(participant -> participant.status() == RegistrationStatus.WAITLISTED
+                            ? participant.withWaitlistPosition(Math.toIntExact(
+                                    eventRegistrationRepository.waitlistPosition(eventId, userId)))
+                            : participant)
+                    .ifPresent(participant -> eventRosterHub.publish(EventRosterDelta.joined(eventId, participant)));
+        }
+    }
 
-        EventRegistration reg = EventRegistration.builder()
-                .eventId(eventId)
-                .userId(userId)
-                .bringBall(bringBallValue)
-                .registeredAt(Instant.now())
-                .build();
+    /**
+     * Remove a inscrição; se ela ocupava uma vaga, o primeiro da fila (ordem de inscrição) é promovido.
+     */
+    @Transactional
+    public void unregister(Long eventId, Long userId) {
+        RosterLock roster = eventRepository.lockRosterById(eventId).orElse(null);
+        if (roster == null) {
+            return;
+        }
+        if (eventRegistrationRepository.deleteByEventIdAndUserId(eventId, userId) == 0) {
+            return;
+        }
 
-        eventRegistrationRepository.save(reg);
+        eventRosterHub.publish(EventRosterDelta.left(eventId, userId));
+        // se quem saiu estava na fila, nenhuma vaga abre e nada é promovido
+        promoteFromWaitlist(eventId, roster.getCapacity());
+        eventVersionService.touch(eventId);
     }
 
-    public void unregister(Long eventId, Long userId) {
+    /**
+     * Chamado quando a capacidade do evento muda: ocupa as novas vagas com a fila.
+     * Reduzir a capacidade não rebaixa quem já estava confirmado.
+     */
+    @Transactional
+    public void fillOpenSpots(Long eventId) {
+        RosterLock roster = lockRoster(eventId);
+        if (promoteFromWaitlist(eventId, roster.getCapacity()) > 0) {
+            eventVersionService.touch(eventId);
+        }
+    }
+
+    public List<EventParticipantResponse> listParticipants(Long eventId) {
         if (!eventRepository.existsById(eventId)) {
             throw new IllegalArgumentException("EVENT_NOT_FOUND");
         }
 
-        eventRegistrationRepository.findByEventIdAndUserId(eventId, userId)
-                .ifPresent(eventRegistrationRepository::delete);
+        return withWaitlistPositions(eventRegistrationRepository.findParticipantsByEventId(eventId));
     }
 
-    public List<EventParticipantResponse> listParticipants(Long eventId) {
+    public SseEmitter subscribe(Long eventId, Instant notAfter) {
         if (!eventRepository.existsById(eventId)) {
             throw new IllegalArgumentException("EVENT_NOT_FOUND");
         }
 
-        List<EventRegistration> regs = eventRegistrationRepository.findAllByEventId(eventId);
-        List<Long> userIds = regs.stream().map(EventRegistration::getUserId).toList();
-
-        List<User> users = userRepository.findAllById(userIds);
-        Map<Long, User> usersById = users.stream().collect(Collectors.toMap(User::getId, u -> u));
-
-        Map<Long, Boolean> bringBallByUserId = regs.stream()
-                .collect(Collectors.toMap(
-                        EventRegistration::getUserId,
-                        r -> Boolean.TRUE.equals(r.getBringBall()),
-                        (a, b) -> a
-                ));
-
-        return regs.stream()
-                .map(r -> usersById.get(r.getUserId()))
-                .filter(u -> u != null)
-                .map(u -> new EventParticipantResponse(
-                        u.getId(),
-                        u.getName(),
-                        u.getEmail(),
-                        u.getAvatarUrl(),
-                        Boolean.TRUE.equals(bringBallByUserId.get(u.getId()))
-                ))
-                .toList();
+        return eventRosterHub.subscribe(eventId, notAfter);
     }
 
     public EventDetailResponse detailWithParticipants(Long eventId) {
-        Event event = eventRepository.findById(eventId)
-                .orElseThrow(() -> new IllegalArgumentException("EVENT_NOT_FOUND"));
+        return versionedDetailWithParticipants(eventId).body();
+    }
+
+    public Versioned<EventDetailResponse> versionedDetailWithParticipants(Long eventId) {
+        return eventDetailCache.get(eventId, this::loadDetailWithParticipants);
+    }
 
-        String createdByName = event.getCreatedByUserId() == null
-                ? null
-                : userRepository.findById(event.getCreatedByUserId())
-                        .map(User::getName)
-                        .orElse(null);
+    // a versão é lida antes do conteúdo: o ETag nunca fica mais novo que o corpo
+    private Versioned<EventDetailResponse> loadDetailWithParticipants(Long eventId) {
+        long version = eventVersionService.currentVersion(eventId)
+                .orElseThrow(() -> new IllegalArgumentException("EVENT_NOT_FOUND"));
+        EventWithCreator row = eventRepository.findWithCreatorById(eventId)
+                .orElseThrow(() -> new IllegalArgumentException("EVENT_NOT_FOUND"));
+        Event event = row.event();
 
-        List<EventParticipantResponse> participants = listParticipants(eventId);
-        long count = participants.size();
+        List<EventParticipantResponse> participants =
+                withWaitlistPositions(eventRegistrationRepository.findParticipantsByEventId(eventId));
+        long waitlisted = participants.stream()
+                .filter(participant -> participant.status() == RegistrationStatus.WAITLISTED)
+                .count();
 
-        return new EventDetailResponse(
+        return new Versioned<>(version, new EventDetailResponse(
                 event.getId(),
                 event.getTitle(),
                 event.getEventDateTime(),
@@ -108,10 +141,50 @@ public class EventRegistrationService {
                 event.getState(),
                 eventWeatherService.fromStoredWeather(event),
                 event.getDescription(),
+                event.getCapacity(),
                 event.getCreatedByUserId(),
-                createdByName,
-                count,
+                row.createdByName(),
+                participants.size() - waitlisted,
+                waitlisted,
                 participants
-        );
+        ));
+    }
+
+    private RosterLock lockRoster(Long eventId) {
+        return eventRepository.lockRosterById(eventId)
+                .orElseThrow(() -> new IllegalArgumentException("EVENT_NOT_FOUND"));
+    }
+
+    // exige a linha do evento travada (lockRoster) na transação atual: vagas contadas uma vez, fila promovida em lote
+    private int promoteFromWaitlist(Long eventId, Integer capacity) {
+        Limit openSpots = Limit.unlimited();
+        if (capacity != null) {
+            long open = capacity - eventRegistrationRepository.countByEventIdAndStatus(eventId, RegistrationStatus.CONFIRMED);
+            if (open <= 0) {
+                return 0;
+            }
+            openSpots = Limit.of(Math.toIntExact(open));
+        }
+
+        List<Long> promoted = eventRegistrationRepository.findWaitlistedUserIds(eventId, openSpots);
+        if (promoted.isEmpty()) {
+            return 0;
+        }
+
+        eventRegistrationRepository.confirm(eventId, promoted);
+        promoted.forEach(userId -> eventRosterHub.publish(EventRosterDelta.promoted(eventId, userId)));
+        return promoted.size();
+    }
+
+    // participantes vêm em ordem de inscrição, que é a ordem da fila
+    private List<EventParticipantResponse> withWaitlistPositions(List<EventParticipantResponse> participants) {
+        List<EventParticipantResponse> result = new ArrayList<>(participants.size());
+        int position = 0;
+        for (EventParticipantResponse participant : participants) {
+            result.add(participant.status() == RegistrationStatus.WAITLISTED
+                    ? participant.withWaitlistPosition(++position)
+                    : participant);
+        }
+        return result;
     }
 }
@@ -0,0 +1,191 @@
+package br.com.vounovolei.api.service;
+
+import br.com.vounovolei.api.controller.event.dto.EventRosterDelta;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Distribui as mudanças de elenco/clima de um evento para quem está com a página aberta (SSE).
+ * Os SseEmitter são assíncronos, então nenhum inscrito segura uma thread do Tomcat: os envios
+ * passam por um pool pequeno e compartilhado. Cada inscrito tem uma fila limitada; quem não
+ * consome (cliente lento ou conexão morta) é desconectado em vez de acumular mensagens.
+ */
+@Component
+@Slf4j
+public class EventRosterHub {
+
+    private static final long MAX_EMITTER_TIMEOUT_MS = Duration.ofMinutes(30).toMillis();
+    private static final int MAX_PENDING_PER_SUBSCRIBER = 32;
+    private static final int SENDER_THREADS = 4;
+    private static final int SENDER_QUEUE_CAPACITY = 10_000;
+
+    private final Map<Long, Set<Subscriber>> subscribersByEvent = new ConcurrentHashMap<>();
+
+    private final ThreadPoolExecutor sender = new ThreadPoolExecutor(
+            SENDER_THREADS,
+            SENDER_THREADS,
+            60,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(SENDER_QUEUE_CAPACITY),
+            runnable -> {
+                Thread thread = new Thread(runnable, "event-roster-sse");
+                thread.setDaemon(true);
+                return thread;
+            }
+    );
+
+    /**
+     * Inscreve no evento até notAfter (expiração do token que abriu a conexão), no máximo 30 minutos.
+     * O dispatch assíncrono não passa pelo filtro JWT, então é esse prazo que impede um stream de seguir
+     * aberto com token vencido; ao fim dele o stream é encerrado normalmente e o cliente reconecta.
+     */
+    public SseEmitter subscribe(Long eventId, Instant notAfter) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis(notAfter, Instant.now()));
+        Subscriber subscriber = new Subscriber(eventId, emitter);
+
+        subscribersByEvent.computeIfAbsent(eventId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> drop(subscriber));
+        emitter.onError(ex -> remove(subscriber));
+
+        // confirma a conexão para o cliente (e para proxies que esperam o primeiro byte)
+        enqueue(subscriber, SseEmitter.event().comment("connected"));
+        return emitter;
+    }
+
+    static long emitterTimeoutMillis(Instant notAfter, Instant now) {
+        if (notAfter == null) {
+            return MAX_EMITTER_TIMEOUT_MS;
+        }
+        // 0 no SseEmitter seria "sem timeout"
+        return Math.max(1, Math.min(MAX_EMITTER_TIMEOUT_MS, Duration.between(now, notAfter).toMillis()));
+    }
+
+    public boolean hasSubscribers(Long eventId) {
+        Set<Subscriber> subscribers = subscribersByEvent.get(eventId);
+        return subscribers != null && !subscribers.isEmpty();
+    }
+
+    /**
+     * Publica após o commit da transação atual (se houver), para nunca anunciar algo que sofreu rollback.
+     */
+    public void publish(EventRosterDelta delta) {
+        if (!hasSubscribers(delta.eventId())) {
+            return;
+        }
+        AfterCommit.run(() -> broadcast(delta));
+    }
+
+    @Scheduled(fixedDelay = 20_000)
+    public void heartbeat() {
+        subscribersByEvent.values().forEach(subscribers ->
+                subscribers.forEach(subscriber -> enqueue(subscriber, SseEmitter.event().comment("hb"))));
+    }
+
+    public int subscriberCount() {
+        return subscribersByEvent.values().stream().mapToInt(Set::size).sum();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        subscribersByEvent.values().forEach(subscribers -> subscribers.forEach(s -> s.emitter().complete()));
+        sender.shutdownNow();
+    }
+
+    private void broadcast(EventRosterDelta delta) {
+        Set<Subscriber> subscribers = subscribersByEvent.get(delta.eventId());
+        if (subscribers == null) {
+            return;
+        }
+
+        for (Subscriber subscriber : subscribers) {
+            enqueue(subscriber, SseEmitter.event()
+                    .name(delta.type())
+                    .data(delta, MediaType.APPLICATION_JSON));
+        }
+    }
+
+    private void enqueue(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        if (!subscriber.pending().offer(event)) {
+            log.debug("Dropping slow SSE subscriber for event {}", subscriber.eventId());
+            drop(subscriber);
+            return;
+        }
+
+        if (subscriber.draining().compareAndSet(false, true)) {
+            try {
+                sender.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException ex) {
+                drop(subscriber);
+            }
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            SseEmitter.SseEventBuilder event;
+            while ((event = subscriber.pending().poll()) != null) {
+                subscriber.emitter().send(event);
+            }
+        } catch (Exception ex) {
+            drop(subscriber);
+            return;
+        } finally {
+            subscriber.draining().set(false);
+        }
+
+        // algo pode ter entrado entre o último poll e a liberação da flag
+        if (!subscriber.pending().isEmpty() && subscriber.draining().compareAndSet(false, true)) {
+            try {
+                sender.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException ex) {
+                drop(subscriber);
+            }
+        }
+    }
+
+    private void drop(Subscriber subscriber) {
+        remove(subscriber);
+        subscriber.pending().clear();
+        try {
+            subscriber.emitter().complete();
+        } catch (Exception ignored) {
+            // conexão já encerrada
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscribersByEvent.computeIfPresent(subscriber.eventId(), (id, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    private record Subscriber(
+            Long eventId,
+            SseEmitter emitter,
+            Queue<SseEmitter.SseEventBuilder> pending,
+            AtomicBoolean draining
+    ) {
+        Subscriber(Long eventId, SseEmitter emitter) {
+            this(eventId, emitter, new ArrayBlockingQueue<>(MAX_PENDING_PER_SUBSCRIBER), new AtomicBoolean(false));
+        }
+    }
+}
@@ -1,27 +1,52 @@
 package br.com.vounovolei.api.service;
 
+import br.com.vounovolei.api.controller.city.dto.CityResponse;
 import br.com.vounovolei.api.controller.event.dto.CreateEventRequest;
+import br.com.vounovolei.api.controller.event.dto.EventPageResponse;
 import br.com.vounovolei.api.controller.event.dto.EventResponse;
+import br.com.vounovolei.api.controller.event.dto.EventSummaryResponse;
 import br.com.vounovolei.api.controller.event.dto.UpdateEventRequest;
 import br.com.vounovolei.api.domain.event.Event;
+import br.com.vounovolei.api.repository.EventRegistrationRepository;
 import br.com.vounovolei.api.repository.EventRepository;
+import br.com.vounovolei.api.repository.EventWithCreator;
 import br.com.vounovolei.api.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class EventService {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    // 128 bits do SHA-256 bastam para o ETag do feed
+    private static final int FEED_VERSION_BYTES = 16;
+
     private final EventRepository eventRepository;
     private final UserRepository userRepository;
+    private final EventRegistrationRepository eventRegistrationRepository;
     private final RateLimitService rateLimitService;
     private final EventWeatherService eventWeatherService;
+    private final EventVersionService eventVersionService;
+    private final EventRegistrationService eventRegistrationService;
+    private final CityIndex cityIndex;
 
     @Transactional
     public EventResponse create(CreateEventRequest req, Long createdByUserId, boolean isAdmin) {
@@ -29,36 +54,98 @@ public class EventService {
             rateLimitService.checkCreateEventLimit(createdByUserId);
         }
 
+        CityResponse city = cityIndex.require(req.city(), req.state());
         Event event = Event.builder()
                 .title(req.title().trim())
                 .eventDateTime(req.eventDateTime())
                 .location(req.location().trim())
-                .city(req.city().trim())
-                .state(req.state().trim().toUpperCase())
+                .city(city.name())
+                .state(city.state())
                 .description(req.description())
+                .capacity(req.capacity())
                 .createdByUserId(createdByUserId)
                 .createdAt(Instant.now())
                 .updatedAt(Instant.now())
                 .build();
 
         Event saved = eventRepository.save(event);
-        eventWeatherService.refreshWeatherForEvent(saved);
+        eventWeatherService.requestRefresh(saved);
         return toResponse(saved);
     }
 
     @Transactional(readOnly = true)
-    public List<EventResponse> list() {
-        return eventRepository.findAll()
+    public EventPageResponse<EventResponse> list(EventFeedQuery query) {
+        FeedPage page = fetchFeedPage(query);
+
+        List<EventResponse> content = page.rows()
                 .stream()
-                .map(this::toResponse)
+                .map(row -> toResponse(row.event(), row.createdByName()))
                 .toList();
+
+        return new EventPageResponse<>(content, page.nextCursor());
+    }
+
+    /**
+     * Lista os eventos já com contagem de inscritos, flag de inscrição do usuário e nome do criador.
+     * Usa um número fixo de consultas por página (eventos com criador, contagens agrupadas e inscrições
+     * do usuário), independente da quantidade de eventos.
+     */
+    @Transactional(readOnly = true)
+    public EventPageResponse<EventSummaryResponse> listSummaries(EventFeedQuery query, Long userId) {
+        FeedPage page = fetchFeedPage(query);
+        List<EventWithCreator> rows = page.rows();
+        if (rows.isEmpty()) {
+            return new EventPageResponse<>(List.of(), null);
+        }
+
+        List<Long> eventIds = rows.stream().map(row -> row.event().getId()).toList();
+
+        Map<Long, Long> countsByEventId = eventRegistrationRepository.countParticipantsByEventIds(eventIds)
+                .stream()
+                .collect(Collectors.toMap(
+                        EventRegistrationRepository.ParticipantCount::getEventId,
+                        EventRegistrationRepository.ParticipantCount::getTotal
+                ));
+
+        Set<Long> registeredEventIds = userId == null
+                ? Set.of()
+                : new HashSet<>(eventRegistrationRepository.findRegisteredEventIds(userId, eventIds));
+
+        List<EventSummaryResponse> content = rows.stream()
+                .map(row -> toSummaryResponse(
+                        row,
+                        countsByEventId.getOrDefault(row.event().getId(), 0L),
+                        registeredEventIds.contains(row.event().getId())
+                ))
+                .toList();
+
+        return new EventPageResponse<>(content, page.nextCursor());
+    }
+
+    private EventSummaryResponse toSummaryResponse(EventWithCreator row, long participantsCount, boolean registered) {
+        Event event = row.event();
+        return new EventSummaryResponse(
+                event.getId(),
+                event.getTitle(),
+                event.getEventDateTime(),
+                event.getLocation(),
+                event.getCity(),
+                event.getState(),
+                eventWeatherService.fromStoredWeather(event),
+                event.getDescription(),
+                event.getCapacity(),
+                event.getCreatedByUserId(),
+                row.createdByName(),
+                participantsCount,
+                registered
+        );
     }
 
     @Transactional(readOnly = true)
     public EventResponse detail(Long id) {
-        Event event = eventRepository.findById(id)
+        EventWithCreator row = eventRepository.findWithCreatorById(id)
                 .orElseThrow(() -> new IllegalArgumentException("EVENT_NOT_FOUND"));
-        return toResponse(event);
+        return toResponse(row.event(), row.createdByName());
     }
 
     @Transactional
@@ -71,19 +158,26 @@ public class EventService {
             throw new AccessDeniedException("FORBIDDEN");
         }
 
-        boolean weatherRelevantChange = isWeatherRelevantChange(event, req);
+        CityResponse city = cityIndex.require(req.city(), req.state());
+        boolean weatherRelevantChange = isWeatherRelevantChange(event, city, req.eventDateTime());
+        boolean capacityChanged = !Objects.equals(event.getCapacity(), req.capacity());
 
         event.setTitle(req.title().trim());
         event.setEventDateTime(req.eventDateTime());
         event.setLocation(req.location().trim());
-        event.setCity(req.city().trim());
-        event.setState(req.state().trim().toUpperCase());
+        event.setCity(city.name());
+        event.setState(city.state());
         event.setDescription(req.description());
+        event.setCapacity(req.capacity());
         event.setUpdatedAt(Instant.now());
 
         Event saved = eventRepository.save(event);
+        eventVersionService.touch(saved.getId());
+        if (capacityChanged) {
+            eventRegistrationService.fillOpenSpots(saved.getId());
+        }
         if (weatherRelevantChange) {
-            eventWeatherService.refreshWeatherForEvent(saved);
+            eventWeatherService.requestRefresh(saved);
         }
         return toResponse(saved);
     }
@@ -98,6 +192,97 @@ public class EventService {
         }
 
         eventRepository.delete(event);
+        eventVersionService.touch(id);
+    }
+
+    /**
+     * Busca uma página do feed por keyset em (event_date_time, id), já com o nome do criador,
+     * usando idx_events_event_date_time e, com filtro de cidade/UF, idx_events_city_state.
+     * Sem "from", lista só eventos futuros.
+     */
+    private FeedPage fetchFeedPage(EventFeedQuery query) {
+        FeedParams params = resolveFeedParams(query);
+
+        // busca um a mais para saber se existe próxima página
+        List<EventWithCreator> rows = eventRepository.findFeedPage(
+                params.from(),
+                params.to(),
+                params.city(),
+                params.state(),
+                params.afterDateTime(),
+                params.afterId(),
+                Limit.of(params.limit() + 1)
+        );
+
+        if (rows.size() <= params.limit()) {
+            return new FeedPage(rows, null);
+        }
+
+        List<EventWithCreator> page = rows.subList(0, params.limit());
+        Event last = page.get(page.size() - 1).event();
+        return new FeedPage(page, new EventFeedCursor(last.getEventDateTime(), last.getId()).encode());
+    }
+
+    /**
+     * Assinatura da página do feed, calculada sem montar a resposta: hash da lista ordenada de
+     * (id, content_version), que muda se um evento entra, sai ou é alterado na página.
+     */
+    @Transactional(readOnly = true)
+    public String feedVersion(EventFeedQuery query) {
+        FeedParams params = resolveFeedParams(query);
+        List<EventRepository.FeedVersionRow> rows = eventRepository.findFeedVersionRows(
+                params.from(),
+                params.to(),
+                params.city(),
+                params.state(),
+                params.afterDateTime(),
+                params.afterId(),
+                params.limit() + 1
+        );
+
+        MessageDigest digest = sha256();
+        for (EventRepository.FeedVersionRow row : rows) {
+            digest.update((row.getId() + ":" + row.getContentVersion() + ";").getBytes(StandardCharsets.UTF_8));
+        }
+        return HexFormat.of().formatHex(digest.digest(), 0, FEED_VERSION_BYTES);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private FeedParams resolveFeedParams(EventFeedQuery query) {
+        LocalDateTime from = query.from() != null
+                ? query.from()
+                : LocalDateTime.now(EventWeatherService.WEATHER_ZONE);
+
+        String state = trimToNull(query.state());
+        String cursor = trimToNull(query.cursor());
+        EventFeedCursor position = cursor == null ? null : EventFeedCursor.decode(cursor);
+
+        return new FeedParams(
+                from,
+                query.to(),
+                trimToNull(query.city()),
+                state == null ? null : state.toUpperCase(),
+                position == null ? null : position.eventDateTime(),
+                position == null ? null : position.id(),
+                resolveLimit(query.limit())
+        );
+    }
+
+    private int resolveLimit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("INVALID_LIMIT");
+        }
+        return Math.min(limit, MAX_PAGE_SIZE);
     }
 
     private EventResponse toResponse(Event event) {
@@ -107,6 +292,10 @@ public class EventService {
                         .map(user -> user.getName())
                         .orElse(null);
 
+        return toResponse(event, createdByName);
+    }
+
+    private EventResponse toResponse(Event event, String createdByName) {
         return new EventResponse(
                 event.getId(),
                 event.getTitle(),
@@ -116,20 +305,34 @@ public class EventService {
                 event.getState(),
                 eventWeatherService.fromStoredWeather(event),
                 event.getDescription(),
+                event.getCapacity(),
                 event.getCreatedByUserId(),
                 createdByName
         );
     }
 
-    private boolean isWeatherRelevantChange(Event event, UpdateEventRequest req) {
-        return !normalize(event.getCity()).equals(normalize(req.city()))
-                || !normalize(event.getState()).equals(normalize(req.state()).toUpperCase())
-                || (event.getEventDateTime() == null
-                ? req.eventDateTime() != null
-                : !event.getEventDateTime().equals(req.eventDateTime()));
+    // compara com a grafia oficial já resolvida: "sao paulo" e "São Paulo" são a mesma cidade
+    private boolean isWeatherRelevantChange(Event event, CityResponse city, LocalDateTime eventDateTime) {
+        return !city.name().equals(event.getCity())
+                || !city.state().equals(event.getState())
+                || !Objects.equals(event.getEventDateTime(), eventDateTime);
     }
 
-    private String normalize(String value) {
-        return value == null ? "" : value.trim();
+    private String trimToNull(String value) {
+        if (value == null) return null;
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
     }
+
+    private record FeedParams(
+            LocalDateTime from,
+            LocalDateTime to,
+            String city,
+            String state,
+            LocalDateTime afterDateTime,
+            Long afterId,
+            int limit
+    ) {}
+
+    private record FeedPage(List<EventWithCreator> rows, String nextCursor) {}
 }
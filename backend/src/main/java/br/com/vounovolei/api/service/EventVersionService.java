@@ -0,0 +1,58 @@
+package br.com.vounovolei.api.service;
+
+import br.com.vounovolei.api.repository.EventRegistrationRepository;
+import br.com.vounovolei.api.repository.EventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Controla o content_version dos eventos: toda mudança visível em uma resposta de evento
+ * (dados, clima, inscrições, perfil de criador/participante) incrementa a versão e invalida o
+ * detalhe em cache. Os ETags de /events são derivados dessa versão.
+ */
+@Service
+@RequiredArgsConstructor
+public class EventVersionService {
+
+    private static final int UPDATE_CHUNK_SIZE = 500;
+
+    private final EventRepository eventRepository;
+    private final EventRegistrationRepository eventRegistrationRepository;
+    private final EventDetailCache eventDetailCache;
+
+    public Optional<Long> currentVersion(Long eventId) {
+        return eventRepository.findContentVersionById(eventId);
+    }
+
+    public void touch(Long eventId) {
+        touchAll(List.of(eventId));
+    }
+
+    public void touchAll(Collection<Long> eventIds) {
+        if (eventIds.isEmpty()) {
+            return;
+        }
+
+        List<Long> ids = new ArrayList<>(eventIds);
+        for (int start = 0; start < ids.size(); start += UPDATE_CHUNK_SIZE) {
+            eventRepository.incrementContentVersion(ids.subList(start, Math.min(start + UPDATE_CHUNK_SIZE, ids.size())));
+        }
+        eventDetailCache.evictAll(ids);
+    }
+
+    /**
+     * Nome, e-mail ou avatar do usuário mudou: afeta os eventos que ele criou ou em que está inscrito.
+     */
+    public void touchUser(Long userId) {
+        Set<Long> eventIds = new LinkedHashSet<>(eventRegistrationRepository.findEventIdsByUserId(userId));
+        eventIds.addAll(eventRepository.findIdsByCreatedByUserId(userId));
+        touchAll(eventIds);
+    }
+}
@@ -0,0 +1,78 @@
+package br.com.vounovolei.api.service;
+
+import br.com.vounovolei.api.config.WeatherProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fila das buscas de previsão disparadas por criação/edição de evento. Só recebe o pedido depois do
+ * commit, então a requisição do usuário não espera o Open-Meteo. Pedidos repetidos para um evento
+ * ainda na fila são agrupados; com a fila cheia o pedido é descartado e a atualização agendada cobre.
+ */
+@Component
+@Slf4j
+class EventWeatherJobs {
+
+    private final EventWeatherService eventWeatherService;
+    private final ThreadPoolExecutor executor;
+    private final Set<Long> queued = ConcurrentHashMap.newKeySet();
+
+    EventWeatherJobs(EventWeatherService eventWeatherService, WeatherProperties properties) {
+        this.eventWeatherService = eventWeatherService;
+
+        int workers = Math.max(1, properties.getJobWorkers());
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                workers,
+                workers,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, properties.getJobQueueCapacity())),
+                task -> {
+                    Thread thread = new Thread(task, "weather-job-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onWeatherRequested(EventWeatherRequested request) {
+        Long eventId = request.eventId();
+        if (!queued.add(eventId)) {
+            return;
+        }
+
+        try {
+            executor.execute(() -> {
+                // sai da fila antes de buscar: uma edição durante a busca agenda outra rodada
+                queued.remove(eventId);
+                try {
+                    eventWeatherService.refreshWeatherForEventId(eventId);
+                } catch (RuntimeException ex) {
+                    log.warn("Weather job failed for eventId={}", eventId, ex);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            queued.remove(eventId);
+            log.warn("Weather job queue full; eventId={} left for the scheduled refresh", eventId);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,7 @@
+package br.com.vounovolei.api.service;
+
+/**
+ * Evento criado ou com data/local alterados: a previsão deve ser buscada depois do commit.
+ */
+record EventWeatherRequested(Long eventId) {
+}
@@ -15,6 +15,11 @@ public class EventWeatherScheduler {
     @Scheduled(cron = "0 0 6,18 * * *", zone = "America/Sao_Paulo")
     public void refreshUpcomingEventWeather() {
         log.info("Refreshing weather for current and future events");
-        eventWeatherService.refreshWeatherForUpcomingEvents();
+        WeatherRefreshReport report = eventWeatherService.refreshWeatherForUpcomingEvents();
+        log.info("Weather refresh done: scanned={} written={} locations={} forecastCalls={} "
+                        + "totalMs={} readMs={} fetchMs={} writeMs={} connectionHeldMs={}",
+                report.scanned(), report.written(), report.locations(), report.forecastCalls(),
+                report.totalMillis(), report.readMillis(), report.fetchMillis(), report.writeMillis(),
+                report.connectionHeldMillis());
     }
 }
@@ -1,109 +1,206 @@
 package br.com.vounovolei.api.service;
 
+import br.com.vounovolei.api.config.WeatherProperties;
+import br.com.vounovolei.api.controller.event.dto.EventRosterDelta;
 import br.com.vounovolei.api.controller.event.dto.EventWeatherResponse;
 import br.com.vounovolei.api.domain.event.Event;
 import br.com.vounovolei.api.repository.EventRepository;
 import com.fasterxml.jackson.annotation.JsonProperty;
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.client.RestClient;
 
-import java.text.Normalizer;
+import java.net.URI;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
-
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Previsão do tempo dos eventos (Open-Meteo). A atualização agendada roda em etapas para não segurar
+ * conexão com o banco durante as chamadas HTTP: leitura curta dos eventos futuros, busca concorrente
+ * (limitada por parallelism e por intervalo mínimo por host) e gravação em lotes curtos apenas dos
+ * eventos cuja previsão mudou.
+ */
 @Service
 @Slf4j
-@RequiredArgsConstructor
 public class EventWeatherService {
 
     static final ZoneId WEATHER_ZONE = ZoneId.of("America/Sao_Paulo");
 
-    private static final String GEOCODING_BASE_URL = "https://geocoding-api.open-meteo.com/v1";
     private static final String FORECAST_BASE_URL = "https://api.open-meteo.com/v1";
+    private static final String FORECAST_HOST = URI.create(FORECAST_BASE_URL).getHost();
     private static final int MAX_FORECAST_DAYS = 16;
 
-    private static final Map<String, String> STATE_NAMES_BY_UF = Map.ofEntries(
-            Map.entry("AC", "Acre"),
-            Map.entry("AL", "Alagoas"),
-            Map.entry("AP", "Amapa"),
-            Map.entry("AM", "Amazonas"),
-            Map.entry("BA", "Bahia"),
-            Map.entry("CE", "Ceara"),
-            Map.entry("DF", "Distrito Federal"),
-            Map.entry("ES", "Espirito Santo"),
-            Map.entry("GO", "Goias"),
-            Map.entry("MA", "Maranhao"),
-            Map.entry("MT", "Mato Grosso"),
-            Map.entry("MS", "Mato Grosso do Sul"),
-            Map.entry("MG", "Minas Gerais"),
-            Map.entry("PA", "Para"),
-            Map.entry("PB", "Paraiba"),
-            Map.entry("PR", "Parana"),
-            Map.entry("PE", "Pernambuco"),
-            Map.entry("PI", "Piaui"),
-            Map.entry("RJ", "Rio de Janeiro"),
-            Map.entry("RN", "Rio Grande do Norte"),
-            Map.entry("RS", "Rio Grande do Sul"),
-            Map.entry("RO", "Rondonia"),
-            Map.entry("RR", "Roraima"),
-            Map.entry("SC", "Santa Catarina"),
-            Map.entry("SP", "Sao Paulo"),
-            Map.entry("SE", "Sergipe"),
-            Map.entry("TO", "Tocantins")
-    );
-
     private final EventRepository eventRepository;
+    private final EventVersionService eventVersionService;
+    private final EventRosterHub eventRosterHub;
+    private final GeoLocationService geoLocationService;
+    private final UpstreamClients upstreamClients;
+    private final ForecastCache forecastCache;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final TransactionTemplate readTransaction;
+    private final TransactionTemplate writeTransaction;
+    private final ExecutorService fetchExecutor;
+    private final int writeBatchSize;
+
+    private final RestClient forecastClient;
+
+    public EventWeatherService(
+            EventRepository eventRepository,
+            EventVersionService eventVersionService,
+            EventRosterHub eventRosterHub,
+            GeoLocationService geoLocationService,
+            UpstreamClients upstreamClients,
+            ForecastCache forecastCache,
+            ApplicationEventPublisher applicationEventPublisher,
+            PlatformTransactionManager transactionManager,
+            WeatherProperties properties
+    ) {
+        this.eventRepository = eventRepository;
+        this.eventVersionService = eventVersionService;
+        this.eventRosterHub = eventRosterHub;
+        this.geoLocationService = geoLocationService;
+        this.upstreamClients = upstreamClients;
+        this.forecastCache = forecastCache;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.forecastClient = upstreamClients.create(FORECAST_BASE_URL);
+
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.fetchExecutor = Executors.newFixedThreadPool(Math.max(1, properties.getRefreshParallelism()), task -> {
+            Thread thread = new Thread(task, "weather-fetch-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.writeBatchSize = Math.max(1, properties.getWriteBatchSize());
+    }
 
-    private final RestClient geocodingClient = RestClient.builder()
-            .baseUrl(GEOCODING_BASE_URL)
-            .build();
-
-    private final RestClient forecastClient = RestClient.builder()
-            .baseUrl(FORECAST_BASE_URL)
-            .build();
-
-    private final Map<String, GeoLocation> geoCache = new ConcurrentHashMap<>();
+    @PreDestroy
+    void shutdown() {
+        fetchExecutor.shutdownNow();
+    }
 
+    /**
+     * Criação/edição: grava a previsão como pendente (a resposta sai na hora) e agenda a busca para
+     * depois do commit. Fora da janela de previsão ou sem cidade/UF já fica indisponível, sem busca.
+     */
     @Transactional
-    public void refreshWeatherForEvent(Event event) {
-        applyWeather(event, fetchWeather(event.getEventDateTime(), event.getCity(), event.getState()));
+    public void requestRefresh(Event event) {
+        WeatherTarget target = WeatherTarget.of(event);
+        boolean fetchable = target.date() != null && !isBlank(target.city()) && !isBlank(target.state())
+                && isInForecastWindow(target.date(), LocalDate.now(WEATHER_ZONE));
+
+        applyWeather(event, fetchable ? pending(target.date()) : unavailable(target.date()));
         eventRepository.save(event);
+        eventVersionService.touch(event.getId());
+        publishWeather(event);
+
+        if (fetchable) {
+            applicationEventPublisher.publishEvent(new EventWeatherRequested(event.getId()));
+        }
     }
 
-    @Transactional
-    public void refreshWeatherForUpcomingEvents() {
-        LocalDate today = LocalDate.now(WEATHER_ZONE);
-        List<Event> events = eventRepository.findByEventDateTimeGreaterThanEqualOrderByEventDateTimeAsc(today.atStartOfDay());
-        if (events.isEmpty()) {
+    /**
+     * Executado pela fila (EventWeatherJobs): leitura curta, busca sem transação, gravação curta.
+     */
+    public void refreshWeatherForEventId(Long eventId) {
+        WeatherTarget target = readTransaction.execute(status -> eventRepository.findById(eventId)
+                .map(WeatherTarget::of)
+                .orElse(null));
+        if (target == null) {
             return;
         }
 
-        Map<WeatherLookupKey, EventWeatherResponse> weatherByKey = new HashMap<>();
-        List<Event> changedEvents = new ArrayList<>();
+        EventWeatherResponse weather = fetchWeather(target);
+        writeTransaction.executeWithoutResult(status -> writeChangedWeather(List.of(target), Map.of(target, weather)));
+    }
 
-        for (Event event : events) {
-            WeatherLookupKey key = WeatherLookupKey.from(event);
-            EventWeatherResponse weather = weatherByKey.computeIfAbsent(
-                    key,
-                    ignored -> fetchWeather(event.getEventDateTime(), event.getCity(), event.getState())
-            );
-            applyWeather(event, weather);
-            changedEvents.add(event);
-        }
+    /**
+     * Sem transação própria: cada etapa abre a sua. Uma chamada de previsão por localização (do primeiro
+     * ao último dia com jogo ali), distribuída depois para os eventos da mesma localização.
+     */
+    public WeatherRefreshReport refreshWeatherForUpcomingEvents() {
+        long cycleStart = System.nanoTime();
+        LocalDate today = LocalDate.now(WEATHER_ZONE);
 
-        eventRepository.saveAll(changedEvents);
+        // 1) leitura: só os dados necessários para buscar a previsão
+        long readStart = System.nanoTime();
+        List<WeatherTarget> targets = readTransaction.execute(status -> eventRepository
+                .findByEventDateTimeGreaterThanEqualOrderByEventDateTimeAsc(today.atStartOfDay())
+                .stream()
+                .map(WeatherTarget::of)
+                .toList());
+        long readMillis = millisSince(readStart);
+
+        // 2) busca concorrente, fora de qualquer transação
+        long fetchStart = System.nanoTime();
+        Map<WeatherTarget, EventWeatherResponse> weatherByTarget = new HashMap<>();
+        Map<GeoLocation, List<WeatherTarget>> targetsByLocation = groupByLocation(targets, today, weatherByTarget);
+
+        AtomicInteger forecastCalls = new AtomicInteger();
+        List<CompletableFuture<Void>> fetches = new ArrayList<>();
+        for (Map.Entry<GeoLocation, List<WeatherTarget>> entry : targetsByLocation.entrySet()) {
+            GeoLocation geoLocation = entry.getKey();
+            List<WeatherTarget> locationTargets = entry.getValue();
+            List<LocalDate> dates = locationTargets.stream().map(WeatherTarget::date).toList();
+
+            // só os dias fora do cache vão à API, em uma chamada por localização
+            fetches.add(CompletableFuture
+                    .supplyAsync(() -> forecastCache.getAll(geoLocation, dates, (start, end) -> {
+                        forecastCalls.incrementAndGet();
+                        return fetchDailyForecast(geoLocation, start, end);
+                    }), fetchExecutor)
+                    .thenAccept(daily -> {
+                        synchronized (weatherByTarget) {
+                            for (WeatherTarget target : locationTargets) {
+                                weatherByTarget.put(target, daily.getOrDefault(target.date(), unavailable(target.date())));
+                            }
+                        }
+                    }));
+        }
+        CompletableFuture.allOf(fetches.toArray(CompletableFuture[]::new)).join();
+        long fetchMillis = millisSince(fetchStart);
+
+        // 3) escrita em lotes curtos, só do que mudou
+        long writeStart = System.nanoTime();
+        int written = 0;
+        List<WeatherTarget> ordered = new ArrayList<>(weatherByTarget.keySet());
+        for (int from = 0; from < ordered.size(); from += writeBatchSize) {
+            List<WeatherTarget> batch = ordered.subList(from, Math.min(from + writeBatchSize, ordered.size()));
+            written += writeTransaction.execute(status -> writeChangedWeather(batch, weatherByTarget));
+        }
+        long writeMillis = millisSince(writeStart);
+
+        return new WeatherRefreshReport(
+                targets.size(),
+                targetsByLocation.size(),
+                forecastCalls.get(),
+                written,
+                millisSince(cycleStart),
+                readMillis,
+                fetchMillis,
+                writeMillis
+        );
     }
 
     @Transactional(readOnly = true)
@@ -130,110 +227,161 @@ public class EventWeatherService {
         );
     }
 
-    private EventWeatherResponse fetchWeather(java.time.LocalDateTime eventDateTime, String city, String state) {
-        if (eventDateTime == null || isBlank(city) || isBlank(state)) {
-            return unavailable(eventDateTime == null ? null : eventDateTime.toLocalDate());
+    /**
+     * Resolve as coordenadas de cada cidade distinta em paralelo (o geocoder só é chamado para cidades
+     * fora do índice). Eventos fora da janela de previsão ou sem localização já saem como indisponíveis.
+     */
+    private Map<GeoLocation, List<WeatherTarget>> groupByLocation(
+            List<WeatherTarget> targets,
+            LocalDate today,
+            Map<WeatherTarget, EventWeatherResponse> weatherByTarget
+    ) {
+        Map<String, CompletableFuture<GeoLocation>> locationsByCity = new HashMap<>();
+        for (WeatherTarget target : targets) {
+            if (target.date() != null && !isBlank(target.city()) && !isBlank(target.state())
+                    && isInForecastWindow(target.date(), today)) {
+                locationsByCity.computeIfAbsent(target.cityKey(), ignored -> CompletableFuture
+                        .supplyAsync(() -> resolveLocation(target.city(), target.state()), fetchExecutor));
+            }
         }
 
-        LocalDate eventDate = eventDateTime.toLocalDate();
-        LocalDate today = LocalDate.now(WEATHER_ZONE);
-        long daysAhead = ChronoUnit.DAYS.between(today, eventDate);
-
-        if (daysAhead < 0 || daysAhead >= MAX_FORECAST_DAYS) {
-            return unavailable(eventDate);
+        Map<GeoLocation, List<WeatherTarget>> targetsByLocation = new LinkedHashMap<>();
+        for (WeatherTarget target : targets) {
+            CompletableFuture<GeoLocation> location = locationsByCity.get(target.cityKey());
+            GeoLocation geoLocation = location == null || !isInForecastWindow(target.date(), today) ? null : location.join();
+            if (geoLocation == null) {
+                weatherByTarget.put(target, unavailable(target.date()));
+                continue;
+            }
+            targetsByLocation.computeIfAbsent(geoLocation, ignored -> new ArrayList<>()).add(target);
         }
+        return targetsByLocation;
+    }
 
-        try {
-            GeoLocation geoLocation = resolveGeoLocation(city, state);
-            if (geoLocation == null) {
-                return unavailable(eventDate);
+    /**
+     * Relê cada evento; se foi apagado ou mudou de data/local desde a leitura, a edição já refez o clima.
+     * Só os eventos com previsão diferente da gravada são alterados; como estão gerenciados, o flush do
+     * commit gera os UPDATEs em lote (hibernate.jdbc.batch_size) sem precisar de save.
+     */
+    private int writeChangedWeather(List<WeatherTarget> batch, Map<WeatherTarget, EventWeatherResponse> weatherByTarget) {
+        Map<Long, WeatherTarget> targetsById = new HashMap<>();
+        batch.forEach(target -> targetsById.put(target.eventId(), target));
+
+        List<Event> changed = new ArrayList<>();
+        for (Event event : eventRepository.findAllById(targetsById.keySet())) {
+            WeatherTarget target = targetsById.get(event.getId());
+            EventWeatherResponse weather = weatherByTarget.get(target);
+            if (!target.equals(WeatherTarget.of(event)) || sameWeather(event, weather)) {
+                continue;
             }
-            return resolveForecast(eventDate, geoLocation);
-        } catch (RuntimeException ex) {
-            log.warn("Failed to refresh weather for city={} state={} date={}", city, state, eventDate, ex);
-            return unavailable(eventDate);
+            applyWeather(event, weather);
+            changed.add(event);
         }
+
+        if (changed.isEmpty()) {
+            return 0;
+        }
+        eventVersionService.touchAll(changed.stream().map(Event::getId).toList());
+        changed.forEach(this::publishWeather);
+        return changed.size();
     }
 
-    private EventWeatherResponse resolveForecast(LocalDate eventDate, GeoLocation geoLocation) {
-        ForecastApiResponse response = forecastClient.get()
-                .uri(uriBuilder -> uriBuilder
-                        .path("/forecast")
-                        .queryParam("latitude", geoLocation.latitude())
-                        .queryParam("longitude", geoLocation.longitude())
-                        .queryParam("timezone", "auto")
-                        .queryParam("daily", "weather_code,precipitation_probability_max,precipitation_sum")
-                        .queryParam("start_date", eventDate)
-                        .queryParam("end_date", eventDate)
-                        .build())
-                .retrieve()
-                .body(ForecastApiResponse.class);
-
-        if (response == null || response.daily() == null || response.daily().time() == null || response.daily().time().isEmpty()) {
+    private boolean sameWeather(Event event, EventWeatherResponse weather) {
+        return Objects.equals(event.getWeatherAvailable(), weather.available())
+                && Objects.equals(event.getWeatherForecastDate(), weather.forecastDate())
+                && Objects.equals(event.getWeatherCondition(), weather.condition())
+                && Objects.equals(event.getWeatherRainProbability(), weather.rainProbability())
+                && Objects.equals(event.getWeatherExpectedRainMm(), weather.expectedRainMm());
+    }
+
+    private long millisSince(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    private void publishWeather(Event event) {
+        if (eventRosterHub.hasSubscribers(event.getId())) {
+            eventRosterHub.publish(EventRosterDelta.weatherUpdated(event.getId(), fromStoredWeather(event)));
+        }
+    }
+
+    private EventWeatherResponse fetchWeather(WeatherTarget target) {
+        LocalDate eventDate = target.date();
+        if (eventDate == null || isBlank(target.city()) || isBlank(target.state())
+                || !isInForecastWindow(eventDate, LocalDate.now(WEATHER_ZONE))) {
             return unavailable(eventDate);
         }
 
-        int index = response.daily().time().indexOf(eventDate.toString());
-        if (index < 0) {
-            index = 0;
+        GeoLocation geoLocation = resolveLocation(target.city(), target.state());
+        if (geoLocation == null) {
+            return unavailable(eventDate);
         }
+        EventWeatherResponse weather = forecastCache.get(geoLocation, eventDate,
+                () -> fetchDailyForecast(geoLocation, eventDate, eventDate).get(eventDate));
+        return weather == null ? unavailable(eventDate) : weather;
+    }
 
-        Integer weatherCode = valueAt(response.daily().weatherCode(), index);
-        Integer rainProbability = valueAt(response.daily().precipitationProbabilityMax(), index);
-        Double rainMm = valueAt(response.daily().precipitationSum(), index);
-        WeatherCondition weatherCondition = mapCondition(weatherCode);
+    private GeoLocation resolveLocation(String city, String state) {
+        try {
+            return geoLocationService.resolve(city, state);
+        } catch (RuntimeException ex) {
+            log.warn("Failed to resolve location for city={} state={}", city, state, ex);
+            return null;
+        }
+    }
 
-        return new EventWeatherResponse(
-                true,
-                eventDate,
-                weatherCondition.name(),
-                weatherCondition.label(),
-                weatherCondition.icon(),
-                rainProbability,
-                rainMm,
-                Instant.now()
-        );
+    private boolean isInForecastWindow(LocalDate eventDate, LocalDate today) {
+        long daysAhead = ChronoUnit.DAYS.between(today, eventDate);
+        return daysAhead >= 0 && daysAhead < MAX_FORECAST_DAYS;
     }
 
-    private GeoLocation resolveGeoLocation(String city, String state) {
-        String cacheKey = normalize(city) + "|" + normalize(state);
-        GeoLocation cached = geoCache.get(cacheKey);
-        if (cached != null) {
-            return cached;
+    /**
+     * Previsão diária de start a end (inclusive) em uma única chamada. Dias sem dado ficam fora do mapa;
+     * falha na chamada devolve mapa vazio (os eventos ficam com previsão indisponível).
+     */
+    private Map<LocalDate, EventWeatherResponse> fetchDailyForecast(GeoLocation geoLocation, LocalDate start, LocalDate end) {
+        ForecastApiResponse response;
+        try {
+            response = upstreamClients.call(FORECAST_HOST, () -> forecastClient.get()
+                    .uri(uriBuilder -> uriBuilder
+                            .path("/forecast")
+                            .queryParam("latitude", geoLocation.latitude())
+                            .queryParam("longitude", geoLocation.longitude())
+                            .queryParam("timezone", "auto")
+                            .queryParam("daily", "weather_code,precipitation_probability_max,precipitation_sum")
+                            .queryParam("start_date", start)
+                            .queryParam("end_date", end)
+                            .build())
+                    .retrieve()
+                    .body(ForecastApiResponse.class));
+        } catch (RuntimeException ex) {
+            log.warn("Failed to fetch forecast for lat={} lon={} from={} to={}",
+                    geoLocation.latitude(), geoLocation.longitude(), start, end, ex);
+            return Map.of();
         }
 
-        GeocodingApiResponse response = geocodingClient.get()
-                .uri(uriBuilder -> uriBuilder
-                        .path("/search")
-                        .queryParam("name", city)
-                        .queryParam("count", 20)
-                        .queryParam("language", "pt")
-                        .queryParam("countryCode", "BR")
-                        .build())
-                .retrieve()
-                .body(GeocodingApiResponse.class);
-
-        if (response == null || response.results() == null || response.results().isEmpty()) {
-            return null;
+        if (response == null || response.daily() == null || response.daily().time() == null) {
+            return Map.of();
         }
 
-        String normalizedCity = normalize(city);
-        String normalizedStateName = normalize(STATE_NAMES_BY_UF.getOrDefault(state.toUpperCase(Locale.ROOT), state));
-
-        GeocodingResult chosen = response.results().stream()
-                .filter(result -> Objects.equals("BR", result.countryCode()))
-                .filter(result -> normalize(result.name()).equals(normalizedCity))
-                .filter(result -> normalize(result.admin1()).equals(normalizedStateName))
-                .findFirst()
-                .orElseGet(() -> response.results().stream()
-                        .filter(result -> Objects.equals("BR", result.countryCode()))
-                        .filter(result -> normalize(result.name()).equals(normalizedCity))
-                        .findFirst()
-                        .orElse(response.results().get(0)));
-
-        GeoLocation geoLocation = new GeoLocation(chosen.latitude(), chosen.longitude());
-        geoCache.put(cacheKey, geoLocation);
-        return geoLocation;
+        Instant fetchedAt = Instant.now();
+        Map<LocalDate, EventWeatherResponse> byDate = new HashMap<>();
+        List<String> days = response.daily().time();
+        for (int index = 0; index < days.size(); index++) {
+            LocalDate date = LocalDate.parse(days.get(index));
+            WeatherCondition weatherCondition = mapCondition(valueAt(response.daily().weatherCode(), index));
+
+            byDate.put(date, new EventWeatherResponse(
+                    true,
+                    date,
+                    weatherCondition.name(),
+                    weatherCondition.label(),
+                    weatherCondition.icon(),
+                    valueAt(response.daily().precipitationProbabilityMax(), index),
+                    valueAt(response.daily().precipitationSum(), index),
+                    fetchedAt
+            ));
+        }
+        return byDate;
     }
 
     private void applyWeather(Event event, EventWeatherResponse weather) {
@@ -260,16 +408,21 @@ public class EventWeatherService {
         );
     }
 
-    private String defaultString(String value, String fallback) {
-        return value == null || value.isBlank() ? fallback : value;
+    private EventWeatherResponse pending(LocalDate eventDate) {
+        return new EventWeatherResponse(
+                false,
+                eventDate,
+                "PENDING",
+                "Buscando previsao",
+                "PENDING",
+                null,
+                null,
+                null
+        );
     }
 
-    private String normalize(String value) {
-        if (value == null) return "";
-        return Normalizer.normalize(value, Normalizer.Form.NFD)
-                .replaceAll("\\p{M}+", "")
-                .toLowerCase(Locale.ROOT)
-                .trim();
+    private String defaultString(String value, String fallback) {
+        return value == null || value.isBlank() ? fallback : value;
     }
 
     private boolean isBlank(String value) {
@@ -356,17 +509,18 @@ public class EventWeatherService {
         }
     }
 
-    private record GeoLocation(double latitude, double longitude) {}
+    // snapshot do evento lido na etapa 1; equals compara também data e local
+    private record WeatherTarget(Long eventId, LocalDate date, String city, String state) {
 
-    private record GeocodingApiResponse(List<GeocodingResult> results) {}
+        static WeatherTarget of(Event event) {
+            LocalDate date = event.getEventDateTime() == null ? null : event.getEventDateTime().toLocalDate();
+            return new WeatherTarget(event.getId(), date, event.getCity(), event.getState());
+        }
 
-    private record GeocodingResult(
-            String name,
-            Double latitude,
-            Double longitude,
-            @JsonProperty("country_code") String countryCode,
-            String admin1
-    ) {}
+        String cityKey() {
+            return city + "|" + state;
+        }
+    }
 
     private record ForecastApiResponse(DailyForecast daily) {}
 
@@ -376,22 +530,4 @@ public class EventWeatherService {
             @JsonProperty("precipitation_probability_max") List<Integer> precipitationProbabilityMax,
             @JsonProperty("precipitation_sum") List<Double> precipitationSum
     ) {}
-
-    private record WeatherLookupKey(String city, String state, LocalDate eventDate) {
-        static WeatherLookupKey from(Event event) {
-            return new WeatherLookupKey(
-                    normalizeStatic(event.getCity()),
-                    normalizeStatic(event.getState()),
-                    event.getEventDateTime() == null ? null : event.getEventDateTime().toLocalDate()
-            );
-        }
-
-        private static String normalizeStatic(String value) {
-            if (value == null) return "";
-            return Normalizer.normalize(value, Normalizer.Form.NFD)
-                    .replaceAll("\\p{M}+", "")
-                    .toLowerCase(Locale.ROOT)
-                    .trim();
-        }
-    }
 }
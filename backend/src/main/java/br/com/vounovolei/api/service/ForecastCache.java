@@ -0,0 +1,94 @@
+package br.com.vounovolei.api.service;
+
+import br.com.vounovolei.api.controller.event.dto.EventWeatherResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+/**
+ * Previsão diária já buscada no Open-Meteo, compartilhada entre a atualização agendada e a fila de
+ * criação/edição. Chave: coordenadas arredondadas em 2 casas (~1 km) + data. O TTL acompanha a
+ * frequência com que os modelos do Open-Meteo são atualizados; o tamanho é limitado.
+ * Só entram previsões disponíveis; falhas e dias sem dado voltam a consultar a API.
+ * Hits, misses e evictions ficam em /actuator/metrics/cache.* com cache=forecast.
+ */
+@Component
+class ForecastCache {
+
+    private final Cache<ForecastKey, EventWeatherResponse> cache;
+
+    ForecastCache(
+            @Value("${app.cache.forecast.max-size}") long maxSize,
+            @Value("${app.cache.forecast.ttl-minutes}") long ttlMinutes,
+            MeterRegistry meterRegistry
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "forecast");
+    }
+
+    /**
+     * Um dia: chamadas simultâneas para a mesma chave esperam a mesma busca (uma única ida à API).
+     * Devolve null se a previsão não estiver disponível.
+     */
+    EventWeatherResponse get(GeoLocation geoLocation, LocalDate date, Supplier<EventWeatherResponse> loader) {
+        return cache.get(ForecastKey.of(geoLocation, date), ignored -> {
+            EventWeatherResponse weather = loader.get();
+            return weather != null && weather.available() ? weather : null;
+        });
+    }
+
+    /**
+     * Vários dias de uma localização: os que faltam no cache são buscados em uma só chamada, de
+     * menor a maior data ausente; os dias extras devolvidos pelo intervalo também ficam em cache.
+     */
+    Map<LocalDate, EventWeatherResponse> getAll(
+            GeoLocation geoLocation,
+            Collection<LocalDate> dates,
+            BiFunction<LocalDate, LocalDate, Map<LocalDate, EventWeatherResponse>> rangeLoader
+    ) {
+        List<ForecastKey> keys = dates.stream().distinct().map(date -> ForecastKey.of(geoLocation, date)).toList();
+
+        Map<ForecastKey, EventWeatherResponse> cached = cache.getAll(keys, missing -> {
+            LocalDate start = missing.stream().map(ForecastKey::date).min(LocalDate::compareTo).orElseThrow();
+            LocalDate end = missing.stream().map(ForecastKey::date).max(LocalDate::compareTo).orElseThrow();
+
+            Map<ForecastKey, EventWeatherResponse> loaded = new HashMap<>();
+            rangeLoader.apply(start, end).forEach((date, weather) -> {
+                if (weather.available()) {
+                    loaded.put(ForecastKey.of(geoLocation, date), weather);
+                }
+            });
+            return loaded;
+        });
+
+        Map<LocalDate, EventWeatherResponse> byDate = new HashMap<>();
+        cached.forEach((key, weather) -> byDate.put(key.date(), weather));
+        return byDate;
+    }
+
+    private record ForecastKey(long latitudeE2, long longitudeE2, LocalDate date) {
+
+        static ForecastKey of(GeoLocation geoLocation, LocalDate date) {
+            return new ForecastKey(
+                    Math.round(geoLocation.latitude() * 100),
+                    Math.round(geoLocation.longitude() * 100),
+                    date);
+        }
+    }
+}
@@ -0,0 +1,4 @@
+package br.com.vounovolei.api.service;
+
+record GeoLocation(double latitude, double longitude) {
+}
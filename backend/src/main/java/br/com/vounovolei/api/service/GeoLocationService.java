@@ -0,0 +1,255 @@
+package br.com.vounovolei.api.service;
+
+import br.com.vounovolei.api.domain.geo.CityGeolocation;
+import br.com.vounovolei.api.domain.geo.GeolocationSource;
+import br.com.vounovolei.api.repository.CityGeolocationRepository;
+import br.com.vounovolei.api.repository.EventRepository;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClient;
+
+import java.net.URI;
+import java.text.Normalizer;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Coordenadas de cidades: índice em memória carregado da tabela city_geolocations. A tabela recebe as
+ * coordenadas que vêm no arquivo de municípios (geo/br-municipalities.csv, via CityIndex; hoje só as
+ * capitais) e, para todas as outras cidades, o resultado da API de geocoding do Open-Meteo. Cada cidade é
+ * geocodificada uma vez: reinícios e outras instâncias leem da tabela.
+ */
+@Service
+@Slf4j
+public class GeoLocationService {
+
+    private static final String GEOCODING_BASE_URL = "https://geocoding-api.open-meteo.com/v1";
+    private static final String GEOCODING_HOST = URI.create(GEOCODING_BASE_URL).getHost();
+
+    private static final Map<String, String> STATE_NAMES_BY_UF = Map.ofEntries(
+            Map.entry("AC", "Acre"),
+            Map.entry("AL", "Alagoas"),
+            Map.entry("AP", "Amapa"),
+            Map.entry("AM", "Amazonas"),
+            Map.entry("BA", "Bahia"),
+            Map.entry("CE", "Ceara"),
+            Map.entry("DF", "Distrito Federal"),
+            Map.entry("ES", "Espirito Santo"),
+            Map.entry("GO", "Goias"),
+            Map.entry("MA", "Maranhao"),
+            Map.entry("MT", "Mato Grosso"),
+            Map.entry("MS", "Mato Grosso do Sul"),
+            Map.entry("MG", "Minas Gerais"),
+            Map.entry("PA", "Para"),
+            Map.entry("PB", "Paraiba"),
+            Map.entry("PR", "Parana"),
+            Map.entry("PE", "Pernambuco"),
+            Map.entry("PI", "Piaui"),
+            Map.entry("RJ", "Rio de Janeiro"),
+            Map.entry("RN", "Rio Grande do Norte"),
+            Map.entry("RS", "Rio Grande do Sul"),
+            Map.entry("RO", "Rondonia"),
+            Map.entry("RR", "Roraima"),
+            Map.entry("SC", "Santa Catarina"),
+            Map.entry("SP", "Sao Paulo"),
+            Map.entry("SE", "Sergipe"),
+            Map.entry("TO", "Tocantins")
+    );
+
+    private final CityGeolocationRepository cityGeolocationRepository;
+    private final EventRepository eventRepository;
+    private final CityIndex cityIndex;
+    private final UpstreamClients upstreamClients;
+    private final boolean warmUpEnabled;
+
+    private final RestClient geocodingClient;
+
+    // "cidade|UF" -> coordenadas; limitado pelo dataset + cidades distintas dos eventos
+    private final Map<String, GeoLocation> index = new ConcurrentHashMap<>();
+
+    public GeoLocationService(
+            CityGeolocationRepository cityGeolocationRepository,
+            EventRepository eventRepository,
+            CityIndex cityIndex,
+            UpstreamClients upstreamClients,
+            @Value("${app.weather.geo.warm-up-enabled:true}") boolean warmUpEnabled
+    ) {
+        this.cityGeolocationRepository = cityGeolocationRepository;
+        this.eventRepository = eventRepository;
+        this.cityIndex = cityIndex;
+        this.upstreamClients = upstreamClients;
+        this.geocodingClient = upstreamClients.create(GEOCODING_BASE_URL);
+        this.warmUpEnabled = warmUpEnabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!warmUpEnabled) {
+            return;
+        }
+
+        int imported;
+        try {
+            cityGeolocationRepository.findAll().forEach(this::addToIndex);
+            imported = importDataset();
+        } catch (RuntimeException ex) {
+            log.warn("Geo index warm-up failed; cities will be resolved on demand", ex);
+            return;
+        }
+
+        // cidades de eventos fora do dataset dependem do geocoder: resolvidas fora da thread de subida
+        Thread geocoding = new Thread(() -> geocodeEventCities(imported), "geo-warm-up");
+        geocoding.setDaemon(true);
+        geocoding.start();
+    }
+
+    /**
+     * Índice em memória, depois tabela (preenchida por outra instância), por fim o geocoder externo.
+     * Devolve null se a cidade não for encontrada.
+     */
+    public GeoLocation resolve(String city, String state) {
+        String key = key(city, state);
+        GeoLocation cached = index.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        String cityKey = normalize(city);
+        String uf = state.trim().toUpperCase(Locale.ROOT);
+        GeoLocation stored = cityGeolocationRepository.findByCityKeyAndState(cityKey, uf)
+                .map(this::addToIndex)
+                .orElse(null);
+        if (stored != null) {
+            return stored;
+        }
+
+        GeoLocation geocoded = geocode(city, uf);
+        if (geocoded == null) {
+            return null;
+        }
+
+        cityGeolocationRepository.insertIfAbsent(
+                cityKey, uf, city.trim(), geocoded.latitude(), geocoded.longitude(), GeolocationSource.GEOCODER.name());
+        index.put(key, geocoded);
+        return geocoded;
+    }
+
+    // insert-if-absent por linha: outra instância subindo ao mesmo tempo não derruba o aquecimento
+    private int importDataset() {
+        Set<String> seen = new HashSet<>(index.keySet());
+        int imported = 0;
+        for (CityIndex.DatasetLocation location : cityIndex.datasetLocations()) {
+            if (!seen.add(key(location.city(), location.state()))) {
+                continue;
+            }
+
+            cityGeolocationRepository.insertIfAbsent(
+                    normalize(location.city()),
+                    location.state(),
+                    location.city(),
+                    location.latitude(),
+                    location.longitude(),
+                    GeolocationSource.DATASET.name());
+            index.put(key(location.city(), location.state()), new GeoLocation(location.latitude(), location.longitude()));
+            imported++;
+        }
+        return imported;
+    }
+
+    // uma cidade que falha (circuito aberto, timeout) não interrompe as demais; resolve() tenta de novo sob demanda
+    private void geocodeEventCities(int imported) {
+        int geocoded = 0;
+        int failed = 0;
+        try {
+            for (EventRepository.CityState city : eventRepository.findDistinctCities()) {
+                if (index.containsKey(key(city.getCity(), city.getState()))) {
+                    continue;
+                }
+
+                try {
+                    if (resolve(city.getCity(), city.getState()) != null) {
+                        geocoded++;
+                    }
+                } catch (RuntimeException ex) {
+                    failed++;
+                    log.debug("Geocoding failed during warm-up for {}/{}", city.getCity(), city.getState(), ex);
+                }
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Geo warm-up could not list event cities; they will be resolved on demand", ex);
+        }
+
+        log.info("Geo index warmed: {} cities ({} imported from dataset, {} geocoded, {} failed)",
+                index.size(), imported, geocoded, failed);
+    }
+
+    private GeoLocation geocode(String city, String state) {
+        GeocodingApiResponse response = upstreamClients.call(GEOCODING_HOST, () -> geocodingClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/search")
+                        .queryParam("name", city)
+                        .queryParam("count", 20)
+                        .queryParam("language", "pt")
+                        .queryParam("countryCode", "BR")
+                        .build())
+                .retrieve()
+                .body(GeocodingApiResponse.class));
+
+        if (response == null || response.results() == null || response.results().isEmpty()) {
+            return null;
+        }
+
+        String normalizedCity = normalize(city);
+        String normalizedStateName = normalize(STATE_NAMES_BY_UF.getOrDefault(state.toUpperCase(Locale.ROOT), state));
+
+        GeocodingResult chosen = response.results().stream()
+                .filter(result -> Objects.equals("BR", result.countryCode()))
+                .filter(result -> normalize(result.name()).equals(normalizedCity))
+                .filter(result -> normalize(result.admin1()).equals(normalizedStateName))
+                .findFirst()
+                .orElseGet(() -> response.results().stream()
+                        .filter(result -> Objects.equals("BR", result.countryCode()))
+                        .filter(result -> normalize(result.name()).equals(normalizedCity))
+                        .findFirst()
+                        .orElse(response.results().get(0)));
+
+        return new GeoLocation(chosen.latitude(), chosen.longitude());
+    }
+
+    private GeoLocation addToIndex(CityGeolocation row) {
+        GeoLocation geoLocation = new GeoLocation(row.getLatitude(), row.getLongitude());
+        index.put(row.getCityKey() + "|" + row.getState(), geoLocation);
+        return geoLocation;
+    }
+
+    private String key(String city, String state) {
+        return normalize(city) + "|" + state.trim().toUpperCase(Locale.ROOT);
+    }
+
+    private String normalize(String value) {
+        if (value == null) return "";
+        return Normalizer.normalize(value, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}+", "")
+                .toLowerCase(Locale.ROOT)
+                .trim();
+    }
+
+    private record GeocodingApiResponse(List<GeocodingResult> results) {}
+
+    private record GeocodingResult(
+            String name,
+            Double latitude,
+            Double longitude,
+            @JsonProperty("country_code") String countryCode,
+            String admin1
+    ) {}
+}
@@ -0,0 +1,121 @@
+package br.com.vounovolei.api.service;
+
+import br.com.vounovolei.api.config.RateLimitProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Janela deslizante por chave com memória fixa: cada chave guarda só os instantes (long) das últimas
+ * N tentativas aceitas, em anel. Chaves sem uso por uma janela inteira expiram em segundo plano, e o
+ * total de chaves rastreadas tem teto (as menos usadas saem primeiro). Vale só para esta instância.
+ */
+@Component
+@ConditionalOnProperty(name = "app.rate-limit.store", havingValue = "memory", matchIfMissing = true)
+class InMemoryRateLimitStore implements RateLimitStore {
+
+    private final RateLimitProperties properties;
+    private final Ticker ticker;
+    private final Map<RateLimitScope, Cache<String, AttemptRing>> attemptsByScope = new EnumMap<>(RateLimitScope.class);
+
+    @Autowired
+    InMemoryRateLimitStore(RateLimitProperties properties) {
+        this(properties, Ticker.systemTicker(), Scheduler.systemScheduler());
+    }
+
+    InMemoryRateLimitStore(RateLimitProperties properties, Ticker ticker, Scheduler scheduler) {
+        this.properties = properties;
+        this.ticker = ticker;
+        for (RateLimitScope scope : RateLimitScope.values()) {
+            // sem tentativa por uma janela inteira, o anel já não bloqueia ninguém e pode ser descartado
+            attemptsByScope.put(scope, Caffeine.newBuilder()
+                    .maximumSize(properties.getMaxTrackedKeys())
+                    .expireAfterAccess(properties.limitFor(scope).getWindow())
+                    .ticker(ticker)
+                    .scheduler(scheduler)
+                    .build());
+        }
+    }
+
+    @Override
+    public boolean tryAcquire(RateLimitScope scope, String actorKey) {
+        RateLimitProperties.Limit limit = properties.limitFor(scope);
+        AttemptRing attempts = attemptsByScope.get(scope).get(actorKey, ignored -> new AttemptRing(limit.getMaxAttempts()));
+        return attempts.tryAcquire(ticker.read(), limit.getWindow().toNanos());
+    }
+
+    @Override
+    public boolean isExhausted(RateLimitScope scope, String actorKey) {
+        AttemptRing attempts = attemptsByScope.get(scope).getIfPresent(actorKey);
+        return attempts != null && attempts.isFull(ticker.read(), properties.limitFor(scope).getWindow().toNanos());
+    }
+
+    @Override
+    public void reset(RateLimitScope scope, String actorKey) {
+        attemptsByScope.get(scope).invalidate(actorKey);
+    }
+
+    long trackedKeys() {
+        long total = 0;
+        for (Cache<String, AttemptRing> cache : attemptsByScope.values()) {
+            cache.cleanUp();
+            total += cache.estimatedSize();
+        }
+        return total;
+    }
+
+    /**
+     * Anel com os instantes (nanos) das últimas N tentativas aceitas. A próxima tentativa só passa se a
+     * mais antiga delas já saiu da janela. Com o anel cheio, o instante em que a mais antiga sai fica num
+     * campo volatile: até lá as recusas (o caso de um cliente inundando a mesma chave) e isFull() não
+     * tomam o lock. O lock por chave só é tomado para gravar uma tentativa aceita, no máximo N vezes por
+     * janela.
+     */
+    static final class AttemptRing {
+
+        // anel ainda não encheu; instantes do Ticker podem ser negativos, então não dá para usar 0
+        private static final long NEVER = Long.MIN_VALUE;
+
+        private final long[] acceptedAt;
+        private int next;
+        private int size;
+        private volatile long refuseUntil = NEVER;
+
+        AttemptRing(int capacity) {
+            this.acceptedAt = new long[Math.max(1, capacity)];
+        }
+
+        boolean tryAcquire(long now, long windowNanos) {
+            if (isFull(now, windowNanos)) {
+                return false;
+            }
+            synchronized (this) {
+                // outra thread pode ter enchido o anel entre a leitura acima e o lock
+                if (size == acceptedAt.length && now - acceptedAt[next] < windowNanos) {
+                    return false;
+                }
+
+                acceptedAt[next] = now;
+                next = (next + 1) % acceptedAt.length;
+                size = Math.min(size + 1, acceptedAt.length);
+                if (size == acceptedAt.length) {
+                    refuseUntil = acceptedAt[next] + windowNanos;
+                }
+                return true;
+            }
+        }
+
+        // equivale a "anel cheio e a mais antiga ainda dentro da janela": refuseUntil só muda ao aceitar
+        boolean isFull(long now, long windowNanos) {
+            long until = refuseUntil;
+            return until != NEVER && now - until < 0;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package br.com.vounovolei.api.service;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
@@ -9,6 +10,7 @@ import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Date;
 
@@ -16,6 +18,8 @@ import java.util.Date;
 public class JwtService {
 
     private final SecretKey key;
+    // imutável e thread-safe; montar um parser por chamada custava mais que a própria verificação
+    private final JwtParser parser;
     private final long accessExpirationMinutes;
     private final long refreshExpirationMinutes;
     private final long forgotPasswordExpirationMinutes;
@@ -27,12 +31,14 @@ public class JwtService {
             @Value("${security.jwt.forgot-password-expiration-minutes}") long forgotPasswordExpirationMinutes
     ) {
         this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(key).build();
         this.accessExpirationMinutes = accessExpirationMinutes;
         this.refreshExpirationMinutes = refreshExpirationMinutes;
         this.forgotPasswordExpirationMinutes = forgotPasswordExpirationMinutes;
     }
 
-    public String generateAccessToken(Long userId, String email, String role) {
+    // sv = security_version do usuário; tokens de versões anteriores deixam de valer
+    public String generateAccessToken(Long userId, String email, String role, long securityVersion) {
         Instant now = Instant.now();
         Instant exp = now.plusSeconds(accessExpirationMinutes * 60);
 
@@ -41,21 +47,34 @@ public class JwtService {
                 .claim("type", "access")
                 .claim("email", email)
                 .claim("role", role)
+                .claim("sv", securityVersion)
                 .issuedAt(Date.from(now))
                 .expiration(Date.from(exp))
                 .signWith(key)
                 .compact();
     }
 
-    public String generateRefreshToken(Long userId) {
-        Instant now = Instant.now();
-        Instant exp = now.plusSeconds(refreshExpirationMinutes * 60);
+    public Duration refreshTokenLifetime() {
+        return Duration.ofMinutes(refreshExpirationMinutes);
+    }
 
+    // jti e família ficam registrados em refresh_tokens (RefreshTokenService)
+    public String generateRefreshToken(
+            Long userId,
+            long securityVersion,
+            String tokenId,
+            String familyId,
+            Instant issuedAt,
+            Instant expiresAt
+    ) {
         return Jwts.builder()
+                .id(tokenId)
                 .subject(String.valueOf(userId))
                 .claim("type", "refresh")
-                .issuedAt(Date.from(now))
-                .expiration(Date.from(exp))
+                .claim("family", familyId)
+                .claim("sv", securityVersion)
+                .issuedAt(Date.from(issuedAt))
+                .expiration(Date.from(expiresAt))
                 .signWith(key)
                 .compact();
     }
@@ -75,6 +94,13 @@ public class JwtService {
                 .compact();
     }
 
+    // tokens emitidos antes da V15 não têm sv: valem como versão 0, a inicial de todo usuário, e caem
+    // normalmente no primeiro incremento
+    public long securityVersion(Claims claims) {
+        Number version = claims.get("sv", Number.class);
+        return version == null ? 0L : version.longValue();
+    }
+
     public boolean isAccessToken(Claims claims) {
         return "access".equals(claims.get("type", String.class));
     }
@@ -88,11 +114,7 @@ public class JwtService {
     }
 
     public Claims parseClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
     }
 
     public boolean isValid(String token) {
@@ -0,0 +1,145 @@
+package br.com.vounovolei.api.service;
+
+import br.com.vounovolei.api.config.RateLimitProperties;
+import br.com.vounovolei.api.repository.RateLimitBucketRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.function.LongSupplier;
+
+/**
+ * Contadores compartilhados entre instâncias na tabela rate_limit_buckets, um por janela fixa.
+ * A janela deslizante é aproximada somando a janela anterior proporcionalmente ao quanto ela ainda se
+ * sobrepõe. A contagem final da janela anterior fica num near-cache local, então a tentativa comum
+ * (abaixo do limite) custa um único UPDATE condicional; chaves que estouraram o limite também são
+ * recusadas localmente por um instante, sem ir ao banco.
+ */
+@Component
+@ConditionalOnProperty(name = "app.rate-limit.store", havingValue = "mysql")
+@Slf4j
+class MySqlRateLimitStore implements RateLimitStore {
+
+    private static final int PURGE_BATCH_SIZE = 1000;
+
+    private final RateLimitBucketRepository rateLimitBucketRepository;
+    private final RateLimitProperties properties;
+    private final LongSupplier clock;
+    private final Cache<String, NearEntry> nearCache;
+
+    @Autowired
+    MySqlRateLimitStore(RateLimitBucketRepository rateLimitBucketRepository, RateLimitProperties properties) {
+        this(rateLimitBucketRepository, properties, System::currentTimeMillis);
+    }
+
+    MySqlRateLimitStore(RateLimitBucketRepository rateLimitBucketRepository, RateLimitProperties properties, LongSupplier clock) {
+        this.rateLimitBucketRepository = rateLimitBucketRepository;
+        this.properties = properties;
+        this.clock = clock;
+
+        Duration longestWindow = Arrays.stream(RateLimitScope.values())
+                .map(scope -> properties.limitFor(scope).getWindow())
+                .max(Duration::compareTo)
+                .orElseThrow();
+        this.nearCache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxTrackedKeys())
+                .expireAfterAccess(longestWindow)
+                .build();
+    }
+
+    @Override
+    public boolean tryAcquire(RateLimitScope scope, String actorKey) {
+        RateLimitProperties.Limit limit = properties.limitFor(scope);
+        long windowMillis = limit.getWindow().toMillis();
+        long now = clock.getAsLong();
+        long windowStart = now - Math.floorMod(now, windowMillis);
+        String key = scope.name() + "|" + actorKey;
+
+        NearEntry near = nearEntry(key, scope, actorKey, windowStart, windowMillis);
+        if (near.blockedUntil() > now) {
+            return false;
+        }
+
+        int allowed = allowedInWindow(limit, near, now, windowMillis);
+        if (allowed > 0) {
+            if (rateLimitBucketRepository.incrementIfBelow(scope.name(), actorKey, windowStart, allowed) == 1) {
+                return true;
+            }
+            Instant expiresAt = Instant.ofEpochMilli(windowStart + 2 * windowMillis);
+            if (rateLimitBucketRepository.insertFirstHit(scope.name(), actorKey, windowStart, expiresAt) == 1) {
+                return true;
+            }
+            // outra instância criou a linha entre o UPDATE e o INSERT: a tentativa ainda pode caber nela
+            if (rateLimitBucketRepository.incrementIfBelow(scope.name(), actorKey, windowStart, allowed) == 1) {
+                return true;
+            }
+        }
+
+        // uma vaga a mais leva cerca de janela/limite para liberar; até lá recusa sem ir ao banco
+        long blockMillis = Math.min(windowMillis / Math.max(1, limit.getMaxAttempts()), windowStart + windowMillis - now);
+        nearCache.put(key, new NearEntry(windowStart, near.previousHits(), now + blockMillis));
+        return false;
+    }
+
+    @Override
+    public boolean isExhausted(RateLimitScope scope, String actorKey) {
+        RateLimitProperties.Limit limit = properties.limitFor(scope);
+        long windowMillis = limit.getWindow().toMillis();
+        long now = clock.getAsLong();
+        long windowStart = now - Math.floorMod(now, windowMillis);
+
+        NearEntry near = nearEntry(scope.name() + "|" + actorKey, scope, actorKey, windowStart, windowMillis);
+        if (near.blockedUntil() > now) {
+            return true;
+        }
+        int allowed = allowedInWindow(limit, near, now, windowMillis);
+        return allowed <= 0
+                || rateLimitBucketRepository.findHits(scope.name(), actorKey, windowStart).orElse(0) >= allowed;
+    }
+
+    @Override
+    public void reset(RateLimitScope scope, String actorKey) {
+        rateLimitBucketRepository.deleteByScopeAndActorKey(scope.name(), actorKey);
+        nearCache.invalidate(scope.name() + "|" + actorKey);
+    }
+
+    // contagem final da janela anterior: muda só na virada da janela, então fica no near-cache
+    private NearEntry nearEntry(String key, RateLimitScope scope, String actorKey, long windowStart, long windowMillis) {
+        NearEntry near = nearCache.getIfPresent(key);
+        if (near == null || near.windowStart() != windowStart) {
+            int previousHits = rateLimitBucketRepository.findHits(scope.name(), actorKey, windowStart - windowMillis).orElse(0);
+            near = new NearEntry(windowStart, previousHits, 0L);
+            nearCache.put(key, near);
+        }
+        return near;
+    }
+
+    // estimativa = anterior * sobreposição + atual; cabem tentativas enquanto ela estiver abaixo do limite
+    private static int allowedInWindow(RateLimitProperties.Limit limit, NearEntry near, long now, long windowMillis) {
+        double overlap = 1.0 - (double) (now - near.windowStart()) / windowMillis;
+        return (int) Math.ceil(limit.getMaxAttempts() - near.previousHits() * overlap);
+    }
+
+    @Scheduled(fixedDelay = 600_000, initialDelay = 60_000)
+    public void purgeExpiredBuckets() {
+        int deleted;
+        int total = 0;
+        do {
+            deleted = rateLimitBucketRepository.deleteExpired(Instant.now());
+            total += deleted;
+        } while (deleted == PURGE_BATCH_SIZE);
+
+        if (total > 0) {
+            log.debug("Purged {} expired rate limit buckets", total);
+        }
+    }
+
+    private record NearEntry(long windowStart, int previousHits, long blockedUntil) {}
+}
@@ -5,9 +5,17 @@ import lombok.Getter;
 @Getter
 public class RateLimitExceededException extends RuntimeException {
     private final String error;
+    // vira o header Retry-After quando informado
+    private final Long retryAfterSeconds;
 
     public RateLimitExceededException(String error, String message) {
-        super(message);
+        this(error, message, null);
+    }
+
+    public RateLimitExceededException(String error, String message, Long retryAfterSeconds) {
+        // vira um 429 e nunca é logada: sem stack trace, a recusa custa bem menos sob inundação
+        super(message, null, false, false);
         this.error = error;
+        this.retryAfterSeconds = retryAfterSeconds;
     }
 }
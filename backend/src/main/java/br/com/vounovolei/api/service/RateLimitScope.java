@@ -0,0 +1,18 @@
+package br.com.vounovolei.api.service;
+
+public enum RateLimitScope {
+    ACCOUNT_CREATE("criações"),
+    EVENT_CREATE("criações"),
+    LOGIN_IP("tentativas de login"),
+    LOGIN_ACCOUNT("tentativas de login");
+
+    private final String attemptsLabel;
+
+    RateLimitScope(String attemptsLabel) {
+        this.attemptsLabel = attemptsLabel;
+    }
+
+    public String attemptsLabel() {
+        return attemptsLabel;
+    }
+}
@@ -1,50 +1,138 @@
 package br.com.vounovolei.api.service;
 
+import br.com.vounovolei.api.config.RateLimitProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
-import java.time.Instant;
-import java.util.ArrayDeque;
-import java.util.Deque;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Locale;
 
 @Service
 public class RateLimitService {
 
-    private static final int MAX_CREATIONS = 3;
-    private static final Duration WINDOW = Duration.ofMinutes(15);
+    // limite da coluna rate_limit_buckets.actor_key
+    private static final int MAX_ACTOR_KEY_LENGTH = 190;
 
-    private final Map<String, Deque<Instant>> attemptsByKey = new ConcurrentHashMap<>();
+    // falhas seguidas de login que não geram espera; a partir daí 1s, 2s, 4s... até 15 minutos
+    private static final int FREE_LOGIN_FAILURES = 3;
+    private static final Duration MAX_LOGIN_BACKOFF = Duration.ofMinutes(15);
+
+    private final RateLimitStore rateLimitStore;
+    private final RateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    // falhas consecutivas por conta; some sozinha depois do backoff máximo sem novas falhas
+    private final Cache<String, LoginFailures> loginFailures;
+
+    public RateLimitService(RateLimitStore rateLimitStore, RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.rateLimitStore = rateLimitStore;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.loginFailures = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxTrackedKeys())
+                .expireAfterWrite(MAX_LOGIN_BACKOFF)
+                .build();
+    }
 
     public void checkCreateAccountLimit(String clientKey) {
-        check("ACCOUNT_CREATE", clientKey);
+        check(RateLimitScope.ACCOUNT_CREATE, clientKey);
     }
 
     public void checkCreateEventLimit(Long userId) {
-        check("EVENT_CREATE", String.valueOf(userId));
+        check(RateLimitScope.EVENT_CREATE, String.valueOf(userId));
     }
 
-    private void check(String scope, String actorKey) {
-        String normalizedActorKey = (actorKey == null || actorKey.isBlank()) ? "unknown" : actorKey.trim();
-        String key = scope + ":" + normalizedActorKey;
-        Instant now = Instant.now();
-        Instant threshold = now.minus(WINDOW);
+    /**
+     * Barreira antes de qualquer BCrypt no login: backoff exponencial da conta, depois as janelas por IP
+     * e por conta. Só consulta: as janelas são cobradas em recordLoginFailure, então logins certos não
+     * gastam a cota do IP (NAT compartilhado) e ninguém trava uma conta alheia só por tentar entrar nela
+     * sem a senha além do limite dela. Tentativas barradas aqui não chegam a consumir CPU com hash.
+     */
+    public void checkLogin(String clientKey, String accountKey) {
+        String account = loginAccountKey(accountKey);
 
-        Deque<Instant> attempts = attemptsByKey.computeIfAbsent(key, k -> new ArrayDeque<>());
-        synchronized (attempts) {
-            while (!attempts.isEmpty() && attempts.peekFirst().isBefore(threshold)) {
-                attempts.pollFirst();
-            }
+        LoginFailures failures = loginFailures.getIfPresent(account);
+        long waitMillis = failures == null ? 0L : failures.remainingBackoffMillis(System.currentTimeMillis());
+        if (waitMillis > 0) {
+            countThrottledLogin("backoff");
+            long waitSeconds = Math.max(1L, (waitMillis + 999) / 1000);
+            throw new RateLimitExceededException(
+                    "LOGIN_BACKOFF",
+                    "Muitas tentativas de login sem sucesso. Tente novamente em %d segundos.".formatted(waitSeconds),
+                    waitSeconds
+            );
+        }
+
+        if (rateLimitStore.isExhausted(RateLimitScope.LOGIN_IP, normalizeActorKey(clientKey))) {
+            countThrottledLogin("ip");
+            throw limitExceeded(RateLimitScope.LOGIN_IP);
+        }
+        if (rateLimitStore.isExhausted(RateLimitScope.LOGIN_ACCOUNT, normalizeActorKey(account))) {
+            countThrottledLogin("account");
+            throw limitExceeded(RateLimitScope.LOGIN_ACCOUNT);
+        }
+    }
+
+    public void recordLoginFailure(String clientKey, String accountKey) {
+        String account = loginAccountKey(accountKey);
+        long now = System.currentTimeMillis();
+        loginFailures.asMap().merge(
+                account,
+                new LoginFailures(1, now),
+                (current, ignored) -> new LoginFailures(current.count() + 1, now)
+        );
+
+        rateLimitStore.tryAcquire(RateLimitScope.LOGIN_IP, normalizeActorKey(clientKey));
+        rateLimitStore.tryAcquire(RateLimitScope.LOGIN_ACCOUNT, normalizeActorKey(account));
+    }
+
+    // a janela do IP não é zerada: um acerto na própria conta não pode liberar tentativas contra outras
+    public void recordLoginSuccess(String accountKey) {
+        String account = loginAccountKey(accountKey);
+        loginFailures.invalidate(account);
+        rateLimitStore.reset(RateLimitScope.LOGIN_ACCOUNT, normalizeActorKey(account));
+    }
+
+    public void check(RateLimitScope scope, String actorKey) {
+        if (!rateLimitStore.tryAcquire(scope, normalizeActorKey(actorKey))) {
+            throw limitExceeded(scope);
+        }
+    }
+
+    private RateLimitExceededException limitExceeded(RateLimitScope scope) {
+        RateLimitProperties.Limit limit = properties.limitFor(scope);
+        return new RateLimitExceededException(
+                "RATE_LIMIT_EXCEEDED",
+                "Limite de %d %s a cada %d minutos excedido.".formatted(
+                        limit.getMaxAttempts(), scope.attemptsLabel(), limit.getWindow().toMinutes())
+        );
+    }
+
+    private String normalizeActorKey(String actorKey) {
+        String normalized = (actorKey == null || actorKey.isBlank()) ? "unknown" : actorKey.trim();
+        return normalized.length() > MAX_ACTOR_KEY_LENGTH ? normalized.substring(0, MAX_ACTOR_KEY_LENGTH) : normalized;
+    }
+
+    private String loginAccountKey(String accountKey) {
+        return accountKey == null ? "unknown" : accountKey.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private void countThrottledLogin(String reason) {
+        meterRegistry.counter("auth.login.throttled", "reason", reason).increment();
+    }
+
+    record LoginFailures(int count, long lastFailureAtMillis) {
 
-            if (attempts.size() >= MAX_CREATIONS) {
-                throw new RateLimitExceededException(
-                        "RATE_LIMIT_EXCEEDED",
-                        "Limite de 3 criações a cada 15 minutos excedido."
-                );
+        long remainingBackoffMillis(long nowMillis) {
+            if (count <= FREE_LOGIN_FAILURES) {
+                return 0L;
             }
 
-            attempts.addLast(now);
+            int exponent = Math.min(count - FREE_LOGIN_FAILURES - 1, 20);
+            long backoffMillis = Math.min(1000L << exponent, MAX_LOGIN_BACKOFF.toMillis());
+            return Math.max(0L, lastFailureAtMillis + backoffMillis - nowMillis);
         }
     }
 }
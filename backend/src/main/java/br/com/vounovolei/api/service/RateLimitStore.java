@@ -0,0 +1,23 @@
+package br.com.vounovolei.api.service;
+
+/**
+ * Onde as tentativas são contadas. Implementações: InMemoryRateLimitStore (padrão, por instância) e
+ * MySqlRateLimitStore (compartilhado entre instâncias), escolhidas por app.rate-limit.store.
+ */
+public interface RateLimitStore {
+
+    /**
+     * Registra a tentativa e devolve true se ela cabe no limite configurado para o escopo.
+     */
+    boolean tryAcquire(RateLimitScope scope, String actorKey);
+
+    /**
+     * Consulta sem registrar nada: true se a próxima tentativa seria recusada.
+     */
+    boolean isExhausted(RateLimitScope scope, String actorKey);
+
+    /**
+     * Zera as tentativas contadas para a chave no escopo.
+     */
+    void reset(RateLimitScope scope, String actorKey);
+}
@@ -0,0 +1,145 @@
+package br.com.vounovolei.api.service;
+
+import br.com.vounovolei.api.domain.auth.RefreshToken;
+import br.com.vounovolei.api.repository.RefreshTokenRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.jsonwebtoken.Claims;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Refresh tokens com rotação: cada uso marca o token como rotacionado e emite o sucessor na mesma
+ * família. Reapresentar um token já rotacionado (fora da folga entre abas) é tratado como roubo e
+ * revoga a família inteira. Famílias revogadas ficam num conjunto local, então replays repetidos são
+ * recusados sem ir ao banco; o refresh legítimo custa um UPDATE condicional e o INSERT do sucessor.
+ */
+@Slf4j
+@Service
+public class RefreshTokenService {
+
+    private static final int PURGE_BATCH_SIZE = 1000;
+
+    // duas abas podem mandar o mesmo token quase juntas; reuso dentro dessa folga não derruba a família
+    private static final Duration ROTATION_GRACE = Duration.ofSeconds(10);
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final JwtService jwtService;
+    private final Cache<String, Boolean> revokedFamilies;
+
+    public RefreshTokenService(
+            RefreshTokenRepository refreshTokenRepository,
+            JwtService jwtService,
+            @Value("${security.jwt.revoked-families.max-size}") long revokedFamiliesMaxSize
+    ) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.jwtService = jwtService;
+        // depois da vida útil do refresh token a própria expiração do JWT já recusa
+        this.revokedFamilies = Caffeine.newBuilder()
+                .maximumSize(revokedFamiliesMaxSize)
+                .expireAfterWrite(jwtService.refreshTokenLifetime())
+                .build();
+    }
+
+    /** Abre uma família nova (login/cadastro). */
+    @Transactional
+    public String issue(Long userId, long securityVersion) {
+        return issue(userId, securityVersion, UUID.randomUUID().toString(), Instant.now());
+    }
+
+    /** Rotaciona o token e emite o sucessor já com a versão de segurança atual do usuário. */
+    @Transactional(noRollbackFor = ResponseStatusException.class)
+    public Rotation rotate(Claims claims, long securityVersion) {
+        String tokenId = claims.getId();
+        String familyId = claims.get("family", String.class);
+        Long userId = parseUserId(claims);
+        if (tokenId == null || familyId == null || userId == null) {
+            throw invalid();
+        }
+
+        if (revokedFamilies.getIfPresent(familyId) != null) {
+            throw invalid();
+        }
+
+        Instant now = Instant.now();
+        if (refreshTokenRepository.rotate(tokenId, now) == 1) {
+            return new Rotation(userId, issue(userId, securityVersion, familyId, now));
+        }
+
+        RefreshToken stored = refreshTokenRepository.findById(tokenId).orElse(null);
+        if (stored == null || !stored.getExpiresAt().isAfter(now)) {
+            throw invalid();
+        }
+
+        if (stored.getRevokedAt() != null) {
+            revokedFamilies.put(familyId, Boolean.TRUE);
+            throw invalid();
+        }
+
+        if (stored.getRotatedAt().plus(ROTATION_GRACE).isAfter(now)) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "REFRESH_TOKEN_ROTACIONADO");
+        }
+
+        refreshTokenRepository.revokeFamily(familyId, now);
+        revokedFamilies.put(familyId, Boolean.TRUE);
+        log.warn("Refresh token reuse detected; revoked token family {} of user {}", familyId, stored.getUserId());
+        throw invalid();
+    }
+
+    /** Logout: revoga a família do token apresentado. */
+    @Transactional
+    public void revoke(Claims claims) {
+        String familyId = claims.get("family", String.class);
+        if (familyId == null || revokedFamilies.getIfPresent(familyId) != null) {
+            return;
+        }
+
+        refreshTokenRepository.revokeFamily(familyId, Instant.now());
+        revokedFamilies.put(familyId, Boolean.TRUE);
+    }
+
+    // lotes pequenos para não segurar locks da tabela
+    @Scheduled(fixedDelay = 3_600_000, initialDelay = 120_000)
+    public void purgeExpiredTokens() {
+        int deleted;
+        int total = 0;
+        do {
+            deleted = refreshTokenRepository.deleteExpired(Instant.now());
+            total += deleted;
+        } while (deleted == PURGE_BATCH_SIZE);
+
+        if (total > 0) {
+            log.debug("Purged {} expired refresh tokens", total);
+        }
+    }
+
+    private String issue(Long userId, long securityVersion, String familyId, Instant now) {
+        String tokenId = UUID.randomUUID().toString();
+        Instant expiresAt = now.plus(jwtService.refreshTokenLifetime());
+        refreshTokenRepository.insert(tokenId, familyId, userId, expiresAt);
+        return jwtService.generateRefreshToken(userId, securityVersion, tokenId, familyId, now, expiresAt);
+    }
+
+    private Long parseUserId(Claims claims) {
+        try {
+            return Long.valueOf(claims.getSubject());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private ResponseStatusException invalid() {
+        return new ResponseStatusException(HttpStatus.UNAUTHORIZED, "REFRESH_TOKEN_INVALIDO");
+    }
+
+    public record Rotation(Long userId, String refreshToken) {}
+}
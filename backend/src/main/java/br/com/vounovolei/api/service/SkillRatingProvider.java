@@ -0,0 +1,15 @@
+package br.com.vounovolei.api.service;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Fonte das notas de habilidade usadas para equilibrar o sorteio de times.
+ * Jogadores ausentes do mapa recebem a nota neutra (1.0).
+ */
+public interface SkillRatingProvider {
+
+    double NEUTRAL_RATING = 1.0;
+
+    Map<Long, Double> ratingsFor(Long eventId, Collection<Long> userIds);
+}
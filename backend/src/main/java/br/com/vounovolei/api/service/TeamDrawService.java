@@ -0,0 +1,160 @@
+package br.com.vounovolei.api.service;
+
+import br.com.vounovolei.api.controller.event.dto.DrawTeamsRequest;
+import br.com.vounovolei.api.controller.event.dto.EventParticipantResponse;
+import br.com.vounovolei.api.controller.event.dto.EventRosterDelta;
+import br.com.vounovolei.api.controller.event.dto.EventTeamResponse;
+import br.com.vounovolei.api.controller.event.dto.EventTeamsResponse;
+import br.com.vounovolei.api.domain.event.Event;
+import br.com.vounovolei.api.domain.event.EventTeamDraw;
+import br.com.vounovolei.api.domain.event.EventTeamDrawMember;
+import br.com.vounovolei.api.domain.event.RegistrationStatus;
+import br.com.vounovolei.api.repository.EventRegistrationRepository;
+import br.com.vounovolei.api.repository.EventRepository;
+import br.com.vounovolei.api.repository.EventTeamDrawMemberRepository;
+import br.com.vounovolei.api.repository.EventTeamDrawRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Sorteio de times persistido por evento: todos veem o mesmo resultado e ele pode ser
+ * reproduzido a partir da semente. Só o criador do evento (ou admin) sorteia de novo.
+ */
+@Service
+@RequiredArgsConstructor
+public class TeamDrawService {
+
+    private final EventRepository eventRepository;
+    private final EventRegistrationRepository eventRegistrationRepository;
+    private final EventTeamDrawRepository eventTeamDrawRepository;
+    private final EventTeamDrawMemberRepository eventTeamDrawMemberRepository;
+    private final SkillRatingProvider skillRatingProvider;
+    private final EventRosterHub eventRosterHub;
+
+    @Transactional
+    public EventTeamsResponse draw(Long eventId, DrawTeamsRequest req, Long userId, boolean isAdmin) {
+        // mesma trava das inscrições: o elenco não muda durante o sorteio e dois sorteios não competem
+        eventRepository.lockRosterById(eventId)
+                .orElseThrow(() -> new IllegalArgumentException("EVENT_NOT_FOUND"));
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new IllegalArgumentException("EVENT_NOT_FOUND"));
+
+        boolean isOwner = event.getCreatedByUserId() != null && event.getCreatedByUserId().equals(userId);
+        if (!isAdmin && !isOwner) {
+            throw new AccessDeniedException("FORBIDDEN");
+        }
+
+        List<EventParticipantResponse> players = confirmedParticipants(eventId);
+        if (req.userIds() != null) {
+            Set<Long> selected = new HashSet<>(req.userIds());
+            players = players.stream().filter(player -> selected.contains(player.id())).toList();
+        }
+        if (players.size() < req.teamsCount()) {
+            throw new IllegalArgumentException("NOT_ENOUGH_PLAYERS");
+        }
+
+        long seed = req.seed() != null ? req.seed() : ThreadLocalRandom.current().nextLong();
+        List<Long> userIds = players.stream().map(EventParticipantResponse::id).toList();
+        Map<Long, Double> ratings = skillRatingProvider.ratingsFor(eventId, userIds);
+
+        List<TeamDrawer.Player> roster = players.stream()
+                .map(player -> new TeamDrawer.Player(
+                        player.id(),
+                        Boolean.TRUE.equals(player.bringBall()),
+                        ratings.getOrDefault(player.id(), SkillRatingProvider.NEUTRAL_RATING)
+                ))
+                .toList();
+        List<List<TeamDrawer.Player>> teams = TeamDrawer.draw(roster, req.teamsCount(), seed);
+
+        eventTeamDrawRepository.deleteByEventId(eventId);
+        EventTeamDraw draw = eventTeamDrawRepository.save(EventTeamDraw.builder()
+                .eventId(eventId)
+                .seed(seed)
+                .teamsCount(req.teamsCount())
+                .createdByUserId(userId)
+                .createdAt(Instant.now())
+                .build());
+
+        List<EventTeamDrawMember> members = new ArrayList<>(roster.size());
+        for (int team = 0; team < teams.size(); team++) {
+            List<TeamDrawer.Player> teamPlayers = teams.get(team);
+            for (int slot = 0; slot < teamPlayers.size(); slot++) {
+                members.add(EventTeamDrawMember.builder()
+                        .drawId(draw.getId())
+                        .teamNumber(team + 1)
+                        .slot(slot)
+                        .userId(teamPlayers.get(slot).userId())
+                        .build());
+            }
+        }
+        eventTeamDrawMemberRepository.saveAll(members);
+
+        eventRosterHub.publish(EventRosterDelta.teamsDrawn(eventId));
+        return toResponse(draw, members, players);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<EventTeamsResponse> current(Long eventId) {
+        if (!eventRepository.existsById(eventId)) {
+            throw new IllegalArgumentException("EVENT_NOT_FOUND");
+        }
+
+        return eventTeamDrawRepository.findByEventId(eventId)
+                .map(draw -> toResponse(
+                        draw,
+                        eventTeamDrawMemberRepository.findByDrawIdOrderByTeamNumberAscSlotAsc(draw.getId()),
+                        confirmedParticipants(eventId)
+                ));
+    }
+
+    private List<EventParticipantResponse> confirmedParticipants(Long eventId) {
+        return eventRegistrationRepository.findParticipantsByEventId(eventId).stream()
+                .filter(participant -> participant.status() == RegistrationStatus.CONFIRMED)
+                .toList();
+    }
+
+    // quem saiu do evento depois do sorteio some do time; o resto mantém a posição
+    private EventTeamsResponse toResponse(
+            EventTeamDraw draw,
+            List<EventTeamDrawMember> members,
+            List<EventParticipantResponse> participants
+    ) {
+        Map<Long, EventParticipantResponse> byId = participants.stream()
+                .collect(Collectors.toMap(EventParticipantResponse::id, Function.identity()));
+
+        Map<Integer, List<EventParticipantResponse>> playersByTeam = new LinkedHashMap<>();
+        for (int team = 1; team <= draw.getTeamsCount(); team++) {
+            playersByTeam.put(team, new ArrayList<>());
+        }
+        for (EventTeamDrawMember member : members) {
+            EventParticipantResponse participant = byId.get(member.getUserId());
+            if (participant != null) {
+                playersByTeam.get(member.getTeamNumber()).add(participant);
+            }
+        }
+
+        List<EventTeamResponse> teams = playersByTeam.entrySet().stream()
+                .map(entry -> new EventTeamResponse(
+                        entry.getKey(),
+                        entry.getValue().stream().filter(player -> Boolean.TRUE.equals(player.bringBall())).count(),
+                        entry.getValue()
+                ))
+                .toList();
+
+        return new EventTeamsResponse(draw.getEventId(), draw.getSeed(), draw.getTeamsCount(), draw.getCreatedAt(), teams);
+    }
+}
@@ -0,0 +1,79 @@
+package br.com.vounovolei.api.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+
+/**
+ * Algoritmo do sorteio de times, sem dependência de banco.
+ * <p>
+ * O elenco é ordenado por id e embaralhado com a semente, então a mesma semente com os mesmos
+ * jogadores sempre gera os mesmos times. Depois os jogadores entram em ordem (quem leva bola
+ * primeiro, depois da maior para a menor nota) sempre no time com menos jogadores e, no empate,
+ * com a menor soma de notas. Assim os tamanhos diferem no máximo em 1, as bolas se espalham entre
+ * os times e as notas ficam equilibradas, em O(n log n).
+ */
+final class TeamDrawer {
+
+    private TeamDrawer() {
+    }
+
+    record Player(Long userId, boolean bringBall, double rating) {
+    }
+
+    static List<List<Player>> draw(List<Player> roster, int teamsCount, long seed) {
+        if (teamsCount < 1) {
+            throw new IllegalArgumentException("INVALID_TEAMS_COUNT");
+        }
+
+        List<Player> players = new ArrayList<>(roster);
+        players.sort(Comparator.comparing(Player::userId));
+        shuffle(players, new SplittableRandom(seed));
+
+        // sort estável: jogadores equivalentes mantêm a ordem sorteada
+        players.sort(Comparator.comparing((Player player) -> !player.bringBall())
+                .thenComparing(Player::rating, Comparator.reverseOrder()));
+
+        List<Team> teams = new ArrayList<>(teamsCount);
+        PriorityQueue<Team> nextTeam = new PriorityQueue<>(Comparator.comparingInt((Team team) -> team.players.size())
+                .thenComparingDouble(team -> team.ratingSum)
+                .thenComparingInt(team -> team.index));
+        for (int i = 0; i < teamsCount; i++) {
+            Team team = new Team(i);
+            teams.add(team);
+            nextTeam.add(team);
+        }
+
+        for (Player player : players) {
+            Team team = nextTeam.poll();
+            team.players.add(player);
+            team.ratingSum += player.rating();
+            nextTeam.add(team);
+        }
+
+        List<List<Player>> result = new ArrayList<>(teamsCount);
+        for (Team team : teams) {
+            result.add(Collections.unmodifiableList(team.players));
+        }
+        return result;
+    }
+
+    private static void shuffle(List<Player> players, SplittableRandom random) {
+        for (int i = players.size() - 1; i > 0; i--) {
+            Collections.swap(players, i, random.nextInt(i + 1));
+        }
+    }
+
+    private static final class Team {
+        private final int index;
+        private final List<Player> players = new ArrayList<>();
+        private double ratingSum;
+
+        private Team(int index) {
+            this.index = index;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package br.com.vounovolei.api.service;
+
+import java.time.Duration;
+
+/**
+ * Circuito por host externo: depois de N falhas seguidas fica aberto (chamadas recusadas sem rede)
+ * pelo tempo configurado; passado esse tempo, uma única chamada de teste decide se fecha ou reabre.
+ */
+final class UpstreamCircuitBreaker {
+
+    private final int failureThreshold;
+    private final long openNanos;
+
+    private int consecutiveFailures;
+    private long openUntilNanos;
+    private boolean trialInFlight;
+
+    UpstreamCircuitBreaker(int failureThreshold, Duration openDuration) {
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openNanos = openDuration.toNanos();
+    }
+
+    synchronized boolean tryAcquire() {
+        if (consecutiveFailures < failureThreshold) {
+            return true;
+        }
+        if (trialInFlight || System.nanoTime() < openUntilNanos) {
+            return false;
+        }
+        trialInFlight = true;
+        return true;
+    }
+
+    synchronized void onSuccess() {
+        consecutiveFailures = 0;
+        trialInFlight = false;
+    }
+
+    /**
+     * Devolve true quando esta falha abriu (ou reabriu) o circuito.
+     */
+    synchronized boolean onFailure() {
+        consecutiveFailures++;
+        trialInFlight = false;
+        if (consecutiveFailures < failureThreshold) {
+            return false;
+        }
+        openUntilNanos = System.nanoTime() + openNanos;
+        return true;
+    }
+}
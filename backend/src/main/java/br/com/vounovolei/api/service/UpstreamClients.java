@@ -0,0 +1,70 @@
+package br.com.vounovolei.api.service;
+
+import br.com.vounovolei.api.config.WeatherProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Ponto único de saída para APIs externas (Open-Meteo): RestClient com timeouts de conexão/leitura,
+ * intervalo mínimo entre chamadas ao mesmo host e circuit breaker por host.
+ */
+@Component
+@Slf4j
+class UpstreamClients {
+
+    private final UpstreamRateLimiter upstreamRateLimiter;
+    private final WeatherProperties properties;
+    private final Map<String, UpstreamCircuitBreaker> breakersByHost = new ConcurrentHashMap<>();
+
+    UpstreamClients(UpstreamRateLimiter upstreamRateLimiter, WeatherProperties properties) {
+        this.upstreamRateLimiter = upstreamRateLimiter;
+        this.properties = properties;
+    }
+
+    RestClient create(String baseUrl) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(properties.getConnectTimeoutMs());
+        requestFactory.setReadTimeout(properties.getReadTimeoutMs());
+
+        return RestClient.builder()
+                .baseUrl(baseUrl)
+                .requestFactory(requestFactory)
+                .build();
+    }
+
+    /**
+     * Executa a chamada se o circuito do host permitir. Erros 4xx são da requisição, não do host,
+     * e não contam como falha.
+     */
+    <T> T call(String host, Supplier<T> request) {
+        UpstreamCircuitBreaker breaker = breakersByHost.computeIfAbsent(host, ignored -> new UpstreamCircuitBreaker(
+                properties.getCircuitFailureThreshold(),
+                Duration.ofSeconds(properties.getCircuitOpenSeconds())));
+        if (!breaker.tryAcquire()) {
+            throw new IllegalStateException("UPSTREAM_CIRCUIT_OPEN");
+        }
+
+        try {
+            upstreamRateLimiter.acquire(host);
+            T response = request.get();
+            breaker.onSuccess();
+            return response;
+        } catch (HttpClientErrorException ex) {
+            breaker.onSuccess();
+            throw ex;
+        } catch (RuntimeException ex) {
+            if (breaker.onFailure()) {
+                log.warn("Circuit opened for host={} for {}s", host, properties.getCircuitOpenSeconds());
+            }
+            throw ex;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package br.com.vounovolei.api.service;
+
+import br.com.vounovolei.api.config.WeatherProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Espaça as chamadas a cada host externo: quem chega reserva o próximo horário livre e espera até ele.
+ * Vale para todas as threads da instância (atualização agendada e chamadas avulsas).
+ */
+@Component
+class UpstreamRateLimiter {
+
+    private final long minIntervalNanos;
+    private final Map<String, AtomicLong> nextSlotByHost = new ConcurrentHashMap<>();
+
+    UpstreamRateLimiter(WeatherProperties properties) {
+        this.minIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, properties.getMinRequestIntervalMs()));
+    }
+
+    void acquire(String host) {
+        if (minIntervalNanos == 0) {
+            return;
+        }
+
+        AtomicLong nextSlot = nextSlotByHost.computeIfAbsent(host, ignored -> new AtomicLong(System.nanoTime()));
+        long now = System.nanoTime();
+        long slot = nextSlot.getAndAccumulate(now, (reserved, current) -> Math.max(reserved, current) + minIntervalNanos);
+        long waitNanos = Math.max(slot, now) - now;
+        if (waitNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("UPSTREAM_RATE_LIMIT_INTERRUPTED", ex);
+            }
+        }
+    }
+}
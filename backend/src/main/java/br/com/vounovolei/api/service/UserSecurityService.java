@@ -0,0 +1,63 @@
+package br.com.vounovolei.api.service;
+
+import br.com.vounovolei.api.domain.user.User;
+import br.com.vounovolei.api.repository.UserRepository;
+import br.com.vounovolei.api.repository.UserSecurityState;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Versão de segurança por usuário (id, e-mail, papel e security_version), em cache para que o filtro
+ * JWT e o /auth/refresh não carreguem a entidade. Alterações passam por aqui e invalidam a entrada
+ * após o commit; o TTL curto limita a defasagem entre instâncias.
+ * Métricas em /actuator/metrics/cache.* com cache=user-security.
+ */
+@Service
+public class UserSecurityService {
+
+    private final LoadingCache<Long, Optional<UserSecurityState>> cache;
+
+    public UserSecurityService(
+            UserRepository userRepository,
+            @Value("${app.cache.user-security.max-size}") long maxSize,
+            @Value("${app.cache.user-security.ttl-seconds}") long ttlSeconds,
+            MeterRegistry meterRegistry
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build(userRepository::findSecurityStateById);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "user-security");
+    }
+
+    /** Vazio se o usuário não existe mais. Chamadas simultâneas para o mesmo id fazem uma só consulta. */
+    public Optional<UserSecurityState> current(Long userId) {
+        return cache.get(userId);
+    }
+
+    /** O token ainda corresponde à versão atual do usuário? */
+    public boolean isCurrent(Long userId, Long tokenVersion) {
+        return tokenVersion != null && current(userId)
+                .map(state -> state.securityVersion().equals(tokenVersion))
+                .orElse(false);
+    }
+
+    /** Invalida todos os tokens do usuário (gravado junto com a transação da entidade). */
+    public void bump(User user) {
+        user.setSecurityVersion(user.getSecurityVersion() + 1);
+        evict(user.getId());
+    }
+
+    /** E-mail/papel mudaram ou o usuário saiu: descarta a entrada depois do commit. */
+    public void evict(Long userId) {
+        AfterCommit.run(() -> cache.invalidate(userId));
+    }
+}
@@ -0,0 +1,7 @@
+package br.com.vounovolei.api.service;
+
+/**
+ * Resposta acompanhada do content_version lido antes de montá-la, usado para gerar o ETag.
+ */
+public record Versioned<T>(long version, T body) {
+}
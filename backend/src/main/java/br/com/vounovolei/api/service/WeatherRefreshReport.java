@@ -0,0 +1,22 @@
+package br.com.vounovolei.api.service;
+
+/**
+ * Resumo de um ciclo de atualização de clima: eventos lidos (scanned), localizações distintas, chamadas
+ * feitas à API de previsão, eventos regravados porque a previsão mudou (written) e o tempo de cada etapa.
+ */
+public record WeatherRefreshReport(
+        int scanned,
+        int locations,
+        int forecastCalls,
+        int written,
+        long totalMillis,
+        long readMillis,
+        long fetchMillis,
+        long writeMillis
+) {
+
+    // só as etapas de leitura e escrita seguram conexão com o banco
+    public long connectionHeldMillis() {
+        return readMillis + writeMillis;
+    }
+}
@@ -0,0 +1,6 @@
+ALTER TABLE events
+ADD COLUMN capacity INT NULL AFTER description;
+
+ALTER TABLE event_registrations
+ADD COLUMN status VARCHAR(20) NOT NULL DEFAULT 'CONFIRMED' AFTER bring_ball,
+ADD INDEX idx_event_reg_event_status (event_id, status, id);
@@ -0,0 +1,36 @@
+CREATE TABLE event_team_draws (
+  id BIGINT NOT NULL AUTO_INCREMENT,
+  event_id BIGINT NOT NULL,
+  seed BIGINT NOT NULL,
+  teams_count INT NOT NULL,
+  created_by_user_id BIGINT NULL,
+  created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+  PRIMARY KEY (id),
+
+  CONSTRAINT uk_team_draw_event UNIQUE (event_id),
+
+  CONSTRAINT fk_team_draw_event
+    FOREIGN KEY (event_id) REFERENCES events(id)
+    ON DELETE CASCADE
+);
+
+CREATE TABLE event_team_draw_members (
+  id BIGINT NOT NULL AUTO_INCREMENT,
+  draw_id BIGINT NOT NULL,
+  team_number INT NOT NULL,
+  slot INT NOT NULL,
+  user_id BIGINT NOT NULL,
+
+  PRIMARY KEY (id),
+
+  CONSTRAINT fk_team_member_draw
+    FOREIGN KEY (draw_id) REFERENCES event_team_draws(id)
+    ON DELETE CASCADE,
+
+  CONSTRAINT fk_team_member_user
+    FOREIGN KEY (user_id) REFERENCES users(id)
+    ON DELETE CASCADE,
+
+  INDEX idx_team_member_draw (draw_id, team_number, slot)
+);
@@ -0,0 +1,14 @@
+CREATE TABLE city_geolocations (
+  id BIGINT NOT NULL AUTO_INCREMENT,
+  city_key VARCHAR(120) NOT NULL,
+  state CHAR(2) NOT NULL,
+  city VARCHAR(120) NOT NULL,
+  latitude DOUBLE NOT NULL,
+  longitude DOUBLE NOT NULL,
+  source VARCHAR(20) NOT NULL,
+  resolved_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+  PRIMARY KEY (id),
+
+  CONSTRAINT uk_city_geolocation UNIQUE (city_key, state)
+);
@@ -0,0 +1,14 @@
+-- Contadores de rate limit compartilhados entre instâncias: uma linha por escopo/ator/janela fixa.
+CREATE TABLE rate_limit_buckets (
+  id BIGINT NOT NULL AUTO_INCREMENT,
+  scope VARCHAR(40) NOT NULL,
+  actor_key VARCHAR(190) NOT NULL,
+  window_start BIGINT NOT NULL,
+  hits INT NOT NULL,
+  expires_at TIMESTAMP NOT NULL,
+
+  PRIMARY KEY (id),
+
+  CONSTRAINT uk_rate_limit_bucket UNIQUE (scope, actor_key, window_start),
+  INDEX idx_rate_limit_bucket_expires (expires_at)
+);
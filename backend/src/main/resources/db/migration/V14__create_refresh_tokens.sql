@@ -0,0 +1,20 @@
+-- Refresh tokens emitidos, um por jti. Cada login abre uma família; cada /auth/refresh marca o token
+-- como rotacionado e emite o sucessor na mesma família. Reuso de um token rotacionado revoga a família.
+CREATE TABLE refresh_tokens (
+  id VARCHAR(36) NOT NULL,
+  family_id VARCHAR(36) NOT NULL,
+  user_id BIGINT NOT NULL,
+  expires_at TIMESTAMP NOT NULL,
+  rotated_at TIMESTAMP NULL,
+  revoked_at TIMESTAMP NULL,
+  created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+  PRIMARY KEY (id),
+
+  CONSTRAINT fk_refresh_token_user
+    FOREIGN KEY (user_id) REFERENCES users(id)
+    ON DELETE CASCADE,
+
+  INDEX idx_refresh_token_family (family_id),
+  INDEX idx_refresh_token_expires (expires_at)
+);
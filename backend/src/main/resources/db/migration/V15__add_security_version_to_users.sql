@@ -0,0 +1,4 @@
+-- Versão de segurança do usuário, copiada nos tokens. Troca de senha ou mudança de papel (inclusive pelo
+-- admin) incrementam o valor e invalidam todos os tokens emitidos antes; usuário excluído não renova mais.
+ALTER TABLE users
+  ADD COLUMN security_version BIGINT NOT NULL DEFAULT 0;
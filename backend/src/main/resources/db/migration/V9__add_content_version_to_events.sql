@@ -0,0 +1,2 @@
+ALTER TABLE events
+  ADD COLUMN content_version BIGINT NOT NULL DEFAULT 0 AFTER weather_last_updated_at;
@@ -0,0 +1,113 @@
+package br.com.vounovolei.api.security;
+
+import br.com.vounovolei.api.domain.user.UserRole;
+import br.com.vounovolei.api.repository.UserRepository;
+import br.com.vounovolei.api.repository.UserSecurityState;
+import br.com.vounovolei.api.service.JwtService;
+import br.com.vounovolei.api.service.UserSecurityService;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class VerifiedAccessTokensTests {
+
+    private static final String SECRET = "632598623952369865903003566748393365632799312";
+
+    private final JwtService jwtService = new JwtService(SECRET, 15, 60, 10);
+    private final AtomicLong securityVersion = new AtomicLong();
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final UserSecurityService userSecurityService;
+    private final VerifiedAccessTokens tokens;
+
+    VerifiedAccessTokensTests() {
+        when(userRepository.findSecurityStateById(anyLong())).thenAnswer(invocation -> Optional.of(new UserSecurityState(
+                invocation.getArgument(0), "ana@example.com", UserRole.USER, securityVersion.get())));
+        userSecurityService = new UserSecurityService(userRepository, 1000, 60, new SimpleMeterRegistry());
+        tokens = new VerifiedAccessTokens(jwtService, userSecurityService, 1000, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void reusesAuthenticationForRepeatedAccessToken() {
+        String token = jwtService.generateAccessToken(7L, "ana@example.com", "USER", 0);
+
+        Authentication first = tokens.authenticate(token);
+        Authentication second = tokens.authenticate(token);
+
+        assertThat(first.getName()).isEqualTo("7");
+        assertThat(first.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+        assertThat(second).isSameAs(first);
+        assertThat(tokens.size()).isEqualTo(1);
+    }
+
+    @Test
+    void authenticationCarriesTheTokenExpiry() {
+        String token = jwtService.generateAccessToken(7L, "ana@example.com", "USER", 0);
+
+        Instant expiresAt = AccessTokenDetails.expiresAt(tokens.authenticate(token)).orElseThrow();
+
+        assertThat(expiresAt).isEqualTo(jwtService.parseClaims(token).getExpiration().toInstant());
+    }
+
+    @Test
+    void rejectsCachedTokenOnceSecurityVersionChanges() {
+        String token = jwtService.generateAccessToken(7L, "ana@example.com", "USER", 0);
+        assertThat(tokens.authenticate(token)).isNotNull();
+
+        securityVersion.incrementAndGet();
+        userSecurityService.evict(7L);
+
+        assertThat(tokens.authenticate(token)).isNull();
+    }
+
+    @Test
+    void tokenWithoutSecurityVersionCountsAsVersionZero() {
+        // formato anterior à V15, sem a claim sv
+        String legacy = Jwts.builder()
+                .subject("7")
+                .claim("type", "access")
+                .claim("email", "ana@example.com")
+                .claim("role", "USER")
+                .expiration(Date.from(Instant.now().plusSeconds(60)))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+        assertThat(tokens.authenticate(legacy)).isNotNull();
+
+        securityVersion.incrementAndGet();
+        userSecurityService.evict(7L);
+
+        assertThat(tokens.authenticate(legacy)).isNull();
+    }
+
+    @Test
+    void rejectsRefreshAndTamperedTokensWithoutCachingThem() {
+        String refresh = jwtService.generateRefreshToken(
+                7L, 0, "jti", "family", Instant.now(), Instant.now().plusSeconds(60));
+        String access = jwtService.generateAccessToken(7L, "ana@example.com", "USER", 0);
+        String tampered = access.substring(0, access.length() - 2) + (access.endsWith("A") ? "BB" : "AA");
+
+        assertThat(tokens.authenticate(refresh)).isNull();
+        assertThat(tokens.authenticate(tampered)).isNull();
+        assertThat(tokens.authenticate("lixo")).isNull();
+        assertThat(tokens.size()).isZero();
+    }
+}
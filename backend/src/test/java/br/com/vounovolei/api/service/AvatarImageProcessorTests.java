@@ -0,0 +1,89 @@
+package br.com.vounovolei.api.service;
+
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AvatarImageProcessorTests {
+
+    private final AvatarImageProcessor processor = new AvatarImageProcessor();
+
+    @Test
+    void writesSquareJpegVariantsFromCenterCrop() throws IOException {
+        // 1200x600: faixas laterais vermelhas ficam fora do recorte central, o centro é azul
+        BufferedImage source = new BufferedImage(1200, 600, BufferedImage.TYPE_INT_ARGB);
+        for (int x = 0; x < 1200; x++) {
+            for (int y = 0; y < 600; y++) {
+                source.setRGB(x, y, (x < 300 || x >= 900 ? Color.RED : Color.BLUE).getRGB());
+            }
+        }
+
+        Map<Integer, ByteArrayOutputStream> outputs = new HashMap<>();
+        processor.process(new ByteArrayInputStream(png(source)), size -> {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            outputs.put(size, out);
+            return out;
+        });
+
+        assertThat(outputs).containsOnlyKeys(256, 128, 64);
+        for (Map.Entry<Integer, ByteArrayOutputStream> variant : outputs.entrySet()) {
+            byte[] bytes = variant.getValue().toByteArray();
+            assertThat(bytes[0] & 0xFF).isEqualTo(0xFF);
+            assertThat(bytes[1] & 0xFF).isEqualTo(0xD8);
+
+            BufferedImage image = ImageIO.read(new ByteArrayInputStream(bytes));
+            assertThat(image.getWidth()).isEqualTo(variant.getKey());
+            assertThat(image.getHeight()).isEqualTo(variant.getKey());
+            assertThat(new Color(image.getRGB(2, 2)).getBlue()).isGreaterThan(200);
+            assertThat(new Color(image.getRGB(2, 2)).getRed()).isLessThan(60);
+        }
+    }
+
+    @Test
+    void hasWebpReaderRegistered() {
+        assertThat(ImageIO.getImageReadersByFormatName("webp").hasNext()).isTrue();
+    }
+
+    @Test
+    void rejectsContentThatIsNotAnImageRegardlessOfName() {
+        byte[] notAnImage = "<svg xmlns='http://www.w3.org/2000/svg'/>".getBytes(StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> processor.process(new ByteArrayInputStream(notAnImage), size -> new ByteArrayOutputStream()))
+                .isInstanceOf(InvalidFileException.class);
+    }
+
+    @Test
+    void readsExifOrientationAndRotatesSquare() {
+        // APP1 "Exif\0\0" + TIFF big-endian com uma entrada 0x0112 = 6 (girar 90° horário)
+        byte[] app1 = {
+                'E', 'x', 'i', 'f', 0, 0,
+                'M', 'M', 0, 42, 0, 0, 0, 8,
+                0, 1,
+                0x01, 0x12, 0, 3, 0, 0, 0, 1, 0, 6, 0, 0,
+                0, 0, 0, 0
+        };
+        assertThat(AvatarImageProcessor.orientationFromExif(app1)).isEqualTo(6);
+
+        BufferedImage square = new BufferedImage(4, 4, BufferedImage.TYPE_INT_RGB);
+        square.setRGB(0, 0, Color.RED.getRGB()); // canto superior esquerdo
+        BufferedImage rotated = AvatarImageProcessor.orient(square, 6);
+        assertThat(new Color(rotated.getRGB(3, 0)).getRed()).isEqualTo(255); // vai para o superior direito
+    }
+
+    private byte[] png(BufferedImage image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,28 @@
+package br.com.vounovolei.api.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AvatarServiceTests {
+
+    @Test
+    void keepsEveryVariantOfCurrentHashedAvatar() {
+        String current = "avatar-0123456789abcdef-256.jpg";
+
+        assertThat(AvatarService.belongsToAvatar("avatar-0123456789abcdef-256.jpg", current)).isTrue();
+        assertThat(AvatarService.belongsToAvatar("avatar-0123456789abcdef-128.jpg", current)).isTrue();
+        assertThat(AvatarService.belongsToAvatar("avatar-0123456789abcdef-64.jpg", current)).isTrue();
+
+        assertThat(AvatarService.belongsToAvatar("avatar-fedcba9876543210-64.jpg", current)).isFalse();
+        assertThat(AvatarService.belongsToAvatar("avatar-0123456789abcdef-32.jpg", current)).isFalse();
+        assertThat(AvatarService.belongsToAvatar("avatar.png", current)).isFalse();
+    }
+
+    @Test
+    void legacyAvatarKeepsOnlyItsSingleFile() {
+        assertThat(AvatarService.belongsToAvatar("avatar.png", "avatar.png")).isTrue();
+        assertThat(AvatarService.belongsToAvatar("avatar-0123456789abcdef-256.jpg", "avatar.png")).isFalse();
+        assertThat(AvatarService.belongsToAvatar("avatar.png", null)).isFalse();
+    }
+}
@@ -0,0 +1,64 @@
+package br.com.vounovolei.api.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedPasswordEncoderTests {
+
+    @Test
+    void queuesUpToCapacityAndRejectsBeyondIt() throws Exception {
+        CountDownLatch hashing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder slow = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                hashing.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return rawPassword.toString().equals(encodedPassword);
+            }
+        };
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        try (BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(slow, 1, 1, registry)) {
+            CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> encoder.matches("senha", "senha"));
+            assertThat(hashing.await(5, TimeUnit.SECONDS)).isTrue();
+
+            CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> encoder.matches("senha", "outra"));
+            while (encoder.queuedCount() < 1) {
+                Thread.onSpinWait();
+            }
+            assertThat(encoder.activeCount()).isEqualTo(1);
+            assertThat(registry.get("auth.password.hashing.queue").gauge().value()).isEqualTo(1.0);
+
+            assertThatThrownBy(() -> encoder.matches("senha", "senha"))
+                    .isInstanceOf(RateLimitExceededException.class)
+                    .extracting("error")
+                    .isEqualTo("AUTH_BUSY");
+
+            release.countDown();
+            assertThat(running.get(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(queued.get(5, TimeUnit.SECONDS)).isFalse();
+
+            assertThat(registry.counter("auth.password.hashes", "result", "computed").count()).isEqualTo(2.0);
+            assertThat(registry.counter("auth.password.hashes", "result", "rejected").count()).isEqualTo(1.0);
+            assertThat(registry.timer("auth.password.hashing.wait").count()).isEqualTo(2);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package br.com.vounovolei.api.service;
+
+import br.com.vounovolei.api.controller.city.dto.CityResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CityIndexTests {
+
+    private final CityIndex cityIndex = new CityIndex();
+
+    @Test
+    void searchIsAccentInsensitiveAndPrefersNamePrefix() {
+        List<CityResponse> result = cityIndex.search("sao pa", null, 5);
+
+        assertThat(result).extracting(CityResponse::label).contains("São Paulo - SP");
+        assertThat(result).allMatch(city -> city.name().startsWith("São Pa"));
+    }
+
+    @Test
+    void searchMatchesWordPrefixesStateFilterAndSelectedLabel() {
+        assertThat(cityIndex.search("janeiro", null, 10)).extracting(CityResponse::label).contains("Rio de Janeiro - RJ");
+        assertThat(cityIndex.search("rio", "RS", 50)).allMatch(city -> city.state().equals("RS"));
+        assertThat(cityIndex.search("Belém - PA", null, 5)).extracting(CityResponse::label).containsExactly("Belém - PA");
+    }
+
+    @Test
+    void requireReturnsOfficialSpellingOrRejectsUnknownCity() {
+        assertThat(cityIndex.require("  sao paulo ", "sp").name()).isEqualTo("São Paulo");
+        assertThatThrownBy(() -> cityIndex.require("Sao Palo", "SP"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("INVALID_CITY");
+        assertThatThrownBy(() -> cityIndex.require("Sao Paulo", "RJ"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void datasetCoordinatesComeFromTheSameFile() {
+        assertThat(cityIndex.search("", null, 1)).isNotEmpty();
+        assertThat(cityIndex.datasetLocations())
+                .anySatisfy(location -> {
+                    assertThat(location.city()).isEqualTo("São Paulo");
+                    assertThat(location.state()).isEqualTo("SP");
+                    assertThat(location.latitude()).isBetween(-24.0, -23.0);
+                })
+                .allSatisfy(location -> assertThat(cityIndex.find(location.city(), location.state())).isPresent());
+    }
+}
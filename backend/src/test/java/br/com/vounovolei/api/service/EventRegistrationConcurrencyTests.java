@@ -0,0 +1,184 @@
+package br.com.vounovolei.api.service;
+
+import br.com.vounovolei.api.controller.event.dto.EventParticipantResponse;
+import br.com.vounovolei.api.domain.event.Event;
+import br.com.vounovolei.api.domain.event.RegistrationStatus;
+import br.com.vounovolei.api.domain.user.User;
+import br.com.vounovolei.api.domain.user.UserRole;
+import br.com.vounovolei.api.repository.EventRegistrationRepository;
+import br.com.vounovolei.api.repository.EventRepository;
+import br.com.vounovolei.api.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+})
+class EventRegistrationConcurrencyTests {
+
+    private static final int USERS = 50;
+    private static final int CLICKS_PER_USER = 8;
+    private static final int BURST_USERS = 1_000;
+    private static final int CAPACITY = 12;
+    private static final int LEAVING = 5;
+
+    @Autowired
+    private EventRegistrationService eventRegistrationService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EventRegistrationRepository eventRegistrationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final List<Long> userIds = new ArrayList<>();
+    private Long eventId;
+
+    @AfterEach
+    void cleanUp() {
+        if (eventId != null) {
+            eventRepository.deleteById(eventId);
+        }
+        userRepository.deleteAllById(userIds);
+    }
+
+    @Test
+    void concurrentDoubleClicksRegisterEachUserOnceWithoutErrors() throws InterruptedException {
+        createUsers(USERS);
+        eventId = createEvent(null);
+
+        List<Runnable> calls = new ArrayList<>();
+        for (int click = 0; click < CLICKS_PER_USER; click++) {
+            for (Long userId : userIds) {
+                calls.add(() -> eventRegistrationService.register(eventId, userId, false));
+            }
+        }
+
+        Queue<Throwable> errors = runConcurrently(calls);
+
+        assertThat(errors).isEmpty();
+        assertThat(eventRegistrationRepository.findParticipantsByEventId(eventId)).hasSize(USERS);
+    }
+
+    @Test
+    void burstOfRegistrationsNeverExceedsCapacityAndPromotesInOrder() throws InterruptedException {
+        createUsers(BURST_USERS);
+        eventId = createEvent(CAPACITY);
+
+        List<Runnable> calls = new ArrayList<>();
+        for (Long userId : userIds) {
+            calls.add(() -> eventRegistrationService.register(eventId, userId, false));
+        }
+
+        Queue<Throwable> errors = runConcurrently(calls);
+
+        assertThat(errors).isEmpty();
+        assertThat(eventRegistrationRepository.countByEventIdAndStatus(eventId, RegistrationStatus.CONFIRMED))
+                .isEqualTo(CAPACITY);
+        assertThat(eventRegistrationRepository.countByEventIdAndStatus(eventId, RegistrationStatus.WAITLISTED))
+                .isEqualTo(BURST_USERS - CAPACITY);
+
+        List<EventParticipantResponse> before = eventRegistrationService.listParticipants(eventId);
+        List<Long> confirmed = before.stream()
+                .filter(p -> p.status() == RegistrationStatus.CONFIRMED)
+                .map(EventParticipantResponse::id)
+                .toList();
+        List<Long> queueHead = before.stream()
+                .filter(p -> p.status() == RegistrationStatus.WAITLISTED)
+                .limit(LEAVING)
+                .map(EventParticipantResponse::id)
+                .toList();
+
+        List<Runnable> leaves = new ArrayList<>();
+        for (Long userId : confirmed.subList(0, LEAVING)) {
+            leaves.add(() -> eventRegistrationService.unregister(eventId, userId));
+        }
+        assertThat(runConcurrently(leaves)).isEmpty();
+
+        List<EventParticipantResponse> after = eventRegistrationService.listParticipants(eventId);
+        assertThat(after.stream().filter(p -> p.status() == RegistrationStatus.CONFIRMED).count())
+                .isEqualTo(CAPACITY);
+        assertThat(after.stream()
+                .filter(p -> queueHead.contains(p.id()))
+                .allMatch(p -> p.status() == RegistrationStatus.CONFIRMED))
+                .isTrue();
+        assertThat(after.stream()
+                .filter(p -> p.status() == RegistrationStatus.WAITLISTED)
+                .map(EventParticipantResponse::waitlistPosition)
+                .toList())
+                .containsExactlyElementsOf(IntStream.rangeClosed(1, BURST_USERS - CAPACITY - LEAVING).boxed().toList());
+    }
+
+    private void createUsers(int count) {
+        long suffix = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            userIds.add(userRepository.save(User.builder()
+                    .name("Jogador " + i)
+                    .email("concurrency-" + i + "-" + suffix + "@vounovolei.test")
+                    .password("x")
+                    .role(UserRole.USER)
+                    .createdAt(Instant.now())
+                    .build()).getId());
+        }
+    }
+
+    private Long createEvent(Integer capacity) {
+        return eventRepository.save(Event.builder()
+                .title("Evento concorrido")
+                .eventDateTime(LocalDateTime.now().plusDays(1))
+                .location("Praia")
+                .city("Rio de Janeiro")
+                .state("RJ")
+                .capacity(capacity)
+                .createdByUserId(userIds.get(0))
+                .createdAt(Instant.now())
+                .updatedAt(Instant.now())
+                .build()).getId();
+    }
+
+    private Queue<Throwable> runConcurrently(List<Runnable> calls) throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(calls.size());
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(calls.size());
+        Queue<Throwable> errors = new ConcurrentLinkedQueue<>();
+
+        for (Runnable call : calls) {
+            pool.execute(() -> {
+                try {
+                    start.await();
+                    call.run();
+                } catch (Throwable ex) {
+                    errors.add(ex);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        start.countDown();
+        assertThat(done.await(120, TimeUnit.SECONDS)).isTrue();
+        pool.shutdownNow();
+        return errors;
+    }
+}
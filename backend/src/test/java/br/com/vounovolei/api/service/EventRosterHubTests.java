@@ -0,0 +1,33 @@
+package br.com.vounovolei.api.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventRosterHubTests {
+
+    private final Instant now = Instant.parse("2026-03-01T12:00:00Z");
+
+    @Test
+    void streamEndsWhenTheAccessTokenExpires() {
+        assertThat(EventRosterHub.emitterTimeoutMillis(now.plus(Duration.ofMinutes(4)), now))
+                .isEqualTo(Duration.ofMinutes(4).toMillis());
+    }
+
+    @Test
+    void streamNeverOutlivesThirtyMinutes() {
+        assertThat(EventRosterHub.emitterTimeoutMillis(now.plus(Duration.ofHours(2)), now))
+                .isEqualTo(Duration.ofMinutes(30).toMillis());
+        assertThat(EventRosterHub.emitterTimeoutMillis(null, now))
+                .isEqualTo(Duration.ofMinutes(30).toMillis());
+    }
+
+    @Test
+    void tokenAlreadyExpiredStillGetsAPositiveTimeout() {
+        // 0 desligaria o timeout do SseEmitter
+        assertThat(EventRosterHub.emitterTimeoutMillis(now.minusSeconds(5), now)).isEqualTo(1);
+    }
+}
@@ -0,0 +1,80 @@
+package br.com.vounovolei.api.service;
+
+import br.com.vounovolei.api.controller.event.dto.EventPageResponse;
+import br.com.vounovolei.api.controller.event.dto.EventResponse;
+import br.com.vounovolei.api.domain.event.Event;
+import br.com.vounovolei.api.domain.user.User;
+import br.com.vounovolei.api.domain.user.UserRole;
+import br.com.vounovolei.api.repository.EventRepository;
+import br.com.vounovolei.api.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class EventServiceQueryCountTests {
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void listLoadsEventsAndCreatorsInSingleStatement() {
+        LocalDateTime base = LocalDateTime.now().plusDays(1);
+        for (int i = 0; i < 30; i++) {
+            User creator = userRepository.save(User.builder()
+                    .name("Criador " + i)
+                    .email("query-count-" + i + "@vounovolei.test")
+                    .password("x")
+                    .role(UserRole.USER)
+                    .createdAt(Instant.now())
+                    .build());
+
+            eventRepository.save(Event.builder()
+                    .title("Evento " + i)
+                    .eventDateTime(base.plusHours(i))
+                    .location("Praia")
+                    .city("Cidade Contagem SQL")
+                    .state("RJ")
+                    .createdByUserId(creator.getId())
+                    .createdAt(Instant.now())
+                    .updatedAt(Instant.now())
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        EventPageResponse<EventResponse> page = eventService.list(
+                new EventFeedQuery(base, null, "Cidade Contagem SQL", "RJ", null, 30)
+        );
+
+        assertThat(page.content()).hasSize(30);
+        assertThat(page.content()).allSatisfy(event -> assertThat(event.createdByName()).startsWith("Criador "));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
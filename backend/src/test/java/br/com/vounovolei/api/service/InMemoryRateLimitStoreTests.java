@@ -0,0 +1,110 @@
+package br.com.vounovolei.api.service;
+
+import br.com.vounovolei.api.config.RateLimitProperties;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryRateLimitStoreTests {
+
+    private final AtomicLong now = new AtomicLong(1);
+    private final RateLimitProperties properties = new RateLimitProperties();
+
+    @Test
+    void allowsConfiguredAttemptsPerSlidingWindowPerActor() {
+        InMemoryRateLimitStore store = new InMemoryRateLimitStore(properties, now::get, Scheduler.disabledScheduler());
+
+        for (int attempt = 0; attempt < 3; attempt++) {
+            assertThat(store.tryAcquire(RateLimitScope.EVENT_CREATE, "7")).isTrue();
+            advance(Duration.ofMinutes(4));
+        }
+        assertThat(store.tryAcquire(RateLimitScope.EVENT_CREATE, "7")).isFalse();
+        assertThat(store.tryAcquire(RateLimitScope.EVENT_CREATE, "8")).isTrue();
+        assertThat(store.tryAcquire(RateLimitScope.ACCOUNT_CREATE, "7")).isTrue();
+
+        // a 1ª tentativa (t=0) sai da janela aos 15 min; as outras duas ainda contam
+        advance(Duration.ofMinutes(3));
+        assertThat(store.tryAcquire(RateLimitScope.EVENT_CREATE, "7")).isTrue();
+        assertThat(store.tryAcquire(RateLimitScope.EVENT_CREATE, "7")).isFalse();
+    }
+
+    @Test
+    void exhaustionCheckDoesNotConsumeAndResetClearsTheKey() {
+        InMemoryRateLimitStore store = new InMemoryRateLimitStore(properties, now::get, Scheduler.disabledScheduler());
+
+        for (int check = 0; check < 10; check++) {
+            assertThat(store.isExhausted(RateLimitScope.EVENT_CREATE, "7")).isFalse();
+        }
+        for (int attempt = 0; attempt < 3; attempt++) {
+            assertThat(store.tryAcquire(RateLimitScope.EVENT_CREATE, "7")).isTrue();
+        }
+        assertThat(store.isExhausted(RateLimitScope.EVENT_CREATE, "7")).isTrue();
+
+        store.reset(RateLimitScope.EVENT_CREATE, "7");
+        assertThat(store.isExhausted(RateLimitScope.EVENT_CREATE, "7")).isFalse();
+        assertThat(store.tryAcquire(RateLimitScope.EVENT_CREATE, "7")).isTrue();
+    }
+
+    @Test
+    void trackedKeysAreCappedAndIdleKeysExpire() {
+        properties.setMaxTrackedKeys(1000);
+        InMemoryRateLimitStore store = new InMemoryRateLimitStore(properties, now::get, Scheduler.disabledScheduler());
+
+        for (int client = 0; client < 20_000; client++) {
+            store.tryAcquire(RateLimitScope.ACCOUNT_CREATE, "10.0." + (client / 256) + "." + (client % 256));
+        }
+        assertThat(store.trackedKeys()).isLessThanOrEqualTo(1000);
+
+        advance(Duration.ofMinutes(16));
+        assertThat(store.trackedKeys()).isZero();
+    }
+
+    // 8 threads disputando 64 chaves: cada chave aceita exatamente o limite da janela
+    @Test
+    void concurrentChecksNeverExceedTheLimit() throws InterruptedException {
+        InMemoryRateLimitStore store = new InMemoryRateLimitStore(properties, System::nanoTime, Scheduler.disabledScheduler());
+        int threads = 8;
+        int checksPerThread = 10_000;
+        LongAdder accepted = new LongAdder();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        for (int thread = 0; thread < threads; thread++) {
+            int offset = thread;
+            pool.execute(() -> {
+                try {
+                    start.await();
+                    for (int check = 0; check < checksPerThread; check++) {
+                        if (store.tryAcquire(RateLimitScope.ACCOUNT_CREATE, "client-" + ((check + offset) & 63))) {
+                            accepted.increment();
+                        }
+                    }
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        start.countDown();
+        assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+        pool.shutdown();
+
+        assertThat(accepted.sum()).isEqualTo(64 * 3);
+    }
+
+    private void advance(Duration duration) {
+        now.addAndGet(duration.toNanos());
+    }
+}
@@ -0,0 +1,168 @@
+package br.com.vounovolei.api.service;
+
+import br.com.vounovolei.api.config.RateLimitProperties;
+import br.com.vounovolei.api.repository.RateLimitBucketRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class MySqlRateLimitStoreTests {
+
+    private static final long WINDOW_MILLIS = Duration.ofMinutes(15).toMillis();
+
+    private final AtomicLong now = new AtomicLong(100 * WINDOW_MILLIS);
+    private final RateLimitProperties properties = new RateLimitProperties();
+    private final RateLimitBucketRepository repository = mock(RateLimitBucketRepository.class);
+
+    // linhas de rate_limit_buckets: "escopo|chave|início da janela" -> hits
+    private final Map<String, Integer> buckets = new ConcurrentHashMap<>();
+    // executado quando o UPDATE não encontra a linha, antes de devolver 0 (simula outra instância)
+    private volatile Runnable onMissingRow = () -> {};
+
+    MySqlRateLimitStoreTests() {
+        when(repository.findHits(anyString(), anyString(), anyLong())).thenAnswer(invocation ->
+                Optional.ofNullable(buckets.get(bucket(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2)))));
+        when(repository.incrementIfBelow(anyString(), anyString(), anyLong(), anyInt())).thenAnswer(invocation -> {
+            String bucket = bucket(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2));
+            int allowed = invocation.getArgument(3);
+            int[] updated = {0};
+            buckets.computeIfPresent(bucket, (key, hits) -> {
+                if (hits >= allowed) {
+                    return hits;
+                }
+                updated[0] = 1;
+                return hits + 1;
+            });
+            if (!buckets.containsKey(bucket)) {
+                onMissingRow.run();
+            }
+            return updated[0];
+        });
+        when(repository.insertFirstHit(anyString(), anyString(), anyLong(), any(Instant.class))).thenAnswer(invocation ->
+                buckets.putIfAbsent(bucket(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2)), 1) == null ? 1 : 0);
+        when(repository.deleteByScopeAndActorKey(anyString(), anyString())).thenAnswer(invocation -> {
+            String prefix = invocation.getArgument(0) + "|" + invocation.getArgument(1) + "|";
+            int before = buckets.size();
+            buckets.keySet().removeIf(bucket -> bucket.startsWith(prefix));
+            return before - buckets.size();
+        });
+    }
+
+    @Test
+    void acceptsUpToTheLimitAndThenRefusesWithoutTheDatabase() {
+        MySqlRateLimitStore store = new MySqlRateLimitStore(repository, properties, now::get);
+
+        for (int attempt = 0; attempt < 3; attempt++) {
+            assertThat(store.tryAcquire(RateLimitScope.EVENT_CREATE, "7")).isTrue();
+        }
+        assertThat(store.tryAcquire(RateLimitScope.EVENT_CREATE, "7")).isFalse();
+        assertThat(buckets).containsEntry(bucket("EVENT_CREATE", "7", now.get()), 3);
+
+        clearInvocations(repository);
+        assertThat(store.tryAcquire(RateLimitScope.EVENT_CREATE, "7")).isFalse();
+        verifyNoInteractions(repository);
+
+        assertThat(store.tryAcquire(RateLimitScope.EVENT_CREATE, "8")).isTrue();
+    }
+
+    @Test
+    void exhaustionCheckDoesNotConsumeAndResetClearsTheKey() {
+        MySqlRateLimitStore store = new MySqlRateLimitStore(repository, properties, now::get);
+
+        for (int check = 0; check < 10; check++) {
+            assertThat(store.isExhausted(RateLimitScope.LOGIN_ACCOUNT, "a@example.com")).isFalse();
+        }
+        for (int attempt = 0; attempt < 10; attempt++) {
+            assertThat(store.tryAcquire(RateLimitScope.LOGIN_ACCOUNT, "a@example.com")).isTrue();
+        }
+        assertThat(store.isExhausted(RateLimitScope.LOGIN_ACCOUNT, "a@example.com")).isTrue();
+
+        store.reset(RateLimitScope.LOGIN_ACCOUNT, "a@example.com");
+        assertThat(buckets).isEmpty();
+        assertThat(store.isExhausted(RateLimitScope.LOGIN_ACCOUNT, "a@example.com")).isFalse();
+        assertThat(store.tryAcquire(RateLimitScope.LOGIN_ACCOUNT, "a@example.com")).isTrue();
+    }
+
+    @Test
+    void previousWindowStillCountsWhileItOverlaps() {
+        MySqlRateLimitStore store = new MySqlRateLimitStore(repository, properties, now::get);
+        for (int attempt = 0; attempt < 3; attempt++) {
+            assertThat(store.tryAcquire(RateLimitScope.EVENT_CREATE, "7")).isTrue();
+        }
+
+        // início da janela seguinte: a anterior ainda se sobrepõe inteira
+        now.addAndGet(WINDOW_MILLIS);
+        assertThat(store.tryAcquire(RateLimitScope.EVENT_CREATE, "7")).isFalse();
+
+        // na metade da janela, a anterior pesa metade de 3 tentativas: sobram duas vagas
+        now.addAndGet(WINDOW_MILLIS / 2);
+        assertThat(store.tryAcquire(RateLimitScope.EVENT_CREATE, "7")).isTrue();
+        assertThat(store.tryAcquire(RateLimitScope.EVENT_CREATE, "7")).isTrue();
+        assertThat(store.tryAcquire(RateLimitScope.EVENT_CREATE, "7")).isFalse();
+    }
+
+    @Test
+    void losingTheInsertRaceRetriesTheIncrement() {
+        MySqlRateLimitStore store = new MySqlRateLimitStore(repository, properties, now::get);
+        String bucket = bucket("ACCOUNT_CREATE", "10.0.0.1", now.get());
+        // outra instância cria a linha logo depois do nosso UPDATE sem efeito
+        onMissingRow = () -> buckets.putIfAbsent(bucket, 1);
+
+        assertThat(store.tryAcquire(RateLimitScope.ACCOUNT_CREATE, "10.0.0.1")).isTrue();
+        assertThat(buckets).containsEntry(bucket, 2);
+    }
+
+    @Test
+    void twoInstancesRacingOnTheFirstHitAreBothAccepted() throws Exception {
+        // cada instância tem o próprio near-cache; só a tabela é compartilhada
+        MySqlRateLimitStore first = new MySqlRateLimitStore(repository, properties, now::get);
+        MySqlRateLimitStore second = new MySqlRateLimitStore(repository, properties, now::get);
+        // os dois UPDATEs terminam sem linha antes de qualquer um tentar o INSERT
+        CyclicBarrier bothMissedTheRow = new CyclicBarrier(2);
+        onMissingRow = () -> {
+            try {
+                bothMissedTheRow.await(10, TimeUnit.SECONDS);
+            } catch (Exception ex) {
+                throw new IllegalStateException(ex);
+            }
+        };
+
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<Boolean>> results = pool.invokeAll(List.of(
+                    () -> first.tryAcquire(RateLimitScope.ACCOUNT_CREATE, "10.0.0.1"),
+                    () -> second.tryAcquire(RateLimitScope.ACCOUNT_CREATE, "10.0.0.1")));
+            for (Future<Boolean> result : results) {
+                assertThat(result.get(10, TimeUnit.SECONDS)).isTrue();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        assertThat(buckets).containsEntry(bucket("ACCOUNT_CREATE", "10.0.0.1", now.get()), 2);
+    }
+
+    private static String bucket(String scope, String actorKey, long at) {
+        return scope + "|" + actorKey + "|" + (at - Math.floorMod(at, WINDOW_MILLIS));
+    }
+}
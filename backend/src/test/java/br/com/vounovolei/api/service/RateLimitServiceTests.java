@@ -0,0 +1,59 @@
+package br.com.vounovolei.api.service;
+
+import br.com.vounovolei.api.config.RateLimitProperties;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RateLimitServiceTests {
+
+    private final AtomicLong now = new AtomicLong(1);
+    private final RateLimitProperties properties = new RateLimitProperties();
+    private final RateLimitService service = new RateLimitService(
+            new InMemoryRateLimitStore(properties, now::get, Scheduler.disabledScheduler()),
+            properties,
+            new SimpleMeterRegistry());
+
+    @Test
+    void successfulLoginsDoNotSpendTheIpWindow() {
+        // mais acertos que o limite por IP, como num NAT compartilhado
+        for (int login = 0; login < 50; login++) {
+            String account = "user" + login + "@example.com";
+            service.checkLogin("10.0.0.1", account);
+            service.recordLoginSuccess(account);
+        }
+
+        assertThatCode(() -> service.checkLogin("10.0.0.1", "other@example.com")).doesNotThrowAnyException();
+    }
+
+    @Test
+    void onlyFailuresFillTheIpWindow() {
+        // contas distintas para não cair no backoff de uma conta só
+        for (int failure = 0; failure < 20; failure++) {
+            String account = "user" + failure + "@example.com";
+            service.checkLogin("10.0.0.1", account);
+            service.recordLoginFailure("10.0.0.1", account);
+        }
+
+        assertThatThrownBy(() -> service.checkLogin("10.0.0.1", "other@example.com"))
+                .isInstanceOf(RateLimitExceededException.class);
+        assertThatCode(() -> service.checkLogin("10.0.0.2", "other@example.com")).doesNotThrowAnyException();
+    }
+
+    @Test
+    void successClearsTheAccountWindow() {
+        for (int failure = 0; failure < 9; failure++) {
+            service.recordLoginFailure("10.0.0." + failure, "a@example.com");
+        }
+        service.recordLoginSuccess("a@example.com");
+
+        // sem o reset, a 10ª falha fecharia a janela da conta
+        service.recordLoginFailure("10.0.1.1", "a@example.com");
+        assertThatCode(() -> service.checkLogin("10.0.1.2", "a@example.com")).doesNotThrowAnyException();
+    }
+}
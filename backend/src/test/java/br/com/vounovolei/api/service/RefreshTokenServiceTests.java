@@ -0,0 +1,161 @@
+package br.com.vounovolei.api.service;
+
+import br.com.vounovolei.api.domain.auth.RefreshToken;
+import br.com.vounovolei.api.repository.RefreshTokenRepository;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class RefreshTokenServiceTests {
+
+    private static final String SECRET = "632598623952369865903003566748393365632799312";
+
+    private final JwtService jwtService = new JwtService(SECRET, 15, 60, 10);
+    private final RefreshTokenRepository repository = mock(RefreshTokenRepository.class);
+    // linhas de refresh_tokens por id (jti)
+    private final Map<String, RefreshToken> rows = new ConcurrentHashMap<>();
+    private final RefreshTokenService service;
+
+    RefreshTokenServiceTests() {
+        when(repository.insert(anyString(), anyString(), anyLong(), any(Instant.class))).thenAnswer(invocation -> {
+            rows.put(invocation.getArgument(0), RefreshToken.builder()
+                    .id(invocation.getArgument(0))
+                    .familyId(invocation.getArgument(1))
+                    .userId(invocation.getArgument(2))
+                    .expiresAt(invocation.getArgument(3))
+                    .build());
+            return 1;
+        });
+        when(repository.rotate(anyString(), any(Instant.class))).thenAnswer(invocation -> {
+            RefreshToken row = rows.get(invocation.getArgument(0));
+            Instant now = invocation.getArgument(1);
+            if (row == null || row.getRotatedAt() != null || row.getRevokedAt() != null || !row.getExpiresAt().isAfter(now)) {
+                return 0;
+            }
+            row.setRotatedAt(now);
+            return 1;
+        });
+        when(repository.findById(anyString())).thenAnswer(invocation -> Optional.ofNullable(rows.get(invocation.getArgument(0))));
+        when(repository.revokeFamily(anyString(), any(Instant.class))).thenAnswer(invocation -> {
+            int revoked = 0;
+            for (RefreshToken row : rows.values()) {
+                if (row.getFamilyId().equals(invocation.getArgument(0)) && row.getRevokedAt() == null) {
+                    row.setRevokedAt(invocation.getArgument(1));
+                    revoked++;
+                }
+            }
+            return revoked;
+        });
+        when(repository.deleteExpired(any(Instant.class))).thenAnswer(invocation -> {
+            Instant now = invocation.getArgument(0);
+            // DELETE ... LIMIT 1000
+            int deleted = 0;
+            for (RefreshToken row : rows.values()) {
+                if (deleted < 1000 && row.getExpiresAt().isBefore(now)) {
+                    rows.remove(row.getId());
+                    deleted++;
+                }
+            }
+            return deleted;
+        });
+
+        service = new RefreshTokenService(repository, jwtService, 1000);
+    }
+
+    @Test
+    void rotationRetiresTheTokenAndIssuesASuccessorInTheSameFamily() {
+        Claims original = jwtService.parseClaims(service.issue(7L, 0));
+
+        RefreshTokenService.Rotation rotation = service.rotate(original, 2);
+        Claims successor = jwtService.parseClaims(rotation.refreshToken());
+
+        assertThat(rotation.userId()).isEqualTo(7L);
+        assertThat(successor.getId()).isNotEqualTo(original.getId());
+        assertThat(successor.get("family", String.class)).isEqualTo(original.get("family", String.class));
+        assertThat(jwtService.securityVersion(successor)).isEqualTo(2L);
+        assertThat(rows.get(original.getId()).getRotatedAt()).isNotNull();
+        assertThat(rows.get(successor.getId()).getRotatedAt()).isNull();
+        assertThat(rows.values()).allMatch(row -> row.getRevokedAt() == null);
+    }
+
+    @Test
+    void duplicateWithinTheGraceWindowKeepsTheFamily() {
+        Claims original = jwtService.parseClaims(service.issue(7L, 0));
+        Claims successor = jwtService.parseClaims(service.rotate(original, 0).refreshToken());
+
+        // a outra aba chega logo depois com o mesmo token
+        assertThatThrownBy(() -> service.rotate(original, 0))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        ex -> assertThat(ex.getReason()).isEqualTo("REFRESH_TOKEN_ROTACIONADO"));
+
+        verify(repository, never()).revokeFamily(anyString(), any(Instant.class));
+        assertThat(service.rotate(successor, 0).refreshToken()).isNotBlank();
+    }
+
+    @Test
+    void reuseAfterTheGraceWindowRevokesTheWholeFamily() {
+        Claims original = jwtService.parseClaims(service.issue(7L, 0));
+        Claims successor = jwtService.parseClaims(service.rotate(original, 0).refreshToken());
+        rows.get(original.getId()).setRotatedAt(Instant.now().minusSeconds(11));
+
+        assertThatThrownBy(() -> service.rotate(original, 0))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        ex -> assertThat(ex.getReason()).isEqualTo("REFRESH_TOKEN_INVALIDO"));
+        assertThat(rows.values()).allMatch(row -> row.getRevokedAt() != null);
+
+        // família já conhecida como revogada: recusa sem ir ao banco
+        clearInvocations(repository);
+        assertThatThrownBy(() -> service.rotate(successor, 0)).isInstanceOf(ResponseStatusException.class);
+        assertThatThrownBy(() -> service.rotate(original, 0)).isInstanceOf(ResponseStatusException.class);
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void logoutRevokesTheFamilyOnce() {
+        Claims original = jwtService.parseClaims(service.issue(7L, 0));
+        Claims successor = jwtService.parseClaims(service.rotate(original, 0).refreshToken());
+        Claims otherSession = jwtService.parseClaims(service.issue(7L, 0));
+
+        service.revoke(successor);
+        service.revoke(successor);
+
+        verify(repository, times(1)).revokeFamily(anyString(), any(Instant.class));
+        assertThatThrownBy(() -> service.rotate(successor, 0))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        ex -> assertThat(ex.getReason()).isEqualTo("REFRESH_TOKEN_INVALIDO"));
+        assertThat(service.rotate(otherSession, 0).refreshToken()).isNotBlank();
+    }
+
+    @Test
+    void purgeDeletesExpiredRowsInBatchesUntilNoneAreLeft() {
+        Instant expired = Instant.now().minusSeconds(60);
+        for (int i = 0; i < 2500; i++) {
+            repository.insert("expired-" + i, "family", 7L, expired);
+        }
+        Claims live = jwtService.parseClaims(service.issue(7L, 0));
+        clearInvocations(repository);
+
+        service.purgeExpiredTokens();
+
+        verify(repository, times(3)).deleteExpired(any(Instant.class));
+        assertThat(rows).containsOnlyKeys(live.getId());
+    }
+}
@@ -0,0 +1,48 @@
+package br.com.vounovolei.api.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TeamDrawerTests {
+
+    @Test
+    void sameSeedAndRosterProduceSameTeamsRegardlessOfInputOrder() {
+        List<TeamDrawer.Player> roster = roster(23, 5, new Random(1));
+        List<TeamDrawer.Player> reversed = new ArrayList<>(roster);
+        Collections.reverse(reversed);
+
+        assertThat(TeamDrawer.draw(reversed, 3, 42L)).isEqualTo(TeamDrawer.draw(roster, 3, 42L));
+        assertThat(TeamDrawer.draw(roster, 3, 43L)).isNotEqualTo(TeamDrawer.draw(roster, 3, 42L));
+    }
+
+    @Test
+    void teamsHaveBalancedSizesBallsAndRatings() {
+        List<TeamDrawer.Player> roster = roster(30, 4, new Random(7));
+
+        List<List<TeamDrawer.Player>> teams = TeamDrawer.draw(roster, 4, 99L);
+
+        List<Integer> sizes = teams.stream().map(List::size).toList();
+        assertThat(Collections.max(sizes) - Collections.min(sizes)).isLessThanOrEqualTo(1);
+        assertThat(teams).allSatisfy(team -> assertThat(team).anyMatch(TeamDrawer.Player::bringBall));
+
+        List<Double> totals = teams.stream()
+                .map(team -> team.stream().mapToDouble(TeamDrawer.Player::rating).sum())
+                .toList();
+        double maxRating = roster.stream().mapToDouble(TeamDrawer.Player::rating).max().orElseThrow();
+        assertThat(Collections.max(totals) - Collections.min(totals)).isLessThanOrEqualTo(2 * maxRating);
+    }
+
+    private List<TeamDrawer.Player> roster(int size, int balls, Random random) {
+        List<TeamDrawer.Player> players = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            players.add(new TeamDrawer.Player((long) i + 1, i < balls, 1 + random.nextInt(5)));
+        }
+        return players;
+    }
+}
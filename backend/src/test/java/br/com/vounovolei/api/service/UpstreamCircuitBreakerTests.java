@@ -0,0 +1,50 @@
+package br.com.vounovolei.api.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UpstreamCircuitBreakerTests {
+
+    @Test
+    void opensAfterConsecutiveFailuresAndRejectsWhileOpen() {
+        UpstreamCircuitBreaker breaker = new UpstreamCircuitBreaker(3, Duration.ofMinutes(1));
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.onFailure()).isFalse();
+        breaker.onSuccess();
+        assertThat(breaker.onFailure()).isFalse();
+        assertThat(breaker.onFailure()).isFalse();
+        assertThat(breaker.onFailure()).isTrue();
+
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void allowsSingleTrialAfterOpenPeriodAndClosesOnSuccess() throws InterruptedException {
+        UpstreamCircuitBreaker breaker = new UpstreamCircuitBreaker(1, Duration.ofMillis(20));
+        breaker.onFailure();
+        assertThat(breaker.tryAcquire()).isFalse();
+
+        Thread.sleep(40);
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).isFalse();
+
+        breaker.onSuccess();
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void failedTrialReopensCircuit() throws InterruptedException {
+        UpstreamCircuitBreaker breaker = new UpstreamCircuitBreaker(1, Duration.ofMillis(20));
+        breaker.onFailure();
+
+        Thread.sleep(40);
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.onFailure()).isTrue();
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+}
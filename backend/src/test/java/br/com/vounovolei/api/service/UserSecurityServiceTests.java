@@ -0,0 +1,85 @@
+package br.com.vounovolei.api.service;
+
+import br.com.vounovolei.api.domain.user.UserRole;
+import br.com.vounovolei.api.repository.UserRepository;
+import br.com.vounovolei.api.repository.UserSecurityState;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UserSecurityServiceTests {
+
+    private static final int USERS = 50;
+    private static final long DB_LOOKUP_MILLIS = 2;
+
+    private final AtomicInteger lookups = new AtomicInteger();
+    private final UserRepository userRepository = mock(UserRepository.class);
+
+    UserSecurityServiceTests() {
+        // findById simulado com a latência de uma ida ao banco
+        when(userRepository.findSecurityStateById(anyLong())).thenAnswer(invocation -> {
+            lookups.incrementAndGet();
+            Thread.sleep(DB_LOOKUP_MILLIS);
+            return Optional.of(new UserSecurityState(invocation.getArgument(0), "u@example.com", UserRole.USER, 0L));
+        });
+    }
+
+    @Test
+    void staleVersionIsRejectedAfterEviction() {
+        UserSecurityService service = new UserSecurityService(userRepository, 100, 60, new SimpleMeterRegistry());
+        assertThat(service.isCurrent(1L, 0L)).isTrue();
+        assertThat(service.isCurrent(1L, null)).isFalse();
+
+        when(userRepository.findSecurityStateById(1L))
+                .thenReturn(Optional.of(new UserSecurityState(1L, "u@example.com", UserRole.ADMIN, 1L)));
+        assertThat(service.isCurrent(1L, 1L)).isFalse(); // ainda a versão em cache
+
+        service.evict(1L);
+        assertThat(service.isCurrent(1L, 0L)).isFalse();
+        assertThat(service.current(1L)).map(UserSecurityState::role).contains(UserRole.ADMIN);
+    }
+
+    // rajada de refresh (várias abas x vários usuários): uma só consulta por usuário
+    @Test
+    void burstOfRefreshesLoadsEachUserOnce() throws InterruptedException {
+        UserSecurityService service = new UserSecurityService(userRepository, 1000, 60, new SimpleMeterRegistry());
+        int threads = 16;
+        int refreshesPerThread = 200;
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        for (int thread = 0; thread < threads; thread++) {
+            int offset = thread;
+            pool.execute(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < refreshesPerThread; i++) {
+                        service.current((i + offset) % USERS + 1L).orElseThrow();
+                    }
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        start.countDown();
+        assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+        pool.shutdown();
+
+        assertThat(lookups.get()).isEqualTo(USERS);
+    }
+}
@@ -0,0 +1,161 @@
+import { getApiBaseUrl } from "./base-url";
+import { refreshAccessToken } from "./http";
+
+const RECONNECT_MIN_MS = 1000;
+const RECONNECT_MAX_MS = 30000;
+
+// EventSource não envia Authorization, então o SSE é lido via fetch + ReadableStream
+export function subscribeToEventStream(eventId, { onDelta, onReconnect } = {}) {
+  let controller = null;
+  let stopped = false;
+  let attempt = 0;
+  let retryTimer = null;
+  let refreshedToken = false;
+
+  async function connect() {
+    controller = new AbortController();
+    const token = localStorage.getItem("token");
+
+    try {
+      const res = await fetch(`${getApiBaseUrl()}/events/${eventId}/stream`, {
+        headers: {
+          Accept: "text/event-stream",
+          ...(token ? { Authorization: `Bearer ${token}` } : {}),
+        },
+        signal: controller.signal,
+      });
+
+      // o servidor encerra o stream quando o access token vence: renova uma vez e reconecta
+      if (res.status === 401 && !refreshedToken) {
+        refreshedToken = true;
+        try {
+          await refreshAccessToken();
+        } catch {
+          // refresh recusado: a sessão acabou
+          stopped = true;
+          return;
+        }
+        if (!stopped) connect();
+        return;
+      }
+
+      // sem permissão / evento removido: não adianta insistir
+      if (res.status === 401 || res.status === 403 || res.status === 404 || res.status === 400) {
+        stopped = true;
+        return;
+      }
+      if (!res.ok || !res.body) throw new Error(`HTTP ${res.status}`);
+
+      if (attempt > 0) onReconnect?.();
+      attempt = 0;
+      refreshedToken = false;
+
+      await readStream(res.body, onDelta);
+    } catch (err) {
+      if (stopped || err?.name === "AbortError") return;
+    }
+
+    if (!stopped) scheduleReconnect();
+  }
+
+  function scheduleReconnect() {
+    const delay = Math.min(RECONNECT_MAX_MS, RECONNECT_MIN_MS * 2 ** attempt);
+    attempt += 1;
+    retryTimer = setTimeout(connect, delay + Math.random() * 500);
+  }
+
+  connect();
+
+  return () => {
+    stopped = true;
+    clearTimeout(retryTimer);
+    controller?.abort();
+  };
+}
+
+async function readStream(body, onDelta) {
+  const reader = body.pipeThrough(new TextDecoderStream()).getReader();
+  let buffer = "";
+
+  for (;;) {
+    const { value, done } = await reader.read();
+    if (done) return;
+
+    buffer += value.replace(/\r\n/g, "\n");
+    let boundary;
+    while ((boundary = buffer.indexOf("\n\n")) >= 0) {
+      const block = buffer.slice(0, boundary);
+      buffer = buffer.slice(boundary + 2);
+      dispatchBlock(block, onDelta);
+    }
+  }
+}
+
+function dispatchBlock(block, onDelta) {
+  const dataLines = [];
+  for (const line of block.split("\n")) {
+    // linhas iniciadas com ":" são comentários (heartbeat)
+    if (line.startsWith("data:")) dataLines.push(line.slice(5).replace(/^ /, ""));
+  }
+  if (dataLines.length === 0) return;
+
+  try {
+    onDelta?.(JSON.parse(dataLines.join("\n")));
+  } catch {
+    // evento malformado: ignora
+  }
+}
+
+// aplica um delta do stream sobre o detalhe carregado de /events/{id}/detail
+export function applyRosterDelta(event, delta) {
+  if (!event || !delta) return event;
+
+  const participants = event.participants ?? [];
+  const isTarget = (p) => Number(p.id) === Number(delta.userId);
+
+  switch (delta.type) {
+    case "JOINED": {
+      if (!delta.participant) return event;
+      if (participants.some((p) => Number(p.id) === Number(delta.participant.id))) return event;
+      return withRoster(event, [...participants, delta.participant]);
+    }
+    case "LEFT": {
+      const next = participants.filter((p) => !isTarget(p));
+      if (next.length === participants.length) return event;
+      return withRoster(event, next);
+    }
+    case "PROMOTED":
+      return withRoster(
+        event,
+        participants.map((p) => (isTarget(p) ? { ...p, status: "CONFIRMED" } : p))
+      );
+    case "BRING_BALL_CHANGED":
+      return {
+        ...event,
+        participants: participants.map((p) =>
+          isTarget(p) ? { ...p, bringBall: !!delta.bringBall } : p
+        ),
+      };
+    case "WEATHER_UPDATED":
+      return { ...event, weather: delta.weather ?? event.weather };
+    default:
+      return event;
+  }
+}
+
+// recalcula contagens e posições da fila (a lista segue a ordem de inscrição)
+function withRoster(event, participants) {
+  let position = 0;
+  const next = participants.map((p) =>
+    p.status === "WAITLISTED"
+      ? { ...p, waitlistPosition: ++position }
+      : { ...p, waitlistPosition: null }
+  );
+
+  return {
+    ...event,
+    participants: next,
+    participantsCount: next.length - position,
+    waitlistCount: position,
+  };
+}
@@ -7,14 +7,47 @@ const http = axios.create({
 
 let refreshPromise = null;
 
+// respostas GET com ETag: revalidadas com If-None-Match em vez de _ts na URL
+const ETAG_CACHE_MAX_ENTRIES = 100;
+const etagCache = new Map();
+
+function etagCacheKey(config) {
+  const params = config.params ? JSON.stringify(config.params) : "";
+  const auth = config.headers?.Authorization ?? "";
+  return `${config.url}|${params}|${auth}`;
+}
+
+function rememberEtag(key, etag, data) {
+  etagCache.delete(key);
+  etagCache.set(key, { etag, data });
+  if (etagCache.size > ETAG_CACHE_MAX_ENTRIES) {
+    etagCache.delete(etagCache.keys().next().value);
+  }
+}
+
 http.interceptors.request.use((config) => {
   if (config.skipAuthRefresh) return config;
   const token = localStorage.getItem("token");
   if (token) config.headers.Authorization = `Bearer ${token}`;
+
+  if ((config.method ?? "get").toLowerCase() === "get") {
+    const key = etagCacheKey(config);
+    config._etagKey = key;
+
+    const cached = etagCache.get(key);
+    if (cached) {
+      // a própria requisição guarda a entrada: o 304 ainda tem o corpo mesmo se o cache a descartar antes
+      config._etagEntry = cached;
+      config.headers["If-None-Match"] = cached.etag;
+      config.validateStatus = (status) =>
+        (status >= 200 && status < 300) || status === 304;
+    }
+  }
+
   return config;
 });
 
-async function refreshAccessToken() {
+export async function refreshAccessToken() {
   if (!refreshPromise) {
     const refreshToken = localStorage.getItem("refreshToken");
     if (!refreshToken) throw new Error("REFRESH_TOKEN_AUSENTE");
@@ -33,6 +66,15 @@ async function refreshAccessToken() {
         localStorage.setItem("refreshToken", nextRefresh);
         return nextAccess;
       })
+      .catch((err) => {
+        // outra aba já rotacionou o refresh token: usa o par que ela salvou
+        const currentRefresh = localStorage.getItem("refreshToken");
+        const currentAccess = localStorage.getItem("token");
+        if (currentRefresh && currentRefresh !== refreshToken && currentAccess) {
+          return currentAccess;
+        }
+        throw err;
+      })
       .finally(() => {
         refreshPromise = null;
       });
@@ -42,7 +84,21 @@ async function refreshAccessToken() {
 }
 
 http.interceptors.response.use(
-  (response) => response,
+  (response) => {
+    const key = response.config?._etagKey;
+    if (!key) return response;
+
+    // 304 só é aceito quando a requisição levou If-None-Match, ou seja, com _etagEntry preenchido
+    if (response.status === 304) {
+      const cached = response.config._etagEntry;
+      rememberEtag(key, cached.etag, cached.data);
+      return { ...response, status: 200, data: cached.data };
+    }
+
+    const etag = response.headers?.etag;
+    if (etag) rememberEtag(key, etag, response.data);
+    return response;
+  },
   async (error) => {
     const originalRequest = error?.config;
     const status = error?.response?.status;
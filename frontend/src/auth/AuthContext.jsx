@@ -17,9 +17,8 @@ export function AuthProvider({ children }) {
     else localStorage.removeItem("token");
   }, [token]);
 
-  async function login({ email, password }) {
-    const { data } = await http.post("/auth/login", { email, password });
-
+  // guarda o par de tokens devolvido por login/cadastro/troca de senha
+  const setSession = useCallback((data) => {
     const accessToken =
       data?.token || data?.accessToken || data?.jwt || data?.access_token;
     const refreshToken = data?.refreshToken;
@@ -30,6 +29,11 @@ export function AuthProvider({ children }) {
     setToken(accessToken);
 
     return accessToken;
+  }, []);
+
+  async function login({ email, password }) {
+    const { data } = await http.post("/auth/login", { email, password });
+    return setSession(data);
   }
 
   async function register({
@@ -49,14 +53,7 @@ export function AuthProvider({ children }) {
       confirmSecretWord,
     });
 
-    const accessToken =
-      data?.token || data?.accessToken || data?.jwt || data?.access_token;
-    const refreshToken = data?.refreshToken;
-    if (!accessToken || !refreshToken) throw new Error("TOKEN_NAO_RETORNADO");
-
-    localStorage.setItem("token", accessToken);
-    localStorage.setItem("refreshToken", refreshToken);
-    setToken(accessToken);
+    setSession(data);
   }
 
   const refreshMe = useCallback(async () => {
@@ -71,6 +68,14 @@ export function AuthProvider({ children }) {
   }, [token]);
 
   const logout = useCallback(() => {
+    // revoga a sessão no servidor; o logout local não espera a resposta
+    const refreshToken = localStorage.getItem("refreshToken");
+    if (refreshToken) {
+      http
+        .post("/auth/logout", { refreshToken }, { skipAuthRefresh: true })
+        .catch(() => {});
+    }
+
     setToken(null);
     setUser(null);
     localStorage.removeItem("refreshToken");
@@ -86,8 +91,9 @@ export function AuthProvider({ children }) {
       register,
       refreshMe,
       logout,
+      setSession,
     }),
-    [token, user, isAuthenticated, refreshMe, logout]
+    [token, user, isAuthenticated, refreshMe, logout, setSession]
   );
 
   return <AuthContext.Provider value={value}>{children}</AuthContext.Provider>;
@@ -3,6 +3,8 @@ import { getApiBaseUrl } from "../api/base-url";
 import "../styles/avatar.css";
 
 const MAX_INITIALS = 2;
+// tamanho exibido quando não vem "size" (ex.: .profile-avatar)
+const DEFAULT_DISPLAY_SIZE = 32;
 
 function getInitialsFromName(name) {
   const clean = String(name ?? "").trim();
@@ -39,7 +41,18 @@ function resolveAvatarSrc(avatarUrl) {
   return `${base}${avatarUrl}`;
 }
 
-export default function Avatar({ name, email, avatarUrl, size, className }) {
+// menor variante (64/128/256) que cobre o tamanho exibido na densidade da tela
+function pickAvatarVariant(avatarUrls, avatarUrl, size) {
+  if (!avatarUrls) return avatarUrl;
+
+  const ratio = typeof window !== "undefined" ? window.devicePixelRatio || 1 : 1;
+  const needed = (size || DEFAULT_DISPLAY_SIZE) * ratio;
+  if (needed <= 64 && avatarUrls.size64) return avatarUrls.size64;
+  if (needed <= 128 && avatarUrls.size128) return avatarUrls.size128;
+  return avatarUrls.size256 || avatarUrl;
+}
+
+export default function Avatar({ name, email, avatarUrl, avatarUrls, size, className }) {
   const [failedSrc, setFailedSrc] = useState("");
 
   const initials = useMemo(() => {
@@ -52,7 +65,10 @@ export default function Avatar({ name, email, avatarUrl, size, className }) {
     return "?";
   }, [name, email]);
 
-  const src = useMemo(() => resolveAvatarSrc(avatarUrl), [avatarUrl]);
+  const src = useMemo(
+    () => resolveAvatarSrc(pickAvatarVariant(avatarUrls, avatarUrl, size)),
+    [avatarUrls, avatarUrl, size]
+  );
   const hasImage = !!src && failedSrc !== src;
 
   const style = useMemo(() => {
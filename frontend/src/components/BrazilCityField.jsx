@@ -1,12 +1,10 @@
 import { useEffect, useId, useMemo, useRef, useState } from "react";
-import { BRAZILIAN_MUNICIPALITIES } from "../data/brazilianMunicipalities";
-import {
-  formatBrazilianCity,
-  normalizeBrazilianCityText,
-} from "../utils/brazilianCities";
+import http from "../api/http";
+import { formatBrazilianCity } from "../utils/brazilianCities";
 import "../styles/city-field.css";
 
 const MAX_RESULTS = 12;
+const SEARCH_DEBOUNCE_MS = 150;
 
 export default function BrazilCityField({
   label = "Cidade",
@@ -31,25 +29,33 @@ export default function BrazilCityField({
   );
   const inputValue = isOpen ? query : city ? selectedLabel : "";
 
-  const municipalities = useMemo(
-    () =>
-      BRAZILIAN_MUNICIPALITIES.map((item) => ({
-        ...item,
-        searchText: normalizeBrazilianCityText(
-          `${item.name} ${item.state} ${item.label}`
-        ),
-      })),
-    []
-  );
+  // municípios vêm do índice do servidor (GET /cities), em vez de embarcar a lista do IBGE no bundle
+  const [filteredOptions, setFilteredOptions] = useState([]);
+  const [isSearching, setIsSearching] = useState(false);
 
-  const filteredOptions = useMemo(() => {
-    const normalizedQuery = normalizeBrazilianCityText(query);
-    if (!normalizedQuery) return municipalities.slice(0, MAX_RESULTS);
+  useEffect(() => {
+    if (!isOpen) return undefined;
+
+    let cancelled = false;
+    setIsSearching(true);
+    const timer = setTimeout(async () => {
+      try {
+        const { data } = await http.get("/cities", {
+          params: { q: query.trim() || undefined, limit: MAX_RESULTS },
+        });
+        if (!cancelled) setFilteredOptions(Array.isArray(data) ? data : []);
+      } catch {
+        if (!cancelled) setFilteredOptions([]);
+      } finally {
+        if (!cancelled) setIsSearching(false);
+      }
+    }, SEARCH_DEBOUNCE_MS);
 
-    return municipalities
-      .filter((item) => item.searchText.includes(normalizedQuery))
-      .slice(0, MAX_RESULTS);
-  }, [municipalities, query]);
+    return () => {
+      cancelled = true;
+      clearTimeout(timer);
+    };
+  }, [isOpen, query]);
 
   useEffect(() => {
     function handleClickOutside(event) {
@@ -182,7 +188,9 @@ export default function BrazilCityField({
               ))
             ) : (
               <div className="city-field-empty">
-                Nenhum município encontrado. Selecione um item da lista.
+                {isSearching
+                  ? "Buscando municípios..."
+                  : "Nenhum município encontrado. Selecione um item da lista."}
               </div>
             )}
           </div>
@@ -37,6 +37,8 @@ export default function EventCard({ event, featured = false }) {
   const participantsCount = event.participantsCount ?? null;
   const hasMoreThanEightParticipants = participantsCount !== null && participantsCount >= 8;
   const inscritosLabel = participantsCount === 1 ? "inscrito" : "inscritos";
+  const capacity = event.capacity ?? null;
+  const countLabel = capacity ? `${participantsCount}/${capacity}` : participantsCount;
 
   return (
     <Link
@@ -58,10 +60,10 @@ export default function EventCard({ event, featured = false }) {
             title={
               participantsCount >= 8
                 ? "Evento com inscritos suficientes"
-                : `${participantsCount} ${inscritosLabel}`
+                : `${countLabel} ${inscritosLabel}`
             }
           >
-            {participantsCount} {inscritosLabel}
+            {countLabel} {inscritosLabel}
           </div>
         )}
 
@@ -89,6 +89,21 @@ function formatRainProbability(value) {
 export default function EventWeatherSummary({ weather, compact = false }) {
   if (!weather) return null;
 
+  // evento recém-criado/editado: a API busca a previsão em segundo plano e avisa pelo stream
+  if (weather.condition === "PENDING") {
+    return (
+      <div className={`event-weather ${compact ? "event-weather--compact" : ""}`}>
+        <div className="event-weather-icon event-weather-icon--unavailable">
+          <WeatherIcon icon="CLOUDY" />
+        </div>
+        <div className="event-weather-copy">
+          <div className="event-weather-title">Buscando previsão...</div>
+          <div className="event-weather-subtitle">A previsão aparece aqui em instantes.</div>
+        </div>
+      </div>
+    );
+  }
+
   if (!weather.available) {
     return (
       <div className={`event-weather ${compact ? "event-weather--compact" : ""}`}>
@@ -1 +0,0 @@
-﻿export const BRAZILIAN_MUNICIPALITIES = [{"code":"5200050","name":"Abadia de Goiás","state":"GO","label":"Abadia de Goiás - GO"},{"code":"3100104","name":"Abadia dos Dourados","state":"MG","label":"Abadia dos Dourados - MG"},{"code":"5200100","name":"Abadiânia","state":"GO","label":"Abadiânia - GO"},{"code":"3100203","name":"Abaeté","state":"MG","label":"Abaeté - MG"},{"code":"1500107","name":"Abaetetuba","state":"PA","label":"Abaetetuba - PA"},{"code":"2300101","name":"Abaiara","state":"CE","label":"Abaiara - CE"},{"code":"2900108","name":"Abaíra","state":"BA","label":"Abaíra - BA"},{"code":"2900207","name":"Abaré","state":"BA","label":"Abaré - BA"},{"code":"4100103","name":"Abatiá","state":"PR","label":"Abatiá - PR"},{"code":"4200051","name":"Abdon Batista","state":"SC","label":"Abdon Batista - SC"},{"code":"1500131","name":"Abel Figueiredo","state":"PA","label":"Abel Figueiredo - PA"},{"code":"4200101","name":"Abelardo Luz","state":"SC","label":"Abelardo Luz - SC"},{"code":"3100302","name":"Abre Campo","state":"MG","label":"Abre Campo - MG"},{"code":"2600054","name":"Abreu e Lima","state":"PE","label":"Abreu e Lima - PE"},{"code":"1700251","name":"Abreulândia","state":"TO","label":"Abreulândia - TO"},{"code":"3100401","name":"Acaiaca","state":"MG","label":"Acaiaca - MG"},{"code":"2100055","name":"Açailândia","state":"MA","label":"Açailândia - MA"},{"code":"2900306","name":"Acajutiba","state":"BA","label":"Acajutiba - BA"},{"code":"1500206","name":"Acará","state":"PA","label":"Acará - PA"},{"code":"2300150","name":"Acarape","state":"CE","label":"Acarape - CE"},{"code":"2300200","name":"Acaraú","state":"CE","label":"Acaraú - CE"},{"code":"2400109","name":"Acari","state":"RN","label":"Acari - RN"},{"code":"2200053","name":"Acauã","state":"PI","label":"Acauã - PI"},{"code":"4300034","name":"Aceguá","state":"RS","label":"Aceguá - RS"},{"code":"2300309","name":"Acopiara","state":"CE","label":"Acopiara - CE"},{"code":"5100102","name":"Acorizal","state":"MT","label":"Acorizal - MT"},{"code":"1200013","name":"Acrelândia","state":"AC","label":"Acrelândia - AC"},{"code":"5200134","name":"Acreúna","state":"GO","label":"Acreúna - GO"},{"code":"2400208","name":"Açu","state":"RN","label":"Açu - RN"},{"code":"3100500","name":"Açucena","state":"MG","label":"Açucena - MG"},{"code":"3500105","name":"Adamantina","state":"SP","label":"Adamantina - SP"},{"code":"5200159","name":"Adelândia","state":"GO","label":"Adelândia - GO"},{"code":"3500204","name":"Adolfo","state":"SP","label":"Adolfo - SP"},{"code":"4100202","name":"Adrianópolis","state":"PR","label":"Adrianópolis - PR"},{"code":"2900355","name":"Adustina","state":"BA","label":"Adustina - BA"},{"code":"2600104","name":"Afogados da Ingazeira","state":"PE","label":"Afogados da Ingazeira - PE"},{"code":"2400307","name":"Afonso Bezerra","state":"RN","label":"Afonso Bezerra - RN"},{"code":"3200102","name":"Afonso Cláudio","state":"ES","label":"Afonso Cláudio - ES"},{"code":"2100105","name":"Afonso Cunha","state":"MA","label":"Afonso Cunha - MA"},{"code":"2600203","name":"Afrânio","state":"PE","label":"Afrânio - PE"},{"code":"1500305","name":"Afuá","state":"PA","label":"Afuá - PA"},{"code":"2600302","name":"Agrestina","state":"PE","label":"Agrestina - PE"},{"code":"2200103","name":"Agricolândia","state":"PI","label":"Agricolândia - PI"},{"code":"4200200","name":"Agrolândia","state":"SC","label":"Agrolândia - SC"},{"code":"4200309","name":"Agronômica","state":"SC","label":"Agronômica - SC"},{"code":"1500347","name":"Água Azul do Norte","state":"PA","label":"Água Azul do Norte - PA"},{"code":"3100609","name":"Água Boa","state":"MG","label":"Água Boa - MG"},{"code":"5100201","name":"Água Boa","state":"MT","label":"Água Boa - MT"},{"code":"2700102","name":"Água Branca","state":"AL","label":"Água Branca - AL"},{"code":"2200202","name":"Água Branca","state":"PI","label":"Água Branca - PI"},{"code":"2500106","name":"Água Branca","state":"PB","label":"Água Branca - PB"},{"code":"5000203","name":"Água Clara","state":"MS","label":"Água Clara - MS"},{"code":"3100708","name":"Água Comprida","state":"MG","label":"Água Comprida - MG"},{"code":"4200408","name":"Água Doce","state":"SC","label":"Água Doce - SC"},{"code":"2100154","name":"Água Doce do Maranhão","state":"MA","label":"Água Doce do Maranhão - MA"},{"code":"3200169","name":"Água Doce do Norte","state":"ES","label":"Água Doce do Norte - ES"},{"code":"2900405","name":"Água Fria","state":"BA","label":"Água Fria - BA"},{"code":"5200175","name":"Água Fria de Goiás","state":"GO","label":"Água Fria de Goiás - GO"},{"code":"5200209","name":"Água Limpa","state":"GO","label":"Água Limpa - GO"},{"code":"2400406","name":"Água Nova","state":"RN","label":"Água Nova - RN"},{"code":"2600401","name":"Água Preta","state":"PE","label":"Água Preta - PE"},{"code":"4300059","name":"Água Santa","state":"RS","label":"Água Santa - RS"},{"code":"3500303","name":"Aguaí","state":"SP","label":"Aguaí - SP"},{"code":"3100807","name":"Aguanil","state":"MG","label":"Aguanil - MG"},{"code":"2600500","name":"Águas Belas","state":"PE","label":"Águas Belas - PE"},{"code":"3500402","name":"Águas da Prata","state":"SP","label":"Águas da Prata - SP"},{"code":"4200507","name":"Águas de Chapecó","state":"SC","label":"Águas de Chapecó - SC"},{"code":"3500501","name":"Águas de Lindóia","state":"SP","label":"Águas de Lindóia - SP"},{"code":"3500550","name":"Águas de Santa Bárbara","state":"SP","label":"Águas de Santa Bárbara - SP"},{"code":"3500600","name":"Águas de São Pedro","state":"SP","label":"Águas de São Pedro - SP"},{"code":"3100906","name":"Águas Formosas","state":"MG","label":"Águas Formosas - MG"},{"code":"4200556","name":"Águas Frias","state":"SC","label":"Águas Frias - SC"},{"code":"5200258","name":"Águas Lindas de Goiás","state":"GO","label":"Águas Lindas de Goiás - GO"},{"code":"4200606","name":"Águas Mornas","state":"SC","label":"Águas Mornas - SC"},{"code":"3101003","name":"Águas Vermelhas","state":"MG","label":"Águas Vermelhas - MG"},{"code":"4300109","name":"Agudo","state":"RS","label":"Agudo - RS"},{"code":"3500709","name":"Agudos","state":"SP","label":"Agudos - SP"},{"code":"4100301","name":"Agudos do Sul","state":"PR","label":"Agudos do Sul - PR"},{"code":"3200136","name":"Águia Branca","state":"ES","label":"Águia Branca - ES"},{"code":"2500205","name":"Aguiar","state":"PB","label":"Aguiar - PB"},{"code":"1700301","name":"Aguiarnópolis","state":"TO","label":"Aguiarnópolis - TO"},{"code":"3101102","name":"Aimorés","state":"MG","label":"Aimorés - MG"},{"code":"2900603","name":"Aiquara","state":"BA","label":"Aiquara - BA"},{"code":"2300408","name":"Aiuaba","state":"CE","label":"Aiuaba - CE"},{"code":"3101201","name":"Aiuruoca","state":"MG","label":"Aiuruoca - MG"},{"code":"4300208","name":"Ajuricaba","state":"RS","label":"Ajuricaba - RS"},{"code":"3101300","name":"Alagoa","state":"MG","label":"Alagoa - MG"},{"code":"2500304","name":"Alagoa Grande","state":"PB","label":"Alagoa Grande - PB"},{"code":"2500403","name":"Alagoa Nova","state":"PB","label":"Alagoa Nova - PB"},{"code":"2500502","name":"Alagoinha","state":"PB","label":"Alagoinha - PB"},{"code":"2600609","name":"Alagoinha","state":"PE","label":"Alagoinha - PE"},{"code":"2200251","name":"Alagoinha do Piauí","state":"PI","label":"Alagoinha do Piauí - PI"},{"code":"2900702","name":"Alagoinhas","state":"BA","label":"Alagoinhas - BA"},{"code":"3500758","name":"Alambari","state":"SP","label":"Alambari - SP"},{"code":"3101409","name":"Albertina","state":"MG","label":"Albertina - MG"},{"code":"2100204","name":"Alcântara","state":"MA","label":"Alcântara - MA"},{"code":"2300507","name":"Alcântaras","state":"CE","label":"Alcântaras - CE"},{"code":"2500536","name":"Alcantil","state":"PB","label":"Alcantil - PB"},{"code":"5000252","name":"Alcinópolis","state":"MS","label":"Alcinópolis - MS"},{"code":"2900801","name":"Alcobaça","state":"BA","label":"Alcobaça - BA"},{"code":"2100303","name":"Aldeias Altas","state":"MA","label":"Aldeias Altas - MA"},{"code":"4300307","name":"Alecrim","state":"RS","label":"Alecrim - RS"},{"code":"3200201","name":"Alegre","state":"ES","label":"Alegre - ES"},{"code":"4300406","name":"Alegrete","state":"RS","label":"Alegrete - RS"},{"code":"2200277","name":"Alegrete do Piauí","state":"PI","label":"Alegrete do Piauí - PI"},{"code":"4300455","name":"Alegria","state":"RS","label":"Alegria - RS"},{"code":"3101508","name":"Além Paraíba","state":"MG","label":"Além Paraíba - MG"},{"code":"1500404","name":"Alenquer","state":"PA","label":"Alenquer - PA"},{"code":"2400505","name":"Alexandria","state":"RN","label":"Alexandria - RN"},{"code":"5200308","name":"Alexânia","state":"GO","label":"Alexânia - GO"},{"code":"3101607","name":"Alfenas","state":"MG","label":"Alfenas - MG"},{"code":"3200300","name":"Alfredo Chaves","state":"ES","label":"Alfredo Chaves - ES"},{"code":"3500808","name":"Alfredo Marcondes","state":"SP","label":"Alfredo Marcondes - SP"},{"code":"3101631","name":"Alfredo Vasconcelos","state":"MG","label":"Alfredo Vasconcelos - MG"},{"code":"4200705","name":"Alfredo Wagner","state":"SC","label":"Alfredo Wagner - SC"},{"code":"2500577","name":"Algodão de Jandaíra","state":"PB","label":"Algodão de Jandaíra - PB"},{"code":"2500601","name":"Alhandra","state":"PB","label":"Alhandra - PB"},{"code":"2600708","name":"Aliança","state":"PE","label":"Aliança - PE"},{"code":"1700350","name":"Aliança do Tocantins","state":"TO","label":"Aliança do Tocantins - TO"},{"code":"2900900","name":"Almadina","state":"BA","label":"Almadina - BA"},{"code":"1700400","name":"Almas","state":"TO","label":"Almas - TO"},{"code":"1500503","name":"Almeirim","state":"PA","label":"Almeirim - PA"},{"code":"3101706","name":"Almenara","state":"MG","label":"Almenara - MG"},{"code":"2400604","name":"Almino Afonso","state":"RN","label":"Almino Afonso - RN"},{"code":"4100400","name":"Almirante Tamandaré","state":"PR","label":"Almirante Tamandaré - PR"},{"code":"4300471","name":"Almirante Tamandaré do Sul","state":"RS","label":"Almirante Tamandaré do Sul - RS"},{"code":"5200506","name":"Aloândia","state":"GO","label":"Aloândia - GO"},{"code":"3101805","name":"Alpercata","state":"MG","label":"Alpercata - MG"},{"code":"4300505","name":"Alpestre","state":"RS","label":"Alpestre - RS"},{"code":"3101904","name":"Alpinópolis","state":"MG","label":"Alpinópolis - MG"},{"code":"5100250","name":"Alta Floresta","state":"MT","label":"Alta Floresta - MT"},{"code":"1100015","name":"Alta Floresta D\u0027Oeste","state":"RO","label":"Alta Floresta D\u0027Oeste - RO"},{"code":"3500907","name":"Altair","state":"SP","label":"Altair - SP"},{"code":"1500602","name":"Altamira","state":"PA","label":"Altamira - PA"},{"code":"2100402","name":"Altamira do Maranhão","state":"MA","label":"Altamira do Maranhão - MA"},{"code":"4100459","name":"Altamira do Paraná","state":"PR","label":"Altamira do Paraná - PR"},{"code":"2300606","name":"Altaneira","state":"CE","label":"Altaneira - CE"},{"code":"3102001","name":"Alterosa","state":"MG","label":"Alterosa - MG"},{"code":"2600807","name":"Altinho","state":"PE","label":"Altinho - PE"},{"code":"3501004","name":"Altinópolis","state":"SP","label":"Altinópolis - SP"},{"code":"3501103","name":"Alto Alegre","state":"SP","label":"Alto Alegre - SP"},{"code":"4300554","name":"Alto Alegre","state":"RS","label":"Alto Alegre - RS"},{"code":"1400050","name":"Alto Alegre","state":"RR","label":"Alto Alegre - RR"},{"code":"2100436","name":"Alto Alegre do Maranhão","state":"MA","label":"Alto Alegre do Maranhão - MA"},{"code":"2100477","name":"Alto Alegre do Pindaré","state":"MA","label":"Alto Alegre do Pindaré - MA"},{"code":"1100379","name":"Alto Alegre dos Parecis","state":"RO","label":"Alto Alegre dos Parecis - RO"},{"code":"5100300","name":"Alto Araguaia","state":"MT","label":"Alto Araguaia - MT"},{"code":"4200754","name":"Alto Bela Vista","state":"SC","label":"Alto Bela Vista - SC"},{"code":"5100359","name":"Alto Boa Vista","state":"MT","label":"Alto Boa Vista - MT"},{"code":"3102050","name":"Alto Caparaó","state":"MG","label":"Alto Caparaó - MG"},{"code":"2400703","name":"Alto do Rodrigues","state":"RN","label":"Alto do Rodrigues - RN"},{"code":"4300570","name":"Alto Feliz","state":"RS","label":"Alto Feliz - RS"},{"code":"5100409","name":"Alto Garças","state":"MT","label":"Alto Garças - MT"},{"code":"5200555","name":"Alto Horizonte","state":"GO","label":"Alto Horizonte - GO"},{"code":"3153509","name":"Alto Jequitibá","state":"MG","label":"Alto Jequitibá - MG"},{"code":"2200301","name":"Alto Longá","state":"PI","label":"Alto Longá - PI"},{"code":"5100508","name":"Alto Paraguai","state":"MT","label":"Alto Paraguai - MT"},{"code":"4128625","name":"Alto Paraíso","state":"PR","label":"Alto Paraíso - PR"},{"code":"1100403","name":"Alto Paraíso","state":"RO","label":"Alto Paraíso - RO"},{"code":"5200605","name":"Alto Paraíso de Goiás","state":"GO","label":"Alto Paraíso de Goiás - GO"},{"code":"4100608","name":"Alto Paraná","state":"PR","label":"Alto Paraná - PR"},{"code":"2100501","name":"Alto Parnaíba","state":"MA","label":"Alto Parnaíba - MA"},{"code":"4100707","name":"Alto Piquiri","state":"PR","label":"Alto Piquiri - PR"},{"code":"3102100","name":"Alto Rio Doce","state":"MG","label":"Alto Rio Doce - MG"},{"code":"3200359","name":"Alto Rio Novo","state":"ES","label":"Alto Rio Novo - ES"},{"code":"2300705","name":"Alto Santo","state":"CE","label":"Alto Santo - CE"},{"code":"5100607","name":"Alto Taquari","state":"MT","label":"Alto Taquari - MT"},{"code":"4100509","name":"Altônia","state":"PR","label":"Altônia - PR"},{"code":"2200400","name":"Altos","state":"PI","label":"Altos - PI"},{"code":"3501152","name":"Alumínio","state":"SP","label":"Alumínio - SP"},{"code":"1300029","name":"Alvarães","state":"AM","label":"Alvarães - AM"},{"code":"3102209","name":"Alvarenga","state":"MG","label":"Alvarenga - MG"},{"code":"3501202","name":"Álvares Florence","state":"SP","label":"Álvares Florence - SP"},{"code":"3501301","name":"Álvares Machado","state":"SP","label":"Álvares Machado - SP"},{"code":"3501400","name":"Álvaro de Carvalho","state":"SP","label":"Álvaro de Carvalho - SP"},{"code":"3501509","name":"Alvinlândia","state":"SP","label":"Alvinlândia - SP"},{"code":"3102308","name":"Alvinópolis","state":"MG","label":"Alvinópolis - MG"},{"code":"1700707","name":"Alvorada","state":"TO","label":"Alvorada - TO"},{"code":"4300604","name":"Alvorada","state":"RS","label":"Alvorada - RS"},{"code":"3102407","name":"Alvorada de Minas","state":"MG","label":"Alvorada de Minas - MG"},{"code":"2200459","name":"Alvorada do Gurguéia","state":"PI","label":"Alvorada do Gurguéia - PI"},{"code":"5200803","name":"Alvorada do Norte","state":"GO","label":"Alvorada do Norte - GO"},{"code":"4100806","name":"Alvorada do Sul","state":"PR","label":"Alvorada do Sul - PR"},{"code":"1100346","name":"Alvorada D\u0027Oeste","state":"RO","label":"Alvorada D\u0027Oeste - RO"},{"code":"1400027","name":"Amajari","state":"RR","label":"Amajari - RR"},{"code":"5000609","name":"Amambai","state":"MS","label":"Amambai - MS"},{"code":"1600105","name":"Amapá","state":"AP","label":"Amapá - AP"},{"code":"2100550","name":"Amapá do Maranhão","state":"MA","label":"Amapá do Maranhão - MA"},{"code":"4100905","name":"Amaporã","state":"PR","label":"Amaporã - PR"},{"code":"2600906","name":"Amaraji","state":"PE","label":"Amaraji - PE"},{"code":"4300638","name":"Amaral Ferrador","state":"RS","label":"Amaral Ferrador - RS"},{"code":"5200829","name":"Amaralina","state":"GO","label":"Amaralina - GO"},{"code":"2200509","name":"Amarante","state":"PI","label":"Amarante - PI"},{"code":"2100600","name":"Amarante do Maranhão","state":"MA","label":"Amarante do Maranhão - MA"},{"code":"2901007","name":"Amargosa","state":"BA","label":"Amargosa - BA"},{"code":"1300060","name":"Amaturá","state":"AM","label":"Amaturá - AM"},{"code":"2901106","name":"Amélia Rodrigues","state":"BA","label":"Amélia Rodrigues - BA"},{"code":"2901155","name":"América Dourada","state":"BA","label":"América Dourada - BA"},{"code":"3501608","name":"Americana","state":"SP","label":"Americana - SP"},{"code":"5200852","name":"Americano do Brasil","state":"GO","label":"Americano do Brasil - GO"},{"code":"3501707","name":"Américo Brasiliense","state":"SP","label":"Américo Brasiliense - SP"},{"code":"3501806","name":"Américo de Campos","state":"SP","label":"Américo de Campos - SP"},{"code":"4300646","name":"Ametista do Sul","state":"RS","label":"Ametista do Sul - RS"},{"code":"2300754","name":"Amontada","state":"CE","label":"Amontada - CE"},{"code":"5200902","name":"Amorinópolis","state":"GO","label":"Amorinópolis - GO"},{"code":"3501905","name":"Amparo","state":"SP","label":"Amparo - SP"},{"code":"2500734","name":"Amparo","state":"PB","label":"Amparo - PB"},{"code":"2800100","name":"Amparo do São Francisco","state":"SE","label":"Amparo do São Francisco - SE"},{"code":"3102506","name":"Amparo do Serra","state":"MG","label":"Amparo do Serra - MG"},{"code":"4101002","name":"Ampére","state":"PR","label":"Ampére - PR"},{"code":"2700201","name":"Anadia","state":"AL","label":"Anadia - AL"},{"code":"2901205","name":"Anagé","state":"BA","label":"Anagé - BA"},{"code":"4101051","name":"Anahy","state":"PR","label":"Anahy - PR"},{"code":"1500701","name":"Anajás","state":"PA","label":"Anajás - PA"},{"code":"2100709","name":"Anajatuba","state":"MA","label":"Anajatuba - MA"},{"code":"3502002","name":"Analândia","state":"SP","label":"Analândia - SP"},{"code":"1300086","name":"Anamã","state":"AM","label":"Anamã - AM"},{"code":"1701002","name":"Ananás","state":"TO","label":"Ananás - TO"},{"code":"1500800","name":"Ananindeua","state":"PA","label":"Ananindeua - PA"},{"code":"5201108","name":"Anápolis","state":"GO","label":"Anápolis - GO"},{"code":"1500859","name":"Anapu","state":"PA","label":"Anapu - PA"},{"code":"2100808","name":"Anapurus","state":"MA","label":"Anapurus - MA"},{"code":"5000708","name":"Anastácio","state":"MS","label":"Anastácio - MS"},{"code":"5000807","name":"Anaurilândia","state":"MS","label":"Anaurilândia - MS"},{"code":"4200804","name":"Anchieta","state":"SC","label":"Anchieta - SC"},{"code":"3200409","name":"Anchieta","state":"ES","label":"Anchieta - ES"},{"code":"2901304","name":"Andaraí","state":"BA","label":"Andaraí - BA"},{"code":"4101101","name":"Andirá","state":"PR","label":"Andirá - PR"},{"code":"2901353","name":"Andorinha","state":"BA","label":"Andorinha - BA"},{"code":"3102605","name":"Andradas","state":"MG","label":"Andradas - MG"},{"code":"3502101","name":"Andradina","state":"SP","label":"Andradina - SP"},{"code":"4300661","name":"André da Rocha","state":"RS","label":"André da Rocha - RS"},{"code":"3102803","name":"Andrelândia","state":"MG","label":"Andrelândia - MG"},{"code":"3502200","name":"Angatuba","state":"SP","label":"Angatuba - SP"},{"code":"3102852","name":"Angelândia","state":"MG","label":"Angelândia - MG"},{"code":"5000856","name":"Angélica","state":"MS","label":"Angélica - MS"},{"code":"2601003","name":"Angelim","state":"PE","label":"Angelim - PE"},{"code":"4200903","name":"Angelina","state":"SC","label":"Angelina - SC"},{"code":"2901403","name":"Angical","state":"BA","label":"Angical - BA"},{"code":"2200608","name":"Angical do Piauí","state":"PI","label":"Angical do Piauí - PI"},{"code":"1701051","name":"Angico","state":"TO","label":"Angico - TO"},{"code":"2400802","name":"Angicos","state":"RN","label":"Angicos - RN"},{"code":"3300100","name":"Angra dos Reis","state":"RJ","label":"Angra dos Reis - RJ"},{"code":"2901502","name":"Anguera","state":"BA","label":"Anguera - BA"},{"code":"4101150","name":"Ângulo","state":"PR","label":"Ângulo - PR"},{"code":"5201207","name":"Anhanguera","state":"GO","label":"Anhanguera - GO"},{"code":"3502309","name":"Anhembi","state":"SP","label":"Anhembi - SP"},{"code":"3502408","name":"Anhumas","state":"SP","label":"Anhumas - SP"},{"code":"5201306","name":"Anicuns","state":"GO","label":"Anicuns - GO"},{"code":"2200707","name":"Anísio de Abreu","state":"PI","label":"Anísio de Abreu - PI"},{"code":"4201000","name":"Anita Garibaldi","state":"SC","label":"Anita Garibaldi - SC"},{"code":"4201109","name":"Anitápolis","state":"SC","label":"Anitápolis - SC"},{"code":"1300102","name":"Anori","state":"AM","label":"Anori - AM"},{"code":"4300703","name":"Anta Gorda","state":"RS","label":"Anta Gorda - RS"},{"code":"2901601","name":"Antas","state":"BA","label":"Antas - BA"},{"code":"4101200","name":"Antonina","state":"PR","label":"Antonina - PR"},{"code":"2300804","name":"Antonina do Norte","state":"CE","label":"Antonina do Norte - CE"},{"code":"2200806","name":"Antônio Almeida","state":"PI","label":"Antônio Almeida - PI"},{"code":"2901700","name":"Antônio Cardoso","state":"BA","label":"Antônio Cardoso - BA"},{"code":"3102902","name":"Antônio Carlos","state":"MG","label":"Antônio Carlos - MG"},{"code":"4201208","name":"Antônio Carlos","state":"SC","label":"Antônio Carlos - SC"},{"code":"3103009","name":"Antônio Dias","state":"MG","label":"Antônio Dias - MG"},{"code":"2901809","name":"Antônio Gonçalves","state":"BA","label":"Antônio Gonçalves - BA"},{"code":"5000906","name":"Antônio João","state":"MS","label":"Antônio João - MS"},{"code":"2400901","name":"Antônio Martins","state":"RN","label":"Antônio Martins - RN"},{"code":"4101309","name":"Antônio Olinto","state":"PR","label":"Antônio Olinto - PR"},{"code":"4300802","name":"Antônio Prado","state":"RS","label":"Antônio Prado - RS"},{"code":"3103108","name":"Antônio Prado de Minas","state":"MG","label":"Antônio Prado de Minas - MG"},{"code":"2500775","name":"Aparecida","state":"PB","label":"Aparecida - PB"},{"code":"3502507","name":"Aparecida","state":"SP","label":"Aparecida - SP"},{"code":"5201405","name":"Aparecida de Goiânia","state":"GO","label":"Aparecida de Goiânia - GO"},{"code":"5201454","name":"Aparecida do Rio Doce","state":"GO","label":"Aparecida do Rio Doce - GO"},{"code":"1701101","name":"Aparecida do Rio Negro","state":"TO","label":"Aparecida do Rio Negro - TO"},{"code":"5001003","name":"Aparecida do Taboado","state":"MS","label":"Aparecida do Taboado - MS"},{"code":"3502606","name":"Aparecida d\u0027Oeste","state":"SP","label":"Aparecida d\u0027Oeste - SP"},{"code":"3300159","name":"Aperibé","state":"RJ","label":"Aperibé - RJ"},{"code":"3200508","name":"Apiacá","state":"ES","label":"Apiacá - ES"},{"code":"5100805","name":"Apiacás","state":"MT","label":"Apiacás - MT"},{"code":"3502705","name":"Apiaí","state":"SP","label":"Apiaí - SP"},{"code":"2100832","name":"Apicum-Açu","state":"MA","label":"Apicum-Açu - MA"},{"code":"4201257","name":"Apiúna","state":"SC","label":"Apiúna - SC"},{"code":"2401008","name":"Apodi","state":"RN","label":"Apodi - RN"},{"code":"2901908","name":"Aporá","state":"BA","label":"Aporá - BA"},{"code":"5201504","name":"Aporé","state":"GO","label":"Aporé - GO"},{"code":"2901957","name":"Apuarema","state":"BA","label":"Apuarema - BA"},{"code":"4101408","name":"Apucarana","state":"PR","label":"Apucarana - PR"},{"code":"1300144","name":"Apuí","state":"AM","label":"Apuí - AM"},{"code":"2300903","name":"Apuiarés","state":"CE","label":"Apuiarés - CE"},{"code":"2800209","name":"Aquidabã","state":"SE","label":"Aquidabã - SE"},{"code":"5001102","name":"Aquidauana","state":"MS","label":"Aquidauana - MS"},{"code":"2301000","name":"Aquiraz","state":"CE","label":"Aquiraz - CE"},{"code":"4201273","name":"Arabutã","state":"SC","label":"Arabutã - SC"},{"code":"2500809","name":"Araçagi","state":"PB","label":"Araçagi - PB"},{"code":"3103207","name":"Araçaí","state":"MG","label":"Araçaí - MG"},{"code":"2800308","name":"Aracaju","state":"SE","label":"Aracaju - SE"},{"code":"3502754","name":"Araçariguama","state":"SP","label":"Araçariguama - SP"},{"code":"2902054","name":"Araçás","state":"BA","label":"Araçás - BA"},{"code":"2301109","name":"Aracati","state":"CE","label":"Aracati - CE"},{"code":"2902005","name":"Aracatu","state":"BA","label":"Aracatu - BA"},{"code":"3502804","name":"Araçatuba","state":"SP","label":"Araçatuba - SP"},{"code":"2902104","name":"Araci","state":"BA","label":"Araci - BA"},{"code":"3103306","name":"Aracitaba","state":"MG","label":"Aracitaba - MG"},{"code":"2301208","name":"Aracoiaba","state":"CE","label":"Aracoiaba - CE"},{"code":"2601052","name":"Araçoiaba","state":"PE","label":"Araçoiaba - PE"},{"code":"3502903","name":"Araçoiaba da Serra","state":"SP","label":"Araçoiaba da Serra - SP"},{"code":"3200607","name":"Aracruz","state":"ES","label":"Aracruz - ES"},{"code":"5201603","name":"Araçu","state":"GO","label":"Araçu - GO"},{"code":"3103405","name":"Araçuaí","state":"MG","label":"Araçuaí - MG"},{"code":"5201702","name":"Aragarças","state":"GO","label":"Aragarças - GO"},{"code":"5201801","name":"Aragoiânia","state":"GO","label":"Aragoiânia - GO"},{"code":"1701309","name":"Aragominas","state":"TO","label":"Aragominas - TO"},{"code":"1701903","name":"Araguacema","state":"TO","label":"Araguacema - TO"},{"code":"1702000","name":"Araguaçu","state":"TO","label":"Araguaçu - TO"},{"code":"5101001","name":"Araguaiana","state":"MT","label":"Araguaiana - MT"},{"code":"1702109","name":"Araguaína","state":"TO","label":"Araguaína - TO"},{"code":"5101209","name":"Araguainha","state":"MT","label":"Araguainha - MT"},{"code":"1702158","name":"Araguanã","state":"TO","label":"Araguanã - TO"},{"code":"2100873","name":"Araguanã","state":"MA","label":"Araguanã - MA"},{"code":"5202155","name":"Araguapaz","state":"GO","label":"Araguapaz - GO"},{"code":"3103504","name":"Araguari","state":"MG","label":"Araguari - MG"},{"code":"1702208","name":"Araguatins","state":"TO","label":"Araguatins - TO"},{"code":"2100907","name":"Araioses","state":"MA","label":"Araioses - MA"},{"code":"5001243","name":"Aral Moreira","state":"MS","label":"Aral Moreira - MS"},{"code":"2902203","name":"Aramari","state":"BA","label":"Aramari - BA"},{"code":"4300851","name":"Arambaré","state":"RS","label":"Arambaré - RS"},{"code":"2100956","name":"Arame","state":"MA","label":"Arame - MA"},{"code":"3503000","name":"Aramina","state":"SP","label":"Aramina - SP"},{"code":"3503109","name":"Arandu","state":"SP","label":"Arandu - SP"},{"code":"3103603","name":"Arantina","state":"MG","label":"Arantina - MG"},{"code":"3503158","name":"Arapeí","state":"SP","label":"Arapeí - SP"},{"code":"2700300","name":"Arapiraca","state":"AL","label":"Arapiraca - AL"},{"code":"1702307","name":"Arapoema","state":"TO","label":"Arapoema - TO"},{"code":"3103702","name":"Araponga","state":"MG","label":"Araponga - MG"},{"code":"4101507","name":"Arapongas","state":"PR","label":"Arapongas - PR"},{"code":"3103751","name":"Araporã","state":"MG","label":"Araporã - MG"},{"code":"4101606","name":"Arapoti","state":"PR","label":"Arapoti - PR"},{"code":"3103801","name":"Arapuá","state":"MG","label":"Arapuá - MG"},{"code":"4101655","name":"Arapuã","state":"PR","label":"Arapuã - PR"},{"code":"5101258","name":"Araputanga","state":"MT","label":"Araputanga - MT"},{"code":"4201307","name":"Araquari","state":"SC","label":"Araquari - SC"},{"code":"2500908","name":"Arara","state":"PB","label":"Arara - PB"},{"code":"4201406","name":"Araranguá","state":"SC","label":"Araranguá - SC"},{"code":"3503208","name":"Araraquara","state":"SP","label":"Araraquara - SP"},{"code":"3503307","name":"Araras","state":"SP","label":"Araras - SP"},{"code":"2301257","name":"Ararendá","state":"CE","label":"Ararendá - CE"},{"code":"2101004","name":"Arari","state":"MA","label":"Arari - MA"},{"code":"4300877","name":"Araricá","state":"RS","label":"Araricá - RS"},{"code":"2301307","name":"Araripe","state":"CE","label":"Araripe - CE"},{"code":"2601102","name":"Araripina","state":"PE","label":"Araripina - PE"},{"code":"3300209","name":"Araruama","state":"RJ","label":"Araruama - RJ"},{"code":"4101705","name":"Araruna","state":"PR","label":"Araruna - PR"},{"code":"2501005","name":"Araruna","state":"PB","label":"Araruna - PB"},{"code":"2902252","name":"Arataca","state":"BA","label":"Arataca - BA"},{"code":"4300901","name":"Aratiba","state":"RS","label":"Aratiba - RS"},{"code":"2301406","name":"Aratuba","state":"CE","label":"Aratuba - CE"},{"code":"2902302","name":"Aratuípe","state":"BA","label":"Aratuípe - BA"},{"code":"2800407","name":"Arauá","state":"SE","label":"Arauá - SE"},{"code":"4101804","name":"Araucária","state":"PR","label":"Araucária - PR"},{"code":"3103900","name":"Araújos","state":"MG","label":"Araújos - MG"},{"code":"3104007","name":"Araxá","state":"MG","label":"Araxá - MG"},{"code":"3104106","name":"Arceburgo","state":"MG","label":"Arceburgo - MG"},{"code":"3503356","name":"Arco-Íris","state":"SP","label":"Arco-Íris - SP"},{"code":"3104205","name":"Arcos","state":"MG","label":"Arcos - MG"},{"code":"2601201","name":"Arcoverde","state":"PE","label":"Arcoverde - PE"},{"code":"3104304","name":"Areado","state":"MG","label":"Areado - MG"},{"code":"3300225","name":"Areal","state":"RJ","label":"Areal - RJ"},{"code":"3503406","name":"Arealva","state":"SP","label":"Arealva - SP"},{"code":"2501104","name":"Areia","state":"PB","label":"Areia - PB"},{"code":"2401107","name":"Areia Branca","state":"RN","label":"Areia Branca - RN"},{"code":"2800506","name":"Areia Branca","state":"SE","label":"Areia Branca - SE"},{"code":"2501153","name":"Areia de Baraúnas","state":"PB","label":"Areia de Baraúnas - PB"},{"code":"2501203","name":"Areial","state":"PB","label":"Areial - PB"},{"code":"3503505","name":"Areias","state":"SP","label":"Areias - SP"},{"code":"3503604","name":"Areiópolis","state":"SP","label":"Areiópolis - SP"},{"code":"5101308","name":"Arenápolis","state":"MT","label":"Arenápolis - MT"},{"code":"5202353","name":"Arenópolis","state":"GO","label":"Arenópolis - GO"},{"code":"2401206","name":"Arês","state":"RN","label":"Arês - RN"},{"code":"3104403","name":"Argirita","state":"MG","label":"Argirita - MG"},{"code":"3104452","name":"Aricanduva","state":"MG","label":"Aricanduva - MG"},{"code":"3104502","name":"Arinos","state":"MG","label":"Arinos - MG"},{"code":"5101407","name":"Aripuanã","state":"MT","label":"Aripuanã - MT"},{"code":"1100023","name":"Ariquemes","state":"RO","label":"Ariquemes - RO"},{"code":"3503703","name":"Ariranha","state":"SP","label":"Ariranha - SP"},{"code":"4101853","name":"Ariranha do Ivaí","state":"PR","label":"Ariranha do Ivaí - PR"},{"code":"3300233","name":"Armação dos Búzios","state":"RJ","label":"Armação dos Búzios - RJ"},{"code":"4201505","name":"Armazém","state":"SC","label":"Armazém - SC"},{"code":"2301505","name":"Arneiroz","state":"CE","label":"Arneiroz - CE"},{"code":"2200905","name":"Aroazes","state":"PI","label":"Aroazes - PI"},{"code":"2501302","name":"Aroeiras","state":"PB","label":"Aroeiras - PB"},{"code":"2200954","name":"Aroeiras do Itaim","state":"PI","label":"Aroeiras do Itaim - PI"},{"code":"2201002","name":"Arraial","state":"PI","label":"Arraial - PI"},{"code":"3300258","name":"Arraial do Cabo","state":"RJ","label":"Arraial do Cabo - RJ"},{"code":"1702406","name":"Arraias","state":"TO","label":"Arraias - TO"},{"code":"4301008","name":"Arroio do Meio","state":"RS","label":"Arroio do Meio - RS"},{"code":"4301073","name":"Arroio do Padre","state":"RS","label":"Arroio do Padre - RS"},{"code":"4301057","name":"Arroio do Sal","state":"RS","label":"Arroio do Sal - RS"},{"code":"4301206","name":"Arroio do Tigre","state":"RS","label":"Arroio do Tigre - RS"},{"code":"4301107","name":"Arroio dos Ratos","state":"RS","label":"Arroio dos Ratos - RS"},{"code":"4301305","name":"Arroio Grande","state":"RS","label":"Arroio Grande - RS"},{"code":"4201604","name":"Arroio Trinta","state":"SC","label":"Arroio Trinta - SC"},{"code":"3503802","name":"Artur Nogueira","state":"SP","label":"Artur Nogueira - SP"},{"code":"5202502","name":"Aruanã","state":"GO","label":"Aruanã - GO"},{"code":"3503901","name":"Arujá","state":"SP","label":"Arujá - SP"},{"code":"4201653","name":"Arvoredo","state":"SC","label":"Arvoredo - SC"},{"code":"4301404","name":"Arvorezinha","state":"RS","label":"Arvorezinha - RS"},{"code":"4201703","name":"Ascurra","state":"SC","label":"Ascurra - SC"},{"code":"3503950","name":"Aspásia","state":"SP","label":"Aspásia - SP"},{"code":"4101903","name":"Assaí","state":"PR","label":"Assaí - PR"},{"code":"2301604","name":"Assaré","state":"CE","label":"Assaré - CE"},{"code":"3504008","name":"Assis","state":"SP","label":"Assis - SP"},{"code":"1200054","name":"Assis Brasil","state":"AC","label":"Assis Brasil - AC"},{"code":"4102000","name":"Assis Chateaubriand","state":"PR","label":"Assis Chateaubriand - PR"},{"code":"2501351","name":"Assunção","state":"PB","label":"Assunção - PB"},{"code":"2201051","name":"Assunção do Piauí","state":"PI","label":"Assunção do Piauí - PI"},{"code":"3104601","name":"Astolfo Dutra","state":"MG","label":"Astolfo Dutra - MG"},{"code":"4102109","name":"Astorga","state":"PR","label":"Astorga - PR"},{"code":"4102208","name":"Atalaia","state":"PR","label":"Atalaia - PR"},{"code":"2700409","name":"Atalaia","state":"AL","label":"Atalaia - AL"},{"code":"1300201","name":"Atalaia do Norte","state":"AM","label":"Atalaia do Norte - AM"},{"code":"4201802","name":"Atalanta","state":"SC","label":"Atalanta - SC"},{"code":"3104700","name":"Ataléia","state":"MG","label":"Ataléia - MG"},{"code":"3504107","name":"Atibaia","state":"SP","label":"Atibaia - SP"},{"code":"3200706","name":"Atílio Vivácqua","state":"ES","label":"Atílio Vivácqua - ES"},{"code":"1702554","name":"Augustinópolis","state":"TO","label":"Augustinópolis - TO"},{"code":"1500909","name":"Augusto Corrêa","state":"PA","label":"Augusto Corrêa - PA"},{"code":"3104809","name":"Augusto de Lima","state":"MG","label":"Augusto de Lima - MG"},{"code":"4301503","name":"Augusto Pestana","state":"RS","label":"Augusto Pestana - RS"},{"code":"4301552","name":"Áurea","state":"RS","label":"Áurea - RS"},{"code":"2902401","name":"Aurelino Leal","state":"BA","label":"Aurelino Leal - BA"},{"code":"3504206","name":"Auriflama","state":"SP","label":"Auriflama - SP"},{"code":"5202601","name":"Aurilândia","state":"GO","label":"Aurilândia - GO"},{"code":"4201901","name":"Aurora","state":"SC","label":"Aurora - SC"},{"code":"2301703","name":"Aurora","state":"CE","label":"Aurora - CE"},{"code":"1500958","name":"Aurora do Pará","state":"PA","label":"Aurora do Pará - PA"},{"code":"1702703","name":"Aurora do Tocantins","state":"TO","label":"Aurora do Tocantins - TO"},{"code":"1300300","name":"Autazes","state":"AM","label":"Autazes - AM"},{"code":"3504305","name":"Avaí","state":"SP","label":"Avaí - SP"},{"code":"3504404","name":"Avanhandava","state":"SP","label":"Avanhandava - SP"},{"code":"3504503","name":"Avaré","state":"SP","label":"Avaré - SP"},{"code":"1501006","name":"Aveiro","state":"PA","label":"Aveiro - PA"},{"code":"2201101","name":"Avelino Lopes","state":"PI","label":"Avelino Lopes - PI"},{"code":"5202809","name":"Avelinópolis","state":"GO","label":"Avelinópolis - GO"},{"code":"2101103","name":"Axixá","state":"MA","label":"Axixá - MA"},{"code":"1702901","name":"Axixá do Tocantins","state":"TO","label":"Axixá do Tocantins - TO"},{"code":"1703008","name":"Babaçulândia","state":"TO","label":"Babaçulândia - TO"},{"code":"2101202","name":"Bacabal","state":"MA","label":"Bacabal - MA"},{"code":"2101251","name":"Bacabeira","state":"MA","label":"Bacabeira - MA"},{"code":"2101301","name":"Bacuri","state":"MA","label":"Bacuri - MA"},{"code":"2101350","name":"Bacurituba","state":"MA","label":"Bacurituba - MA"},{"code":"3504602","name":"Bady Bassitt","state":"SP","label":"Bady Bassitt - SP"},{"code":"3104908","name":"Baependi","state":"MG","label":"Baependi - MG"},{"code":"4301602","name":"Bagé","state":"RS","label":"Bagé - RS"},{"code":"1501105","name":"Bagre","state":"PA","label":"Bagre - PA"},{"code":"2501401","name":"Baía da Traição","state":"PB","label":"Baía da Traição - PB"},{"code":"2401404","name":"Baía Formosa","state":"RN","label":"Baía Formosa - RN"},{"code":"2902500","name":"Baianópolis","state":"BA","label":"Baianópolis - BA"},{"code":"1501204","name":"Baião","state":"PA","label":"Baião - PA"},{"code":"2902609","name":"Baixa Grande","state":"BA","label":"Baixa Grande - BA"},{"code":"2201150","name":"Baixa Grande do Ribeiro","state":"PI","label":"Baixa Grande do Ribeiro - PI"},{"code":"2301802","name":"Baixio","state":"CE","label":"Baixio - CE"},{"code":"3200805","name":"Baixo Guandu","state":"ES","label":"Baixo Guandu - ES"},{"code":"3504701","name":"Balbinos","state":"SP","label":"Balbinos - SP"},{"code":"3105004","name":"Baldim","state":"MG","label":"Baldim - MG"},{"code":"5203104","name":"Baliza","state":"GO","label":"Baliza - GO"},{"code":"4201950","name":"Balneário Arroio do Silva","state":"SC","label":"Balneário Arroio do Silva - SC"},{"code":"4202057","name":"Balneário Barra do Sul","state":"SC","label":"Balneário Barra do Sul - SC"},{"code":"4202008","name":"Balneário Camboriú","state":"SC","label":"Balneário Camboriú - SC"},{"code":"4202073","name":"Balneário Gaivota","state":"SC","label":"Balneário Gaivota - SC"},{"code":"4212809","name":"Balneário Piçarras","state":"SC","label":"Balneário Piçarras - SC"},{"code":"4301636","name":"Balneário Pinhal","state":"RS","label":"Balneário Pinhal - RS"},{"code":"4220000","name":"Balneário Rincão","state":"SC","label":"Balneário Rincão - SC"},{"code":"4102307","name":"Balsa Nova","state":"PR","label":"Balsa Nova - PR"},{"code":"3504800","name":"Bálsamo","state":"SP","label":"Bálsamo - SP"},{"code":"2101400","name":"Balsas","state":"MA","label":"Balsas - MA"},{"code":"3105103","name":"Bambuí","state":"MG","label":"Bambuí - MG"},{"code":"2301851","name":"Banabuiú","state":"CE","label":"Banabuiú - CE"},{"code":"3504909","name":"Bananal","state":"SP","label":"Bananal - SP"},{"code":"2501500","name":"Bananeiras","state":"PB","label":"Bananeiras - PB"},{"code":"3105202","name":"Bandeira","state":"MG","label":"Bandeira - MG"},{"code":"3105301","name":"Bandeira do Sul","state":"MG","label":"Bandeira do Sul - MG"},{"code":"4202081","name":"Bandeirante","state":"SC","label":"Bandeirante - SC"},{"code":"5001508","name":"Bandeirantes","state":"MS","label":"Bandeirantes - MS"},{"code":"4102406","name":"Bandeirantes","state":"PR","label":"Bandeirantes - PR"},{"code":"1703057","name":"Bandeirantes do Tocantins","state":"TO","label":"Bandeirantes do Tocantins - TO"},{"code":"1501253","name":"Bannach","state":"PA","label":"Bannach - PA"},{"code":"2902658","name":"Banzaê","state":"BA","label":"Banzaê - BA"},{"code":"4301651","name":"Barão","state":"RS","label":"Barão - RS"},{"code":"3505005","name":"Barão de Antonina","state":"SP","label":"Barão de Antonina - SP"},{"code":"3105400","name":"Barão de Cocais","state":"MG","label":"Barão de Cocais - MG"},{"code":"4301701","name":"Barão de Cotegipe","state":"RS","label":"Barão de Cotegipe - RS"},{"code":"2101509","name":"Barão de Grajaú","state":"MA","label":"Barão de Grajaú - MA"},{"code":"5101605","name":"Barão de Melgaço","state":"MT","label":"Barão de Melgaço - MT"},{"code":"3105509","name":"Barão do Monte Alto","state":"MG","label":"Barão do Monte Alto - MG"},{"code":"4301750","name":"Barão do Triunfo","state":"RS","label":"Barão do Triunfo - RS"},{"code":"2501534","name":"Baraúna","state":"PB","label":"Baraúna - PB"},{"code":"2401453","name":"Baraúna","state":"RN","label":"Baraúna - RN"},{"code":"3105608","name":"Barbacena","state":"MG","label":"Barbacena - MG"},{"code":"2301901","name":"Barbalha","state":"CE","label":"Barbalha - CE"},{"code":"3505104","name":"Barbosa","state":"SP","label":"Barbosa - SP"},{"code":"4102505","name":"Barbosa Ferraz","state":"PR","label":"Barbosa Ferraz - PR"},{"code":"1501303","name":"Barcarena","state":"PA","label":"Barcarena - PA"},{"code":"2401503","name":"Barcelona","state":"RN","label":"Barcelona - RN"},{"code":"1300409","name":"Barcelos","state":"AM","label":"Barcelos - AM"},{"code":"3505203","name":"Bariri","state":"SP","label":"Bariri - SP"},{"code":"2902708","name":"Barra","state":"BA","label":"Barra - BA"},{"code":"3505302","name":"Barra Bonita","state":"SP","label":"Barra Bonita - SP"},{"code":"4202099","name":"Barra Bonita","state":"SC","label":"Barra Bonita - SC"},{"code":"2902807","name":"Barra da Estiva","state":"BA","label":"Barra da Estiva - BA"},{"code":"2201176","name":"Barra D\u0027Alcântara","state":"PI","label":"Barra D\u0027Alcântara - PI"},{"code":"2601300","name":"Barra de Guabiraba","state":"PE","label":"Barra de Guabiraba - PE"},{"code":"2501609","name":"Barra de Santa Rosa","state":"PB","label":"Barra de Santa Rosa - PB"},{"code":"2501575","name":"Barra de Santana","state":"PB","label":"Barra de Santana - PB"},{"code":"2700508","name":"Barra de Santo Antônio","state":"AL","label":"Barra de Santo Antônio - AL"},{"code":"3200904","name":"Barra de São Francisco","state":"ES","label":"Barra de São Francisco - ES"},{"code":"2700607","name":"Barra de São Miguel","state":"AL","label":"Barra de São Miguel - AL"},{"code":"2501708","name":"Barra de São Miguel","state":"PB","label":"Barra de São Miguel - PB"},{"code":"5101704","name":"Barra do Bugres","state":"MT","label":"Barra do Bugres - MT"},{"code":"3505351","name":"Barra do Chapéu","state":"SP","label":"Barra do Chapéu - SP"},{"code":"2902906","name":"Barra do Choça","state":"BA","label":"Barra do Choça - BA"},{"code":"2101608","name":"Barra do Corda","state":"MA","label":"Barra do Corda - MA"},{"code":"5101803","name":"Barra do Garças","state":"MT","label":"Barra do Garças - MT"},{"code":"4301859","name":"Barra do Guarita","state":"RS","label":"Barra do Guarita - RS"},{"code":"4102703","name":"Barra do Jacaré","state":"PR","label":"Barra do Jacaré - PR"},{"code":"2903003","name":"Barra do Mendes","state":"BA","label":"Barra do Mendes - BA"},{"code":"1703073","name":"Barra do Ouro","state":"TO","label":"Barra do Ouro - TO"},{"code":"3300308","name":"Barra do Piraí","state":"RJ","label":"Barra do Piraí - RJ"},{"code":"4301875","name":"Barra do Quaraí","state":"RS","label":"Barra do Quaraí - RS"},{"code":"4301909","name":"Barra do Ribeiro","state":"RS","label":"Barra do Ribeiro - RS"},{"code":"4301925","name":"Barra do Rio Azul","state":"RS","label":"Barra do Rio Azul - RS"},{"code":"2903102","name":"Barra do Rocha","state":"BA","label":"Barra do Rocha - BA"},{"code":"3505401","name":"Barra do Turvo","state":"SP","label":"Barra do Turvo - SP"},{"code":"2800605","name":"Barra dos Coqueiros","state":"SE","label":"Barra dos Coqueiros - SE"},{"code":"4301958","name":"Barra Funda","state":"RS","label":"Barra Funda - RS"},{"code":"3105707","name":"Barra Longa","state":"MG","label":"Barra Longa - MG"},{"code":"3300407","name":"Barra Mansa","state":"RJ","label":"Barra Mansa - RJ"},{"code":"4202107","name":"Barra Velha","state":"SC","label":"Barra Velha - SC"},{"code":"4301800","name":"Barracão","state":"RS","label":"Barracão - RS"},{"code":"4102604","name":"Barracão","state":"PR","label":"Barracão - PR"},{"code":"2201200","name":"Barras","state":"PI","label":"Barras - PI"},{"code":"2301950","name":"Barreira","state":"CE","label":"Barreira - CE"},{"code":"2903201","name":"Barreiras","state":"BA","label":"Barreiras - BA"},{"code":"2201309","name":"Barreiras do Piauí","state":"PI","label":"Barreiras do Piauí - PI"},{"code":"1300508","name":"Barreirinha","state":"AM","label":"Barreirinha - AM"},{"code":"2101707","name":"Barreirinhas","state":"MA","label":"Barreirinhas - MA"},{"code":"2601409","name":"Barreiros","state":"PE","label":"Barreiros - PE"},{"code":"3505500","name":"Barretos","state":"SP","label":"Barretos - SP"},{"code":"3505609","name":"Barrinha","state":"SP","label":"Barrinha - SP"},{"code":"2302008","name":"Barro","state":"CE","label":"Barro - CE"},{"code":"2903235","name":"Barro Alto","state":"BA","label":"Barro Alto - BA"},{"code":"5203203","name":"Barro Alto","state":"GO","label":"Barro Alto - GO"},{"code":"2201408","name":"Barro Duro","state":"PI","label":"Barro Duro - PI"},{"code":"2903300","name":"Barro Preto","state":"BA","label":"Barro Preto - BA"},{"code":"2903276","name":"Barrocas","state":"BA","label":"Barrocas - BA"},{"code":"1703107","name":"Barrolândia","state":"TO","label":"Barrolândia - TO"},{"code":"2302057","name":"Barroquinha","state":"CE","label":"Barroquinha - CE"},{"code":"4302006","name":"Barros Cassal","state":"RS","label":"Barros Cassal - RS"},{"code":"3105905","name":"Barroso","state":"MG","label":"Barroso - MG"},{"code":"3505708","name":"Barueri","state":"SP","label":"Barueri - SP"},{"code":"3505807","name":"Bastos","state":"SP","label":"Bastos - SP"},{"code":"5001904","name":"Bataguassu","state":"MS","label":"Bataguassu - MS"},{"code":"2700706","name":"Batalha","state":"AL","label":"Batalha - AL"},{"code":"2201507","name":"Batalha","state":"PI","label":"Batalha - PI"},{"code":"3505906","name":"Batatais","state":"SP","label":"Batatais - SP"},{"code":"5002001","name":"Batayporã","state":"MS","label":"Batayporã - MS"},{"code":"2302107","name":"Baturité","state":"CE","label":"Baturité - CE"},{"code":"3506003","name":"Bauru","state":"SP","label":"Bauru - SP"},{"code":"2501807","name":"Bayeux","state":"PB","label":"Bayeux - PB"},{"code":"3506102","name":"Bebedouro","state":"SP","label":"Bebedouro - SP"},{"code":"2302206","name":"Beberibe","state":"CE","label":"Beberibe - CE"},{"code":"2302305","name":"Bela Cruz","state":"CE","label":"Bela Cruz - CE"},{"code":"5002100","name":"Bela Vista","state":"MS","label":"Bela Vista - MS"},{"code":"4102752","name":"Bela Vista da Caroba","state":"PR","label":"Bela Vista da Caroba - PR"},{"code":"5203302","name":"Bela Vista de Goiás","state":"GO","label":"Bela Vista de Goiás - GO"},{"code":"3106002","name":"Bela Vista de Minas","state":"MG","label":"Bela Vista de Minas - MG"},{"code":"2101772","name":"Bela Vista do Maranhão","state":"MA","label":"Bela Vista do Maranhão - MA"},{"code":"4102802","name":"Bela Vista do Paraíso","state":"PR","label":"Bela Vista do Paraíso - PR"},{"code":"2201556","name":"Bela Vista do Piauí","state":"PI","label":"Bela Vista do Piauí - PI"},{"code":"4202131","name":"Bela Vista do Toldo","state":"SC","label":"Bela Vista do Toldo - SC"},{"code":"2101731","name":"Belágua","state":"MA","label":"Belágua - MA"},{"code":"1501402","name":"Belém","state":"PA","label":"Belém - PA"},{"code":"2501906","name":"Belém","state":"PB","label":"Belém - PB"},{"code":"2700805","name":"Belém","state":"AL","label":"Belém - AL"},{"code":"2601508","name":"Belém de Maria","state":"PE","label":"Belém de Maria - PE"},{"code":"2502003","name":"Belém do Brejo do Cruz","state":"PB","label":"Belém do Brejo do Cruz - PB"},{"code":"2201572","name":"Belém do Piauí","state":"PI","label":"Belém do Piauí - PI"},{"code":"2601607","name":"Belém do São Francisco","state":"PE","label":"Belém do São Francisco - PE"},{"code":"3300456","name":"Belford Roxo","state":"RJ","label":"Belford Roxo - RJ"},{"code":"3106101","name":"Belmiro Braga","state":"MG","label":"Belmiro Braga - MG"},{"code":"2903409","name":"Belmonte","state":"BA","label":"Belmonte - BA"},{"code":"4202156","name":"Belmonte","state":"SC","label":"Belmonte - SC"},{"code":"2903508","name":"Belo Campo","state":"BA","label":"Belo Campo - BA"},{"code":"3106200","name":"Belo Horizonte","state":"MG","label":"Belo Horizonte - MG"},{"code":"2601706","name":"Belo Jardim","state":"PE","label":"Belo Jardim - PE"},{"code":"2700904","name":"Belo Monte","state":"AL","label":"Belo Monte - AL"},{"code":"3106309","name":"Belo Oriente","state":"MG","label":"Belo Oriente - MG"},{"code":"3106408","name":"Belo Vale","state":"MG","label":"Belo Vale - MG"},{"code":"1501451","name":"Belterra","state":"PA","label":"Belterra - PA"},{"code":"2201606","name":"Beneditinos","state":"PI","label":"Beneditinos - PI"},{"code":"2101806","name":"Benedito Leite","state":"MA","label":"Benedito Leite - MA"},{"code":"4202206","name":"Benedito Novo","state":"SC","label":"Benedito Novo - SC"},{"code":"1501501","name":"Benevides","state":"PA","label":"Benevides - PA"},{"code":"1300607","name":"Benjamin Constant","state":"AM","label":"Benjamin Constant - AM"},{"code":"4302055","name":"Benjamin Constant do Sul","state":"RS","label":"Benjamin Constant do Sul - RS"},{"code":"3506201","name":"Bento de Abreu","state":"SP","label":"Bento de Abreu - SP"},{"code":"2401602","name":"Bento Fernandes","state":"RN","label":"Bento Fernandes - RN"},{"code":"4302105","name":"Bento Gonçalves","state":"RS","label":"Bento Gonçalves - RS"},{"code":"2101905","name":"Bequimão","state":"MA","label":"Bequimão - MA"},{"code":"3106507","name":"Berilo","state":"MG","label":"Berilo - MG"},{"code":"3106655","name":"Berizal","state":"MG","label":"Berizal - MG"},{"code":"2502052","name":"Bernardino Batista","state":"PB","label":"Bernardino Batista - PB"},{"code":"3506300","name":"Bernardino de Campos","state":"SP","label":"Bernardino de Campos - SP"},{"code":"2101939","name":"Bernardo do Mearim","state":"MA","label":"Bernardo do Mearim - MA"},{"code":"1703206","name":"Bernardo Sayão","state":"TO","label":"Bernardo Sayão - TO"},{"code":"3506359","name":"Bertioga","state":"SP","label":"Bertioga - SP"},{"code":"2201705","name":"Bertolínia","state":"PI","label":"Bertolínia - PI"},{"code":"3106606","name":"Bertópolis","state":"MG","label":"Bertópolis - MG"},{"code":"1300631","name":"Beruri","state":"AM","label":"Beruri - AM"},{"code":"2601805","name":"Betânia","state":"PE","label":"Betânia - PE"},{"code":"2201739","name":"Betânia do Piauí","state":"PI","label":"Betânia do Piauí - PI"},{"code":"3106705","name":"Betim","state":"MG","label":"Betim - MG"},{"code":"2601904","name":"Bezerros","state":"PE","label":"Bezerros - PE"},{"code":"3106804","name":"Bias Fortes","state":"MG","label":"Bias Fortes - MG"},{"code":"3106903","name":"Bicas","state":"MG","label":"Bicas - MG"},{"code":"4202305","name":"Biguaçu","state":"SC","label":"Biguaçu - SC"},{"code":"3506409","name":"Bilac","state":"SP","label":"Bilac - SP"},{"code":"3107000","name":"Biquinhas","state":"MG","label":"Biquinhas - MG"},{"code":"3506508","name":"Birigui","state":"SP","label":"Birigui - SP"},{"code":"3506607","name":"Biritiba Mirim","state":"SP","label":"Biritiba Mirim - SP"},{"code":"2903607","name":"Biritinga","state":"BA","label":"Biritinga - BA"},{"code":"4102901","name":"Bituruna","state":"PR","label":"Bituruna - PR"},{"code":"4202404","name":"Blumenau","state":"SC","label":"Blumenau - SC"},{"code":"4103008","name":"Boa Esperança","state":"PR","label":"Boa Esperança - PR"},{"code":"3201001","name":"Boa Esperança","state":"ES","label":"Boa Esperança - ES"},{"code":"3107109","name":"Boa Esperança","state":"MG","label":"Boa Esperança - MG"},{"code":"4103024","name":"Boa Esperança do Iguaçu","state":"PR","label":"Boa Esperança do Iguaçu - PR"},{"code":"5101837","name":"Boa Esperança do Norte","state":"MT","label":"Boa Esperança do Norte - MT"},{"code":"3506706","name":"Boa Esperança do Sul","state":"SP","label":"Boa Esperança do Sul - SP"},{"code":"2201770","name":"Boa Hora","state":"PI","label":"Boa Hora - PI"},{"code":"2903706","name":"Boa Nova","state":"BA","label":"Boa Nova - BA"},{"code":"2502102","name":"Boa Ventura","state":"PB","label":"Boa Ventura - PB"},{"code":"4103040","name":"Boa Ventura de São Roque","state":"PR","label":"Boa Ventura de São Roque - PR"},{"code":"2302404","name":"Boa Viagem","state":"CE","label":"Boa Viagem - CE"},{"code":"2502151","name":"Boa Vista","state":"PB","label":"Boa Vista - PB"},{"code":"1400100","name":"Boa Vista","state":"RR","label":"Boa Vista - RR"},{"code":"4103057","name":"Boa Vista da Aparecida","state":"PR","label":"Boa Vista da Aparecida - PR"},{"code":"4302154","name":"Boa Vista das Missões","state":"RS","label":"Boa Vista das Missões - RS"},{"code":"4302204","name":"Boa Vista do Buricá","state":"RS","label":"Boa Vista do Buricá - RS"},{"code":"4302220","name":"Boa Vista do Cadeado","state":"RS","label":"Boa Vista do Cadeado - RS"},{"code":"2101970","name":"Boa Vista do Gurupi","state":"MA","label":"Boa Vista do Gurupi - MA"},{"code":"4302238","name":"Boa Vista do Incra","state":"RS","label":"Boa Vista do Incra - RS"},{"code":"1300680","name":"Boa Vista do Ramos","state":"AM","label":"Boa Vista do Ramos - AM"},{"code":"4302253","name":"Boa Vista do Sul","state":"RS","label":"Boa Vista do Sul - RS"},{"code":"2903805","name":"Boa Vista do Tupim","state":"BA","label":"Boa Vista do Tupim - BA"},{"code":"2701001","name":"Boca da Mata","state":"AL","label":"Boca da Mata - AL"},{"code":"1300706","name":"Boca do Acre","state":"AM","label":"Boca do Acre - AM"},{"code":"2201804","name":"Bocaina","state":"PI","label":"Bocaina - PI"},{"code":"3506805","name":"Bocaina","state":"SP","label":"Bocaina - SP"},{"code":"3107208","name":"Bocaina de Minas","state":"MG","label":"Bocaina de Minas - MG"},{"code":"4202438","name":"Bocaina do Sul","state":"SC","label":"Bocaina do Sul - SC"},{"code":"3107307","name":"Bocaiúva","state":"MG","label":"Bocaiúva - MG"},{"code":"4103107","name":"Bocaiúva do Sul","state":"PR","label":"Bocaiúva do Sul - PR"},{"code":"2401651","name":"Bodó","state":"RN","label":"Bodó - RN"},{"code":"2602001","name":"Bodocó","state":"PE","label":"Bodocó - PE"},{"code":"5002159","name":"Bodoquena","state":"MS","label":"Bodoquena - MS"},{"code":"3506904","name":"Bofete","state":"SP","label":"Bofete - SP"},{"code":"3507001","name":"Boituva","state":"SP","label":"Boituva - SP"},{"code":"2602100","name":"Bom Conselho","state":"PE","label":"Bom Conselho - PE"},{"code":"3107406","name":"Bom Despacho","state":"MG","label":"Bom Despacho - MG"},{"code":"2602209","name":"Bom Jardim","state":"PE","label":"Bom Jardim - PE"},{"code":"2102002","name":"Bom Jardim","state":"MA","label":"Bom Jardim - MA"},{"code":"3300506","name":"Bom Jardim","state":"RJ","label":"Bom Jardim - RJ"},{"code":"4202503","name":"Bom Jardim da Serra","state":"SC","label":"Bom Jardim da Serra - SC"},{"code":"5203401","name":"Bom Jardim de Goiás","state":"GO","label":"Bom Jardim de Goiás - GO"},{"code":"3107505","name":"Bom Jardim de Minas","state":"MG","label":"Bom Jardim de Minas - MG"},{"code":"2201903","name":"Bom Jesus","state":"PI","label":"Bom Jesus - PI"},{"code":"2401701","name":"Bom Jesus","state":"RN","label":"Bom Jesus - RN"},{"code":"2502201","name":"Bom Jesus","state":"PB","label":"Bom Jesus - PB"},{"code":"4202537","name":"Bom Jesus","state":"SC","label":"Bom Jesus - SC"},{"code":"4302303","name":"Bom Jesus","state":"RS","label":"Bom Jesus - RS"},{"code":"2903904","name":"Bom Jesus da Lapa","state":"BA","label":"Bom Jesus da Lapa - BA"},{"code":"3107604","name":"Bom Jesus da Penha","state":"MG","label":"Bom Jesus da Penha - MG"},{"code":"2903953","name":"Bom Jesus da Serra","state":"BA","label":"Bom Jesus da Serra - BA"},{"code":"2102036","name":"Bom Jesus das Selvas","state":"MA","label":"Bom Jesus das Selvas - MA"},{"code":"5203500","name":"Bom Jesus de Goiás","state":"GO","label":"Bom Jesus de Goiás - GO"},{"code":"3107703","name":"Bom Jesus do Amparo","state":"MG","label":"Bom Jesus do Amparo - MG"},{"code":"5101852","name":"Bom Jesus do Araguaia","state":"MT","label":"Bom Jesus do Araguaia - MT"},{"code":"3107802","name":"Bom Jesus do Galho","state":"MG","label":"Bom Jesus do Galho - MG"},{"code":"3300605","name":"Bom Jesus do Itabapoana","state":"RJ","label":"Bom Jesus do Itabapoana - RJ"},{"code":"3201100","name":"Bom Jesus do Norte","state":"ES","label":"Bom Jesus do Norte - ES"},{"code":"4202578","name":"Bom Jesus do Oeste","state":"SC","label":"Bom Jesus do Oeste - SC"},{"code":"4103156","name":"Bom Jesus do Sul","state":"PR","label":"Bom Jesus do Sul - PR"},{"code":"1703305","name":"Bom Jesus do Tocantins","state":"TO","label":"Bom Jesus do Tocantins - TO"},{"code":"1501576","name":"Bom Jesus do Tocantins","state":"PA","label":"Bom Jesus do Tocantins - PA"},{"code":"3507100","name":"Bom Jesus dos Perdões","state":"SP","label":"Bom Jesus dos Perdões - SP"},{"code":"2102077","name":"Bom Lugar","state":"MA","label":"Bom Lugar - MA"},{"code":"4302352","name":"Bom Princípio","state":"RS","label":"Bom Princípio - RS"},{"code":"2201919","name":"Bom Princípio do Piauí","state":"PI","label":"Bom Princípio do Piauí - PI"},{"code":"4302378","name":"Bom Progresso","state":"RS","label":"Bom Progresso - RS"},{"code":"3107901","name":"Bom Repouso","state":"MG","label":"Bom Repouso - MG"},{"code":"4202602","name":"Bom Retiro","state":"SC","label":"Bom Retiro - SC"},{"code":"4302402","name":"Bom Retiro do Sul","state":"RS","label":"Bom Retiro do Sul - RS"},{"code":"4103206","name":"Bom Sucesso","state":"PR","label":"Bom Sucesso - PR"},{"code":"3108008","name":"Bom Sucesso","state":"MG","label":"Bom Sucesso - MG"},{"code":"2502300","name":"Bom Sucesso","state":"PB","label":"Bom Sucesso - PB"},{"code":"3507159","name":"Bom Sucesso de Itararé","state":"SP","label":"Bom Sucesso de Itararé - SP"},{"code":"4103222","name":"Bom Sucesso do Sul","state":"PR","label":"Bom Sucesso do Sul - PR"},{"code":"4202453","name":"Bombinhas","state":"SC","label":"Bombinhas - SC"},{"code":"1400159","name":"Bonfim","state":"RR","label":"Bonfim - RR"},{"code":"3108107","name":"Bonfim","state":"MG","label":"Bonfim - MG"},{"code":"2201929","name":"Bonfim do Piauí","state":"PI","label":"Bonfim do Piauí - PI"},{"code":"5203559","name":"Bonfinópolis","state":"GO","label":"Bonfinópolis - GO"},{"code":"3108206","name":"Bonfinópolis de Minas","state":"MG","label":"Bonfinópolis de Minas - MG"},{"code":"2904001","name":"Boninal","state":"BA","label":"Boninal - BA"},{"code":"2904050","name":"Bonito","state":"BA","label":"Bonito - BA"},{"code":"2602308","name":"Bonito","state":"PE","label":"Bonito - PE"},{"code":"1501600","name":"Bonito","state":"PA","label":"Bonito - PA"},{"code":"5002209","name":"Bonito","state":"MS","label":"Bonito - MS"},{"code":"3108255","name":"Bonito de Minas","state":"MG","label":"Bonito de Minas - MG"},{"code":"2502409","name":"Bonito de Santa Fé","state":"PB","label":"Bonito de Santa Fé - PB"},{"code":"5203575","name":"Bonópolis","state":"GO","label":"Bonópolis - GO"},{"code":"2502508","name":"Boqueirão","state":"PB","label":"Boqueirão - PB"},{"code":"4302451","name":"Boqueirão do Leão","state":"RS","label":"Boqueirão do Leão - RS"},{"code":"2201945","name":"Boqueirão do Piauí","state":"PI","label":"Boqueirão do Piauí - PI"},{"code":"2800670","name":"Boquim","state":"SE","label":"Boquim - SE"},{"code":"2904100","name":"Boquira","state":"BA","label":"Boquira - BA"},{"code":"3507209","name":"Borá","state":"SP","label":"Borá - SP"},{"code":"3507308","name":"Boracéia","state":"SP","label":"Boracéia - SP"},{"code":"1300805","name":"Borba","state":"AM","label":"Borba - AM"},{"code":"2502706","name":"Borborema","state":"PB","label":"Borborema - PB"},{"code":"3507407","name":"Borborema","state":"SP","label":"Borborema - SP"},{"code":"3108305","name":"Borda da Mata","state":"MG","label":"Borda da Mata - MG"},{"code":"3507456","name":"Borebi","state":"SP","label":"Borebi - SP"},{"code":"4103305","name":"Borrazópolis","state":"PR","label":"Borrazópolis - PR"},{"code":"4302501","name":"Bossoroca","state":"RS","label":"Bossoroca - RS"},{"code":"3108404","name":"Botelhos","state":"MG","label":"Botelhos - MG"},{"code":"3507506","name":"Botucatu","state":"SP","label":"Botucatu - SP"},{"code":"3108503","name":"Botumirim","state":"MG","label":"Botumirim - MG"},{"code":"2904209","name":"Botuporã","state":"BA","label":"Botuporã - BA"},{"code":"4202701","name":"Botuverá","state":"SC","label":"Botuverá - SC"},{"code":"4302584","name":"Bozano","state":"RS","label":"Bozano - RS"},{"code":"4202800","name":"Braço do Norte","state":"SC","label":"Braço do Norte - SC"},{"code":"4202859","name":"Braço do Trombudo","state":"SC","label":"Braço do Trombudo - SC"},{"code":"4302600","name":"Braga","state":"RS","label":"Braga - RS"},{"code":"1501709","name":"Bragança","state":"PA","label":"Bragança - PA"},{"code":"3507605","name":"Bragança Paulista","state":"SP","label":"Bragança Paulista - SP"},{"code":"4103354","name":"Braganey","state":"PR","label":"Braganey - PR"},{"code":"2701100","name":"Branquinha","state":"AL","label":"Branquinha - AL"},{"code":"3108701","name":"Brás Pires","state":"MG","label":"Brás Pires - MG"},{"code":"1501725","name":"Brasil Novo","state":"PA","label":"Brasil Novo - PA"},{"code":"5002308","name":"Brasilândia","state":"MS","label":"Brasilândia - MS"},{"code":"3108552","name":"Brasilândia de Minas","state":"MG","label":"Brasilândia de Minas - MG"},{"code":"4103370","name":"Brasilândia do Sul","state":"PR","label":"Brasilândia do Sul - PR"},{"code":"1703602","name":"Brasilândia do Tocantins","state":"TO","label":"Brasilândia do Tocantins - TO"},{"code":"1200104","name":"Brasiléia","state":"AC","label":"Brasiléia - AC"},{"code":"2201960","name":"Brasileira","state":"PI","label":"Brasileira - PI"},{"code":"5300108","name":"Brasília","state":"DF","label":"Brasília - DF"},{"code":"3108602","name":"Brasília de Minas","state":"MG","label":"Brasília de Minas - MG"},{"code":"5101902","name":"Brasnorte","state":"MT","label":"Brasnorte - MT"},{"code":"3507704","name":"Braúna","state":"SP","label":"Braúna - SP"},{"code":"3108800","name":"Braúnas","state":"MG","label":"Braúnas - MG"},{"code":"5203609","name":"Brazabrantes","state":"GO","label":"Brazabrantes - GO"},{"code":"3108909","name":"Brazópolis","state":"MG","label":"Brazópolis - MG"},{"code":"2602407","name":"Brejão","state":"PE","label":"Brejão - PE"},{"code":"3201159","name":"Brejetuba","state":"ES","label":"Brejetuba - ES"},{"code":"2602506","name":"Brejinho","state":"PE","label":"Brejinho - PE"},{"code":"2401800","name":"Brejinho","state":"RN","label":"Brejinho - RN"},{"code":"1703701","name":"Brejinho de Nazaré","state":"TO","label":"Brejinho de Nazaré - TO"},{"code":"2102101","name":"Brejo","state":"MA","label":"Brejo - MA"},{"code":"3507753","name":"Brejo Alegre","state":"SP","label":"Brejo Alegre - SP"},{"code":"2602605","name":"Brejo da Madre de Deus","state":"PE","label":"Brejo da Madre de Deus - PE"},{"code":"2102150","name":"Brejo de Areia","state":"MA","label":"Brejo de Areia - MA"},{"code":"2502805","name":"Brejo do Cruz","state":"PB","label":"Brejo do Cruz - PB"},{"code":"2201988","name":"Brejo do Piauí","state":"PI","label":"Brejo do Piauí - PI"},{"code":"2502904","name":"Brejo dos Santos","state":"PB","label":"Brejo dos Santos - PB"},{"code":"2800704","name":"Brejo Grande","state":"SE","label":"Brejo Grande - SE"},{"code":"1501758","name":"Brejo Grande do Araguaia","state":"PA","label":"Brejo Grande do Araguaia - PA"},{"code":"2302503","name":"Brejo Santo","state":"CE","label":"Brejo Santo - CE"},{"code":"2904308","name":"Brejões","state":"BA","label":"Brejões - BA"},{"code":"2904407","name":"Brejolândia","state":"BA","label":"Brejolândia - BA"},{"code":"1501782","name":"Breu Branco","state":"PA","label":"Breu Branco - PA"},{"code":"1501808","name":"Breves","state":"PA","label":"Breves - PA"},{"code":"5203807","name":"Britânia","state":"GO","label":"Britânia - GO"},{"code":"4302659","name":"Brochier","state":"RS","label":"Brochier - RS"},{"code":"3507803","name":"Brodowski","state":"SP","label":"Brodowski - SP"},{"code":"3507902","name":"Brotas","state":"SP","label":"Brotas - SP"},{"code":"2904506","name":"Brotas de Macaúbas","state":"BA","label":"Brotas de Macaúbas - BA"},{"code":"3109006","name":"Brumadinho","state":"MG","label":"Brumadinho - MG"},{"code":"2904605","name":"Brumado","state":"BA","label":"Brumado - BA"},{"code":"4202875","name":"Brunópolis","state":"SC","label":"Brunópolis - SC"},{"code":"4202909","name":"Brusque","state":"SC","label":"Brusque - SC"},{"code":"3109105","name":"Bueno Brandão","state":"MG","label":"Bueno Brandão - MG"},{"code":"3109204","name":"Buenópolis","state":"MG","label":"Buenópolis - MG"},{"code":"2602704","name":"Buenos Aires","state":"PE","label":"Buenos Aires - PE"},{"code":"2904704","name":"Buerarema","state":"BA","label":"Buerarema - BA"},{"code":"3109253","name":"Bugre","state":"MG","label":"Bugre - MG"},{"code":"2602803","name":"Buíque","state":"PE","label":"Buíque - PE"},{"code":"1200138","name":"Bujari","state":"AC","label":"Bujari - AC"},{"code":"1501907","name":"Bujaru","state":"PA","label":"Bujaru - PA"},{"code":"3508009","name":"Buri","state":"SP","label":"Buri - SP"},{"code":"3508108","name":"Buritama","state":"SP","label":"Buritama - SP"},{"code":"2102200","name":"Buriti","state":"MA","label":"Buriti - MA"},{"code":"5203906","name":"Buriti Alegre","state":"GO","label":"Buriti Alegre - GO"},{"code":"2102309","name":"Buriti Bravo","state":"MA","label":"Buriti Bravo - MA"},{"code":"5203939","name":"Buriti de Goiás","state":"GO","label":"Buriti de Goiás - GO"},{"code":"1703800","name":"Buriti do Tocantins","state":"TO","label":"Buriti do Tocantins - TO"},{"code":"2202000","name":"Buriti dos Lopes","state":"PI","label":"Buriti dos Lopes - PI"},{"code":"2202026","name":"Buriti dos Montes","state":"PI","label":"Buriti dos Montes - PI"},{"code":"2102325","name":"Buriticupu","state":"MA","label":"Buriticupu - MA"},{"code":"5203962","name":"Buritinópolis","state":"GO","label":"Buritinópolis - GO"},{"code":"2904753","name":"Buritirama","state":"BA","label":"Buritirama - BA"},{"code":"2102358","name":"Buritirana","state":"MA","label":"Buritirana - MA"},{"code":"1100452","name":"Buritis","state":"RO","label":"Buritis - RO"},{"code":"3109303","name":"Buritis","state":"MG","label":"Buritis - MG"},{"code":"3508207","name":"Buritizal","state":"SP","label":"Buritizal - SP"},{"code":"3109402","name":"Buritizeiro","state":"MG","label":"Buritizeiro - MG"},{"code":"4302709","name":"Butiá","state":"RS","label":"Butiá - RS"},{"code":"1300839","name":"Caapiranga","state":"AM","label":"Caapiranga - AM"},{"code":"2503001","name":"Caaporã","state":"PB","label":"Caaporã - PB"},{"code":"5002407","name":"Caarapó","state":"MS","label":"Caarapó - MS"},{"code":"2904803","name":"Caatiba","state":"BA","label":"Caatiba - BA"},{"code":"2503100","name":"Cabaceiras","state":"PB","label":"Cabaceiras - PB"},{"code":"2904852","name":"Cabaceiras do Paraguaçu","state":"BA","label":"Cabaceiras do Paraguaçu - BA"},{"code":"3109451","name":"Cabeceira Grande","state":"MG","label":"Cabeceira Grande - MG"},{"code":"5204003","name":"Cabeceiras","state":"GO","label":"Cabeceiras - GO"},{"code":"2202059","name":"Cabeceiras do Piauí","state":"PI","label":"Cabeceiras do Piauí - PI"},{"code":"2503209","name":"Cabedelo","state":"PB","label":"Cabedelo - PB"},{"code":"1100031","name":"Cabixi","state":"RO","label":"Cabixi - RO"},{"code":"2602902","name":"Cabo de Santo Agostinho","state":"PE","label":"Cabo de Santo Agostinho - PE"},{"code":"3300704","name":"Cabo Frio","state":"RJ","label":"Cabo Frio - RJ"},{"code":"3109501","name":"Cabo Verde","state":"MG","label":"Cabo Verde - MG"},{"code":"3508306","name":"Cabrália Paulista","state":"SP","label":"Cabrália Paulista - SP"},{"code":"3508405","name":"Cabreúva","state":"SP","label":"Cabreúva - SP"},{"code":"2603009","name":"Cabrobó","state":"PE","label":"Cabrobó - PE"},{"code":"4203006","name":"Caçador","state":"SC","label":"Caçador - SC"},{"code":"3508504","name":"Caçapava","state":"SP","label":"Caçapava - SP"},{"code":"4302808","name":"Caçapava do Sul","state":"RS","label":"Caçapava do Sul - RS"},{"code":"1100601","name":"Cacaulândia","state":"RO","label":"Cacaulândia - RO"},{"code":"4302907","name":"Cacequi","state":"RS","label":"Cacequi - RS"},{"code":"5102504","name":"Cáceres","state":"MT","label":"Cáceres - MT"},{"code":"2904902","name":"Cachoeira","state":"BA","label":"Cachoeira - BA"},{"code":"5204102","name":"Cachoeira Alta","state":"GO","label":"Cachoeira Alta - GO"},{"code":"3109600","name":"Cachoeira da Prata","state":"MG","label":"Cachoeira da Prata - MG"},{"code":"5204201","name":"Cachoeira de Goiás","state":"GO","label":"Cachoeira de Goiás - GO"},{"code":"3109709","name":"Cachoeira de Minas","state":"MG","label":"Cachoeira de Minas - MG"},{"code":"3102704","name":"Cachoeira de Pajeú","state":"MG","label":"Cachoeira de Pajeú - MG"},{"code":"1502004","name":"Cachoeira do Arari","state":"PA","label":"Cachoeira do Arari - PA"},{"code":"1501956","name":"Cachoeira do Piriá","state":"PA","label":"Cachoeira do Piriá - PA"},{"code":"4303004","name":"Cachoeira do Sul","state":"RS","label":"Cachoeira do Sul - RS"},{"code":"2503308","name":"Cachoeira dos Índios","state":"PB","label":"Cachoeira dos Índios - PB"},{"code":"3109808","name":"Cachoeira Dourada","state":"MG","label":"Cachoeira Dourada - MG"},{"code":"5204250","name":"Cachoeira Dourada","state":"GO","label":"Cachoeira Dourada - GO"},{"code":"2102374","name":"Cachoeira Grande","state":"MA","label":"Cachoeira Grande - MA"},{"code":"3508603","name":"Cachoeira Paulista","state":"SP","label":"Cachoeira Paulista - SP"},{"code":"3300803","name":"Cachoeiras de Macacu","state":"RJ","label":"Cachoeiras de Macacu - RJ"},{"code":"4303103","name":"Cachoeirinha","state":"RS","label":"Cachoeirinha - RS"},{"code":"1703826","name":"Cachoeirinha","state":"TO","label":"Cachoeirinha - TO"},{"code":"2603108","name":"Cachoeirinha","state":"PE","label":"Cachoeirinha - PE"},{"code":"3201209","name":"Cachoeiro de Itapemirim","state":"ES","label":"Cachoeiro de Itapemirim - ES"},{"code":"2503407","name":"Cacimba de Areia","state":"PB","label":"Cacimba de Areia - PB"},{"code":"2503506","name":"Cacimba de Dentro","state":"PB","label":"Cacimba de Dentro - PB"},{"code":"2503555","name":"Cacimbas","state":"PB","label":"Cacimbas - PB"},{"code":"2701209","name":"Cacimbinhas","state":"AL","label":"Cacimbinhas - AL"},{"code":"4303202","name":"Cacique Doble","state":"RS","label":"Cacique Doble - RS"},{"code":"1100049","name":"Cacoal","state":"RO","label":"Cacoal - RO"},{"code":"3508702","name":"Caconde","state":"SP","label":"Caconde - SP"},{"code":"5204300","name":"Caçu","state":"GO","label":"Caçu - GO"},{"code":"2905008","name":"Caculé","state":"BA","label":"Caculé - BA"},{"code":"2905107","name":"Caém","state":"BA","label":"Caém - BA"},{"code":"3109907","name":"Caetanópolis","state":"MG","label":"Caetanópolis - MG"},{"code":"2905156","name":"Caetanos","state":"BA","label":"Caetanos - BA"},{"code":"3110004","name":"Caeté","state":"MG","label":"Caeté - MG"},{"code":"2603207","name":"Caetés","state":"PE","label":"Caetés - PE"},{"code":"2905206","name":"Caetité","state":"BA","label":"Caetité - BA"},{"code":"2905305","name":"Cafarnaum","state":"BA","label":"Cafarnaum - BA"},{"code":"4103404","name":"Cafeara","state":"PR","label":"Cafeara - PR"},{"code":"4103453","name":"Cafelândia","state":"PR","label":"Cafelândia - PR"},{"code":"3508801","name":"Cafelândia","state":"SP","label":"Cafelândia - SP"},{"code":"4103479","name":"Cafezal do Sul","state":"PR","label":"Cafezal do Sul - PR"},{"code":"3508900","name":"Caiabu","state":"SP","label":"Caiabu - SP"},{"code":"3110103","name":"Caiana","state":"MG","label":"Caiana - MG"},{"code":"5204409","name":"Caiapônia","state":"GO","label":"Caiapônia - GO"},{"code":"4303301","name":"Caibaté","state":"RS","label":"Caibaté - RS"},{"code":"4203105","name":"Caibi","state":"SC","label":"Caibi - SC"},{"code":"4303400","name":"Caiçara","state":"RS","label":"Caiçara - RS"},{"code":"2503605","name":"Caiçara","state":"PB","label":"Caiçara - PB"},{"code":"2401859","name":"Caiçara do Norte","state":"RN","label":"Caiçara do Norte - RN"},{"code":"2401909","name":"Caiçara do Rio do Vento","state":"RN","label":"Caiçara do Rio do Vento - RN"},{"code":"2402006","name":"Caicó","state":"RN","label":"Caicó - RN"},{"code":"3509007","name":"Caieiras","state":"SP","label":"Caieiras - SP"},{"code":"2905404","name":"Cairu","state":"BA","label":"Cairu - BA"},{"code":"3509106","name":"Caiuá","state":"SP","label":"Caiuá - SP"},{"code":"3509205","name":"Cajamar","state":"SP","label":"Cajamar - SP"},{"code":"2102408","name":"Cajapió","state":"MA","label":"Cajapió - MA"},{"code":"2102507","name":"Cajari","state":"MA","label":"Cajari - MA"},{"code":"3509254","name":"Cajati","state":"SP","label":"Cajati - SP"},{"code":"2503704","name":"Cajazeiras","state":"PB","label":"Cajazeiras - PB"},{"code":"2202075","name":"Cajazeiras do Piauí","state":"PI","label":"Cajazeiras do Piauí - PI"},{"code":"2503753","name":"Cajazeirinhas","state":"PB","label":"Cajazeirinhas - PB"},{"code":"3509304","name":"Cajobi","state":"SP","label":"Cajobi - SP"},{"code":"2701308","name":"Cajueiro","state":"AL","label":"Cajueiro - AL"},{"code":"2202083","name":"Cajueiro da Praia","state":"PI","label":"Cajueiro da Praia - PI"},{"code":"3110202","name":"Cajuri","state":"MG","label":"Cajuri - MG"},{"code":"3509403","name":"Cajuru","state":"SP","label":"Cajuru - SP"},{"code":"2603306","name":"Calçado","state":"PE","label":"Calçado - PE"},{"code":"1600204","name":"Calçoene","state":"AP","label":"Calçoene - AP"},{"code":"3110301","name":"Caldas","state":"MG","label":"Caldas - MG"},{"code":"2503803","name":"Caldas Brandão","state":"PB","label":"Caldas Brandão - PB"},{"code":"5204508","name":"Caldas Novas","state":"GO","label":"Caldas Novas - GO"},{"code":"5204557","name":"Caldazinha","state":"GO","label":"Caldazinha - GO"},{"code":"2905503","name":"Caldeirão Grande","state":"BA","label":"Caldeirão Grande - BA"},{"code":"2202091","name":"Caldeirão Grande do Piauí","state":"PI","label":"Caldeirão Grande do Piauí - PI"},{"code":"4103503","name":"Califórnia","state":"PR","label":"Califórnia - PR"},{"code":"4203154","name":"Calmon","state":"SC","label":"Calmon - SC"},{"code":"2603405","name":"Calumbi","state":"PE","label":"Calumbi - PE"},{"code":"2905602","name":"Camacan","state":"BA","label":"Camacan - BA"},{"code":"2905701","name":"Camaçari","state":"BA","label":"Camaçari - BA"},{"code":"3110400","name":"Camacho","state":"MG","label":"Camacho - MG"},{"code":"2503902","name":"Camalaú","state":"PB","label":"Camalaú - PB"},{"code":"2905800","name":"Camamu","state":"BA","label":"Camamu - BA"},{"code":"3110509","name":"Camanducaia","state":"MG","label":"Camanducaia - MG"},{"code":"5002605","name":"Camapuã","state":"MS","label":"Camapuã - MS"},{"code":"4303509","name":"Camaquã","state":"RS","label":"Camaquã - RS"},{"code":"2603454","name":"Camaragibe","state":"PE","label":"Camaragibe - PE"},{"code":"4303558","name":"Camargo","state":"RS","label":"Camargo - RS"},{"code":"4103602","name":"Cambará","state":"PR","label":"Cambará - PR"},{"code":"4303608","name":"Cambará do Sul","state":"RS","label":"Cambará do Sul - RS"},{"code":"4103701","name":"Cambé","state":"PR","label":"Cambé - PR"},{"code":"4103800","name":"Cambira","state":"PR","label":"Cambira - PR"},{"code":"4203204","name":"Camboriú","state":"SC","label":"Camboriú - SC"},{"code":"3300902","name":"Cambuci","state":"RJ","label":"Cambuci - RJ"},{"code":"3110608","name":"Cambuí","state":"MG","label":"Cambuí - MG"},{"code":"3110707","name":"Cambuquira","state":"MG","label":"Cambuquira - MG"},{"code":"1502103","name":"Cametá","state":"PA","label":"Cametá - PA"},{"code":"2302602","name":"Camocim","state":"CE","label":"Camocim - CE"},{"code":"2603504","name":"Camocim de São Félix","state":"PE","label":"Camocim de São Félix - PE"},{"code":"3110806","name":"Campanário","state":"MG","label":"Campanário - MG"},{"code":"3110905","name":"Campanha","state":"MG","label":"Campanha - MG"},{"code":"3111002","name":"Campestre","state":"MG","label":"Campestre - MG"},{"code":"2701357","name":"Campestre","state":"AL","label":"Campestre - AL"},{"code":"4303673","name":"Campestre da Serra","state":"RS","label":"Campestre da Serra - RS"},{"code":"5204607","name":"Campestre de Goiás","state":"GO","label":"Campestre de Goiás - GO"},{"code":"2102556","name":"Campestre do Maranhão","state":"MA","label":"Campestre do Maranhão - MA"},{"code":"4103909","name":"Campina da Lagoa","state":"PR","label":"Campina da Lagoa - PR"},{"code":"4303707","name":"Campina das Missões","state":"RS","label":"Campina das Missões - RS"},{"code":"3509452","name":"Campina do Monte Alegre","state":"SP","label":"Campina do Monte Alegre - SP"},{"code":"4103958","name":"Campina do Simão","state":"PR","label":"Campina do Simão - PR"},{"code":"2504009","name":"Campina Grande","state":"PB","label":"Campina Grande - PB"},{"code":"4104006","name":"Campina Grande do Sul","state":"PR","label":"Campina Grande do Sul - PR"},{"code":"3111101","name":"Campina Verde","state":"MG","label":"Campina Verde - MG"},{"code":"5204656","name":"Campinaçu","state":"GO","label":"Campinaçu - GO"},{"code":"5102603","name":"Campinápolis","state":"MT","label":"Campinápolis - MT"},{"code":"3509502","name":"Campinas","state":"SP","label":"Campinas - SP"},{"code":"2202109","name":"Campinas do Piauí","state":"PI","label":"Campinas do Piauí - PI"},{"code":"4303806","name":"Campinas do Sul","state":"RS","label":"Campinas do Sul - RS"},{"code":"5204706","name":"Campinorte","state":"GO","label":"Campinorte - GO"},{"code":"4203303","name":"Campo Alegre","state":"SC","label":"Campo Alegre - SC"},{"code":"2701407","name":"Campo Alegre","state":"AL","label":"Campo Alegre - AL"},{"code":"5204805","name":"Campo Alegre de Goiás","state":"GO","label":"Campo Alegre de Goiás - GO"},{"code":"2905909","name":"Campo Alegre de Lourdes","state":"BA","label":"Campo Alegre de Lourdes - BA"},{"code":"2202117","name":"Campo Alegre do Fidalgo","state":"PI","label":"Campo Alegre do Fidalgo - PI"},{"code":"3111150","name":"Campo Azul","state":"MG","label":"Campo Azul - MG"},{"code":"3111200","name":"Campo Belo","state":"MG","label":"Campo Belo - MG"},{"code":"4203402","name":"Campo Belo do Sul","state":"SC","label":"Campo Belo do Sul - SC"},{"code":"4303905","name":"Campo Bom","state":"RS","label":"Campo Bom - RS"},{"code":"4104055","name":"Campo Bonito","state":"PR","label":"Campo Bonito - PR"},{"code":"2801009","name":"Campo do Brito","state":"SE","label":"Campo do Brito - SE"},{"code":"3111309","name":"Campo do Meio","state":"MG","label":"Campo do Meio - MG"},{"code":"4104105","name":"Campo do Tenente","state":"PR","label":"Campo do Tenente - PR"},{"code":"4203501","name":"Campo Erê","state":"SC","label":"Campo Erê - SC"},{"code":"3111408","name":"Campo Florido","state":"MG","label":"Campo Florido - MG"},{"code":"2906006","name":"Campo Formoso","state":"BA","label":"Campo Formoso - BA"},{"code":"2701506","name":"Campo Grande","state":"AL","label":"Campo Grande - AL"},{"code":"2401305","name":"Campo Grande","state":"RN","label":"Campo Grande - RN"},{"code":"5002704","name":"Campo Grande","state":"MS","label":"Campo Grande - MS"},{"code":"2202133","name":"Campo Grande do Piauí","state":"PI","label":"Campo Grande do Piauí - PI"},{"code":"4104204","name":"Campo Largo","state":"PR","label":"Campo Largo - PR"},{"code":"2202174","name":"Campo Largo do Piauí","state":"PI","label":"Campo Largo do Piauí - PI"},{"code":"5204854","name":"Campo Limpo de Goiás","state":"GO","label":"Campo Limpo de Goiás - GO"},{"code":"3509601","name":"Campo Limpo Paulista","state":"SP","label":"Campo Limpo Paulista - SP"},{"code":"4104253","name":"Campo Magro","state":"PR","label":"Campo Magro - PR"},{"code":"2202208","name":"Campo Maior","state":"PI","label":"Campo Maior - PI"},{"code":"4104303","name":"Campo Mourão","state":"PR","label":"Campo Mourão - PR"},{"code":"4304002","name":"Campo Novo","state":"RS","label":"Campo Novo - RS"},{"code":"1100700","name":"Campo Novo de Rondônia","state":"RO","label":"Campo Novo de Rondônia - RO"},{"code":"5102637","name":"Campo Novo do Parecis","state":"MT","label":"Campo Novo do Parecis - MT"},{"code":"2402105","name":"Campo Redondo","state":"RN","label":"Campo Redondo - RN"},{"code":"5102678","name":"Campo Verde","state":"MT","label":"Campo Verde - MT"},{"code":"3111507","name":"Campos Altos","state":"MG","label":"Campos Altos - MG"},{"code":"5204904","name":"Campos Belos","state":"GO","label":"Campos Belos - GO"},{"code":"4304101","name":"Campos Borges","state":"RS","label":"Campos Borges - RS"},{"code":"5102686","name":"Campos de Júlio","state":"MT","label":"Campos de Júlio - MT"},{"code":"3509700","name":"Campos do Jordão","state":"SP","label":"Campos do Jordão - SP"},{"code":"3301009","name":"Campos dos Goytacazes","state":"RJ","label":"Campos dos Goytacazes - RJ"},{"code":"3111606","name":"Campos Gerais","state":"MG","label":"Campos Gerais - MG"},{"code":"1703842","name":"Campos Lindos","state":"TO","label":"Campos Lindos - TO"},{"code":"4203600","name":"Campos Novos","state":"SC","label":"Campos Novos - SC"},{"code":"3509809","name":"Campos Novos Paulista","state":"SP","label":"Campos Novos Paulista - SP"},{"code":"2302701","name":"Campos Sales","state":"CE","label":"Campos Sales - CE"},{"code":"5204953","name":"Campos Verdes","state":"GO","label":"Campos Verdes - GO"},{"code":"2603603","name":"Camutanga","state":"PE","label":"Camutanga - PE"},{"code":"3111903","name":"Cana Verde","state":"MG","label":"Cana Verde - MG"},{"code":"3111705","name":"Canaã","state":"MG","label":"Canaã - MG"},{"code":"1502152","name":"Canaã dos Carajás","state":"PA","label":"Canaã dos Carajás - PA"},{"code":"5102694","name":"Canabrava do Norte","state":"MT","label":"Canabrava do Norte - MT"},{"code":"3509908","name":"Cananéia","state":"SP","label":"Cananéia - SP"},{"code":"2701605","name":"Canapi","state":"AL","label":"Canapi - AL"},{"code":"2906105","name":"Canápolis","state":"BA","label":"Canápolis - BA"},{"code":"3111804","name":"Canápolis","state":"MG","label":"Canápolis - MG"},{"code":"2906204","name":"Canarana","state":"BA","label":"Canarana - BA"},{"code":"5102702","name":"Canarana","state":"MT","label":"Canarana - MT"},{"code":"3509957","name":"Canas","state":"SP","label":"Canas - SP"},{"code":"2202251","name":"Canavieira","state":"PI","label":"Canavieira - PI"},{"code":"2906303","name":"Canavieiras","state":"BA","label":"Canavieiras - BA"},{"code":"2906402","name":"Candeal","state":"BA","label":"Candeal - BA"},{"code":"2906501","name":"Candeias","state":"BA","label":"Candeias - BA"},{"code":"3112000","name":"Candeias","state":"MG","label":"Candeias - MG"},{"code":"1100809","name":"Candeias do Jamari","state":"RO","label":"Candeias do Jamari - RO"},{"code":"4304200","name":"Candelária","state":"RS","label":"Candelária - RS"},{"code":"2906600","name":"Candiba","state":"BA","label":"Candiba - BA"},{"code":"4104402","name":"Cândido de Abreu","state":"PR","label":"Cândido de Abreu - PR"},{"code":"4304309","name":"Cândido Godói","state":"RS","label":"Cândido Godói - RS"},{"code":"2102606","name":"Cândido Mendes","state":"MA","label":"Cândido Mendes - MA"},{"code":"3510005","name":"Cândido Mota","state":"SP","label":"Cândido Mota - SP"},{"code":"3510104","name":"Cândido Rodrigues","state":"SP","label":"Cândido Rodrigues - SP"},{"code":"2906709","name":"Cândido Sales","state":"BA","label":"Cândido Sales - BA"},{"code":"4304358","name":"Candiota","state":"RS","label":"Candiota - RS"},{"code":"4104428","name":"Candói","state":"PR","label":"Candói - PR"},{"code":"4304408","name":"Canela","state":"RS","label":"Canela - RS"},{"code":"4203709","name":"Canelinha","state":"SC","label":"Canelinha - SC"},{"code":"2402204","name":"Canguaretama","state":"RN","label":"Canguaretama - RN"},{"code":"4304507","name":"Canguçu","state":"RS","label":"Canguçu - RS"},{"code":"2801108","name":"Canhoba","state":"SE","label":"Canhoba - SE"},{"code":"2603702","name":"Canhotinho","state":"PE","label":"Canhotinho - PE"},{"code":"2302800","name":"Canindé","state":"CE","label":"Canindé - CE"},{"code":"2801207","name":"Canindé de São Francisco","state":"SE","label":"Canindé de São Francisco - SE"},{"code":"3510153","name":"Canitar","state":"SP","label":"Canitar - SP"},{"code":"4304606","name":"Canoas","state":"RS","label":"Canoas - RS"},{"code":"4203808","name":"Canoinhas","state":"SC","label":"Canoinhas - SC"},{"code":"2906808","name":"Cansanção","state":"BA","label":"Cansanção - BA"},{"code":"1400175","name":"Cantá","state":"RR","label":"Cantá - RR"},{"code":"3112059","name":"Cantagalo","state":"MG","label":"Cantagalo - MG"},{"code":"3301108","name":"Cantagalo","state":"RJ","label":"Cantagalo - RJ"},{"code":"4104451","name":"Cantagalo","state":"PR","label":"Cantagalo - PR"},{"code":"2102705","name":"Cantanhede","state":"MA","label":"Cantanhede - MA"},{"code":"2202307","name":"Canto do Buriti","state":"PI","label":"Canto do Buriti - PI"},{"code":"2906824","name":"Canudos","state":"BA","label":"Canudos - BA"},{"code":"4304614","name":"Canudos do Vale","state":"RS","label":"Canudos do Vale - RS"},{"code":"1300904","name":"Canutama","state":"AM","label":"Canutama - AM"},{"code":"1502202","name":"Capanema","state":"PA","label":"Capanema - PA"},{"code":"4104501","name":"Capanema","state":"PR","label":"Capanema - PR"},{"code":"4203253","name":"Capão Alto","state":"SC","label":"Capão Alto - SC"},{"code":"3510203","name":"Capão Bonito","state":"SP","label":"Capão Bonito - SP"},{"code":"4304622","name":"Capão Bonito do Sul","state":"RS","label":"Capão Bonito do Sul - RS"},{"code":"4304630","name":"Capão da Canoa","state":"RS","label":"Capão da Canoa - RS"},{"code":"4304655","name":"Capão do Cipó","state":"RS","label":"Capão do Cipó - RS"},{"code":"4304663","name":"Capão do Leão","state":"RS","label":"Capão do Leão - RS"},{"code":"3112109","name":"Caparaó","state":"MG","label":"Caparaó - MG"},{"code":"2801306","name":"Capela","state":"SE","label":"Capela - SE"},{"code":"2701704","name":"Capela","state":"AL","label":"Capela - AL"},{"code":"4304689","name":"Capela de Santana","state":"RS","label":"Capela de Santana - RS"},{"code":"3510302","name":"Capela do Alto","state":"SP","label":"Capela do Alto - SP"},{"code":"2906857","name":"Capela do Alto Alegre","state":"BA","label":"Capela do Alto Alegre - BA"},{"code":"3112208","name":"Capela Nova","state":"MG","label":"Capela Nova - MG"},{"code":"3112307","name":"Capelinha","state":"MG","label":"Capelinha - MG"},{"code":"3112406","name":"Capetinga","state":"MG","label":"Capetinga - MG"},{"code":"2504033","name":"Capim","state":"PB","label":"Capim - PB"},{"code":"3112505","name":"Capim Branco","state":"MG","label":"Capim Branco - MG"},{"code":"2906873","name":"Capim Grosso","state":"BA","label":"Capim Grosso - BA"},{"code":"3112604","name":"Capinópolis","state":"MG","label":"Capinópolis - MG"},{"code":"4203907","name":"Capinzal","state":"SC","label":"Capinzal - SC"},{"code":"2102754","name":"Capinzal do Norte","state":"MA","label":"Capinzal do Norte - MA"},{"code":"2302909","name":"Capistrano","state":"CE","label":"Capistrano - CE"},{"code":"4304697","name":"Capitão","state":"RS","label":"Capitão - RS"},{"code":"3112653","name":"Capitão Andrade","state":"MG","label":"Capitão Andrade - MG"},{"code":"2202406","name":"Capitão de Campos","state":"PI","label":"Capitão de Campos - PI"},{"code":"3112703","name":"Capitão Enéas","state":"MG","label":"Capitão Enéas - MG"},{"code":"2202455","name":"Capitão Gervásio Oliveira","state":"PI","label":"Capitão Gervásio Oliveira - PI"},{"code":"4104600","name":"Capitão Leônidas Marques","state":"PR","label":"Capitão Leônidas Marques - PR"},{"code":"1502301","name":"Capitão Poço","state":"PA","label":"Capitão Poço - PA"},{"code":"3112802","name":"Capitólio","state":"MG","label":"Capitólio - MG"},{"code":"3510401","name":"Capivari","state":"SP","label":"Capivari - SP"},{"code":"4203956","name":"Capivari de Baixo","state":"SC","label":"Capivari de Baixo - SC"},{"code":"4304671","name":"Capivari do Sul","state":"RS","label":"Capivari do Sul - RS"},{"code":"1200179","name":"Capixaba","state":"AC","label":"Capixaba - AC"},{"code":"2603801","name":"Capoeiras","state":"PE","label":"Capoeiras - PE"},{"code":"3112901","name":"Caputira","state":"MG","label":"Caputira - MG"},{"code":"4304713","name":"Caraá","state":"RS","label":"Caraá - RS"},{"code":"1400209","name":"Caracaraí","state":"RR","label":"Caracaraí - RR"},{"code":"2202505","name":"Caracol","state":"PI","label":"Caracol - PI"},{"code":"5002803","name":"Caracol","state":"MS","label":"Caracol - MS"},{"code":"3510500","name":"Caraguatatuba","state":"SP","label":"Caraguatatuba - SP"},{"code":"3113008","name":"Caraí","state":"MG","label":"Caraí - MG"},{"code":"2906899","name":"Caraíbas","state":"BA","label":"Caraíbas - BA"},{"code":"4104659","name":"Carambeí","state":"PR","label":"Carambeí - PR"},{"code":"3113107","name":"Caranaíba","state":"MG","label":"Caranaíba - MG"},{"code":"3113206","name":"Carandaí","state":"MG","label":"Carandaí - MG"},{"code":"3113305","name":"Carangola","state":"MG","label":"Carangola - MG"},{"code":"3300936","name":"Carapebus","state":"RJ","label":"Carapebus - RJ"},{"code":"3510609","name":"Carapicuíba","state":"SP","label":"Carapicuíba - SP"},{"code":"3113404","name":"Caratinga","state":"MG","label":"Caratinga - MG"},{"code":"1301001","name":"Carauari","state":"AM","label":"Carauari - AM"},{"code":"2504074","name":"Caraúbas","state":"PB","label":"Caraúbas - PB"},{"code":"2402303","name":"Caraúbas","state":"RN","label":"Caraúbas - RN"},{"code":"2202539","name":"Caraúbas do Piauí","state":"PI","label":"Caraúbas do Piauí - PI"},{"code":"2906907","name":"Caravelas","state":"BA","label":"Caravelas - BA"},{"code":"4304705","name":"Carazinho","state":"RS","label":"Carazinho - RS"},{"code":"3113503","name":"Carbonita","state":"MG","label":"Carbonita - MG"},{"code":"2907004","name":"Cardeal da Silva","state":"BA","label":"Cardeal da Silva - BA"},{"code":"3510708","name":"Cardoso","state":"SP","label":"Cardoso - SP"},{"code":"3301157","name":"Cardoso Moreira","state":"RJ","label":"Cardoso Moreira - RJ"},{"code":"3113602","name":"Careaçu","state":"MG","label":"Careaçu - MG"},{"code":"1301100","name":"Careiro","state":"AM","label":"Careiro - AM"},{"code":"1301159","name":"Careiro da Várzea","state":"AM","label":"Careiro da Várzea - AM"},{"code":"3201308","name":"Cariacica","state":"ES","label":"Cariacica - ES"},{"code":"2303006","name":"Caridade","state":"CE","label":"Caridade - CE"},{"code":"2202554","name":"Caridade do Piauí","state":"PI","label":"Caridade do Piauí - PI"},{"code":"2907103","name":"Carinhanha","state":"BA","label":"Carinhanha - BA"},{"code":"2801405","name":"Carira","state":"SE","label":"Carira - SE"},{"code":"2303105","name":"Cariré","state":"CE","label":"Cariré - CE"},{"code":"1703867","name":"Cariri do Tocantins","state":"TO","label":"Cariri do Tocantins - TO"},{"code":"2303204","name":"Caririaçu","state":"CE","label":"Caririaçu - CE"},{"code":"2303303","name":"Cariús","state":"CE","label":"Cariús - CE"},{"code":"5102793","name":"Carlinda","state":"MT","label":"Carlinda - MT"},{"code":"4104709","name":"Carlópolis","state":"PR","label":"Carlópolis - PR"},{"code":"4304804","name":"Carlos Barbosa","state":"RS","label":"Carlos Barbosa - RS"},{"code":"3113701","name":"Carlos Chagas","state":"MG","label":"Carlos Chagas - MG"},{"code":"4304853","name":"Carlos Gomes","state":"RS","label":"Carlos Gomes - RS"},{"code":"3113800","name":"Carmésia","state":"MG","label":"Carmésia - MG"},{"code":"3301207","name":"Carmo","state":"RJ","label":"Carmo - RJ"},{"code":"3113909","name":"Carmo da Cachoeira","state":"MG","label":"Carmo da Cachoeira - MG"},{"code":"3114006","name":"Carmo da Mata","state":"MG","label":"Carmo da Mata - MG"},{"code":"3114105","name":"Carmo de Minas","state":"MG","label":"Carmo de Minas - MG"},{"code":"3114204","name":"Carmo do Cajuru","state":"MG","label":"Carmo do Cajuru - MG"},{"code":"3114303","name":"Carmo do Paranaíba","state":"MG","label":"Carmo do Paranaíba - MG"},{"code":"3114402","name":"Carmo do Rio Claro","state":"MG","label":"Carmo do Rio Claro - MG"},{"code":"5205000","name":"Carmo do Rio Verde","state":"GO","label":"Carmo do Rio Verde - GO"},{"code":"1703883","name":"Carmolândia","state":"TO","label":"Carmolândia - TO"},{"code":"2801504","name":"Carmópolis","state":"SE","label":"Carmópolis - SE"},{"code":"3114501","name":"Carmópolis de Minas","state":"MG","label":"Carmópolis de Minas - MG"},{"code":"2603900","name":"Carnaíba","state":"PE","label":"Carnaíba - PE"},{"code":"2402402","name":"Carnaúba dos Dantas","state":"RN","label":"Carnaúba dos Dantas - RN"},{"code":"2402501","name":"Carnaubais","state":"RN","label":"Carnaubais - RN"},{"code":"2303402","name":"Carnaubal","state":"CE","label":"Carnaubal - CE"},{"code":"2603926","name":"Carnaubeira da Penha","state":"PE","label":"Carnaubeira da Penha - PE"},{"code":"3114550","name":"Carneirinho","state":"MG","label":"Carneirinho - MG"},{"code":"2701803","name":"Carneiros","state":"AL","label":"Carneiros - AL"},{"code":"1400233","name":"Caroebe","state":"RR","label":"Caroebe - RR"},{"code":"2102804","name":"Carolina","state":"MA","label":"Carolina - MA"},{"code":"2604007","name":"Carpina","state":"PE","label":"Carpina - PE"},{"code":"3114600","name":"Carrancas","state":"MG","label":"Carrancas - MG"},{"code":"2504108","name":"Carrapateira","state":"PB","label":"Carrapateira - PB"},{"code":"1703891","name":"Carrasco Bonito","state":"TO","label":"Carrasco Bonito - TO"},{"code":"2604106","name":"Caruaru","state":"PE","label":"Caruaru - PE"},{"code":"2102903","name":"Carutapera","state":"MA","label":"Carutapera - MA"},{"code":"3114709","name":"Carvalhópolis","state":"MG","label":"Carvalhópolis - MG"},{"code":"3114808","name":"Carvalhos","state":"MG","label":"Carvalhos - MG"},{"code":"3510807","name":"Casa Branca","state":"SP","label":"Casa Branca - SP"},{"code":"3114907","name":"Casa Grande","state":"MG","label":"Casa Grande - MG"},{"code":"2907202","name":"Casa Nova","state":"BA","label":"Casa Nova - BA"},{"code":"4304903","name":"Casca","state":"RS","label":"Casca - RS"},{"code":"3115003","name":"Cascalho Rico","state":"MG","label":"Cascalho Rico - MG"},{"code":"2303501","name":"Cascavel","state":"CE","label":"Cascavel - CE"},{"code":"4104808","name":"Cascavel","state":"PR","label":"Cascavel - PR"},{"code":"1703909","name":"Caseara","state":"TO","label":"Caseara - TO"},{"code":"4304952","name":"Caseiros","state":"RS","label":"Caseiros - RS"},{"code":"3301306","name":"Casimiro de Abreu","state":"RJ","label":"Casimiro de Abreu - RJ"},{"code":"2604155","name":"Casinhas","state":"PE","label":"Casinhas - PE"},{"code":"2504157","name":"Casserengue","state":"PB","label":"Casserengue - PB"},{"code":"3115102","name":"Cássia","state":"MG","label":"Cássia - MG"},{"code":"3510906","name":"Cássia dos Coqueiros","state":"SP","label":"Cássia dos Coqueiros - SP"},{"code":"5002902","name":"Cassilândia","state":"MS","label":"Cassilândia - MS"},{"code":"1502400","name":"Castanhal","state":"PA","label":"Castanhal - PA"},{"code":"5102850","name":"Castanheira","state":"MT","label":"Castanheira - MT"},{"code":"1100908","name":"Castanheiras","state":"RO","label":"Castanheiras - RO"},{"code":"5205059","name":"Castelândia","state":"GO","label":"Castelândia - GO"},{"code":"3201407","name":"Castelo","state":"ES","label":"Castelo - ES"},{"code":"2202604","name":"Castelo do Piauí","state":"PI","label":"Castelo do Piauí - PI"},{"code":"3511003","name":"Castilho","state":"SP","label":"Castilho - SP"},{"code":"4104907","name":"Castro","state":"PR","label":"Castro - PR"},{"code":"2907301","name":"Castro Alves","state":"BA","label":"Castro Alves - BA"},{"code":"3115300","name":"Cataguases","state":"MG","label":"Cataguases - MG"},{"code":"5205109","name":"Catalão","state":"GO","label":"Catalão - GO"},{"code":"3511102","name":"Catanduva","state":"SP","label":"Catanduva - SP"},{"code":"4105003","name":"Catanduvas","state":"PR","label":"Catanduvas - PR"},{"code":"4204004","name":"Catanduvas","state":"SC","label":"Catanduvas - SC"},{"code":"2303600","name":"Catarina","state":"CE","label":"Catarina - CE"},{"code":"3115359","name":"Catas Altas","state":"MG","label":"Catas Altas - MG"},{"code":"3115409","name":"Catas Altas da Noruega","state":"MG","label":"Catas Altas da Noruega - MG"},{"code":"2604205","name":"Catende","state":"PE","label":"Catende - PE"},{"code":"3511201","name":"Catiguá","state":"SP","label":"Catiguá - SP"},{"code":"2504207","name":"Catingueira","state":"PB","label":"Catingueira - PB"},{"code":"2907400","name":"Catolândia","state":"BA","label":"Catolândia - BA"},{"code":"2504306","name":"Catolé do Rocha","state":"PB","label":"Catolé do Rocha - PB"},{"code":"2907509","name":"Catu","state":"BA","label":"Catu - BA"},{"code":"4305009","name":"Catuípe","state":"RS","label":"Catuípe - RS"},{"code":"3115458","name":"Catuji","state":"MG","label":"Catuji - MG"},{"code":"2303659","name":"Catunda","state":"CE","label":"Catunda - CE"},{"code":"5205208","name":"Caturaí","state":"GO","label":"Caturaí - GO"},{"code":"2907558","name":"Caturama","state":"BA","label":"Caturama - BA"},{"code":"2504355","name":"Caturité","state":"PB","label":"Caturité - PB"},{"code":"3115474","name":"Catuti","state":"MG","label":"Catuti - MG"},{"code":"2303709","name":"Caucaia","state":"CE","label":"Caucaia - CE"},{"code":"5205307","name":"Cavalcante","state":"GO","label":"Cavalcante - GO"},{"code":"3115508","name":"Caxambu","state":"MG","label":"Caxambu - MG"},{"code":"4204103","name":"Caxambu do Sul","state":"SC","label":"Caxambu do Sul - SC"},{"code":"2103000","name":"Caxias","state":"MA","label":"Caxias - MA"},{"code":"4305108","name":"Caxias do Sul","state":"RS","label":"Caxias do Sul - RS"},{"code":"2202653","name":"Caxingó","state":"PI","label":"Caxingó - PI"},{"code":"2402600","name":"Ceará-Mirim","state":"RN","label":"Ceará-Mirim - RN"},{"code":"2103109","name":"Cedral","state":"MA","label":"Cedral - MA"},{"code":"3511300","name":"Cedral","state":"SP","label":"Cedral - SP"},{"code":"2303808","name":"Cedro","state":"CE","label":"Cedro - CE"},{"code":"2604304","name":"Cedro","state":"PE","label":"Cedro - PE"},{"code":"2801603","name":"Cedro de São João","state":"SE","label":"Cedro de São João - SE"},{"code":"3115607","name":"Cedro do Abaeté","state":"MG","label":"Cedro do Abaeté - MG"},{"code":"4204152","name":"Celso Ramos","state":"SC","label":"Celso Ramos - SC"},{"code":"4305116","name":"Centenário","state":"RS","label":"Centenário - RS"},{"code":"1704105","name":"Centenário","state":"TO","label":"Centenário - TO"},{"code":"4105102","name":"Centenário do Sul","state":"PR","label":"Centenário do Sul - PR"},{"code":"2907608","name":"Central","state":"BA","label":"Central - BA"},{"code":"3115706","name":"Central de Minas","state":"MG","label":"Central de Minas - MG"},{"code":"2103125","name":"Central do Maranhão","state":"MA","label":"Central do Maranhão - MA"},{"code":"3115805","name":"Centralina","state":"MG","label":"Centralina - MG"},{"code":"2103158","name":"Centro do Guilherme","state":"MA","label":"Centro do Guilherme - MA"},{"code":"2103174","name":"Centro Novo do Maranhão","state":"MA","label":"Centro Novo do Maranhão - MA"},{"code":"1100056","name":"Cerejeiras","state":"RO","label":"Cerejeiras - RO"},{"code":"5205406","name":"Ceres","state":"GO","label":"Ceres - GO"},{"code":"3511409","name":"Cerqueira César","state":"SP","label":"Cerqueira César - SP"},{"code":"3511508","name":"Cerquilho","state":"SP","label":"Cerquilho - SP"},{"code":"4305124","name":"Cerrito","state":"RS","label":"Cerrito - RS"},{"code":"4105201","name":"Cerro Azul","state":"PR","label":"Cerro Azul - PR"},{"code":"4305132","name":"Cerro Branco","state":"RS","label":"Cerro Branco - RS"},{"code":"2402709","name":"Cerro Corá","state":"RN","label":"Cerro Corá - RN"},{"code":"4305157","name":"Cerro Grande","state":"RS","label":"Cerro Grande - RS"},{"code":"4305173","name":"Cerro Grande do Sul","state":"RS","label":"Cerro Grande do Sul - RS"},{"code":"4305207","name":"Cerro Largo","state":"RS","label":"Cerro Largo - RS"},{"code":"4204178","name":"Cerro Negro","state":"SC","label":"Cerro Negro - SC"},{"code":"3511607","name":"Cesário Lange","state":"SP","label":"Cesário Lange - SP"},{"code":"4105300","name":"Céu Azul","state":"PR","label":"Céu Azul - PR"},{"code":"5205455","name":"Cezarina","state":"GO","label":"Cezarina - GO"},{"code":"2604403","name":"Chã de Alegria","state":"PE","label":"Chã de Alegria - PE"},{"code":"2604502","name":"Chã Grande","state":"PE","label":"Chã Grande - PE"},{"code":"2701902","name":"Chã Preta","state":"AL","label":"Chã Preta - AL"},{"code":"3115904","name":"Chácara","state":"MG","label":"Chácara - MG"},{"code":"3116001","name":"Chalé","state":"MG","label":"Chalé - MG"},{"code":"4305306","name":"Chapada","state":"RS","label":"Chapada - RS"},{"code":"1705102","name":"Chapada da Natividade","state":"TO","label":"Chapada da Natividade - TO"},{"code":"1704600","name":"Chapada de Areia","state":"TO","label":"Chapada de Areia - TO"},{"code":"3116100","name":"Chapada do Norte","state":"MG","label":"Chapada do Norte - MG"},{"code":"5103007","name":"Chapada dos Guimarães","state":"MT","label":"Chapada dos Guimarães - MT"},{"code":"3116159","name":"Chapada Gaúcha","state":"MG","label":"Chapada Gaúcha - MG"},{"code":"5205471","name":"Chapadão do Céu","state":"GO","label":"Chapadão do Céu - GO"},{"code":"4204194","name":"Chapadão do Lageado","state":"SC","label":"Chapadão do Lageado - SC"},{"code":"5002951","name":"Chapadão do Sul","state":"MS","label":"Chapadão do Sul - MS"},{"code":"2103208","name":"Chapadinha","state":"MA","label":"Chapadinha - MA"},{"code":"4204202","name":"Chapecó","state":"SC","label":"Chapecó - SC"},{"code":"3511706","name":"Charqueada","state":"SP","label":"Charqueada - SP"},{"code":"4305355","name":"Charqueadas","state":"RS","label":"Charqueadas - RS"},{"code":"4305371","name":"Charrua","state":"RS","label":"Charrua - RS"},{"code":"2303907","name":"Chaval","state":"CE","label":"Chaval - CE"},{"code":"3557204","name":"Chavantes","state":"SP","label":"Chavantes - SP"},{"code":"1502509","name":"Chaves","state":"PA","label":"Chaves - PA"},{"code":"3116209","name":"Chiador","state":"MG","label":"Chiador - MG"},{"code":"4305405","name":"Chiapetta","state":"RS","label":"Chiapetta - RS"},{"code":"4105409","name":"Chopinzinho","state":"PR","label":"Chopinzinho - PR"},{"code":"2303931","name":"Choró","state":"CE","label":"Choró - CE"},{"code":"2303956","name":"Chorozinho","state":"CE","label":"Chorozinho - CE"},{"code":"2907707","name":"Chorrochó","state":"BA","label":"Chorrochó - BA"},{"code":"4305439","name":"Chuí","state":"RS","label":"Chuí - RS"},{"code":"1100924","name":"Chupinguaia","state":"RO","label":"Chupinguaia - RO"},{"code":"4305447","name":"Chuvisca","state":"RS","label":"Chuvisca - RS"},{"code":"4105508","name":"Cianorte","state":"PR","label":"Cianorte - PR"},{"code":"2907806","name":"Cícero Dantas","state":"BA","label":"Cícero Dantas - BA"},{"code":"4105607","name":"Cidade Gaúcha","state":"PR","label":"Cidade Gaúcha - PR"},{"code":"5205497","name":"Cidade Ocidental","state":"GO","label":"Cidade Ocidental - GO"},{"code":"2103257","name":"Cidelândia","state":"MA","label":"Cidelândia - MA"},{"code":"4305454","name":"Cidreira","state":"RS","label":"Cidreira - RS"},{"code":"2907905","name":"Cipó","state":"BA","label":"Cipó - BA"},{"code":"3116308","name":"Cipotânea","state":"MG","label":"Cipotânea - MG"},{"code":"4305504","name":"Ciríaco","state":"RS","label":"Ciríaco - RS"},{"code":"3116407","name":"Claraval","state":"MG","label":"Claraval - MG"},{"code":"3116506","name":"Claro dos Poções","state":"MG","label":"Claro dos Poções - MG"},{"code":"5103056","name":"Cláudia","state":"MT","label":"Cláudia - MT"},{"code":"3116605","name":"Cláudio","state":"MG","label":"Cláudio - MG"},{"code":"3511904","name":"Clementina","state":"SP","label":"Clementina - SP"},{"code":"4105706","name":"Clevelândia","state":"PR","label":"Clevelândia - PR"},{"code":"2908002","name":"Coaraci","state":"BA","label":"Coaraci - BA"},{"code":"1301209","name":"Coari","state":"AM","label":"Coari - AM"},{"code":"2202703","name":"Cocal","state":"PI","label":"Cocal - PI"},{"code":"2202711","name":"Cocal de Telha","state":"PI","label":"Cocal de Telha - PI"},{"code":"4204251","name":"Cocal do Sul","state":"SC","label":"Cocal do Sul - SC"},{"code":"2202729","name":"Cocal dos Alves","state":"PI","label":"Cocal dos Alves - PI"},{"code":"5103106","name":"Cocalinho","state":"MT","label":"Cocalinho - MT"},{"code":"5205513","name":"Cocalzinho de Goiás","state":"GO","label":"Cocalzinho de Goiás - GO"},{"code":"2908101","name":"Cocos","state":"BA","label":"Cocos - BA"},{"code":"1301308","name":"Codajás","state":"AM","label":"Codajás - AM"},{"code":"2103307","name":"Codó","state":"MA","label":"Codó - MA"},{"code":"2103406","name":"Coelho Neto","state":"MA","label":"Coelho Neto - MA"},{"code":"3116704","name":"Coimbra","state":"MG","label":"Coimbra - MG"},{"code":"2702009","name":"Coité do Nóia","state":"AL","label":"Coité do Nóia - AL"},{"code":"2202737","name":"Coivaras","state":"PI","label":"Coivaras - PI"},{"code":"1502608","name":"Colares","state":"PA","label":"Colares - PA"},{"code":"3201506","name":"Colatina","state":"ES","label":"Colatina - ES"},{"code":"5103205","name":"Colíder","state":"MT","label":"Colíder - MT"},{"code":"3512001","name":"Colina","state":"SP","label":"Colina - SP"},{"code":"4305587","name":"Colinas","state":"RS","label":"Colinas - RS"},{"code":"2103505","name":"Colinas","state":"MA","label":"Colinas - MA"},{"code":"5205521","name":"Colinas do Sul","state":"GO","label":"Colinas do Sul - GO"},{"code":"1705508","name":"Colinas do Tocantins","state":"TO","label":"Colinas do Tocantins - TO"},{"code":"1716703","name":"Colméia","state":"TO","label":"Colméia - TO"},{"code":"5103254","name":"Colniza","state":"MT","label":"Colniza - MT"},{"code":"3512100","name":"Colômbia","state":"SP","label":"Colômbia - SP"},{"code":"4105805","name":"Colombo","state":"PR","label":"Colombo - PR"},{"code":"2202752","name":"Colônia do Gurguéia","state":"PI","label":"Colônia do Gurguéia - PI"},{"code":"2202778","name":"Colônia do Piauí","state":"PI","label":"Colônia do Piauí - PI"},{"code":"2702108","name":"Colônia Leopoldina","state":"AL","label":"Colônia Leopoldina - AL"},{"code":"4105904","name":"Colorado","state":"PR","label":"Colorado - PR"},{"code":"4305603","name":"Colorado","state":"RS","label":"Colorado - RS"},{"code":"1100064","name":"Colorado do Oeste","state":"RO","label":"Colorado do Oeste - RO"},{"code":"3116803","name":"Coluna","state":"MG","label":"Coluna - MG"},{"code":"1705557","name":"Combinado","state":"TO","label":"Combinado - TO"},{"code":"3116902","name":"Comendador Gomes","state":"MG","label":"Comendador Gomes - MG"},{"code":"3300951","name":"Comendador Levy Gasparian","state":"RJ","label":"Comendador Levy Gasparian - RJ"},{"code":"3117009","name":"Comercinho","state":"MG","label":"Comercinho - MG"},{"code":"5103304","name":"Comodoro","state":"MT","label":"Comodoro - MT"},{"code":"2504405","name":"Conceição","state":"PB","label":"Conceição - PB"},{"code":"3117108","name":"Conceição da Aparecida","state":"MG","label":"Conceição da Aparecida - MG"},{"code":"3201605","name":"Conceição da Barra","state":"ES","label":"Conceição da Barra - ES"},{"code":"3115201","name":"Conceição da Barra de Minas","state":"MG","label":"Conceição da Barra de Minas - MG"},{"code":"2908200","name":"Conceição da Feira","state":"BA","label":"Conceição da Feira - BA"},{"code":"3117306","name":"Conceição das Alagoas","state":"MG","label":"Conceição das Alagoas - MG"},{"code":"3117207","name":"Conceição das Pedras","state":"MG","label":"Conceição das Pedras - MG"},{"code":"3117405","name":"Conceição de Ipanema","state":"MG","label":"Conceição de Ipanema - MG"},{"code":"3301405","name":"Conceição de Macabu","state":"RJ","label":"Conceição de Macabu - RJ"},{"code":"2908309","name":"Conceição do Almeida","state":"BA","label":"Conceição do Almeida - BA"},{"code":"1502707","name":"Conceição do Araguaia","state":"PA","label":"Conceição do Araguaia - PA"},{"code":"2202802","name":"Conceição do Canindé","state":"PI","label":"Conceição do Canindé - PI"},{"code":"3201704","name":"Conceição do Castelo","state":"ES","label":"Conceição do Castelo - ES"},{"code":"2908408","name":"Conceição do Coité","state":"BA","label":"Conceição do Coité - BA"},{"code":"2908507","name":"Conceição do Jacuípe","state":"BA","label":"Conceição do Jacuípe - BA"},{"code":"2103554","name":"Conceição do Lago-Açu","state":"MA","label":"Conceição do Lago-Açu - MA"},{"code":"3117504","name":"Conceição do Mato Dentro","state":"MG","label":"Conceição do Mato Dentro - MG"},{"code":"3117603","name":"Conceição do Pará","state":"MG","label":"Conceição do Pará - MG"},{"code":"3117702","name":"Conceição do Rio Verde","state":"MG","label":"Conceição do Rio Verde - MG"},{"code":"1705607","name":"Conceição do Tocantins","state":"TO","label":"Conceição do Tocantins - TO"},{"code":"3117801","name":"Conceição dos Ouros","state":"MG","label":"Conceição dos Ouros - MG"},{"code":"3512209","name":"Conchal","state":"SP","label":"Conchal - SP"},{"code":"3512308","name":"Conchas","state":"SP","label":"Conchas - SP"},{"code":"4204301","name":"Concórdia","state":"SC","label":"Concórdia - SC"},{"code":"1502756","name":"Concórdia do Pará","state":"PA","label":"Concórdia do Pará - PA"},{"code":"2504504","name":"Condado","state":"PB","label":"Condado - PB"},{"code":"2604601","name":"Condado","state":"PE","label":"Condado - PE"},{"code":"2908606","name":"Conde","state":"BA","label":"Conde - BA"},{"code":"2504603","name":"Conde","state":"PB","label":"Conde - PB"},{"code":"2908705","name":"Condeúba","state":"BA","label":"Condeúba - BA"},{"code":"4305702","name":"Condor","state":"RS","label":"Condor - RS"},{"code":"3117836","name":"Cônego Marinho","state":"MG","label":"Cônego Marinho - MG"},{"code":"3117876","name":"Confins","state":"MG","label":"Confins - MG"},{"code":"5103353","name":"Confresa","state":"MT","label":"Confresa - MT"},{"code":"2504702","name":"Congo","state":"PB","label":"Congo - PB"},{"code":"3117900","name":"Congonhal","state":"MG","label":"Congonhal - MG"},{"code":"3118007","name":"Congonhas","state":"MG","label":"Congonhas - MG"},{"code":"3118106","name":"Congonhas do Norte","state":"MG","label":"Congonhas do Norte - MG"},{"code":"4106001","name":"Congonhinhas","state":"PR","label":"Congonhinhas - PR"},{"code":"3118205","name":"Conquista","state":"MG","label":"Conquista - MG"},{"code":"5103361","name":"Conquista D\u0027Oeste","state":"MT","label":"Conquista D\u0027Oeste - MT"},{"code":"3118304","name":"Conselheiro Lafaiete","state":"MG","label":"Conselheiro Lafaiete - MG"},{"code":"4106100","name":"Conselheiro Mairinck","state":"PR","label":"Conselheiro Mairinck - PR"},{"code":"3118403","name":"Conselheiro Pena","state":"MG","label":"Conselheiro Pena - MG"},{"code":"3118502","name":"Consolação","state":"MG","label":"Consolação - MG"},{"code":"4305801","name":"Constantina","state":"RS","label":"Constantina - RS"},{"code":"3118601","name":"Contagem","state":"MG","label":"Contagem - MG"},{"code":"4106209","name":"Contenda","state":"PR","label":"Contenda - PR"},{"code":"2908804","name":"Contendas do Sincorá","state":"BA","label":"Contendas do Sincorá - BA"},{"code":"3118700","name":"Coqueiral","state":"MG","label":"Coqueiral - MG"},{"code":"4305835","name":"Coqueiro Baixo","state":"RS","label":"Coqueiro Baixo - RS"},{"code":"2702207","name":"Coqueiro Seco","state":"AL","label":"Coqueiro Seco - AL"},{"code":"4305850","name":"Coqueiros do Sul","state":"RS","label":"Coqueiros do Sul - RS"},{"code":"3118809","name":"Coração de Jesus","state":"MG","label":"Coração de Jesus - MG"},{"code":"2908903","name":"Coração de Maria","state":"BA","label":"Coração de Maria - BA"},{"code":"4106308","name":"Corbélia","state":"PR","label":"Corbélia - PR"},{"code":"3301504","name":"Cordeiro","state":"RJ","label":"Cordeiro - RJ"},{"code":"3512407","name":"Cordeirópolis","state":"SP","label":"Cordeirópolis - SP"},{"code":"2909000","name":"Cordeiros","state":"BA","label":"Cordeiros - BA"},{"code":"4204350","name":"Cordilheira Alta","state":"SC","label":"Cordilheira Alta - SC"},{"code":"3118908","name":"Cordisburgo","state":"MG","label":"Cordisburgo - MG"},{"code":"3119005","name":"Cordislândia","state":"MG","label":"Cordislândia - MG"},{"code":"2304004","name":"Coreaú","state":"CE","label":"Coreaú - CE"},{"code":"2504801","name":"Coremas","state":"PB","label":"Coremas - PB"},{"code":"5003108","name":"Corguinho","state":"MS","label":"Corguinho - MS"},{"code":"2909109","name":"Coribe","state":"BA","label":"Coribe - BA"},{"code":"3119104","name":"Corinto","state":"MG","label":"Corinto - MG"},{"code":"4106407","name":"Cornélio Procópio","state":"PR","label":"Cornélio Procópio - PR"},{"code":"3119203","name":"Coroaci","state":"MG","label":"Coroaci - MG"},{"code":"3512506","name":"Coroados","state":"SP","label":"Coroados - SP"},{"code":"2103604","name":"Coroatá","state":"MA","label":"Coroatá - MA"},{"code":"3119302","name":"Coromandel","state":"MG","label":"Coromandel - MG"},{"code":"4305871","name":"Coronel Barros","state":"RS","label":"Coronel Barros - RS"},{"code":"4305900","name":"Coronel Bicaco","state":"RS","label":"Coronel Bicaco - RS"},{"code":"4106456","name":"Coronel Domingos Soares","state":"PR","label":"Coronel Domingos Soares - PR"},{"code":"2402808","name":"Coronel Ezequiel","state":"RN","label":"Coronel Ezequiel - RN"},{"code":"3119401","name":"Coronel Fabriciano","state":"MG","label":"Coronel Fabriciano - MG"},{"code":"4204400","name":"Coronel Freitas","state":"SC","label":"Coronel Freitas - SC"},{"code":"2402907","name":"Coronel João Pessoa","state":"RN","label":"Coronel João Pessoa - RN"},{"code":"2909208","name":"Coronel João Sá","state":"BA","label":"Coronel João Sá - BA"},{"code":"2202851","name":"Coronel José Dias","state":"PI","label":"Coronel José Dias - PI"},{"code":"3512605","name":"Coronel Macedo","state":"SP","label":"Coronel Macedo - SP"},{"code":"4204459","name":"Coronel Martins","state":"SC","label":"Coronel Martins - SC"},{"code":"3119500","name":"Coronel Murta","state":"MG","label":"Coronel Murta - MG"},{"code":"3119609","name":"Coronel Pacheco","state":"MG","label":"Coronel Pacheco - MG"},{"code":"4305934","name":"Coronel Pilar","state":"RS","label":"Coronel Pilar - RS"},{"code":"5003157","name":"Coronel Sapucaia","state":"MS","label":"Coronel Sapucaia - MS"},{"code":"4106506","name":"Coronel Vivida","state":"PR","label":"Coronel Vivida - PR"},{"code":"3119708","name":"Coronel Xavier Chaves","state":"MG","label":"Coronel Xavier Chaves - MG"},{"code":"3119807","name":"Córrego Danta","state":"MG","label":"Córrego Danta - MG"},{"code":"3119906","name":"Córrego do Bom Jesus","state":"MG","label":"Córrego do Bom Jesus - MG"},{"code":"5205703","name":"Córrego do Ouro","state":"GO","label":"Córrego do Ouro - GO"},{"code":"3119955","name":"Córrego Fundo","state":"MG","label":"Córrego Fundo - MG"},{"code":"3120003","name":"Córrego Novo","state":"MG","label":"Córrego Novo - MG"},{"code":"4204558","name":"Correia Pinto","state":"SC","label":"Correia Pinto - SC"},{"code":"2202901","name":"Corrente","state":"PI","label":"Corrente - PI"},{"code":"2604700","name":"Correntes","state":"PE","label":"Correntes - PE"},{"code":"2909307","name":"Correntina","state":"BA","label":"Correntina - BA"},{"code":"2604809","name":"Cortês","state":"PE","label":"Cortês - PE"},{"code":"5003207","name":"Corumbá","state":"MS","label":"Corumbá - MS"},{"code":"5205802","name":"Corumbá de Goiás","state":"GO","label":"Corumbá de Goiás - GO"},{"code":"5205901","name":"Corumbaíba","state":"GO","label":"Corumbaíba - GO"},{"code":"3512704","name":"Corumbataí","state":"SP","label":"Corumbataí - SP"},{"code":"4106555","name":"Corumbataí do Sul","state":"PR","label":"Corumbataí do Sul - PR"},{"code":"1100072","name":"Corumbiara","state":"RO","label":"Corumbiara - RO"},{"code":"4204509","name":"Corupá","state":"SC","label":"Corupá - SC"},{"code":"2702306","name":"Coruripe","state":"AL","label":"Coruripe - AL"},{"code":"3512803","name":"Cosmópolis","state":"SP","label":"Cosmópolis - SP"},{"code":"3512902","name":"Cosmorama","state":"SP","label":"Cosmorama - SP"},{"code":"1100080","name":"Costa Marques","state":"RO","label":"Costa Marques - RO"},{"code":"5003256","name":"Costa Rica","state":"MS","label":"Costa Rica - MS"},{"code":"2909406","name":"Cotegipe","state":"BA","label":"Cotegipe - BA"},{"code":"3513009","name":"Cotia","state":"SP","label":"Cotia - SP"},{"code":"4305959","name":"Cotiporã","state":"RS","label":"Cotiporã - RS"},{"code":"5103379","name":"Cotriguaçu","state":"MT","label":"Cotriguaçu - MT"},{"code":"3120102","name":"Couto de Magalhães de Minas","state":"MG","label":"Couto de Magalhães de Minas - MG"},{"code":"1706001","name":"Couto Magalhães","state":"TO","label":"Couto Magalhães - TO"},{"code":"4305975","name":"Coxilha","state":"RS","label":"Coxilha - RS"},{"code":"5003306","name":"Coxim","state":"MS","label":"Coxim - MS"},{"code":"2504850","name":"Coxixola","state":"PB","label":"Coxixola - PB"},{"code":"2702355","name":"Craíbas","state":"AL","label":"Craíbas - AL"},{"code":"2304103","name":"Crateús","state":"CE","label":"Crateús - CE"},{"code":"2304202","name":"Crato","state":"CE","label":"Crato - CE"},{"code":"3513108","name":"Cravinhos","state":"SP","label":"Cravinhos - SP"},{"code":"2909505","name":"Cravolândia","state":"BA","label":"Cravolândia - BA"},{"code":"4204608","name":"Criciúma","state":"SC","label":"Criciúma - SC"},{"code":"3120151","name":"Crisólita","state":"MG","label":"Crisólita - MG"},{"code":"2909604","name":"Crisópolis","state":"BA","label":"Crisópolis - BA"},{"code":"4306007","name":"Crissiumal","state":"RS","label":"Crissiumal - RS"},{"code":"3120201","name":"Cristais","state":"MG","label":"Cristais - MG"},{"code":"3513207","name":"Cristais Paulista","state":"SP","label":"Cristais Paulista - SP"},{"code":"4306056","name":"Cristal","state":"RS","label":"Cristal - RS"},{"code":"4306072","name":"Cristal do Sul","state":"RS","label":"Cristal do Sul - RS"},{"code":"1706100","name":"Cristalândia","state":"TO","label":"Cristalândia - TO"},{"code":"2203008","name":"Cristalândia do Piauí","state":"PI","label":"Cristalândia do Piauí - PI"},{"code":"3120300","name":"Cristália","state":"MG","label":"Cristália - MG"},{"code":"5206206","name":"Cristalina","state":"GO","label":"Cristalina - GO"},{"code":"3120409","name":"Cristiano Otoni","state":"MG","label":"Cristiano Otoni - MG"},{"code":"5206305","name":"Cristianópolis","state":"GO","label":"Cristianópolis - GO"},{"code":"3120508","name":"Cristina","state":"MG","label":"Cristina - MG"},{"code":"2801702","name":"Cristinápolis","state":"SE","label":"Cristinápolis - SE"},{"code":"2203107","name":"Cristino Castro","state":"PI","label":"Cristino Castro - PI"},{"code":"2909703","name":"Cristópolis","state":"BA","label":"Cristópolis - BA"},{"code":"5206404","name":"Crixás","state":"GO","label":"Crixás - GO"},{"code":"1706258","name":"Crixás do Tocantins","state":"TO","label":"Crixás do Tocantins - TO"},{"code":"2304236","name":"Croatá","state":"CE","label":"Croatá - CE"},{"code":"5206503","name":"Cromínia","state":"GO","label":"Cromínia - GO"},{"code":"3120607","name":"Crucilândia","state":"MG","label":"Crucilândia - MG"},{"code":"2304251","name":"Cruz","state":"CE","label":"Cruz - CE"},{"code":"4306106","name":"Cruz Alta","state":"RS","label":"Cruz Alta - RS"},{"code":"2909802","name":"Cruz das Almas","state":"BA","label":"Cruz das Almas - BA"},{"code":"2504900","name":"Cruz do Espírito Santo","state":"PB","label":"Cruz do Espírito Santo - PB"},{"code":"4106803","name":"Cruz Machado","state":"PR","label":"Cruz Machado - PR"},{"code":"3513306","name":"Cruzália","state":"SP","label":"Cruzália - SP"},{"code":"4306130","name":"Cruzaltense","state":"RS","label":"Cruzaltense - RS"},{"code":"3513405","name":"Cruzeiro","state":"SP","label":"Cruzeiro - SP"},{"code":"3120706","name":"Cruzeiro da Fortaleza","state":"MG","label":"Cruzeiro da Fortaleza - MG"},{"code":"4106571","name":"Cruzeiro do Iguaçu","state":"PR","label":"Cruzeiro do Iguaçu - PR"},{"code":"4106605","name":"Cruzeiro do Oeste","state":"PR","label":"Cruzeiro do Oeste - PR"},{"code":"4106704","name":"Cruzeiro do Sul","state":"PR","label":"Cruzeiro do Sul - PR"},{"code":"4306205","name":"Cruzeiro do Sul","state":"RS","label":"Cruzeiro do Sul - RS"},{"code":"1200203","name":"Cruzeiro do Sul","state":"AC","label":"Cruzeiro do Sul - AC"},{"code":"2403004","name":"Cruzeta","state":"RN","label":"Cruzeta - RN"},{"code":"3120805","name":"Cruzília","state":"MG","label":"Cruzília - MG"},{"code":"4106852","name":"Cruzmaltina","state":"PR","label":"Cruzmaltina - PR"},{"code":"3513504","name":"Cubatão","state":"SP","label":"Cubatão - SP"},{"code":"2505006","name":"Cubati","state":"PB","label":"Cubati - PB"},{"code":"5103403","name":"Cuiabá","state":"MT","label":"Cuiabá - MT"},{"code":"2505105","name":"Cuité","state":"PB","label":"Cuité - PB"},{"code":"2505238","name":"Cuité de Mamanguape","state":"PB","label":"Cuité de Mamanguape - PB"},{"code":"2505204","name":"Cuitegi","state":"PB","label":"Cuitegi - PB"},{"code":"1100940","name":"Cujubim","state":"RO","label":"Cujubim - RO"},{"code":"5206602","name":"Cumari","state":"GO","label":"Cumari - GO"},{"code":"2604908","name":"Cumaru","state":"PE","label":"Cumaru - PE"},{"code":"1502764","name":"Cumaru do Norte","state":"PA","label":"Cumaru do Norte - PA"},{"code":"2801900","name":"Cumbe","state":"SE","label":"Cumbe - SE"},{"code":"3513603","name":"Cunha","state":"SP","label":"Cunha - SP"},{"code":"4204707","name":"Cunha Porã","state":"SC","label":"Cunha Porã - SC"},{"code":"4204756","name":"Cunhataí","state":"SC","label":"Cunhataí - SC"},{"code":"3120839","name":"Cuparaque","state":"MG","label":"Cuparaque - MG"},{"code":"2605004","name":"Cupira","state":"PE","label":"Cupira - PE"},{"code":"2909901","name":"Curaçá","state":"BA","label":"Curaçá - BA"},{"code":"2203206","name":"Curimatá","state":"PI","label":"Curimatá - PI"},{"code":"1502772","name":"Curionópolis","state":"PA","label":"Curionópolis - PA"},{"code":"4106902","name":"Curitiba","state":"PR","label":"Curitiba - PR"},{"code":"4204806","name":"Curitibanos","state":"SC","label":"Curitibanos - SC"},{"code":"4107009","name":"Curiúva","state":"PR","label":"Curiúva - PR"},{"code":"2203230","name":"Currais","state":"PI","label":"Currais - PI"},{"code":"2403103","name":"Currais Novos","state":"RN","label":"Currais Novos - RN"},{"code":"2505279","name":"Curral de Cima","state":"PB","label":"Curral de Cima - PB"},{"code":"3120870","name":"Curral de Dentro","state":"MG","label":"Curral de Dentro - MG"},{"code":"2203271","name":"Curral Novo do Piauí","state":"PI","label":"Curral Novo do Piauí - PI"},{"code":"2505303","name":"Curral Velho","state":"PB","label":"Curral Velho - PB"},{"code":"1502806","name":"Curralinho","state":"PA","label":"Curralinho - PA"},{"code":"2203255","name":"Curralinhos","state":"PI","label":"Curralinhos - PI"},{"code":"1502855","name":"Curuá","state":"PA","label":"Curuá - PA"},{"code":"1502905","name":"Curuçá","state":"PA","label":"Curuçá - PA"},{"code":"2103703","name":"Cururupu","state":"MA","label":"Cururupu - MA"},{"code":"5103437","name":"Curvelândia","state":"MT","label":"Curvelândia - MT"},{"code":"3120904","name":"Curvelo","state":"MG","label":"Curvelo - MG"},{"code":"2605103","name":"Custódia","state":"PE","label":"Custódia - PE"},{"code":"1600212","name":"Cutias","state":"AP","label":"Cutias - AP"},{"code":"5206701","name":"Damianópolis","state":"GO","label":"Damianópolis - GO"},{"code":"2505352","name":"Damião","state":"PB","label":"Damião - PB"},{"code":"5206800","name":"Damolândia","state":"GO","label":"Damolândia - GO"},{"code":"1706506","name":"Darcinópolis","state":"TO","label":"Darcinópolis - TO"},{"code":"2910008","name":"Dário Meira","state":"BA","label":"Dário Meira - BA"},{"code":"3121001","name":"Datas","state":"MG","label":"Datas - MG"},{"code":"4306304","name":"David Canabarro","state":"RS","label":"David Canabarro - RS"},{"code":"5206909","name":"Davinópolis","state":"GO","label":"Davinópolis - GO"},{"code":"2103752","name":"Davinópolis","state":"MA","label":"Davinópolis - MA"},{"code":"3121100","name":"Delfim Moreira","state":"MG","label":"Delfim Moreira - MG"},{"code":"3121209","name":"Delfinópolis","state":"MG","label":"Delfinópolis - MG"},{"code":"2702405","name":"Delmiro Gouveia","state":"AL","label":"Delmiro Gouveia - AL"},{"code":"3121258","name":"Delta","state":"MG","label":"Delta - MG"},{"code":"2203305","name":"Demerval Lobão","state":"PI","label":"Demerval Lobão - PI"},{"code":"5103452","name":"Denise","state":"MT","label":"Denise - MT"},{"code":"5003454","name":"Deodápolis","state":"MS","label":"Deodápolis - MS"},{"code":"2304269","name":"Deputado Irapuan Pinheiro","state":"CE","label":"Deputado Irapuan Pinheiro - CE"},{"code":"4306320","name":"Derrubadas","state":"RS","label":"Derrubadas - RS"},{"code":"3513702","name":"Descalvado","state":"SP","label":"Descalvado - SP"},{"code":"4204905","name":"Descanso","state":"SC","label":"Descanso - SC"},{"code":"3121308","name":"Descoberto","state":"MG","label":"Descoberto - MG"},{"code":"2505402","name":"Desterro","state":"PB","label":"Desterro - PB"},{"code":"3121407","name":"Desterro de Entre Rios","state":"MG","label":"Desterro de Entre Rios - MG"},{"code":"3121506","name":"Desterro do Melo","state":"MG","label":"Desterro do Melo - MG"},{"code":"4306353","name":"Dezesseis de Novembro","state":"RS","label":"Dezesseis de Novembro - RS"},{"code":"3513801","name":"Diadema","state":"SP","label":"Diadema - SP"},{"code":"2505600","name":"Diamante","state":"PB","label":"Diamante - PB"},{"code":"4107108","name":"Diamante do Norte","state":"PR","label":"Diamante do Norte - PR"},{"code":"4107124","name":"Diamante do Sul","state":"PR","label":"Diamante do Sul - PR"},{"code":"4107157","name":"Diamante D\u0027Oeste","state":"PR","label":"Diamante D\u0027Oeste - PR"},{"code":"3121605","name":"Diamantina","state":"MG","label":"Diamantina - MG"},{"code":"5103502","name":"Diamantino","state":"MT","label":"Diamantino - MT"},{"code":"1707009","name":"Dianópolis","state":"TO","label":"Dianópolis - TO"},{"code":"2910057","name":"Dias d\u0027Ávila","state":"BA","label":"Dias d\u0027Ávila - BA"},{"code":"4306379","name":"Dilermando de Aguiar","state":"RS","label":"Dilermando de Aguiar - RS"},{"code":"3121704","name":"Diogo de Vasconcelos","state":"MG","label":"Diogo de Vasconcelos - MG"},{"code":"3121803","name":"Dionísio","state":"MG","label":"Dionísio - MG"},{"code":"4205001","name":"Dionísio Cerqueira","state":"SC","label":"Dionísio Cerqueira - SC"},{"code":"5207105","name":"Diorama","state":"GO","label":"Diorama - GO"},{"code":"3513850","name":"Dirce Reis","state":"SP","label":"Dirce Reis - SP"},{"code":"2203354","name":"Dirceu Arcoverde","state":"PI","label":"Dirceu Arcoverde - PI"},{"code":"2802007","name":"Divina Pastora","state":"SE","label":"Divina Pastora - SE"},{"code":"3121902","name":"Divinésia","state":"MG","label":"Divinésia - MG"},{"code":"3122009","name":"Divino","state":"MG","label":"Divino - MG"},{"code":"3122108","name":"Divino das Laranjeiras","state":"MG","label":"Divino das Laranjeiras - MG"},{"code":"3201803","name":"Divino de São Lourenço","state":"ES","label":"Divino de São Lourenço - ES"},{"code":"3513900","name":"Divinolândia","state":"SP","label":"Divinolândia - SP"},{"code":"3122207","name":"Divinolândia de Minas","state":"MG","label":"Divinolândia de Minas - MG"},{"code":"3122306","name":"Divinópolis","state":"MG","label":"Divinópolis - MG"},{"code":"5208301","name":"Divinópolis de Goiás","state":"GO","label":"Divinópolis de Goiás - GO"},{"code":"1707108","name":"Divinópolis do Tocantins","state":"TO","label":"Divinópolis do Tocantins - TO"},{"code":"3122355","name":"Divisa Alegre","state":"MG","label":"Divisa Alegre - MG"},{"code":"3122405","name":"Divisa Nova","state":"MG","label":"Divisa Nova - MG"},{"code":"3122454","name":"Divisópolis","state":"MG","label":"Divisópolis - MG"},{"code":"3514007","name":"Dobrada","state":"SP","label":"Dobrada - SP"},{"code":"3514106","name":"Dois Córregos","state":"SP","label":"Dois Córregos - SP"},{"code":"4306403","name":"Dois Irmãos","state":"RS","label":"Dois Irmãos - RS"},{"code":"4306429","name":"Dois Irmãos das Missões","state":"RS","label":"Dois Irmãos das Missões - RS"},{"code":"5003488","name":"Dois Irmãos do Buriti","state":"MS","label":"Dois Irmãos do Buriti - MS"},{"code":"1707207","name":"Dois Irmãos do Tocantins","state":"TO","label":"Dois Irmãos do Tocantins - TO"},{"code":"4306452","name":"Dois Lajeados","state":"RS","label":"Dois Lajeados - RS"},{"code":"2702504","name":"Dois Riachos","state":"AL","label":"Dois Riachos - AL"},{"code":"4107207","name":"Dois Vizinhos","state":"PR","label":"Dois Vizinhos - PR"},{"code":"3514205","name":"Dolcinópolis","state":"SP","label":"Dolcinópolis - SP"},{"code":"5103601","name":"Dom Aquino","state":"MT","label":"Dom Aquino - MT"},{"code":"2910107","name":"Dom Basílio","state":"BA","label":"Dom Basílio - BA"},{"code":"3122470","name":"Dom Bosco","state":"MG","label":"Dom Bosco - MG"},{"code":"3122504","name":"Dom Cavati","state":"MG","label":"Dom Cavati - MG"},{"code":"1502939","name":"Dom Eliseu","state":"PA","label":"Dom Eliseu - PA"},{"code":"2203404","name":"Dom Expedito Lopes","state":"PI","label":"Dom Expedito Lopes - PI"},{"code":"4306502","name":"Dom Feliciano","state":"RS","label":"Dom Feliciano - RS"},{"code":"2203453","name":"Dom Inocêncio","state":"PI","label":"Dom Inocêncio - PI"},{"code":"3122603","name":"Dom Joaquim","state":"MG","label":"Dom Joaquim - MG"},{"code":"2910206","name":"Dom Macedo Costa","state":"BA","label":"Dom Macedo Costa - BA"},{"code":"4306601","name":"Dom Pedrito","state":"RS","label":"Dom Pedrito - RS"},{"code":"2103802","name":"Dom Pedro","state":"MA","label":"Dom Pedro - MA"},{"code":"4306551","name":"Dom Pedro de Alcântara","state":"RS","label":"Dom Pedro de Alcântara - RS"},{"code":"3122702","name":"Dom Silvério","state":"MG","label":"Dom Silvério - MG"},{"code":"3122801","name":"Dom Viçoso","state":"MG","label":"Dom Viçoso - MG"},{"code":"3201902","name":"Domingos Martins","state":"ES","label":"Domingos Martins - ES"},{"code":"2203420","name":"Domingos Mourão","state":"PI","label":"Domingos Mourão - PI"},{"code":"4205100","name":"Dona Emma","state":"SC","label":"Dona Emma - SC"},{"code":"3122900","name":"Dona Euzébia","state":"MG","label":"Dona Euzébia - MG"},{"code":"4306700","name":"Dona Francisca","state":"RS","label":"Dona Francisca - RS"},{"code":"2505709","name":"Dona Inês","state":"PB","label":"Dona Inês - PB"},{"code":"3123007","name":"Dores de Campos","state":"MG","label":"Dores de Campos - MG"},{"code":"3123106","name":"Dores de Guanhães","state":"MG","label":"Dores de Guanhães - MG"},{"code":"3123205","name":"Dores do Indaiá","state":"MG","label":"Dores do Indaiá - MG"},{"code":"3202009","name":"Dores do Rio Preto","state":"ES","label":"Dores do Rio Preto - ES"},{"code":"3123304","name":"Dores do Turvo","state":"MG","label":"Dores do Turvo - MG"},{"code":"3123403","name":"Doresópolis","state":"MG","label":"Doresópolis - MG"},{"code":"2605152","name":"Dormentes","state":"PE","label":"Dormentes - PE"},{"code":"4107256","name":"Douradina","state":"PR","label":"Douradina - PR"},{"code":"5003504","name":"Douradina","state":"MS","label":"Douradina - MS"},{"code":"3514304","name":"Dourado","state":"SP","label":"Dourado - SP"},{"code":"3123502","name":"Douradoquara","state":"MG","label":"Douradoquara - MG"},{"code":"5003702","name":"Dourados","state":"MS","label":"Dourados - MS"},{"code":"4107306","name":"Doutor Camargo","state":"PR","label":"Doutor Camargo - PR"},{"code":"4306734","name":"Doutor Maurício Cardoso","state":"RS","label":"Doutor Maurício Cardoso - RS"},{"code":"4205159","name":"Doutor Pedrinho","state":"SC","label":"Doutor Pedrinho - SC"},{"code":"4306759","name":"Doutor Ricardo","state":"RS","label":"Doutor Ricardo - RS"},{"code":"2403202","name":"Doutor Severiano","state":"RN","label":"Doutor Severiano - RN"},{"code":"4128633","name":"Doutor Ulysses","state":"PR","label":"Doutor Ulysses - PR"},{"code":"5207253","name":"Doverlândia","state":"GO","label":"Doverlândia - GO"},{"code":"3514403","name":"Dracena","state":"SP","label":"Dracena - SP"},{"code":"3514502","name":"Duartina","state":"SP","label":"Duartina - SP"},{"code":"3301603","name":"Duas Barras","state":"RJ","label":"Duas Barras - RJ"},{"code":"2505808","name":"Duas Estradas","state":"PB","label":"Duas Estradas - PB"},{"code":"1707306","name":"Dueré","state":"TO","label":"Dueré - TO"},{"code":"3514601","name":"Dumont","state":"SP","label":"Dumont - SP"},{"code":"2103901","name":"Duque Bacelar","state":"MA","label":"Duque Bacelar - MA"},{"code":"3301702","name":"Duque de Caxias","state":"RJ","label":"Duque de Caxias - RJ"},{"code":"3123528","name":"Durandé","state":"MG","label":"Durandé - MG"},{"code":"3514700","name":"Echaporã","state":"SP","label":"Echaporã - SP"},{"code":"3202108","name":"Ecoporanga","state":"ES","label":"Ecoporanga - ES"},{"code":"5207352","name":"Edealina","state":"GO","label":"Edealina - GO"},{"code":"5207402","name":"Edéia","state":"GO","label":"Edéia - GO"},{"code":"1301407","name":"Eirunepé","state":"AM","label":"Eirunepé - AM"},{"code":"5003751","name":"Eldorado","state":"MS","label":"Eldorado - MS"},{"code":"3514809","name":"Eldorado","state":"SP","label":"Eldorado - SP"},{"code":"1502954","name":"Eldorado do Carajás","state":"PA","label":"Eldorado do Carajás - PA"},{"code":"4306767","name":"Eldorado do Sul","state":"RS","label":"Eldorado do Sul - RS"},{"code":"2203503","name":"Elesbão Veloso","state":"PI","label":"Elesbão Veloso - PI"},{"code":"3514908","name":"Elias Fausto","state":"SP","label":"Elias Fausto - SP"},{"code":"2203602","name":"Eliseu Martins","state":"PI","label":"Eliseu Martins - PI"},{"code":"3514924","name":"Elisiário","state":"SP","label":"Elisiário - SP"},{"code":"2910305","name":"Elísio Medrado","state":"BA","label":"Elísio Medrado - BA"},{"code":"3123601","name":"Elói Mendes","state":"MG","label":"Elói Mendes - MG"},{"code":"2505907","name":"Emas","state":"PB","label":"Emas - PB"},{"code":"3514957","name":"Embaúba","state":"SP","label":"Embaúba - SP"},{"code":"3515004","name":"Embu das Artes","state":"SP","label":"Embu das Artes - SP"},{"code":"3515103","name":"Embu-Guaçu","state":"SP","label":"Embu-Guaçu - SP"},{"code":"3515129","name":"Emilianópolis","state":"SP","label":"Emilianópolis - SP"},{"code":"4306809","name":"Encantado","state":"RS","label":"Encantado - RS"},{"code":"2403301","name":"Encanto","state":"RN","label":"Encanto - RN"},{"code":"2910404","name":"Encruzilhada","state":"BA","label":"Encruzilhada - BA"},{"code":"4306908","name":"Encruzilhada do Sul","state":"RS","label":"Encruzilhada do Sul - RS"},{"code":"4107405","name":"Enéas Marques","state":"PR","label":"Enéas Marques - PR"},{"code":"4107504","name":"Engenheiro Beltrão","state":"PR","label":"Engenheiro Beltrão - PR"},{"code":"3123700","name":"Engenheiro Caldas","state":"MG","label":"Engenheiro Caldas - MG"},{"code":"3515152","name":"Engenheiro Coelho","state":"SP","label":"Engenheiro Coelho - SP"},{"code":"3123809","name":"Engenheiro Navarro","state":"MG","label":"Engenheiro Navarro - MG"},{"code":"3301801","name":"Engenheiro Paulo de Frontin","state":"RJ","label":"Engenheiro Paulo de Frontin - RJ"},{"code":"4306924","name":"Engenho Velho","state":"RS","label":"Engenho Velho - RS"},{"code":"3123858","name":"Entre Folhas","state":"MG","label":"Entre Folhas - MG"},{"code":"2910503","name":"Entre Rios","state":"BA","label":"Entre Rios - BA"},{"code":"4205175","name":"Entre Rios","state":"SC","label":"Entre Rios - SC"},{"code":"3123908","name":"Entre Rios de Minas","state":"MG","label":"Entre Rios de Minas - MG"},{"code":"4107538","name":"Entre Rios do Oeste","state":"PR","label":"Entre Rios do Oeste - PR"},{"code":"4306957","name":"Entre Rios do Sul","state":"RS","label":"Entre Rios do Sul - RS"},{"code":"4306932","name":"Entre-Ijuís","state":"RS","label":"Entre-Ijuís - RS"},{"code":"1301506","name":"Envira","state":"AM","label":"Envira - AM"},{"code":"1200252","name":"Epitaciolândia","state":"AC","label":"Epitaciolândia - AC"},{"code":"2403400","name":"Equador","state":"RN","label":"Equador - RN"},{"code":"4306973","name":"Erebango","state":"RS","label":"Erebango - RS"},{"code":"4307005","name":"Erechim","state":"RS","label":"Erechim - RS"},{"code":"2304277","name":"Ereré","state":"CE","label":"Ereré - CE"},{"code":"2900504","name":"Érico Cardoso","state":"BA","label":"Érico Cardoso - BA"},{"code":"4205191","name":"Ermo","state":"SC","label":"Ermo - SC"},{"code":"4307054","name":"Ernestina","state":"RS","label":"Ernestina - RS"},{"code":"4307203","name":"Erval Grande","state":"RS","label":"Erval Grande - RS"},{"code":"4307302","name":"Erval Seco","state":"RS","label":"Erval Seco - RS"},{"code":"4205209","name":"Erval Velho","state":"SC","label":"Erval Velho - SC"},{"code":"3124005","name":"Ervália","state":"MG","label":"Ervália - MG"},{"code":"2605202","name":"Escada","state":"PE","label":"Escada - PE"},{"code":"4307401","name":"Esmeralda","state":"RS","label":"Esmeralda - RS"},{"code":"3124104","name":"Esmeraldas","state":"MG","label":"Esmeraldas - MG"},{"code":"3124203","name":"Espera Feliz","state":"MG","label":"Espera Feliz - MG"},{"code":"2506004","name":"Esperança","state":"PB","label":"Esperança - PB"},{"code":"4307450","name":"Esperança do Sul","state":"RS","label":"Esperança do Sul - RS"},{"code":"4107520","name":"Esperança Nova","state":"PR","label":"Esperança Nova - PR"},{"code":"2203701","name":"Esperantina","state":"PI","label":"Esperantina - PI"},{"code":"1707405","name":"Esperantina","state":"TO","label":"Esperantina - TO"},{"code":"2104008","name":"Esperantinópolis","state":"MA","label":"Esperantinópolis - MA"},{"code":"4107546","name":"Espigão Alto do Iguaçu","state":"PR","label":"Espigão Alto do Iguaçu - PR"},{"code":"1100098","name":"Espigão D\u0027Oeste","state":"RO","label":"Espigão D\u0027Oeste - RO"},{"code":"3124302","name":"Espinosa","state":"MG","label":"Espinosa - MG"},{"code":"2403509","name":"Espírito Santo","state":"RN","label":"Espírito Santo - RN"},{"code":"3124401","name":"Espírito Santo do Dourado","state":"MG","label":"Espírito Santo do Dourado - MG"},{"code":"3515186","name":"Espírito Santo do Pinhal","state":"SP","label":"Espírito Santo do Pinhal - SP"},{"code":"3515194","name":"Espírito Santo do Turvo","state":"SP","label":"Espírito Santo do Turvo - SP"},{"code":"2910602","name":"Esplanada","state":"BA","label":"Esplanada - BA"},{"code":"4307500","name":"Espumoso","state":"RS","label":"Espumoso - RS"},{"code":"4307559","name":"Estação","state":"RS","label":"Estação - RS"},{"code":"2802106","name":"Estância","state":"SE","label":"Estância - SE"},{"code":"4307609","name":"Estância Velha","state":"RS","label":"Estância Velha - RS"},{"code":"4307708","name":"Esteio","state":"RS","label":"Esteio - RS"},{"code":"3124500","name":"Estiva","state":"MG","label":"Estiva - MG"},{"code":"3557303","name":"Estiva Gerbi","state":"SP","label":"Estiva Gerbi - SP"},{"code":"2104057","name":"Estreito","state":"MA","label":"Estreito - MA"},{"code":"4307807","name":"Estrela","state":"RS","label":"Estrela - RS"},{"code":"3124609","name":"Estrela Dalva","state":"MG","label":"Estrela Dalva - MG"},{"code":"2702553","name":"Estrela de Alagoas","state":"AL","label":"Estrela de Alagoas - AL"},{"code":"3124708","name":"Estrela do Indaiá","state":"MG","label":"Estrela do Indaiá - MG"},{"code":"5207501","name":"Estrela do Norte","state":"GO","label":"Estrela do Norte - GO"},{"code":"3515301","name":"Estrela do Norte","state":"SP","label":"Estrela do Norte - SP"},{"code":"3124807","name":"Estrela do Sul","state":"MG","label":"Estrela do Sul - MG"},{"code":"3515202","name":"Estrela d\u0027Oeste","state":"SP","label":"Estrela d\u0027Oeste - SP"},{"code":"4307815","name":"Estrela Velha","state":"RS","label":"Estrela Velha - RS"},{"code":"2910701","name":"Euclides da Cunha","state":"BA","label":"Euclides da Cunha - BA"},{"code":"3515350","name":"Euclides da Cunha Paulista","state":"SP","label":"Euclides da Cunha Paulista - SP"},{"code":"4307831","name":"Eugênio de Castro","state":"RS","label":"Eugênio de Castro - RS"},{"code":"3124906","name":"Eugenópolis","state":"MG","label":"Eugenópolis - MG"},{"code":"2910727","name":"Eunápolis","state":"BA","label":"Eunápolis - BA"},{"code":"2304285","name":"Eusébio","state":"CE","label":"Eusébio - CE"},{"code":"3125002","name":"Ewbank da Câmara","state":"MG","label":"Ewbank da Câmara - MG"},{"code":"3125101","name":"Extrema","state":"MG","label":"Extrema - MG"},{"code":"2403608","name":"Extremoz","state":"RN","label":"Extremoz - RN"},{"code":"2605301","name":"Exu","state":"PE","label":"Exu - PE"},{"code":"2506103","name":"Fagundes","state":"PB","label":"Fagundes - PB"},{"code":"4307864","name":"Fagundes Varela","state":"RS","label":"Fagundes Varela - RS"},{"code":"5207535","name":"Faina","state":"GO","label":"Faina - GO"},{"code":"3125200","name":"Fama","state":"MG","label":"Fama - MG"},{"code":"3125309","name":"Faria Lemos","state":"MG","label":"Faria Lemos - MG"},{"code":"2304301","name":"Farias Brito","state":"CE","label":"Farias Brito - CE"},{"code":"1503002","name":"Faro","state":"PA","label":"Faro - PA"},{"code":"4107553","name":"Farol","state":"PR","label":"Farol - PR"},{"code":"4307906","name":"Farroupilha","state":"RS","label":"Farroupilha - RS"},{"code":"3515400","name":"Fartura","state":"SP","label":"Fartura - SP"},{"code":"2203750","name":"Fartura do Piauí","state":"PI","label":"Fartura do Piauí - PI"},{"code":"1707553","name":"Fátima","state":"TO","label":"Fátima - TO"},{"code":"2910750","name":"Fátima","state":"BA","label":"Fátima - BA"},{"code":"5003801","name":"Fátima do Sul","state":"MS","label":"Fátima do Sul - MS"},{"code":"4107603","name":"Faxinal","state":"PR","label":"Faxinal - PR"},{"code":"4308003","name":"Faxinal do Soturno","state":"RS","label":"Faxinal do Soturno - RS"},{"code":"4205308","name":"Faxinal dos Guedes","state":"SC","label":"Faxinal dos Guedes - SC"},{"code":"4308052","name":"Faxinalzinho","state":"RS","label":"Faxinalzinho - RS"},{"code":"5207600","name":"Fazenda Nova","state":"GO","label":"Fazenda Nova - GO"},{"code":"4107652","name":"Fazenda Rio Grande","state":"PR","label":"Fazenda Rio Grande - PR"},{"code":"4308078","name":"Fazenda Vilanova","state":"RS","label":"Fazenda Vilanova - RS"},{"code":"1200302","name":"Feijó","state":"AC","label":"Feijó - AC"},{"code":"2910776","name":"Feira da Mata","state":"BA","label":"Feira da Mata - BA"},{"code":"2910800","name":"Feira de Santana","state":"BA","label":"Feira de Santana - BA"},{"code":"2702603","name":"Feira Grande","state":"AL","label":"Feira Grande - AL"},{"code":"2802205","name":"Feira Nova","state":"SE","label":"Feira Nova - SE"},{"code":"2605400","name":"Feira Nova","state":"PE","label":"Feira Nova - PE"},{"code":"2104073","name":"Feira Nova do Maranhão","state":"MA","label":"Feira Nova do Maranhão - MA"},{"code":"3125408","name":"Felício dos Santos","state":"MG","label":"Felício dos Santos - MG"},{"code":"2403707","name":"Felipe Guerra","state":"RN","label":"Felipe Guerra - RN"},{"code":"3125606","name":"Felisburgo","state":"MG","label":"Felisburgo - MG"},{"code":"3125705","name":"Felixlândia","state":"MG","label":"Felixlândia - MG"},{"code":"4308102","name":"Feliz","state":"RS","label":"Feliz - RS"},{"code":"2702702","name":"Feliz Deserto","state":"AL","label":"Feliz Deserto - AL"},{"code":"5103700","name":"Feliz Natal","state":"MT","label":"Feliz Natal - MT"},{"code":"4107702","name":"Fênix","state":"PR","label":"Fênix - PR"},{"code":"4107736","name":"Fernandes Pinheiro","state":"PR","label":"Fernandes Pinheiro - PR"},{"code":"3125804","name":"Fernandes Tourinho","state":"MG","label":"Fernandes Tourinho - MG"},{"code":"2605459","name":"Fernando de Noronha","state":"PE","label":"Fernando de Noronha - PE"},{"code":"2104081","name":"Fernando Falcão","state":"MA","label":"Fernando Falcão - MA"},{"code":"2403756","name":"Fernando Pedroza","state":"RN","label":"Fernando Pedroza - RN"},{"code":"3515608","name":"Fernando Prestes","state":"SP","label":"Fernando Prestes - SP"},{"code":"3515509","name":"Fernandópolis","state":"SP","label":"Fernandópolis - SP"},{"code":"3515657","name":"Fernão","state":"SP","label":"Fernão - SP"},{"code":"3515707","name":"Ferraz de Vasconcelos","state":"SP","label":"Ferraz de Vasconcelos - SP"},{"code":"1600238","name":"Ferreira Gomes","state":"AP","label":"Ferreira Gomes - AP"},{"code":"2605509","name":"Ferreiros","state":"PE","label":"Ferreiros - PE"},{"code":"3125903","name":"Ferros","state":"MG","label":"Ferros - MG"},{"code":"3125952","name":"Fervedouro","state":"MG","label":"Fervedouro - MG"},{"code":"4107751","name":"Figueira","state":"PR","label":"Figueira - PR"},{"code":"5003900","name":"Figueirão","state":"MS","label":"Figueirão - MS"},{"code":"1707652","name":"Figueirópolis","state":"TO","label":"Figueirópolis - TO"},{"code":"5103809","name":"Figueirópolis D\u0027Oeste","state":"MT","label":"Figueirópolis D\u0027Oeste - MT"},{"code":"1707702","name":"Filadélfia","state":"TO","label":"Filadélfia - TO"},{"code":"2910859","name":"Filadélfia","state":"BA","label":"Filadélfia - BA"},{"code":"2910909","name":"Firmino Alves","state":"BA","label":"Firmino Alves - BA"},{"code":"5207808","name":"Firminópolis","state":"GO","label":"Firminópolis - GO"},{"code":"2702801","name":"Flexeiras","state":"AL","label":"Flexeiras - AL"},{"code":"4107850","name":"Flor da Serra do Sul","state":"PR","label":"Flor da Serra do Sul - PR"},{"code":"4205357","name":"Flor do Sertão","state":"SC","label":"Flor do Sertão - SC"},{"code":"3515806","name":"Flora Rica","state":"SP","label":"Flora Rica - SP"},{"code":"4107801","name":"Floraí","state":"PR","label":"Floraí - PR"},{"code":"2403806","name":"Florânia","state":"RN","label":"Florânia - RN"},{"code":"3515905","name":"Floreal","state":"SP","label":"Floreal - SP"},{"code":"2605608","name":"Flores","state":"PE","label":"Flores - PE"},{"code":"4308201","name":"Flores da Cunha","state":"RS","label":"Flores da Cunha - RS"},{"code":"5207907","name":"Flores de Goiás","state":"GO","label":"Flores de Goiás - GO"},{"code":"2203800","name":"Flores do Piauí","state":"PI","label":"Flores do Piauí - PI"},{"code":"2605707","name":"Floresta","state":"PE","label":"Floresta - PE"},{"code":"4107900","name":"Floresta","state":"PR","label":"Floresta - PR"},{"code":"2911006","name":"Floresta Azul","state":"BA","label":"Floresta Azul - BA"},{"code":"1503044","name":"Floresta do Araguaia","state":"PA","label":"Floresta do Araguaia - PA"},{"code":"2203859","name":"Floresta do Piauí","state":"PI","label":"Floresta do Piauí - PI"},{"code":"3126000","name":"Florestal","state":"MG","label":"Florestal - MG"},{"code":"4108007","name":"Florestópolis","state":"PR","label":"Florestópolis - PR"},{"code":"2203909","name":"Floriano","state":"PI","label":"Floriano - PI"},{"code":"4308250","name":"Floriano Peixoto","state":"RS","label":"Floriano Peixoto - RS"},{"code":"4205407","name":"Florianópolis","state":"SC","label":"Florianópolis - SC"},{"code":"4108106","name":"Flórida","state":"PR","label":"Flórida - PR"},{"code":"3516002","name":"Flórida Paulista","state":"SP","label":"Flórida Paulista - SP"},{"code":"3516101","name":"Florínea","state":"SP","label":"Florínea - SP"},{"code":"1301605","name":"Fonte Boa","state":"AM","label":"Fonte Boa - AM"},{"code":"4308300","name":"Fontoura Xavier","state":"RS","label":"Fontoura Xavier - RS"},{"code":"3126109","name":"Formiga","state":"MG","label":"Formiga - MG"},{"code":"4308409","name":"Formigueiro","state":"RS","label":"Formigueiro - RS"},{"code":"5208004","name":"Formosa","state":"GO","label":"Formosa - GO"},{"code":"2104099","name":"Formosa da Serra Negra","state":"MA","label":"Formosa da Serra Negra - MA"},{"code":"4108205","name":"Formosa do Oeste","state":"PR","label":"Formosa do Oeste - PR"},{"code":"2911105","name":"Formosa do Rio Preto","state":"BA","label":"Formosa do Rio Preto - BA"},{"code":"4205431","name":"Formosa do Sul","state":"SC","label":"Formosa do Sul - SC"},{"code":"5208103","name":"Formoso","state":"GO","label":"Formoso - GO"},{"code":"3126208","name":"Formoso","state":"MG","label":"Formoso - MG"},{"code":"1708205","name":"Formoso do Araguaia","state":"TO","label":"Formoso do Araguaia - TO"},{"code":"4308433","name":"Forquetinha","state":"RS","label":"Forquetinha - RS"},{"code":"2304350","name":"Forquilha","state":"CE","label":"Forquilha - CE"},{"code":"4205456","name":"Forquilhinha","state":"SC","label":"Forquilhinha - SC"},{"code":"2304400","name":"Fortaleza","state":"CE","label":"Fortaleza - CE"},{"code":"3126307","name":"Fortaleza de Minas","state":"MG","label":"Fortaleza de Minas - MG"},{"code":"2104107","name":"Fortaleza dos Nogueiras","state":"MA","label":"Fortaleza dos Nogueiras - MA"},{"code":"4308458","name":"Fortaleza dos Valos","state":"RS","label":"Fortaleza dos Valos - RS"},{"code":"2304459","name":"Fortim","state":"CE","label":"Fortim - CE"},{"code":"2104206","name":"Fortuna","state":"MA","label":"Fortuna - MA"},{"code":"3126406","name":"Fortuna de Minas","state":"MG","label":"Fortuna de Minas - MG"},{"code":"4108304","name":"Foz do Iguaçu","state":"PR","label":"Foz do Iguaçu - PR"},{"code":"4108452","name":"Foz do Jordão","state":"PR","label":"Foz do Jordão - PR"},{"code":"4205506","name":"Fraiburgo","state":"SC","label":"Fraiburgo - SC"},{"code":"3516200","name":"Franca","state":"SP","label":"Franca - SP"},{"code":"2204006","name":"Francinópolis","state":"PI","label":"Francinópolis - PI"},{"code":"4108320","name":"Francisco Alves","state":"PR","label":"Francisco Alves - PR"},{"code":"2204105","name":"Francisco Ayres","state":"PI","label":"Francisco Ayres - PI"},{"code":"3126505","name":"Francisco Badaró","state":"MG","label":"Francisco Badaró - MG"},{"code":"4108403","name":"Francisco Beltrão","state":"PR","label":"Francisco Beltrão - PR"},{"code":"2403905","name":"Francisco Dantas","state":"RN","label":"Francisco Dantas - RN"},{"code":"3126604","name":"Francisco Dumont","state":"MG","label":"Francisco Dumont - MG"},{"code":"2204154","name":"Francisco Macedo","state":"PI","label":"Francisco Macedo - PI"},{"code":"3516309","name":"Francisco Morato","state":"SP","label":"Francisco Morato - SP"},{"code":"3126703","name":"Francisco Sá","state":"MG","label":"Francisco Sá - MG"},{"code":"2204204","name":"Francisco Santos","state":"PI","label":"Francisco Santos - PI"},{"code":"3126752","name":"Franciscópolis","state":"MG","label":"Franciscópolis - MG"},{"code":"3516408","name":"Franco da Rocha","state":"SP","label":"Franco da Rocha - SP"},{"code":"2304509","name":"Frecheirinha","state":"CE","label":"Frecheirinha - CE"},{"code":"4308508","name":"Frederico Westphalen","state":"RS","label":"Frederico Westphalen - RS"},{"code":"3126802","name":"Frei Gaspar","state":"MG","label":"Frei Gaspar - MG"},{"code":"3126901","name":"Frei Inocêncio","state":"MG","label":"Frei Inocêncio - MG"},{"code":"3126950","name":"Frei Lagonegro","state":"MG","label":"Frei Lagonegro - MG"},{"code":"2506202","name":"Frei Martinho","state":"PB","label":"Frei Martinho - PB"},{"code":"2605806","name":"Frei Miguelinho","state":"PE","label":"Frei Miguelinho - PE"},{"code":"2802304","name":"Frei Paulo","state":"SE","label":"Frei Paulo - SE"},{"code":"4205555","name":"Frei Rogério","state":"SC","label":"Frei Rogério - SC"},{"code":"3127008","name":"Fronteira","state":"MG","label":"Fronteira - MG"},{"code":"3127057","name":"Fronteira dos Vales","state":"MG","label":"Fronteira dos Vales - MG"},{"code":"2204303","name":"Fronteiras","state":"PI","label":"Fronteiras - PI"},{"code":"3127073","name":"Fruta de Leite","state":"MG","label":"Fruta de Leite - MG"},{"code":"3127107","name":"Frutal","state":"MG","label":"Frutal - MG"},{"code":"2404002","name":"Frutuoso Gomes","state":"RN","label":"Frutuoso Gomes - RN"},{"code":"3202207","name":"Fundão","state":"ES","label":"Fundão - ES"},{"code":"3127206","name":"Funilândia","state":"MG","label":"Funilândia - MG"},{"code":"3516507","name":"Gabriel Monteiro","state":"SP","label":"Gabriel Monteiro - SP"},{"code":"2506251","name":"Gado Bravo","state":"PB","label":"Gado Bravo - PB"},{"code":"3516606","name":"Gália","state":"SP","label":"Gália - SP"},{"code":"3127305","name":"Galiléia","state":"MG","label":"Galiléia - MG"},{"code":"2404101","name":"Galinhos","state":"RN","label":"Galinhos - RN"},{"code":"4205605","name":"Galvão","state":"SC","label":"Galvão - SC"},{"code":"2605905","name":"Gameleira","state":"PE","label":"Gameleira - PE"},{"code":"5208152","name":"Gameleira de Goiás","state":"GO","label":"Gameleira de Goiás - GO"},{"code":"3127339","name":"Gameleiras","state":"MG","label":"Gameleiras - MG"},{"code":"2911204","name":"Gandu","state":"BA","label":"Gandu - BA"},{"code":"2606002","name":"Garanhuns","state":"PE","label":"Garanhuns - PE"},{"code":"2802403","name":"Gararu","state":"SE","label":"Gararu - SE"},{"code":"3516705","name":"Garça","state":"SP","label":"Garça - SP"},{"code":"4308607","name":"Garibaldi","state":"RS","label":"Garibaldi - RS"},{"code":"4205704","name":"Garopaba","state":"SC","label":"Garopaba - SC"},{"code":"1503077","name":"Garrafão do Norte","state":"PA","label":"Garrafão do Norte - PA"},{"code":"4308656","name":"Garruchos","state":"RS","label":"Garruchos - RS"},{"code":"4205803","name":"Garuva","state":"SC","label":"Garuva - SC"},{"code":"4205902","name":"Gaspar","state":"SC","label":"Gaspar - SC"},{"code":"3516804","name":"Gastão Vidigal","state":"SP","label":"Gastão Vidigal - SP"},{"code":"5103858","name":"Gaúcha do Norte","state":"MT","label":"Gaúcha do Norte - MT"},{"code":"4308706","name":"Gaurama","state":"RS","label":"Gaurama - RS"},{"code":"2911253","name":"Gavião","state":"BA","label":"Gavião - BA"},{"code":"3516853","name":"Gavião Peixoto","state":"SP","label":"Gavião Peixoto - SP"},{"code":"2204352","name":"Geminiano","state":"PI","label":"Geminiano - PI"},{"code":"4308805","name":"General Câmara","state":"RS","label":"General Câmara - RS"},{"code":"5103908","name":"General Carneiro","state":"MT","label":"General Carneiro - MT"},{"code":"4108502","name":"General Carneiro","state":"PR","label":"General Carneiro - PR"},{"code":"2802502","name":"General Maynard","state":"SE","label":"General Maynard - SE"},{"code":"3516903","name":"General Salgado","state":"SP","label":"General Salgado - SP"},{"code":"2304608","name":"General Sampaio","state":"CE","label":"General Sampaio - CE"},{"code":"4308854","name":"Gentil","state":"RS","label":"Gentil - RS"},{"code":"2911303","name":"Gentio do Ouro","state":"BA","label":"Gentio do Ouro - BA"},{"code":"3517000","name":"Getulina","state":"SP","label":"Getulina - SP"},{"code":"4308904","name":"Getúlio Vargas","state":"RS","label":"Getúlio Vargas - RS"},{"code":"2204402","name":"Gilbués","state":"PI","label":"Gilbués - PI"},{"code":"2702900","name":"Girau do Ponciano","state":"AL","label":"Girau do Ponciano - AL"},{"code":"4309001","name":"Giruá","state":"RS","label":"Giruá - RS"},{"code":"3127354","name":"Glaucilândia","state":"MG","label":"Glaucilândia - MG"},{"code":"3517109","name":"Glicério","state":"SP","label":"Glicério - SP"},{"code":"2911402","name":"Glória","state":"BA","label":"Glória - BA"},{"code":"5004007","name":"Glória de Dourados","state":"MS","label":"Glória de Dourados - MS"},{"code":"2606101","name":"Glória do Goitá","state":"PE","label":"Glória do Goitá - PE"},{"code":"5103957","name":"Glória D\u0027Oeste","state":"MT","label":"Glória D\u0027Oeste - MT"},{"code":"4309050","name":"Glorinha","state":"RS","label":"Glorinha - RS"},{"code":"2104305","name":"Godofredo Viana","state":"MA","label":"Godofredo Viana - MA"},{"code":"4108551","name":"Godoy Moreira","state":"PR","label":"Godoy Moreira - PR"},{"code":"3127370","name":"Goiabeira","state":"MG","label":"Goiabeira - MG"},{"code":"2606200","name":"Goiana","state":"PE","label":"Goiana - PE"},{"code":"3127388","name":"Goianá","state":"MG","label":"Goianá - MG"},{"code":"5208400","name":"Goianápolis","state":"GO","label":"Goianápolis - GO"},{"code":"5208509","name":"Goiandira","state":"GO","label":"Goiandira - GO"},{"code":"5208608","name":"Goianésia","state":"GO","label":"Goianésia - GO"},{"code":"1503093","name":"Goianésia do Pará","state":"PA","label":"Goianésia do Pará - PA"},{"code":"5208707","name":"Goiânia","state":"GO","label":"Goiânia - GO"},{"code":"2404200","name":"Goianinha","state":"RN","label":"Goianinha - RN"},{"code":"5208806","name":"Goianira","state":"GO","label":"Goianira - GO"},{"code":"1708304","name":"Goianorte","state":"TO","label":"Goianorte - TO"},{"code":"5208905","name":"Goiás","state":"GO","label":"Goiás - GO"},{"code":"1709005","name":"Goiatins","state":"TO","label":"Goiatins - TO"},{"code":"5209101","name":"Goiatuba","state":"GO","label":"Goiatuba - GO"},{"code":"4108601","name":"Goioerê","state":"PR","label":"Goioerê - PR"},{"code":"4108650","name":"Goioxim","state":"PR","label":"Goioxim - PR"},{"code":"3127404","name":"Gonçalves","state":"MG","label":"Gonçalves - MG"},{"code":"2104404","name":"Gonçalves Dias","state":"MA","label":"Gonçalves Dias - MA"},{"code":"2911501","name":"Gongogi","state":"BA","label":"Gongogi - BA"},{"code":"3127503","name":"Gonzaga","state":"MG","label":"Gonzaga - MG"},{"code":"3127602","name":"Gouveia","state":"MG","label":"Gouveia - MG"},{"code":"5209150","name":"Gouvelândia","state":"GO","label":"Gouvelândia - GO"},{"code":"2104503","name":"Governador Archer","state":"MA","label":"Governador Archer - MA"},{"code":"4206009","name":"Governador Celso Ramos","state":"SC","label":"Governador Celso Ramos - SC"},{"code":"2404309","name":"Governador Dix-Sept Rosado","state":"RN","label":"Governador Dix-Sept Rosado - RN"},{"code":"2104552","name":"Governador Edison Lobão","state":"MA","label":"Governador Edison Lobão - MA"},{"code":"2104602","name":"Governador Eugênio Barros","state":"MA","label":"Governador Eugênio Barros - MA"},{"code":"1101005","name":"Governador Jorge Teixeira","state":"RO","label":"Governador Jorge Teixeira - RO"},{"code":"3202256","name":"Governador Lindenberg","state":"ES","label":"Governador Lindenberg - ES"},{"code":"2104628","name":"Governador Luiz Rocha","state":"MA","label":"Governador Luiz Rocha - MA"},{"code":"2911600","name":"Governador Mangabeira","state":"BA","label":"Governador Mangabeira - BA"},{"code":"2104651","name":"Governador Newton Bello","state":"MA","label":"Governador Newton Bello - MA"},{"code":"2104677","name":"Governador Nunes Freire","state":"MA","label":"Governador Nunes Freire - MA"},{"code":"3127701","name":"Governador Valadares","state":"MG","label":"Governador Valadares - MG"},{"code":"2304657","name":"Graça","state":"CE","label":"Graça - CE"},{"code":"2104701","name":"Graça Aranha","state":"MA","label":"Graça Aranha - MA"},{"code":"2802601","name":"Graccho Cardoso","state":"SE","label":"Graccho Cardoso - SE"},{"code":"2104800","name":"Grajaú","state":"MA","label":"Grajaú - MA"},{"code":"4309100","name":"Gramado","state":"RS","label":"Gramado - RS"},{"code":"4309126","name":"Gramado dos Loureiros","state":"RS","label":"Gramado dos Loureiros - RS"},{"code":"4309159","name":"Gramado Xavier","state":"RS","label":"Gramado Xavier - RS"},{"code":"4108700","name":"Grandes Rios","state":"PR","label":"Grandes Rios - PR"},{"code":"2606309","name":"Granito","state":"PE","label":"Granito - PE"},{"code":"2304707","name":"Granja","state":"CE","label":"Granja - CE"},{"code":"2304806","name":"Granjeiro","state":"CE","label":"Granjeiro - CE"},{"code":"3127800","name":"Grão Mogol","state":"MG","label":"Grão Mogol - MG"},{"code":"4206108","name":"Grão-Pará","state":"SC","label":"Grão-Pará - SC"},{"code":"2606408","name":"Gravatá","state":"PE","label":"Gravatá - PE"},{"code":"4309209","name":"Gravataí","state":"RS","label":"Gravataí - RS"},{"code":"4206207","name":"Gravatal","state":"SC","label":"Gravatal - SC"},{"code":"2304905","name":"Groaíras","state":"CE","label":"Groaíras - CE"},{"code":"2404408","name":"Grossos","state":"RN","label":"Grossos - RN"},{"code":"3127909","name":"Grupiara","state":"MG","label":"Grupiara - MG"},{"code":"4309258","name":"Guabiju","state":"RS","label":"Guabiju - RS"},{"code":"4206306","name":"Guabiruba","state":"SC","label":"Guabiruba - SC"},{"code":"3202306","name":"Guaçuí","state":"ES","label":"Guaçuí - ES"},{"code":"2204501","name":"Guadalupe","state":"PI","label":"Guadalupe - PI"},{"code":"4309308","name":"Guaíba","state":"RS","label":"Guaíba - RS"},{"code":"3517208","name":"Guaiçara","state":"SP","label":"Guaiçara - SP"},{"code":"3517307","name":"Guaimbê","state":"SP","label":"Guaimbê - SP"},{"code":"3517406","name":"Guaíra","state":"SP","label":"Guaíra - SP"},{"code":"4108809","name":"Guaíra","state":"PR","label":"Guaíra - PR"},{"code":"4108908","name":"Guairaçá","state":"PR","label":"Guairaçá - PR"},{"code":"2304954","name":"Guaiúba","state":"CE","label":"Guaiúba - CE"},{"code":"1301654","name":"Guajará","state":"AM","label":"Guajará - AM"},{"code":"1100106","name":"Guajará-Mirim","state":"RO","label":"Guajará-Mirim - RO"},{"code":"2911659","name":"Guajeru","state":"BA","label":"Guajeru - BA"},{"code":"2404507","name":"Guamaré","state":"RN","label":"Guamaré - RN"},{"code":"4108957","name":"Guamiranga","state":"PR","label":"Guamiranga - PR"},{"code":"2911709","name":"Guanambi","state":"BA","label":"Guanambi - BA"},{"code":"3128006","name":"Guanhães","state":"MG","label":"Guanhães - MG"},{"code":"3128105","name":"Guapé","state":"MG","label":"Guapé - MG"},{"code":"3517505","name":"Guapiaçu","state":"SP","label":"Guapiaçu - SP"},{"code":"3517604","name":"Guapiara","state":"SP","label":"Guapiara - SP"},{"code":"3301850","name":"Guapimirim","state":"RJ","label":"Guapimirim - RJ"},{"code":"4109005","name":"Guapirama","state":"PR","label":"Guapirama - PR"},{"code":"5209200","name":"Guapó","state":"GO","label":"Guapó - GO"},{"code":"4309407","name":"Guaporé","state":"RS","label":"Guaporé - RS"},{"code":"4109104","name":"Guaporema","state":"PR","label":"Guaporema - PR"},{"code":"3517703","name":"Guará","state":"SP","label":"Guará - SP"},{"code":"2506301","name":"Guarabira","state":"PB","label":"Guarabira - PB"},{"code":"3517802","name":"Guaraçaí","state":"SP","label":"Guaraçaí - SP"},{"code":"3517901","name":"Guaraci","state":"SP","label":"Guaraci - SP"},{"code":"4109203","name":"Guaraci","state":"PR","label":"Guaraci - PR"},{"code":"4206405","name":"Guaraciaba","state":"SC","label":"Guaraciaba - SC"},{"code":"3128204","name":"Guaraciaba","state":"MG","label":"Guaraciaba - MG"},{"code":"2305001","name":"Guaraciaba do Norte","state":"CE","label":"Guaraciaba do Norte - CE"},{"code":"3128253","name":"Guaraciama","state":"MG","label":"Guaraciama - MG"},{"code":"1709302","name":"Guaraí","state":"TO","label":"Guaraí - TO"},{"code":"5209291","name":"Guaraíta","state":"GO","label":"Guaraíta - GO"},{"code":"2305100","name":"Guaramiranga","state":"CE","label":"Guaramiranga - CE"},{"code":"4206504","name":"Guaramirim","state":"SC","label":"Guaramirim - SC"},{"code":"3128303","name":"Guaranésia","state":"MG","label":"Guaranésia - MG"},{"code":"3128402","name":"Guarani","state":"MG","label":"Guarani - MG"},{"code":"4309506","name":"Guarani das Missões","state":"RS","label":"Guarani das Missões - RS"},{"code":"5209408","name":"Guarani de Goiás","state":"GO","label":"Guarani de Goiás - GO"},{"code":"3518008","name":"Guarani d\u0027Oeste","state":"SP","label":"Guarani d\u0027Oeste - SP"},{"code":"4109302","name":"Guaraniaçu","state":"PR","label":"Guaraniaçu - PR"},{"code":"3518107","name":"Guarantã","state":"SP","label":"Guarantã - SP"},{"code":"5104104","name":"Guarantã do Norte","state":"MT","label":"Guarantã do Norte - MT"},{"code":"3202405","name":"Guarapari","state":"ES","label":"Guarapari - ES"},{"code":"4109401","name":"Guarapuava","state":"PR","label":"Guarapuava - PR"},{"code":"4109500","name":"Guaraqueçaba","state":"PR","label":"Guaraqueçaba - PR"},{"code":"3128501","name":"Guarará","state":"MG","label":"Guarará - MG"},{"code":"3518206","name":"Guararapes","state":"SP","label":"Guararapes - SP"},{"code":"3518305","name":"Guararema","state":"SP","label":"Guararema - SP"},{"code":"2911808","name":"Guaratinga","state":"BA","label":"Guaratinga - BA"},{"code":"3518404","name":"Guaratinguetá","state":"SP","label":"Guaratinguetá - SP"},{"code":"4109609","name":"Guaratuba","state":"PR","label":"Guaratuba - PR"},{"code":"3128600","name":"Guarda-Mor","state":"MG","label":"Guarda-Mor - MG"},{"code":"3518503","name":"Guareí","state":"SP","label":"Guareí - SP"},{"code":"3518602","name":"Guariba","state":"SP","label":"Guariba - SP"},{"code":"2204550","name":"Guaribas","state":"PI","label":"Guaribas - PI"},{"code":"5209457","name":"Guarinos","state":"GO","label":"Guarinos - GO"},{"code":"3518701","name":"Guarujá","state":"SP","label":"Guarujá - SP"},{"code":"4206603","name":"Guarujá do Sul","state":"SC","label":"Guarujá do Sul - SC"},{"code":"3518800","name":"Guarulhos","state":"SP","label":"Guarulhos - SP"},{"code":"4206652","name":"Guatambú","state":"SC","label":"Guatambú - SC"},{"code":"3518859","name":"Guatapará","state":"SP","label":"Guatapará - SP"},{"code":"3128709","name":"Guaxupé","state":"MG","label":"Guaxupé - MG"},{"code":"5004106","name":"Guia Lopes da Laguna","state":"MS","label":"Guia Lopes da Laguna - MS"},{"code":"3128808","name":"Guidoval","state":"MG","label":"Guidoval - MG"},{"code":"2104909","name":"Guimarães","state":"MA","label":"Guimarães - MA"},{"code":"3128907","name":"Guimarânia","state":"MG","label":"Guimarânia - MG"},{"code":"5104203","name":"Guiratinga","state":"MT","label":"Guiratinga - MT"},{"code":"3129004","name":"Guiricema","state":"MG","label":"Guiricema - MG"},{"code":"3129103","name":"Gurinhatã","state":"MG","label":"Gurinhatã - MG"},{"code":"2506400","name":"Gurinhém","state":"PB","label":"Gurinhém - PB"},{"code":"2506509","name":"Gurjão","state":"PB","label":"Gurjão - PB"},{"code":"1503101","name":"Gurupá","state":"PA","label":"Gurupá - PA"},{"code":"1709500","name":"Gurupi","state":"TO","label":"Gurupi - TO"},{"code":"3518909","name":"Guzolândia","state":"SP","label":"Guzolândia - SP"},{"code":"4309555","name":"Harmonia","state":"RS","label":"Harmonia - RS"},{"code":"5209606","name":"Heitoraí","state":"GO","label":"Heitoraí - GO"},{"code":"3129202","name":"Heliodora","state":"MG","label":"Heliodora - MG"},{"code":"2911857","name":"Heliópolis","state":"BA","label":"Heliópolis - BA"},{"code":"3519006","name":"Herculândia","state":"SP","label":"Herculândia - SP"},{"code":"4307104","name":"Herval","state":"RS","label":"Herval - RS"},{"code":"4206702","name":"Herval d\u0027Oeste","state":"SC","label":"Herval d\u0027Oeste - SC"},{"code":"4309571","name":"Herveiras","state":"RS","label":"Herveiras - RS"},{"code":"5209705","name":"Hidrolândia","state":"GO","label":"Hidrolândia - GO"},{"code":"2305209","name":"Hidrolândia","state":"CE","label":"Hidrolândia - CE"},{"code":"5209804","name":"Hidrolina","state":"GO","label":"Hidrolina - GO"},{"code":"3519055","name":"Holambra","state":"SP","label":"Holambra - SP"},{"code":"4109658","name":"Honório Serpa","state":"PR","label":"Honório Serpa - PR"},{"code":"2305233","name":"Horizonte","state":"CE","label":"Horizonte - CE"},{"code":"4309605","name":"Horizontina","state":"RS","label":"Horizontina - RS"},{"code":"3519071","name":"Hortolândia","state":"SP","label":"Hortolândia - SP"},{"code":"2204600","name":"Hugo Napoleão","state":"PI","label":"Hugo Napoleão - PI"},{"code":"4309654","name":"Hulha Negra","state":"RS","label":"Hulha Negra - RS"},{"code":"4309704","name":"Humaitá","state":"RS","label":"Humaitá - RS"},{"code":"1301704","name":"Humaitá","state":"AM","label":"Humaitá - AM"},{"code":"2105005","name":"Humberto de Campos","state":"MA","label":"Humberto de Campos - MA"},{"code":"3519105","name":"Iacanga","state":"SP","label":"Iacanga - SP"},{"code":"5209903","name":"Iaciara","state":"GO","label":"Iaciara - GO"},{"code":"3519204","name":"Iacri","state":"SP","label":"Iacri - SP"},{"code":"2911907","name":"Iaçu","state":"BA","label":"Iaçu - BA"},{"code":"3129301","name":"Iapu","state":"MG","label":"Iapu - MG"},{"code":"3519253","name":"Iaras","state":"SP","label":"Iaras - SP"},{"code":"2606507","name":"Iati","state":"PE","label":"Iati - PE"},{"code":"4109708","name":"Ibaiti","state":"PR","label":"Ibaiti - PR"},{"code":"4309753","name":"Ibarama","state":"RS","label":"Ibarama - RS"},{"code":"2305266","name":"Ibaretama","state":"CE","label":"Ibaretama - CE"},{"code":"3519303","name":"Ibaté","state":"SP","label":"Ibaté - SP"},{"code":"2703007","name":"Ibateguara","state":"AL","label":"Ibateguara - AL"},{"code":"3202454","name":"Ibatiba","state":"ES","label":"Ibatiba - ES"},{"code":"4109757","name":"Ibema","state":"PR","label":"Ibema - PR"},{"code":"3129400","name":"Ibertioga","state":"MG","label":"Ibertioga - MG"},{"code":"3129509","name":"Ibiá","state":"MG","label":"Ibiá - MG"},{"code":"4309803","name":"Ibiaçá","state":"RS","label":"Ibiaçá - RS"},{"code":"3129608","name":"Ibiaí","state":"MG","label":"Ibiaí - MG"},{"code":"4206751","name":"Ibiam","state":"SC","label":"Ibiam - SC"},{"code":"2305308","name":"Ibiapina","state":"CE","label":"Ibiapina - CE"},{"code":"2506608","name":"Ibiara","state":"PB","label":"Ibiara - PB"},{"code":"2912004","name":"Ibiassucê","state":"BA","label":"Ibiassucê - BA"},{"code":"2912103","name":"Ibicaraí","state":"BA","label":"Ibicaraí - BA"},{"code":"4206801","name":"Ibicaré","state":"SC","label":"Ibicaré - SC"},{"code":"2912202","name":"Ibicoara","state":"BA","label":"Ibicoara - BA"},{"code":"2912301","name":"Ibicuí","state":"BA","label":"Ibicuí - BA"},{"code":"2305332","name":"Ibicuitinga","state":"CE","label":"Ibicuitinga - CE"},{"code":"2606606","name":"Ibimirim","state":"PE","label":"Ibimirim - PE"},{"code":"2912400","name":"Ibipeba","state":"BA","label":"Ibipeba - BA"},{"code":"2912509","name":"Ibipitanga","state":"BA","label":"Ibipitanga - BA"},{"code":"4109807","name":"Ibiporã","state":"PR","label":"Ibiporã - PR"},{"code":"2912608","name":"Ibiquera","state":"BA","label":"Ibiquera - BA"},{"code":"3519402","name":"Ibirá","state":"SP","label":"Ibirá - SP"},{"code":"3129657","name":"Ibiracatu","state":"MG","label":"Ibiracatu - MG"},{"code":"3129707","name":"Ibiraci","state":"MG","label":"Ibiraci - MG"},{"code":"3202504","name":"Ibiraçu","state":"ES","label":"Ibiraçu - ES"},{"code":"4309902","name":"Ibiraiaras","state":"RS","label":"Ibiraiaras - RS"},{"code":"2606705","name":"Ibirajuba","state":"PE","label":"Ibirajuba - PE"},{"code":"4206900","name":"Ibirama","state":"SC","label":"Ibirama - SC"},{"code":"2912707","name":"Ibirapitanga","state":"BA","label":"Ibirapitanga - BA"},{"code":"2912806","name":"Ibirapuã","state":"BA","label":"Ibirapuã - BA"},{"code":"4309951","name":"Ibirapuitã","state":"RS","label":"Ibirapuitã - RS"},{"code":"3519501","name":"Ibirarema","state":"SP","label":"Ibirarema - SP"},{"code":"2912905","name":"Ibirataia","state":"BA","label":"Ibirataia - BA"},{"code":"3129806","name":"Ibirité","state":"MG","label":"Ibirité - MG"},{"code":"4310009","name":"Ibirubá","state":"RS","label":"Ibirubá - RS"},{"code":"2913002","name":"Ibitiara","state":"BA","label":"Ibitiara - BA"},{"code":"3519600","name":"Ibitinga","state":"SP","label":"Ibitinga - SP"},{"code":"3202553","name":"Ibitirama","state":"ES","label":"Ibitirama - ES"},{"code":"2913101","name":"Ibititá","state":"BA","label":"Ibititá - BA"},{"code":"3129905","name":"Ibitiúra de Minas","state":"MG","label":"Ibitiúra de Minas - MG"},{"code":"3130002","name":"Ibituruna","state":"MG","label":"Ibituruna - MG"},{"code":"3519709","name":"Ibiúna","state":"SP","label":"Ibiúna - SP"},{"code":"2913200","name":"Ibotirama","state":"BA","label":"Ibotirama - BA"},{"code":"2305357","name":"Icapuí","state":"CE","label":"Icapuí - CE"},{"code":"4207007","name":"Içara","state":"SC","label":"Içara - SC"},{"code":"3130051","name":"Icaraí de Minas","state":"MG","label":"Icaraí de Minas - MG"},{"code":"4109906","name":"Icaraíma","state":"PR","label":"Icaraíma - PR"},{"code":"2105104","name":"Icatu","state":"MA","label":"Icatu - MA"},{"code":"3519808","name":"Icém","state":"SP","label":"Icém - SP"},{"code":"2913309","name":"Ichu","state":"BA","label":"Ichu - BA"},{"code":"2305407","name":"Icó","state":"CE","label":"Icó - CE"},{"code":"3202603","name":"Iconha","state":"ES","label":"Iconha - ES"},{"code":"2404606","name":"Ielmo Marinho","state":"RN","label":"Ielmo Marinho - RN"},{"code":"3519907","name":"Iepê","state":"SP","label":"Iepê - SP"},{"code":"2703106","name":"Igaci","state":"AL","label":"Igaci - AL"},{"code":"2913408","name":"Igaporã","state":"BA","label":"Igaporã - BA"},{"code":"3520004","name":"Igaraçu do Tietê","state":"SP","label":"Igaraçu do Tietê - SP"},{"code":"2502607","name":"Igaracy","state":"PB","label":"Igaracy - PB"},{"code":"3520103","name":"Igarapava","state":"SP","label":"Igarapava - SP"},{"code":"3130101","name":"Igarapé","state":"MG","label":"Igarapé - MG"},{"code":"2105153","name":"Igarapé do Meio","state":"MA","label":"Igarapé do Meio - MA"},{"code":"2105203","name":"Igarapé Grande","state":"MA","label":"Igarapé Grande - MA"},{"code":"1503200","name":"Igarapé-Açu","state":"PA","label":"Igarapé-Açu - PA"},{"code":"1503309","name":"Igarapé-Miri","state":"PA","label":"Igarapé-Miri - PA"},{"code":"2606804","name":"Igarassu","state":"PE","label":"Igarassu - PE"},{"code":"3520202","name":"Igaratá","state":"SP","label":"Igaratá - SP"},{"code":"3130200","name":"Igaratinga","state":"MG","label":"Igaratinga - MG"},{"code":"2913457","name":"Igrapiúna","state":"BA","label":"Igrapiúna - BA"},{"code":"2703205","name":"Igreja Nova","state":"AL","label":"Igreja Nova - AL"},{"code":"4310108","name":"Igrejinha","state":"RS","label":"Igrejinha - RS"},{"code":"3301876","name":"Iguaba Grande","state":"RJ","label":"Iguaba Grande - RJ"},{"code":"2913507","name":"Iguaí","state":"BA","label":"Iguaí - BA"},{"code":"3520301","name":"Iguape","state":"SP","label":"Iguape - SP"},{"code":"4110003","name":"Iguaraçu","state":"PR","label":"Iguaraçu - PR"},{"code":"2606903","name":"Iguaracy","state":"PE","label":"Iguaracy - PE"},{"code":"3130309","name":"Iguatama","state":"MG","label":"Iguatama - MG"},{"code":"5004304","name":"Iguatemi","state":"MS","label":"Iguatemi - MS"},{"code":"4110052","name":"Iguatu","state":"PR","label":"Iguatu - PR"},{"code":"2305506","name":"Iguatu","state":"CE","label":"Iguatu - CE"},{"code":"3130408","name":"Ijaci","state":"MG","label":"Ijaci - MG"},{"code":"4310207","name":"Ijuí","state":"RS","label":"Ijuí - RS"},{"code":"3520426","name":"Ilha Comprida","state":"SP","label":"Ilha Comprida - SP"},{"code":"2802700","name":"Ilha das Flores","state":"SE","label":"Ilha das Flores - SE"},{"code":"2607604","name":"Ilha de Itamaracá","state":"PE","label":"Ilha de Itamaracá - PE"},{"code":"2204659","name":"Ilha Grande","state":"PI","label":"Ilha Grande - PI"},{"code":"3520442","name":"Ilha Solteira","state":"SP","label":"Ilha Solteira - SP"},{"code":"3520400","name":"Ilhabela","state":"SP","label":"Ilhabela - SP"},{"code":"2913606","name":"Ilhéus","state":"BA","label":"Ilhéus - BA"},{"code":"4207106","name":"Ilhota","state":"SC","label":"Ilhota - SC"},{"code":"3130507","name":"Ilicínea","state":"MG","label":"Ilicínea - MG"},{"code":"4310306","name":"Ilópolis","state":"RS","label":"Ilópolis - RS"},{"code":"2506707","name":"Imaculada","state":"PB","label":"Imaculada - PB"},{"code":"4207205","name":"Imaruí","state":"SC","label":"Imaruí - SC"},{"code":"4110078","name":"Imbaú","state":"PR","label":"Imbaú - PR"},{"code":"4310330","name":"Imbé","state":"RS","label":"Imbé - RS"},{"code":"3130556","name":"Imbé de Minas","state":"MG","label":"Imbé de Minas - MG"},{"code":"4207304","name":"Imbituba","state":"SC","label":"Imbituba - SC"},{"code":"4110102","name":"Imbituva","state":"PR","label":"Imbituva - PR"},{"code":"4207403","name":"Imbuia","state":"SC","label":"Imbuia - SC"},{"code":"4310363","name":"Imigrante","state":"RS","label":"Imigrante - RS"},{"code":"2105302","name":"Imperatriz","state":"MA","label":"Imperatriz - MA"},{"code":"4110201","name":"Inácio Martins","state":"PR","label":"Inácio Martins - PR"},{"code":"5209937","name":"Inaciolândia","state":"GO","label":"Inaciolândia - GO"},{"code":"4110300","name":"Inajá","state":"PR","label":"Inajá - PR"},{"code":"2607000","name":"Inajá","state":"PE","label":"Inajá - PE"},{"code":"3130606","name":"Inconfidentes","state":"MG","label":"Inconfidentes - MG"},{"code":"3130655","name":"Indaiabira","state":"MG","label":"Indaiabira - MG"},{"code":"4207502","name":"Indaial","state":"SC","label":"Indaial - SC"},{"code":"3520509","name":"Indaiatuba","state":"SP","label":"Indaiatuba - SP"},{"code":"4310405","name":"Independência","state":"RS","label":"Independência - RS"},{"code":"2305605","name":"Independência","state":"CE","label":"Independência - CE"},{"code":"3520608","name":"Indiana","state":"SP","label":"Indiana - SP"},{"code":"4110409","name":"Indianópolis","state":"PR","label":"Indianópolis - PR"},{"code":"3130705","name":"Indianópolis","state":"MG","label":"Indianópolis - MG"},{"code":"3520707","name":"Indiaporã","state":"SP","label":"Indiaporã - SP"},{"code":"5209952","name":"Indiara","state":"GO","label":"Indiara - GO"},{"code":"2802809","name":"Indiaroba","state":"SE","label":"Indiaroba - SE"},{"code":"5104500","name":"Indiavaí","state":"MT","label":"Indiavaí - MT"},{"code":"2506806","name":"Ingá","state":"PB","label":"Ingá - PB"},{"code":"3130804","name":"Ingaí","state":"MG","label":"Ingaí - MG"},{"code":"2607109","name":"Ingazeira","state":"PE","label":"Ingazeira - PE"},{"code":"4310413","name":"Inhacorá","state":"RS","label":"Inhacorá - RS"},{"code":"2913705","name":"Inhambupe","state":"BA","label":"Inhambupe - BA"},{"code":"1503408","name":"Inhangapi","state":"PA","label":"Inhangapi - PA"},{"code":"2703304","name":"Inhapi","state":"AL","label":"Inhapi - AL"},{"code":"3130903","name":"Inhapim","state":"MG","label":"Inhapim - MG"},{"code":"3131000","name":"Inhaúma","state":"MG","label":"Inhaúma - MG"},{"code":"2204709","name":"Inhuma","state":"PI","label":"Inhuma - PI"},{"code":"5210000","name":"Inhumas","state":"GO","label":"Inhumas - GO"},{"code":"3131109","name":"Inimutaba","state":"MG","label":"Inimutaba - MG"},{"code":"5004403","name":"Inocência","state":"MS","label":"Inocência - MS"},{"code":"3520806","name":"Inúbia Paulista","state":"SP","label":"Inúbia Paulista - SP"},{"code":"4207577","name":"Iomerê","state":"SC","label":"Iomerê - SC"},{"code":"3131158","name":"Ipaba","state":"MG","label":"Ipaba - MG"},{"code":"5210109","name":"Ipameri","state":"GO","label":"Ipameri - GO"},{"code":"3131208","name":"Ipanema","state":"MG","label":"Ipanema - MG"},{"code":"2404705","name":"Ipanguaçu","state":"RN","label":"Ipanguaçu - RN"},{"code":"2305654","name":"Ipaporanga","state":"CE","label":"Ipaporanga - CE"},{"code":"3131307","name":"Ipatinga","state":"MG","label":"Ipatinga - MG"},{"code":"2305704","name":"Ipaumirim","state":"CE","label":"Ipaumirim - CE"},{"code":"3520905","name":"Ipaussu","state":"SP","label":"Ipaussu - SP"},{"code":"4310439","name":"Ipê","state":"RS","label":"Ipê - RS"},{"code":"2913804","name":"Ipecaetá","state":"BA","label":"Ipecaetá - BA"},{"code":"3521002","name":"Iperó","state":"SP","label":"Iperó - SP"},{"code":"3521101","name":"Ipeúna","state":"SP","label":"Ipeúna - SP"},{"code":"3131406","name":"Ipiaçu","state":"MG","label":"Ipiaçu - MG"},{"code":"2913903","name":"Ipiaú","state":"BA","label":"Ipiaú - BA"},{"code":"3521150","name":"Ipiguá","state":"SP","label":"Ipiguá - SP"},{"code":"4207601","name":"Ipira","state":"SC","label":"Ipira - SC"},{"code":"2914000","name":"Ipirá","state":"BA","label":"Ipirá - BA"},{"code":"4110508","name":"Ipiranga","state":"PR","label":"Ipiranga - PR"},{"code":"5210158","name":"Ipiranga de Goiás","state":"GO","label":"Ipiranga de Goiás - GO"},{"code":"5104526","name":"Ipiranga do Norte","state":"MT","label":"Ipiranga do Norte - MT"},{"code":"2204808","name":"Ipiranga do Piauí","state":"PI","label":"Ipiranga do Piauí - PI"},{"code":"4310462","name":"Ipiranga do Sul","state":"RS","label":"Ipiranga do Sul - RS"},{"code":"1301803","name":"Ipixuna","state":"AM","label":"Ipixuna - AM"},{"code":"1503457","name":"Ipixuna do Pará","state":"PA","label":"Ipixuna do Pará - PA"},{"code":"2607208","name":"Ipojuca","state":"PE","label":"Ipojuca - PE"},{"code":"5210208","name":"Iporá","state":"GO","label":"Iporá - GO"},{"code":"4110607","name":"Iporã","state":"PR","label":"Iporã - PR"},{"code":"4207650","name":"Iporã do Oeste","state":"SC","label":"Iporã do Oeste - SC"},{"code":"3521200","name":"Iporanga","state":"SP","label":"Iporanga - SP"},{"code":"2305803","name":"Ipu","state":"CE","label":"Ipu - CE"},{"code":"3521309","name":"Ipuã","state":"SP","label":"Ipuã - SP"},{"code":"4207684","name":"Ipuaçu","state":"SC","label":"Ipuaçu - SC"},{"code":"2607307","name":"Ipubi","state":"PE","label":"Ipubi - PE"},{"code":"2404804","name":"Ipueira","state":"RN","label":"Ipueira - RN"},{"code":"2305902","name":"Ipueiras","state":"CE","label":"Ipueiras - CE"},{"code":"1709807","name":"Ipueiras","state":"TO","label":"Ipueiras - TO"},{"code":"3131505","name":"Ipuiúna","state":"MG","label":"Ipuiúna - MG"},{"code":"4207700","name":"Ipumirim","state":"SC","label":"Ipumirim - SC"},{"code":"2914109","name":"Ipupiara","state":"BA","label":"Ipupiara - BA"},{"code":"1400282","name":"Iracema","state":"RR","label":"Iracema - RR"},{"code":"2306009","name":"Iracema","state":"CE","label":"Iracema - CE"},{"code":"4110656","name":"Iracema do Oeste","state":"PR","label":"Iracema do Oeste - PR"},{"code":"3521408","name":"Iracemápolis","state":"SP","label":"Iracemápolis - SP"},{"code":"4207759","name":"Iraceminha","state":"SC","label":"Iraceminha - SC"},{"code":"4310504","name":"Iraí","state":"RS","label":"Iraí - RS"},{"code":"3131604","name":"Iraí de Minas","state":"MG","label":"Iraí de Minas - MG"},{"code":"2914208","name":"Irajuba","state":"BA","label":"Irajuba - BA"},{"code":"2914307","name":"Iramaia","state":"BA","label":"Iramaia - BA"},{"code":"1301852","name":"Iranduba","state":"AM","label":"Iranduba - AM"},{"code":"4207809","name":"Irani","state":"SC","label":"Irani - SC"},{"code":"3521507","name":"Irapuã","state":"SP","label":"Irapuã - SP"},{"code":"3521606","name":"Irapuru","state":"SP","label":"Irapuru - SP"},{"code":"2914406","name":"Iraquara","state":"BA","label":"Iraquara - BA"},{"code":"2914505","name":"Irará","state":"BA","label":"Irará - BA"},{"code":"4110706","name":"Irati","state":"PR","label":"Irati - PR"},{"code":"4207858","name":"Irati","state":"SC","label":"Irati - SC"},{"code":"2306108","name":"Irauçuba","state":"CE","label":"Irauçuba - CE"},{"code":"2914604","name":"Irecê","state":"BA","label":"Irecê - BA"},{"code":"4110805","name":"Iretama","state":"PR","label":"Iretama - PR"},{"code":"4207908","name":"Irineópolis","state":"SC","label":"Irineópolis - SC"},{"code":"1503507","name":"Irituia","state":"PA","label":"Irituia - PA"},{"code":"3202652","name":"Irupi","state":"ES","label":"Irupi - ES"},{"code":"2204907","name":"Isaías Coelho","state":"PI","label":"Isaías Coelho - PI"},{"code":"5210307","name":"Israelândia","state":"GO","label":"Israelândia - GO"},{"code":"4208005","name":"Itá","state":"SC","label":"Itá - SC"},{"code":"4310538","name":"Itaara","state":"RS","label":"Itaara - RS"},{"code":"2506905","name":"Itabaiana","state":"PB","label":"Itabaiana - PB"},{"code":"2802908","name":"Itabaiana","state":"SE","label":"Itabaiana - SE"},{"code":"2803005","name":"Itabaianinha","state":"SE","label":"Itabaianinha - SE"},{"code":"2914653","name":"Itabela","state":"BA","label":"Itabela - BA"},{"code":"3521705","name":"Itaberá","state":"SP","label":"Itaberá - SP"},{"code":"2914703","name":"Itaberaba","state":"BA","label":"Itaberaba - BA"},{"code":"5210406","name":"Itaberaí","state":"GO","label":"Itaberaí - GO"},{"code":"2803104","name":"Itabi","state":"SE","label":"Itabi - SE"},{"code":"3131703","name":"Itabira","state":"MG","label":"Itabira - MG"},{"code":"3131802","name":"Itabirinha","state":"MG","label":"Itabirinha - MG"},{"code":"3131901","name":"Itabirito","state":"MG","label":"Itabirito - MG"},{"code":"3301900","name":"Itaboraí","state":"RJ","label":"Itaboraí - RJ"},{"code":"2914802","name":"Itabuna","state":"BA","label":"Itabuna - BA"},{"code":"1710508","name":"Itacajá","state":"TO","label":"Itacajá - TO"},{"code":"3132008","name":"Itacambira","state":"MG","label":"Itacambira - MG"},{"code":"3132107","name":"Itacarambi","state":"MG","label":"Itacarambi - MG"},{"code":"2914901","name":"Itacaré","state":"BA","label":"Itacaré - BA"},{"code":"1301902","name":"Itacoatiara","state":"AM","label":"Itacoatiara - AM"},{"code":"2607406","name":"Itacuruba","state":"PE","label":"Itacuruba - PE"},{"code":"4310553","name":"Itacurubi","state":"RS","label":"Itacurubi - RS"},{"code":"2915007","name":"Itaeté","state":"BA","label":"Itaeté - BA"},{"code":"2915106","name":"Itagi","state":"BA","label":"Itagi - BA"},{"code":"2915205","name":"Itagibá","state":"BA","label":"Itagibá - BA"},{"code":"2915304","name":"Itagimirim","state":"BA","label":"Itagimirim - BA"},{"code":"3202702","name":"Itaguaçu","state":"ES","label":"Itaguaçu - ES"},{"code":"2915353","name":"Itaguaçu da Bahia","state":"BA","label":"Itaguaçu da Bahia - BA"},{"code":"3302007","name":"Itaguaí","state":"RJ","label":"Itaguaí - RJ"},{"code":"4110904","name":"Itaguajé","state":"PR","label":"Itaguajé - PR"},{"code":"3132206","name":"Itaguara","state":"MG","label":"Itaguara - MG"},{"code":"5210562","name":"Itaguari","state":"GO","label":"Itaguari - GO"},{"code":"5210604","name":"Itaguaru","state":"GO","label":"Itaguaru - GO"},{"code":"1710706","name":"Itaguatins","state":"TO","label":"Itaguatins - TO"},{"code":"3521804","name":"Itaí","state":"SP","label":"Itaí - SP"},{"code":"2607505","name":"Itaíba","state":"PE","label":"Itaíba - PE"},{"code":"2306207","name":"Itaiçaba","state":"CE","label":"Itaiçaba - CE"},{"code":"2205003","name":"Itainópolis","state":"PI","label":"Itainópolis - PI"},{"code":"4208104","name":"Itaiópolis","state":"SC","label":"Itaiópolis - SC"},{"code":"2105351","name":"Itaipava do Grajaú","state":"MA","label":"Itaipava do Grajaú - MA"},{"code":"3132305","name":"Itaipé","state":"MG","label":"Itaipé - MG"},{"code":"4110953","name":"Itaipulândia","state":"PR","label":"Itaipulândia - PR"},{"code":"2306256","name":"Itaitinga","state":"CE","label":"Itaitinga - CE"},{"code":"1503606","name":"Itaituba","state":"PA","label":"Itaituba - PA"},{"code":"2404853","name":"Itajá","state":"RN","label":"Itajá - RN"},{"code":"5210802","name":"Itajá","state":"GO","label":"Itajá - GO"},{"code":"4208203","name":"Itajaí","state":"SC","label":"Itajaí - SC"},{"code":"3521903","name":"Itajobi","state":"SP","label":"Itajobi - SP"},{"code":"3522000","name":"Itaju","state":"SP","label":"Itaju - SP"},{"code":"2915403","name":"Itaju do Colônia","state":"BA","label":"Itaju do Colônia - BA"},{"code":"3132404","name":"Itajubá","state":"MG","label":"Itajubá - MG"},{"code":"2915502","name":"Itajuípe","state":"BA","label":"Itajuípe - BA"},{"code":"3302056","name":"Italva","state":"RJ","label":"Italva - RJ"},{"code":"2915601","name":"Itamaraju","state":"BA","label":"Itamaraju - BA"},{"code":"3132503","name":"Itamarandiba","state":"MG","label":"Itamarandiba - MG"},{"code":"1301951","name":"Itamarati","state":"AM","label":"Itamarati - AM"},{"code":"3132602","name":"Itamarati de Minas","state":"MG","label":"Itamarati de Minas - MG"},{"code":"2915700","name":"Itamari","state":"BA","label":"Itamari - BA"},{"code":"3132701","name":"Itambacuri","state":"MG","label":"Itambacuri - MG"},{"code":"4111001","name":"Itambaracá","state":"PR","label":"Itambaracá - PR"},{"code":"4111100","name":"Itambé","state":"PR","label":"Itambé - PR"},{"code":"2607653","name":"Itambé","state":"PE","label":"Itambé - PE"},{"code":"2915809","name":"Itambé","state":"BA","label":"Itambé - BA"},{"code":"3132800","name":"Itambé do Mato Dentro","state":"MG","label":"Itambé do Mato Dentro - MG"},{"code":"3132909","name":"Itamogi","state":"MG","label":"Itamogi - MG"},{"code":"3133006","name":"Itamonte","state":"MG","label":"Itamonte - MG"},{"code":"2915908","name":"Itanagra","state":"BA","label":"Itanagra - BA"},{"code":"3522109","name":"Itanhaém","state":"SP","label":"Itanhaém - SP"},{"code":"3133105","name":"Itanhandu","state":"MG","label":"Itanhandu - MG"},{"code":"5104542","name":"Itanhangá","state":"MT","label":"Itanhangá - MT"},{"code":"2916005","name":"Itanhém","state":"BA","label":"Itanhém - BA"},{"code":"3133204","name":"Itanhomi","state":"MG","label":"Itanhomi - MG"},{"code":"3133303","name":"Itaobim","state":"MG","label":"Itaobim - MG"},{"code":"3522158","name":"Itaoca","state":"SP","label":"Itaoca - SP"},{"code":"3302106","name":"Itaocara","state":"RJ","label":"Itaocara - RJ"},{"code":"5210901","name":"Itapaci","state":"GO","label":"Itapaci - GO"},{"code":"3133402","name":"Itapagipe","state":"MG","label":"Itapagipe - MG"},{"code":"2306306","name":"Itapajé","state":"CE","label":"Itapajé - CE"},{"code":"2916104","name":"Itaparica","state":"BA","label":"Itaparica - BA"},{"code":"2916203","name":"Itapé","state":"BA","label":"Itapé - BA"},{"code":"2916302","name":"Itapebi","state":"BA","label":"Itapebi - BA"},{"code":"3133501","name":"Itapecerica","state":"MG","label":"Itapecerica - MG"},{"code":"3522208","name":"Itapecerica da Serra","state":"SP","label":"Itapecerica da Serra - SP"},{"code":"2105401","name":"Itapecuru Mirim","state":"MA","label":"Itapecuru Mirim - MA"},{"code":"4111209","name":"Itapejara d\u0027Oeste","state":"PR","label":"Itapejara d\u0027Oeste - PR"},{"code":"4208302","name":"Itapema","state":"SC","label":"Itapema - SC"},{"code":"3202801","name":"Itapemirim","state":"ES","label":"Itapemirim - ES"},{"code":"4111258","name":"Itaperuçu","state":"PR","label":"Itaperuçu - PR"},{"code":"3302205","name":"Itaperuna","state":"RJ","label":"Itaperuna - RJ"},{"code":"2607703","name":"Itapetim","state":"PE","label":"Itapetim - PE"},{"code":"2916401","name":"Itapetinga","state":"BA","label":"Itapetinga - BA"},{"code":"3522307","name":"Itapetininga","state":"SP","label":"Itapetininga - SP"},{"code":"3522406","name":"Itapeva","state":"SP","label":"Itapeva - SP"},{"code":"3133600","name":"Itapeva","state":"MG","label":"Itapeva - MG"},{"code":"3522505","name":"Itapevi","state":"SP","label":"Itapevi - SP"},{"code":"2916500","name":"Itapicuru","state":"BA","label":"Itapicuru - BA"},{"code":"2306405","name":"Itapipoca","state":"CE","label":"Itapipoca - CE"},{"code":"3522604","name":"Itapira","state":"SP","label":"Itapira - SP"},{"code":"4208401","name":"Itapiranga","state":"SC","label":"Itapiranga - SC"},{"code":"1302009","name":"Itapiranga","state":"AM","label":"Itapiranga - AM"},{"code":"5211008","name":"Itapirapuã","state":"GO","label":"Itapirapuã - GO"},{"code":"3522653","name":"Itapirapuã Paulista","state":"SP","label":"Itapirapuã Paulista - SP"},{"code":"1710904","name":"Itapiratins","state":"TO","label":"Itapiratins - TO"},{"code":"2607752","name":"Itapissuma","state":"PE","label":"Itapissuma - PE"},{"code":"2916609","name":"Itapitanga","state":"BA","label":"Itapitanga - BA"},{"code":"2306504","name":"Itapiúna","state":"CE","label":"Itapiúna - CE"},{"code":"4208450","name":"Itapoá","state":"SC","label":"Itapoá - SC"},{"code":"3522703","name":"Itápolis","state":"SP","label":"Itápolis - SP"},{"code":"5004502","name":"Itaporã","state":"MS","label":"Itaporã - MS"},{"code":"1711100","name":"Itaporã do Tocantins","state":"TO","label":"Itaporã do Tocantins - TO"},{"code":"2507002","name":"Itaporanga","state":"PB","label":"Itaporanga - PB"},{"code":"3522802","name":"Itaporanga","state":"SP","label":"Itaporanga - SP"},{"code":"2803203","name":"Itaporanga d\u0027Ajuda","state":"SE","label":"Itaporanga d\u0027Ajuda - SE"},{"code":"2507101","name":"Itapororoca","state":"PB","label":"Itapororoca - PB"},{"code":"1101104","name":"Itapuã do Oeste","state":"RO","label":"Itapuã do Oeste - RO"},{"code":"4310579","name":"Itapuca","state":"RS","label":"Itapuca - RS"},{"code":"3522901","name":"Itapuí","state":"SP","label":"Itapuí - SP"},{"code":"3523008","name":"Itapura","state":"SP","label":"Itapura - SP"},{"code":"5211206","name":"Itapuranga","state":"GO","label":"Itapuranga - GO"},{"code":"3523107","name":"Itaquaquecetuba","state":"SP","label":"Itaquaquecetuba - SP"},{"code":"2916708","name":"Itaquara","state":"BA","label":"Itaquara - BA"},{"code":"4310603","name":"Itaqui","state":"RS","label":"Itaqui - RS"},{"code":"5004601","name":"Itaquiraí","state":"MS","label":"Itaquiraí - MS"},{"code":"2607802","name":"Itaquitinga","state":"PE","label":"Itaquitinga - PE"},{"code":"3202900","name":"Itarana","state":"ES","label":"Itarana - ES"},{"code":"2916807","name":"Itarantim","state":"BA","label":"Itarantim - BA"},{"code":"3523206","name":"Itararé","state":"SP","label":"Itararé - SP"},{"code":"2306553","name":"Itarema","state":"CE","label":"Itarema - CE"},{"code":"3523305","name":"Itariri","state":"SP","label":"Itariri - SP"},{"code":"5211305","name":"Itarumã","state":"GO","label":"Itarumã - GO"},{"code":"4310652","name":"Itati","state":"RS","label":"Itati - RS"},{"code":"3302254","name":"Itatiaia","state":"RJ","label":"Itatiaia - RJ"},{"code":"3133709","name":"Itatiaiuçu","state":"MG","label":"Itatiaiuçu - MG"},{"code":"3523404","name":"Itatiba","state":"SP","label":"Itatiba - SP"},{"code":"4310702","name":"Itatiba do Sul","state":"RS","label":"Itatiba do Sul - RS"},{"code":"2916856","name":"Itatim","state":"BA","label":"Itatim - BA"},{"code":"3523503","name":"Itatinga","state":"SP","label":"Itatinga - SP"},{"code":"2306603","name":"Itatira","state":"CE","label":"Itatira - CE"},{"code":"2507200","name":"Itatuba","state":"PB","label":"Itatuba - PB"},{"code":"2404903","name":"Itaú","state":"RN","label":"Itaú - RN"},{"code":"3133758","name":"Itaú de Minas","state":"MG","label":"Itaú de Minas - MG"},{"code":"5104559","name":"Itaúba","state":"MT","label":"Itaúba - MT"},{"code":"1600253","name":"Itaubal","state":"AP","label":"Itaubal - AP"},{"code":"5211404","name":"Itauçu","state":"GO","label":"Itauçu - GO"},{"code":"2205102","name":"Itaueira","state":"PI","label":"Itaueira - PI"},{"code":"3133808","name":"Itaúna","state":"MG","label":"Itaúna - MG"},{"code":"4111308","name":"Itaúna do Sul","state":"PR","label":"Itaúna do Sul - PR"},{"code":"3133907","name":"Itaverava","state":"MG","label":"Itaverava - MG"},{"code":"3134004","name":"Itinga","state":"MG","label":"Itinga - MG"},{"code":"2105427","name":"Itinga do Maranhão","state":"MA","label":"Itinga do Maranhão - MA"},{"code":"5104609","name":"Itiquira","state":"MT","label":"Itiquira - MT"},{"code":"3523602","name":"Itirapina","state":"SP","label":"Itirapina - SP"},{"code":"3523701","name":"Itirapuã","state":"SP","label":"Itirapuã - SP"},{"code":"2916906","name":"Itiruçu","state":"BA","label":"Itiruçu - BA"},{"code":"2917003","name":"Itiúba","state":"BA","label":"Itiúba - BA"},{"code":"3523800","name":"Itobi","state":"SP","label":"Itobi - SP"},{"code":"2917102","name":"Itororó","state":"BA","label":"Itororó - BA"},{"code":"3523909","name":"Itu","state":"SP","label":"Itu - SP"},{"code":"2917201","name":"Ituaçu","state":"BA","label":"Ituaçu - BA"},{"code":"2917300","name":"Ituberá","state":"BA","label":"Ituberá - BA"},{"code":"3134103","name":"Itueta","state":"MG","label":"Itueta - MG"},{"code":"3134202","name":"Ituiutaba","state":"MG","label":"Ituiutaba - MG"},{"code":"5211503","name":"Itumbiara","state":"GO","label":"Itumbiara - GO"},{"code":"3134301","name":"Itumirim","state":"MG","label":"Itumirim - MG"},{"code":"3524006","name":"Itupeva","state":"SP","label":"Itupeva - SP"},{"code":"1503705","name":"Itupiranga","state":"PA","label":"Itupiranga - PA"},{"code":"4208500","name":"Ituporanga","state":"SC","label":"Ituporanga - SC"},{"code":"3134400","name":"Iturama","state":"MG","label":"Iturama - MG"},{"code":"3134509","name":"Itutinga","state":"MG","label":"Itutinga - MG"},{"code":"3524105","name":"Ituverava","state":"SP","label":"Ituverava - SP"},{"code":"2917334","name":"Iuiu","state":"BA","label":"Iuiu - BA"},{"code":"3203007","name":"Iúna","state":"ES","label":"Iúna - ES"},{"code":"4111407","name":"Ivaí","state":"PR","label":"Ivaí - PR"},{"code":"4111506","name":"Ivaiporã","state":"PR","label":"Ivaiporã - PR"},{"code":"4111555","name":"Ivaté","state":"PR","label":"Ivaté - PR"},{"code":"4111605","name":"Ivatuba","state":"PR","label":"Ivatuba - PR"},{"code":"5004700","name":"Ivinhema","state":"MS","label":"Ivinhema - MS"},{"code":"5211602","name":"Ivolândia","state":"GO","label":"Ivolândia - GO"},{"code":"4310751","name":"Ivorá","state":"RS","label":"Ivorá - RS"},{"code":"4310801","name":"Ivoti","state":"RS","label":"Ivoti - RS"},{"code":"2607901","name":"Jaboatão dos Guararapes","state":"PE","label":"Jaboatão dos Guararapes - PE"},{"code":"4208609","name":"Jaborá","state":"SC","label":"Jaborá - SC"},{"code":"3524204","name":"Jaborandi","state":"SP","label":"Jaborandi - SP"},{"code":"2917359","name":"Jaborandi","state":"BA","label":"Jaborandi - BA"},{"code":"4111704","name":"Jaboti","state":"PR","label":"Jaboti - PR"},{"code":"4310850","name":"Jaboticaba","state":"RS","label":"Jaboticaba - RS"},{"code":"3524303","name":"Jaboticabal","state":"SP","label":"Jaboticabal - SP"},{"code":"3134608","name":"Jaboticatubas","state":"MG","label":"Jaboticatubas - MG"},{"code":"2405009","name":"Jaçanã","state":"RN","label":"Jaçanã - RN"},{"code":"2917409","name":"Jacaraci","state":"BA","label":"Jacaraci - BA"},{"code":"2507309","name":"Jacaraú","state":"PB","label":"Jacaraú - PB"},{"code":"2703403","name":"Jacaré dos Homens","state":"AL","label":"Jacaré dos Homens - AL"},{"code":"1503754","name":"Jacareacanga","state":"PA","label":"Jacareacanga - PA"},{"code":"3524402","name":"Jacareí","state":"SP","label":"Jacareí - SP"},{"code":"4111803","name":"Jacarezinho","state":"PR","label":"Jacarezinho - PR"},{"code":"3524501","name":"Jaci","state":"SP","label":"Jaci - SP"},{"code":"5104807","name":"Jaciara","state":"MT","label":"Jaciara - MT"},{"code":"3134707","name":"Jacinto","state":"MG","label":"Jacinto - MG"},{"code":"4208708","name":"Jacinto Machado","state":"SC","label":"Jacinto Machado - SC"},{"code":"2917508","name":"Jacobina","state":"BA","label":"Jacobina - BA"},{"code":"2205151","name":"Jacobina do Piauí","state":"PI","label":"Jacobina do Piauí - PI"},{"code":"3134806","name":"Jacuí","state":"MG","label":"Jacuí - MG"},{"code":"2703502","name":"Jacuípe","state":"AL","label":"Jacuípe - AL"},{"code":"4310876","name":"Jacuizinho","state":"RS","label":"Jacuizinho - RS"},{"code":"1503804","name":"Jacundá","state":"PA","label":"Jacundá - PA"},{"code":"3524600","name":"Jacupiranga","state":"SP","label":"Jacupiranga - SP"},{"code":"4310900","name":"Jacutinga","state":"RS","label":"Jacutinga - RS"},{"code":"3134905","name":"Jacutinga","state":"MG","label":"Jacutinga - MG"},{"code":"4111902","name":"Jaguapitã","state":"PR","label":"Jaguapitã - PR"},{"code":"2917607","name":"Jaguaquara","state":"BA","label":"Jaguaquara - BA"},{"code":"3135001","name":"Jaguaraçu","state":"MG","label":"Jaguaraçu - MG"},{"code":"4311007","name":"Jaguarão","state":"RS","label":"Jaguarão - RS"},{"code":"2917706","name":"Jaguarari","state":"BA","label":"Jaguarari - BA"},{"code":"3203056","name":"Jaguaré","state":"ES","label":"Jaguaré - ES"},{"code":"2306702","name":"Jaguaretama","state":"CE","label":"Jaguaretama - CE"},{"code":"4311106","name":"Jaguari","state":"RS","label":"Jaguari - RS"},{"code":"4112009","name":"Jaguariaíva","state":"PR","label":"Jaguariaíva - PR"},{"code":"2306801","name":"Jaguaribara","state":"CE","label":"Jaguaribara - CE"},{"code":"2306900","name":"Jaguaribe","state":"CE","label":"Jaguaribe - CE"},{"code":"2917805","name":"Jaguaripe","state":"BA","label":"Jaguaripe - BA"},{"code":"3524709","name":"Jaguariúna","state":"SP","label":"Jaguariúna - SP"},{"code":"2307007","name":"Jaguaruana","state":"CE","label":"Jaguaruana - CE"},{"code":"4208807","name":"Jaguaruna","state":"SC","label":"Jaguaruna - SC"},{"code":"3135050","name":"Jaíba","state":"MG","label":"Jaíba - MG"},{"code":"2205201","name":"Jaicós","state":"PI","label":"Jaicós - PI"},{"code":"3524808","name":"Jales","state":"SP","label":"Jales - SP"},{"code":"3524907","name":"Jambeiro","state":"SP","label":"Jambeiro - SP"},{"code":"3135076","name":"Jampruca","state":"MG","label":"Jampruca - MG"},{"code":"3135100","name":"Janaúba","state":"MG","label":"Janaúba - MG"},{"code":"5211701","name":"Jandaia","state":"GO","label":"Jandaia - GO"},{"code":"4112108","name":"Jandaia do Sul","state":"PR","label":"Jandaia do Sul - PR"},{"code":"2917904","name":"Jandaíra","state":"BA","label":"Jandaíra - BA"},{"code":"2405108","name":"Jandaíra","state":"RN","label":"Jandaíra - RN"},{"code":"3525003","name":"Jandira","state":"SP","label":"Jandira - SP"},{"code":"2405207","name":"Janduís","state":"RN","label":"Janduís - RN"},{"code":"5104906","name":"Jangada","state":"MT","label":"Jangada - MT"},{"code":"4112207","name":"Janiópolis","state":"PR","label":"Janiópolis - PR"},{"code":"3135209","name":"Januária","state":"MG","label":"Januária - MG"},{"code":"2405306","name":"Januário Cicco","state":"RN","label":"Januário Cicco - RN"},{"code":"3135308","name":"Japaraíba","state":"MG","label":"Japaraíba - MG"},{"code":"2703601","name":"Japaratinga","state":"AL","label":"Japaratinga - AL"},{"code":"2803302","name":"Japaratuba","state":"SE","label":"Japaratuba - SE"},{"code":"3302270","name":"Japeri","state":"RJ","label":"Japeri - RJ"},{"code":"2405405","name":"Japi","state":"RN","label":"Japi - RN"},{"code":"4112306","name":"Japira","state":"PR","label":"Japira - PR"},{"code":"2803401","name":"Japoatã","state":"SE","label":"Japoatã - SE"},{"code":"3135357","name":"Japonvar","state":"MG","label":"Japonvar - MG"},{"code":"5004809","name":"Japorã","state":"MS","label":"Japorã - MS"},{"code":"4112405","name":"Japurá","state":"PR","label":"Japurá - PR"},{"code":"1302108","name":"Japurá","state":"AM","label":"Japurá - AM"},{"code":"2607950","name":"Jaqueira","state":"PE","label":"Jaqueira - PE"},{"code":"4311122","name":"Jaquirana","state":"RS","label":"Jaquirana - RS"},{"code":"5211800","name":"Jaraguá","state":"GO","label":"Jaraguá - GO"},{"code":"4208906","name":"Jaraguá do Sul","state":"SC","label":"Jaraguá do Sul - SC"},{"code":"5004908","name":"Jaraguari","state":"MS","label":"Jaraguari - MS"},{"code":"2703700","name":"Jaramataia","state":"AL","label":"Jaramataia - AL"},{"code":"2307106","name":"Jardim","state":"CE","label":"Jardim - CE"},{"code":"5005004","name":"Jardim","state":"MS","label":"Jardim - MS"},{"code":"4112504","name":"Jardim Alegre","state":"PR","label":"Jardim Alegre - PR"},{"code":"2405504","name":"Jardim de Angicos","state":"RN","label":"Jardim de Angicos - RN"},{"code":"2405603","name":"Jardim de Piranhas","state":"RN","label":"Jardim de Piranhas - RN"},{"code":"2205250","name":"Jardim do Mulato","state":"PI","label":"Jardim do Mulato - PI"},{"code":"2405702","name":"Jardim do Seridó","state":"RN","label":"Jardim do Seridó - RN"},{"code":"4112603","name":"Jardim Olinda","state":"PR","label":"Jardim Olinda - PR"},{"code":"3525102","name":"Jardinópolis","state":"SP","label":"Jardinópolis - SP"},{"code":"4208955","name":"Jardinópolis","state":"SC","label":"Jardinópolis - SC"},{"code":"4311130","name":"Jari","state":"RS","label":"Jari - RS"},{"code":"3525201","name":"Jarinu","state":"SP","label":"Jarinu - SP"},{"code":"1100114","name":"Jaru","state":"RO","label":"Jaru - RO"},{"code":"5211909","name":"Jataí","state":"GO","label":"Jataí - GO"},{"code":"4112702","name":"Jataizinho","state":"PR","label":"Jataizinho - PR"},{"code":"2608008","name":"Jataúba","state":"PE","label":"Jataúba - PE"},{"code":"5005103","name":"Jateí","state":"MS","label":"Jateí - MS"},{"code":"2307205","name":"Jati","state":"CE","label":"Jati - CE"},{"code":"2105450","name":"Jatobá","state":"MA","label":"Jatobá - MA"},{"code":"2608057","name":"Jatobá","state":"PE","label":"Jatobá - PE"},{"code":"2205276","name":"Jatobá do Piauí","state":"PI","label":"Jatobá do Piauí - PI"},{"code":"3525300","name":"Jaú","state":"SP","label":"Jaú - SP"},{"code":"1711506","name":"Jaú do Tocantins","state":"TO","label":"Jaú do Tocantins - TO"},{"code":"5212006","name":"Jaupaci","state":"GO","label":"Jaupaci - GO"},{"code":"5105002","name":"Jauru","state":"MT","label":"Jauru - MT"},{"code":"3135407","name":"Jeceaba","state":"MG","label":"Jeceaba - MG"},{"code":"3135456","name":"Jenipapo de Minas","state":"MG","label":"Jenipapo de Minas - MG"},{"code":"2105476","name":"Jenipapo dos Vieiras","state":"MA","label":"Jenipapo dos Vieiras - MA"},{"code":"3135506","name":"Jequeri","state":"MG","label":"Jequeri - MG"},{"code":"2703759","name":"Jequiá da Praia","state":"AL","label":"Jequiá da Praia - AL"},{"code":"2918001","name":"Jequié","state":"BA","label":"Jequié - BA"},{"code":"3135605","name":"Jequitaí","state":"MG","label":"Jequitaí - MG"},{"code":"3135704","name":"Jequitibá","state":"MG","label":"Jequitibá - MG"},{"code":"3135803","name":"Jequitinhonha","state":"MG","label":"Jequitinhonha - MG"},{"code":"2918100","name":"Jeremoabo","state":"BA","label":"Jeremoabo - BA"},{"code":"2507408","name":"Jericó","state":"PB","label":"Jericó - PB"},{"code":"3525409","name":"Jeriquara","state":"SP","label":"Jeriquara - SP"},{"code":"3203106","name":"Jerônimo Monteiro","state":"ES","label":"Jerônimo Monteiro - ES"},{"code":"2205300","name":"Jerumenha","state":"PI","label":"Jerumenha - PI"},{"code":"3135902","name":"Jesuânia","state":"MG","label":"Jesuânia - MG"},{"code":"4112751","name":"Jesuítas","state":"PR","label":"Jesuítas - PR"},{"code":"5212055","name":"Jesúpolis","state":"GO","label":"Jesúpolis - GO"},{"code":"2307254","name":"Jijoca de Jericoacoara","state":"CE","label":"Jijoca de Jericoacoara - CE"},{"code":"1100122","name":"Ji-Paraná","state":"RO","label":"Ji-Paraná - RO"},{"code":"2918209","name":"Jiquiriçá","state":"BA","label":"Jiquiriçá - BA"},{"code":"2918308","name":"Jitaúna","state":"BA","label":"Jitaúna - BA"},{"code":"4209003","name":"Joaçaba","state":"SC","label":"Joaçaba - SC"},{"code":"3136009","name":"Joaíma","state":"MG","label":"Joaíma - MG"},{"code":"3136108","name":"Joanésia","state":"MG","label":"Joanésia - MG"},{"code":"3525508","name":"Joanópolis","state":"SP","label":"Joanópolis - SP"},{"code":"2608107","name":"João Alfredo","state":"PE","label":"João Alfredo - PE"},{"code":"2405801","name":"João Câmara","state":"RN","label":"João Câmara - RN"},{"code":"2205359","name":"João Costa","state":"PI","label":"João Costa - PI"},{"code":"2405900","name":"João Dias","state":"RN","label":"João Dias - RN"},{"code":"2918357","name":"João Dourado","state":"BA","label":"João Dourado - BA"},{"code":"2105500","name":"João Lisboa","state":"MA","label":"João Lisboa - MA"},{"code":"3136207","name":"João Monlevade","state":"MG","label":"João Monlevade - MG"},{"code":"3203130","name":"João Neiva","state":"ES","label":"João Neiva - ES"},{"code":"2507507","name":"João Pessoa","state":"PB","label":"João Pessoa - PB"},{"code":"3136306","name":"João Pinheiro","state":"MG","label":"João Pinheiro - MG"},{"code":"3525607","name":"João Ramalho","state":"SP","label":"João Ramalho - SP"},{"code":"3136405","name":"Joaquim Felício","state":"MG","label":"Joaquim Felício - MG"},{"code":"2703809","name":"Joaquim Gomes","state":"AL","label":"Joaquim Gomes - AL"},{"code":"2608206","name":"Joaquim Nabuco","state":"PE","label":"Joaquim Nabuco - PE"},{"code":"2205409","name":"Joaquim Pires","state":"PI","label":"Joaquim Pires - PI"},{"code":"4112801","name":"Joaquim Távora","state":"PR","label":"Joaquim Távora - PR"},{"code":"2513653","name":"Joca Claudino","state":"PB","label":"Joca Claudino - PB"},{"code":"2205458","name":"Joca Marques","state":"PI","label":"Joca Marques - PI"},{"code":"4311155","name":"Jóia","state":"RS","label":"Jóia - RS"},{"code":"4209102","name":"Joinville","state":"SC","label":"Joinville - SC"},{"code":"3136504","name":"Jordânia","state":"MG","label":"Jordânia - MG"},{"code":"1200328","name":"Jordão","state":"AC","label":"Jordão - AC"},{"code":"4209151","name":"José Boiteux","state":"SC","label":"José Boiteux - SC"},{"code":"3525706","name":"José Bonifácio","state":"SP","label":"José Bonifácio - SP"},{"code":"2406007","name":"José da Penha","state":"RN","label":"José da Penha - RN"},{"code":"2205508","name":"José de Freitas","state":"PI","label":"José de Freitas - PI"},{"code":"3136520","name":"José Gonçalves de Minas","state":"MG","label":"José Gonçalves de Minas - MG"},{"code":"3136553","name":"José Raydan","state":"MG","label":"José Raydan - MG"},{"code":"2105609","name":"Joselândia","state":"MA","label":"Joselândia - MA"},{"code":"3136579","name":"Josenópolis","state":"MG","label":"Josenópolis - MG"},{"code":"5212105","name":"Joviânia","state":"GO","label":"Joviânia - GO"},{"code":"5105101","name":"Juara","state":"MT","label":"Juara - MT"},{"code":"2507606","name":"Juarez Távora","state":"PB","label":"Juarez Távora - PB"},{"code":"1711803","name":"Juarina","state":"TO","label":"Juarina - TO"},{"code":"3136652","name":"Juatuba","state":"MG","label":"Juatuba - MG"},{"code":"2507705","name":"Juazeirinho","state":"PB","label":"Juazeirinho - PB"},{"code":"2918407","name":"Juazeiro","state":"BA","label":"Juazeiro - BA"},{"code":"2307304","name":"Juazeiro do Norte","state":"CE","label":"Juazeiro do Norte - CE"},{"code":"2205516","name":"Juazeiro do Piauí","state":"PI","label":"Juazeiro do Piauí - PI"},{"code":"2307403","name":"Jucás","state":"CE","label":"Jucás - CE"},{"code":"2608255","name":"Jucati","state":"PE","label":"Jucati - PE"},{"code":"2918456","name":"Jucuruçu","state":"BA","label":"Jucuruçu - BA"},{"code":"2406106","name":"Jucurutu","state":"RN","label":"Jucurutu - RN"},{"code":"5105150","name":"Juína","state":"MT","label":"Juína - MT"},{"code":"3136702","name":"Juiz de Fora","state":"MG","label":"Juiz de Fora - MG"},{"code":"2205524","name":"Júlio Borges","state":"PI","label":"Júlio Borges - PI"},{"code":"4311205","name":"Júlio de Castilhos","state":"RS","label":"Júlio de Castilhos - RS"},{"code":"3525805","name":"Júlio Mesquita","state":"SP","label":"Júlio Mesquita - SP"},{"code":"3525854","name":"Jumirim","state":"SP","label":"Jumirim - SP"},{"code":"2105658","name":"Junco do Maranhão","state":"MA","label":"Junco do Maranhão - MA"},{"code":"2507804","name":"Junco do Seridó","state":"PB","label":"Junco do Seridó - PB"},{"code":"2406155","name":"Jundiá","state":"RN","label":"Jundiá - RN"},{"code":"2703908","name":"Jundiá","state":"AL","label":"Jundiá - AL"},{"code":"3525904","name":"Jundiaí","state":"SP","label":"Jundiaí - SP"},{"code":"4112900","name":"Jundiaí do Sul","state":"PR","label":"Jundiaí do Sul - PR"},{"code":"2704005","name":"Junqueiro","state":"AL","label":"Junqueiro - AL"},{"code":"3526001","name":"Junqueirópolis","state":"SP","label":"Junqueirópolis - SP"},{"code":"2608305","name":"Jupi","state":"PE","label":"Jupi - PE"},{"code":"4209177","name":"Jupiá","state":"SC","label":"Jupiá - SC"},{"code":"3526100","name":"Juquiá","state":"SP","label":"Juquiá - SP"},{"code":"3526209","name":"Juquitiba","state":"SP","label":"Juquitiba - SP"},{"code":"3136801","name":"Juramento","state":"MG","label":"Juramento - MG"},{"code":"4112959","name":"Juranda","state":"PR","label":"Juranda - PR"},{"code":"2608404","name":"Jurema","state":"PE","label":"Jurema - PE"},{"code":"2205532","name":"Jurema","state":"PI","label":"Jurema - PI"},{"code":"2507903","name":"Juripiranga","state":"PB","label":"Juripiranga - PB"},{"code":"2508000","name":"Juru","state":"PB","label":"Juru - PB"},{"code":"1302207","name":"Juruá","state":"AM","label":"Juruá - AM"},{"code":"3136900","name":"Juruaia","state":"MG","label":"Juruaia - MG"},{"code":"5105176","name":"Juruena","state":"MT","label":"Juruena - MT"},{"code":"1503903","name":"Juruti","state":"PA","label":"Juruti - PA"},{"code":"5105200","name":"Juscimeira","state":"MT","label":"Juscimeira - MT"},{"code":"5212204","name":"Jussara","state":"GO","label":"Jussara - GO"},{"code":"4113007","name":"Jussara","state":"PR","label":"Jussara - PR"},{"code":"2918506","name":"Jussara","state":"BA","label":"Jussara - BA"},{"code":"2918555","name":"Jussari","state":"BA","label":"Jussari - BA"},{"code":"2918605","name":"Jussiape","state":"BA","label":"Jussiape - BA"},{"code":"1302306","name":"Jutaí","state":"AM","label":"Jutaí - AM"},{"code":"5005152","name":"Juti","state":"MS","label":"Juti - MS"},{"code":"3136959","name":"Juvenília","state":"MG","label":"Juvenília - MG"},{"code":"4113106","name":"Kaloré","state":"PR","label":"Kaloré - PR"},{"code":"1302405","name":"Lábrea","state":"AM","label":"Lábrea - AM"},{"code":"4209201","name":"Lacerdópolis","state":"SC","label":"Lacerdópolis - SC"},{"code":"3137007","name":"Ladainha","state":"MG","label":"Ladainha - MG"},{"code":"5005202","name":"Ladário","state":"MS","label":"Ladário - MS"},{"code":"2918704","name":"Lafaiete Coutinho","state":"BA","label":"Lafaiete Coutinho - BA"},{"code":"3137106","name":"Lagamar","state":"MG","label":"Lagamar - MG"},{"code":"2803500","name":"Lagarto","state":"SE","label":"Lagarto - SE"},{"code":"4209300","name":"Lages","state":"SC","label":"Lages - SC"},{"code":"2105708","name":"Lago da Pedra","state":"MA","label":"Lago da Pedra - MA"},{"code":"2105807","name":"Lago do Junco","state":"MA","label":"Lago do Junco - MA"},{"code":"2105948","name":"Lago dos Rodrigues","state":"MA","label":"Lago dos Rodrigues - MA"},{"code":"2105906","name":"Lago Verde","state":"MA","label":"Lago Verde - MA"},{"code":"2508109","name":"Lagoa","state":"PB","label":"Lagoa - PB"},{"code":"2205557","name":"Lagoa Alegre","state":"PI","label":"Lagoa Alegre - PI"},{"code":"4311239","name":"Lagoa Bonita do Sul","state":"RS","label":"Lagoa Bonita do Sul - RS"},{"code":"2704104","name":"Lagoa da Canoa","state":"AL","label":"Lagoa da Canoa - AL"},{"code":"1711902","name":"Lagoa da Confusão","state":"TO","label":"Lagoa da Confusão - TO"},{"code":"3137205","name":"Lagoa da Prata","state":"MG","label":"Lagoa da Prata - MG"},{"code":"2406205","name":"Lagoa d\u0027Anta","state":"RN","label":"Lagoa d\u0027Anta - RN"},{"code":"2508208","name":"Lagoa de Dentro","state":"PB","label":"Lagoa de Dentro - PB"},{"code":"2608503","name":"Lagoa de Itaenga","state":"PE","label":"Lagoa de Itaenga - PE"},{"code":"2406304","name":"Lagoa de Pedras","state":"RN","label":"Lagoa de Pedras - RN"},{"code":"2205573","name":"Lagoa de São Francisco","state":"PI","label":"Lagoa de São Francisco - PI"},{"code":"2406403","name":"Lagoa de Velhos","state":"RN","label":"Lagoa de Velhos - RN"},{"code":"2205565","name":"Lagoa do Barro do Piauí","state":"PI","label":"Lagoa do Barro do Piauí - PI"},{"code":"2608453","name":"Lagoa do Carro","state":"PE","label":"Lagoa do Carro - PE"},{"code":"2105922","name":"Lagoa do Mato","state":"MA","label":"Lagoa do Mato - MA"},{"code":"2608602","name":"Lagoa do Ouro","state":"PE","label":"Lagoa do Ouro - PE"},{"code":"2205581","name":"Lagoa do Piauí","state":"PI","label":"Lagoa do Piauí - PI"},{"code":"2205599","name":"Lagoa do Sítio","state":"PI","label":"Lagoa do Sítio - PI"},{"code":"1711951","name":"Lagoa do Tocantins","state":"TO","label":"Lagoa do Tocantins - TO"},{"code":"2608701","name":"Lagoa dos Gatos","state":"PE","label":"Lagoa dos Gatos - PE"},{"code":"3137304","name":"Lagoa dos Patos","state":"MG","label":"Lagoa dos Patos - MG"},{"code":"4311270","name":"Lagoa dos Três Cantos","state":"RS","label":"Lagoa dos Três Cantos - RS"},{"code":"3137403","name":"Lagoa Dourada","state":"MG","label":"Lagoa Dourada - MG"},{"code":"3137502","name":"Lagoa Formosa","state":"MG","label":"Lagoa Formosa - MG"},{"code":"3137536","name":"Lagoa Grande","state":"MG","label":"Lagoa Grande - MG"},{"code":"2608750","name":"Lagoa Grande","state":"PE","label":"Lagoa Grande - PE"},{"code":"2105963","name":"Lagoa Grande do Maranhão","state":"MA","label":"Lagoa Grande do Maranhão - MA"},{"code":"2406502","name":"Lagoa Nova","state":"RN","label":"Lagoa Nova - RN"},{"code":"2918753","name":"Lagoa Real","state":"BA","label":"Lagoa Real - BA"},{"code":"2406601","name":"Lagoa Salgada","state":"RN","label":"Lagoa Salgada - RN"},{"code":"3137601","name":"Lagoa Santa","state":"MG","label":"Lagoa Santa - MG"},{"code":"5212253","name":"Lagoa Santa","state":"GO","label":"Lagoa Santa - GO"},{"code":"2508307","name":"Lagoa Seca","state":"PB","label":"Lagoa Seca - PB"},{"code":"4311304","name":"Lagoa Vermelha","state":"RS","label":"Lagoa Vermelha - RS"},{"code":"4311254","name":"Lagoão","state":"RS","label":"Lagoão - RS"},{"code":"3526308","name":"Lagoinha","state":"SP","label":"Lagoinha - SP"},{"code":"2205540","name":"Lagoinha do Piauí","state":"PI","label":"Lagoinha do Piauí - PI"},{"code":"4209409","name":"Laguna","state":"SC","label":"Laguna - SC"},{"code":"5005251","name":"Laguna Carapã","state":"MS","label":"Laguna Carapã - MS"},{"code":"2918803","name":"Laje","state":"BA","label":"Laje - BA"},{"code":"3302304","name":"Laje do Muriaé","state":"RJ","label":"Laje do Muriaé - RJ"},{"code":"4311403","name":"Lajeado","state":"RS","label":"Lajeado - RS"},{"code":"1712009","name":"Lajeado","state":"TO","label":"Lajeado - TO"},{"code":"4311429","name":"Lajeado do Bugre","state":"RS","label":"Lajeado do Bugre - RS"},{"code":"4209458","name":"Lajeado Grande","state":"SC","label":"Lajeado Grande - SC"},{"code":"2105989","name":"Lajeado Novo","state":"MA","label":"Lajeado Novo - MA"},{"code":"2918902","name":"Lajedão","state":"BA","label":"Lajedão - BA"},{"code":"2919009","name":"Lajedinho","state":"BA","label":"Lajedinho - BA"},{"code":"2608800","name":"Lajedo","state":"PE","label":"Lajedo - PE"},{"code":"2919058","name":"Lajedo do Tabocal","state":"BA","label":"Lajedo do Tabocal - BA"},{"code":"2406700","name":"Lajes","state":"RN","label":"Lajes - RN"},{"code":"2406809","name":"Lajes Pintadas","state":"RN","label":"Lajes Pintadas - RN"},{"code":"3137700","name":"Lajinha","state":"MG","label":"Lajinha - MG"},{"code":"2919108","name":"Lamarão","state":"BA","label":"Lamarão - BA"},{"code":"3137809","name":"Lambari","state":"MG","label":"Lambari - MG"},{"code":"5105234","name":"Lambari D\u0027Oeste","state":"MT","label":"Lambari D\u0027Oeste - MT"},{"code":"3137908","name":"Lamim","state":"MG","label":"Lamim - MG"},{"code":"2205607","name":"Landri Sales","state":"PI","label":"Landri Sales - PI"},{"code":"4113205","name":"Lapa","state":"PR","label":"Lapa - PR"},{"code":"2919157","name":"Lapão","state":"BA","label":"Lapão - BA"},{"code":"3203163","name":"Laranja da Terra","state":"ES","label":"Laranja da Terra - ES"},{"code":"4113254","name":"Laranjal","state":"PR","label":"Laranjal - PR"},{"code":"3138005","name":"Laranjal","state":"MG","label":"Laranjal - MG"},{"code":"1600279","name":"Laranjal do Jari","state":"AP","label":"Laranjal do Jari - AP"},{"code":"3526407","name":"Laranjal Paulista","state":"SP","label":"Laranjal Paulista - SP"},{"code":"2803609","name":"Laranjeiras","state":"SE","label":"Laranjeiras - SE"},{"code":"4113304","name":"Laranjeiras do Sul","state":"PR","label":"Laranjeiras do Sul - PR"},{"code":"3138104","name":"Lassance","state":"MG","label":"Lassance - MG"},{"code":"2508406","name":"Lastro","state":"PB","label":"Lastro - PB"},{"code":"4209508","name":"Laurentino","state":"SC","label":"Laurentino - SC"},{"code":"2919207","name":"Lauro de Freitas","state":"BA","label":"Lauro de Freitas - BA"},{"code":"4209607","name":"Lauro Müller","state":"SC","label":"Lauro Müller - SC"},{"code":"1712157","name":"Lavandeira","state":"TO","label":"Lavandeira - TO"},{"code":"3526506","name":"Lavínia","state":"SP","label":"Lavínia - SP"},{"code":"3138203","name":"Lavras","state":"MG","label":"Lavras - MG"},{"code":"2307502","name":"Lavras da Mangabeira","state":"CE","label":"Lavras da Mangabeira - CE"},{"code":"4311502","name":"Lavras do Sul","state":"RS","label":"Lavras do Sul - RS"},{"code":"3526605","name":"Lavrinhas","state":"SP","label":"Lavrinhas - SP"},{"code":"3138302","name":"Leandro Ferreira","state":"MG","label":"Leandro Ferreira - MG"},{"code":"4209706","name":"Lebon Régis","state":"SC","label":"Lebon Régis - SC"},{"code":"3526704","name":"Leme","state":"SP","label":"Leme - SP"},{"code":"3138351","name":"Leme do Prado","state":"MG","label":"Leme do Prado - MG"},{"code":"2919306","name":"Lençóis","state":"BA","label":"Lençóis - BA"},{"code":"3526803","name":"Lençóis Paulista","state":"SP","label":"Lençóis Paulista - SP"},{"code":"4209805","name":"Leoberto Leal","state":"SC","label":"Leoberto Leal - SC"},{"code":"3138401","name":"Leopoldina","state":"MG","label":"Leopoldina - MG"},{"code":"5212303","name":"Leopoldo de Bulhões","state":"GO","label":"Leopoldo de Bulhões - GO"},{"code":"4113403","name":"Leópolis","state":"PR","label":"Leópolis - PR"},{"code":"4311601","name":"Liberato Salzano","state":"RS","label":"Liberato Salzano - RS"},{"code":"3138500","name":"Liberdade","state":"MG","label":"Liberdade - MG"},{"code":"2919405","name":"Licínio de Almeida","state":"BA","label":"Licínio de Almeida - BA"},{"code":"4113429","name":"Lidianópolis","state":"PR","label":"Lidianópolis - PR"},{"code":"2106003","name":"Lima Campos","state":"MA","label":"Lima Campos - MA"},{"code":"3138609","name":"Lima Duarte","state":"MG","label":"Lima Duarte - MG"},{"code":"3526902","name":"Limeira","state":"SP","label":"Limeira - SP"},{"code":"3138625","name":"Limeira do Oeste","state":"MG","label":"Limeira do Oeste - MG"},{"code":"2608909","name":"Limoeiro","state":"PE","label":"Limoeiro - PE"},{"code":"2704203","name":"Limoeiro de Anadia","state":"AL","label":"Limoeiro de Anadia - AL"},{"code":"1504000","name":"Limoeiro do Ajuru","state":"PA","label":"Limoeiro do Ajuru - PA"},{"code":"2307601","name":"Limoeiro do Norte","state":"CE","label":"Limoeiro do Norte - CE"},{"code":"4113452","name":"Lindoeste","state":"PR","label":"Lindoeste - PR"},{"code":"3527009","name":"Lindóia","state":"SP","label":"Lindóia - SP"},{"code":"4209854","name":"Lindóia do Sul","state":"SC","label":"Lindóia do Sul - SC"},{"code":"4311627","name":"Lindolfo Collor","state":"RS","label":"Lindolfo Collor - RS"},{"code":"4311643","name":"Linha Nova","state":"RS","label":"Linha Nova - RS"},{"code":"3203205","name":"Linhares","state":"ES","label":"Linhares - ES"},{"code":"3527108","name":"Lins","state":"SP","label":"Lins - SP"},{"code":"2508505","name":"Livramento","state":"PB","label":"Livramento - PB"},{"code":"2919504","name":"Livramento de Nossa Senhora","state":"BA","label":"Livramento de Nossa Senhora - BA"},{"code":"1712405","name":"Lizarda","state":"TO","label":"Lizarda - TO"},{"code":"4113502","name":"Loanda","state":"PR","label":"Loanda - PR"},{"code":"4113601","name":"Lobato","state":"PR","label":"Lobato - PR"},{"code":"2508554","name":"Logradouro","state":"PB","label":"Logradouro - PB"},{"code":"4113700","name":"Londrina","state":"PR","label":"Londrina - PR"},{"code":"3138658","name":"Lontra","state":"MG","label":"Lontra - MG"},{"code":"4209904","name":"Lontras","state":"SC","label":"Lontras - SC"},{"code":"3527207","name":"Lorena","state":"SP","label":"Lorena - SP"},{"code":"2106102","name":"Loreto","state":"MA","label":"Loreto - MA"},{"code":"3527256","name":"Lourdes","state":"SP","label":"Lourdes - SP"},{"code":"3527306","name":"Louveira","state":"SP","label":"Louveira - SP"},{"code":"5105259","name":"Lucas do Rio Verde","state":"MT","label":"Lucas do Rio Verde - MT"},{"code":"3527405","name":"Lucélia","state":"SP","label":"Lucélia - SP"},{"code":"2508604","name":"Lucena","state":"PB","label":"Lucena - PB"},{"code":"3527504","name":"Lucianópolis","state":"SP","label":"Lucianópolis - SP"},{"code":"5105309","name":"Luciara","state":"MT","label":"Luciara - MT"},{"code":"2406908","name":"Lucrécia","state":"RN","label":"Lucrécia - RN"},{"code":"3527603","name":"Luís Antônio","state":"SP","label":"Luís Antônio - SP"},{"code":"2205706","name":"Luís Correia","state":"PI","label":"Luís Correia - PI"},{"code":"2106201","name":"Luís Domingues","state":"MA","label":"Luís Domingues - MA"},{"code":"2919553","name":"Luís Eduardo Magalhães","state":"BA","label":"Luís Eduardo Magalhães - BA"},{"code":"2407005","name":"Luís Gomes","state":"RN","label":"Luís Gomes - RN"},{"code":"3138674","name":"Luisburgo","state":"MG","label":"Luisburgo - MG"},{"code":"3138682","name":"Luislândia","state":"MG","label":"Luislândia - MG"},{"code":"4210001","name":"Luiz Alves","state":"SC","label":"Luiz Alves - SC"},{"code":"4113734","name":"Luiziana","state":"PR","label":"Luiziana - PR"},{"code":"3527702","name":"Luiziânia","state":"SP","label":"Luiziânia - SP"},{"code":"3138708","name":"Luminárias","state":"MG","label":"Luminárias - MG"},{"code":"4113759","name":"Lunardelli","state":"PR","label":"Lunardelli - PR"},{"code":"3527801","name":"Lupércio","state":"SP","label":"Lupércio - SP"},{"code":"4113809","name":"Lupionópolis","state":"PR","label":"Lupionópolis - PR"},{"code":"3527900","name":"Lutécia","state":"SP","label":"Lutécia - SP"},{"code":"3138807","name":"Luz","state":"MG","label":"Luz - MG"},{"code":"4210035","name":"Luzerna","state":"SC","label":"Luzerna - SC"},{"code":"5212501","name":"Luziânia","state":"GO","label":"Luziânia - GO"},{"code":"2205805","name":"Luzilândia","state":"PI","label":"Luzilândia - PI"},{"code":"1712454","name":"Luzinópolis","state":"TO","label":"Luzinópolis - TO"},{"code":"3302403","name":"Macaé","state":"RJ","label":"Macaé - RJ"},{"code":"2407104","name":"Macaíba","state":"RN","label":"Macaíba - RN"},{"code":"2919603","name":"Macajuba","state":"BA","label":"Macajuba - BA"},{"code":"4311718","name":"Maçambará","state":"RS","label":"Maçambará - RS"},{"code":"2803708","name":"Macambira","state":"SE","label":"Macambira - SE"},{"code":"1600303","name":"Macapá","state":"AP","label":"Macapá - AP"},{"code":"2609006","name":"Macaparana","state":"PE","label":"Macaparana - PE"},{"code":"2919702","name":"Macarani","state":"BA","label":"Macarani - BA"},{"code":"3528007","name":"Macatuba","state":"SP","label":"Macatuba - SP"},{"code":"2407203","name":"Macau","state":"RN","label":"Macau - RN"},{"code":"3528106","name":"Macaubal","state":"SP","label":"Macaubal - SP"},{"code":"2919801","name":"Macaúbas","state":"BA","label":"Macaúbas - BA"},{"code":"3528205","name":"Macedônia","state":"SP","label":"Macedônia - SP"},{"code":"2704302","name":"Maceió","state":"AL","label":"Maceió - AL"},{"code":"3138906","name":"Machacalis","state":"MG","label":"Machacalis - MG"},{"code":"4311700","name":"Machadinho","state":"RS","label":"Machadinho - RS"},{"code":"1100130","name":"Machadinho D\u0027Oeste","state":"RO","label":"Machadinho D\u0027Oeste - RO"},{"code":"3139003","name":"Machado","state":"MG","label":"Machado - MG"},{"code":"2609105","name":"Machados","state":"PE","label":"Machados - PE"},{"code":"4210050","name":"Macieira","state":"SC","label":"Macieira - SC"},{"code":"3302452","name":"Macuco","state":"RJ","label":"Macuco - RJ"},{"code":"2919900","name":"Macururé","state":"BA","label":"Macururé - BA"},{"code":"2307635","name":"Madalena","state":"CE","label":"Madalena - CE"},{"code":"2205854","name":"Madeiro","state":"PI","label":"Madeiro - PI"},{"code":"2919926","name":"Madre de Deus","state":"BA","label":"Madre de Deus - BA"},{"code":"3139102","name":"Madre de Deus de Minas","state":"MG","label":"Madre de Deus de Minas - MG"},{"code":"2508703","name":"Mãe d\u0027Água","state":"PB","label":"Mãe d\u0027Água - PB"},{"code":"1504059","name":"Mãe do Rio","state":"PA","label":"Mãe do Rio - PA"},{"code":"2919959","name":"Maetinga","state":"BA","label":"Maetinga - BA"},{"code":"4210100","name":"Mafra","state":"SC","label":"Mafra - SC"},{"code":"1504109","name":"Magalhães Barata","state":"PA","label":"Magalhães Barata - PA"},{"code":"2106300","name":"Magalhães de Almeida","state":"MA","label":"Magalhães de Almeida - MA"},{"code":"3528304","name":"Magda","state":"SP","label":"Magda - SP"},{"code":"3302502","name":"Magé","state":"RJ","label":"Magé - RJ"},{"code":"2920007","name":"Maiquinique","state":"BA","label":"Maiquinique - BA"},{"code":"2920106","name":"Mairi","state":"BA","label":"Mairi - BA"},{"code":"3528403","name":"Mairinque","state":"SP","label":"Mairinque - SP"},{"code":"3528502","name":"Mairiporã","state":"SP","label":"Mairiporã - SP"},{"code":"5212600","name":"Mairipotaba","state":"GO","label":"Mairipotaba - GO"},{"code":"4210209","name":"Major Gercino","state":"SC","label":"Major Gercino - SC"},{"code":"2704401","name":"Major Isidoro","state":"AL","label":"Major Isidoro - AL"},{"code":"2407252","name":"Major Sales","state":"RN","label":"Major Sales - RN"},{"code":"4210308","name":"Major Vieira","state":"SC","label":"Major Vieira - SC"},{"code":"3139201","name":"Malacacheta","state":"MG","label":"Malacacheta - MG"},{"code":"2920205","name":"Malhada","state":"BA","label":"Malhada - BA"},{"code":"2920304","name":"Malhada de Pedras","state":"BA","label":"Malhada de Pedras - BA"},{"code":"2803807","name":"Malhada dos Bois","state":"SE","label":"Malhada dos Bois - SE"},{"code":"2803906","name":"Malhador","state":"SE","label":"Malhador - SE"},{"code":"4113908","name":"Mallet","state":"PR","label":"Mallet - PR"},{"code":"2508802","name":"Malta","state":"PB","label":"Malta - PB"},{"code":"2508901","name":"Mamanguape","state":"PB","label":"Mamanguape - PB"},{"code":"5212709","name":"Mambaí","state":"GO","label":"Mambaí - GO"},{"code":"4114005","name":"Mamborê","state":"PR","label":"Mamborê - PR"},{"code":"3139250","name":"Mamonas","state":"MG","label":"Mamonas - MG"},{"code":"4311734","name":"Mampituba","state":"RS","label":"Mampituba - RS"},{"code":"1302504","name":"Manacapuru","state":"AM","label":"Manacapuru - AM"},{"code":"2509008","name":"Manaíra","state":"PB","label":"Manaíra - PB"},{"code":"1302553","name":"Manaquiri","state":"AM","label":"Manaquiri - AM"},{"code":"2609154","name":"Manari","state":"PE","label":"Manari - PE"},{"code":"1302603","name":"Manaus","state":"AM","label":"Manaus - AM"},{"code":"1200336","name":"Mâncio Lima","state":"AC","label":"Mâncio Lima - AC"},{"code":"4114104","name":"Mandaguaçu","state":"PR","label":"Mandaguaçu - PR"},{"code":"4114203","name":"Mandaguari","state":"PR","label":"Mandaguari - PR"},{"code":"4114302","name":"Mandirituba","state":"PR","label":"Mandirituba - PR"},{"code":"3528601","name":"Manduri","state":"SP","label":"Manduri - SP"},{"code":"4114351","name":"Manfrinópolis","state":"PR","label":"Manfrinópolis - PR"},{"code":"3139300","name":"Manga","state":"MG","label":"Manga - MG"},{"code":"3302601","name":"Mangaratiba","state":"RJ","label":"Mangaratiba - RJ"},{"code":"4114401","name":"Mangueirinha","state":"PR","label":"Mangueirinha - PR"},{"code":"3139409","name":"Manhuaçu","state":"MG","label":"Manhuaçu - MG"},{"code":"3139508","name":"Manhumirim","state":"MG","label":"Manhumirim - MG"},{"code":"1302702","name":"Manicoré","state":"AM","label":"Manicoré - AM"},{"code":"2205904","name":"Manoel Emídio","state":"PI","label":"Manoel Emídio - PI"},{"code":"4114500","name":"Manoel Ribas","state":"PR","label":"Manoel Ribas - PR"},{"code":"1200344","name":"Manoel Urbano","state":"AC","label":"Manoel Urbano - AC"},{"code":"4311759","name":"Manoel Viana","state":"RS","label":"Manoel Viana - RS"},{"code":"2920403","name":"Manoel Vitorino","state":"BA","label":"Manoel Vitorino - BA"},{"code":"2920452","name":"Mansidão","state":"BA","label":"Mansidão - BA"},{"code":"3139607","name":"Mantena","state":"MG","label":"Mantena - MG"},{"code":"3203304","name":"Mantenópolis","state":"ES","label":"Mantenópolis - ES"},{"code":"4311775","name":"Maquiné","state":"RS","label":"Maquiné - RS"},{"code":"3139805","name":"Mar de Espanha","state":"MG","label":"Mar de Espanha - MG"},{"code":"2704906","name":"Mar Vermelho","state":"AL","label":"Mar Vermelho - AL"},{"code":"5212808","name":"Mara Rosa","state":"GO","label":"Mara Rosa - GO"},{"code":"1302801","name":"Maraã","state":"AM","label":"Maraã - AM"},{"code":"1504208","name":"Marabá","state":"PA","label":"Marabá - PA"},{"code":"3528700","name":"Marabá Paulista","state":"SP","label":"Marabá Paulista - SP"},{"code":"2106326","name":"Maracaçumé","state":"MA","label":"Maracaçumé - MA"},{"code":"3528809","name":"Maracaí","state":"SP","label":"Maracaí - SP"},{"code":"4210407","name":"Maracajá","state":"SC","label":"Maracajá - SC"},{"code":"5005400","name":"Maracaju","state":"MS","label":"Maracaju - MS"},{"code":"1504307","name":"Maracanã","state":"PA","label":"Maracanã - PA"},{"code":"2307650","name":"Maracanaú","state":"CE","label":"Maracanaú - CE"},{"code":"2920502","name":"Maracás","state":"BA","label":"Maracás - BA"},{"code":"2704500","name":"Maragogi","state":"AL","label":"Maragogi - AL"},{"code":"2920601","name":"Maragogipe","state":"BA","label":"Maragogipe - BA"},{"code":"2609204","name":"Maraial","state":"PE","label":"Maraial - PE"},{"code":"2106359","name":"Marajá do Sena","state":"MA","label":"Marajá do Sena - MA"},{"code":"2307700","name":"Maranguape","state":"CE","label":"Maranguape - CE"},{"code":"2106375","name":"Maranhãozinho","state":"MA","label":"Maranhãozinho - MA"},{"code":"1504406","name":"Marapanim","state":"PA","label":"Marapanim - PA"},{"code":"3528858","name":"Marapoama","state":"SP","label":"Marapoama - SP"},{"code":"4311791","name":"Maratá","state":"RS","label":"Maratá - RS"},{"code":"3203320","name":"Marataízes","state":"ES","label":"Marataízes - ES"},{"code":"4311809","name":"Marau","state":"RS","label":"Marau - RS"},{"code":"2920700","name":"Maraú","state":"BA","label":"Maraú - BA"},{"code":"2704609","name":"Maravilha","state":"AL","label":"Maravilha - AL"},{"code":"4210506","name":"Maravilha","state":"SC","label":"Maravilha - SC"},{"code":"3139706","name":"Maravilhas","state":"MG","label":"Maravilhas - MG"},{"code":"2509057","name":"Marcação","state":"PB","label":"Marcação - PB"},{"code":"5105580","name":"Marcelândia","state":"MT","label":"Marcelândia - MT"},{"code":"4311908","name":"Marcelino Ramos","state":"RS","label":"Marcelino Ramos - RS"},{"code":"2407302","name":"Marcelino Vieira","state":"RN","label":"Marcelino Vieira - RN"},{"code":"2920809","name":"Marcionílio Souza","state":"BA","label":"Marcionílio Souza - BA"},{"code":"2307809","name":"Marco","state":"CE","label":"Marco - CE"},{"code":"2205953","name":"Marcolândia","state":"PI","label":"Marcolândia - PI"},{"code":"2206001","name":"Marcos Parente","state":"PI","label":"Marcos Parente - PI"},{"code":"4114609","name":"Marechal Cândido Rondon","state":"PR","label":"Marechal Cândido Rondon - PR"},{"code":"2704708","name":"Marechal Deodoro","state":"AL","label":"Marechal Deodoro - AL"},{"code":"3203346","name":"Marechal Floriano","state":"ES","label":"Marechal Floriano - ES"},{"code":"1200351","name":"Marechal Thaumaturgo","state":"AC","label":"Marechal Thaumaturgo - AC"},{"code":"4210555","name":"Marema","state":"SC","label":"Marema - SC"},{"code":"2509107","name":"Mari","state":"PB","label":"Mari - PB"},{"code":"3139904","name":"Maria da Fé","state":"MG","label":"Maria da Fé - MG"},{"code":"4114708","name":"Maria Helena","state":"PR","label":"Maria Helena - PR"},{"code":"4114807","name":"Marialva","state":"PR","label":"Marialva - PR"},{"code":"3140001","name":"Mariana","state":"MG","label":"Mariana - MG"},{"code":"4311981","name":"Mariana Pimentel","state":"RS","label":"Mariana Pimentel - RS"},{"code":"4312005","name":"Mariano Moro","state":"RS","label":"Mariano Moro - RS"},{"code":"1712504","name":"Marianópolis do Tocantins","state":"TO","label":"Marianópolis do Tocantins - TO"},{"code":"3528908","name":"Mariápolis","state":"SP","label":"Mariápolis - SP"},{"code":"2704807","name":"Maribondo","state":"AL","label":"Maribondo - AL"},{"code":"3302700","name":"Maricá","state":"RJ","label":"Maricá - RJ"},{"code":"3140100","name":"Marilac","state":"MG","label":"Marilac - MG"},{"code":"3203353","name":"Marilândia","state":"ES","label":"Marilândia - ES"},{"code":"4114906","name":"Marilândia do Sul","state":"PR","label":"Marilândia do Sul - PR"},{"code":"4115002","name":"Marilena","state":"PR","label":"Marilena - PR"},{"code":"3529005","name":"Marília","state":"SP","label":"Marília - SP"},{"code":"4115101","name":"Mariluz","state":"PR","label":"Mariluz - PR"},{"code":"4115200","name":"Maringá","state":"PR","label":"Maringá - PR"},{"code":"3529104","name":"Marinópolis","state":"SP","label":"Marinópolis - SP"},{"code":"3140159","name":"Mário Campos","state":"MG","label":"Mário Campos - MG"},{"code":"4115309","name":"Mariópolis","state":"PR","label":"Mariópolis - PR"},{"code":"4115358","name":"Maripá","state":"PR","label":"Maripá - PR"},{"code":"3140209","name":"Maripá de Minas","state":"MG","label":"Maripá de Minas - MG"},{"code":"1504422","name":"Marituba","state":"PA","label":"Marituba - PA"},{"code":"2509156","name":"Marizópolis","state":"PB","label":"Marizópolis - PB"},{"code":"3140308","name":"Marliéria","state":"MG","label":"Marliéria - MG"},{"code":"4115408","name":"Marmeleiro","state":"PR","label":"Marmeleiro - PR"},{"code":"3140407","name":"Marmelópolis","state":"MG","label":"Marmelópolis - MG"},{"code":"4312054","name":"Marques de Souza","state":"RS","label":"Marques de Souza - RS"},{"code":"4115457","name":"Marquinho","state":"PR","label":"Marquinho - PR"},{"code":"3140506","name":"Martinho Campos","state":"MG","label":"Martinho Campos - MG"},{"code":"2307908","name":"Martinópole","state":"CE","label":"Martinópole - CE"},{"code":"3529203","name":"Martinópolis","state":"SP","label":"Martinópolis - SP"},{"code":"2407401","name":"Martins","state":"RN","label":"Martins - RN"},{"code":"3140530","name":"Martins Soares","state":"MG","label":"Martins Soares - MG"},{"code":"2804003","name":"Maruim","state":"SE","label":"Maruim - SE"},{"code":"4115507","name":"Marumbi","state":"PR","label":"Marumbi - PR"},{"code":"5212907","name":"Marzagão","state":"GO","label":"Marzagão - GO"},{"code":"2920908","name":"Mascote","state":"BA","label":"Mascote - BA"},{"code":"2308005","name":"Massapê","state":"CE","label":"Massapê - CE"},{"code":"2206050","name":"Massapê do Piauí","state":"PI","label":"Massapê do Piauí - PI"},{"code":"2509206","name":"Massaranduba","state":"PB","label":"Massaranduba - PB"},{"code":"4210605","name":"Massaranduba","state":"SC","label":"Massaranduba - SC"},{"code":"4312104","name":"Mata","state":"RS","label":"Mata - RS"},{"code":"2921005","name":"Mata de São João","state":"BA","label":"Mata de São João - BA"},{"code":"2705002","name":"Mata Grande","state":"AL","label":"Mata Grande - AL"},{"code":"2106409","name":"Mata Roma","state":"MA","label":"Mata Roma - MA"},{"code":"3140555","name":"Mata Verde","state":"MG","label":"Mata Verde - MG"},{"code":"3529302","name":"Matão","state":"SP","label":"Matão - SP"},{"code":"2509305","name":"Mataraca","state":"PB","label":"Mataraca - PB"},{"code":"1712702","name":"Mateiros","state":"TO","label":"Mateiros - TO"},{"code":"4115606","name":"Matelândia","state":"PR","label":"Matelândia - PR"},{"code":"3140605","name":"Materlândia","state":"MG","label":"Materlândia - MG"},{"code":"3140704","name":"Mateus Leme","state":"MG","label":"Mateus Leme - MG"},{"code":"3171501","name":"Mathias Lobato","state":"MG","label":"Mathias Lobato - MG"},{"code":"3140803","name":"Matias Barbosa","state":"MG","label":"Matias Barbosa - MG"},{"code":"3140852","name":"Matias Cardoso","state":"MG","label":"Matias Cardoso - MG"},{"code":"2206100","name":"Matias Olímpio","state":"PI","label":"Matias Olímpio - PI"},{"code":"2921054","name":"Matina","state":"BA","label":"Matina - BA"},{"code":"2106508","name":"Matinha","state":"MA","label":"Matinha - MA"},{"code":"2509339","name":"Matinhas","state":"PB","label":"Matinhas - PB"},{"code":"4115705","name":"Matinhos","state":"PR","label":"Matinhos - PR"},{"code":"3140902","name":"Matipó","state":"MG","label":"Matipó - MG"},{"code":"4312138","name":"Mato Castelhano","state":"RS","label":"Mato Castelhano - RS"},{"code":"2509370","name":"Mato Grosso","state":"PB","label":"Mato Grosso - PB"},{"code":"4312153","name":"Mato Leitão","state":"RS","label":"Mato Leitão - RS"},{"code":"4312179","name":"Mato Queimado","state":"RS","label":"Mato Queimado - RS"},{"code":"4115739","name":"Mato Rico","state":"PR","label":"Mato Rico - PR"},{"code":"3141009","name":"Mato Verde","state":"MG","label":"Mato Verde - MG"},{"code":"2106607","name":"Matões","state":"MA","label":"Matões - MA"},{"code":"2106631","name":"Matões do Norte","state":"MA","label":"Matões do Norte - MA"},{"code":"4210704","name":"Matos Costa","state":"SC","label":"Matos Costa - SC"},{"code":"3141108","name":"Matozinhos","state":"MG","label":"Matozinhos - MG"},{"code":"5212956","name":"Matrinchã","state":"GO","label":"Matrinchã - GO"},{"code":"2705101","name":"Matriz de Camaragibe","state":"AL","label":"Matriz de Camaragibe - AL"},{"code":"5105606","name":"Matupá","state":"MT","label":"Matupá - MT"},{"code":"2509396","name":"Maturéia","state":"PB","label":"Maturéia - PB"},{"code":"3141207","name":"Matutina","state":"MG","label":"Matutina - MG"},{"code":"3529401","name":"Mauá","state":"SP","label":"Mauá - SP"},{"code":"4115754","name":"Mauá da Serra","state":"PR","label":"Mauá da Serra - PR"},{"code":"1302900","name":"Maués","state":"AM","label":"Maués - AM"},{"code":"5213004","name":"Maurilândia","state":"GO","label":"Maurilândia - GO"},{"code":"1712801","name":"Maurilândia do Tocantins","state":"TO","label":"Maurilândia do Tocantins - TO"},{"code":"2308104","name":"Mauriti","state":"CE","label":"Mauriti - CE"},{"code":"2407500","name":"Maxaranguape","state":"RN","label":"Maxaranguape - RN"},{"code":"4312203","name":"Maximiliano de Almeida","state":"RS","label":"Maximiliano de Almeida - RS"},{"code":"1600402","name":"Mazagão","state":"AP","label":"Mazagão - AP"},{"code":"3141306","name":"Medeiros","state":"MG","label":"Medeiros - MG"},{"code":"2921104","name":"Medeiros Neto","state":"BA","label":"Medeiros Neto - BA"},{"code":"4115804","name":"Medianeira","state":"PR","label":"Medianeira - PR"},{"code":"1504455","name":"Medicilândia","state":"PA","label":"Medicilândia - PA"},{"code":"3141405","name":"Medina","state":"MG","label":"Medina - MG"},{"code":"4210803","name":"Meleiro","state":"SC","label":"Meleiro - SC"},{"code":"1504505","name":"Melgaço","state":"PA","label":"Melgaço - PA"},{"code":"3302809","name":"Mendes","state":"RJ","label":"Mendes - RJ"},{"code":"3141504","name":"Mendes Pimentel","state":"MG","label":"Mendes Pimentel - MG"},{"code":"3529500","name":"Mendonça","state":"SP","label":"Mendonça - SP"},{"code":"4115853","name":"Mercedes","state":"PR","label":"Mercedes - PR"},{"code":"3141603","name":"Mercês","state":"MG","label":"Mercês - MG"},{"code":"3529609","name":"Meridiano","state":"SP","label":"Meridiano - SP"},{"code":"2308203","name":"Meruoca","state":"CE","label":"Meruoca - CE"},{"code":"3529658","name":"Mesópolis","state":"SP","label":"Mesópolis - SP"},{"code":"3302858","name":"Mesquita","state":"RJ","label":"Mesquita - RJ"},{"code":"3141702","name":"Mesquita","state":"MG","label":"Mesquita - MG"},{"code":"2705200","name":"Messias","state":"AL","label":"Messias - AL"},{"code":"2407609","name":"Messias Targino","state":"RN","label":"Messias Targino - RN"},{"code":"2206209","name":"Miguel Alves","state":"PI","label":"Miguel Alves - PI"},{"code":"2921203","name":"Miguel Calmon","state":"BA","label":"Miguel Calmon - BA"},{"code":"2206308","name":"Miguel Leão","state":"PI","label":"Miguel Leão - PI"},{"code":"3302908","name":"Miguel Pereira","state":"RJ","label":"Miguel Pereira - RJ"},{"code":"3529708","name":"Miguelópolis","state":"SP","label":"Miguelópolis - SP"},{"code":"2308302","name":"Milagres","state":"CE","label":"Milagres - CE"},{"code":"2921302","name":"Milagres","state":"BA","label":"Milagres - BA"},{"code":"2106672","name":"Milagres do Maranhão","state":"MA","label":"Milagres do Maranhão - MA"},{"code":"2308351","name":"Milhã","state":"CE","label":"Milhã - CE"},{"code":"2206357","name":"Milton Brandão","state":"PI","label":"Milton Brandão - PI"},{"code":"5213053","name":"Mimoso de Goiás","state":"GO","label":"Mimoso de Goiás - GO"},{"code":"3203403","name":"Mimoso do Sul","state":"ES","label":"Mimoso do Sul - ES"},{"code":"5213087","name":"Minaçu","state":"GO","label":"Minaçu - GO"},{"code":"2705309","name":"Minador do Negrão","state":"AL","label":"Minador do Negrão - AL"},{"code":"4312252","name":"Minas do Leão","state":"RS","label":"Minas do Leão - RS"},{"code":"3141801","name":"Minas Novas","state":"MG","label":"Minas Novas - MG"},{"code":"3141900","name":"Minduri","state":"MG","label":"Minduri - MG"},{"code":"5213103","name":"Mineiros","state":"GO","label":"Mineiros - GO"},{"code":"3529807","name":"Mineiros do Tietê","state":"SP","label":"Mineiros do Tietê - SP"},{"code":"1101203","name":"Ministro Andreazza","state":"RO","label":"Ministro Andreazza - RO"},{"code":"3530003","name":"Mira Estrela","state":"SP","label":"Mira Estrela - SP"},{"code":"3142007","name":"Mirabela","state":"MG","label":"Mirabela - MG"},{"code":"3529906","name":"Miracatu","state":"SP","label":"Miracatu - SP"},{"code":"3303005","name":"Miracema","state":"RJ","label":"Miracema - RJ"},{"code":"1713205","name":"Miracema do Tocantins","state":"TO","label":"Miracema do Tocantins - TO"},{"code":"2106706","name":"Mirador","state":"MA","label":"Mirador - MA"},{"code":"4115903","name":"Mirador","state":"PR","label":"Mirador - PR"},{"code":"3142106","name":"Miradouro","state":"MG","label":"Miradouro - MG"},{"code":"4312302","name":"Miraguaí","state":"RS","label":"Miraguaí - RS"},{"code":"3142205","name":"Miraí","state":"MG","label":"Miraí - MG"},{"code":"2308377","name":"Miraíma","state":"CE","label":"Miraíma - CE"},{"code":"5005608","name":"Miranda","state":"MS","label":"Miranda - MS"},{"code":"2106755","name":"Miranda do Norte","state":"MA","label":"Miranda do Norte - MA"},{"code":"2609303","name":"Mirandiba","state":"PE","label":"Mirandiba - PE"},{"code":"3530102","name":"Mirandópolis","state":"SP","label":"Mirandópolis - SP"},{"code":"2921401","name":"Mirangaba","state":"BA","label":"Mirangaba - BA"},{"code":"1713304","name":"Miranorte","state":"TO","label":"Miranorte - TO"},{"code":"2921450","name":"Mirante","state":"BA","label":"Mirante - BA"},{"code":"1101302","name":"Mirante da Serra","state":"RO","label":"Mirante da Serra - RO"},{"code":"3530201","name":"Mirante do Paranapanema","state":"SP","label":"Mirante do Paranapanema - SP"},{"code":"4116000","name":"Miraselva","state":"PR","label":"Miraselva - PR"},{"code":"3530300","name":"Mirassol","state":"SP","label":"Mirassol - SP"},{"code":"5105622","name":"Mirassol d\u0027Oeste","state":"MT","label":"Mirassol d\u0027Oeste - MT"},{"code":"3530409","name":"Mirassolândia","state":"SP","label":"Mirassolândia - SP"},{"code":"3142254","name":"Miravânia","state":"MG","label":"Miravânia - MG"},{"code":"4210852","name":"Mirim Doce","state":"SC","label":"Mirim Doce - SC"},{"code":"2106805","name":"Mirinzal","state":"MA","label":"Mirinzal - MA"},{"code":"4116059","name":"Missal","state":"PR","label":"Missal - PR"},{"code":"2308401","name":"Missão Velha","state":"CE","label":"Missão Velha - CE"},{"code":"1504604","name":"Mocajuba","state":"PA","label":"Mocajuba - PA"},{"code":"3530508","name":"Mococa","state":"SP","label":"Mococa - SP"},{"code":"4210902","name":"Modelo","state":"SC","label":"Modelo - SC"},{"code":"3142304","name":"Moeda","state":"MG","label":"Moeda - MG"},{"code":"3142403","name":"Moema","state":"MG","label":"Moema - MG"},{"code":"2509404","name":"Mogeiro","state":"PB","label":"Mogeiro - PB"},{"code":"3530607","name":"Mogi das Cruzes","state":"SP","label":"Mogi das Cruzes - SP"},{"code":"3530706","name":"Mogi Guaçu","state":"SP","label":"Mogi Guaçu - SP"},{"code":"3530805","name":"Mogi Mirim","state":"SP","label":"Mogi Mirim - SP"},{"code":"5213400","name":"Moiporá","state":"GO","label":"Moiporá - GO"},{"code":"2804102","name":"Moita Bonita","state":"SE","label":"Moita Bonita - SE"},{"code":"1504703","name":"Moju","state":"PA","label":"Moju - PA"},{"code":"1504752","name":"Mojuí dos Campos","state":"PA","label":"Mojuí dos Campos - PA"},{"code":"2308500","name":"Mombaça","state":"CE","label":"Mombaça - CE"},{"code":"3530904","name":"Mombuca","state":"SP","label":"Mombuca - SP"},{"code":"2106904","name":"Monção","state":"MA","label":"Monção - MA"},{"code":"3531001","name":"Monções","state":"SP","label":"Monções - SP"},{"code":"4211009","name":"Mondaí","state":"SC","label":"Mondaí - SC"},{"code":"3531100","name":"Mongaguá","state":"SP","label":"Mongaguá - SP"},{"code":"3142502","name":"Monjolos","state":"MG","label":"Monjolos - MG"},{"code":"2206407","name":"Monsenhor Gil","state":"PI","label":"Monsenhor Gil - PI"},{"code":"2206506","name":"Monsenhor Hipólito","state":"PI","label":"Monsenhor Hipólito - PI"},{"code":"3142601","name":"Monsenhor Paulo","state":"MG","label":"Monsenhor Paulo - MG"},{"code":"2308609","name":"Monsenhor Tabosa","state":"CE","label":"Monsenhor Tabosa - CE"},{"code":"2509503","name":"Montadas","state":"PB","label":"Montadas - PB"},{"code":"3142700","name":"Montalvânia","state":"MG","label":"Montalvânia - MG"},{"code":"3203502","name":"Montanha","state":"ES","label":"Montanha - ES"},{"code":"2407708","name":"Montanhas","state":"RN","label":"Montanhas - RN"},{"code":"4312351","name":"Montauri","state":"RS","label":"Montauri - RS"},{"code":"2407807","name":"Monte Alegre","state":"RN","label":"Monte Alegre - RN"},{"code":"1504802","name":"Monte Alegre","state":"PA","label":"Monte Alegre - PA"},{"code":"5213509","name":"Monte Alegre de Goiás","state":"GO","label":"Monte Alegre de Goiás - GO"},{"code":"3142809","name":"Monte Alegre de Minas","state":"MG","label":"Monte Alegre de Minas - MG"},{"code":"2804201","name":"Monte Alegre de Sergipe","state":"SE","label":"Monte Alegre de Sergipe - SE"},{"code":"2206605","name":"Monte Alegre do Piauí","state":"PI","label":"Monte Alegre do Piauí - PI"},{"code":"3531209","name":"Monte Alegre do Sul","state":"SP","label":"Monte Alegre do Sul - SP"},{"code":"4312377","name":"Monte Alegre dos Campos","state":"RS","label":"Monte Alegre dos Campos - RS"},{"code":"3531308","name":"Monte Alto","state":"SP","label":"Monte Alto - SP"},{"code":"3531407","name":"Monte Aprazível","state":"SP","label":"Monte Aprazível - SP"},{"code":"3142908","name":"Monte Azul","state":"MG","label":"Monte Azul - MG"},{"code":"3531506","name":"Monte Azul Paulista","state":"SP","label":"Monte Azul Paulista - SP"},{"code":"3143005","name":"Monte Belo","state":"MG","label":"Monte Belo - MG"},{"code":"4312385","name":"Monte Belo do Sul","state":"RS","label":"Monte Belo do Sul - RS"},{"code":"4211058","name":"Monte Carlo","state":"SC","label":"Monte Carlo - SC"},{"code":"3143104","name":"Monte Carmelo","state":"MG","label":"Monte Carmelo - MG"},{"code":"4211108","name":"Monte Castelo","state":"SC","label":"Monte Castelo - SC"},{"code":"3531605","name":"Monte Castelo","state":"SP","label":"Monte Castelo - SP"},{"code":"2407906","name":"Monte das Gameleiras","state":"RN","label":"Monte das Gameleiras - RN"},{"code":"1713601","name":"Monte do Carmo","state":"TO","label":"Monte do Carmo - TO"},{"code":"3143153","name":"Monte Formoso","state":"MG","label":"Monte Formoso - MG"},{"code":"2509602","name":"Monte Horebe","state":"PB","label":"Monte Horebe - PB"},{"code":"3531803","name":"Monte Mor","state":"SP","label":"Monte Mor - SP"},{"code":"1101401","name":"Monte Negro","state":"RO","label":"Monte Negro - RO"},{"code":"2921500","name":"Monte Santo","state":"BA","label":"Monte Santo - BA"},{"code":"3143203","name":"Monte Santo de Minas","state":"MG","label":"Monte Santo de Minas - MG"},{"code":"1713700","name":"Monte Santo do Tocantins","state":"TO","label":"Monte Santo do Tocantins - TO"},{"code":"3143401","name":"Monte Sião","state":"MG","label":"Monte Sião - MG"},{"code":"2509701","name":"Monteiro","state":"PB","label":"Monteiro - PB"},{"code":"3531704","name":"Monteiro Lobato","state":"SP","label":"Monteiro Lobato - SP"},{"code":"2705408","name":"Monteirópolis","state":"AL","label":"Monteirópolis - AL"},{"code":"4312401","name":"Montenegro","state":"RS","label":"Montenegro - RS"},{"code":"2107001","name":"Montes Altos","state":"MA","label":"Montes Altos - MA"},{"code":"3143302","name":"Montes Claros","state":"MG","label":"Montes Claros - MG"},{"code":"5213707","name":"Montes Claros de Goiás","state":"GO","label":"Montes Claros de Goiás - GO"},{"code":"3143450","name":"Montezuma","state":"MG","label":"Montezuma - MG"},{"code":"5213756","name":"Montividiu","state":"GO","label":"Montividiu - GO"},{"code":"5213772","name":"Montividiu do Norte","state":"GO","label":"Montividiu do Norte - GO"},{"code":"2308708","name":"Morada Nova","state":"CE","label":"Morada Nova - CE"},{"code":"3143500","name":"Morada Nova de Minas","state":"MG","label":"Morada Nova de Minas - MG"},{"code":"2308807","name":"Moraújo","state":"CE","label":"Moraújo - CE"},{"code":"2614303","name":"Moreilândia","state":"PE","label":"Moreilândia - PE"},{"code":"4116109","name":"Moreira Sales","state":"PR","label":"Moreira Sales - PR"},{"code":"2609402","name":"Moreno","state":"PE","label":"Moreno - PE"},{"code":"4312427","name":"Mormaço","state":"RS","label":"Mormaço - RS"},{"code":"2921609","name":"Morpará","state":"BA","label":"Morpará - BA"},{"code":"4116208","name":"Morretes","state":"PR","label":"Morretes - PR"},{"code":"5213806","name":"Morrinhos","state":"GO","label":"Morrinhos - GO"},{"code":"2308906","name":"Morrinhos","state":"CE","label":"Morrinhos - CE"},{"code":"4312443","name":"Morrinhos do Sul","state":"RS","label":"Morrinhos do Sul - RS"},{"code":"3531902","name":"Morro Agudo","state":"SP","label":"Morro Agudo - SP"},{"code":"5213855","name":"Morro Agudo de Goiás","state":"GO","label":"Morro Agudo de Goiás - GO"},{"code":"2206654","name":"Morro Cabeça no Tempo","state":"PI","label":"Morro Cabeça no Tempo - PI"},{"code":"4211207","name":"Morro da Fumaça","state":"SC","label":"Morro da Fumaça - SC"},{"code":"3143609","name":"Morro da Garça","state":"MG","label":"Morro da Garça - MG"},{"code":"2921708","name":"Morro do Chapéu","state":"BA","label":"Morro do Chapéu - BA"},{"code":"2206670","name":"Morro do Chapéu do Piauí","state":"PI","label":"Morro do Chapéu do Piauí - PI"},{"code":"3143708","name":"Morro do Pilar","state":"MG","label":"Morro do Pilar - MG"},{"code":"4211256","name":"Morro Grande","state":"SC","label":"Morro Grande - SC"},{"code":"4312450","name":"Morro Redondo","state":"RS","label":"Morro Redondo - RS"},{"code":"4312476","name":"Morro Reuter","state":"RS","label":"Morro Reuter - RS"},{"code":"2107100","name":"Morros","state":"MA","label":"Morros - MA"},{"code":"2921807","name":"Mortugaba","state":"BA","label":"Mortugaba - BA"},{"code":"3532009","name":"Morungaba","state":"SP","label":"Morungaba - SP"},{"code":"5213905","name":"Mossâmedes","state":"GO","label":"Mossâmedes - GO"},{"code":"2408003","name":"Mossoró","state":"RN","label":"Mossoró - RN"},{"code":"4312500","name":"Mostardas","state":"RS","label":"Mostardas - RS"},{"code":"3532058","name":"Motuca","state":"SP","label":"Motuca - SP"},{"code":"5214002","name":"Mozarlândia","state":"GO","label":"Mozarlândia - GO"},{"code":"1504901","name":"Muaná","state":"PA","label":"Muaná - PA"},{"code":"1400308","name":"Mucajaí","state":"RR","label":"Mucajaí - RR"},{"code":"2309003","name":"Mucambo","state":"CE","label":"Mucambo - CE"},{"code":"2921906","name":"Mucugê","state":"BA","label":"Mucugê - BA"},{"code":"4312609","name":"Muçum","state":"RS","label":"Muçum - RS"},{"code":"2922003","name":"Mucuri","state":"BA","label":"Mucuri - BA"},{"code":"3203601","name":"Mucurici","state":"ES","label":"Mucurici - ES"},{"code":"4312617","name":"Muitos Capões","state":"RS","label":"Muitos Capões - RS"},{"code":"4312625","name":"Muliterno","state":"RS","label":"Muliterno - RS"},{"code":"2309102","name":"Mulungu","state":"CE","label":"Mulungu - CE"},{"code":"2509800","name":"Mulungu","state":"PB","label":"Mulungu - PB"},{"code":"2922052","name":"Mulungu do Morro","state":"BA","label":"Mulungu do Morro - BA"},{"code":"2922102","name":"Mundo Novo","state":"BA","label":"Mundo Novo - BA"},{"code":"5005681","name":"Mundo Novo","state":"MS","label":"Mundo Novo - MS"},{"code":"5214051","name":"Mundo Novo","state":"GO","label":"Mundo Novo - GO"},{"code":"3143807","name":"Munhoz","state":"MG","label":"Munhoz - MG"},{"code":"4116307","name":"Munhoz de Melo","state":"PR","label":"Munhoz de Melo - PR"},{"code":"2922201","name":"Muniz Ferreira","state":"BA","label":"Muniz Ferreira - BA"},{"code":"3203700","name":"Muniz Freire","state":"ES","label":"Muniz Freire - ES"},{"code":"2922250","name":"Muquém do São Francisco","state":"BA","label":"Muquém do São Francisco - BA"},{"code":"3203809","name":"Muqui","state":"ES","label":"Muqui - ES"},{"code":"3143906","name":"Muriaé","state":"MG","label":"Muriaé - MG"},{"code":"2804300","name":"Muribeca","state":"SE","label":"Muribeca - SE"},{"code":"2705507","name":"Murici","state":"AL","label":"Murici - AL"},{"code":"2206696","name":"Murici dos Portelas","state":"PI","label":"Murici dos Portelas - PI"},{"code":"1713957","name":"Muricilândia","state":"TO","label":"Muricilândia - TO"},{"code":"2922300","name":"Muritiba","state":"BA","label":"Muritiba - BA"},{"code":"3532108","name":"Murutinga do Sul","state":"SP","label":"Murutinga do Sul - SP"},{"code":"2922409","name":"Mutuípe","state":"BA","label":"Mutuípe - BA"},{"code":"3144003","name":"Mutum","state":"MG","label":"Mutum - MG"},{"code":"5214101","name":"Mutunópolis","state":"GO","label":"Mutunópolis - GO"},{"code":"3144102","name":"Muzambinho","state":"MG","label":"Muzambinho - MG"},{"code":"3144201","name":"Nacip Raydan","state":"MG","label":"Nacip Raydan - MG"},{"code":"3532157","name":"Nantes","state":"SP","label":"Nantes - SP"},{"code":"3144300","name":"Nanuque","state":"MG","label":"Nanuque - MG"},{"code":"4312658","name":"Não-Me-Toque","state":"RS","label":"Não-Me-Toque - RS"},{"code":"3144359","name":"Naque","state":"MG","label":"Naque - MG"},{"code":"3532207","name":"Narandiba","state":"SP","label":"Narandiba - SP"},{"code":"2408102","name":"Natal","state":"RN","label":"Natal - RN"},{"code":"3144375","name":"Natalândia","state":"MG","label":"Natalândia - MG"},{"code":"3144409","name":"Natércia","state":"MG","label":"Natércia - MG"},{"code":"3303104","name":"Natividade","state":"RJ","label":"Natividade - RJ"},{"code":"1714203","name":"Natividade","state":"TO","label":"Natividade - TO"},{"code":"3532306","name":"Natividade da Serra","state":"SP","label":"Natividade da Serra - SP"},{"code":"2509909","name":"Natuba","state":"PB","label":"Natuba - PB"},{"code":"4211306","name":"Navegantes","state":"SC","label":"Navegantes - SC"},{"code":"5005707","name":"Naviraí","state":"MS","label":"Naviraí - MS"},{"code":"1714302","name":"Nazaré","state":"TO","label":"Nazaré - TO"},{"code":"2922508","name":"Nazaré","state":"BA","label":"Nazaré - BA"},{"code":"2609501","name":"Nazaré da Mata","state":"PE","label":"Nazaré da Mata - PE"},{"code":"2206704","name":"Nazaré do Piauí","state":"PI","label":"Nazaré do Piauí - PI"},{"code":"3532405","name":"Nazaré Paulista","state":"SP","label":"Nazaré Paulista - SP"},{"code":"3144508","name":"Nazareno","state":"MG","label":"Nazareno - MG"},{"code":"2510006","name":"Nazarezinho","state":"PB","label":"Nazarezinho - PB"},{"code":"2206720","name":"Nazária","state":"PI","label":"Nazária - PI"},{"code":"5214408","name":"Nazário","state":"GO","label":"Nazário - GO"},{"code":"2804409","name":"Neópolis","state":"SE","label":"Neópolis - SE"},{"code":"3144607","name":"Nepomuceno","state":"MG","label":"Nepomuceno - MG"},{"code":"5214507","name":"Nerópolis","state":"GO","label":"Nerópolis - GO"},{"code":"3532504","name":"Neves Paulista","state":"SP","label":"Neves Paulista - SP"},{"code":"1303007","name":"Nhamundá","state":"AM","label":"Nhamundá - AM"},{"code":"3532603","name":"Nhandeara","state":"SP","label":"Nhandeara - SP"},{"code":"4312674","name":"Nicolau Vergueiro","state":"RS","label":"Nicolau Vergueiro - RS"},{"code":"2922607","name":"Nilo Peçanha","state":"BA","label":"Nilo Peçanha - BA"},{"code":"3303203","name":"Nilópolis","state":"RJ","label":"Nilópolis - RJ"},{"code":"2107209","name":"Nina Rodrigues","state":"MA","label":"Nina Rodrigues - MA"},{"code":"3144656","name":"Ninheira","state":"MG","label":"Ninheira - MG"},{"code":"5005806","name":"Nioaque","state":"MS","label":"Nioaque - MS"},{"code":"3532702","name":"Nipoã","state":"SP","label":"Nipoã - SP"},{"code":"5214606","name":"Niquelândia","state":"GO","label":"Niquelândia - GO"},{"code":"2408201","name":"Nísia Floresta","state":"RN","label":"Nísia Floresta - RN"},{"code":"3303302","name":"Niterói","state":"RJ","label":"Niterói - RJ"},{"code":"5105903","name":"Nobres","state":"MT","label":"Nobres - MT"},{"code":"4312708","name":"Nonoai","state":"RS","label":"Nonoai - RS"},{"code":"2922656","name":"Nordestina","state":"BA","label":"Nordestina - BA"},{"code":"1400407","name":"Normandia","state":"RR","label":"Normandia - RR"},{"code":"5106000","name":"Nortelândia","state":"MT","label":"Nortelândia - MT"},{"code":"2804458","name":"Nossa Senhora Aparecida","state":"SE","label":"Nossa Senhora Aparecida - SE"},{"code":"2804508","name":"Nossa Senhora da Glória","state":"SE","label":"Nossa Senhora da Glória - SE"},{"code":"2804607","name":"Nossa Senhora das Dores","state":"SE","label":"Nossa Senhora das Dores - SE"},{"code":"4116406","name":"Nossa Senhora das Graças","state":"PR","label":"Nossa Senhora das Graças - PR"},{"code":"2804706","name":"Nossa Senhora de Lourdes","state":"SE","label":"Nossa Senhora de Lourdes - SE"},{"code":"2206753","name":"Nossa Senhora de Nazaré","state":"PI","label":"Nossa Senhora de Nazaré - PI"},{"code":"5106109","name":"Nossa Senhora do Livramento","state":"MT","label":"Nossa Senhora do Livramento - MT"},{"code":"2804805","name":"Nossa Senhora do Socorro","state":"SE","label":"Nossa Senhora do Socorro - SE"},{"code":"2206803","name":"Nossa Senhora dos Remédios","state":"PI","label":"Nossa Senhora dos Remédios - PI"},{"code":"3532801","name":"Nova Aliança","state":"SP","label":"Nova Aliança - SP"},{"code":"4116505","name":"Nova Aliança do Ivaí","state":"PR","label":"Nova Aliança do Ivaí - PR"},{"code":"4312757","name":"Nova Alvorada","state":"RS","label":"Nova Alvorada - RS"},{"code":"5006002","name":"Nova Alvorada do Sul","state":"MS","label":"Nova Alvorada do Sul - MS"},{"code":"5214705","name":"Nova América","state":"GO","label":"Nova América - GO"},{"code":"4116604","name":"Nova América da Colina","state":"PR","label":"Nova América da Colina - PR"},{"code":"5006200","name":"Nova Andradina","state":"MS","label":"Nova Andradina - MS"},{"code":"4312807","name":"Nova Araçá","state":"RS","label":"Nova Araçá - RS"},{"code":"5214804","name":"Nova Aurora","state":"GO","label":"Nova Aurora - GO"},{"code":"4116703","name":"Nova Aurora","state":"PR","label":"Nova Aurora - PR"},{"code":"5106158","name":"Nova Bandeirantes","state":"MT","label":"Nova Bandeirantes - MT"},{"code":"4312906","name":"Nova Bassano","state":"RS","label":"Nova Bassano - RS"},{"code":"3144672","name":"Nova Belém","state":"MG","label":"Nova Belém - MG"},{"code":"4312955","name":"Nova Boa Vista","state":"RS","label":"Nova Boa Vista - RS"},{"code":"5106208","name":"Nova Brasilândia","state":"MT","label":"Nova Brasilândia - MT"},{"code":"1100148","name":"Nova Brasilândia D\u0027Oeste","state":"RO","label":"Nova Brasilândia D\u0027Oeste - RO"},{"code":"4313003","name":"Nova Bréscia","state":"RS","label":"Nova Bréscia - RS"},{"code":"3532827","name":"Nova Campina","state":"SP","label":"Nova Campina - SP"},{"code":"2922706","name":"Nova Canaã","state":"BA","label":"Nova Canaã - BA"},{"code":"5106216","name":"Nova Canaã do Norte","state":"MT","label":"Nova Canaã do Norte - MT"},{"code":"3532843","name":"Nova Canaã Paulista","state":"SP","label":"Nova Canaã Paulista - SP"},{"code":"4313011","name":"Nova Candelária","state":"RS","label":"Nova Candelária - RS"},{"code":"4116802","name":"Nova Cantu","state":"PR","label":"Nova Cantu - PR"},{"code":"3532868","name":"Nova Castilho","state":"SP","label":"Nova Castilho - SP"},{"code":"2107258","name":"Nova Colinas","state":"MA","label":"Nova Colinas - MA"},{"code":"5214838","name":"Nova Crixás","state":"GO","label":"Nova Crixás - GO"},{"code":"2408300","name":"Nova Cruz","state":"RN","label":"Nova Cruz - RN"},{"code":"3144706","name":"Nova Era","state":"MG","label":"Nova Era - MG"},{"code":"4211405","name":"Nova Erechim","state":"SC","label":"Nova Erechim - SC"},{"code":"4116901","name":"Nova Esperança","state":"PR","label":"Nova Esperança - PR"},{"code":"1504950","name":"Nova Esperança do Piriá","state":"PA","label":"Nova Esperança do Piriá - PA"},{"code":"4116950","name":"Nova Esperança do Sudoeste","state":"PR","label":"Nova Esperança do Sudoeste - PR"},{"code":"4313037","name":"Nova Esperança do Sul","state":"RS","label":"Nova Esperança do Sul - RS"},{"code":"3532900","name":"Nova Europa","state":"SP","label":"Nova Europa - SP"},{"code":"4117008","name":"Nova Fátima","state":"PR","label":"Nova Fátima - PR"},{"code":"2922730","name":"Nova Fátima","state":"BA","label":"Nova Fátima - BA"},{"code":"2510105","name":"Nova Floresta","state":"PB","label":"Nova Floresta - PB"},{"code":"3303401","name":"Nova Friburgo","state":"RJ","label":"Nova Friburgo - RJ"},{"code":"5214861","name":"Nova Glória","state":"GO","label":"Nova Glória - GO"},{"code":"3533007","name":"Nova Granada","state":"SP","label":"Nova Granada - SP"},{"code":"5108808","name":"Nova Guarita","state":"MT","label":"Nova Guarita - MT"},{"code":"3533106","name":"Nova Guataporanga","state":"SP","label":"Nova Guataporanga - SP"},{"code":"4313060","name":"Nova Hartz","state":"RS","label":"Nova Hartz - RS"},{"code":"2922755","name":"Nova Ibiá","state":"BA","label":"Nova Ibiá - BA"},{"code":"3303500","name":"Nova Iguaçu","state":"RJ","label":"Nova Iguaçu - RJ"},{"code":"5214879","name":"Nova Iguaçu de Goiás","state":"GO","label":"Nova Iguaçu de Goiás - GO"},{"code":"3533205","name":"Nova Independência","state":"SP","label":"Nova Independência - SP"},{"code":"2107308","name":"Nova Iorque","state":"MA","label":"Nova Iorque - MA"},{"code":"1504976","name":"Nova Ipixuna","state":"PA","label":"Nova Ipixuna - PA"},{"code":"4211454","name":"Nova Itaberaba","state":"SC","label":"Nova Itaberaba - SC"},{"code":"2922805","name":"Nova Itarana","state":"BA","label":"Nova Itarana - BA"},{"code":"5106182","name":"Nova Lacerda","state":"MT","label":"Nova Lacerda - MT"},{"code":"4117057","name":"Nova Laranjeiras","state":"PR","label":"Nova Laranjeiras - PR"},{"code":"3144805","name":"Nova Lima","state":"MG","label":"Nova Lima - MG"},{"code":"4117107","name":"Nova Londrina","state":"PR","label":"Nova Londrina - PR"},{"code":"3533304","name":"Nova Luzitânia","state":"SP","label":"Nova Luzitânia - SP"},{"code":"1100338","name":"Nova Mamoré","state":"RO","label":"Nova Mamoré - RO"},{"code":"5108857","name":"Nova Marilândia","state":"MT","label":"Nova Marilândia - MT"},{"code":"5108907","name":"Nova Maringá","state":"MT","label":"Nova Maringá - MT"},{"code":"3144904","name":"Nova Módica","state":"MG","label":"Nova Módica - MG"},{"code":"5108956","name":"Nova Monte Verde","state":"MT","label":"Nova Monte Verde - MT"},{"code":"5106224","name":"Nova Mutum","state":"MT","label":"Nova Mutum - MT"},{"code":"5106174","name":"Nova Nazaré","state":"MT","label":"Nova Nazaré - MT"},{"code":"3533403","name":"Nova Odessa","state":"SP","label":"Nova Odessa - SP"},{"code":"4117206","name":"Nova Olímpia","state":"PR","label":"Nova Olímpia - PR"},{"code":"5106232","name":"Nova Olímpia","state":"MT","label":"Nova Olímpia - MT"},{"code":"1714880","name":"Nova Olinda","state":"TO","label":"Nova Olinda - TO"},{"code":"2510204","name":"Nova Olinda","state":"PB","label":"Nova Olinda - PB"},{"code":"2309201","name":"Nova Olinda","state":"CE","label":"Nova Olinda - CE"},{"code":"2107357","name":"Nova Olinda do Maranhão","state":"MA","label":"Nova Olinda do Maranhão - MA"},{"code":"1303106","name":"Nova Olinda do Norte","state":"AM","label":"Nova Olinda do Norte - AM"},{"code":"4313086","name":"Nova Pádua","state":"RS","label":"Nova Pádua - RS"},{"code":"4313102","name":"Nova Palma","state":"RS","label":"Nova Palma - RS"},{"code":"2510303","name":"Nova Palmeira","state":"PB","label":"Nova Palmeira - PB"},{"code":"4313201","name":"Nova Petrópolis","state":"RS","label":"Nova Petrópolis - RS"},{"code":"3145000","name":"Nova Ponte","state":"MG","label":"Nova Ponte - MG"},{"code":"3145059","name":"Nova Porteirinha","state":"MG","label":"Nova Porteirinha - MG"},{"code":"4313300","name":"Nova Prata","state":"RS","label":"Nova Prata - RS"},{"code":"4117255","name":"Nova Prata do Iguaçu","state":"PR","label":"Nova Prata do Iguaçu - PR"},{"code":"4313334","name":"Nova Ramada","state":"RS","label":"Nova Ramada - RS"},{"code":"2922854","name":"Nova Redenção","state":"BA","label":"Nova Redenção - BA"},{"code":"3145109","name":"Nova Resende","state":"MG","label":"Nova Resende - MG"},{"code":"5214903","name":"Nova Roma","state":"GO","label":"Nova Roma - GO"},{"code":"4313359","name":"Nova Roma do Sul","state":"RS","label":"Nova Roma do Sul - RS"},{"code":"1715002","name":"Nova Rosalândia","state":"TO","label":"Nova Rosalândia - TO"},{"code":"2309300","name":"Nova Russas","state":"CE","label":"Nova Russas - CE"},{"code":"4117214","name":"Nova Santa Bárbara","state":"PR","label":"Nova Santa Bárbara - PR"},{"code":"5106190","name":"Nova Santa Helena","state":"MT","label":"Nova Santa Helena - MT"},{"code":"4313375","name":"Nova Santa Rita","state":"RS","label":"Nova Santa Rita - RS"},{"code":"2207959","name":"Nova Santa Rita","state":"PI","label":"Nova Santa Rita - PI"},{"code":"4117222","name":"Nova Santa Rosa","state":"PR","label":"Nova Santa Rosa - PR"},{"code":"3145208","name":"Nova Serrana","state":"MG","label":"Nova Serrana - MG"},{"code":"2922904","name":"Nova Soure","state":"BA","label":"Nova Soure - BA"},{"code":"4117271","name":"Nova Tebas","state":"PR","label":"Nova Tebas - PR"},{"code":"1505007","name":"Nova Timboteua","state":"PA","label":"Nova Timboteua - PA"},{"code":"4211504","name":"Nova Trento","state":"SC","label":"Nova Trento - SC"},{"code":"5106240","name":"Nova Ubiratã","state":"MT","label":"Nova Ubiratã - MT"},{"code":"1101435","name":"Nova União","state":"RO","label":"Nova União - RO"},{"code":"3136603","name":"Nova União","state":"MG","label":"Nova União - MG"},{"code":"3203908","name":"Nova Venécia","state":"ES","label":"Nova Venécia - ES"},{"code":"5215009","name":"Nova Veneza","state":"GO","label":"Nova Veneza - GO"},{"code":"4211603","name":"Nova Veneza","state":"SC","label":"Nova Veneza - SC"},{"code":"2923001","name":"Nova Viçosa","state":"BA","label":"Nova Viçosa - BA"},{"code":"5106257","name":"Nova Xavantina","state":"MT","label":"Nova Xavantina - MT"},{"code":"3533254","name":"Novais","state":"SP","label":"Novais - SP"},{"code":"1715101","name":"Novo Acordo","state":"TO","label":"Novo Acordo - TO"},{"code":"1303205","name":"Novo Airão","state":"AM","label":"Novo Airão - AM"},{"code":"1715150","name":"Novo Alegre","state":"TO","label":"Novo Alegre - TO"},{"code":"1303304","name":"Novo Aripuanã","state":"AM","label":"Novo Aripuanã - AM"},{"code":"4313490","name":"Novo Barreiro","state":"RS","label":"Novo Barreiro - RS"},{"code":"5215207","name":"Novo Brasil","state":"GO","label":"Novo Brasil - GO"},{"code":"4313391","name":"Novo Cabrais","state":"RS","label":"Novo Cabrais - RS"},{"code":"3145307","name":"Novo Cruzeiro","state":"MG","label":"Novo Cruzeiro - MG"},{"code":"5215231","name":"Novo Gama","state":"GO","label":"Novo Gama - GO"},{"code":"4313409","name":"Novo Hamburgo","state":"RS","label":"Novo Hamburgo - RS"},{"code":"4211652","name":"Novo Horizonte","state":"SC","label":"Novo Horizonte - SC"},{"code":"3533502","name":"Novo Horizonte","state":"SP","label":"Novo Horizonte - SP"},{"code":"2923035","name":"Novo Horizonte","state":"BA","label":"Novo Horizonte - BA"},{"code":"5106273","name":"Novo Horizonte do Norte","state":"MT","label":"Novo Horizonte do Norte - MT"},{"code":"1100502","name":"Novo Horizonte do Oeste","state":"RO","label":"Novo Horizonte do Oeste - RO"},{"code":"5006259","name":"Novo Horizonte do Sul","state":"MS","label":"Novo Horizonte do Sul - MS"},{"code":"4117297","name":"Novo Itacolomi","state":"PR","label":"Novo Itacolomi - PR"},{"code":"1715259","name":"Novo Jardim","state":"TO","label":"Novo Jardim - TO"},{"code":"2705606","name":"Novo Lino","state":"AL","label":"Novo Lino - AL"},{"code":"4313425","name":"Novo Machado","state":"RS","label":"Novo Machado - RS"},{"code":"5106265","name":"Novo Mundo","state":"MT","label":"Novo Mundo - MT"},{"code":"2309409","name":"Novo Oriente","state":"CE","label":"Novo Oriente - CE"},{"code":"3145356","name":"Novo Oriente de Minas","state":"MG","label":"Novo Oriente de Minas - MG"},{"code":"2206902","name":"Novo Oriente do Piauí","state":"PI","label":"Novo Oriente do Piauí - PI"},{"code":"5215256","name":"Novo Planalto","state":"GO","label":"Novo Planalto - GO"},{"code":"1505031","name":"Novo Progresso","state":"PA","label":"Novo Progresso - PA"},{"code":"1505064","name":"Novo Repartimento","state":"PA","label":"Novo Repartimento - PA"},{"code":"2206951","name":"Novo Santo Antônio","state":"PI","label":"Novo Santo Antônio - PI"},{"code":"5106315","name":"Novo Santo Antônio","state":"MT","label":"Novo Santo Antônio - MT"},{"code":"5106281","name":"Novo São Joaquim","state":"MT","label":"Novo São Joaquim - MT"},{"code":"4313441","name":"Novo Tiradentes","state":"RS","label":"Novo Tiradentes - RS"},{"code":"2923050","name":"Novo Triunfo","state":"BA","label":"Novo Triunfo - BA"},{"code":"4313466","name":"Novo Xingu","state":"RS","label":"Novo Xingu - RS"},{"code":"3145372","name":"Novorizonte","state":"MG","label":"Novorizonte - MG"},{"code":"3533601","name":"Nuporanga","state":"SP","label":"Nuporanga - SP"},{"code":"1505106","name":"Óbidos","state":"PA","label":"Óbidos - PA"},{"code":"2309458","name":"Ocara","state":"CE","label":"Ocara - CE"},{"code":"3533700","name":"Ocauçu","state":"SP","label":"Ocauçu - SP"},{"code":"2207009","name":"Oeiras","state":"PI","label":"Oeiras - PI"},{"code":"1505205","name":"Oeiras do Pará","state":"PA","label":"Oeiras do Pará - PA"},{"code":"1600501","name":"Oiapoque","state":"AP","label":"Oiapoque - AP"},{"code":"3145406","name":"Olaria","state":"MG","label":"Olaria - MG"},{"code":"3533809","name":"Óleo","state":"SP","label":"Óleo - SP"},{"code":"2510402","name":"Olho d\u0027Água","state":"PB","label":"Olho d\u0027Água - PB"},{"code":"2107407","name":"Olho d\u0027Água das Cunhãs","state":"MA","label":"Olho d\u0027Água das Cunhãs - MA"},{"code":"2705705","name":"Olho d\u0027Água das Flores","state":"AL","label":"Olho d\u0027Água das Flores - AL"},{"code":"2408409","name":"Olho d\u0027Água do Borges","state":"RN","label":"Olho d\u0027Água do Borges - RN"},{"code":"2705804","name":"Olho d\u0027Água do Casado","state":"AL","label":"Olho d\u0027Água do Casado - AL"},{"code":"2207108","name":"Olho D\u0027Água do Piauí","state":"PI","label":"Olho D\u0027Água do Piauí - PI"},{"code":"2705903","name":"Olho d\u0027Água Grande","state":"AL","label":"Olho d\u0027Água Grande - AL"},{"code":"3145455","name":"Olhos-d\u0027Água","state":"MG","label":"Olhos-d\u0027Água - MG"},{"code":"3533908","name":"Olímpia","state":"SP","label":"Olímpia - SP"},{"code":"3145505","name":"Olímpio Noronha","state":"MG","label":"Olímpio Noronha - MG"},{"code":"2609600","name":"Olinda","state":"PE","label":"Olinda - PE"},{"code":"2107456","name":"Olinda Nova do Maranhão","state":"MA","label":"Olinda Nova do Maranhão - MA"},{"code":"2923100","name":"Olindina","state":"BA","label":"Olindina - BA"},{"code":"2510501","name":"Olivedos","state":"PB","label":"Olivedos - PB"},{"code":"3145604","name":"Oliveira","state":"MG","label":"Oliveira - MG"},{"code":"1715507","name":"Oliveira de Fátima","state":"TO","label":"Oliveira de Fátima - TO"},{"code":"2923209","name":"Oliveira dos Brejinhos","state":"BA","label":"Oliveira dos Brejinhos - BA"},{"code":"3145703","name":"Oliveira Fortes","state":"MG","label":"Oliveira Fortes - MG"},{"code":"2706000","name":"Olivença","state":"AL","label":"Olivença - AL"},{"code":"3145802","name":"Onça de Pitangui","state":"MG","label":"Onça de Pitangui - MG"},{"code":"3534005","name":"Onda Verde","state":"SP","label":"Onda Verde - SP"},{"code":"3145851","name":"Oratórios","state":"MG","label":"Oratórios - MG"},{"code":"3534104","name":"Oriente","state":"SP","label":"Oriente - SP"},{"code":"3534203","name":"Orindiúva","state":"SP","label":"Orindiúva - SP"},{"code":"1505304","name":"Oriximiná","state":"PA","label":"Oriximiná - PA"},{"code":"3145877","name":"Orizânia","state":"MG","label":"Orizânia - MG"},{"code":"5215306","name":"Orizona","state":"GO","label":"Orizona - GO"},{"code":"3534302","name":"Orlândia","state":"SP","label":"Orlândia - SP"},{"code":"4211702","name":"Orleans","state":"SC","label":"Orleans - SC"},{"code":"2609709","name":"Orobó","state":"PE","label":"Orobó - PE"},{"code":"2609808","name":"Orocó","state":"PE","label":"Orocó - PE"},{"code":"2309508","name":"Orós","state":"CE","label":"Orós - CE"},{"code":"4117305","name":"Ortigueira","state":"PR","label":"Ortigueira - PR"},{"code":"3534401","name":"Osasco","state":"SP","label":"Osasco - SP"},{"code":"3534500","name":"Oscar Bressane","state":"SP","label":"Oscar Bressane - SP"},{"code":"4313508","name":"Osório","state":"RS","label":"Osório - RS"},{"code":"3534609","name":"Osvaldo Cruz","state":"SP","label":"Osvaldo Cruz - SP"},{"code":"4211751","name":"Otacílio Costa","state":"SC","label":"Otacílio Costa - SC"},{"code":"1505403","name":"Ourém","state":"PA","label":"Ourém - PA"},{"code":"2923308","name":"Ouriçangas","state":"BA","label":"Ouriçangas - BA"},{"code":"2609907","name":"Ouricuri","state":"PE","label":"Ouricuri - PE"},{"code":"1505437","name":"Ourilândia do Norte","state":"PA","label":"Ourilândia do Norte - PA"},{"code":"3534708","name":"Ourinhos","state":"SP","label":"Ourinhos - SP"},{"code":"4117404","name":"Ourizona","state":"PR","label":"Ourizona - PR"},{"code":"4211801","name":"Ouro","state":"SC","label":"Ouro - SC"},{"code":"3145901","name":"Ouro Branco","state":"MG","label":"Ouro Branco - MG"},{"code":"2408508","name":"Ouro Branco","state":"RN","label":"Ouro Branco - RN"},{"code":"2706109","name":"Ouro Branco","state":"AL","label":"Ouro Branco - AL"},{"code":"3146008","name":"Ouro Fino","state":"MG","label":"Ouro Fino - MG"},{"code":"3146107","name":"Ouro Preto","state":"MG","label":"Ouro Preto - MG"},{"code":"1100155","name":"Ouro Preto do Oeste","state":"RO","label":"Ouro Preto do Oeste - RO"},{"code":"2510600","name":"Ouro Velho","state":"PB","label":"Ouro Velho - PB"},{"code":"3534807","name":"Ouro Verde","state":"SP","label":"Ouro Verde - SP"},{"code":"4211850","name":"Ouro Verde","state":"SC","label":"Ouro Verde - SC"},{"code":"5215405","name":"Ouro Verde de Goiás","state":"GO","label":"Ouro Verde de Goiás - GO"},{"code":"3146206","name":"Ouro Verde de Minas","state":"MG","label":"Ouro Verde de Minas - MG"},{"code":"4117453","name":"Ouro Verde do Oeste","state":"PR","label":"Ouro Verde do Oeste - PR"},{"code":"3534757","name":"Ouroeste","state":"SP","label":"Ouroeste - SP"},{"code":"2923357","name":"Ourolândia","state":"BA","label":"Ourolândia - BA"},{"code":"5215504","name":"Ouvidor","state":"GO","label":"Ouvidor - GO"},{"code":"3534906","name":"Pacaembu","state":"SP","label":"Pacaembu - SP"},{"code":"1505486","name":"Pacajá","state":"PA","label":"Pacajá - PA"},{"code":"2309607","name":"Pacajus","state":"CE","label":"Pacajus - CE"},{"code":"1400456","name":"Pacaraima","state":"RR","label":"Pacaraima - RR"},{"code":"2309706","name":"Pacatuba","state":"CE","label":"Pacatuba - CE"},{"code":"2804904","name":"Pacatuba","state":"SE","label":"Pacatuba - SE"},{"code":"2107506","name":"Paço do Lumiar","state":"MA","label":"Paço do Lumiar - MA"},{"code":"2309805","name":"Pacoti","state":"CE","label":"Pacoti - CE"},{"code":"2309904","name":"Pacujá","state":"CE","label":"Pacujá - CE"},{"code":"5215603","name":"Padre Bernardo","state":"GO","label":"Padre Bernardo - GO"},{"code":"3146255","name":"Padre Carvalho","state":"MG","label":"Padre Carvalho - MG"},{"code":"2207207","name":"Padre Marcos","state":"PI","label":"Padre Marcos - PI"},{"code":"3146305","name":"Padre Paraíso","state":"MG","label":"Padre Paraíso - MG"},{"code":"2207306","name":"Paes Landim","state":"PI","label":"Paes Landim - PI"},{"code":"3146552","name":"Pai Pedro","state":"MG","label":"Pai Pedro - MG"},{"code":"4211876","name":"Paial","state":"SC","label":"Paial - SC"},{"code":"4117503","name":"Paiçandu","state":"PR","label":"Paiçandu - PR"},{"code":"4313607","name":"Paim Filho","state":"RS","label":"Paim Filho - RS"},{"code":"3146404","name":"Paineiras","state":"MG","label":"Paineiras - MG"},{"code":"4211892","name":"Painel","state":"SC","label":"Painel - SC"},{"code":"3146503","name":"Pains","state":"MG","label":"Pains - MG"},{"code":"3146602","name":"Paiva","state":"MG","label":"Paiva - MG"},{"code":"2207355","name":"Pajeú do Piauí","state":"PI","label":"Pajeú do Piauí - PI"},{"code":"2706208","name":"Palestina","state":"AL","label":"Palestina - AL"},{"code":"3535002","name":"Palestina","state":"SP","label":"Palestina - SP"},{"code":"5215652","name":"Palestina de Goiás","state":"GO","label":"Palestina de Goiás - GO"},{"code":"1505494","name":"Palestina do Pará","state":"PA","label":"Palestina do Pará - PA"},{"code":"2310001","name":"Palhano","state":"CE","label":"Palhano - CE"},{"code":"4211900","name":"Palhoça","state":"SC","label":"Palhoça - SC"},{"code":"3146701","name":"Palma","state":"MG","label":"Palma - MG"},{"code":"4212007","name":"Palma Sola","state":"SC","label":"Palma Sola - SC"},{"code":"2310100","name":"Palmácia","state":"CE","label":"Palmácia - CE"},{"code":"2610004","name":"Palmares","state":"PE","label":"Palmares - PE"},{"code":"4313656","name":"Palmares do Sul","state":"RS","label":"Palmares do Sul - RS"},{"code":"3535101","name":"Palmares Paulista","state":"SP","label":"Palmares Paulista - SP"},{"code":"4117602","name":"Palmas","state":"PR","label":"Palmas - PR"},{"code":"1721000","name":"Palmas","state":"TO","label":"Palmas - TO"},{"code":"2923407","name":"Palmas de Monte Alto","state":"BA","label":"Palmas de Monte Alto - BA"},{"code":"4117701","name":"Palmeira","state":"PR","label":"Palmeira - PR"},{"code":"4212056","name":"Palmeira","state":"SC","label":"Palmeira - SC"},{"code":"4313706","name":"Palmeira das Missões","state":"RS","label":"Palmeira das Missões - RS"},{"code":"2207405","name":"Palmeira do Piauí","state":"PI","label":"Palmeira do Piauí - PI"},{"code":"3535200","name":"Palmeira d\u0027Oeste","state":"SP","label":"Palmeira d\u0027Oeste - SP"},{"code":"2706307","name":"Palmeira dos Índios","state":"AL","label":"Palmeira dos Índios - AL"},{"code":"2207504","name":"Palmeirais","state":"PI","label":"Palmeirais - PI"},{"code":"2107605","name":"Palmeirândia","state":"MA","label":"Palmeirândia - MA"},{"code":"1715705","name":"Palmeirante","state":"TO","label":"Palmeirante - TO"},{"code":"2923506","name":"Palmeiras","state":"BA","label":"Palmeiras - BA"},{"code":"5215702","name":"Palmeiras de Goiás","state":"GO","label":"Palmeiras de Goiás - GO"},{"code":"1713809","name":"Palmeiras do Tocantins","state":"TO","label":"Palmeiras do Tocantins - TO"},{"code":"2610103","name":"Palmeirina","state":"PE","label":"Palmeirina - PE"},{"code":"1715754","name":"Palmeirópolis","state":"TO","label":"Palmeirópolis - TO"},{"code":"5215801","name":"Palmelo","state":"GO","label":"Palmelo - GO"},{"code":"5215900","name":"Palminópolis","state":"GO","label":"Palminópolis - GO"},{"code":"4117800","name":"Palmital","state":"PR","label":"Palmital - PR"},{"code":"3535309","name":"Palmital","state":"SP","label":"Palmital - SP"},{"code":"4313805","name":"Palmitinho","state":"RS","label":"Palmitinho - RS"},{"code":"4212106","name":"Palmitos","state":"SC","label":"Palmitos - SC"},{"code":"3146750","name":"Palmópolis","state":"MG","label":"Palmópolis - MG"},{"code":"4117909","name":"Palotina","state":"PR","label":"Palotina - PR"},{"code":"5216007","name":"Panamá","state":"GO","label":"Panamá - GO"},{"code":"4313904","name":"Panambi","state":"RS","label":"Panambi - RS"},{"code":"3204005","name":"Pancas","state":"ES","label":"Pancas - ES"},{"code":"2610202","name":"Panelas","state":"PE","label":"Panelas - PE"},{"code":"3535408","name":"Panorama","state":"SP","label":"Panorama - SP"},{"code":"4313953","name":"Pantano Grande","state":"RS","label":"Pantano Grande - RS"},{"code":"2706406","name":"Pão de Açúcar","state":"AL","label":"Pão de Açúcar - AL"},{"code":"3146909","name":"Papagaios","state":"MG","label":"Papagaios - MG"},{"code":"4212205","name":"Papanduva","state":"SC","label":"Papanduva - SC"},{"code":"2207553","name":"Paquetá","state":"PI","label":"Paquetá - PI"},{"code":"3147105","name":"Pará de Minas","state":"MG","label":"Pará de Minas - MG"},{"code":"3303609","name":"Paracambi","state":"RJ","label":"Paracambi - RJ"},{"code":"3147006","name":"Paracatu","state":"MG","label":"Paracatu - MG"},{"code":"2310209","name":"Paracuru","state":"CE","label":"Paracuru - CE"},{"code":"1505502","name":"Paragominas","state":"PA","label":"Paragominas - PA"},{"code":"3147204","name":"Paraguaçu","state":"MG","label":"Paraguaçu - MG"},{"code":"3535507","name":"Paraguaçu Paulista","state":"SP","label":"Paraguaçu Paulista - SP"},{"code":"4314001","name":"Paraí","state":"RS","label":"Paraí - RS"},{"code":"3303708","name":"Paraíba do Sul","state":"RJ","label":"Paraíba do Sul - RJ"},{"code":"2107704","name":"Paraibano","state":"MA","label":"Paraibano - MA"},{"code":"3535606","name":"Paraibuna","state":"SP","label":"Paraibuna - SP"},{"code":"2310258","name":"Paraipaba","state":"CE","label":"Paraipaba - CE"},{"code":"3535705","name":"Paraíso","state":"SP","label":"Paraíso - SP"},{"code":"4212239","name":"Paraíso","state":"SC","label":"Paraíso - SC"},{"code":"5006275","name":"Paraíso das Águas","state":"MS","label":"Paraíso das Águas - MS"},{"code":"4118006","name":"Paraíso do Norte","state":"PR","label":"Paraíso do Norte - PR"},{"code":"4314027","name":"Paraíso do Sul","state":"RS","label":"Paraíso do Sul - RS"},{"code":"1716109","name":"Paraíso do Tocantins","state":"TO","label":"Paraíso do Tocantins - TO"},{"code":"3147303","name":"Paraisópolis","state":"MG","label":"Paraisópolis - MG"},{"code":"2310308","name":"Parambu","state":"CE","label":"Parambu - CE"},{"code":"2923605","name":"Paramirim","state":"BA","label":"Paramirim - BA"},{"code":"2310407","name":"Paramoti","state":"CE","label":"Paramoti - CE"},{"code":"2408607","name":"Paraná","state":"RN","label":"Paraná - RN"},{"code":"1716208","name":"Paranã","state":"TO","label":"Paranã - TO"},{"code":"4118105","name":"Paranacity","state":"PR","label":"Paranacity - PR"},{"code":"4118204","name":"Paranaguá","state":"PR","label":"Paranaguá - PR"},{"code":"5006309","name":"Paranaíba","state":"MS","label":"Paranaíba - MS"},{"code":"5216304","name":"Paranaiguara","state":"GO","label":"Paranaiguara - GO"},{"code":"5106299","name":"Paranaíta","state":"MT","label":"Paranaíta - MT"},{"code":"3535804","name":"Paranapanema","state":"SP","label":"Paranapanema - SP"},{"code":"4118303","name":"Paranapoema","state":"PR","label":"Paranapoema - PR"},{"code":"3535903","name":"Paranapuã","state":"SP","label":"Paranapuã - SP"},{"code":"2610301","name":"Paranatama","state":"PE","label":"Paranatama - PE"},{"code":"5106307","name":"Paranatinga","state":"MT","label":"Paranatinga - MT"},{"code":"4118402","name":"Paranavaí","state":"PR","label":"Paranavaí - PR"},{"code":"5006358","name":"Paranhos","state":"MS","label":"Paranhos - MS"},{"code":"3147402","name":"Paraopeba","state":"MG","label":"Paraopeba - MG"},{"code":"3536000","name":"Parapuã","state":"SP","label":"Parapuã - SP"},{"code":"2510659","name":"Parari","state":"PB","label":"Parari - PB"},{"code":"2923704","name":"Paratinga","state":"BA","label":"Paratinga - BA"},{"code":"3303807","name":"Paraty","state":"RJ","label":"Paraty - RJ"},{"code":"2408706","name":"Paraú","state":"RN","label":"Paraú - RN"},{"code":"1505536","name":"Parauapebas","state":"PA","label":"Parauapebas - PA"},{"code":"5216403","name":"Paraúna","state":"GO","label":"Paraúna - GO"},{"code":"2408805","name":"Parazinho","state":"RN","label":"Parazinho - RN"},{"code":"3536109","name":"Pardinho","state":"SP","label":"Pardinho - SP"},{"code":"4314035","name":"Pareci Novo","state":"RS","label":"Pareci Novo - RS"},{"code":"1101450","name":"Parecis","state":"RO","label":"Parecis - RO"},{"code":"2408904","name":"Parelhas","state":"RN","label":"Parelhas - RN"},{"code":"2706422","name":"Pariconha","state":"AL","label":"Pariconha - AL"},{"code":"1303403","name":"Parintins","state":"AM","label":"Parintins - AM"},{"code":"2923803","name":"Paripiranga","state":"BA","label":"Paripiranga - BA"},{"code":"2706448","name":"Paripueira","state":"AL","label":"Paripueira - AL"},{"code":"3536208","name":"Pariquera-Açu","state":"SP","label":"Pariquera-Açu - SP"},{"code":"3536257","name":"Parisi","state":"SP","label":"Parisi - SP"},{"code":"2207603","name":"Parnaguá","state":"PI","label":"Parnaguá - PI"},{"code":"2207702","name":"Parnaíba","state":"PI","label":"Parnaíba - PI"},{"code":"2403251","name":"Parnamirim","state":"RN","label":"Parnamirim - RN"},{"code":"2610400","name":"Parnamirim","state":"PE","label":"Parnamirim - PE"},{"code":"2107803","name":"Parnarama","state":"MA","label":"Parnarama - MA"},{"code":"4314050","name":"Parobé","state":"RS","label":"Parobé - RS"},{"code":"2409100","name":"Passa e Fica","state":"RN","label":"Passa e Fica - RN"},{"code":"3147600","name":"Passa Quatro","state":"MG","label":"Passa Quatro - MG"},{"code":"4314068","name":"Passa Sete","state":"RS","label":"Passa Sete - RS"},{"code":"3147709","name":"Passa Tempo","state":"MG","label":"Passa Tempo - MG"},{"code":"3147808","name":"Passa Vinte","state":"MG","label":"Passa Vinte - MG"},{"code":"3147501","name":"Passabém","state":"MG","label":"Passabém - MG"},{"code":"2409209","name":"Passagem","state":"RN","label":"Passagem - RN"},{"code":"2510709","name":"Passagem","state":"PB","label":"Passagem - PB"},{"code":"2107902","name":"Passagem Franca","state":"MA","label":"Passagem Franca - MA"},{"code":"2207751","name":"Passagem Franca do Piauí","state":"PI","label":"Passagem Franca do Piauí - PI"},{"code":"2610509","name":"Passira","state":"PE","label":"Passira - PE"},{"code":"2706505","name":"Passo de Camaragibe","state":"AL","label":"Passo de Camaragibe - AL"},{"code":"4212254","name":"Passo de Torres","state":"SC","label":"Passo de Torres - SC"},{"code":"4314076","name":"Passo do Sobrado","state":"RS","label":"Passo do Sobrado - RS"},{"code":"4314100","name":"Passo Fundo","state":"RS","label":"Passo Fundo - RS"},{"code":"3147907","name":"Passos","state":"MG","label":"Passos - MG"},{"code":"4212270","name":"Passos Maia","state":"SC","label":"Passos Maia - SC"},{"code":"2108009","name":"Pastos Bons","state":"MA","label":"Pastos Bons - MA"},{"code":"3147956","name":"Patis","state":"MG","label":"Patis - MG"},{"code":"4118451","name":"Pato Bragado","state":"PR","label":"Pato Bragado - PR"},{"code":"4118501","name":"Pato Branco","state":"PR","label":"Pato Branco - PR"},{"code":"2510808","name":"Patos","state":"PB","label":"Patos - PB"},{"code":"3148004","name":"Patos de Minas","state":"MG","label":"Patos de Minas - MG"},{"code":"2207777","name":"Patos do Piauí","state":"PI","label":"Patos do Piauí - PI"},{"code":"3148103","name":"Patrocínio","state":"MG","label":"Patrocínio - MG"},{"code":"3148202","name":"Patrocínio do Muriaé","state":"MG","label":"Patrocínio do Muriaé - MG"},{"code":"3536307","name":"Patrocínio Paulista","state":"SP","label":"Patrocínio Paulista - SP"},{"code":"2409308","name":"Patu","state":"RN","label":"Patu - RN"},{"code":"3303856","name":"Paty do Alferes","state":"RJ","label":"Paty do Alferes - RJ"},{"code":"2923902","name":"Pau Brasil","state":"BA","label":"Pau Brasil - BA"},{"code":"1505551","name":"Pau D\u0027Arco","state":"PA","label":"Pau D\u0027Arco - PA"},{"code":"1716307","name":"Pau D\u0027Arco","state":"TO","label":"Pau D\u0027Arco - TO"},{"code":"2207793","name":"Pau D\u0027Arco do Piauí","state":"PI","label":"Pau D\u0027Arco do Piauí - PI"},{"code":"2409407","name":"Pau dos Ferros","state":"RN","label":"Pau dos Ferros - RN"},{"code":"2610608","name":"Paudalho","state":"PE","label":"Paudalho - PE"},{"code":"1303502","name":"Pauini","state":"AM","label":"Pauini - AM"},{"code":"3148301","name":"Paula Cândido","state":"MG","label":"Paula Cândido - MG"},{"code":"4118600","name":"Paula Freitas","state":"PR","label":"Paula Freitas - PR"},{"code":"3536406","name":"Paulicéia","state":"SP","label":"Paulicéia - SP"},{"code":"3536505","name":"Paulínia","state":"SP","label":"Paulínia - SP"},{"code":"2108058","name":"Paulino Neves","state":"MA","label":"Paulino Neves - MA"},{"code":"2510907","name":"Paulista","state":"PB","label":"Paulista - PB"},{"code":"2610707","name":"Paulista","state":"PE","label":"Paulista - PE"},{"code":"2207801","name":"Paulistana","state":"PI","label":"Paulistana - PI"},{"code":"3536570","name":"Paulistânia","state":"SP","label":"Paulistânia - SP"},{"code":"3148400","name":"Paulistas","state":"MG","label":"Paulistas - MG"},{"code":"2924009","name":"Paulo Afonso","state":"BA","label":"Paulo Afonso - BA"},{"code":"4314134","name":"Paulo Bento","state":"RS","label":"Paulo Bento - RS"},{"code":"3536604","name":"Paulo de Faria","state":"SP","label":"Paulo de Faria - SP"},{"code":"4118709","name":"Paulo Frontin","state":"PR","label":"Paulo Frontin - PR"},{"code":"2706604","name":"Paulo Jacinto","state":"AL","label":"Paulo Jacinto - AL"},{"code":"4212304","name":"Paulo Lopes","state":"SC","label":"Paulo Lopes - SC"},{"code":"2108108","name":"Paulo Ramos","state":"MA","label":"Paulo Ramos - MA"},{"code":"3148509","name":"Pavão","state":"MG","label":"Pavão - MG"},{"code":"4314159","name":"Paverama","state":"RS","label":"Paverama - RS"},{"code":"2207850","name":"Pavussu","state":"PI","label":"Pavussu - PI"},{"code":"2924058","name":"Pé de Serra","state":"BA","label":"Pé de Serra - BA"},{"code":"4118808","name":"Peabiru","state":"PR","label":"Peabiru - PR"},{"code":"3148608","name":"Peçanha","state":"MG","label":"Peçanha - MG"},{"code":"3536703","name":"Pederneiras","state":"SP","label":"Pederneiras - SP"},{"code":"2610806","name":"Pedra","state":"PE","label":"Pedra - PE"},{"code":"3148707","name":"Pedra Azul","state":"MG","label":"Pedra Azul - MG"},{"code":"3536802","name":"Pedra Bela","state":"SP","label":"Pedra Bela - SP"},{"code":"3148756","name":"Pedra Bonita","state":"MG","label":"Pedra Bonita - MG"},{"code":"2310506","name":"Pedra Branca","state":"CE","label":"Pedra Branca - CE"},{"code":"2511004","name":"Pedra Branca","state":"PB","label":"Pedra Branca - PB"},{"code":"1600154","name":"Pedra Branca do Amapari","state":"AP","label":"Pedra Branca do Amapari - AP"},{"code":"3148806","name":"Pedra do Anta","state":"MG","label":"Pedra do Anta - MG"},{"code":"3148905","name":"Pedra do Indaiá","state":"MG","label":"Pedra do Indaiá - MG"},{"code":"3149002","name":"Pedra Dourada","state":"MG","label":"Pedra Dourada - MG"},{"code":"2409506","name":"Pedra Grande","state":"RN","label":"Pedra Grande - RN"},{"code":"2511103","name":"Pedra Lavrada","state":"PB","label":"Pedra Lavrada - PB"},{"code":"2805000","name":"Pedra Mole","state":"SE","label":"Pedra Mole - SE"},{"code":"2409605","name":"Pedra Preta","state":"RN","label":"Pedra Preta - RN"},{"code":"5106372","name":"Pedra Preta","state":"MT","label":"Pedra Preta - MT"},{"code":"3149101","name":"Pedralva","state":"MG","label":"Pedralva - MG"},{"code":"3536901","name":"Pedranópolis","state":"SP","label":"Pedranópolis - SP"},{"code":"2924108","name":"Pedrão","state":"BA","label":"Pedrão - BA"},{"code":"4314175","name":"Pedras Altas","state":"RS","label":"Pedras Altas - RS"},{"code":"2511202","name":"Pedras de Fogo","state":"PB","label":"Pedras de Fogo - PB"},{"code":"3149150","name":"Pedras de Maria da Cruz","state":"MG","label":"Pedras de Maria da Cruz - MG"},{"code":"4212403","name":"Pedras Grandes","state":"SC","label":"Pedras Grandes - SC"},{"code":"3537008","name":"Pedregulho","state":"SP","label":"Pedregulho - SP"},{"code":"3537107","name":"Pedreira","state":"SP","label":"Pedreira - SP"},{"code":"2108207","name":"Pedreiras","state":"MA","label":"Pedreiras - MA"},{"code":"2805109","name":"Pedrinhas","state":"SE","label":"Pedrinhas - SE"},{"code":"3537156","name":"Pedrinhas Paulista","state":"SP","label":"Pedrinhas Paulista - SP"},{"code":"3149200","name":"Pedrinópolis","state":"MG","label":"Pedrinópolis - MG"},{"code":"1716505","name":"Pedro Afonso","state":"TO","label":"Pedro Afonso - TO"},{"code":"2924207","name":"Pedro Alexandre","state":"BA","label":"Pedro Alexandre - BA"},{"code":"2409704","name":"Pedro Avelino","state":"RN","label":"Pedro Avelino - RN"},{"code":"3204054","name":"Pedro Canário","state":"ES","label":"Pedro Canário - ES"},{"code":"3537206","name":"Pedro de Toledo","state":"SP","label":"Pedro de Toledo - SP"},{"code":"2108256","name":"Pedro do Rosário","state":"MA","label":"Pedro do Rosário - MA"},{"code":"5006408","name":"Pedro Gomes","state":"MS","label":"Pedro Gomes - MS"},{"code":"2207900","name":"Pedro II","state":"PI","label":"Pedro II - PI"},{"code":"2207934","name":"Pedro Laurentino","state":"PI","label":"Pedro Laurentino - PI"},{"code":"3149309","name":"Pedro Leopoldo","state":"MG","label":"Pedro Leopoldo - MG"},{"code":"4314209","name":"Pedro Osório","state":"RS","label":"Pedro Osório - RS"},{"code":"2512721","name":"Pedro Régis","state":"PB","label":"Pedro Régis - PB"},{"code":"3149408","name":"Pedro Teixeira","state":"MG","label":"Pedro Teixeira - MG"},{"code":"2409803","name":"Pedro Velho","state":"RN","label":"Pedro Velho - RN"},{"code":"1716604","name":"Peixe","state":"TO","label":"Peixe - TO"},{"code":"1505601","name":"Peixe-Boi","state":"PA","label":"Peixe-Boi - PA"},{"code":"5106422","name":"Peixoto de Azevedo","state":"MT","label":"Peixoto de Azevedo - MT"},{"code":"4314308","name":"Pejuçara","state":"RS","label":"Pejuçara - RS"},{"code":"4314407","name":"Pelotas","state":"RS","label":"Pelotas - RS"},{"code":"2310605","name":"Penaforte","state":"CE","label":"Penaforte - CE"},{"code":"2108306","name":"Penalva","state":"MA","label":"Penalva - MA"},{"code":"3537305","name":"Penápolis","state":"SP","label":"Penápolis - SP"},{"code":"2409902","name":"Pendências","state":"RN","label":"Pendências - RN"},{"code":"2706703","name":"Penedo","state":"AL","label":"Penedo - AL"},{"code":"4212502","name":"Penha","state":"SC","label":"Penha - SC"},{"code":"2310704","name":"Pentecoste","state":"CE","label":"Pentecoste - CE"},{"code":"3149507","name":"Pequeri","state":"MG","label":"Pequeri - MG"},{"code":"3149606","name":"Pequi","state":"MG","label":"Pequi - MG"},{"code":"1716653","name":"Pequizeiro","state":"TO","label":"Pequizeiro - TO"},{"code":"3149705","name":"Perdigão","state":"MG","label":"Perdigão - MG"},{"code":"3149804","name":"Perdizes","state":"MG","label":"Perdizes - MG"},{"code":"3149903","name":"Perdões","state":"MG","label":"Perdões - MG"},{"code":"3537404","name":"Pereira Barreto","state":"SP","label":"Pereira Barreto - SP"},{"code":"3537503","name":"Pereiras","state":"SP","label":"Pereiras - SP"},{"code":"2310803","name":"Pereiro","state":"CE","label":"Pereiro - CE"},{"code":"2108405","name":"Peri Mirim","state":"MA","label":"Peri Mirim - MA"},{"code":"3149952","name":"Periquito","state":"MG","label":"Periquito - MG"},{"code":"4212601","name":"Peritiba","state":"SC","label":"Peritiba - SC"},{"code":"2108454","name":"Peritoró","state":"MA","label":"Peritoró - MA"},{"code":"4118857","name":"Perobal","state":"PR","label":"Perobal - PR"},{"code":"4118907","name":"Pérola","state":"PR","label":"Pérola - PR"},{"code":"4119004","name":"Pérola d\u0027Oeste","state":"PR","label":"Pérola d\u0027Oeste - PR"},{"code":"5216452","name":"Perolândia","state":"GO","label":"Perolândia - GO"},{"code":"3537602","name":"Peruíbe","state":"SP","label":"Peruíbe - SP"},{"code":"3150000","name":"Pescador","state":"MG","label":"Pescador - MG"},{"code":"4212650","name":"Pescaria Brava","state":"SC","label":"Pescaria Brava - SC"},{"code":"2610905","name":"Pesqueira","state":"PE","label":"Pesqueira - PE"},{"code":"2611002","name":"Petrolândia","state":"PE","label":"Petrolândia - PE"},{"code":"4212700","name":"Petrolândia","state":"SC","label":"Petrolândia - SC"},{"code":"2611101","name":"Petrolina","state":"PE","label":"Petrolina - PE"},{"code":"5216809","name":"Petrolina de Goiás","state":"GO","label":"Petrolina de Goiás - GO"},{"code":"3303906","name":"Petrópolis","state":"RJ","label":"Petrópolis - RJ"},{"code":"2706802","name":"Piaçabuçu","state":"AL","label":"Piaçabuçu - AL"},{"code":"3537701","name":"Piacatu","state":"SP","label":"Piacatu - SP"},{"code":"2511301","name":"Piancó","state":"PB","label":"Piancó - PB"},{"code":"2924306","name":"Piatã","state":"BA","label":"Piatã - BA"},{"code":"3150109","name":"Piau","state":"MG","label":"Piau - MG"},{"code":"4314423","name":"Picada Café","state":"RS","label":"Picada Café - RS"},{"code":"1505635","name":"Piçarra","state":"PA","label":"Piçarra - PA"},{"code":"2208007","name":"Picos","state":"PI","label":"Picos - PI"},{"code":"2511400","name":"Picuí","state":"PB","label":"Picuí - PB"},{"code":"3537800","name":"Piedade","state":"SP","label":"Piedade - SP"},{"code":"3150158","name":"Piedade de Caratinga","state":"MG","label":"Piedade de Caratinga - MG"},{"code":"3150208","name":"Piedade de Ponte Nova","state":"MG","label":"Piedade de Ponte Nova - MG"},{"code":"3150307","name":"Piedade do Rio Grande","state":"MG","label":"Piedade do Rio Grande - MG"},{"code":"3150406","name":"Piedade dos Gerais","state":"MG","label":"Piedade dos Gerais - MG"},{"code":"4119103","name":"Piên","state":"PR","label":"Piên - PR"},{"code":"2924405","name":"Pilão Arcado","state":"BA","label":"Pilão Arcado - BA"},{"code":"2706901","name":"Pilar","state":"AL","label":"Pilar - AL"},{"code":"2511509","name":"Pilar","state":"PB","label":"Pilar - PB"},{"code":"5216908","name":"Pilar de Goiás","state":"GO","label":"Pilar de Goiás - GO"},{"code":"3537909","name":"Pilar do Sul","state":"SP","label":"Pilar do Sul - SP"},{"code":"2511608","name":"Pilões","state":"PB","label":"Pilões - PB"},{"code":"2410009","name":"Pilões","state":"RN","label":"Pilões - RN"},{"code":"2511707","name":"Pilõezinhos","state":"PB","label":"Pilõezinhos - PB"},{"code":"3150505","name":"Pimenta","state":"MG","label":"Pimenta - MG"},{"code":"1100189","name":"Pimenta Bueno","state":"RO","label":"Pimenta Bueno - RO"},{"code":"2208106","name":"Pimenteiras","state":"PI","label":"Pimenteiras - PI"},{"code":"1101468","name":"Pimenteiras do Oeste","state":"RO","label":"Pimenteiras do Oeste - RO"},{"code":"2924504","name":"Pindaí","state":"BA","label":"Pindaí - BA"},{"code":"3538006","name":"Pindamonhangaba","state":"SP","label":"Pindamonhangaba - SP"},{"code":"2108504","name":"Pindaré-Mirim","state":"MA","label":"Pindaré-Mirim - MA"},{"code":"2707008","name":"Pindoba","state":"AL","label":"Pindoba - AL"},{"code":"2924603","name":"Pindobaçu","state":"BA","label":"Pindobaçu - BA"},{"code":"3538105","name":"Pindorama","state":"SP","label":"Pindorama - SP"},{"code":"1717008","name":"Pindorama do Tocantins","state":"TO","label":"Pindorama do Tocantins - TO"},{"code":"2310852","name":"Pindoretama","state":"CE","label":"Pindoretama - CE"},{"code":"3150539","name":"Pingo-d\u0027Água","state":"MG","label":"Pingo-d\u0027Água - MG"},{"code":"4119152","name":"Pinhais","state":"PR","label":"Pinhais - PR"},{"code":"4314456","name":"Pinhal","state":"RS","label":"Pinhal - RS"},{"code":"4314464","name":"Pinhal da Serra","state":"RS","label":"Pinhal da Serra - RS"},{"code":"4119251","name":"Pinhal de São Bento","state":"PR","label":"Pinhal de São Bento - PR"},{"code":"4314472","name":"Pinhal Grande","state":"RS","label":"Pinhal Grande - RS"},{"code":"4119202","name":"Pinhalão","state":"PR","label":"Pinhalão - PR"},{"code":"4212908","name":"Pinhalzinho","state":"SC","label":"Pinhalzinho - SC"},{"code":"3538204","name":"Pinhalzinho","state":"SP","label":"Pinhalzinho - SP"},{"code":"4119301","name":"Pinhão","state":"PR","label":"Pinhão - PR"},{"code":"2805208","name":"Pinhão","state":"SE","label":"Pinhão - SE"},{"code":"3303955","name":"Pinheiral","state":"RJ","label":"Pinheiral - RJ"},{"code":"4314498","name":"Pinheirinho do Vale","state":"RS","label":"Pinheirinho do Vale - RS"},{"code":"2108603","name":"Pinheiro","state":"MA","label":"Pinheiro - MA"},{"code":"4314506","name":"Pinheiro Machado","state":"RS","label":"Pinheiro Machado - RS"},{"code":"4213005","name":"Pinheiro Preto","state":"SC","label":"Pinheiro Preto - SC"},{"code":"3204104","name":"Pinheiros","state":"ES","label":"Pinheiros - ES"},{"code":"2924652","name":"Pintadas","state":"BA","label":"Pintadas - BA"},{"code":"4314548","name":"Pinto Bandeira","state":"RS","label":"Pinto Bandeira - RS"},{"code":"3150570","name":"Pintópolis","state":"MG","label":"Pintópolis - MG"},{"code":"2208205","name":"Pio IX","state":"PI","label":"Pio IX - PI"},{"code":"2108702","name":"Pio XII","state":"MA","label":"Pio XII - MA"},{"code":"3538303","name":"Piquerobi","state":"SP","label":"Piquerobi - SP"},{"code":"2310902","name":"Piquet Carneiro","state":"CE","label":"Piquet Carneiro - CE"},{"code":"3538501","name":"Piquete","state":"SP","label":"Piquete - SP"},{"code":"3538600","name":"Piracaia","state":"SP","label":"Piracaia - SP"},{"code":"5217104","name":"Piracanjuba","state":"GO","label":"Piracanjuba - GO"},{"code":"3150604","name":"Piracema","state":"MG","label":"Piracema - MG"},{"code":"3538709","name":"Piracicaba","state":"SP","label":"Piracicaba - SP"},{"code":"2208304","name":"Piracuruca","state":"PI","label":"Piracuruca - PI"},{"code":"3304003","name":"Piraí","state":"RJ","label":"Piraí - RJ"},{"code":"2924678","name":"Piraí do Norte","state":"BA","label":"Piraí do Norte - BA"},{"code":"4119400","name":"Piraí do Sul","state":"PR","label":"Piraí do Sul - PR"},{"code":"3538808","name":"Piraju","state":"SP","label":"Piraju - SP"},{"code":"3150703","name":"Pirajuba","state":"MG","label":"Pirajuba - MG"},{"code":"3538907","name":"Pirajuí","state":"SP","label":"Pirajuí - SP"},{"code":"2805307","name":"Pirambu","state":"SE","label":"Pirambu - SE"},{"code":"3150802","name":"Piranga","state":"MG","label":"Piranga - MG"},{"code":"3539004","name":"Pirangi","state":"SP","label":"Pirangi - SP"},{"code":"3150901","name":"Piranguçu","state":"MG","label":"Piranguçu - MG"},{"code":"3151008","name":"Piranguinho","state":"MG","label":"Piranguinho - MG"},{"code":"5217203","name":"Piranhas","state":"GO","label":"Piranhas - GO"},{"code":"2707107","name":"Piranhas","state":"AL","label":"Piranhas - AL"},{"code":"2108801","name":"Pirapemas","state":"MA","label":"Pirapemas - MA"},{"code":"3151107","name":"Pirapetinga","state":"MG","label":"Pirapetinga - MG"},{"code":"4314555","name":"Pirapó","state":"RS","label":"Pirapó - RS"},{"code":"3151206","name":"Pirapora","state":"MG","label":"Pirapora - MG"},{"code":"3539103","name":"Pirapora do Bom Jesus","state":"SP","label":"Pirapora do Bom Jesus - SP"},{"code":"3539202","name":"Pirapozinho","state":"SP","label":"Pirapozinho - SP"},{"code":"4119509","name":"Piraquara","state":"PR","label":"Piraquara - PR"},{"code":"1717206","name":"Piraquê","state":"TO","label":"Piraquê - TO"},{"code":"3539301","name":"Pirassununga","state":"SP","label":"Pirassununga - SP"},{"code":"4314605","name":"Piratini","state":"RS","label":"Piratini - RS"},{"code":"3539400","name":"Piratininga","state":"SP","label":"Piratininga - SP"},{"code":"4213104","name":"Piratuba","state":"SC","label":"Piratuba - SC"},{"code":"3151305","name":"Piraúba","state":"MG","label":"Piraúba - MG"},{"code":"5217302","name":"Pirenópolis","state":"GO","label":"Pirenópolis - GO"},{"code":"5217401","name":"Pires do Rio","state":"GO","label":"Pires do Rio - GO"},{"code":"2310951","name":"Pires Ferreira","state":"CE","label":"Pires Ferreira - CE"},{"code":"2924702","name":"Piripá","state":"BA","label":"Piripá - BA"},{"code":"2208403","name":"Piripiri","state":"PI","label":"Piripiri - PI"},{"code":"2924801","name":"Piritiba","state":"BA","label":"Piritiba - BA"},{"code":"2511806","name":"Pirpirituba","state":"PB","label":"Pirpirituba - PB"},{"code":"4119608","name":"Pitanga","state":"PR","label":"Pitanga - PR"},{"code":"4119657","name":"Pitangueiras","state":"PR","label":"Pitangueiras - PR"},{"code":"3539509","name":"Pitangueiras","state":"SP","label":"Pitangueiras - SP"},{"code":"3151404","name":"Pitangui","state":"MG","label":"Pitangui - MG"},{"code":"2511905","name":"Pitimbu","state":"PB","label":"Pitimbu - PB"},{"code":"1717503","name":"Pium","state":"TO","label":"Pium - TO"},{"code":"3204203","name":"Piúma","state":"ES","label":"Piúma - ES"},{"code":"3151503","name":"Piumhi","state":"MG","label":"Piumhi - MG"},{"code":"1505650","name":"Placas","state":"PA","label":"Placas - PA"},{"code":"1200385","name":"Plácido de Castro","state":"AC","label":"Plácido de Castro - AC"},{"code":"5217609","name":"Planaltina","state":"GO","label":"Planaltina - GO"},{"code":"4119707","name":"Planaltina do Paraná","state":"PR","label":"Planaltina do Paraná - PR"},{"code":"2924900","name":"Planaltino","state":"BA","label":"Planaltino - BA"},{"code":"2925006","name":"Planalto","state":"BA","label":"Planalto - BA"},{"code":"4119806","name":"Planalto","state":"PR","label":"Planalto - PR"},{"code":"3539608","name":"Planalto","state":"SP","label":"Planalto - SP"},{"code":"4314704","name":"Planalto","state":"RS","label":"Planalto - RS"},{"code":"4213153","name":"Planalto Alegre","state":"SC","label":"Planalto Alegre - SC"},{"code":"5106455","name":"Planalto da Serra","state":"MT","label":"Planalto da Serra - MT"},{"code":"3151602","name":"Planura","state":"MG","label":"Planura - MG"},{"code":"3539707","name":"Platina","state":"SP","label":"Platina - SP"},{"code":"3539806","name":"Poá","state":"SP","label":"Poá - SP"},{"code":"2611200","name":"Poção","state":"PE","label":"Poção - PE"},{"code":"2108900","name":"Poção de Pedras","state":"MA","label":"Poção de Pedras - MA"},{"code":"2512002","name":"Pocinhos","state":"PB","label":"Pocinhos - PB"},{"code":"2410108","name":"Poço Branco","state":"RN","label":"Poço Branco - RN"},{"code":"2512036","name":"Poço Dantas","state":"PB","label":"Poço Dantas - PB"},{"code":"4314753","name":"Poço das Antas","state":"RS","label":"Poço das Antas - RS"},{"code":"2707206","name":"Poço das Trincheiras","state":"AL","label":"Poço das Trincheiras - AL"},{"code":"2512077","name":"Poço de José de Moura","state":"PB","label":"Poço de José de Moura - PB"},{"code":"3151701","name":"Poço Fundo","state":"MG","label":"Poço Fundo - MG"},{"code":"2805406","name":"Poço Redondo","state":"SE","label":"Poço Redondo - SE"},{"code":"2805505","name":"Poço Verde","state":"SE","label":"Poço Verde - SE"},{"code":"2925105","name":"Poções","state":"BA","label":"Poções - BA"},{"code":"5106505","name":"Poconé","state":"MT","label":"Poconé - MT"},{"code":"3151800","name":"Poços de Caldas","state":"MG","label":"Poços de Caldas - MG"},{"code":"3151909","name":"Pocrane","state":"MG","label":"Pocrane - MG"},{"code":"2925204","name":"Pojuca","state":"BA","label":"Pojuca - BA"},{"code":"3539905","name":"Poloni","state":"SP","label":"Poloni - SP"},{"code":"2512101","name":"Pombal","state":"PB","label":"Pombal - PB"},{"code":"2611309","name":"Pombos","state":"PE","label":"Pombos - PE"},{"code":"4213203","name":"Pomerode","state":"SC","label":"Pomerode - SC"},{"code":"3540002","name":"Pompéia","state":"SP","label":"Pompéia - SP"},{"code":"3152006","name":"Pompéu","state":"MG","label":"Pompéu - MG"},{"code":"3540101","name":"Pongaí","state":"SP","label":"Pongaí - SP"},{"code":"1505700","name":"Ponta de Pedras","state":"PA","label":"Ponta de Pedras - PA"},{"code":"4119905","name":"Ponta Grossa","state":"PR","label":"Ponta Grossa - PR"},{"code":"5006606","name":"Ponta Porã","state":"MS","label":"Ponta Porã - MS"},{"code":"3540200","name":"Pontal","state":"SP","label":"Pontal - SP"},{"code":"5106653","name":"Pontal do Araguaia","state":"MT","label":"Pontal do Araguaia - MT"},{"code":"4119954","name":"Pontal do Paraná","state":"PR","label":"Pontal do Paraná - PR"},{"code":"5217708","name":"Pontalina","state":"GO","label":"Pontalina - GO"},{"code":"3540259","name":"Pontalinda","state":"SP","label":"Pontalinda - SP"},{"code":"4314779","name":"Pontão","state":"RS","label":"Pontão - RS"},{"code":"4213302","name":"Ponte Alta","state":"SC","label":"Ponte Alta - SC"},{"code":"1717800","name":"Ponte Alta do Bom Jesus","state":"TO","label":"Ponte Alta do Bom Jesus - TO"},{"code":"4213351","name":"Ponte Alta do Norte","state":"SC","label":"Ponte Alta do Norte - SC"},{"code":"1717909","name":"Ponte Alta do Tocantins","state":"TO","label":"Ponte Alta do Tocantins - TO"},{"code":"5106703","name":"Ponte Branca","state":"MT","label":"Ponte Branca - MT"},{"code":"3152105","name":"Ponte Nova","state":"MG","label":"Ponte Nova - MG"},{"code":"4314787","name":"Ponte Preta","state":"RS","label":"Ponte Preta - RS"},{"code":"4213401","name":"Ponte Serrada","state":"SC","label":"Ponte Serrada - SC"},{"code":"5106752","name":"Pontes e Lacerda","state":"MT","label":"Pontes e Lacerda - MT"},{"code":"3540309","name":"Pontes Gestal","state":"SP","label":"Pontes Gestal - SP"},{"code":"3204252","name":"Ponto Belo","state":"ES","label":"Ponto Belo - ES"},{"code":"3152131","name":"Ponto Chique","state":"MG","label":"Ponto Chique - MG"},{"code":"3152170","name":"Ponto dos Volantes","state":"MG","label":"Ponto dos Volantes - MG"},{"code":"2925253","name":"Ponto Novo","state":"BA","label":"Ponto Novo - BA"},{"code":"3540408","name":"Populina","state":"SP","label":"Populina - SP"},{"code":"2311009","name":"Poranga","state":"CE","label":"Poranga - CE"},{"code":"3540507","name":"Porangaba","state":"SP","label":"Porangaba - SP"},{"code":"5218003","name":"Porangatu","state":"GO","label":"Porangatu - GO"},{"code":"3304102","name":"Porciúncula","state":"RJ","label":"Porciúncula - RJ"},{"code":"4120002","name":"Porecatu","state":"PR","label":"Porecatu - PR"},{"code":"2410207","name":"Portalegre","state":"RN","label":"Portalegre - RN"},{"code":"4314803","name":"Portão","state":"RS","label":"Portão - RS"},{"code":"5218052","name":"Porteirão","state":"GO","label":"Porteirão - GO"},{"code":"2311108","name":"Porteiras","state":"CE","label":"Porteiras - CE"},{"code":"3152204","name":"Porteirinha","state":"MG","label":"Porteirinha - MG"},{"code":"1505809","name":"Portel","state":"PA","label":"Portel - PA"},{"code":"5218102","name":"Portelândia","state":"GO","label":"Portelândia - GO"},{"code":"2208502","name":"Porto","state":"PI","label":"Porto - PI"},{"code":"1200807","name":"Porto Acre","state":"AC","label":"Porto Acre - AC"},{"code":"4314902","name":"Porto Alegre","state":"RS","label":"Porto Alegre - RS"},{"code":"5106778","name":"Porto Alegre do Norte","state":"MT","label":"Porto Alegre do Norte - MT"},{"code":"2208551","name":"Porto Alegre do Piauí","state":"PI","label":"Porto Alegre do Piauí - PI"},{"code":"1718006","name":"Porto Alegre do Tocantins","state":"TO","label":"Porto Alegre do Tocantins - TO"},{"code":"4120101","name":"Porto Amazonas","state":"PR","label":"Porto Amazonas - PR"},{"code":"4120150","name":"Porto Barreiro","state":"PR","label":"Porto Barreiro - PR"},{"code":"4213500","name":"Porto Belo","state":"SC","label":"Porto Belo - SC"},{"code":"2707305","name":"Porto Calvo","state":"AL","label":"Porto Calvo - AL"},{"code":"2805604","name":"Porto da Folha","state":"SE","label":"Porto da Folha - SE"},{"code":"1505908","name":"Porto de Moz","state":"PA","label":"Porto de Moz - PA"},{"code":"2707404","name":"Porto de Pedras","state":"AL","label":"Porto de Pedras - AL"},{"code":"2410256","name":"Porto do Mangue","state":"RN","label":"Porto do Mangue - RN"},{"code":"5106802","name":"Porto dos Gaúchos","state":"MT","label":"Porto dos Gaúchos - MT"},{"code":"5106828","name":"Porto Esperidião","state":"MT","label":"Porto Esperidião - MT"},{"code":"5106851","name":"Porto Estrela","state":"MT","label":"Porto Estrela - MT"},{"code":"3540606","name":"Porto Feliz","state":"SP","label":"Porto Feliz - SP"},{"code":"3540705","name":"Porto Ferreira","state":"SP","label":"Porto Ferreira - SP"},{"code":"3152303","name":"Porto Firme","state":"MG","label":"Porto Firme - MG"},{"code":"2109007","name":"Porto Franco","state":"MA","label":"Porto Franco - MA"},{"code":"1600535","name":"Porto Grande","state":"AP","label":"Porto Grande - AP"},{"code":"4315008","name":"Porto Lucena","state":"RS","label":"Porto Lucena - RS"},{"code":"4315057","name":"Porto Mauá","state":"RS","label":"Porto Mauá - RS"},{"code":"5006903","name":"Porto Murtinho","state":"MS","label":"Porto Murtinho - MS"},{"code":"1718204","name":"Porto Nacional","state":"TO","label":"Porto Nacional - TO"},{"code":"3304110","name":"Porto Real","state":"RJ","label":"Porto Real - RJ"},{"code":"2707503","name":"Porto Real do Colégio","state":"AL","label":"Porto Real do Colégio - AL"},{"code":"4120200","name":"Porto Rico","state":"PR","label":"Porto Rico - PR"},{"code":"2109056","name":"Porto Rico do Maranhão","state":"MA","label":"Porto Rico do Maranhão - MA"},{"code":"2925303","name":"Porto Seguro","state":"BA","label":"Porto Seguro - BA"},{"code":"4213609","name":"Porto União","state":"SC","label":"Porto União - SC"},{"code":"1100205","name":"Porto Velho","state":"RO","label":"Porto Velho - RO"},{"code":"4315073","name":"Porto Vera Cruz","state":"RS","label":"Porto Vera Cruz - RS"},{"code":"4120309","name":"Porto Vitória","state":"PR","label":"Porto Vitória - PR"},{"code":"1200393","name":"Porto Walter","state":"AC","label":"Porto Walter - AC"},{"code":"4315107","name":"Porto Xavier","state":"RS","label":"Porto Xavier - RS"},{"code":"5218300","name":"Posse","state":"GO","label":"Posse - GO"},{"code":"3152402","name":"Poté","state":"MG","label":"Poté - MG"},{"code":"2311207","name":"Potengi","state":"CE","label":"Potengi - CE"},{"code":"3540754","name":"Potim","state":"SP","label":"Potim - SP"},{"code":"2925402","name":"Potiraguá","state":"BA","label":"Potiraguá - BA"},{"code":"3540804","name":"Potirendaba","state":"SP","label":"Potirendaba - SP"},{"code":"2311231","name":"Potiretama","state":"CE","label":"Potiretama - CE"},{"code":"3152501","name":"Pouso Alegre","state":"MG","label":"Pouso Alegre - MG"},{"code":"3152600","name":"Pouso Alto","state":"MG","label":"Pouso Alto - MG"},{"code":"4315131","name":"Pouso Novo","state":"RS","label":"Pouso Novo - RS"},{"code":"4213708","name":"Pouso Redondo","state":"SC","label":"Pouso Redondo - SC"},{"code":"5107008","name":"Poxoréu","state":"MT","label":"Poxoréu - MT"},{"code":"3540853","name":"Pracinha","state":"SP","label":"Pracinha - SP"},{"code":"1600550","name":"Pracuúba","state":"AP","label":"Pracuúba - AP"},{"code":"2925501","name":"Prado","state":"BA","label":"Prado - BA"},{"code":"4120333","name":"Prado Ferreira","state":"PR","label":"Prado Ferreira - PR"},{"code":"3540903","name":"Pradópolis","state":"SP","label":"Pradópolis - SP"},{"code":"3152709","name":"Prados","state":"MG","label":"Prados - MG"},{"code":"3541000","name":"Praia Grande","state":"SP","label":"Praia Grande - SP"},{"code":"4213807","name":"Praia Grande","state":"SC","label":"Praia Grande - SC"},{"code":"1718303","name":"Praia Norte","state":"TO","label":"Praia Norte - TO"},{"code":"1506005","name":"Prainha","state":"PA","label":"Prainha - PA"},{"code":"4120358","name":"Pranchita","state":"PR","label":"Pranchita - PR"},{"code":"3152808","name":"Prata","state":"MG","label":"Prata - MG"},{"code":"2512200","name":"Prata","state":"PB","label":"Prata - PB"},{"code":"2208601","name":"Prata do Piauí","state":"PI","label":"Prata do Piauí - PI"},{"code":"3541059","name":"Pratânia","state":"SP","label":"Pratânia - SP"},{"code":"3152907","name":"Pratápolis","state":"MG","label":"Pratápolis - MG"},{"code":"3153004","name":"Pratinha","state":"MG","label":"Pratinha - MG"},{"code":"3541109","name":"Presidente Alves","state":"SP","label":"Presidente Alves - SP"},{"code":"3541208","name":"Presidente Bernardes","state":"SP","label":"Presidente Bernardes - SP"},{"code":"3153103","name":"Presidente Bernardes","state":"MG","label":"Presidente Bernardes - MG"},{"code":"4213906","name":"Presidente Castello Branco","state":"SC","label":"Presidente Castello Branco - SC"},{"code":"4120408","name":"Presidente Castelo Branco","state":"PR","label":"Presidente Castelo Branco - PR"},{"code":"2109106","name":"Presidente Dutra","state":"MA","label":"Presidente Dutra - MA"},{"code":"2925600","name":"Presidente Dutra","state":"BA","label":"Presidente Dutra - BA"},{"code":"3541307","name":"Presidente Epitácio","state":"SP","label":"Presidente Epitácio - SP"},{"code":"1303536","name":"Presidente Figueiredo","state":"AM","label":"Presidente Figueiredo - AM"},{"code":"4214003","name":"Presidente Getúlio","state":"SC","label":"Presidente Getúlio - SC"},{"code":"2925709","name":"Presidente Jânio Quadros","state":"BA","label":"Presidente Jânio Quadros - BA"},{"code":"2109205","name":"Presidente Juscelino","state":"MA","label":"Presidente Juscelino - MA"},{"code":"3153202","name":"Presidente Juscelino","state":"MG","label":"Presidente Juscelino - MG"},{"code":"3204302","name":"Presidente Kennedy","state":"ES","label":"Presidente Kennedy - ES"},{"code":"1718402","name":"Presidente Kennedy","state":"TO","label":"Presidente Kennedy - TO"},{"code":"3153301","name":"Presidente Kubitschek","state":"MG","label":"Presidente Kubitschek - MG"},{"code":"4315149","name":"Presidente Lucena","state":"RS","label":"Presidente Lucena - RS"},{"code":"2109239","name":"Presidente Médici","state":"MA","label":"Presidente Médici - MA"},{"code":"1100254","name":"Presidente Médici","state":"RO","label":"Presidente Médici - RO"},{"code":"4214102","name":"Presidente Nereu","state":"SC","label":"Presidente Nereu - SC"},{"code":"3153400","name":"Presidente Olegário","state":"MG","label":"Presidente Olegário - MG"},{"code":"3541406","name":"Presidente Prudente","state":"SP","label":"Presidente Prudente - SP"},{"code":"2109270","name":"Presidente Sarney","state":"MA","label":"Presidente Sarney - MA"},{"code":"2925758","name":"Presidente Tancredo Neves","state":"BA","label":"Presidente Tancredo Neves - BA"},{"code":"2109304","name":"Presidente Vargas","state":"MA","label":"Presidente Vargas - MA"},{"code":"3541505","name":"Presidente Venceslau","state":"SP","label":"Presidente Venceslau - SP"},{"code":"1506104","name":"Primavera","state":"PA","label":"Primavera - PA"},{"code":"2611408","name":"Primavera","state":"PE","label":"Primavera - PE"},{"code":"1101476","name":"Primavera de Rondônia","state":"RO","label":"Primavera de Rondônia - RO"},{"code":"5107040","name":"Primavera do Leste","state":"MT","label":"Primavera do Leste - MT"},{"code":"2109403","name":"Primeira Cruz","state":"MA","label":"Primeira Cruz - MA"},{"code":"4120507","name":"Primeiro de Maio","state":"PR","label":"Primeiro de Maio - PR"},{"code":"4214151","name":"Princesa","state":"SC","label":"Princesa - SC"},{"code":"2512309","name":"Princesa Isabel","state":"PB","label":"Princesa Isabel - PB"},{"code":"5218391","name":"Professor Jamil","state":"GO","label":"Professor Jamil - GO"},{"code":"4315156","name":"Progresso","state":"RS","label":"Progresso - RS"},{"code":"3541604","name":"Promissão","state":"SP","label":"Promissão - SP"},{"code":"2805703","name":"Propriá","state":"SE","label":"Propriá - SE"},{"code":"4315172","name":"Protásio Alves","state":"RS","label":"Protásio Alves - RS"},{"code":"3153608","name":"Prudente de Morais","state":"MG","label":"Prudente de Morais - MG"},{"code":"4120606","name":"Prudentópolis","state":"PR","label":"Prudentópolis - PR"},{"code":"1718451","name":"Pugmil","state":"TO","label":"Pugmil - TO"},{"code":"2410405","name":"Pureza","state":"RN","label":"Pureza - RN"},{"code":"4315206","name":"Putinga","state":"RS","label":"Putinga - RS"},{"code":"2512408","name":"Puxinanã","state":"PB","label":"Puxinanã - PB"},{"code":"3541653","name":"Quadra","state":"SP","label":"Quadra - SP"},{"code":"4315305","name":"Quaraí","state":"RS","label":"Quaraí - RS"},{"code":"3153707","name":"Quartel Geral","state":"MG","label":"Quartel Geral - MG"},{"code":"4120655","name":"Quarto Centenário","state":"PR","label":"Quarto Centenário - PR"},{"code":"3541703","name":"Quatá","state":"SP","label":"Quatá - SP"},{"code":"4120705","name":"Quatiguá","state":"PR","label":"Quatiguá - PR"},{"code":"1506112","name":"Quatipuru","state":"PA","label":"Quatipuru - PA"},{"code":"3304128","name":"Quatis","state":"RJ","label":"Quatis - RJ"},{"code":"4120804","name":"Quatro Barras","state":"PR","label":"Quatro Barras - PR"},{"code":"4315313","name":"Quatro Irmãos","state":"RS","label":"Quatro Irmãos - RS"},{"code":"4120853","name":"Quatro Pontes","state":"PR","label":"Quatro Pontes - PR"},{"code":"2707602","name":"Quebrangulo","state":"AL","label":"Quebrangulo - AL"},{"code":"4120903","name":"Quedas do Iguaçu","state":"PR","label":"Quedas do Iguaçu - PR"},{"code":"2208650","name":"Queimada Nova","state":"PI","label":"Queimada Nova - PI"},{"code":"2512507","name":"Queimadas","state":"PB","label":"Queimadas - PB"},{"code":"2925808","name":"Queimadas","state":"BA","label":"Queimadas - BA"},{"code":"3304144","name":"Queimados","state":"RJ","label":"Queimados - RJ"},{"code":"3541802","name":"Queiroz","state":"SP","label":"Queiroz - SP"},{"code":"3541901","name":"Queluz","state":"SP","label":"Queluz - SP"},{"code":"3153806","name":"Queluzito","state":"MG","label":"Queluzito - MG"},{"code":"5107065","name":"Querência","state":"MT","label":"Querência - MT"},{"code":"4121000","name":"Querência do Norte","state":"PR","label":"Querência do Norte - PR"},{"code":"4315321","name":"Quevedos","state":"RS","label":"Quevedos - RS"},{"code":"2925907","name":"Quijingue","state":"BA","label":"Quijingue - BA"},{"code":"4214201","name":"Quilombo","state":"SC","label":"Quilombo - SC"},{"code":"4121109","name":"Quinta do Sol","state":"PR","label":"Quinta do Sol - PR"},{"code":"3542008","name":"Quintana","state":"SP","label":"Quintana - SP"},{"code":"4315354","name":"Quinze de Novembro","state":"RS","label":"Quinze de Novembro - RS"},{"code":"2611507","name":"Quipapá","state":"PE","label":"Quipapá - PE"},{"code":"5218508","name":"Quirinópolis","state":"GO","label":"Quirinópolis - GO"},{"code":"3304151","name":"Quissamã","state":"RJ","label":"Quissamã - RJ"},{"code":"4121208","name":"Quitandinha","state":"PR","label":"Quitandinha - PR"},{"code":"2311264","name":"Quiterianópolis","state":"CE","label":"Quiterianópolis - CE"},{"code":"2512606","name":"Quixaba","state":"PB","label":"Quixaba - PB"},{"code":"2611533","name":"Quixaba","state":"PE","label":"Quixaba - PE"},{"code":"2925931","name":"Quixabeira","state":"BA","label":"Quixabeira - BA"},{"code":"2311306","name":"Quixadá","state":"CE","label":"Quixadá - CE"},{"code":"2311355","name":"Quixelô","state":"CE","label":"Quixelô - CE"},{"code":"2311405","name":"Quixeramobim","state":"CE","label":"Quixeramobim - CE"},{"code":"2311504","name":"Quixeré","state":"CE","label":"Quixeré - CE"},{"code":"2410504","name":"Rafael Fernandes","state":"RN","label":"Rafael Fernandes - RN"},{"code":"2410603","name":"Rafael Godeiro","state":"RN","label":"Rafael Godeiro - RN"},{"code":"2925956","name":"Rafael Jambeiro","state":"BA","label":"Rafael Jambeiro - BA"},{"code":"3542107","name":"Rafard","state":"SP","label":"Rafard - SP"},{"code":"4121257","name":"Ramilândia","state":"PR","label":"Ramilândia - PR"},{"code":"3542206","name":"Rancharia","state":"SP","label":"Rancharia - SP"},{"code":"4121307","name":"Rancho Alegre","state":"PR","label":"Rancho Alegre - PR"},{"code":"4121356","name":"Rancho Alegre D\u0027Oeste","state":"PR","label":"Rancho Alegre D\u0027Oeste - PR"},{"code":"4214300","name":"Rancho Queimado","state":"SC","label":"Rancho Queimado - SC"},{"code":"2109452","name":"Raposa","state":"MA","label":"Raposa - MA"},{"code":"3153905","name":"Raposos","state":"MG","label":"Raposos - MG"},{"code":"3154002","name":"Raul Soares","state":"MG","label":"Raul Soares - MG"},{"code":"4121406","name":"Realeza","state":"PR","label":"Realeza - PR"},{"code":"4121505","name":"Rebouças","state":"PR","label":"Rebouças - PR"},{"code":"2611606","name":"Recife","state":"PE","label":"Recife - PE"},{"code":"3154101","name":"Recreio","state":"MG","label":"Recreio - MG"},{"code":"1718501","name":"Recursolândia","state":"TO","label":"Recursolândia - TO"},{"code":"1506138","name":"Redenção","state":"PA","label":"Redenção - PA"},{"code":"2311603","name":"Redenção","state":"CE","label":"Redenção - CE"},{"code":"3542305","name":"Redenção da Serra","state":"SP","label":"Redenção da Serra - SP"},{"code":"2208700","name":"Redenção do Gurguéia","state":"PI","label":"Redenção do Gurguéia - PI"},{"code":"4315404","name":"Redentora","state":"RS","label":"Redentora - RS"},{"code":"3154150","name":"Reduto","state":"MG","label":"Reduto - MG"},{"code":"2208809","name":"Regeneração","state":"PI","label":"Regeneração - PI"},{"code":"3542404","name":"Regente Feijó","state":"SP","label":"Regente Feijó - SP"},{"code":"3542503","name":"Reginópolis","state":"SP","label":"Reginópolis - SP"},{"code":"3542602","name":"Registro","state":"SP","label":"Registro - SP"},{"code":"4315453","name":"Relvado","state":"RS","label":"Relvado - RS"},{"code":"2926004","name":"Remanso","state":"BA","label":"Remanso - BA"},{"code":"2512705","name":"Remígio","state":"PB","label":"Remígio - PB"},{"code":"4121604","name":"Renascença","state":"PR","label":"Renascença - PR"},{"code":"2311702","name":"Reriutaba","state":"CE","label":"Reriutaba - CE"},{"code":"3304201","name":"Resende","state":"RJ","label":"Resende - RJ"},{"code":"3154200","name":"Resende Costa","state":"MG","label":"Resende Costa - MG"},{"code":"4121703","name":"Reserva","state":"PR","label":"Reserva - PR"},{"code":"5107156","name":"Reserva do Cabaçal","state":"MT","label":"Reserva do Cabaçal - MT"},{"code":"4121752","name":"Reserva do Iguaçu","state":"PR","label":"Reserva do Iguaçu - PR"},{"code":"3154309","name":"Resplendor","state":"MG","label":"Resplendor - MG"},{"code":"3154408","name":"Ressaquinha","state":"MG","label":"Ressaquinha - MG"},{"code":"3542701","name":"Restinga","state":"SP","label":"Restinga - SP"},{"code":"4315503","name":"Restinga Sêca","state":"RS","label":"Restinga Sêca - RS"},{"code":"2926103","name":"Retirolândia","state":"BA","label":"Retirolândia - BA"},{"code":"2512747","name":"Riachão","state":"PB","label":"Riachão - PB"},{"code":"2109502","name":"Riachão","state":"MA","label":"Riachão - MA"},{"code":"2926202","name":"Riachão das Neves","state":"BA","label":"Riachão das Neves - BA"},{"code":"2512754","name":"Riachão do Bacamarte","state":"PB","label":"Riachão do Bacamarte - PB"},{"code":"2805802","name":"Riachão do Dantas","state":"SE","label":"Riachão do Dantas - SE"},{"code":"2926301","name":"Riachão do Jacuípe","state":"BA","label":"Riachão do Jacuípe - BA"},{"code":"2512762","name":"Riachão do Poço","state":"PB","label":"Riachão do Poço - PB"},{"code":"1718550","name":"Riachinho","state":"TO","label":"Riachinho - TO"},{"code":"3154457","name":"Riachinho","state":"MG","label":"Riachinho - MG"},{"code":"2410702","name":"Riacho da Cruz","state":"RN","label":"Riacho da Cruz - RN"},{"code":"2611705","name":"Riacho das Almas","state":"PE","label":"Riacho das Almas - PE"},{"code":"2926400","name":"Riacho de Santana","state":"BA","label":"Riacho de Santana - BA"},{"code":"2410801","name":"Riacho de Santana","state":"RN","label":"Riacho de Santana - RN"},{"code":"2512788","name":"Riacho de Santo Antônio","state":"PB","label":"Riacho de Santo Antônio - PB"},{"code":"2512804","name":"Riacho dos Cavalos","state":"PB","label":"Riacho dos Cavalos - PB"},{"code":"3154507","name":"Riacho dos Machados","state":"MG","label":"Riacho dos Machados - MG"},{"code":"2208858","name":"Riacho Frio","state":"PI","label":"Riacho Frio - PI"},{"code":"2410900","name":"Riachuelo","state":"RN","label":"Riachuelo - RN"},{"code":"2805901","name":"Riachuelo","state":"SE","label":"Riachuelo - SE"},{"code":"5218607","name":"Rialma","state":"GO","label":"Rialma - GO"},{"code":"5218706","name":"Rianápolis","state":"GO","label":"Rianápolis - GO"},{"code":"2109551","name":"Ribamar Fiquene","state":"MA","label":"Ribamar Fiquene - MA"},{"code":"5007109","name":"Ribas do Rio Pardo","state":"MS","label":"Ribas do Rio Pardo - MS"},{"code":"3542800","name":"Ribeira","state":"SP","label":"Ribeira - SP"},{"code":"2926509","name":"Ribeira do Amparo","state":"BA","label":"Ribeira do Amparo - BA"},{"code":"2208874","name":"Ribeira do Piauí","state":"PI","label":"Ribeira do Piauí - PI"},{"code":"2926608","name":"Ribeira do Pombal","state":"BA","label":"Ribeira do Pombal - BA"},{"code":"2611804","name":"Ribeirão","state":"PE","label":"Ribeirão - PE"},{"code":"3542909","name":"Ribeirão Bonito","state":"SP","label":"Ribeirão Bonito - SP"},{"code":"3543006","name":"Ribeirão Branco","state":"SP","label":"Ribeirão Branco - SP"},{"code":"5107180","name":"Ribeirão Cascalheira","state":"MT","label":"Ribeirão Cascalheira - MT"},{"code":"4121802","name":"Ribeirão Claro","state":"PR","label":"Ribeirão Claro - PR"},{"code":"3543105","name":"Ribeirão Corrente","state":"SP","label":"Ribeirão Corrente - SP"},{"code":"3154606","name":"Ribeirão das Neves","state":"MG","label":"Ribeirão das Neves - MG"},{"code":"2926657","name":"Ribeirão do Largo","state":"BA","label":"Ribeirão do Largo - BA"},{"code":"4121901","name":"Ribeirão do Pinhal","state":"PR","label":"Ribeirão do Pinhal - PR"},{"code":"3543204","name":"Ribeirão do Sul","state":"SP","label":"Ribeirão do Sul - SP"},{"code":"3543238","name":"Ribeirão dos Índios","state":"SP","label":"Ribeirão dos Índios - SP"},{"code":"3543253","name":"Ribeirão Grande","state":"SP","label":"Ribeirão Grande - SP"},{"code":"3543303","name":"Ribeirão Pires","state":"SP","label":"Ribeirão Pires - SP"},{"code":"3543402","name":"Ribeirão Preto","state":"SP","label":"Ribeirão Preto - SP"},{"code":"3154705","name":"Ribeirão Vermelho","state":"MG","label":"Ribeirão Vermelho - MG"},{"code":"5107198","name":"Ribeirãozinho","state":"MT","label":"Ribeirãozinho - MT"},{"code":"2208908","name":"Ribeiro Gonçalves","state":"PI","label":"Ribeiro Gonçalves - PI"},{"code":"2806008","name":"Ribeirópolis","state":"SE","label":"Ribeirópolis - SE"},{"code":"3543600","name":"Rifaina","state":"SP","label":"Rifaina - SP"},{"code":"3543709","name":"Rincão","state":"SP","label":"Rincão - SP"},{"code":"3543808","name":"Rinópolis","state":"SP","label":"Rinópolis - SP"},{"code":"3154804","name":"Rio Acima","state":"MG","label":"Rio Acima - MG"},{"code":"4122008","name":"Rio Azul","state":"PR","label":"Rio Azul - PR"},{"code":"3204351","name":"Rio Bananal","state":"ES","label":"Rio Bananal - ES"},{"code":"4122107","name":"Rio Bom","state":"PR","label":"Rio Bom - PR"},{"code":"3304300","name":"Rio Bonito","state":"RJ","label":"Rio Bonito - RJ"},{"code":"4122156","name":"Rio Bonito do Iguaçu","state":"PR","label":"Rio Bonito do Iguaçu - PR"},{"code":"5107206","name":"Rio Branco","state":"MT","label":"Rio Branco - MT"},{"code":"1200401","name":"Rio Branco","state":"AC","label":"Rio Branco - AC"},{"code":"4122172","name":"Rio Branco do Ivaí","state":"PR","label":"Rio Branco do Ivaí - PR"},{"code":"4122206","name":"Rio Branco do Sul","state":"PR","label":"Rio Branco do Sul - PR"},{"code":"5007208","name":"Rio Brilhante","state":"MS","label":"Rio Brilhante - MS"},{"code":"3154903","name":"Rio Casca","state":"MG","label":"Rio Casca - MG"},{"code":"3304409","name":"Rio Claro","state":"RJ","label":"Rio Claro - RJ"},{"code":"3543907","name":"Rio Claro","state":"SP","label":"Rio Claro - SP"},{"code":"1100262","name":"Rio Crespo","state":"RO","label":"Rio Crespo - RO"},{"code":"1718659","name":"Rio da Conceição","state":"TO","label":"Rio da Conceição - TO"},{"code":"4214409","name":"Rio das Antas","state":"SC","label":"Rio das Antas - SC"},{"code":"3304508","name":"Rio das Flores","state":"RJ","label":"Rio das Flores - RJ"},{"code":"3304524","name":"Rio das Ostras","state":"RJ","label":"Rio das Ostras - RJ"},{"code":"3544004","name":"Rio das Pedras","state":"SP","label":"Rio das Pedras - SP"},{"code":"2926707","name":"Rio de Contas","state":"BA","label":"Rio de Contas - BA"},{"code":"3304557","name":"Rio de Janeiro","state":"RJ","label":"Rio de Janeiro - RJ"},{"code":"2926806","name":"Rio do Antônio","state":"BA","label":"Rio do Antônio - BA"},{"code":"4214508","name":"Rio do Campo","state":"SC","label":"Rio do Campo - SC"},{"code":"2408953","name":"Rio do Fogo","state":"RN","label":"Rio do Fogo - RN"},{"code":"4214607","name":"Rio do Oeste","state":"SC","label":"Rio do Oeste - SC"},{"code":"2926905","name":"Rio do Pires","state":"BA","label":"Rio do Pires - BA"},{"code":"3155108","name":"Rio do Prado","state":"MG","label":"Rio do Prado - MG"},{"code":"4214805","name":"Rio do Sul","state":"SC","label":"Rio do Sul - SC"},{"code":"3155009","name":"Rio Doce","state":"MG","label":"Rio Doce - MG"},{"code":"1718709","name":"Rio dos Bois","state":"TO","label":"Rio dos Bois - TO"},{"code":"4214706","name":"Rio dos Cedros","state":"SC","label":"Rio dos Cedros - SC"},{"code":"4315552","name":"Rio dos Índios","state":"RS","label":"Rio dos Índios - RS"},{"code":"3155207","name":"Rio Espera","state":"MG","label":"Rio Espera - MG"},{"code":"2611903","name":"Rio Formoso","state":"PE","label":"Rio Formoso - PE"},{"code":"4214904","name":"Rio Fortuna","state":"SC","label":"Rio Fortuna - SC"},{"code":"4315602","name":"Rio Grande","state":"RS","label":"Rio Grande - RS"},{"code":"3544103","name":"Rio Grande da Serra","state":"SP","label":"Rio Grande da Serra - SP"},{"code":"2209005","name":"Rio Grande do Piauí","state":"PI","label":"Rio Grande do Piauí - PI"},{"code":"2707701","name":"Rio Largo","state":"AL","label":"Rio Largo - AL"},{"code":"3155306","name":"Rio Manso","state":"MG","label":"Rio Manso - MG"},{"code":"1506161","name":"Rio Maria","state":"PA","label":"Rio Maria - PA"},{"code":"4215000","name":"Rio Negrinho","state":"SC","label":"Rio Negrinho - SC"},{"code":"5007307","name":"Rio Negro","state":"MS","label":"Rio Negro - MS"},{"code":"4122305","name":"Rio Negro","state":"PR","label":"Rio Negro - PR"},{"code":"3155405","name":"Rio Novo","state":"MG","label":"Rio Novo - MG"},{"code":"3204401","name":"Rio Novo do Sul","state":"ES","label":"Rio Novo do Sul - ES"},{"code":"3155504","name":"Rio Paranaíba","state":"MG","label":"Rio Paranaíba - MG"},{"code":"4315701","name":"Rio Pardo","state":"RS","label":"Rio Pardo - RS"},{"code":"3155603","name":"Rio Pardo de Minas","state":"MG","label":"Rio Pardo de Minas - MG"},{"code":"3155702","name":"Rio Piracicaba","state":"MG","label":"Rio Piracicaba - MG"},{"code":"3155801","name":"Rio Pomba","state":"MG","label":"Rio Pomba - MG"},{"code":"3155900","name":"Rio Preto","state":"MG","label":"Rio Preto - MG"},{"code":"1303569","name":"Rio Preto da Eva","state":"AM","label":"Rio Preto da Eva - AM"},{"code":"5218789","name":"Rio Quente","state":"GO","label":"Rio Quente - GO"},{"code":"2927002","name":"Rio Real","state":"BA","label":"Rio Real - BA"},{"code":"4215059","name":"Rio Rufino","state":"SC","label":"Rio Rufino - SC"},{"code":"1718758","name":"Rio Sono","state":"TO","label":"Rio Sono - TO"},{"code":"2512903","name":"Rio Tinto","state":"PB","label":"Rio Tinto - PB"},{"code":"5218805","name":"Rio Verde","state":"GO","label":"Rio Verde - GO"},{"code":"5007406","name":"Rio Verde de Mato Grosso","state":"MS","label":"Rio Verde de Mato Grosso - MS"},{"code":"3156007","name":"Rio Vermelho","state":"MG","label":"Rio Vermelho - MG"},{"code":"3544202","name":"Riolândia","state":"SP","label":"Riolândia - SP"},{"code":"4315750","name":"Riozinho","state":"RS","label":"Riozinho - RS"},{"code":"4215075","name":"Riqueza","state":"SC","label":"Riqueza - SC"},{"code":"3156106","name":"Ritápolis","state":"MG","label":"Ritápolis - MG"},{"code":"3543501","name":"Riversul","state":"SP","label":"Riversul - SP"},{"code":"4315800","name":"Roca Sales","state":"RS","label":"Roca Sales - RS"},{"code":"5007505","name":"Rochedo","state":"MS","label":"Rochedo - MS"},{"code":"3156205","name":"Rochedo de Minas","state":"MG","label":"Rochedo de Minas - MG"},{"code":"4215109","name":"Rodeio","state":"SC","label":"Rodeio - SC"},{"code":"4315909","name":"Rodeio Bonito","state":"RS","label":"Rodeio Bonito - RS"},{"code":"3156304","name":"Rodeiro","state":"MG","label":"Rodeiro - MG"},{"code":"2927101","name":"Rodelas","state":"BA","label":"Rodelas - BA"},{"code":"2411007","name":"Rodolfo Fernandes","state":"RN","label":"Rodolfo Fernandes - RN"},{"code":"1200427","name":"Rodrigues Alves","state":"AC","label":"Rodrigues Alves - AC"},{"code":"4315958","name":"Rolador","state":"RS","label":"Rolador - RS"},{"code":"4122404","name":"Rolândia","state":"PR","label":"Rolândia - PR"},{"code":"4316006","name":"Rolante","state":"RS","label":"Rolante - RS"},{"code":"1100288","name":"Rolim de Moura","state":"RO","label":"Rolim de Moura - RO"},{"code":"3156403","name":"Romaria","state":"MG","label":"Romaria - MG"},{"code":"4215208","name":"Romelândia","state":"SC","label":"Romelândia - SC"},{"code":"4122503","name":"Roncador","state":"PR","label":"Roncador - PR"},{"code":"4316105","name":"Ronda Alta","state":"RS","label":"Ronda Alta - RS"},{"code":"4316204","name":"Rondinha","state":"RS","label":"Rondinha - RS"},{"code":"5107578","name":"Rondolândia","state":"MT","label":"Rondolândia - MT"},{"code":"4122602","name":"Rondon","state":"PR","label":"Rondon - PR"},{"code":"1506187","name":"Rondon do Pará","state":"PA","label":"Rondon do Pará - PA"},{"code":"5107602","name":"Rondonópolis","state":"MT","label":"Rondonópolis - MT"},{"code":"4316303","name":"Roque Gonzales","state":"RS","label":"Roque Gonzales - RS"},{"code":"1400472","name":"Rorainópolis","state":"RR","label":"Rorainópolis - RR"},{"code":"3544251","name":"Rosana","state":"SP","label":"Rosana - SP"},{"code":"2109601","name":"Rosário","state":"MA","label":"Rosário - MA"},{"code":"3156452","name":"Rosário da Limeira","state":"MG","label":"Rosário da Limeira - MG"},{"code":"2806107","name":"Rosário do Catete","state":"SE","label":"Rosário do Catete - SE"},{"code":"4122651","name":"Rosário do Ivaí","state":"PR","label":"Rosário do Ivaí - PR"},{"code":"4316402","name":"Rosário do Sul","state":"RS","label":"Rosário do Sul - RS"},{"code":"5107701","name":"Rosário Oeste","state":"MT","label":"Rosário Oeste - MT"},{"code":"3544301","name":"Roseira","state":"SP","label":"Roseira - SP"},{"code":"2707800","name":"Roteiro","state":"AL","label":"Roteiro - AL"},{"code":"3156502","name":"Rubelita","state":"MG","label":"Rubelita - MG"},{"code":"3544400","name":"Rubiácea","state":"SP","label":"Rubiácea - SP"},{"code":"5218904","name":"Rubiataba","state":"GO","label":"Rubiataba - GO"},{"code":"3156601","name":"Rubim","state":"MG","label":"Rubim - MG"},{"code":"3544509","name":"Rubinéia","state":"SP","label":"Rubinéia - SP"},{"code":"1506195","name":"Rurópolis","state":"PA","label":"Rurópolis - PA"},{"code":"2311801","name":"Russas","state":"CE","label":"Russas - CE"},{"code":"2411106","name":"Ruy Barbosa","state":"RN","label":"Ruy Barbosa - RN"},{"code":"2927200","name":"Ruy Barbosa","state":"BA","label":"Ruy Barbosa - BA"},{"code":"3156700","name":"Sabará","state":"MG","label":"Sabará - MG"},{"code":"4122701","name":"Sabáudia","state":"PR","label":"Sabáudia - PR"},{"code":"3544608","name":"Sabino","state":"SP","label":"Sabino - SP"},{"code":"3156809","name":"Sabinópolis","state":"MG","label":"Sabinópolis - MG"},{"code":"2311900","name":"Saboeiro","state":"CE","label":"Saboeiro - CE"},{"code":"3156908","name":"Sacramento","state":"MG","label":"Sacramento - MG"},{"code":"4316428","name":"Sagrada Família","state":"RS","label":"Sagrada Família - RS"},{"code":"3544707","name":"Sagres","state":"SP","label":"Sagres - SP"},{"code":"2612000","name":"Sairé","state":"PE","label":"Sairé - PE"},{"code":"4316436","name":"Saldanha Marinho","state":"RS","label":"Saldanha Marinho - RS"},{"code":"3544806","name":"Sales","state":"SP","label":"Sales - SP"},{"code":"3544905","name":"Sales Oliveira","state":"SP","label":"Sales Oliveira - SP"},{"code":"3545001","name":"Salesópolis","state":"SP","label":"Salesópolis - SP"},{"code":"4215307","name":"Salete","state":"SC","label":"Salete - SC"},{"code":"2612109","name":"Salgadinho","state":"PE","label":"Salgadinho - PE"},{"code":"2513000","name":"Salgadinho","state":"PB","label":"Salgadinho - PB"},{"code":"2806206","name":"Salgado","state":"SE","label":"Salgado - SE"},{"code":"2513109","name":"Salgado de São Félix","state":"PB","label":"Salgado de São Félix - PB"},{"code":"4122800","name":"Salgado Filho","state":"PR","label":"Salgado Filho - PR"},{"code":"2612208","name":"Salgueiro","state":"PE","label":"Salgueiro - PE"},{"code":"3157005","name":"Salinas","state":"MG","label":"Salinas - MG"},{"code":"2927309","name":"Salinas da Margarida","state":"BA","label":"Salinas da Margarida - BA"},{"code":"1506203","name":"Salinópolis","state":"PA","label":"Salinópolis - PA"},{"code":"2311959","name":"Salitre","state":"CE","label":"Salitre - CE"},{"code":"3545100","name":"Salmourão","state":"SP","label":"Salmourão - SP"},{"code":"2612307","name":"Saloá","state":"PE","label":"Saloá - PE"},{"code":"3545159","name":"Saltinho","state":"SP","label":"Saltinho - SP"},{"code":"4215356","name":"Saltinho","state":"SC","label":"Saltinho - SC"},{"code":"3545209","name":"Salto","state":"SP","label":"Salto - SP"},{"code":"3157104","name":"Salto da Divisa","state":"MG","label":"Salto da Divisa - MG"},{"code":"3545308","name":"Salto de Pirapora","state":"SP","label":"Salto de Pirapora - SP"},{"code":"5107750","name":"Salto do Céu","state":"MT","label":"Salto do Céu - MT"},{"code":"4122909","name":"Salto do Itararé","state":"PR","label":"Salto do Itararé - PR"},{"code":"4316451","name":"Salto do Jacuí","state":"RS","label":"Salto do Jacuí - RS"},{"code":"4123006","name":"Salto do Lontra","state":"PR","label":"Salto do Lontra - PR"},{"code":"3545407","name":"Salto Grande","state":"SP","label":"Salto Grande - SP"},{"code":"4215406","name":"Salto Veloso","state":"SC","label":"Salto Veloso - SC"},{"code":"2927408","name":"Salvador","state":"BA","label":"Salvador - BA"},{"code":"4316477","name":"Salvador das Missões","state":"RS","label":"Salvador das Missões - RS"},{"code":"4316501","name":"Salvador do Sul","state":"RS","label":"Salvador do Sul - RS"},{"code":"1506302","name":"Salvaterra","state":"PA","label":"Salvaterra - PA"},{"code":"2109700","name":"Sambaíba","state":"MA","label":"Sambaíba - MA"},{"code":"1718808","name":"Sampaio","state":"TO","label":"Sampaio - TO"},{"code":"4316600","name":"Sananduva","state":"RS","label":"Sananduva - RS"},{"code":"5219001","name":"Sanclerlândia","state":"GO","label":"Sanclerlândia - GO"},{"code":"1718840","name":"Sandolândia","state":"TO","label":"Sandolândia - TO"},{"code":"3545506","name":"Sandovalina","state":"SP","label":"Sandovalina - SP"},{"code":"4215455","name":"Sangão","state":"SC","label":"Sangão - SC"},{"code":"2612406","name":"Sanharó","state":"PE","label":"Sanharó - PE"},{"code":"3545605","name":"Santa Adélia","state":"SP","label":"Santa Adélia - SP"},{"code":"3545704","name":"Santa Albertina","state":"SP","label":"Santa Albertina - SP"},{"code":"4123105","name":"Santa Amélia","state":"PR","label":"Santa Amélia - PR"},{"code":"3157203","name":"Santa Bárbara","state":"MG","label":"Santa Bárbara - MG"},{"code":"2927507","name":"Santa Bárbara","state":"BA","label":"Santa Bárbara - BA"},{"code":"5219100","name":"Santa Bárbara de Goiás","state":"GO","label":"Santa Bárbara de Goiás - GO"},{"code":"3157252","name":"Santa Bárbara do Leste","state":"MG","label":"Santa Bárbara do Leste - MG"},{"code":"3157278","name":"Santa Bárbara do Monte Verde","state":"MG","label":"Santa Bárbara do Monte Verde - MG"},{"code":"1506351","name":"Santa Bárbara do Pará","state":"PA","label":"Santa Bárbara do Pará - PA"},{"code":"4316709","name":"Santa Bárbara do Sul","state":"RS","label":"Santa Bárbara do Sul - RS"},{"code":"3157302","name":"Santa Bárbara do Tugúrio","state":"MG","label":"Santa Bárbara do Tugúrio - MG"},{"code":"3545803","name":"Santa Bárbara d\u0027Oeste","state":"SP","label":"Santa Bárbara d\u0027Oeste - SP"},{"code":"3546009","name":"Santa Branca","state":"SP","label":"Santa Branca - SP"},{"code":"2927606","name":"Santa Brígida","state":"BA","label":"Santa Brígida - BA"},{"code":"5107248","name":"Santa Carmem","state":"MT","label":"Santa Carmem - MT"},{"code":"4215505","name":"Santa Cecília","state":"SC","label":"Santa Cecília - SC"},{"code":"2513158","name":"Santa Cecília","state":"PB","label":"Santa Cecília - PB"},{"code":"4123204","name":"Santa Cecília do Pavão","state":"PR","label":"Santa Cecília do Pavão - PR"},{"code":"4316733","name":"Santa Cecília do Sul","state":"RS","label":"Santa Cecília do Sul - RS"},{"code":"4316758","name":"Santa Clara do Sul","state":"RS","label":"Santa Clara do Sul - RS"},{"code":"3546108","name":"Santa Clara d\u0027Oeste","state":"SP","label":"Santa Clara d\u0027Oeste - SP"},{"code":"2513208","name":"Santa Cruz","state":"PB","label":"Santa Cruz - PB"},{"code":"2411205","name":"Santa Cruz","state":"RN","label":"Santa Cruz - RN"},{"code":"2612455","name":"Santa Cruz","state":"PE","label":"Santa Cruz - PE"},{"code":"2927705","name":"Santa Cruz Cabrália","state":"BA","label":"Santa Cruz Cabrália - BA"},{"code":"2612471","name":"Santa Cruz da Baixa Verde","state":"PE","label":"Santa Cruz da Baixa Verde - PE"},{"code":"3546207","name":"Santa Cruz da Conceição","state":"SP","label":"Santa Cruz da Conceição - SP"},{"code":"3546256","name":"Santa Cruz da Esperança","state":"SP","label":"Santa Cruz da Esperança - SP"},{"code":"2927804","name":"Santa Cruz da Vitória","state":"BA","label":"Santa Cruz da Vitória - BA"},{"code":"3546306","name":"Santa Cruz das Palmeiras","state":"SP","label":"Santa Cruz das Palmeiras - SP"},{"code":"5219209","name":"Santa Cruz de Goiás","state":"GO","label":"Santa Cruz de Goiás - GO"},{"code":"3157336","name":"Santa Cruz de Minas","state":"MG","label":"Santa Cruz de Minas - MG"},{"code":"4123303","name":"Santa Cruz de Monte Castelo","state":"PR","label":"Santa Cruz de Monte Castelo - PR"},{"code":"3157377","name":"Santa Cruz de Salinas","state":"MG","label":"Santa Cruz de Salinas - MG"},{"code":"1506401","name":"Santa Cruz do Arari","state":"PA","label":"Santa Cruz do Arari - PA"},{"code":"2612505","name":"Santa Cruz do Capibaribe","state":"PE","label":"Santa Cruz do Capibaribe - PE"},{"code":"3157401","name":"Santa Cruz do Escalvado","state":"MG","label":"Santa Cruz do Escalvado - MG"},{"code":"2209104","name":"Santa Cruz do Piauí","state":"PI","label":"Santa Cruz do Piauí - PI"},{"code":"3546405","name":"Santa Cruz do Rio Pardo","state":"SP","label":"Santa Cruz do Rio Pardo - SP"},{"code":"4316808","name":"Santa Cruz do Sul","state":"RS","label":"Santa Cruz do Sul - RS"},{"code":"5107743","name":"Santa Cruz do Xingu","state":"MT","label":"Santa Cruz do Xingu - MT"},{"code":"2209153","name":"Santa Cruz dos Milagres","state":"PI","label":"Santa Cruz dos Milagres - PI"},{"code":"3157500","name":"Santa Efigênia de Minas","state":"MG","label":"Santa Efigênia de Minas - MG"},{"code":"3546504","name":"Santa Ernestina","state":"SP","label":"Santa Ernestina - SP"},{"code":"4123402","name":"Santa Fé","state":"PR","label":"Santa Fé - PR"},{"code":"5219258","name":"Santa Fé de Goiás","state":"GO","label":"Santa Fé de Goiás - GO"},{"code":"3157609","name":"Santa Fé de Minas","state":"MG","label":"Santa Fé de Minas - MG"},{"code":"1718865","name":"Santa Fé do Araguaia","state":"TO","label":"Santa Fé do Araguaia - TO"},{"code":"3546603","name":"Santa Fé do Sul","state":"SP","label":"Santa Fé do Sul - SP"},{"code":"2209203","name":"Santa Filomena","state":"PI","label":"Santa Filomena - PI"},{"code":"2612554","name":"Santa Filomena","state":"PE","label":"Santa Filomena - PE"},{"code":"2109759","name":"Santa Filomena do Maranhão","state":"MA","label":"Santa Filomena do Maranhão - MA"},{"code":"3546702","name":"Santa Gertrudes","state":"SP","label":"Santa Gertrudes - SP"},{"code":"4123501","name":"Santa Helena","state":"PR","label":"Santa Helena - PR"},{"code":"4215554","name":"Santa Helena","state":"SC","label":"Santa Helena - SC"},{"code":"2109809","name":"Santa Helena","state":"MA","label":"Santa Helena - MA"},{"code":"2513307","name":"Santa Helena","state":"PB","label":"Santa Helena - PB"},{"code":"5219308","name":"Santa Helena de Goiás","state":"GO","label":"Santa Helena de Goiás - GO"},{"code":"3157658","name":"Santa Helena de Minas","state":"MG","label":"Santa Helena de Minas - MG"},{"code":"4123600","name":"Santa Inês","state":"PR","label":"Santa Inês - PR"},{"code":"2513356","name":"Santa Inês","state":"PB","label":"Santa Inês - PB"},{"code":"2109908","name":"Santa Inês","state":"MA","label":"Santa Inês - MA"},{"code":"2927903","name":"Santa Inês","state":"BA","label":"Santa Inês - BA"},{"code":"3546801","name":"Santa Isabel","state":"SP","label":"Santa Isabel - SP"},{"code":"5219357","name":"Santa Isabel","state":"GO","label":"Santa Isabel - GO"},{"code":"4123709","name":"Santa Isabel do Ivaí","state":"PR","label":"Santa Isabel do Ivaí - PR"},{"code":"1303601","name":"Santa Isabel do Rio Negro","state":"AM","label":"Santa Isabel do Rio Negro - AM"},{"code":"4123808","name":"Santa Izabel do Oeste","state":"PR","label":"Santa Izabel do Oeste - PR"},{"code":"1506500","name":"Santa Izabel do Pará","state":"PA","label":"Santa Izabel do Pará - PA"},{"code":"3157708","name":"Santa Juliana","state":"MG","label":"Santa Juliana - MG"},{"code":"3204500","name":"Santa Leopoldina","state":"ES","label":"Santa Leopoldina - ES"},{"code":"4123824","name":"Santa Lúcia","state":"PR","label":"Santa Lúcia - PR"},{"code":"3546900","name":"Santa Lúcia","state":"SP","label":"Santa Lúcia - SP"},{"code":"2209302","name":"Santa Luz","state":"PI","label":"Santa Luz - PI"},{"code":"2513406","name":"Santa Luzia","state":"PB","label":"Santa Luzia - PB"},{"code":"2110005","name":"Santa Luzia","state":"MA","label":"Santa Luzia - MA"},{"code":"3157807","name":"Santa Luzia","state":"MG","label":"Santa Luzia - MG"},{"code":"2928059","name":"Santa Luzia","state":"BA","label":"Santa Luzia - BA"},{"code":"2806305","name":"Santa Luzia do Itanhy","state":"SE","label":"Santa Luzia do Itanhy - SE"},{"code":"2707909","name":"Santa Luzia do Norte","state":"AL","label":"Santa Luzia do Norte - AL"},{"code":"1506559","name":"Santa Luzia do Pará","state":"PA","label":"Santa Luzia do Pará - PA"},{"code":"2110039","name":"Santa Luzia do Paruá","state":"MA","label":"Santa Luzia do Paruá - MA"},{"code":"1100296","name":"Santa Luzia D\u0027Oeste","state":"RO","label":"Santa Luzia D\u0027Oeste - RO"},{"code":"3157906","name":"Santa Margarida","state":"MG","label":"Santa Margarida - MG"},{"code":"4316972","name":"Santa Margarida do Sul","state":"RS","label":"Santa Margarida do Sul - RS"},{"code":"4316907","name":"Santa Maria","state":"RS","label":"Santa Maria - RS"},{"code":"2409332","name":"Santa Maria","state":"RN","label":"Santa Maria - RN"},{"code":"2612604","name":"Santa Maria da Boa Vista","state":"PE","label":"Santa Maria da Boa Vista - PE"},{"code":"3547007","name":"Santa Maria da Serra","state":"SP","label":"Santa Maria da Serra - SP"},{"code":"2928109","name":"Santa Maria da Vitória","state":"BA","label":"Santa Maria da Vitória - BA"},{"code":"1506583","name":"Santa Maria das Barreiras","state":"PA","label":"Santa Maria das Barreiras - PA"},{"code":"3158003","name":"Santa Maria de Itabira","state":"MG","label":"Santa Maria de Itabira - MG"},{"code":"3204559","name":"Santa Maria de Jetibá","state":"ES","label":"Santa Maria de Jetibá - ES"},{"code":"2612703","name":"Santa Maria do Cambucá","state":"PE","label":"Santa Maria do Cambucá - PE"},{"code":"4316956","name":"Santa Maria do Herval","state":"RS","label":"Santa Maria do Herval - RS"},{"code":"4123857","name":"Santa Maria do Oeste","state":"PR","label":"Santa Maria do Oeste - PR"},{"code":"1506609","name":"Santa Maria do Pará","state":"PA","label":"Santa Maria do Pará - PA"},{"code":"3158102","name":"Santa Maria do Salto","state":"MG","label":"Santa Maria do Salto - MG"},{"code":"3158201","name":"Santa Maria do Suaçuí","state":"MG","label":"Santa Maria do Suaçuí - MG"},{"code":"1718881","name":"Santa Maria do Tocantins","state":"TO","label":"Santa Maria do Tocantins - TO"},{"code":"3304607","name":"Santa Maria Madalena","state":"RJ","label":"Santa Maria Madalena - RJ"},{"code":"4123907","name":"Santa Mariana","state":"PR","label":"Santa Mariana - PR"},{"code":"3547106","name":"Santa Mercedes","state":"SP","label":"Santa Mercedes - SP"},{"code":"4123956","name":"Santa Mônica","state":"PR","label":"Santa Mônica - PR"},{"code":"2312205","name":"Santa Quitéria","state":"CE","label":"Santa Quitéria - CE"},{"code":"2110104","name":"Santa Quitéria do Maranhão","state":"MA","label":"Santa Quitéria do Maranhão - MA"},{"code":"2110203","name":"Santa Rita","state":"MA","label":"Santa Rita - MA"},{"code":"2513703","name":"Santa Rita","state":"PB","label":"Santa Rita - PB"},{"code":"3159209","name":"Santa Rita de Caldas","state":"MG","label":"Santa Rita de Caldas - MG"},{"code":"2928406","name":"Santa Rita de Cássia","state":"BA","label":"Santa Rita de Cássia - BA"},{"code":"3159407","name":"Santa Rita de Ibitipoca","state":"MG","label":"Santa Rita de Ibitipoca - MG"},{"code":"3159308","name":"Santa Rita de Jacutinga","state":"MG","label":"Santa Rita de Jacutinga - MG"},{"code":"3159357","name":"Santa Rita de Minas","state":"MG","label":"Santa Rita de Minas - MG"},{"code":"5219407","name":"Santa Rita do Araguaia","state":"GO","label":"Santa Rita do Araguaia - GO"},{"code":"3159506","name":"Santa Rita do Itueto","state":"MG","label":"Santa Rita do Itueto - MG"},{"code":"5219456","name":"Santa Rita do Novo Destino","state":"GO","label":"Santa Rita do Novo Destino - GO"},{"code":"5007554","name":"Santa Rita do Pardo","state":"MS","label":"Santa Rita do Pardo - MS"},{"code":"3547502","name":"Santa Rita do Passa Quatro","state":"SP","label":"Santa Rita do Passa Quatro - SP"},{"code":"3159605","name":"Santa Rita do Sapucaí","state":"MG","label":"Santa Rita do Sapucaí - MG"},{"code":"1718899","name":"Santa Rita do Tocantins","state":"TO","label":"Santa Rita do Tocantins - TO"},{"code":"5107768","name":"Santa Rita do Trivelato","state":"MT","label":"Santa Rita do Trivelato - MT"},{"code":"3547403","name":"Santa Rita d\u0027Oeste","state":"SP","label":"Santa Rita d\u0027Oeste - SP"},{"code":"4317202","name":"Santa Rosa","state":"RS","label":"Santa Rosa - RS"},{"code":"3159704","name":"Santa Rosa da Serra","state":"MG","label":"Santa Rosa da Serra - MG"},{"code":"5219506","name":"Santa Rosa de Goiás","state":"GO","label":"Santa Rosa de Goiás - GO"},{"code":"4215604","name":"Santa Rosa de Lima","state":"SC","label":"Santa Rosa de Lima - SC"},{"code":"2806503","name":"Santa Rosa de Lima","state":"SE","label":"Santa Rosa de Lima - SE"},{"code":"3547601","name":"Santa Rosa de Viterbo","state":"SP","label":"Santa Rosa de Viterbo - SP"},{"code":"2209377","name":"Santa Rosa do Piauí","state":"PI","label":"Santa Rosa do Piauí - PI"},{"code":"1200435","name":"Santa Rosa do Purus","state":"AC","label":"Santa Rosa do Purus - AC"},{"code":"4215653","name":"Santa Rosa do Sul","state":"SC","label":"Santa Rosa do Sul - SC"},{"code":"1718907","name":"Santa Rosa do Tocantins","state":"TO","label":"Santa Rosa do Tocantins - TO"},{"code":"3547650","name":"Santa Salete","state":"SP","label":"Santa Salete - SP"},{"code":"3204609","name":"Santa Teresa","state":"ES","label":"Santa Teresa - ES"},{"code":"2513802","name":"Santa Teresinha","state":"PB","label":"Santa Teresinha - PB"},{"code":"4317251","name":"Santa Tereza","state":"RS","label":"Santa Tereza - RS"},{"code":"5219605","name":"Santa Tereza de Goiás","state":"GO","label":"Santa Tereza de Goiás - GO"},{"code":"4124020","name":"Santa Tereza do Oeste","state":"PR","label":"Santa Tereza do Oeste - PR"},{"code":"1719004","name":"Santa Tereza do Tocantins","state":"TO","label":"Santa Tereza do Tocantins - TO"},{"code":"2928505","name":"Santa Terezinha","state":"BA","label":"Santa Terezinha - BA"},{"code":"2612802","name":"Santa Terezinha","state":"PE","label":"Santa Terezinha - PE"},{"code":"4215679","name":"Santa Terezinha","state":"SC","label":"Santa Terezinha - SC"},{"code":"5107776","name":"Santa Terezinha","state":"MT","label":"Santa Terezinha - MT"},{"code":"5219704","name":"Santa Terezinha de Goiás","state":"GO","label":"Santa Terezinha de Goiás - GO"},{"code":"4124053","name":"Santa Terezinha de Itaipu","state":"PR","label":"Santa Terezinha de Itaipu - PR"},{"code":"4215687","name":"Santa Terezinha do Progresso","state":"SC","label":"Santa Terezinha do Progresso - SC"},{"code":"1720002","name":"Santa Terezinha do Tocantins","state":"TO","label":"Santa Terezinha do Tocantins - TO"},{"code":"3159803","name":"Santa Vitória","state":"MG","label":"Santa Vitória - MG"},{"code":"4317301","name":"Santa Vitória do Palmar","state":"RS","label":"Santa Vitória do Palmar - RS"},{"code":"2928000","name":"Santaluz","state":"BA","label":"Santaluz - BA"},{"code":"1600600","name":"Santana","state":"AP","label":"Santana - AP"},{"code":"2928208","name":"Santana","state":"BA","label":"Santana - BA"},{"code":"4317004","name":"Santana da Boa Vista","state":"RS","label":"Santana da Boa Vista - RS"},{"code":"3547205","name":"Santana da Ponte Pensa","state":"SP","label":"Santana da Ponte Pensa - SP"},{"code":"3158300","name":"Santana da Vargem","state":"MG","label":"Santana da Vargem - MG"},{"code":"3158409","name":"Santana de Cataguases","state":"MG","label":"Santana de Cataguases - MG"},{"code":"2513505","name":"Santana de Mangueira","state":"PB","label":"Santana de Mangueira - PB"},{"code":"3547304","name":"Santana de Parnaíba","state":"SP","label":"Santana de Parnaíba - SP"},{"code":"3158508","name":"Santana de Pirapama","state":"MG","label":"Santana de Pirapama - MG"},{"code":"2312007","name":"Santana do Acaraú","state":"CE","label":"Santana do Acaraú - CE"},{"code":"1506708","name":"Santana do Araguaia","state":"PA","label":"Santana do Araguaia - PA"},{"code":"2312106","name":"Santana do Cariri","state":"CE","label":"Santana do Cariri - CE"},{"code":"3158607","name":"Santana do Deserto","state":"MG","label":"Santana do Deserto - MG"},{"code":"3158706","name":"Santana do Garambéu","state":"MG","label":"Santana do Garambéu - MG"},{"code":"2708006","name":"Santana do Ipanema","state":"AL","label":"Santana do Ipanema - AL"},{"code":"4124004","name":"Santana do Itararé","state":"PR","label":"Santana do Itararé - PR"},{"code":"3158805","name":"Santana do Jacaré","state":"MG","label":"Santana do Jacaré - MG"},{"code":"4317103","name":"Sant\u0027Ana do Livramento","state":"RS","label":"Sant\u0027Ana do Livramento - RS"},{"code":"3158904","name":"Santana do Manhuaçu","state":"MG","label":"Santana do Manhuaçu - MG"},{"code":"2110237","name":"Santana do Maranhão","state":"MA","label":"Santana do Maranhão - MA"},{"code":"2411403","name":"Santana do Matos","state":"RN","label":"Santana do Matos - RN"},{"code":"2708105","name":"Santana do Mundaú","state":"AL","label":"Santana do Mundaú - AL"},{"code":"3158953","name":"Santana do Paraíso","state":"MG","label":"Santana do Paraíso - MG"},{"code":"2209351","name":"Santana do Piauí","state":"PI","label":"Santana do Piauí - PI"},{"code":"3159001","name":"Santana do Riacho","state":"MG","label":"Santana do Riacho - MG"},{"code":"2806404","name":"Santana do São Francisco","state":"SE","label":"Santana do São Francisco - SE"},{"code":"2411429","name":"Santana do Seridó","state":"RN","label":"Santana do Seridó - RN"},{"code":"2513604","name":"Santana dos Garrotes","state":"PB","label":"Santana dos Garrotes - PB"},{"code":"3159100","name":"Santana dos Montes","state":"MG","label":"Santana dos Montes - MG"},{"code":"2928307","name":"Santanópolis","state":"BA","label":"Santanópolis - BA"},{"code":"1506807","name":"Santarém","state":"PA","label":"Santarém - PA"},{"code":"1506906","name":"Santarém Novo","state":"PA","label":"Santarém Novo - PA"},{"code":"4317400","name":"Santiago","state":"RS","label":"Santiago - RS"},{"code":"4215695","name":"Santiago do Sul","state":"SC","label":"Santiago do Sul - SC"},{"code":"5107263","name":"Santo Afonso","state":"MT","label":"Santo Afonso - MT"},{"code":"2928604","name":"Santo Amaro","state":"BA","label":"Santo Amaro - BA"},{"code":"4215703","name":"Santo Amaro da Imperatriz","state":"SC","label":"Santo Amaro da Imperatriz - SC"},{"code":"2806602","name":"Santo Amaro das Brotas","state":"SE","label":"Santo Amaro das Brotas - SE"},{"code":"2110278","name":"Santo Amaro do Maranhão","state":"MA","label":"Santo Amaro do Maranhão - MA"},{"code":"3547700","name":"Santo Anastácio","state":"SP","label":"Santo Anastácio - SP"},{"code":"3547809","name":"Santo André","state":"SP","label":"Santo André - SP"},{"code":"2513851","name":"Santo André","state":"PB","label":"Santo André - PB"},{"code":"4317509","name":"Santo Ângelo","state":"RS","label":"Santo Ângelo - RS"},{"code":"2411502","name":"Santo Antônio","state":"RN","label":"Santo Antônio - RN"},{"code":"3547908","name":"Santo Antônio da Alegria","state":"SP","label":"Santo Antônio da Alegria - SP"},{"code":"5219712","name":"Santo Antônio da Barra","state":"GO","label":"Santo Antônio da Barra - GO"},{"code":"4317608","name":"Santo Antônio da Patrulha","state":"RS","label":"Santo Antônio da Patrulha - RS"},{"code":"4124103","name":"Santo Antônio da Platina","state":"PR","label":"Santo Antônio da Platina - PR"},{"code":"4317707","name":"Santo Antônio das Missões","state":"RS","label":"Santo Antônio das Missões - RS"},{"code":"5219738","name":"Santo Antônio de Goiás","state":"GO","label":"Santo Antônio de Goiás - GO"},{"code":"2928703","name":"Santo Antônio de Jesus","state":"BA","label":"Santo Antônio de Jesus - BA"},{"code":"5107800","name":"Santo Antônio de Leverger","state":"MT","label":"Santo Antônio de Leverger - MT"},{"code":"2209401","name":"Santo Antônio de Lisboa","state":"PI","label":"Santo Antônio de Lisboa - PI"},{"code":"3304706","name":"Santo Antônio de Pádua","state":"RJ","label":"Santo Antônio de Pádua - RJ"},{"code":"3548005","name":"Santo Antônio de Posse","state":"SP","label":"Santo Antônio de Posse - SP"},{"code":"3159902","name":"Santo Antônio do Amparo","state":"MG","label":"Santo Antônio do Amparo - MG"},{"code":"3548054","name":"Santo Antônio do Aracanguá","state":"SP","label":"Santo Antônio do Aracanguá - SP"},{"code":"3160009","name":"Santo Antônio do Aventureiro","state":"MG","label":"Santo Antônio do Aventureiro - MG"},{"code":"4124202","name":"Santo Antônio do Caiuá","state":"PR","label":"Santo Antônio do Caiuá - PR"},{"code":"5219753","name":"Santo Antônio do Descoberto","state":"GO","label":"Santo Antônio do Descoberto - GO"},{"code":"3160108","name":"Santo Antônio do Grama","state":"MG","label":"Santo Antônio do Grama - MG"},{"code":"1303700","name":"Santo Antônio do Içá","state":"AM","label":"Santo Antônio do Içá - AM"},{"code":"3160207","name":"Santo Antônio do Itambé","state":"MG","label":"Santo Antônio do Itambé - MG"},{"code":"3160306","name":"Santo Antônio do Jacinto","state":"MG","label":"Santo Antônio do Jacinto - MG"},{"code":"3548104","name":"Santo Antônio do Jardim","state":"SP","label":"Santo Antônio do Jardim - SP"},{"code":"5107792","name":"Santo Antônio do Leste","state":"MT","label":"Santo Antônio do Leste - MT"},{"code":"3160405","name":"Santo Antônio do Monte","state":"MG","label":"Santo Antônio do Monte - MG"},{"code":"4317558","name":"Santo Antônio do Palma","state":"RS","label":"Santo Antônio do Palma - RS"},{"code":"4124301","name":"Santo Antônio do Paraíso","state":"PR","label":"Santo Antônio do Paraíso - PR"},{"code":"3548203","name":"Santo Antônio do Pinhal","state":"SP","label":"Santo Antônio do Pinhal - SP"},{"code":"4317756","name":"Santo Antônio do Planalto","state":"RS","label":"Santo Antônio do Planalto - RS"},{"code":"3160454","name":"Santo Antônio do Retiro","state":"MG","label":"Santo Antônio do Retiro - MG"},{"code":"3160504","name":"Santo Antônio do Rio Abaixo","state":"MG","label":"Santo Antônio do Rio Abaixo - MG"},{"code":"4124400","name":"Santo Antônio do Sudoeste","state":"PR","label":"Santo Antônio do Sudoeste - PR"},{"code":"1507003","name":"Santo Antônio do Tauá","state":"PA","label":"Santo Antônio do Tauá - PA"},{"code":"2110302","name":"Santo Antônio dos Lopes","state":"MA","label":"Santo Antônio dos Lopes - MA"},{"code":"2209450","name":"Santo Antônio dos Milagres","state":"PI","label":"Santo Antônio dos Milagres - PI"},{"code":"4317806","name":"Santo Augusto","state":"RS","label":"Santo Augusto - RS"},{"code":"4317905","name":"Santo Cristo","state":"RS","label":"Santo Cristo - RS"},{"code":"2928802","name":"Santo Estêvão","state":"BA","label":"Santo Estêvão - BA"},{"code":"3548302","name":"Santo Expedito","state":"SP","label":"Santo Expedito - SP"},{"code":"4317954","name":"Santo Expedito do Sul","state":"RS","label":"Santo Expedito do Sul - RS"},{"code":"3160603","name":"Santo Hipólito","state":"MG","label":"Santo Hipólito - MG"},{"code":"4124509","name":"Santo Inácio","state":"PR","label":"Santo Inácio - PR"},{"code":"2209500","name":"Santo Inácio do Piauí","state":"PI","label":"Santo Inácio do Piauí - PI"},{"code":"3548401","name":"Santópolis do Aguapeí","state":"SP","label":"Santópolis do Aguapeí - SP"},{"code":"3548500","name":"Santos","state":"SP","label":"Santos - SP"},{"code":"3160702","name":"Santos Dumont","state":"MG","label":"Santos Dumont - MG"},{"code":"2312304","name":"São Benedito","state":"CE","label":"São Benedito - CE"},{"code":"2110401","name":"São Benedito do Rio Preto","state":"MA","label":"São Benedito do Rio Preto - MA"},{"code":"2612901","name":"São Benedito do Sul","state":"PE","label":"São Benedito do Sul - PE"},{"code":"2513927","name":"São Bentinho","state":"PB","label":"São Bentinho - PB"},{"code":"2513901","name":"São Bento","state":"PB","label":"São Bento - PB"},{"code":"2110500","name":"São Bento","state":"MA","label":"São Bento - MA"},{"code":"3160801","name":"São Bento Abade","state":"MG","label":"São Bento Abade - MG"},{"code":"2411601","name":"São Bento do Norte","state":"RN","label":"São Bento do Norte - RN"},{"code":"3548609","name":"São Bento do Sapucaí","state":"SP","label":"São Bento do Sapucaí - SP"},{"code":"4215802","name":"São Bento do Sul","state":"SC","label":"São Bento do Sul - SC"},{"code":"1720101","name":"São Bento do Tocantins","state":"TO","label":"São Bento do Tocantins - TO"},{"code":"2411700","name":"São Bento do Trairí","state":"RN","label":"São Bento do Trairí - RN"},{"code":"2613008","name":"São Bento do Una","state":"PE","label":"São Bento do Una - PE"},{"code":"4215752","name":"São Bernardino","state":"SC","label":"São Bernardino - SC"},{"code":"2110609","name":"São Bernardo","state":"MA","label":"São Bernardo - MA"},{"code":"3548708","name":"São Bernardo do Campo","state":"SP","label":"São Bernardo do Campo - SP"},{"code":"4215901","name":"São Bonifácio","state":"SC","label":"São Bonifácio - SC"},{"code":"4318002","name":"São Borja","state":"RS","label":"São Borja - RS"},{"code":"2708204","name":"São Brás","state":"AL","label":"São Brás - AL"},{"code":"3160900","name":"São Brás do Suaçuí","state":"MG","label":"São Brás do Suaçuí - MG"},{"code":"2209559","name":"São Braz do Piauí","state":"PI","label":"São Braz do Piauí - PI"},{"code":"1507102","name":"São Caetano de Odivelas","state":"PA","label":"São Caetano de Odivelas - PA"},{"code":"3548807","name":"São Caetano do Sul","state":"SP","label":"São Caetano do Sul - SP"},{"code":"2613107","name":"São Caitano","state":"PE","label":"São Caitano - PE"},{"code":"3548906","name":"São Carlos","state":"SP","label":"São Carlos - SP"},{"code":"4216008","name":"São Carlos","state":"SC","label":"São Carlos - SC"},{"code":"4124608","name":"São Carlos do Ivaí","state":"PR","label":"São Carlos do Ivaí - PR"},{"code":"2806701","name":"São Cristóvão","state":"SE","label":"São Cristóvão - SE"},{"code":"4216057","name":"São Cristóvão do Sul","state":"SC","label":"São Cristóvão do Sul - SC"},{"code":"2928901","name":"São Desidério","state":"BA","label":"São Desidério - BA"},{"code":"2928950","name":"São Domingos","state":"BA","label":"São Domingos - BA"},{"code":"2806800","name":"São Domingos","state":"SE","label":"São Domingos - SE"},{"code":"2513968","name":"São Domingos","state":"PB","label":"São Domingos - PB"},{"code":"4216107","name":"São Domingos","state":"SC","label":"São Domingos - SC"},{"code":"5219803","name":"São Domingos","state":"GO","label":"São Domingos - GO"},{"code":"3160959","name":"São Domingos das Dores","state":"MG","label":"São Domingos das Dores - MG"},{"code":"1507151","name":"São Domingos do Araguaia","state":"PA","label":"São Domingos do Araguaia - PA"},{"code":"2110658","name":"São Domingos do Azeitão","state":"MA","label":"São Domingos do Azeitão - MA"},{"code":"1507201","name":"São Domingos do Capim","state":"PA","label":"São Domingos do Capim - PA"},{"code":"2513943","name":"São Domingos do Cariri","state":"PB","label":"São Domingos do Cariri - PB"},{"code":"2110708","name":"São Domingos do Maranhão","state":"MA","label":"São Domingos do Maranhão - MA"},{"code":"3204658","name":"São Domingos do Norte","state":"ES","label":"São Domingos do Norte - ES"},{"code":"3161007","name":"São Domingos do Prata","state":"MG","label":"São Domingos do Prata - MG"},{"code":"4318051","name":"São Domingos do Sul","state":"RS","label":"São Domingos do Sul - RS"},{"code":"2929107","name":"São Felipe","state":"BA","label":"São Felipe - BA"},{"code":"1101484","name":"São Felipe D\u0027Oeste","state":"RO","label":"São Felipe D\u0027Oeste - RO"},{"code":"2929008","name":"São Félix","state":"BA","label":"São Félix - BA"},{"code":"2110807","name":"São Félix de Balsas","state":"MA","label":"São Félix de Balsas - MA"},{"code":"3161056","name":"São Félix de Minas","state":"MG","label":"São Félix de Minas - MG"},{"code":"5107859","name":"São Félix do Araguaia","state":"MT","label":"São Félix do Araguaia - MT"},{"code":"2929057","name":"São Félix do Coribe","state":"BA","label":"São Félix do Coribe - BA"},{"code":"2209609","name":"São Félix do Piauí","state":"PI","label":"São Félix do Piauí - PI"},{"code":"1720150","name":"São Félix do Tocantins","state":"TO","label":"São Félix do Tocantins - TO"},{"code":"1507300","name":"São Félix do Xingu","state":"PA","label":"São Félix do Xingu - PA"},{"code":"2411809","name":"São Fernando","state":"RN","label":"São Fernando - RN"},{"code":"3304805","name":"São Fidélis","state":"RJ","label":"São Fidélis - RJ"},{"code":"3549003","name":"São Francisco","state":"SP","label":"São Francisco - SP"},{"code":"3161106","name":"São Francisco","state":"MG","label":"São Francisco - MG"},{"code":"2806909","name":"São Francisco","state":"SE","label":"São Francisco - SE"},{"code":"2513984","name":"São Francisco","state":"PB","label":"São Francisco - PB"},{"code":"4318101","name":"São Francisco de Assis","state":"RS","label":"São Francisco de Assis - RS"},{"code":"2209658","name":"São Francisco de Assis do Piauí","state":"PI","label":"São Francisco de Assis do Piauí - PI"},{"code":"5219902","name":"São Francisco de Goiás","state":"GO","label":"São Francisco de Goiás - GO"},{"code":"3304755","name":"São Francisco de Itabapoana","state":"RJ","label":"São Francisco de Itabapoana - RJ"},{"code":"3161205","name":"São Francisco de Paula","state":"MG","label":"São Francisco de Paula - MG"},{"code":"4318200","name":"São Francisco de Paula","state":"RS","label":"São Francisco de Paula - RS"},{"code":"3161304","name":"São Francisco de Sales","state":"MG","label":"São Francisco de Sales - MG"},{"code":"2110856","name":"São Francisco do Brejão","state":"MA","label":"São Francisco do Brejão - MA"},{"code":"2929206","name":"São Francisco do Conde","state":"BA","label":"São Francisco do Conde - BA"},{"code":"3161403","name":"São Francisco do Glória","state":"MG","label":"São Francisco do Glória - MG"},{"code":"1101492","name":"São Francisco do Guaporé","state":"RO","label":"São Francisco do Guaporé - RO"},{"code":"2110906","name":"São Francisco do Maranhão","state":"MA","label":"São Francisco do Maranhão - MA"},{"code":"2411908","name":"São Francisco do Oeste","state":"RN","label":"São Francisco do Oeste - RN"},{"code":"1507409","name":"São Francisco do Pará","state":"PA","label":"São Francisco do Pará - PA"},{"code":"2209708","name":"São Francisco do Piauí","state":"PI","label":"São Francisco do Piauí - PI"},{"code":"4216206","name":"São Francisco do Sul","state":"SC","label":"São Francisco do Sul - SC"},{"code":"4318309","name":"São Gabriel","state":"RS","label":"São Gabriel - RS"},{"code":"2929255","name":"São Gabriel","state":"BA","label":"São Gabriel - BA"},{"code":"1303809","name":"São Gabriel da Cachoeira","state":"AM","label":"São Gabriel da Cachoeira - AM"},{"code":"3204708","name":"São Gabriel da Palha","state":"ES","label":"São Gabriel da Palha - ES"},{"code":"5007695","name":"São Gabriel do Oeste","state":"MS","label":"São Gabriel do Oeste - MS"},{"code":"3161502","name":"São Geraldo","state":"MG","label":"São Geraldo - MG"},{"code":"3161601","name":"São Geraldo da Piedade","state":"MG","label":"São Geraldo da Piedade - MG"},{"code":"1507458","name":"São Geraldo do Araguaia","state":"PA","label":"São Geraldo do Araguaia - PA"},{"code":"3161650","name":"São Geraldo do Baixio","state":"MG","label":"São Geraldo do Baixio - MG"},{"code":"3304904","name":"São Gonçalo","state":"RJ","label":"São Gonçalo - RJ"},{"code":"3161700","name":"São Gonçalo do Abaeté","state":"MG","label":"São Gonçalo do Abaeté - MG"},{"code":"2312403","name":"São Gonçalo do Amarante","state":"CE","label":"São Gonçalo do Amarante - CE"},{"code":"2412005","name":"São Gonçalo do Amarante","state":"RN","label":"São Gonçalo do Amarante - RN"},{"code":"2209757","name":"São Gonçalo do Gurguéia","state":"PI","label":"São Gonçalo do Gurguéia - PI"},{"code":"3161809","name":"São Gonçalo do Pará","state":"MG","label":"São Gonçalo do Pará - MG"},{"code":"2209807","name":"São Gonçalo do Piauí","state":"PI","label":"São Gonçalo do Piauí - PI"},{"code":"3161908","name":"São Gonçalo do Rio Abaixo","state":"MG","label":"São Gonçalo do Rio Abaixo - MG"},{"code":"3125507","name":"São Gonçalo do Rio Preto","state":"MG","label":"São Gonçalo do Rio Preto - MG"},{"code":"3162005","name":"São Gonçalo do Sapucaí","state":"MG","label":"São Gonçalo do Sapucaí - MG"},{"code":"2929305","name":"São Gonçalo dos Campos","state":"BA","label":"São Gonçalo dos Campos - BA"},{"code":"3162104","name":"São Gotardo","state":"MG","label":"São Gotardo - MG"},{"code":"4318408","name":"São Jerônimo","state":"RS","label":"São Jerônimo - RS"},{"code":"4124707","name":"São Jerônimo da Serra","state":"PR","label":"São Jerônimo da Serra - PR"},{"code":"4124806","name":"São João","state":"PR","label":"São João - PR"},{"code":"2613206","name":"São João","state":"PE","label":"São João - PE"},{"code":"2111003","name":"São João Batista","state":"MA","label":"São João Batista - MA"},{"code":"4216305","name":"São João Batista","state":"SC","label":"São João Batista - SC"},{"code":"3162203","name":"São João Batista do Glória","state":"MG","label":"São João Batista do Glória - MG"},{"code":"1400506","name":"São João da Baliza","state":"RR","label":"São João da Baliza - RR"},{"code":"3305000","name":"São João da Barra","state":"RJ","label":"São João da Barra - RJ"},{"code":"3549102","name":"São João da Boa Vista","state":"SP","label":"São João da Boa Vista - SP"},{"code":"2209856","name":"São João da Canabrava","state":"PI","label":"São João da Canabrava - PI"},{"code":"2209872","name":"São João da Fronteira","state":"PI","label":"São João da Fronteira - PI"},{"code":"3162252","name":"São João da Lagoa","state":"MG","label":"São João da Lagoa - MG"},{"code":"3162302","name":"São João da Mata","state":"MG","label":"São João da Mata - MG"},{"code":"5220058","name":"São João da Paraúna","state":"GO","label":"São João da Paraúna - GO"},{"code":"1507466","name":"São João da Ponta","state":"PA","label":"São João da Ponta - PA"},{"code":"3162401","name":"São João da Ponte","state":"MG","label":"São João da Ponte - MG"},{"code":"2209906","name":"São João da Serra","state":"PI","label":"São João da Serra - PI"},{"code":"4318424","name":"São João da Urtiga","state":"RS","label":"São João da Urtiga - RS"},{"code":"2209955","name":"São João da Varjota","state":"PI","label":"São João da Varjota - PI"},{"code":"5220009","name":"São João d\u0027Aliança","state":"GO","label":"São João d\u0027Aliança - GO"},{"code":"3549201","name":"São João das Duas Pontes","state":"SP","label":"São João das Duas Pontes - SP"},{"code":"3162450","name":"São João das Missões","state":"MG","label":"São João das Missões - MG"},{"code":"3549250","name":"São João de Iracema","state":"SP","label":"São João de Iracema - SP"},{"code":"3305109","name":"São João de Meriti","state":"RJ","label":"São João de Meriti - RJ"},{"code":"1507474","name":"São João de Pirabas","state":"PA","label":"São João de Pirabas - PA"},{"code":"3162500","name":"São João del Rei","state":"MG","label":"São João del Rei - MG"},{"code":"1507508","name":"São João do Araguaia","state":"PA","label":"São João do Araguaia - PA"},{"code":"2209971","name":"São João do Arraial","state":"PI","label":"São João do Arraial - PI"},{"code":"4124905","name":"São João do Caiuá","state":"PR","label":"São João do Caiuá - PR"},{"code":"2514008","name":"São João do Cariri","state":"PB","label":"São João do Cariri - PB"},{"code":"2111029","name":"São João do Carú","state":"MA","label":"São João do Carú - MA"},{"code":"4216354","name":"São João do Itaperiú","state":"SC","label":"São João do Itaperiú - SC"},{"code":"4125001","name":"São João do Ivaí","state":"PR","label":"São João do Ivaí - PR"},{"code":"2312502","name":"São João do Jaguaribe","state":"CE","label":"São João do Jaguaribe - CE"},{"code":"3162559","name":"São João do Manhuaçu","state":"MG","label":"São João do Manhuaçu - MG"},{"code":"3162575","name":"São João do Manteninha","state":"MG","label":"São João do Manteninha - MG"},{"code":"4216255","name":"São João do Oeste","state":"SC","label":"São João do Oeste - SC"},{"code":"3162609","name":"São João do Oriente","state":"MG","label":"São João do Oriente - MG"},{"code":"3162658","name":"São João do Pacuí","state":"MG","label":"São João do Pacuí - MG"},{"code":"3162708","name":"São João do Paraíso","state":"MG","label":"São João do Paraíso - MG"},{"code":"2111052","name":"São João do Paraíso","state":"MA","label":"São João do Paraíso - MA"},{"code":"3549300","name":"São João do Pau d\u0027Alho","state":"SP","label":"São João do Pau d\u0027Alho - SP"},{"code":"2210003","name":"São João do Piauí","state":"PI","label":"São João do Piauí - PI"},{"code":"4318432","name":"São João do Polêsine","state":"RS","label":"São João do Polêsine - RS"},{"code":"2500700","name":"São João do Rio do Peixe","state":"PB","label":"São João do Rio do Peixe - PB"},{"code":"2412104","name":"São João do Sabugi","state":"RN","label":"São João do Sabugi - RN"},{"code":"2111078","name":"São João do Soter","state":"MA","label":"São João do Soter - MA"},{"code":"4216404","name":"São João do Sul","state":"SC","label":"São João do Sul - SC"},{"code":"2514107","name":"São João do Tigre","state":"PB","label":"São João do Tigre - PB"},{"code":"4125100","name":"São João do Triunfo","state":"PR","label":"São João do Triunfo - PR"},{"code":"2111102","name":"São João dos Patos","state":"MA","label":"São João dos Patos - MA"},{"code":"3162807","name":"São João Evangelista","state":"MG","label":"São João Evangelista - MG"},{"code":"3162906","name":"São João Nepomuceno","state":"MG","label":"São João Nepomuceno - MG"},{"code":"4216503","name":"São Joaquim","state":"SC","label":"São Joaquim - SC"},{"code":"3549409","name":"São Joaquim da Barra","state":"SP","label":"São Joaquim da Barra - SP"},{"code":"3162922","name":"São Joaquim de Bicas","state":"MG","label":"São Joaquim de Bicas - MG"},{"code":"2613305","name":"São Joaquim do Monte","state":"PE","label":"São Joaquim do Monte - PE"},{"code":"4318440","name":"São Jorge","state":"RS","label":"São Jorge - RS"},{"code":"4125308","name":"São Jorge do Ivaí","state":"PR","label":"São Jorge do Ivaí - PR"},{"code":"4125357","name":"São Jorge do Patrocínio","state":"PR","label":"São Jorge do Patrocínio - PR"},{"code":"4125209","name":"São Jorge d\u0027Oeste","state":"PR","label":"São Jorge d\u0027Oeste - PR"},{"code":"4216602","name":"São José","state":"SC","label":"São José - SC"},{"code":"3162948","name":"São José da Barra","state":"MG","label":"São José da Barra - MG"},{"code":"3549508","name":"São José da Bela Vista","state":"SP","label":"São José da Bela Vista - SP"},{"code":"4125407","name":"São José da Boa Vista","state":"PR","label":"São José da Boa Vista - PR"},{"code":"2613404","name":"São José da Coroa Grande","state":"PE","label":"São José da Coroa Grande - PE"},{"code":"2514206","name":"São José da Lagoa Tapada","state":"PB","label":"São José da Lagoa Tapada - PB"},{"code":"2708303","name":"São José da Laje","state":"AL","label":"São José da Laje - AL"},{"code":"3162955","name":"São José da Lapa","state":"MG","label":"São José da Lapa - MG"},{"code":"3163003","name":"São José da Safira","state":"MG","label":"São José da Safira - MG"},{"code":"2708402","name":"São José da Tapera","state":"AL","label":"São José da Tapera - AL"},{"code":"3163102","name":"São José da Varginha","state":"MG","label":"São José da Varginha - MG"},{"code":"2929354","name":"São José da Vitória","state":"BA","label":"São José da Vitória - BA"},{"code":"4318457","name":"São José das Missões","state":"RS","label":"São José das Missões - RS"},{"code":"4125456","name":"São José das Palmeiras","state":"PR","label":"São José das Palmeiras - PR"},{"code":"2514305","name":"São José de Caiana","state":"PB","label":"São José de Caiana - PB"},{"code":"2514404","name":"São José de Espinharas","state":"PB","label":"São José de Espinharas - PB"},{"code":"2412203","name":"São José de Mipibu","state":"RN","label":"São José de Mipibu - RN"},{"code":"2514503","name":"São José de Piranhas","state":"PB","label":"São José de Piranhas - PB"},{"code":"2514552","name":"São José de Princesa","state":"PB","label":"São José de Princesa - PB"},{"code":"2111201","name":"São José de Ribamar","state":"MA","label":"São José de Ribamar - MA"},{"code":"3305133","name":"São José de Ubá","state":"RJ","label":"São José de Ubá - RJ"},{"code":"3163201","name":"São José do Alegre","state":"MG","label":"São José do Alegre - MG"},{"code":"3549607","name":"São José do Barreiro","state":"SP","label":"São José do Barreiro - SP"},{"code":"2613503","name":"São José do Belmonte","state":"PE","label":"São José do Belmonte - PE"},{"code":"2514602","name":"São José do Bonfim","state":"PB","label":"São José do Bonfim - PB"},{"code":"2514651","name":"São José do Brejo do Cruz","state":"PB","label":"São José do Brejo do Cruz - PB"},{"code":"3204807","name":"São José do Calçado","state":"ES","label":"São José do Calçado - ES"},{"code":"2412302","name":"São José do Campestre","state":"RN","label":"São José do Campestre - RN"},{"code":"4216701","name":"São José do Cedro","state":"SC","label":"São José do Cedro - SC"},{"code":"4216800","name":"São José do Cerrito","state":"SC","label":"São José do Cerrito - SC"},{"code":"3163300","name":"São José do Divino","state":"MG","label":"São José do Divino - MG"},{"code":"2210052","name":"São José do Divino","state":"PI","label":"São José do Divino - PI"},{"code":"2613602","name":"São José do Egito","state":"PE","label":"São José do Egito - PE"},{"code":"3163409","name":"São José do Goiabal","state":"MG","label":"São José do Goiabal - MG"},{"code":"4318465","name":"São José do Herval","state":"RS","label":"São José do Herval - RS"},{"code":"4318481","name":"São José do Hortêncio","state":"RS","label":"São José do Hortêncio - RS"},{"code":"4318499","name":"São José do Inhacorá","state":"RS","label":"São José do Inhacorá - RS"},{"code":"2929370","name":"São José do Jacuípe","state":"BA","label":"São José do Jacuípe - BA"},{"code":"3163508","name":"São José do Jacuri","state":"MG","label":"São José do Jacuri - MG"},{"code":"3163607","name":"São José do Mantimento","state":"MG","label":"São José do Mantimento - MG"},{"code":"4318507","name":"São José do Norte","state":"RS","label":"São José do Norte - RS"},{"code":"4318606","name":"São José do Ouro","state":"RS","label":"São José do Ouro - RS"},{"code":"2210102","name":"São José do Peixe","state":"PI","label":"São José do Peixe - PI"},{"code":"2210201","name":"São José do Piauí","state":"PI","label":"São José do Piauí - PI"},{"code":"5107297","name":"São José do Povo","state":"MT","label":"São José do Povo - MT"},{"code":"5107305","name":"São José do Rio Claro","state":"MT","label":"São José do Rio Claro - MT"},{"code":"3549706","name":"São José do Rio Pardo","state":"SP","label":"São José do Rio Pardo - SP"},{"code":"3549805","name":"São José do Rio Preto","state":"SP","label":"São José do Rio Preto - SP"},{"code":"2514701","name":"São José do Sabugi","state":"PB","label":"São José do Sabugi - PB"},{"code":"2412401","name":"São José do Seridó","state":"RN","label":"São José do Seridó - RN"},{"code":"4318614","name":"São José do Sul","state":"RS","label":"São José do Sul - RS"},{"code":"3305158","name":"São José do Vale do Rio Preto","state":"RJ","label":"São José do Vale do Rio Preto - RJ"},{"code":"5107354","name":"São José do Xingu","state":"MT","label":"São José do Xingu - MT"},{"code":"4318622","name":"São José dos Ausentes","state":"RS","label":"São José dos Ausentes - RS"},{"code":"2111250","name":"São José dos Basílios","state":"MA","label":"São José dos Basílios - MA"},{"code":"3549904","name":"São José dos Campos","state":"SP","label":"São José dos Campos - SP"},{"code":"2514800","name":"São José dos Cordeiros","state":"PB","label":"São José dos Cordeiros - PB"},{"code":"4125506","name":"São José dos Pinhais","state":"PR","label":"São José dos Pinhais - PR"},{"code":"5107107","name":"São José dos Quatro Marcos","state":"MT","label":"São José dos Quatro Marcos - MT"},{"code":"2514453","name":"São José dos Ramos","state":"PB","label":"São José dos Ramos - PB"},{"code":"2210300","name":"São Julião","state":"PI","label":"São Julião - PI"},{"code":"4318705","name":"São Leopoldo","state":"RS","label":"São Leopoldo - RS"},{"code":"3163706","name":"São Lourenço","state":"MG","label":"São Lourenço - MG"},{"code":"2613701","name":"São Lourenço da Mata","state":"PE","label":"São Lourenço da Mata - PE"},{"code":"3549953","name":"São Lourenço da Serra","state":"SP","label":"São Lourenço da Serra - SP"},{"code":"4216909","name":"São Lourenço do Oeste","state":"SC","label":"São Lourenço do Oeste - SC"},{"code":"2210359","name":"São Lourenço do Piauí","state":"PI","label":"São Lourenço do Piauí - PI"},{"code":"4318804","name":"São Lourenço do Sul","state":"RS","label":"São Lourenço do Sul - RS"},{"code":"4217006","name":"São Ludgero","state":"SC","label":"São Ludgero - SC"},{"code":"2111300","name":"São Luís","state":"MA","label":"São Luís - MA"},{"code":"5220108","name":"São Luís de Montes Belos","state":"GO","label":"São Luís de Montes Belos - GO"},{"code":"2312601","name":"São Luís do Curu","state":"CE","label":"São Luís do Curu - CE"},{"code":"2210375","name":"São Luis do Piauí","state":"PI","label":"São Luis do Piauí - PI"},{"code":"2708501","name":"São Luís do Quitunde","state":"AL","label":"São Luís do Quitunde - AL"},{"code":"2111409","name":"São Luís Gonzaga do Maranhão","state":"MA","label":"São Luís Gonzaga do Maranhão - MA"},{"code":"1400605","name":"São Luiz","state":"RR","label":"São Luiz - RR"},{"code":"5220157","name":"São Luiz do Norte","state":"GO","label":"São Luiz do Norte - GO"},{"code":"3550001","name":"São Luiz do Paraitinga","state":"SP","label":"São Luiz do Paraitinga - SP"},{"code":"4318903","name":"São Luiz Gonzaga","state":"RS","label":"São Luiz Gonzaga - RS"},{"code":"2514909","name":"São Mamede","state":"PB","label":"São Mamede - PB"},{"code":"4125555","name":"São Manoel do Paraná","state":"PR","label":"São Manoel do Paraná - PR"},{"code":"3550100","name":"São Manuel","state":"SP","label":"São Manuel - SP"},{"code":"4319000","name":"São Marcos","state":"RS","label":"São Marcos - RS"},{"code":"4319109","name":"São Martinho","state":"RS","label":"São Martinho - RS"},{"code":"4217105","name":"São Martinho","state":"SC","label":"São Martinho - SC"},{"code":"4319125","name":"São Martinho da Serra","state":"RS","label":"São Martinho da Serra - RS"},{"code":"3204906","name":"São Mateus","state":"ES","label":"São Mateus - ES"},{"code":"2111508","name":"São Mateus do Maranhão","state":"MA","label":"São Mateus do Maranhão - MA"},{"code":"4125605","name":"São Mateus do Sul","state":"PR","label":"São Mateus do Sul - PR"},{"code":"2412500","name":"São Miguel","state":"RN","label":"São Miguel - RN"},{"code":"3550209","name":"São Miguel Arcanjo","state":"SP","label":"São Miguel Arcanjo - SP"},{"code":"2210383","name":"São Miguel da Baixa Grande","state":"PI","label":"São Miguel da Baixa Grande - PI"},{"code":"4217154","name":"São Miguel da Boa Vista","state":"SC","label":"São Miguel da Boa Vista - SC"},{"code":"2929404","name":"São Miguel das Matas","state":"BA","label":"São Miguel das Matas - BA"},{"code":"4319158","name":"São Miguel das Missões","state":"RS","label":"São Miguel das Missões - RS"},{"code":"2515005","name":"São Miguel de Taipu","state":"PB","label":"São Miguel de Taipu - PB"},{"code":"2807006","name":"São Miguel do Aleixo","state":"SE","label":"São Miguel do Aleixo - SE"},{"code":"3163805","name":"São Miguel do Anta","state":"MG","label":"São Miguel do Anta - MG"},{"code":"5220207","name":"São Miguel do Araguaia","state":"GO","label":"São Miguel do Araguaia - GO"},{"code":"2210391","name":"São Miguel do Fidalgo","state":"PI","label":"São Miguel do Fidalgo - PI"},{"code":"2412559","name":"São Miguel do Gostoso","state":"RN","label":"São Miguel do Gostoso - RN"},{"code":"1507607","name":"São Miguel do Guamá","state":"PA","label":"São Miguel do Guamá - PA"},{"code":"1100320","name":"São Miguel do Guaporé","state":"RO","label":"São Miguel do Guaporé - RO"},{"code":"4125704","name":"São Miguel do Iguaçu","state":"PR","label":"São Miguel do Iguaçu - PR"},{"code":"4217204","name":"São Miguel do Oeste","state":"SC","label":"São Miguel do Oeste - SC"},{"code":"5220264","name":"São Miguel do Passa Quatro","state":"GO","label":"São Miguel do Passa Quatro - GO"},{"code":"2210409","name":"São Miguel do Tapuio","state":"PI","label":"São Miguel do Tapuio - PI"},{"code":"1720200","name":"São Miguel do Tocantins","state":"TO","label":"São Miguel do Tocantins - TO"},{"code":"2708600","name":"São Miguel dos Campos","state":"AL","label":"São Miguel dos Campos - AL"},{"code":"2708709","name":"São Miguel dos Milagres","state":"AL","label":"São Miguel dos Milagres - AL"},{"code":"4319208","name":"São Nicolau","state":"RS","label":"São Nicolau - RS"},{"code":"5220280","name":"São Patrício","state":"GO","label":"São Patrício - GO"},{"code":"3550308","name":"São Paulo","state":"SP","label":"São Paulo - SP"},{"code":"4319307","name":"São Paulo das Missões","state":"RS","label":"São Paulo das Missões - RS"},{"code":"1303908","name":"São Paulo de Olivença","state":"AM","label":"São Paulo de Olivença - AM"},{"code":"2412609","name":"São Paulo do Potengi","state":"RN","label":"São Paulo do Potengi - RN"},{"code":"2412708","name":"São Pedro","state":"RN","label":"São Pedro - RN"},{"code":"3550407","name":"São Pedro","state":"SP","label":"São Pedro - SP"},{"code":"2111532","name":"São Pedro da Água Branca","state":"MA","label":"São Pedro da Água Branca - MA"},{"code":"3305208","name":"São Pedro da Aldeia","state":"RJ","label":"São Pedro da Aldeia - RJ"},{"code":"5107404","name":"São Pedro da Cipa","state":"MT","label":"São Pedro da Cipa - MT"},{"code":"4319356","name":"São Pedro da Serra","state":"RS","label":"São Pedro da Serra - RS"},{"code":"3163904","name":"São Pedro da União","state":"MG","label":"São Pedro da União - MG"},{"code":"4319364","name":"São Pedro das Missões","state":"RS","label":"São Pedro das Missões - RS"},{"code":"4217253","name":"São Pedro de Alcântara","state":"SC","label":"São Pedro de Alcântara - SC"},{"code":"4319372","name":"São Pedro do Butiá","state":"RS","label":"São Pedro do Butiá - RS"},{"code":"4125753","name":"São Pedro do Iguaçu","state":"PR","label":"São Pedro do Iguaçu - PR"},{"code":"4125803","name":"São Pedro do Ivaí","state":"PR","label":"São Pedro do Ivaí - PR"},{"code":"4125902","name":"São Pedro do Paraná","state":"PR","label":"São Pedro do Paraná - PR"},{"code":"2210508","name":"São Pedro do Piauí","state":"PI","label":"São Pedro do Piauí - PI"},{"code":"3164100","name":"São Pedro do Suaçuí","state":"MG","label":"São Pedro do Suaçuí - MG"},{"code":"4319406","name":"São Pedro do Sul","state":"RS","label":"São Pedro do Sul - RS"},{"code":"3550506","name":"São Pedro do Turvo","state":"SP","label":"São Pedro do Turvo - SP"},{"code":"2111573","name":"São Pedro dos Crentes","state":"MA","label":"São Pedro dos Crentes - MA"},{"code":"3164001","name":"São Pedro dos Ferros","state":"MG","label":"São Pedro dos Ferros - MG"},{"code":"2412807","name":"São Rafael","state":"RN","label":"São Rafael - RN"},{"code":"2111607","name":"São Raimundo das Mangabeiras","state":"MA","label":"São Raimundo das Mangabeiras - MA"},{"code":"2111631","name":"São Raimundo do Doca Bezerra","state":"MA","label":"São Raimundo do Doca Bezerra - MA"},{"code":"2210607","name":"São Raimundo Nonato","state":"PI","label":"São Raimundo Nonato - PI"},{"code":"2111672","name":"São Roberto","state":"MA","label":"São Roberto - MA"},{"code":"3164209","name":"São Romão","state":"MG","label":"São Romão - MG"},{"code":"3550605","name":"São Roque","state":"SP","label":"São Roque - SP"},{"code":"3164308","name":"São Roque de Minas","state":"MG","label":"São Roque de Minas - MG"},{"code":"3204955","name":"São Roque do Canaã","state":"ES","label":"São Roque do Canaã - ES"},{"code":"1720259","name":"São Salvador do Tocantins","state":"TO","label":"São Salvador do Tocantins - TO"},{"code":"2708808","name":"São Sebastião","state":"AL","label":"São Sebastião - AL"},{"code":"3550704","name":"São Sebastião","state":"SP","label":"São Sebastião - SP"},{"code":"4126009","name":"São Sebastião da Amoreira","state":"PR","label":"São Sebastião da Amoreira - PR"},{"code":"3164407","name":"São Sebastião da Bela Vista","state":"MG","label":"São Sebastião da Bela Vista - MG"},{"code":"1507706","name":"São Sebastião da Boa Vista","state":"PA","label":"São Sebastião da Boa Vista - PA"},{"code":"3550803","name":"São Sebastião da Grama","state":"SP","label":"São Sebastião da Grama - SP"},{"code":"3164431","name":"São Sebastião da Vargem Alegre","state":"MG","label":"São Sebastião da Vargem Alegre - MG"},{"code":"2515104","name":"São Sebastião de Lagoa de Roça","state":"PB","label":"São Sebastião de Lagoa de Roça - PB"},{"code":"3305307","name":"São Sebastião do Alto","state":"RJ","label":"São Sebastião do Alto - RJ"},{"code":"3164472","name":"São Sebastião do Anta","state":"MG","label":"São Sebastião do Anta - MG"},{"code":"4319505","name":"São Sebastião do Caí","state":"RS","label":"São Sebastião do Caí - RS"},{"code":"3164506","name":"São Sebastião do Maranhão","state":"MG","label":"São Sebastião do Maranhão - MG"},{"code":"3164605","name":"São Sebastião do Oeste","state":"MG","label":"São Sebastião do Oeste - MG"},{"code":"3164704","name":"São Sebastião do Paraíso","state":"MG","label":"São Sebastião do Paraíso - MG"},{"code":"2929503","name":"São Sebastião do Passé","state":"BA","label":"São Sebastião do Passé - BA"},{"code":"3164803","name":"São Sebastião do Rio Preto","state":"MG","label":"São Sebastião do Rio Preto - MG"},{"code":"3164902","name":"São Sebastião do Rio Verde","state":"MG","label":"São Sebastião do Rio Verde - MG"},{"code":"1720309","name":"São Sebastião do Tocantins","state":"TO","label":"São Sebastião do Tocantins - TO"},{"code":"1303957","name":"São Sebastião do Uatumã","state":"AM","label":"São Sebastião do Uatumã - AM"},{"code":"2515203","name":"São Sebastião do Umbuzeiro","state":"PB","label":"São Sebastião do Umbuzeiro - PB"},{"code":"4319604","name":"São Sepé","state":"RS","label":"São Sepé - RS"},{"code":"5220405","name":"São Simão","state":"GO","label":"São Simão - GO"},{"code":"3550902","name":"São Simão","state":"SP","label":"São Simão - SP"},{"code":"3165008","name":"São Tiago","state":"MG","label":"São Tiago - MG"},{"code":"3165107","name":"São Tomás de Aquino","state":"MG","label":"São Tomás de Aquino - MG"},{"code":"4126108","name":"São Tomé","state":"PR","label":"São Tomé - PR"},{"code":"2412906","name":"São Tomé","state":"RN","label":"São Tomé - RN"},{"code":"3165206","name":"São Tomé das Letras","state":"MG","label":"São Tomé das Letras - MG"},{"code":"4319703","name":"São Valentim","state":"RS","label":"São Valentim - RS"},{"code":"4319711","name":"São Valentim do Sul","state":"RS","label":"São Valentim do Sul - RS"},{"code":"1720499","name":"São Valério","state":"TO","label":"São Valério - TO"},{"code":"4319737","name":"São Valério do Sul","state":"RS","label":"São Valério do Sul - RS"},{"code":"4319752","name":"São Vendelino","state":"RS","label":"São Vendelino - RS"},{"code":"3551009","name":"São Vicente","state":"SP","label":"São Vicente - SP"},{"code":"2413003","name":"São Vicente","state":"RN","label":"São Vicente - RN"},{"code":"3165305","name":"São Vicente de Minas","state":"MG","label":"São Vicente de Minas - MG"},{"code":"2515401","name":"São Vicente do Seridó","state":"PB","label":"São Vicente do Seridó - PB"},{"code":"4319802","name":"São Vicente do Sul","state":"RS","label":"São Vicente do Sul - RS"},{"code":"2111706","name":"São Vicente Ferrer","state":"MA","label":"São Vicente Ferrer - MA"},{"code":"2613800","name":"São Vicente Férrer","state":"PE","label":"São Vicente Férrer - PE"},{"code":"2515302","name":"Sapé","state":"PB","label":"Sapé - PB"},{"code":"2929602","name":"Sapeaçu","state":"BA","label":"Sapeaçu - BA"},{"code":"5107875","name":"Sapezal","state":"MT","label":"Sapezal - MT"},{"code":"4319901","name":"Sapiranga","state":"RS","label":"Sapiranga - RS"},{"code":"4126207","name":"Sapopema","state":"PR","label":"Sapopema - PR"},{"code":"3305406","name":"Sapucaia","state":"RJ","label":"Sapucaia - RJ"},{"code":"1507755","name":"Sapucaia","state":"PA","label":"Sapucaia - PA"},{"code":"4320008","name":"Sapucaia do Sul","state":"RS","label":"Sapucaia do Sul - RS"},{"code":"3165404","name":"Sapucaí-Mirim","state":"MG","label":"Sapucaí-Mirim - MG"},{"code":"3305505","name":"Saquarema","state":"RJ","label":"Saquarema - RJ"},{"code":"4320107","name":"Sarandi","state":"RS","label":"Sarandi - RS"},{"code":"4126256","name":"Sarandi","state":"PR","label":"Sarandi - PR"},{"code":"3551108","name":"Sarapuí","state":"SP","label":"Sarapuí - SP"},{"code":"3165503","name":"Sardoá","state":"MG","label":"Sardoá - MG"},{"code":"3551207","name":"Sarutaiá","state":"SP","label":"Sarutaiá - SP"},{"code":"3165537","name":"Sarzedo","state":"MG","label":"Sarzedo - MG"},{"code":"2929701","name":"Sátiro Dias","state":"BA","label":"Sátiro Dias - BA"},{"code":"2708907","name":"Satuba","state":"AL","label":"Satuba - AL"},{"code":"2111722","name":"Satubinha","state":"MA","label":"Satubinha - MA"},{"code":"2929750","name":"Saubara","state":"BA","label":"Saubara - BA"},{"code":"4126272","name":"Saudade do Iguaçu","state":"PR","label":"Saudade do Iguaçu - PR"},{"code":"4217303","name":"Saudades","state":"SC","label":"Saudades - SC"},{"code":"2929800","name":"Saúde","state":"BA","label":"Saúde - BA"},{"code":"4217402","name":"Schroeder","state":"SC","label":"Schroeder - SC"},{"code":"2929909","name":"Seabra","state":"BA","label":"Seabra - BA"},{"code":"4217501","name":"Seara","state":"SC","label":"Seara - SC"},{"code":"3551306","name":"Sebastianópolis do Sul","state":"SP","label":"Sebastianópolis do Sul - SP"},{"code":"2210623","name":"Sebastião Barros","state":"PI","label":"Sebastião Barros - PI"},{"code":"2930006","name":"Sebastião Laranjeiras","state":"BA","label":"Sebastião Laranjeiras - BA"},{"code":"2210631","name":"Sebastião Leal","state":"PI","label":"Sebastião Leal - PI"},{"code":"4320206","name":"Seberi","state":"RS","label":"Seberi - RS"},{"code":"4320230","name":"Sede Nova","state":"RS","label":"Sede Nova - RS"},{"code":"4320263","name":"Segredo","state":"RS","label":"Segredo - RS"},{"code":"4320305","name":"Selbach","state":"RS","label":"Selbach - RS"},{"code":"5007802","name":"Selvíria","state":"MS","label":"Selvíria - MS"},{"code":"3165560","name":"Sem-Peixe","state":"MG","label":"Sem-Peixe - MG"},{"code":"1200500","name":"Sena Madureira","state":"AC","label":"Sena Madureira - AC"},{"code":"2111748","name":"Senador Alexandre Costa","state":"MA","label":"Senador Alexandre Costa - MA"},{"code":"3165578","name":"Senador Amaral","state":"MG","label":"Senador Amaral - MG"},{"code":"5220454","name":"Senador Canedo","state":"GO","label":"Senador Canedo - GO"},{"code":"3165602","name":"Senador Cortes","state":"MG","label":"Senador Cortes - MG"},{"code":"2413102","name":"Senador Elói de Souza","state":"RN","label":"Senador Elói de Souza - RN"},{"code":"3165701","name":"Senador Firmino","state":"MG","label":"Senador Firmino - MG"},{"code":"2413201","name":"Senador Georgino Avelino","state":"RN","label":"Senador Georgino Avelino - RN"},{"code":"1200450","name":"Senador Guiomard","state":"AC","label":"Senador Guiomard - AC"},{"code":"3165800","name":"Senador José Bento","state":"MG","label":"Senador José Bento - MG"},{"code":"1507805","name":"Senador José Porfírio","state":"PA","label":"Senador José Porfírio - PA"},{"code":"2111763","name":"Senador La Rocque","state":"MA","label":"Senador La Rocque - MA"},{"code":"3165909","name":"Senador Modestino Gonçalves","state":"MG","label":"Senador Modestino Gonçalves - MG"},{"code":"2312700","name":"Senador Pompeu","state":"CE","label":"Senador Pompeu - CE"},{"code":"2708956","name":"Senador Rui Palmeira","state":"AL","label":"Senador Rui Palmeira - AL"},{"code":"2312809","name":"Senador Sá","state":"CE","label":"Senador Sá - CE"},{"code":"4320321","name":"Senador Salgado Filho","state":"RS","label":"Senador Salgado Filho - RS"},{"code":"4126306","name":"Sengés","state":"PR","label":"Sengés - PR"},{"code":"2930105","name":"Senhor do Bonfim","state":"BA","label":"Senhor do Bonfim - BA"},{"code":"3166006","name":"Senhora de Oliveira","state":"MG","label":"Senhora de Oliveira - MG"},{"code":"3166105","name":"Senhora do Porto","state":"MG","label":"Senhora do Porto - MG"},{"code":"3166204","name":"Senhora dos Remédios","state":"MG","label":"Senhora dos Remédios - MG"},{"code":"4320354","name":"Sentinela do Sul","state":"RS","label":"Sentinela do Sul - RS"},{"code":"2930204","name":"Sento Sé","state":"BA","label":"Sento Sé - BA"},{"code":"4320404","name":"Serafina Corrêa","state":"RS","label":"Serafina Corrêa - RS"},{"code":"3166303","name":"Sericita","state":"MG","label":"Sericita - MG"},{"code":"1101500","name":"Seringueiras","state":"RO","label":"Seringueiras - RO"},{"code":"4320453","name":"Sério","state":"RS","label":"Sério - RS"},{"code":"3166402","name":"Seritinga","state":"MG","label":"Seritinga - MG"},{"code":"3305554","name":"Seropédica","state":"RJ","label":"Seropédica - RJ"},{"code":"3205002","name":"Serra","state":"ES","label":"Serra - ES"},{"code":"4217550","name":"Serra Alta","state":"SC","label":"Serra Alta - SC"},{"code":"3551405","name":"Serra Azul","state":"SP","label":"Serra Azul - SP"},{"code":"3166501","name":"Serra Azul de Minas","state":"MG","label":"Serra Azul de Minas - MG"},{"code":"2515500","name":"Serra Branca","state":"PB","label":"Serra Branca - PB"},{"code":"2410306","name":"Serra Caiada","state":"RN","label":"Serra Caiada - RN"},{"code":"2515609","name":"Serra da Raiz","state":"PB","label":"Serra da Raiz - PB"},{"code":"3166600","name":"Serra da Saudade","state":"MG","label":"Serra da Saudade - MG"},{"code":"2413300","name":"Serra de São Bento","state":"RN","label":"Serra de São Bento - RN"},{"code":"2413359","name":"Serra do Mel","state":"RN","label":"Serra do Mel - RN"},{"code":"1600055","name":"Serra do Navio","state":"AP","label":"Serra do Navio - AP"},{"code":"2930154","name":"Serra do Ramalho","state":"BA","label":"Serra do Ramalho - BA"},{"code":"3166808","name":"Serra do Salitre","state":"MG","label":"Serra do Salitre - MG"},{"code":"3166709","name":"Serra dos Aimorés","state":"MG","label":"Serra dos Aimorés - MG"},{"code":"2930303","name":"Serra Dourada","state":"BA","label":"Serra Dourada - BA"},{"code":"2515708","name":"Serra Grande","state":"PB","label":"Serra Grande - PB"},{"code":"3551603","name":"Serra Negra","state":"SP","label":"Serra Negra - SP"},{"code":"2413409","name":"Serra Negra do Norte","state":"RN","label":"Serra Negra do Norte - RN"},{"code":"5107883","name":"Serra Nova Dourada","state":"MT","label":"Serra Nova Dourada - MT"},{"code":"2930402","name":"Serra Preta","state":"BA","label":"Serra Preta - BA"},{"code":"2515807","name":"Serra Redonda","state":"PB","label":"Serra Redonda - PB"},{"code":"2613909","name":"Serra Talhada","state":"PE","label":"Serra Talhada - PE"},{"code":"3551504","name":"Serrana","state":"SP","label":"Serrana - SP"},{"code":"3166907","name":"Serrania","state":"MG","label":"Serrania - MG"},{"code":"2111789","name":"Serrano do Maranhão","state":"MA","label":"Serrano do Maranhão - MA"},{"code":"5220504","name":"Serranópolis","state":"GO","label":"Serranópolis - GO"},{"code":"3166956","name":"Serranópolis de Minas","state":"MG","label":"Serranópolis de Minas - MG"},{"code":"4126355","name":"Serranópolis do Iguaçu","state":"PR","label":"Serranópolis do Iguaçu - PR"},{"code":"3167004","name":"Serranos","state":"MG","label":"Serranos - MG"},{"code":"2515906","name":"Serraria","state":"PB","label":"Serraria - PB"},{"code":"2930501","name":"Serrinha","state":"BA","label":"Serrinha - BA"},{"code":"2413508","name":"Serrinha","state":"RN","label":"Serrinha - RN"},{"code":"2413557","name":"Serrinha dos Pintos","state":"RN","label":"Serrinha dos Pintos - RN"},{"code":"2614006","name":"Serrita","state":"PE","label":"Serrita - PE"},{"code":"3167103","name":"Serro","state":"MG","label":"Serro - MG"},{"code":"2930600","name":"Serrolândia","state":"BA","label":"Serrolândia - BA"},{"code":"4126405","name":"Sertaneja","state":"PR","label":"Sertaneja - PR"},{"code":"2614105","name":"Sertânia","state":"PE","label":"Sertânia - PE"},{"code":"4126504","name":"Sertanópolis","state":"PR","label":"Sertanópolis - PR"},{"code":"4320503","name":"Sertão","state":"RS","label":"Sertão - RS"},{"code":"4320552","name":"Sertão Santana","state":"RS","label":"Sertão Santana - RS"},{"code":"3551702","name":"Sertãozinho","state":"SP","label":"Sertãozinho - SP"},{"code":"2515930","name":"Sertãozinho","state":"PB","label":"Sertãozinho - PB"},{"code":"3551801","name":"Sete Barras","state":"SP","label":"Sete Barras - SP"},{"code":"4320578","name":"Sete de Setembro","state":"RS","label":"Sete de Setembro - RS"},{"code":"3167202","name":"Sete Lagoas","state":"MG","label":"Sete Lagoas - MG"},{"code":"5007703","name":"Sete Quedas","state":"MS","label":"Sete Quedas - MS"},{"code":"3165552","name":"Setubinha","state":"MG","label":"Setubinha - MG"},{"code":"4320602","name":"Severiano de Almeida","state":"RS","label":"Severiano de Almeida - RS"},{"code":"2413607","name":"Severiano Melo","state":"RN","label":"Severiano Melo - RN"},{"code":"3551900","name":"Severínia","state":"SP","label":"Severínia - SP"},{"code":"4217600","name":"Siderópolis","state":"SC","label":"Siderópolis - SC"},{"code":"5007901","name":"Sidrolândia","state":"MS","label":"Sidrolândia - MS"},{"code":"2210656","name":"Sigefredo Pacheco","state":"PI","label":"Sigefredo Pacheco - PI"},{"code":"3305604","name":"Silva Jardim","state":"RJ","label":"Silva Jardim - RJ"},{"code":"5220603","name":"Silvânia","state":"GO","label":"Silvânia - GO"},{"code":"1720655","name":"Silvanópolis","state":"TO","label":"Silvanópolis - TO"},{"code":"4320651","name":"Silveira Martins","state":"RS","label":"Silveira Martins - RS"},{"code":"3167301","name":"Silveirânia","state":"MG","label":"Silveirânia - MG"},{"code":"3552007","name":"Silveiras","state":"SP","label":"Silveiras - SP"},{"code":"1304005","name":"Silves","state":"AM","label":"Silves - AM"},{"code":"3167400","name":"Silvianópolis","state":"MG","label":"Silvianópolis - MG"},{"code":"2807105","name":"Simão Dias","state":"SE","label":"Simão Dias - SE"},{"code":"3167509","name":"Simão Pereira","state":"MG","label":"Simão Pereira - MG"},{"code":"2210706","name":"Simões","state":"PI","label":"Simões - PI"},{"code":"2930709","name":"Simões Filho","state":"BA","label":"Simões Filho - BA"},{"code":"5220686","name":"Simolândia","state":"GO","label":"Simolândia - GO"},{"code":"3167608","name":"Simonésia","state":"MG","label":"Simonésia - MG"},{"code":"2210805","name":"Simplício Mendes","state":"PI","label":"Simplício Mendes - PI"},{"code":"4320677","name":"Sinimbu","state":"RS","label":"Sinimbu - RS"},{"code":"5107909","name":"Sinop","state":"MT","label":"Sinop - MT"},{"code":"4126603","name":"Siqueira Campos","state":"PR","label":"Siqueira Campos - PR"},{"code":"2614204","name":"Sirinhaém","state":"PE","label":"Sirinhaém - PE"},{"code":"2807204","name":"Siriri","state":"SE","label":"Siriri - SE"},{"code":"5220702","name":"Sítio d\u0027Abadia","state":"GO","label":"Sítio d\u0027Abadia - GO"},{"code":"2930758","name":"Sítio do Mato","state":"BA","label":"Sítio do Mato - BA"},{"code":"2930766","name":"Sítio do Quinto","state":"BA","label":"Sítio do Quinto - BA"},{"code":"2413706","name":"Sítio Novo","state":"RN","label":"Sítio Novo - RN"},{"code":"2111805","name":"Sítio Novo","state":"MA","label":"Sítio Novo - MA"},{"code":"1720804","name":"Sítio Novo do Tocantins","state":"TO","label":"Sítio Novo do Tocantins - TO"},{"code":"2930774","name":"Sobradinho","state":"BA","label":"Sobradinho - BA"},{"code":"4320701","name":"Sobradinho","state":"RS","label":"Sobradinho - RS"},{"code":"2515971","name":"Sobrado","state":"PB","label":"Sobrado - PB"},{"code":"2312908","name":"Sobral","state":"CE","label":"Sobral - CE"},{"code":"3167707","name":"Sobrália","state":"MG","label":"Sobrália - MG"},{"code":"3552106","name":"Socorro","state":"SP","label":"Socorro - SP"},{"code":"2210904","name":"Socorro do Piauí","state":"PI","label":"Socorro do Piauí - PI"},{"code":"2516003","name":"Solânea","state":"PB","label":"Solânea - PB"},{"code":"2516102","name":"Soledade","state":"PB","label":"Soledade - PB"},{"code":"4320800","name":"Soledade","state":"RS","label":"Soledade - RS"},{"code":"3167806","name":"Soledade de Minas","state":"MG","label":"Soledade de Minas - MG"},{"code":"2614402","name":"Solidão","state":"PE","label":"Solidão - PE"},{"code":"2313005","name":"Solonópole","state":"CE","label":"Solonópole - CE"},{"code":"4217709","name":"Sombrio","state":"SC","label":"Sombrio - SC"},{"code":"5007935","name":"Sonora","state":"MS","label":"Sonora - MS"},{"code":"3205010","name":"Sooretama","state":"ES","label":"Sooretama - ES"},{"code":"3552205","name":"Sorocaba","state":"SP","label":"Sorocaba - SP"},{"code":"5107925","name":"Sorriso","state":"MT","label":"Sorriso - MT"},{"code":"2516151","name":"Sossêgo","state":"PB","label":"Sossêgo - PB"},{"code":"1507904","name":"Soure","state":"PA","label":"Soure - PA"},{"code":"2516201","name":"Sousa","state":"PB","label":"Sousa - PB"},{"code":"2930808","name":"Souto Soares","state":"BA","label":"Souto Soares - BA"},{"code":"1720853","name":"Sucupira","state":"TO","label":"Sucupira - TO"},{"code":"2111904","name":"Sucupira do Norte","state":"MA","label":"Sucupira do Norte - MA"},{"code":"2111953","name":"Sucupira do Riachão","state":"MA","label":"Sucupira do Riachão - MA"},{"code":"3552304","name":"Sud Mennucci","state":"SP","label":"Sud Mennucci - SP"},{"code":"4217758","name":"Sul Brasil","state":"SC","label":"Sul Brasil - SC"},{"code":"4126652","name":"Sulina","state":"PR","label":"Sulina - PR"},{"code":"3552403","name":"Sumaré","state":"SP","label":"Sumaré - SP"},{"code":"2516300","name":"Sumé","state":"PB","label":"Sumé - PB"},{"code":"3305703","name":"Sumidouro","state":"RJ","label":"Sumidouro - RJ"},{"code":"2614501","name":"Surubim","state":"PE","label":"Surubim - PE"},{"code":"2210938","name":"Sussuapara","state":"PI","label":"Sussuapara - PI"},{"code":"3552551","name":"Suzanápolis","state":"SP","label":"Suzanápolis - SP"},{"code":"3552502","name":"Suzano","state":"SP","label":"Suzano - SP"},{"code":"4320859","name":"Tabaí","state":"RS","label":"Tabaí - RS"},{"code":"5107941","name":"Tabaporã","state":"MT","label":"Tabaporã - MT"},{"code":"3552601","name":"Tabapuã","state":"SP","label":"Tabapuã - SP"},{"code":"3552700","name":"Tabatinga","state":"SP","label":"Tabatinga - SP"},{"code":"1304062","name":"Tabatinga","state":"AM","label":"Tabatinga - AM"},{"code":"2614600","name":"Tabira","state":"PE","label":"Tabira - PE"},{"code":"3552809","name":"Taboão da Serra","state":"SP","label":"Taboão da Serra - SP"},{"code":"1708254","name":"Tabocão","state":"TO","label":"Tabocão - TO"},{"code":"2930907","name":"Tabocas do Brejo Velho","state":"BA","label":"Tabocas do Brejo Velho - BA"},{"code":"2413805","name":"Taboleiro Grande","state":"RN","label":"Taboleiro Grande - RN"},{"code":"3167905","name":"Tabuleiro","state":"MG","label":"Tabuleiro - MG"},{"code":"2313104","name":"Tabuleiro do Norte","state":"CE","label":"Tabuleiro do Norte - CE"},{"code":"2614709","name":"Tacaimbó","state":"PE","label":"Tacaimbó - PE"},{"code":"2614808","name":"Tacaratu","state":"PE","label":"Tacaratu - PE"},{"code":"3552908","name":"Taciba","state":"SP","label":"Taciba - SP"},{"code":"2516409","name":"Tacima","state":"PB","label":"Tacima - PB"},{"code":"5007950","name":"Tacuru","state":"MS","label":"Tacuru - MS"},{"code":"3553005","name":"Taguaí","state":"SP","label":"Taguaí - SP"},{"code":"1720903","name":"Taguatinga","state":"TO","label":"Taguatinga - TO"},{"code":"3553104","name":"Taiaçu","state":"SP","label":"Taiaçu - SP"},{"code":"1507953","name":"Tailândia","state":"PA","label":"Tailândia - PA"},{"code":"4217808","name":"Taió","state":"SC","label":"Taió - SC"},{"code":"3168002","name":"Taiobeiras","state":"MG","label":"Taiobeiras - MG"},{"code":"1720937","name":"Taipas do Tocantins","state":"TO","label":"Taipas do Tocantins - TO"},{"code":"2413904","name":"Taipu","state":"RN","label":"Taipu - RN"},{"code":"3553203","name":"Taiúva","state":"SP","label":"Taiúva - SP"},{"code":"1720978","name":"Talismã","state":"TO","label":"Talismã - TO"},{"code":"2614857","name":"Tamandaré","state":"PE","label":"Tamandaré - PE"},{"code":"4126678","name":"Tamarana","state":"PR","label":"Tamarana - PR"},{"code":"3553302","name":"Tambaú","state":"SP","label":"Tambaú - SP"},{"code":"4126702","name":"Tamboara","state":"PR","label":"Tamboara - PR"},{"code":"2313203","name":"Tamboril","state":"CE","label":"Tamboril - CE"},{"code":"2210953","name":"Tamboril do Piauí","state":"PI","label":"Tamboril do Piauí - PI"},{"code":"3553401","name":"Tanabi","state":"SP","label":"Tanabi - SP"},{"code":"4217907","name":"Tangará","state":"SC","label":"Tangará - SC"},{"code":"2414001","name":"Tangará","state":"RN","label":"Tangará - RN"},{"code":"5107958","name":"Tangará da Serra","state":"MT","label":"Tangará da Serra - MT"},{"code":"3305752","name":"Tanguá","state":"RJ","label":"Tanguá - RJ"},{"code":"2931004","name":"Tanhaçu","state":"BA","label":"Tanhaçu - BA"},{"code":"2709004","name":"Tanque d\u0027Arca","state":"AL","label":"Tanque d\u0027Arca - AL"},{"code":"2210979","name":"Tanque do Piauí","state":"PI","label":"Tanque do Piauí - PI"},{"code":"2931053","name":"Tanque Novo","state":"BA","label":"Tanque Novo - BA"},{"code":"2931103","name":"Tanquinho","state":"BA","label":"Tanquinho - BA"},{"code":"3168051","name":"Taparuba","state":"MG","label":"Taparuba - MG"},{"code":"1304104","name":"Tapauá","state":"AM","label":"Tapauá - AM"},{"code":"4320909","name":"Tapejara","state":"RS","label":"Tapejara - RS"},{"code":"4126801","name":"Tapejara","state":"PR","label":"Tapejara - PR"},{"code":"4321006","name":"Tapera","state":"RS","label":"Tapera - RS"},{"code":"2931202","name":"Taperoá","state":"BA","label":"Taperoá - BA"},{"code":"2516508","name":"Taperoá","state":"PB","label":"Taperoá - PB"},{"code":"4321105","name":"Tapes","state":"RS","label":"Tapes - RS"},{"code":"4126900","name":"Tapira","state":"PR","label":"Tapira - PR"},{"code":"3168101","name":"Tapira","state":"MG","label":"Tapira - MG"},{"code":"3168200","name":"Tapiraí","state":"MG","label":"Tapiraí - MG"},{"code":"3553500","name":"Tapiraí","state":"SP","label":"Tapiraí - SP"},{"code":"2931301","name":"Tapiramutá","state":"BA","label":"Tapiramutá - BA"},{"code":"3553609","name":"Tapiratiba","state":"SP","label":"Tapiratiba - SP"},{"code":"5108006","name":"Tapurah","state":"MT","label":"Tapurah - MT"},{"code":"4321204","name":"Taquara","state":"RS","label":"Taquara - RS"},{"code":"3168309","name":"Taquaraçu de Minas","state":"MG","label":"Taquaraçu de Minas - MG"},{"code":"3553658","name":"Taquaral","state":"SP","label":"Taquaral - SP"},{"code":"5221007","name":"Taquaral de Goiás","state":"GO","label":"Taquaral de Goiás - GO"},{"code":"2709103","name":"Taquarana","state":"AL","label":"Taquarana - AL"},{"code":"4321303","name":"Taquari","state":"RS","label":"Taquari - RS"},{"code":"3553708","name":"Taquaritinga","state":"SP","label":"Taquaritinga - SP"},{"code":"2615003","name":"Taquaritinga do Norte","state":"PE","label":"Taquaritinga do Norte - PE"},{"code":"3553807","name":"Taquarituba","state":"SP","label":"Taquarituba - SP"},{"code":"3553856","name":"Taquarivaí","state":"SP","label":"Taquarivaí - SP"},{"code":"4321329","name":"Taquaruçu do Sul","state":"RS","label":"Taquaruçu do Sul - RS"},{"code":"5007976","name":"Taquarussu","state":"MS","label":"Taquarussu - MS"},{"code":"3553906","name":"Tarabai","state":"SP","label":"Tarabai - SP"},{"code":"1200609","name":"Tarauacá","state":"AC","label":"Tarauacá - AC"},{"code":"2313252","name":"Tarrafas","state":"CE","label":"Tarrafas - CE"},{"code":"1600709","name":"Tartarugalzinho","state":"AP","label":"Tartarugalzinho - AP"},{"code":"3553955","name":"Tarumã","state":"SP","label":"Tarumã - SP"},{"code":"3168408","name":"Tarumirim","state":"MG","label":"Tarumirim - MG"},{"code":"2112001","name":"Tasso Fragoso","state":"MA","label":"Tasso Fragoso - MA"},{"code":"3554003","name":"Tatuí","state":"SP","label":"Tatuí - SP"},{"code":"2313302","name":"Tauá","state":"CE","label":"Tauá - CE"},{"code":"3554102","name":"Taubaté","state":"SP","label":"Taubaté - SP"},{"code":"4321352","name":"Tavares","state":"RS","label":"Tavares - RS"},{"code":"2516607","name":"Tavares","state":"PB","label":"Tavares - PB"},{"code":"1304203","name":"Tefé","state":"AM","label":"Tefé - AM"},{"code":"2516706","name":"Teixeira","state":"PB","label":"Teixeira - PB"},{"code":"2931350","name":"Teixeira de Freitas","state":"BA","label":"Teixeira de Freitas - BA"},{"code":"4127007","name":"Teixeira Soares","state":"PR","label":"Teixeira Soares - PR"},{"code":"3168507","name":"Teixeiras","state":"MG","label":"Teixeiras - MG"},{"code":"1101559","name":"Teixeirópolis","state":"RO","label":"Teixeirópolis - RO"},{"code":"2313351","name":"Tejuçuoca","state":"CE","label":"Tejuçuoca - CE"},{"code":"3554201","name":"Tejupá","state":"SP","label":"Tejupá - SP"},{"code":"4127106","name":"Telêmaco Borba","state":"PR","label":"Telêmaco Borba - PR"},{"code":"2807303","name":"Telha","state":"SE","label":"Telha - SE"},{"code":"2414100","name":"Tenente Ananias","state":"RN","label":"Tenente Ananias - RN"},{"code":"2414159","name":"Tenente Laurentino Cruz","state":"RN","label":"Tenente Laurentino Cruz - RN"},{"code":"4321402","name":"Tenente Portela","state":"RS","label":"Tenente Portela - RS"},{"code":"2516755","name":"Tenório","state":"PB","label":"Tenório - PB"},{"code":"2931400","name":"Teodoro Sampaio","state":"BA","label":"Teodoro Sampaio - BA"},{"code":"3554300","name":"Teodoro Sampaio","state":"SP","label":"Teodoro Sampaio - SP"},{"code":"2931509","name":"Teofilândia","state":"BA","label":"Teofilândia - BA"},{"code":"3168606","name":"Teófilo Otoni","state":"MG","label":"Teófilo Otoni - MG"},{"code":"2931608","name":"Teolândia","state":"BA","label":"Teolândia - BA"},{"code":"2709152","name":"Teotônio Vilela","state":"AL","label":"Teotônio Vilela - AL"},{"code":"5008008","name":"Terenos","state":"MS","label":"Terenos - MS"},{"code":"2211001","name":"Teresina","state":"PI","label":"Teresina - PI"},{"code":"5221080","name":"Teresina de Goiás","state":"GO","label":"Teresina de Goiás - GO"},{"code":"3305802","name":"Teresópolis","state":"RJ","label":"Teresópolis - RJ"},{"code":"2615102","name":"Terezinha","state":"PE","label":"Terezinha - PE"},{"code":"5221197","name":"Terezópolis de Goiás","state":"GO","label":"Terezópolis de Goiás - GO"},{"code":"1507961","name":"Terra Alta","state":"PA","label":"Terra Alta - PA"},{"code":"4127205","name":"Terra Boa","state":"PR","label":"Terra Boa - PR"},{"code":"4321436","name":"Terra de Areia","state":"RS","label":"Terra de Areia - RS"},{"code":"2615201","name":"Terra Nova","state":"PE","label":"Terra Nova - PE"},{"code":"2931707","name":"Terra Nova","state":"BA","label":"Terra Nova - BA"},{"code":"5108055","name":"Terra Nova do Norte","state":"MT","label":"Terra Nova do Norte - MT"},{"code":"4127304","name":"Terra Rica","state":"PR","label":"Terra Rica - PR"},{"code":"4127403","name":"Terra Roxa","state":"PR","label":"Terra Roxa - PR"},{"code":"3554409","name":"Terra Roxa","state":"SP","label":"Terra Roxa - SP"},{"code":"1507979","name":"Terra Santa","state":"PA","label":"Terra Santa - PA"},{"code":"5108105","name":"Tesouro","state":"MT","label":"Tesouro - MT"},{"code":"4321451","name":"Teutônia","state":"RS","label":"Teutônia - RS"},{"code":"1101609","name":"Theobroma","state":"RO","label":"Theobroma - RO"},{"code":"2313401","name":"Tianguá","state":"CE","label":"Tianguá - CE"},{"code":"4127502","name":"Tibagi","state":"PR","label":"Tibagi - PR"},{"code":"2411056","name":"Tibau","state":"RN","label":"Tibau - RN"},{"code":"2414209","name":"Tibau do Sul","state":"RN","label":"Tibau do Sul - RN"},{"code":"3554508","name":"Tietê","state":"SP","label":"Tietê - SP"},{"code":"4217956","name":"Tigrinhos","state":"SC","label":"Tigrinhos - SC"},{"code":"4218004","name":"Tijucas","state":"SC","label":"Tijucas - SC"},{"code":"4127601","name":"Tijucas do Sul","state":"PR","label":"Tijucas do Sul - PR"},{"code":"2615300","name":"Timbaúba","state":"PE","label":"Timbaúba - PE"},{"code":"2414308","name":"Timbaúba dos Batistas","state":"RN","label":"Timbaúba dos Batistas - RN"},{"code":"4218103","name":"Timbé do Sul","state":"SC","label":"Timbé do Sul - SC"},{"code":"2112100","name":"Timbiras","state":"MA","label":"Timbiras - MA"},{"code":"4218202","name":"Timbó","state":"SC","label":"Timbó - SC"},{"code":"4218251","name":"Timbó Grande","state":"SC","label":"Timbó Grande - SC"},{"code":"3554607","name":"Timburi","state":"SP","label":"Timburi - SP"},{"code":"2112209","name":"Timon","state":"MA","label":"Timon - MA"},{"code":"3168705","name":"Timóteo","state":"MG","label":"Timóteo - MG"},{"code":"4321469","name":"Tio Hugo","state":"RS","label":"Tio Hugo - RS"},{"code":"3168804","name":"Tiradentes","state":"MG","label":"Tiradentes - MG"},{"code":"4321477","name":"Tiradentes do Sul","state":"RS","label":"Tiradentes do Sul - RS"},{"code":"3168903","name":"Tiros","state":"MG","label":"Tiros - MG"},{"code":"2807402","name":"Tobias Barreto","state":"SE","label":"Tobias Barreto - SE"},{"code":"1721109","name":"Tocantínia","state":"TO","label":"Tocantínia - TO"},{"code":"1721208","name":"Tocantinópolis","state":"TO","label":"Tocantinópolis - TO"},{"code":"3169000","name":"Tocantins","state":"MG","label":"Tocantins - MG"},{"code":"3169059","name":"Tocos do Moji","state":"MG","label":"Tocos do Moji - MG"},{"code":"3169109","name":"Toledo","state":"MG","label":"Toledo - MG"},{"code":"4127700","name":"Toledo","state":"PR","label":"Toledo - PR"},{"code":"2807501","name":"Tomar do Geru","state":"SE","label":"Tomar do Geru - SE"},{"code":"4127809","name":"Tomazina","state":"PR","label":"Tomazina - PR"},{"code":"3169208","name":"Tombos","state":"MG","label":"Tombos - MG"},{"code":"1508001","name":"Tomé-Açu","state":"PA","label":"Tomé-Açu - PA"},{"code":"1304237","name":"Tonantins","state":"AM","label":"Tonantins - AM"},{"code":"2615409","name":"Toritama","state":"PE","label":"Toritama - PE"},{"code":"5108204","name":"Torixoréu","state":"MT","label":"Torixoréu - MT"},{"code":"4321493","name":"Toropi","state":"RS","label":"Toropi - RS"},{"code":"3554656","name":"Torre de Pedra","state":"SP","label":"Torre de Pedra - SP"},{"code":"4321501","name":"Torres","state":"RS","label":"Torres - RS"},{"code":"3554706","name":"Torrinha","state":"SP","label":"Torrinha - SP"},{"code":"2414407","name":"Touros","state":"RN","label":"Touros - RN"},{"code":"3554755","name":"Trabiju","state":"SP","label":"Trabiju - SP"},{"code":"1508035","name":"Tracuateua","state":"PA","label":"Tracuateua - PA"},{"code":"2615508","name":"Tracunhaém","state":"PE","label":"Tracunhaém - PE"},{"code":"2709202","name":"Traipu","state":"AL","label":"Traipu - AL"},{"code":"1508050","name":"Trairão","state":"PA","label":"Trairão - PA"},{"code":"2313500","name":"Trairi","state":"CE","label":"Trairi - CE"},{"code":"3305901","name":"Trajano de Moraes","state":"RJ","label":"Trajano de Moraes - RJ"},{"code":"4321600","name":"Tramandaí","state":"RS","label":"Tramandaí - RS"},{"code":"4321626","name":"Travesseiro","state":"RS","label":"Travesseiro - RS"},{"code":"2931806","name":"Tremedal","state":"BA","label":"Tremedal - BA"},{"code":"3554805","name":"Tremembé","state":"SP","label":"Tremembé - SP"},{"code":"4321634","name":"Três Arroios","state":"RS","label":"Três Arroios - RS"},{"code":"4218301","name":"Três Barras","state":"SC","label":"Três Barras - SC"},{"code":"4127858","name":"Três Barras do Paraná","state":"PR","label":"Três Barras do Paraná - PR"},{"code":"4321667","name":"Três Cachoeiras","state":"RS","label":"Três Cachoeiras - RS"},{"code":"3169307","name":"Três Corações","state":"MG","label":"Três Corações - MG"},{"code":"4321709","name":"Três Coroas","state":"RS","label":"Três Coroas - RS"},{"code":"4321808","name":"Três de Maio","state":"RS","label":"Três de Maio - RS"},{"code":"4321832","name":"Três Forquilhas","state":"RS","label":"Três Forquilhas - RS"},{"code":"3554904","name":"Três Fronteiras","state":"SP","label":"Três Fronteiras - SP"},{"code":"5008305","name":"Três Lagoas","state":"MS","label":"Três Lagoas - MS"},{"code":"3169356","name":"Três Marias","state":"MG","label":"Três Marias - MG"},{"code":"4321857","name":"Três Palmeiras","state":"RS","label":"Três Palmeiras - RS"},{"code":"4321907","name":"Três Passos","state":"RS","label":"Três Passos - RS"},{"code":"3169406","name":"Três Pontas","state":"MG","label":"Três Pontas - MG"},{"code":"5221304","name":"Três Ranchos","state":"GO","label":"Três Ranchos - GO"},{"code":"3306008","name":"Três Rios","state":"RJ","label":"Três Rios - RJ"},{"code":"4218350","name":"Treviso","state":"SC","label":"Treviso - SC"},{"code":"4218400","name":"Treze de Maio","state":"SC","label":"Treze de Maio - SC"},{"code":"4218509","name":"Treze Tílias","state":"SC","label":"Treze Tílias - SC"},{"code":"5221403","name":"Trindade","state":"GO","label":"Trindade - GO"},{"code":"2615607","name":"Trindade","state":"PE","label":"Trindade - PE"},{"code":"4321956","name":"Trindade do Sul","state":"RS","label":"Trindade do Sul - RS"},{"code":"4322004","name":"Triunfo","state":"RS","label":"Triunfo - RS"},{"code":"2615706","name":"Triunfo","state":"PE","label":"Triunfo - PE"},{"code":"2516805","name":"Triunfo","state":"PB","label":"Triunfo - PB"},{"code":"2414456","name":"Triunfo Potiguar","state":"RN","label":"Triunfo Potiguar - RN"},{"code":"2112233","name":"Trizidela do Vale","state":"MA","label":"Trizidela do Vale - MA"},{"code":"5221452","name":"Trombas","state":"GO","label":"Trombas - GO"},{"code":"4218608","name":"Trombudo Central","state":"SC","label":"Trombudo Central - SC"},{"code":"4218707","name":"Tubarão","state":"SC","label":"Tubarão - SC"},{"code":"2931905","name":"Tucano","state":"BA","label":"Tucano - BA"},{"code":"1508084","name":"Tucumã","state":"PA","label":"Tucumã - PA"},{"code":"4322103","name":"Tucunduva","state":"RS","label":"Tucunduva - RS"},{"code":"1508100","name":"Tucuruí","state":"PA","label":"Tucuruí - PA"},{"code":"2112274","name":"Tufilândia","state":"MA","label":"Tufilândia - MA"},{"code":"3554953","name":"Tuiuti","state":"SP","label":"Tuiuti - SP"},{"code":"3169505","name":"Tumiritinga","state":"MG","label":"Tumiritinga - MG"},{"code":"4218756","name":"Tunápolis","state":"SC","label":"Tunápolis - SC"},{"code":"4322152","name":"Tunas","state":"RS","label":"Tunas - RS"},{"code":"4127882","name":"Tunas do Paraná","state":"PR","label":"Tunas do Paraná - PR"},{"code":"4127908","name":"Tuneiras do Oeste","state":"PR","label":"Tuneiras do Oeste - PR"},{"code":"2112308","name":"Tuntum","state":"MA","label":"Tuntum - MA"},{"code":"3555000","name":"Tupã","state":"SP","label":"Tupã - SP"},{"code":"3169604","name":"Tupaciguara","state":"MG","label":"Tupaciguara - MG"},{"code":"2615805","name":"Tupanatinga","state":"PE","label":"Tupanatinga - PE"},{"code":"4322186","name":"Tupanci do Sul","state":"RS","label":"Tupanci do Sul - RS"},{"code":"4322202","name":"Tupanciretã","state":"RS","label":"Tupanciretã - RS"},{"code":"4322251","name":"Tupandi","state":"RS","label":"Tupandi - RS"},{"code":"4322301","name":"Tuparendi","state":"RS","label":"Tuparendi - RS"},{"code":"2615904","name":"Tuparetama","state":"PE","label":"Tuparetama - PE"},{"code":"4127957","name":"Tupãssi","state":"PR","label":"Tupãssi - PR"},{"code":"3555109","name":"Tupi Paulista","state":"SP","label":"Tupi Paulista - SP"},{"code":"1721257","name":"Tupirama","state":"TO","label":"Tupirama - TO"},{"code":"1721307","name":"Tupiratins","state":"TO","label":"Tupiratins - TO"},{"code":"2112407","name":"Turiaçu","state":"MA","label":"Turiaçu - MA"},{"code":"2112456","name":"Turilândia","state":"MA","label":"Turilândia - MA"},{"code":"3555208","name":"Turiúba","state":"SP","label":"Turiúba - SP"},{"code":"3555307","name":"Turmalina","state":"SP","label":"Turmalina - SP"},{"code":"3169703","name":"Turmalina","state":"MG","label":"Turmalina - MG"},{"code":"4322327","name":"Turuçu","state":"RS","label":"Turuçu - RS"},{"code":"2313559","name":"Tururu","state":"CE","label":"Tururu - CE"},{"code":"5221502","name":"Turvânia","state":"GO","label":"Turvânia - GO"},{"code":"5221551","name":"Turvelândia","state":"GO","label":"Turvelândia - GO"},{"code":"4127965","name":"Turvo","state":"PR","label":"Turvo - PR"},{"code":"4218806","name":"Turvo","state":"SC","label":"Turvo - SC"},{"code":"3169802","name":"Turvolândia","state":"MG","label":"Turvolândia - MG"},{"code":"2112506","name":"Tutóia","state":"MA","label":"Tutóia - MA"},{"code":"1304260","name":"Uarini","state":"AM","label":"Uarini - AM"},{"code":"2932002","name":"Uauá","state":"BA","label":"Uauá - BA"},{"code":"3169901","name":"Ubá","state":"MG","label":"Ubá - MG"},{"code":"3170008","name":"Ubaí","state":"MG","label":"Ubaí - MG"},{"code":"2932101","name":"Ubaíra","state":"BA","label":"Ubaíra - BA"},{"code":"2932200","name":"Ubaitaba","state":"BA","label":"Ubaitaba - BA"},{"code":"2313609","name":"Ubajara","state":"CE","label":"Ubajara - CE"},{"code":"3170057","name":"Ubaporanga","state":"MG","label":"Ubaporanga - MG"},{"code":"3555356","name":"Ubarana","state":"SP","label":"Ubarana - SP"},{"code":"2932309","name":"Ubatã","state":"BA","label":"Ubatã - BA"},{"code":"3555406","name":"Ubatuba","state":"SP","label":"Ubatuba - SP"},{"code":"3170107","name":"Uberaba","state":"MG","label":"Uberaba - MG"},{"code":"3170206","name":"Uberlândia","state":"MG","label":"Uberlândia - MG"},{"code":"3555505","name":"Ubirajara","state":"SP","label":"Ubirajara - SP"},{"code":"4128005","name":"Ubiratã","state":"PR","label":"Ubiratã - PR"},{"code":"4322343","name":"Ubiretama","state":"RS","label":"Ubiretama - RS"},{"code":"3555604","name":"Uchoa","state":"SP","label":"Uchoa - SP"},{"code":"2932408","name":"Uibaí","state":"BA","label":"Uibaí - BA"},{"code":"1400704","name":"Uiramutã","state":"RR","label":"Uiramutã - RR"},{"code":"5221577","name":"Uirapuru","state":"GO","label":"Uirapuru - GO"},{"code":"2516904","name":"Uiraúna","state":"PB","label":"Uiraúna - PB"},{"code":"1508126","name":"Ulianópolis","state":"PA","label":"Ulianópolis - PA"},{"code":"2313708","name":"Umari","state":"CE","label":"Umari - CE"},{"code":"2414506","name":"Umarizal","state":"RN","label":"Umarizal - RN"},{"code":"2807600","name":"Umbaúba","state":"SE","label":"Umbaúba - SE"},{"code":"2932457","name":"Umburanas","state":"BA","label":"Umburanas - BA"},{"code":"3170305","name":"Umburatiba","state":"MG","label":"Umburatiba - MG"},{"code":"2517001","name":"Umbuzeiro","state":"PB","label":"Umbuzeiro - PB"},{"code":"2313757","name":"Umirim","state":"CE","label":"Umirim - CE"},{"code":"4128104","name":"Umuarama","state":"PR","label":"Umuarama - PR"},{"code":"2932507","name":"Una","state":"BA","label":"Una - BA"},{"code":"3170404","name":"Unaí","state":"MG","label":"Unaí - MG"},{"code":"2211100","name":"União","state":"PI","label":"União - PI"},{"code":"4322350","name":"União da Serra","state":"RS","label":"União da Serra - RS"},{"code":"4128203","name":"União da Vitória","state":"PR","label":"União da Vitória - PR"},{"code":"3170438","name":"União de Minas","state":"MG","label":"União de Minas - MG"},{"code":"4218855","name":"União do Oeste","state":"SC","label":"União do Oeste - SC"},{"code":"5108303","name":"União do Sul","state":"MT","label":"União do Sul - MT"},{"code":"2709301","name":"União dos Palmares","state":"AL","label":"União dos Palmares - AL"},{"code":"3555703","name":"União Paulista","state":"SP","label":"União Paulista - SP"},{"code":"4128302","name":"Uniflor","state":"PR","label":"Uniflor - PR"},{"code":"4322376","name":"Unistalda","state":"RS","label":"Unistalda - RS"},{"code":"2414605","name":"Upanema","state":"RN","label":"Upanema - RN"},{"code":"4128401","name":"Uraí","state":"PR","label":"Uraí - PR"},{"code":"2932606","name":"Urandi","state":"BA","label":"Urandi - BA"},{"code":"3555802","name":"Urânia","state":"SP","label":"Urânia - SP"},{"code":"2112605","name":"Urbano Santos","state":"MA","label":"Urbano Santos - MA"},{"code":"3555901","name":"Uru","state":"SP","label":"Uru - SP"},{"code":"5221601","name":"Uruaçu","state":"GO","label":"Uruaçu - GO"},{"code":"5221700","name":"Uruana","state":"GO","label":"Uruana - GO"},{"code":"3170479","name":"Uruana de Minas","state":"MG","label":"Uruana de Minas - MG"},{"code":"1508159","name":"Uruará","state":"PA","label":"Uruará - PA"},{"code":"4218905","name":"Urubici","state":"SC","label":"Urubici - SC"},{"code":"2313807","name":"Uruburetama","state":"CE","label":"Uruburetama - CE"},{"code":"3170503","name":"Urucânia","state":"MG","label":"Urucânia - MG"},{"code":"1304302","name":"Urucará","state":"AM","label":"Urucará - AM"},{"code":"2932705","name":"Uruçuca","state":"BA","label":"Uruçuca - BA"},{"code":"2211209","name":"Uruçuí","state":"PI","label":"Uruçuí - PI"},{"code":"3170529","name":"Urucuia","state":"MG","label":"Urucuia - MG"},{"code":"1304401","name":"Urucurituba","state":"AM","label":"Urucurituba - AM"},{"code":"4322400","name":"Uruguaiana","state":"RS","label":"Uruguaiana - RS"},{"code":"2313906","name":"Uruoca","state":"CE","label":"Uruoca - CE"},{"code":"1101708","name":"Urupá","state":"RO","label":"Urupá - RO"},{"code":"4218954","name":"Urupema","state":"SC","label":"Urupema - SC"},{"code":"3556008","name":"Urupês","state":"SP","label":"Urupês - SP"},{"code":"4219002","name":"Urussanga","state":"SC","label":"Urussanga - SC"},{"code":"5221809","name":"Urutaí","state":"GO","label":"Urutaí - GO"},{"code":"2932804","name":"Utinga","state":"BA","label":"Utinga - BA"},{"code":"4322509","name":"Vacaria","state":"RS","label":"Vacaria - RS"},{"code":"5108352","name":"Vale de São Domingos","state":"MT","label":"Vale de São Domingos - MT"},{"code":"1101757","name":"Vale do Anari","state":"RO","label":"Vale do Anari - RO"},{"code":"1101807","name":"Vale do Paraíso","state":"RO","label":"Vale do Paraíso - RO"},{"code":"4322533","name":"Vale do Sol","state":"RS","label":"Vale do Sol - RS"},{"code":"4322541","name":"Vale Real","state":"RS","label":"Vale Real - RS"},{"code":"4322525","name":"Vale Verde","state":"RS","label":"Vale Verde - RS"},{"code":"3306107","name":"Valença","state":"RJ","label":"Valença - RJ"},{"code":"2932903","name":"Valença","state":"BA","label":"Valença - BA"},{"code":"2211308","name":"Valença do Piauí","state":"PI","label":"Valença do Piauí - PI"},{"code":"2933000","name":"Valente","state":"BA","label":"Valente - BA"},{"code":"3556107","name":"Valentim Gentil","state":"SP","label":"Valentim Gentil - SP"},{"code":"3556206","name":"Valinhos","state":"SP","label":"Valinhos - SP"},{"code":"3556305","name":"Valparaíso","state":"SP","label":"Valparaíso - SP"},{"code":"5221858","name":"Valparaíso de Goiás","state":"GO","label":"Valparaíso de Goiás - GO"},{"code":"4322558","name":"Vanini","state":"RS","label":"Vanini - RS"},{"code":"4219101","name":"Vargeão","state":"SC","label":"Vargeão - SC"},{"code":"4219150","name":"Vargem","state":"SC","label":"Vargem - SC"},{"code":"3556354","name":"Vargem","state":"SP","label":"Vargem - SP"},{"code":"3170578","name":"Vargem Alegre","state":"MG","label":"Vargem Alegre - MG"},{"code":"3205036","name":"Vargem Alta","state":"ES","label":"Vargem Alta - ES"},{"code":"3170602","name":"Vargem Bonita","state":"MG","label":"Vargem Bonita - MG"},{"code":"4219176","name":"Vargem Bonita","state":"SC","label":"Vargem Bonita - SC"},{"code":"2112704","name":"Vargem Grande","state":"MA","label":"Vargem Grande - MA"},{"code":"3170651","name":"Vargem Grande do Rio Pardo","state":"MG","label":"Vargem Grande do Rio Pardo - MG"},{"code":"3556404","name":"Vargem Grande do Sul","state":"SP","label":"Vargem Grande do Sul - SP"},{"code":"3556453","name":"Vargem Grande Paulista","state":"SP","label":"Vargem Grande Paulista - SP"},{"code":"3170701","name":"Varginha","state":"MG","label":"Varginha - MG"},{"code":"5221908","name":"Varjão","state":"GO","label":"Varjão - GO"},{"code":"3170750","name":"Varjão de Minas","state":"MG","label":"Varjão de Minas - MG"},{"code":"2313955","name":"Varjota","state":"CE","label":"Varjota - CE"},{"code":"3306156","name":"Varre-Sai","state":"RJ","label":"Varre-Sai - RJ"},{"code":"2414704","name":"Várzea","state":"RN","label":"Várzea - RN"},{"code":"2517100","name":"Várzea","state":"PB","label":"Várzea - PB"},{"code":"2314003","name":"Várzea Alegre","state":"CE","label":"Várzea Alegre - CE"},{"code":"2211357","name":"Várzea Branca","state":"PI","label":"Várzea Branca - PI"},{"code":"3170800","name":"Várzea da Palma","state":"MG","label":"Várzea da Palma - MG"},{"code":"2933059","name":"Várzea da Roça","state":"BA","label":"Várzea da Roça - BA"},{"code":"2933109","name":"Várzea do Poço","state":"BA","label":"Várzea do Poço - BA"},{"code":"2211407","name":"Várzea Grande","state":"PI","label":"Várzea Grande - PI"},{"code":"5108402","name":"Várzea Grande","state":"MT","label":"Várzea Grande - MT"},{"code":"2933158","name":"Várzea Nova","state":"BA","label":"Várzea Nova - BA"},{"code":"3556503","name":"Várzea Paulista","state":"SP","label":"Várzea Paulista - SP"},{"code":"2933174","name":"Varzedo","state":"BA","label":"Varzedo - BA"},{"code":"3170909","name":"Varzelândia","state":"MG","label":"Varzelândia - MG"},{"code":"3306206","name":"Vassouras","state":"RJ","label":"Vassouras - RJ"},{"code":"3171006","name":"Vazante","state":"MG","label":"Vazante - MG"},{"code":"4322608","name":"Venâncio Aires","state":"RS","label":"Venâncio Aires - RS"},{"code":"3205069","name":"Venda Nova do Imigrante","state":"ES","label":"Venda Nova do Imigrante - ES"},{"code":"2414753","name":"Venha-Ver","state":"RN","label":"Venha-Ver - RN"},{"code":"4128534","name":"Ventania","state":"PR","label":"Ventania - PR"},{"code":"2616001","name":"Venturosa","state":"PE","label":"Venturosa - PE"},{"code":"5108501","name":"Vera","state":"MT","label":"Vera - MT"},{"code":"4322707","name":"Vera Cruz","state":"RS","label":"Vera Cruz - RS"},{"code":"3556602","name":"Vera Cruz","state":"SP","label":"Vera Cruz - SP"},{"code":"2933208","name":"Vera Cruz","state":"BA","label":"Vera Cruz - BA"},{"code":"2414803","name":"Vera Cruz","state":"RN","label":"Vera Cruz - RN"},{"code":"4128559","name":"Vera Cruz do Oeste","state":"PR","label":"Vera Cruz do Oeste - PR"},{"code":"2211506","name":"Vera Mendes","state":"PI","label":"Vera Mendes - PI"},{"code":"4322806","name":"Veranópolis","state":"RS","label":"Veranópolis - RS"},{"code":"2616100","name":"Verdejante","state":"PE","label":"Verdejante - PE"},{"code":"3171030","name":"Verdelândia","state":"MG","label":"Verdelândia - MG"},{"code":"4128609","name":"Verê","state":"PR","label":"Verê - PR"},{"code":"2933257","name":"Vereda","state":"BA","label":"Vereda - BA"},{"code":"3171071","name":"Veredinha","state":"MG","label":"Veredinha - MG"},{"code":"3171105","name":"Veríssimo","state":"MG","label":"Veríssimo - MG"},{"code":"3171154","name":"Vermelho Novo","state":"MG","label":"Vermelho Novo - MG"},{"code":"2616183","name":"Vertente do Lério","state":"PE","label":"Vertente do Lério - PE"},{"code":"2616209","name":"Vertentes","state":"PE","label":"Vertentes - PE"},{"code":"3171204","name":"Vespasiano","state":"MG","label":"Vespasiano - MG"},{"code":"4322855","name":"Vespasiano Corrêa","state":"RS","label":"Vespasiano Corrêa - RS"},{"code":"4322905","name":"Viadutos","state":"RS","label":"Viadutos - RS"},{"code":"4323002","name":"Viamão","state":"RS","label":"Viamão - RS"},{"code":"3205101","name":"Viana","state":"ES","label":"Viana - ES"},{"code":"2112803","name":"Viana","state":"MA","label":"Viana - MA"},{"code":"5222005","name":"Vianópolis","state":"GO","label":"Vianópolis - GO"},{"code":"2616308","name":"Vicência","state":"PE","label":"Vicência - PE"},{"code":"4323101","name":"Vicente Dutra","state":"RS","label":"Vicente Dutra - RS"},{"code":"5008404","name":"Vicentina","state":"MS","label":"Vicentina - MS"},{"code":"5222054","name":"Vicentinópolis","state":"GO","label":"Vicentinópolis - GO"},{"code":"3171303","name":"Viçosa","state":"MG","label":"Viçosa - MG"},{"code":"2709400","name":"Viçosa","state":"AL","label":"Viçosa - AL"},{"code":"2414902","name":"Viçosa","state":"RN","label":"Viçosa - RN"},{"code":"2314102","name":"Viçosa do Ceará","state":"CE","label":"Viçosa do Ceará - CE"},{"code":"4323200","name":"Victor Graeff","state":"RS","label":"Victor Graeff - RS"},{"code":"4219200","name":"Vidal Ramos","state":"SC","label":"Vidal Ramos - SC"},{"code":"4219309","name":"Videira","state":"SC","label":"Videira - SC"},{"code":"3171402","name":"Vieiras","state":"MG","label":"Vieiras - MG"},{"code":"2517209","name":"Vieirópolis","state":"PB","label":"Vieirópolis - PB"},{"code":"1508209","name":"Vigia","state":"PA","label":"Vigia - PA"},{"code":"5105507","name":"Vila Bela da Santíssima Trindade","state":"MT","label":"Vila Bela da Santíssima Trindade - MT"},{"code":"5222203","name":"Vila Boa","state":"GO","label":"Vila Boa - GO"},{"code":"2415008","name":"Vila Flor","state":"RN","label":"Vila Flor - RN"},{"code":"4323309","name":"Vila Flores","state":"RS","label":"Vila Flores - RS"},{"code":"4323358","name":"Vila Lângaro","state":"RS","label":"Vila Lângaro - RS"},{"code":"4323408","name":"Vila Maria","state":"RS","label":"Vila Maria - RS"},{"code":"2211605","name":"Vila Nova do Piauí","state":"PI","label":"Vila Nova do Piauí - PI"},{"code":"4323457","name":"Vila Nova do Sul","state":"RS","label":"Vila Nova do Sul - RS"},{"code":"2112852","name":"Vila Nova dos Martírios","state":"MA","label":"Vila Nova dos Martírios - MA"},{"code":"3205150","name":"Vila Pavão","state":"ES","label":"Vila Pavão - ES"},{"code":"5222302","name":"Vila Propício","state":"GO","label":"Vila Propício - GO"},{"code":"5108600","name":"Vila Rica","state":"MT","label":"Vila Rica - MT"},{"code":"3205176","name":"Vila Valério","state":"ES","label":"Vila Valério - ES"},{"code":"3205200","name":"Vila Velha","state":"ES","label":"Vila Velha - ES"},{"code":"1100304","name":"Vilhena","state":"RO","label":"Vilhena - RO"},{"code":"3556701","name":"Vinhedo","state":"SP","label":"Vinhedo - SP"},{"code":"3556800","name":"Viradouro","state":"SP","label":"Viradouro - SP"},{"code":"3171600","name":"Virgem da Lapa","state":"MG","label":"Virgem da Lapa - MG"},{"code":"3171709","name":"Virgínia","state":"MG","label":"Virgínia - MG"},{"code":"3171808","name":"Virginópolis","state":"MG","label":"Virginópolis - MG"},{"code":"3171907","name":"Virgolândia","state":"MG","label":"Virgolândia - MG"},{"code":"4128658","name":"Virmond","state":"PR","label":"Virmond - PR"},{"code":"3172004","name":"Visconde do Rio Branco","state":"MG","label":"Visconde do Rio Branco - MG"},{"code":"1508308","name":"Viseu","state":"PA","label":"Viseu - PA"},{"code":"4323507","name":"Vista Alegre","state":"RS","label":"Vista Alegre - RS"},{"code":"3556909","name":"Vista Alegre do Alto","state":"SP","label":"Vista Alegre do Alto - SP"},{"code":"4323606","name":"Vista Alegre do Prata","state":"RS","label":"Vista Alegre do Prata - RS"},{"code":"4323705","name":"Vista Gaúcha","state":"RS","label":"Vista Gaúcha - RS"},{"code":"2505501","name":"Vista Serrana","state":"PB","label":"Vista Serrana - PB"},{"code":"4219358","name":"Vitor Meireles","state":"SC","label":"Vitor Meireles - SC"},{"code":"3205309","name":"Vitória","state":"ES","label":"Vitória - ES"},{"code":"3556958","name":"Vitória Brasil","state":"SP","label":"Vitória Brasil - SP"},{"code":"2933307","name":"Vitória da Conquista","state":"BA","label":"Vitória da Conquista - BA"},{"code":"4323754","name":"Vitória das Missões","state":"RS","label":"Vitória das Missões - RS"},{"code":"2616407","name":"Vitória de Santo Antão","state":"PE","label":"Vitória de Santo Antão - PE"},{"code":"1600808","name":"Vitória do Jari","state":"AP","label":"Vitória do Jari - AP"},{"code":"2112902","name":"Vitória do Mearim","state":"MA","label":"Vitória do Mearim - MA"},{"code":"1508357","name":"Vitória do Xingu","state":"PA","label":"Vitória do Xingu - PA"},{"code":"4128708","name":"Vitorino","state":"PR","label":"Vitorino - PR"},{"code":"2113009","name":"Vitorino Freire","state":"MA","label":"Vitorino Freire - MA"},{"code":"3172103","name":"Volta Grande","state":"MG","label":"Volta Grande - MG"},{"code":"3306305","name":"Volta Redonda","state":"RJ","label":"Volta Redonda - RJ"},{"code":"3557006","name":"Votorantim","state":"SP","label":"Votorantim - SP"},{"code":"3557105","name":"Votuporanga","state":"SP","label":"Votuporanga - SP"},{"code":"2933406","name":"Wagner","state":"BA","label":"Wagner - BA"},{"code":"2211704","name":"Wall Ferraz","state":"PI","label":"Wall Ferraz - PI"},{"code":"1722081","name":"Wanderlândia","state":"TO","label":"Wanderlândia - TO"},{"code":"2933455","name":"Wanderley","state":"BA","label":"Wanderley - BA"},{"code":"3172202","name":"Wenceslau Braz","state":"MG","label":"Wenceslau Braz - MG"},{"code":"4128500","name":"Wenceslau Braz","state":"PR","label":"Wenceslau Braz - PR"},{"code":"2933505","name":"Wenceslau Guimarães","state":"BA","label":"Wenceslau Guimarães - BA"},{"code":"4323770","name":"Westfália","state":"RS","label":"Westfália - RS"},{"code":"4219408","name":"Witmarsum","state":"SC","label":"Witmarsum - SC"},{"code":"1722107","name":"Xambioá","state":"TO","label":"Xambioá - TO"},{"code":"4128807","name":"Xambrê","state":"PR","label":"Xambrê - PR"},{"code":"4323804","name":"Xangri-lá","state":"RS","label":"Xangri-lá - RS"},{"code":"4219507","name":"Xanxerê","state":"SC","label":"Xanxerê - SC"},{"code":"1200708","name":"Xapuri","state":"AC","label":"Xapuri - AC"},{"code":"4219606","name":"Xavantina","state":"SC","label":"Xavantina - SC"},{"code":"4219705","name":"Xaxim","state":"SC","label":"Xaxim - SC"},{"code":"2616506","name":"Xexéu","state":"PE","label":"Xexéu - PE"},{"code":"1508407","name":"Xinguara","state":"PA","label":"Xinguara - PA"},{"code":"2933604","name":"Xique-Xique","state":"BA","label":"Xique-Xique - BA"},{"code":"2517407","name":"Zabelê","state":"PB","label":"Zabelê - PB"},{"code":"3557154","name":"Zacarias","state":"SP","label":"Zacarias - SP"},{"code":"2114007","name":"Zé Doca","state":"MA","label":"Zé Doca - MA"},{"code":"4219853","name":"Zortéa","state":"SC","label":"Zortéa - SC"}];
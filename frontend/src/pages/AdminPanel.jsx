@@ -62,7 +62,7 @@ export default function AdminPanel() {
   const [userForm, setUserForm] = useState({ name: "", email: "", role: "USER" });
   const [passwordForm, setPasswordForm] = useState({ newPassword: "", confirmPassword: "" });
   const [secretWordForm, setSecretWordForm] = useState({ newSecretWord: "", confirmSecretWord: "" });
-  const [eventForm, setEventForm] = useState({ title: "", eventDateTime: "", location: "", city: "", state: "", description: "", createdByUserId: "" });
+  const [eventForm, setEventForm] = useState({ title: "", eventDateTime: "", location: "", city: "", state: "", description: "", capacity: "", createdByUserId: "" });
 
   const resolvedUser = user ?? me;
   const isAdmin = isAdminUser(resolvedUser);
@@ -212,6 +212,7 @@ export default function AdminPanel() {
       city: item.city ?? "",
       state: item.state ?? "",
       description: item.description ?? "",
+      capacity: item.capacity != null ? String(item.capacity) : "",
       createdByUserId: String(item.createdByUserId ?? ""),
     });
   }
@@ -286,6 +287,7 @@ export default function AdminPanel() {
         city: eventForm.city.trim(),
         state: eventForm.state.trim(),
         description: eventForm.description.trim() || null,
+        capacity: eventForm.capacity.trim() ? Number(eventForm.capacity) : null,
         createdByUserId: Number(eventForm.createdByUserId),
       });
       setEditingEventId(null);
@@ -412,7 +414,7 @@ export default function AdminPanel() {
         <div className="admin-form-grid"><label>Nova palavra secreta<input type="password" value={secretWordForm.newSecretWord} onChange={(e) => setSecretWordForm((v) => ({ ...v, newSecretWord: e.target.value }))} /></label><label>Confirmar nova palavra secreta<input type="password" value={secretWordForm.confirmSecretWord} onChange={(e) => setSecretWordForm((v) => ({ ...v, confirmSecretWord: e.target.value }))} /></label></div>
       </Modal>}
       {editingEventId != null && <Modal title={`Atualizar evento #${editingEventId}`} actions={<><button type="button" onClick={() => saveEvent(editingEventId)} disabled={saveEventBusy}>{saveEventBusy ? "Salvando..." : "Salvar"}</button><button type="button" onClick={() => setEditingEventId(null)} disabled={saveEventBusy}>Cancelar</button></>}>
-        <div className="admin-form-grid"><label>Título<input value={eventForm.title} onChange={(e) => setEventForm((v) => ({ ...v, title: e.target.value }))} /></label><label>Data e hora<input type="datetime-local" value={eventForm.eventDateTime} onChange={(e) => setEventForm((v) => ({ ...v, eventDateTime: e.target.value }))} /></label><label>Local<input value={eventForm.location} onChange={(e) => setEventForm((v) => ({ ...v, location: e.target.value }))} /></label><div className="full"><BrazilCityField city={eventForm.city} state={eventForm.state} required onChange={(option) => setEventForm((v) => ({ ...v, city: option?.name ?? "", state: option?.state ?? "" }))} /></div><label>ID do criador<input value={eventForm.createdByUserId} onChange={(e) => setEventForm((v) => ({ ...v, createdByUserId: e.target.value }))} /></label><label className="full">Descrição<textarea rows={4} value={eventForm.description} onChange={(e) => setEventForm((v) => ({ ...v, description: e.target.value }))} /></label></div>
+        <div className="admin-form-grid"><label>Título<input value={eventForm.title} onChange={(e) => setEventForm((v) => ({ ...v, title: e.target.value }))} /></label><label>Data e hora<input type="datetime-local" value={eventForm.eventDateTime} onChange={(e) => setEventForm((v) => ({ ...v, eventDateTime: e.target.value }))} /></label><label>Local<input value={eventForm.location} onChange={(e) => setEventForm((v) => ({ ...v, location: e.target.value }))} /></label><div className="full"><BrazilCityField city={eventForm.city} state={eventForm.state} required onChange={(option) => setEventForm((v) => ({ ...v, city: option?.name ?? "", state: option?.state ?? "" }))} /></div><label>Vagas (vazio = sem limite)<input type="number" min={2} max={200} value={eventForm.capacity} onChange={(e) => setEventForm((v) => ({ ...v, capacity: e.target.value }))} /></label><label>ID do criador<input value={eventForm.createdByUserId} onChange={(e) => setEventForm((v) => ({ ...v, createdByUserId: e.target.value }))} /></label><label className="full">Descrição<textarea rows={4} value={eventForm.description} onChange={(e) => setEventForm((v) => ({ ...v, description: e.target.value }))} /></label></div>
       </Modal>}
       {deleteConfirm && <Modal title={deleteConfirm.type === "user" ? `Remover usuário #${deleteConfirm.id}` : `Remover evento #${deleteConfirm.id}`} actions={<><button type="button" className="danger" onClick={() => deleteConfirm.type === "user" ? removeUser(deleteConfirm.id) : removeEvent(deleteConfirm.id)} disabled={deleteBusyId != null}>{deleteBusyId ? "Removendo..." : "Sim, remover"}</button><button type="button" onClick={() => setDeleteConfirm(null)} disabled={deleteBusyId != null}>Cancelar</button></>}>
         <p className="admin-confirm-text">{deleteConfirm.type === "user" ? `Tem certeza que deseja remover ${deleteConfirm.name} (${deleteConfirm.email})?` : `Tem certeza que deseja remover o evento "${deleteConfirm.title}" em ${deleteConfirm.location} (${deleteConfirm.cityLabel})?`}</p>
@@ -426,7 +428,7 @@ function TableUsers({ items, onEdit, onPassword, onSecret, onDelete, deleteBusyI
 }
 
 function TableEvents({ items, onEdit, onDelete, deleteBusyId }) {
-  return <div className="admin-table-wrap"><table className="admin-table"><thead><tr><th>ID</th><th>Título</th><th>Data/Hora</th><th>Local</th><th>Cidade</th><th>Criador</th><th>Ações</th></tr></thead><tbody>{items.map((item) => <tr key={item.id}><td>{item.id}</td><td>{item.title}</td><td>{formatDateTime(item.eventDateTime)}</td><td>{item.location}</td><td>{formatBrazilianCity(item.city, item.state)}</td><td>{item.createdByUserId}</td><td className="actions-cell"><button type="button" className="primary" onClick={() => onEdit(item)}>Editar</button><button type="button" className="danger" disabled={deleteBusyId === `e-${item.id}`} onClick={() => onDelete(item)}>{deleteBusyId === `e-${item.id}` ? "Removendo..." : "Remover"}</button></td></tr>)}{items.length === 0 && <tr><td colSpan={7}>Nenhum evento encontrado para os filtros atuais.</td></tr>}</tbody></table></div>;
+  return <div className="admin-table-wrap"><table className="admin-table"><thead><tr><th>ID</th><th>Título</th><th>Data/Hora</th><th>Local</th><th>Cidade</th><th>Criador</th><th>Ações</th></tr></thead><tbody>{items.map((item) => <tr key={item.id}><td>{item.id}</td><td>{item.title}</td><td>{formatDateTime(item.eventDateTime)}</td><td>{item.location}</td><td>{formatBrazilianCity(item.city, item.state)}</td><td>{item.createdByName ? `${item.createdByName} (#${item.createdByUserId})` : item.createdByUserId}</td><td className="actions-cell"><button type="button" className="primary" onClick={() => onEdit(item)}>Editar</button><button type="button" className="danger" disabled={deleteBusyId === `e-${item.id}`} onClick={() => onDelete(item)}>{deleteBusyId === `e-${item.id}` ? "Removendo..." : "Remover"}</button></td></tr>)}{items.length === 0 && <tr><td colSpan={7}>Nenhum evento encontrado para os filtros atuais.</td></tr>}</tbody></table></div>;
 }
 
 function Modal({ title, children, actions }) {
@@ -10,7 +10,7 @@ const MAX_AVATAR_BYTES = 2 * 1024 * 1024;
 const ALLOWED_AVATAR_TYPES = ["image/png", "image/jpeg", "image/webp"];
 
 export default function EditProfile() {
-  const { user, refreshMe, logout } = useAuth();
+  const { user, refreshMe, logout, setSession } = useAuth();
 
   const [menuOpen, setMenuOpen] = useState(false);
   const menuRef = useRef(null);
@@ -74,6 +74,7 @@ export default function EditProfile() {
   const avatarName = useMemo(() => (user ? user.name : me?.name) || "", [user, me]);
   const avatarEmail = useMemo(() => (user ? user.email : me?.email) || "", [user, me]);
   const avatarUrl = useMemo(() => (user ? user.avatarUrl : me?.avatarUrl) ?? null, [user, me]);
+  const avatarUrls = useMemo(() => (user ? user.avatarUrls : me?.avatarUrls) ?? null, [user, me]);
   const isAdmin = useMemo(() => {
     const role = String(user?.role ?? me?.role ?? "").toUpperCase();
     return role === "ADMIN";
@@ -333,10 +334,12 @@ export default function EditProfile() {
 
     setSavingPassword(true);
     try {
-      await http.patch("/auth/me/password", {
+      // a troca derruba as outras sessões; esta segue com o par novo
+      const { data } = await http.patch("/auth/me/password", {
         currentPassword: currentPassword.trim(),
         newPassword: newPassword.trim(),
       });
+      setSession(data);
 
       setMsg("Senha alterada com sucesso.");
       setCurrentPassword("");
@@ -420,6 +423,7 @@ export default function EditProfile() {
                 name={avatarName}
                 email={avatarEmail}
                 avatarUrl={avatarUrl}
+                avatarUrls={avatarUrls}
               />
               {displayName ? <span className="profile-label">{displayName}</span> : null}
               <span className={`profile-caret ${menuOpen ? "open" : ""}`}>{"\u25BE"}</span>
@@ -474,7 +478,13 @@ export default function EditProfile() {
               <p className="section-hint">JPG, PNG ou WEBP ate 2MB.</p>
 
               <div className="avatar-row">
-                <Avatar name={avatarName} email={avatarEmail} avatarUrl={avatarDisplayUrl} size={96} />
+                <Avatar
+                  name={avatarName}
+                  email={avatarEmail}
+                  avatarUrl={avatarDisplayUrl}
+                  avatarUrls={avatarPreview ? null : avatarUrls}
+                  size={96}
+                />
 
                 <div className="avatar-actions">
                   <input
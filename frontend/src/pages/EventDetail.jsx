@@ -1,6 +1,7 @@
 ﻿import { useCallback, useEffect, useMemo, useRef, useState } from "react";
 import { Link, useParams, useNavigate } from "react-router-dom";
 import http from "../api/http";
+import { applyRosterDelta, subscribeToEventStream } from "../api/eventStream";
 import { useAuth } from "../auth/useAuth";
 import Avatar from "../components/Avatar";
 import BrazilCityField from "../components/BrazilCityField";
@@ -29,21 +30,6 @@ function capitalize(text) {
   return text.charAt(0).toUpperCase() + text.slice(1);
 }
 
-function shuffle(arr) {
-  const a = [...arr];
-  for (let i = a.length - 1; i > 0; i--) {
-    const j = Math.floor(Math.random() * (i + 1));
-    [a[i], a[j]] = [a[j], a[i]];
-  }
-  return a;
-}
-
-function splitIntoTeams(players, teamsCount) {
-  const teams = Array.from({ length: teamsCount }, () => []);
-  players.forEach((p, idx) => teams[idx % teamsCount].push(p));
-  return teams;
-}
-
 function getJwtSub(token) {
   try {
     if (!token) return null;
@@ -191,6 +177,7 @@ export default function EventDetail() {
   const avatarName = useMemo(() => (user ? user.name : me?.name) || "", [user, me]);
   const avatarEmail = useMemo(() => (user ? user.email : me?.email) || "", [user, me]);
   const avatarUrl = useMemo(() => (user ? user.avatarUrl : me?.avatarUrl) ?? null, [user, me]);
+  const avatarUrls = useMemo(() => (user ? user.avatarUrls : me?.avatarUrls) ?? null, [user, me]);
 
   useEffect(() => {
     function onDocClick(e) {
@@ -236,6 +223,9 @@ export default function EventDetail() {
   const [teamsCount, setTeamsCount] = useState(2);
   const [selectedIds, setSelectedIds] = useState({});
   const [teams, setTeams] = useState([]);
+  const [drawBusy, setDrawBusy] = useState(false);
+  const teamsReloadRef = useRef(null);
+  const [drawError, setDrawError] = useState("");
   const [drawnPlayer, setDrawnPlayer] = useState(null);
   const [drawNotice, setDrawNotice] = useState(false);
   const drawNoticeTimerRef = useRef(null);
@@ -304,6 +294,26 @@ export default function EventDetail() {
     // eslint-disable-next-line react-hooks/exhaustive-deps
   }, [id]);
 
+  // deltas em tempo real (inscrições, bola, clima) em vez de recarregar o detalhe
+  useEffect(() => {
+    return subscribeToEventStream(id, {
+      onDelta: (delta) => {
+        if (delta?.type === "TEAMS_DRAWN") {
+          teamsReloadRef.current?.();
+          return;
+        }
+        setEvent((current) => applyRosterDelta(current, delta));
+      },
+      // após reconexão pode ter perdido deltas: revalida o detalhe (304 se nada mudou)
+      onReconnect: () => {
+        http
+          .get(`/events/${id}/detail`)
+          .then(({ data }) => setEvent(data))
+          .catch(() => {});
+      },
+    });
+  }, [id]);
+
   const title = event?.title ?? "Evento";
   const location = event?.location ?? "Local a definir";
   const cityLabel = formatBrazilianCity(event?.city, event?.state);
@@ -320,21 +330,36 @@ export default function EventDetail() {
     return label && label !== "-" ? capitalize(label) : "-";
   }, [event?.eventDateTime]);
 
-  const participants = useMemo(() => event?.participants ?? [], [event]);
+  const roster = useMemo(() => event?.participants ?? [], [event]);
+
+  // confirmados jogam (e entram no sorteio); o resto aguarda na lista de espera
+  const participants = useMemo(
+    () => roster.filter((p) => p?.status !== "WAITLISTED"),
+    [roster]
+  );
+  const waitlist = useMemo(
+    () => roster.filter((p) => p?.status === "WAITLISTED"),
+    [roster]
+  );
 
   const participantsCount = useMemo(() => {
     const c = event?.participantsCount;
     return typeof c === "number" ? c : participants.length;
   }, [event, participants.length]);
 
+  const capacity = event?.capacity ?? null;
+  const isFull = capacity != null && participantsCount >= capacity;
+  const countLabel = capacity != null ? `${participantsCount}/${capacity}` : participantsCount;
+
   const inscritosLabel = participantsCount === 1 ? "inscrito" : "inscritos";
 
   const myParticipant = useMemo(() => {
     if (meUserId == null) return null;
-    return participants.find((p) => Number(p.id) === Number(meUserId));
-  }, [participants, meUserId]);
+    return roster.find((p) => Number(p.id) === Number(meUserId));
+  }, [roster, meUserId]);
 
   const isRegistered = !!myParticipant;
+  const isWaitlisted = myParticipant?.status === "WAITLISTED";
 
   // ===== ✅ MODAL "COM BOLA OU SEM BOLA" =====
   const [isBallOpen, setIsBallOpen] = useState(false);
@@ -464,6 +489,7 @@ export default function EventDetail() {
   const [editState, setEditState] = useState("");
   const [editCityError, setEditCityError] = useState("");
   const [editDescription, setEditDescription] = useState("");
+  const [editCapacity, setEditCapacity] = useState("");
 
   function openEdit() {
     setEditError("");
@@ -474,6 +500,7 @@ export default function EventDetail() {
     setEditCity(event?.city ?? "");
     setEditState(event?.state ?? "");
     setEditDescription(event?.description ?? "");
+    setEditCapacity(event?.capacity != null ? String(event.capacity) : "");
     setIsEditOpen(true);
   }
 
@@ -504,6 +531,7 @@ export default function EventDetail() {
         city: String(editCity ?? "").trim(),
         state: String(editState ?? "").trim(),
         description: String(editDescription ?? "").trim() || null,
+        capacity: String(editCapacity ?? "").trim() ? Number(editCapacity) : null,
       };
 
       await http.put(`/events/${id}`, body);
@@ -604,8 +632,7 @@ async function confirmDelete() {
       setSelectedIds(sanitizedSelected);
       setDrawMode(restoredMode);
       setTeamsCount(restoredTeamsCount);
-      // Re-draw teams to keep participant data (e.g., avatarUrl) in sync
-      setTeams([]);
+      setDrawError("");
       setIsDrawOpen(true);
       return;
     }
@@ -613,7 +640,7 @@ async function confirmDelete() {
     setSelectedIds(initialSelected);
     setDrawMode("all");
     setTeamsCount(2);
-    setTeams([]);
+    setDrawError("");
     setIsDrawOpen(true);
   }
 
@@ -629,7 +656,7 @@ async function confirmDelete() {
   function normalizeParticipant(p) {
     if (!p || typeof p !== "object") {
       const name = String(p ?? "");
-      return { id: name || null, name, email: "", avatarUrl: null };
+      return { id: name || null, name, email: "", avatarUrl: null, avatarUrls: null };
     }
 
     return {
@@ -637,19 +664,53 @@ async function confirmDelete() {
       name: p.name ?? "",
       email: p.email ?? "",
       avatarUrl: p.avatarUrl ?? null,
+      avatarUrls: p.avatarUrls ?? null,
     };
   }
 
-  function doDraw() {
-    const list = selectedParticipants().map(normalizeParticipant);
-    if (list.length < 2) {
+  function applyTeamsResponse(data) {
+    const serverTeams = Array.isArray(data?.teams) ? data.teams : [];
+    setTeams(serverTeams.map((t) => (t?.players ?? []).map(normalizeParticipant)));
+  }
+
+  async function loadTeams() {
+    try {
+      const res = await http.get(`/events/${id}/teams`);
+      applyTeamsResponse(res.status === 204 ? null : res.data);
+    } catch {
       setTeams([]);
-      return;
     }
+  }
 
-    const shuffled = shuffle(list);
-    setTeams(splitIntoTeams(shuffled, teamsCount));
-    setDrawNotice(true);
+  // novo sorteio de outra pessoa (via stream) só recarrega se o modal estiver aberto
+  useEffect(() => {
+    teamsReloadRef.current = isDrawOpen ? loadTeams : null;
+  });
+
+  async function doDraw() {
+    const list = selectedParticipants();
+    if (list.length < 2 || drawBusy) return;
+
+    setDrawBusy(true);
+    setDrawError("");
+    try {
+      const { data } = await http.post(`/events/${id}/teams`, {
+        teamsCount,
+        userIds: drawMode === "edit" ? list.map((p) => p.id) : null,
+      });
+      applyTeamsResponse(data);
+      setDrawNotice(true);
+    } catch (err) {
+      const status = err?.response?.status;
+      const msg =
+        status === 403
+          ? "Apenas o criador do evento pode sortear os times."
+          : err?.response?.data?.message ||
+            `Falha ao sortear times (HTTP ${status ?? "?"}).`;
+      setDrawError(typeof msg === "string" ? msg : JSON.stringify(msg));
+    } finally {
+      setDrawBusy(false);
+    }
   }
 
   function drawOnePlayer() {
@@ -666,13 +727,15 @@ async function confirmDelete() {
 
   useEffect(() => {
     if (!isDrawOpen) return;
-    const next = { drawMode, teamsCount, selectedIds, teams };
+    const next = { drawMode, teamsCount, selectedIds };
     saveDrawState(next);
-  }, [isDrawOpen, drawMode, teamsCount, selectedIds, teams, saveDrawState]);
+  }, [isDrawOpen, drawMode, teamsCount, selectedIds, saveDrawState]);
 
+  // o sorteio salvo no servidor é o mesmo para todos que abrem o modal
   useEffect(() => {
     if (!isDrawOpen) return;
-    setTeams([]);
+    loadTeams();
+    // eslint-disable-next-line react-hooks/exhaustive-deps
   }, [isDrawOpen]);
 
   useEffect(() => {
@@ -727,6 +790,7 @@ async function confirmDelete() {
                   name={avatarName}
                   email={avatarEmail}
                   avatarUrl={avatarUrl}
+                  avatarUrls={avatarUrls}
                 />
                 {displayName ? (
                   <span className="profile-label">{displayName}</span>
@@ -842,6 +906,7 @@ async function confirmDelete() {
                   name={avatarName}
                   email={avatarEmail}
                   avatarUrl={avatarUrl}
+                  avatarUrls={avatarUrls}
                 />
                 {displayName ? (
                   <span className="profile-label">{displayName}</span>
@@ -922,6 +987,7 @@ async function confirmDelete() {
                 name={avatarName}
                 email={avatarEmail}
                 avatarUrl={avatarUrl}
+                avatarUrls={avatarUrls}
               />
 
               {displayName ? (
@@ -988,10 +1054,10 @@ async function confirmDelete() {
               title={
                 participantsCount >= 8
                   ? "Evento com inscritos suficientes ✅"
-                  : `${participantsCount} ${inscritosLabel}`
+                  : `${countLabel} ${inscritosLabel}`
               }
             >
-              {participantsCount} {inscritosLabel}
+              {countLabel} {inscritosLabel}
             </div>
           )}
         </div>
@@ -1035,7 +1101,7 @@ async function confirmDelete() {
             </div>
 
             <div className="detail-meta-badges">
-              {isRegistered && (
+              {isRegistered && !isWaitlisted && (
                 <span
                   className="pill badge-registered"
                   title="Você está inscrito neste evento"
@@ -1043,6 +1109,15 @@ async function confirmDelete() {
                   Inscrito
                 </span>
               )}
+
+              {isWaitlisted && (
+                <span
+                  className="pill"
+                  title="Você entra automaticamente quando abrir uma vaga"
+                >
+                  Lista de espera #{myParticipant?.waitlistPosition ?? "-"}
+                </span>
+              )}
             </div>
           </div>
 
@@ -1094,7 +1169,11 @@ async function confirmDelete() {
                   {busy
                     ? "..."
                     : isRegistered
-                    ? "Remover inscrição"
+                    ? isWaitlisted
+                      ? "Sair da lista de espera"
+                      : "Remover inscrição"
+                    : isFull
+                    ? "Entrar na lista de espera"
                     : "Inscrever-se"}
                 </button>
 
@@ -1174,6 +1253,29 @@ async function confirmDelete() {
               </ul>
             )}
           </div>
+
+          {waitlist.length > 0 && (
+            <div className="detail-section">
+              <h2>Lista de espera</h2>
+
+              <ul className="participants-list">
+                {waitlist.map((p) => {
+                  const isMe = meUserId != null && Number(p.id) === Number(meUserId);
+
+                  return (
+                    <li key={p.id} className="participant-item">
+                      <span className="participant-name">
+                        {p.waitlistPosition ? `${p.waitlistPosition}. ` : ""}
+                        {p.name}
+                        {isMe ? " (Você)" : ""}
+                        {p?.bringBall ? " 🏐" : ""}
+                      </span>
+                    </li>
+                  );
+                })}
+              </ul>
+            </div>
+          )}
         </div>
       </div>
 
@@ -1311,6 +1413,19 @@ async function confirmDelete() {
                   }}
                 />
 
+                <div className="form-field">
+                  <label>Vagas (opcional)</label>
+                  <input
+                    className="input"
+                    type="number"
+                    min={2}
+                    max={200}
+                    value={editCapacity}
+                    onChange={(e) => setEditCapacity(e.target.value)}
+                    placeholder="Sem limite"
+                  />
+                </div>
+
                 <div className="form-field">
                   <label>Descrição (opcional)</label>
                   <textarea
@@ -1436,6 +1551,7 @@ async function confirmDelete() {
                           const name = isObj ? p.name : String(p ?? "");
                           const email = isObj ? p.email : "";
                           const avatarUrl = isObj ? p.avatarUrl : null;
+                          const avatarUrls = isObj ? p.avatarUrls : null;
                           const key = isObj ? p.id ?? `${name}-${pIdx}` : `${name}-${pIdx}`;
 
                           return (
@@ -1445,6 +1561,7 @@ async function confirmDelete() {
                                 name={name}
                                 email={email}
                                 avatarUrl={avatarUrl}
+                  avatarUrls={avatarUrls}
                                 size={26}
                               />
                               <span>{name}</span>
@@ -1532,6 +1649,7 @@ async function confirmDelete() {
                         name={drawnPlayer.name}
                         email={drawnPlayer.email}
                         avatarUrl={drawnPlayer.avatarUrl}
+                        avatarUrls={drawnPlayer.avatarUrls}
                         size={30}
                       />
                       <span>{drawnPlayer.name}</span>
@@ -1541,6 +1659,8 @@ async function confirmDelete() {
                   )}
                 </div>
 
+                {drawError && <div className="error-box">{drawError}</div>}
+
                 <div className="modal-actions modal-actions-bottom">
                   {drawNotice ? (
                     <span className="draw-notice draw-notice-inline">
@@ -1550,9 +1670,10 @@ async function confirmDelete() {
                   <button
                     className="primary-button"
                     onClick={doDraw}
-                    disabled={selectedParticipants().length < 2}
+                    disabled={!canEdit || drawBusy || selectedParticipants().length < 2}
+                    title={canEdit ? "Sortear times" : "Apenas o criador do evento sorteia os times"}
                   >
-                    Sortear times
+                    {drawBusy ? "Sorteando..." : "Sortear times"}
                   </button>
                   <button
                     className="secondary-button"
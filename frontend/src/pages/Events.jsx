@@ -9,6 +9,7 @@ import BrazilCityField from "../components/BrazilCityField";
 import "../styles/events.css";
 
 const PAGE_SIZE = 12;
+const FEED_BATCH_SIZE = 48;
 
 function pad2(v) {
   return String(v).padStart(2, "0");
@@ -84,6 +85,23 @@ function isPastAfterHours(isoLike, hours) {
   return Date.now() > ms + hours * 60 * 60 * 1000;
 }
 
+// ms -> LocalDateTime no horário local ("YYYY-MM-DDTHH:mm:ss")
+function toLocalDateTimeParam(ms) {
+  const d = new Date(ms);
+  return `${d.getFullYear()}-${pad2(d.getMonth() + 1)}-${pad2(d.getDate())}T${pad2(
+    d.getHours()
+  )}:${pad2(d.getMinutes())}:${pad2(d.getSeconds())}`;
+}
+
+// início do dia de RECENT_PAST_DAYS atrás: estável ao longo do dia, então a URL
+// não muda a cada chamada e a revalidação por ETag funciona
+function recentPastFromParam() {
+  const d = new Date();
+  d.setHours(0, 0, 0, 0);
+  d.setDate(d.getDate() - RECENT_PAST_DAYS);
+  return toLocalDateTimeParam(d.getTime());
+}
+
 // datetime-local -> LocalDateTime (garante segundos)
 function normalizeDateTimeLocal(value) {
   const s = String(value ?? "").trim();
@@ -96,7 +114,8 @@ export default function Events() {
   const { logout, user } = useAuth();
 
   const [events, setEvents] = useState([]);
-  const [detailById, setDetailById] = useState({});
+  const [nextCursor, setNextCursor] = useState(null);
+  const [loadingMore, setLoadingMore] = useState(false);
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState("");
 
@@ -132,6 +151,7 @@ export default function Events() {
   const [newState, setNewState] = useState("");
   const [newCityError, setNewCityError] = useState("");
   const [newDescription, setNewDescription] = useState("");
+  const [newCapacity, setNewCapacity] = useState("");
 
   function openCreate() {
     setCreateError("");
@@ -142,6 +162,7 @@ export default function Events() {
     setNewState("");
     setNewCityError("");
     setNewDescription("");
+    setNewCapacity("");
     setIsCreateOpen(true);
   }
 
@@ -150,13 +171,42 @@ export default function Events() {
     setIsCreateOpen(false);
   }
 
-  async function reloadEvents() {
-    const { data } = await http.get("/events", { params: { _ts: Date.now() } });
+  // /events/summary já traz participantsCount e "registered" de cada evento
+  async function fetchEventsBatch(cursor) {
+    const { data } = await http.get("/events/summary", {
+      params: {
+        from: recentPastFromParam(),
+        limit: FEED_BATCH_SIZE,
+        cursor: cursor || undefined,
+      },
+    });
     const list = Array.isArray(data) ? data : data?.content ?? [];
-    setEvents(list);
+    return { list, cursor: data?.nextCursor ?? null };
+  }
+
+  async function reloadEvents() {
+    const batch = await fetchEventsBatch(null);
+    setEvents(batch.list);
+    setNextCursor(batch.cursor);
     setPage(1);
   }
 
+  async function loadMoreEvents() {
+    if (!nextCursor || loadingMore) return;
+
+    setLoadingMore(true);
+    try {
+      const batch = await fetchEventsBatch(nextCursor);
+      setEvents((prev) => [...prev, ...batch.list]);
+      setNextCursor(batch.cursor);
+    } catch (err) {
+      if (err?.response?.status === 401) logout();
+      console.error("GET /events/summary ERROR:", err);
+    } finally {
+      setLoadingMore(false);
+    }
+  }
+
   async function submitCreate(e) {
     e.preventDefault();
     if (createBusy) return;
@@ -179,12 +229,12 @@ export default function Events() {
         city: String(newCity ?? "").trim(),
         state: String(newState ?? "").trim(),
         description: String(newDescription ?? "").trim() || null,
+        capacity: String(newCapacity ?? "").trim() ? Number(newCapacity) : null,
       };
 
       await http.post("/events", body);
 
       await reloadEvents();
-      setDetailById({}); // força recarregar participantsCount
       setIsCreateOpen(false);
     } catch (err) {
       const status = err?.response?.status;
@@ -259,56 +309,11 @@ export default function Events() {
     loadEvents();
   }, [logout]);
 
-  // carrega /detail para pegar participantsCount
-  useEffect(() => {
-    if (!events.length) return;
-
-    let cancelled = false;
-
-    async function loadDetails() {
-      const missing = events.filter((e) => detailById[e.id] === undefined);
-      if (!missing.length) return;
-
-      try {
-        const results = await Promise.all(
-          missing.map(async (e) => {
-            try {
-              const { data } = await http.get(`/events/${e.id}/detail`, {
-                params: { _ts: Date.now() },
-              });
-              return [e.id, data];
-            } catch {
-              return [e.id, null];
-            }
-          })
-        );
-
-        if (cancelled) return;
-
-        setDetailById((prev) => {
-          const next = { ...prev };
-          for (const [id, detail] of results) next[id] = detail;
-          return next;
-        });
-      } catch {
-        return;
-      }
-    }
-
-    loadDetails();
-
-    return () => {
-      cancelled = true;
-    };
-  }, [events, detailById]);
-
   const eventsEnriched = useMemo(() => {
     const minAllowedMs =
       Date.now() - RECENT_PAST_DAYS * 24 * 60 * 60 * 1000;
 
     const enriched = events.map((e) => {
-      const detail = detailById[e.id];
-
       const key = toComparableKey(e?.eventDateTime);
       const eventDateMs = parseLocalDateTimeToMs(e?.eventDateTime);
       const isPast = isPastAfterHours(e?.eventDateTime, PAST_GRACE_HOURS);
@@ -319,17 +324,10 @@ export default function Events() {
           ? Number(meUserId) === Number(createdBy)
           : false;
 
-      const participants = Array.isArray(detail?.participants)
-        ? detail.participants
-        : [];
-      const isRegistered =
-        meUserId != null &&
-        participants.some((p) => Number(p.id) === Number(meUserId));
-
       return {
         ...e,
-        participantsCount: detail?.participantsCount,
-        isRegistered,
+        participantsCount: e?.participantsCount ?? null,
+        isRegistered: Boolean(e?.registered),
         isPast,
         isOwner,
         _eventDateMs: eventDateMs,
@@ -349,7 +347,7 @@ export default function Events() {
     });
 
     return visibleByDate;
-  }, [events, detailById, meUserId]);
+  }, [events, meUserId]);
 
   const totalPages = useMemo(() => {
     const n = Math.ceil(eventsEnriched.length / PAGE_SIZE);
@@ -380,6 +378,7 @@ export default function Events() {
   const avatarName = useMemo(() => (user ? user.name : me?.name) || "", [user, me]);
   const avatarEmail = useMemo(() => (user ? user.email : me?.email) || "", [user, me]);
   const avatarUrl = useMemo(() => (user ? user.avatarUrl : me?.avatarUrl) ?? null, [user, me]);
+  const avatarUrls = useMemo(() => (user ? user.avatarUrls : me?.avatarUrls) ?? null, [user, me]);
   const isAdmin = useMemo(() => {
     const role = String(user?.role ?? me?.role ?? "").toUpperCase();
     return role === "ADMIN";
@@ -513,6 +512,19 @@ export default function Events() {
                   }}
                 />
 
+                <div className="form-field">
+                  <label>Vagas (opcional)</label>
+                  <input
+                    className="input"
+                    type="number"
+                    min={2}
+                    max={200}
+                    value={newCapacity}
+                    onChange={(e) => setNewCapacity(e.target.value)}
+                    placeholder="Sem limite"
+                  />
+                </div>
+
                 <div className="form-field">
                   <label>Descrição (opcional)</label>
                   <textarea
@@ -578,6 +590,7 @@ export default function Events() {
                 name={avatarName}
                 email={avatarEmail}
                 avatarUrl={avatarUrl}
+                avatarUrls={avatarUrls}
               />
 
               {displayName ? (
@@ -664,6 +677,18 @@ export default function Events() {
                 </button>
               </div>
             )}
+
+            {nextCursor && page >= totalPages && (
+              <div className="pagination">
+                <button
+                  className="pagination-btn"
+                  onClick={loadMoreEvents}
+                  disabled={loadingMore}
+                >
+                  {loadingMore ? "Carregando..." : "Carregar mais eventos"}
+                </button>
+              </div>
+            )}
           </>
         )}
       </main>
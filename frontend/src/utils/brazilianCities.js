@@ -1,11 +1,3 @@
-export function normalizeBrazilianCityText(value) {
-  return String(value ?? "")
-    .normalize("NFD")
-    .replace(/[\u0300-\u036f]/g, "")
-    .toLowerCase()
-    .trim();
-}
-
 export function formatBrazilianCity(city, state) {
   const cityValue = String(city ?? "").trim();
   const stateValue = String(state ?? "").trim().toUpperCase();